@@ -0,0 +1,153 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hipparchus.benchmarks;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.hipparchus.linear.Array2DRowRealMatrix;
+import org.hipparchus.linear.BlockCholeskyDecomposer;
+import org.hipparchus.linear.BlockLUDecomposer;
+import org.hipparchus.linear.BlockQRDecomposer;
+import org.hipparchus.linear.CholeskyDecomposition;
+import org.hipparchus.linear.DecompositionSolver;
+import org.hipparchus.linear.EigenDecompositionSymmetric;
+import org.hipparchus.linear.LUDecomposition;
+import org.hipparchus.linear.MatrixUtils;
+import org.hipparchus.linear.ParallelEigenDecompositionSymmetric;
+import org.hipparchus.linear.QRDecomposition;
+import org.hipparchus.linear.RealMatrix;
+import org.hipparchus.random.RandomGenerator;
+import org.hipparchus.random.Well19937a;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Benchmarks for dense matrices decompositions.
+ * @since 3.1
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DecompositionBenchmark {
+
+    /** Dimension of the square matrices. */
+    @Param({"10", "100", "300"})
+    private int dimension;
+
+    /** General matrix. */
+    private RealMatrix general;
+
+    /** Symmetric matrix. */
+    private RealMatrix symmetric;
+
+    /** Symmetric positive definite matrix. */
+    private RealMatrix positiveDefinite;
+
+    /** Set up matrices. */
+    @Setup
+    public void setUp() {
+        final RandomGenerator random = new Well19937a(0x73a1e5c20b9d4f86L);
+        general = new Array2DRowRealMatrix(dimension, dimension);
+        for (int i = 0; i < dimension; ++i) {
+            for (int j = 0; j < dimension; ++j) {
+                general.setEntry(i, j, 2 * random.nextDouble() - 1);
+            }
+        }
+        symmetric = general.add(general.transpose());
+        positiveDefinite = general.transpose().multiply(general).
+                           add(MatrixUtils.createRealIdentityMatrix(dimension));
+    }
+
+    /** Benchmark {@link LUDecomposition}.
+     * @return solver
+     */
+    @Benchmark
+    public DecompositionSolver lu() {
+        return new LUDecomposition(general).getSolver();
+    }
+
+    /** Benchmark {@link BlockLUDecomposer}.
+     * @return solver
+     */
+    @Benchmark
+    public DecompositionSolver blockLu() {
+        return new BlockLUDecomposer(0.0, ForkJoinPool.commonPool()).decompose(general);
+    }
+
+    /** Benchmark {@link CholeskyDecomposition}.
+     * @return solver
+     */
+    @Benchmark
+    public DecompositionSolver cholesky() {
+        return new CholeskyDecomposition(positiveDefinite).getSolver();
+    }
+
+    /** Benchmark {@link BlockCholeskyDecomposer}.
+     * @return solver
+     */
+    @Benchmark
+    public DecompositionSolver blockCholesky() {
+        return new BlockCholeskyDecomposer(CholeskyDecomposition.DEFAULT_RELATIVE_SYMMETRY_THRESHOLD,
+                                           CholeskyDecomposition.DEFAULT_ABSOLUTE_POSITIVITY_THRESHOLD,
+                                           ForkJoinPool.commonPool()).decompose(positiveDefinite);
+    }
+
+    /** Benchmark {@link QRDecomposition}.
+     * @return solver
+     */
+    @Benchmark
+    public DecompositionSolver qr() {
+        return new QRDecomposition(general).getSolver();
+    }
+
+    /** Benchmark {@link BlockQRDecomposer}.
+     * @return solver
+     */
+    @Benchmark
+    public DecompositionSolver blockQr() {
+        return new BlockQRDecomposer(0.0, ForkJoinPool.commonPool()).decompose(general);
+    }
+
+    /** Benchmark {@link EigenDecompositionSymmetric}.
+     * @return eigenvector matrix
+     */
+    @Benchmark
+    public RealMatrix eigenSymmetric() {
+        return new EigenDecompositionSymmetric(symmetric).getV();
+    }
+
+    /** Benchmark {@link ParallelEigenDecompositionSymmetric}.
+     * @return eigenvector matrix
+     */
+    @Benchmark
+    public RealMatrix parallelEigenSymmetric() {
+        return new ParallelEigenDecompositionSymmetric(symmetric, ForkJoinPool.commonPool()).getV();
+    }
+
+}
@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hipparchus.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hipparchus.analysis.differentiation.DSFactory;
+import org.hipparchus.analysis.differentiation.DerivativeStructure;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Benchmarks for {@link DerivativeStructure} arithmetic.
+ * @since 3.1
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DerivativeStructureBenchmark {
+
+    /** Number of free parameters. */
+    @Param({"1", "3", "6"})
+    private int parameters;
+
+    /** Derivation order. */
+    @Param({"1", "2", "4"})
+    private int order;
+
+    /** First operand. */
+    private DerivativeStructure x;
+
+    /** Second operand. */
+    private DerivativeStructure y;
+
+    /** Set up operands. */
+    @Setup
+    public void setUp() {
+        final DSFactory factory = new DSFactory(parameters, order);
+        x = factory.variable(0, 0.75);
+        y = factory.variable(parameters - 1, 1.25);
+    }
+
+    /** Benchmark {@link DerivativeStructure#add(DerivativeStructure)}.
+     * @return sum
+     */
+    @Benchmark
+    public DerivativeStructure add() {
+        return x.add(y);
+    }
+
+    /** Benchmark {@link DerivativeStructure#multiply(DerivativeStructure)}.
+     * @return product
+     */
+    @Benchmark
+    public DerivativeStructure multiply() {
+        return x.multiply(y);
+    }
+
+    /** Benchmark {@link DerivativeStructure#divide(DerivativeStructure)}.
+     * @return quotient
+     */
+    @Benchmark
+    public DerivativeStructure divide() {
+        return x.divide(y);
+    }
+
+    /** Benchmark {@link DerivativeStructure#sin()}.
+     * @return sine
+     */
+    @Benchmark
+    public DerivativeStructure sin() {
+        return x.sin();
+    }
+
+    /** Benchmark {@link DerivativeStructure#exp()}.
+     * @return exponential
+     */
+    @Benchmark
+    public DerivativeStructure exp() {
+        return x.exp();
+    }
+
+    /** Benchmark a compound expression.
+     * @return x sin(y) + exp(x y) / y
+     */
+    @Benchmark
+    public DerivativeStructure expression() {
+        return x.multiply(y.sin()).add(x.multiply(y).exp().divide(y));
+    }
+
+}
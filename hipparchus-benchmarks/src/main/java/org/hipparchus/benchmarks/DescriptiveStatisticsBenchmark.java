@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hipparchus.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hipparchus.random.RandomGenerator;
+import org.hipparchus.random.Well19937a;
+import org.hipparchus.stat.descriptive.DescriptiveStatistics;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Benchmarks for {@link DescriptiveStatistics} percentiles.
+ * @since 3.1
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DescriptiveStatisticsBenchmark {
+
+    /** Number of stored values. */
+    @Param({"100", "10000", "1000000"})
+    private int size;
+
+    /** Statistics. */
+    private DescriptiveStatistics statistics;
+
+    /** Set up statistics. */
+    @Setup
+    public void setUp() {
+        final RandomGenerator random = new Well19937a(0x4d8a2f6c1e7b3095L);
+        statistics = new DescriptiveStatistics();
+        for (int i = 0; i < size; ++i) {
+            statistics.addValue(random.nextGaussian());
+        }
+    }
+
+    /** Benchmark {@link DescriptiveStatistics#getPercentile(double)} for median.
+     * @return median
+     */
+    @Benchmark
+    public double median() {
+        return statistics.getPercentile(50.0);
+    }
+
+    /** Benchmark {@link DescriptiveStatistics#getPercentile(double)} for several quantiles.
+     * @return sum of quartiles and 99th percentile
+     */
+    @Benchmark
+    public double quantiles() {
+        return statistics.getPercentile(25.0) +
+               statistics.getPercentile(50.0) +
+               statistics.getPercentile(75.0) +
+               statistics.getPercentile(99.0);
+    }
+
+    /** Benchmark {@link DescriptiveStatistics#getSortedValues()}.
+     * @return sorted values
+     */
+    @Benchmark
+    public double[] sortedValues() {
+        return statistics.getSortedValues();
+    }
+
+}
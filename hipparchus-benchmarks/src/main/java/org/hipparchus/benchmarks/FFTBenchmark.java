@@ -0,0 +1,146 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hipparchus.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hipparchus.complex.Complex;
+import org.hipparchus.random.RandomGenerator;
+import org.hipparchus.random.Well19937a;
+import org.hipparchus.transform.DftNormalization;
+import org.hipparchus.transform.FastFourierTransformPlan;
+import org.hipparchus.transform.FastFourierTransformer;
+import org.hipparchus.transform.TransformType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Benchmarks for {@link FastFourierTransformer} and {@link FastFourierTransformPlan}.
+ * @since 3.1
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FFTBenchmark {
+
+    /** Number of samples (48000 is not a power of two and uses the mixed-radix algorithm). */
+    @Param({"1024", "48000", "65536", "1048576"})
+    private int size;
+
+    /** Transformer. */
+    private FastFourierTransformer transformer;
+
+    /** Real samples. */
+    private double[] real;
+
+    /** Complex samples. */
+    private Complex[] complex;
+
+    /** Split real and imaginary parts of samples. */
+    private double[][] dataRI;
+
+    /** Plan for unitary transforms. */
+    private FastFourierTransformPlan plan;
+
+    /** Real parts of the half spectrum of real samples. */
+    private double[] halfRe;
+
+    /** Imaginary parts of the half spectrum of real samples. */
+    private double[] halfIm;
+
+    /** Set up samples. */
+    @Setup
+    public void setUp() {
+        final RandomGenerator random = new Well19937a(0x2c9b7e1f6a0d5384L);
+        transformer = new FastFourierTransformer(DftNormalization.STANDARD);
+        real        = new double[size];
+        complex     = new Complex[size];
+        dataRI      = new double[2][size];
+        plan        = new FastFourierTransformPlan(size, DftNormalization.UNITARY);
+        halfRe      = new double[size / 2 + 1];
+        halfIm      = new double[size / 2 + 1];
+        for (int i = 0; i < size; ++i) {
+            real[i]      = 2 * random.nextDouble() - 1;
+            dataRI[0][i] = real[i];
+            dataRI[1][i] = 2 * random.nextDouble() - 1;
+            complex[i]   = new Complex(dataRI[0][i], dataRI[1][i]);
+        }
+    }
+
+    /** Benchmark {@link FastFourierTransformer#transform(double[], TransformType)}.
+     * @return transformed samples
+     */
+    @Benchmark
+    public Complex[] transformReal() {
+        return transformer.transform(real, TransformType.FORWARD);
+    }
+
+    /** Benchmark {@link FastFourierTransformer#transform(Complex[], TransformType)}.
+     * @return transformed samples
+     */
+    @Benchmark
+    public Complex[] transformComplex() {
+        return transformer.transform(complex, TransformType.FORWARD);
+    }
+
+    /** Benchmark {@link FastFourierTransformer#transformInPlace(double[][], DftNormalization, TransformType)}.
+     * <p>
+     * Forward and inverse transforms are chained so the data stays bounded.
+     * </p>
+     * @return transformed samples
+     */
+    @Benchmark
+    public double[][] transformInPlace() {
+        FastFourierTransformer.transformInPlace(dataRI, DftNormalization.UNITARY, TransformType.FORWARD);
+        FastFourierTransformer.transformInPlace(dataRI, DftNormalization.UNITARY, TransformType.INVERSE);
+        return dataRI;
+    }
+
+    /** Benchmark {@link FastFourierTransformPlan#transform(double[], double[], TransformType)}.
+     * <p>
+     * Forward and inverse transforms are chained so the data stays bounded.
+     * </p>
+     * @return transformed samples
+     */
+    @Benchmark
+    public double[][] planTransform() {
+        plan.transform(dataRI[0], dataRI[1], TransformType.FORWARD);
+        plan.transform(dataRI[0], dataRI[1], TransformType.INVERSE);
+        return dataRI;
+    }
+
+    /** Benchmark {@link FastFourierTransformPlan#transformReal(double[], double[], double[])}.
+     * @return transformed samples
+     */
+    @Benchmark
+    public double[] planTransformReal() {
+        plan.transformReal(real, halfRe, halfIm);
+        return halfIm;
+    }
+
+}
@@ -0,0 +1,206 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hipparchus.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hipparchus.random.RandomGenerator;
+import org.hipparchus.random.Well19937a;
+import org.hipparchus.util.FastMath;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Benchmarks for {@link FastMath} transcendental functions.
+ * @since 3.1
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FastMathBenchmark {
+
+    /** Number of arguments per invocation. */
+    @Param({"1000", "100000"})
+    private int size;
+
+    /** Arguments in [-10, 10]. */
+    private double[] x;
+
+    /** Positive arguments in ]0, 100]. */
+    private double[] y;
+
+    /** Output array. */
+    private double[] out;
+
+    /** Second output array. */
+    private double[] out2;
+
+    /** Set up arguments. */
+    @Setup
+    public void setUp() {
+        final RandomGenerator random = new Well19937a(0x5f2d1c8e34a7b690L);
+        x    = new double[size];
+        y    = new double[size];
+        out  = new double[size];
+        out2 = new double[size];
+        for (int i = 0; i < size; ++i) {
+            x[i] = 20 * random.nextDouble() - 10;
+            y[i] = 100 * (1 - random.nextDouble());
+        }
+    }
+
+    /** Benchmark {@link FastMath#exp(double)}.
+     * @return computed values
+     */
+    @Benchmark
+    public double[] exp() {
+        for (int i = 0; i < size; ++i) {
+            out[i] = FastMath.exp(x[i]);
+        }
+        return out;
+    }
+
+    /** Benchmark {@link FastMath#log(double)}.
+     * @return computed values
+     */
+    @Benchmark
+    public double[] log() {
+        for (int i = 0; i < size; ++i) {
+            out[i] = FastMath.log(y[i]);
+        }
+        return out;
+    }
+
+    /** Benchmark {@link FastMath#sin(double)}.
+     * @return computed values
+     */
+    @Benchmark
+    public double[] sin() {
+        for (int i = 0; i < size; ++i) {
+            out[i] = FastMath.sin(x[i]);
+        }
+        return out;
+    }
+
+    /** Benchmark {@link FastMath#cos(double)}.
+     * @return computed values
+     */
+    @Benchmark
+    public double[] cos() {
+        for (int i = 0; i < size; ++i) {
+            out[i] = FastMath.cos(x[i]);
+        }
+        return out;
+    }
+
+    /** Benchmark {@link FastMath#atan2(double, double)}.
+     * @return computed values
+     */
+    @Benchmark
+    public double[] atan2() {
+        for (int i = 0; i < size; ++i) {
+            out[i] = FastMath.atan2(x[i], y[i]);
+        }
+        return out;
+    }
+
+    /** Benchmark {@link FastMath#pow(double, double)}.
+     * @return computed values
+     */
+    @Benchmark
+    public double[] pow() {
+        for (int i = 0; i < size; ++i) {
+            out[i] = FastMath.pow(y[i], x[i]);
+        }
+        return out;
+    }
+
+    /** Benchmark {@link FastMath#exp(double[], double[], int, int)}.
+     * @return computed values
+     */
+    @Benchmark
+    public double[] expArray() {
+        FastMath.exp(x, out, 0, size);
+        return out;
+    }
+
+    /** Benchmark {@link FastMath#log(double[], double[], int, int)}.
+     * @return computed values
+     */
+    @Benchmark
+    public double[] logArray() {
+        FastMath.log(y, out, 0, size);
+        return out;
+    }
+
+    /** Benchmark {@link FastMath#sin(double[], double[], int, int)}.
+     * @return computed values
+     */
+    @Benchmark
+    public double[] sinArray() {
+        FastMath.sin(x, out, 0, size);
+        return out;
+    }
+
+    /** Benchmark {@link FastMath#sinCos(double[], double[], double[], int, int)}.
+     * @return computed values
+     */
+    @Benchmark
+    public double[] sinCosArray() {
+        FastMath.sinCos(x, out, out2, 0, size);
+        return out2;
+    }
+
+    /** Benchmark {@link FastMath#atan2(double[], double[], double[], int, int)}.
+     * @return computed values
+     */
+    @Benchmark
+    public double[] atan2Array() {
+        FastMath.atan2(x, y, out, 0, size);
+        return out;
+    }
+
+    /** Benchmark {@link FastMath#pow(double[], double, double[], int, int)} with a fractional exponent.
+     * @return computed values
+     */
+    @Benchmark
+    public double[] powArray() {
+        FastMath.pow(y, 1.5, out, 0, size);
+        return out;
+    }
+
+    /** Benchmark {@link FastMath#pow(double[], double, double[], int, int)} with an integral exponent.
+     * @return computed values
+     */
+    @Benchmark
+    public double[] powIntegralArray() {
+        FastMath.pow(y, 3.0, out, 0, size);
+        return out;
+    }
+
+}
@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hipparchus.benchmarks;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.hipparchus.linear.Array2DRowRealMatrix;
+import org.hipparchus.linear.BlockRealMatrix;
+import org.hipparchus.linear.RealMatrix;
+import org.hipparchus.random.RandomGenerator;
+import org.hipparchus.random.Well19937a;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Benchmarks for dense matrices multiplication.
+ * @since 3.1
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MatrixMultiplyBenchmark {
+
+    /** Dimension of the square matrices. */
+    @Param({"10", "100", "500"})
+    private int dimension;
+
+    /** Left operand, array-based. */
+    private Array2DRowRealMatrix arrayA;
+
+    /** Right operand, array-based. */
+    private Array2DRowRealMatrix arrayB;
+
+    /** Left operand, block-based. */
+    private BlockRealMatrix blockA;
+
+    /** Right operand, block-based. */
+    private BlockRealMatrix blockB;
+
+    /** Set up operands. */
+    @Setup
+    public void setUp() {
+        final RandomGenerator random = new Well19937a(0x1b4e7f0a93c2d865L);
+        final double[][] a = new double[dimension][dimension];
+        final double[][] b = new double[dimension][dimension];
+        for (int i = 0; i < dimension; ++i) {
+            for (int j = 0; j < dimension; ++j) {
+                a[i][j] = 2 * random.nextDouble() - 1;
+                b[i][j] = 2 * random.nextDouble() - 1;
+            }
+        }
+        arrayA = new Array2DRowRealMatrix(a);
+        arrayB = new Array2DRowRealMatrix(b);
+        blockA = new BlockRealMatrix(a);
+        blockB = new BlockRealMatrix(b);
+    }
+
+    /** Benchmark {@link Array2DRowRealMatrix#multiply(Array2DRowRealMatrix)}.
+     * @return product
+     */
+    @Benchmark
+    public RealMatrix array2DRowMultiply() {
+        return arrayA.multiply(arrayB);
+    }
+
+    /** Benchmark {@link BlockRealMatrix#multiply(BlockRealMatrix)}.
+     * @return product
+     */
+    @Benchmark
+    public RealMatrix blockMultiply() {
+        return blockA.multiply(blockB);
+    }
+
+    /** Benchmark {@link BlockRealMatrix#multiply(BlockRealMatrix, ForkJoinPool)}.
+     * @return product
+     */
+    @Benchmark
+    public RealMatrix blockParallelMultiply() {
+        return blockA.multiply(blockB, ForkJoinPool.commonPool());
+    }
+
+    /** Benchmark {@link BlockRealMatrix#transposeMultiply(BlockRealMatrix)}.
+     * @return product
+     */
+    @Benchmark
+    public RealMatrix blockTransposeMultiply() {
+        return blockA.transposeMultiply(blockB);
+    }
+
+}
@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hipparchus.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hipparchus.ode.ODEState;
+import org.hipparchus.ode.ODEStateAndDerivative;
+import org.hipparchus.ode.OrdinaryDifferentialEquation;
+import org.hipparchus.ode.nonstiff.DormandPrince853Integrator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Benchmarks for {@link DormandPrince853Integrator}.
+ * <p>
+ * The integrated problem is a chain of coupled harmonic oscillators,
+ * whose dimension is a benchmark parameter.
+ * </p>
+ * @since 3.1
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ODEBenchmark {
+
+    /** Number of oscillators. */
+    @Param({"1", "10", "100"})
+    private int oscillators;
+
+    /** Relative tolerance. */
+    @Param({"1.0e-6", "1.0e-10"})
+    private double tolerance;
+
+    /** Integrator. */
+    private DormandPrince853Integrator integrator;
+
+    /** Differential equations. */
+    private OrdinaryDifferentialEquation equations;
+
+    /** Initial state. */
+    private ODEState initialState;
+
+    /** Set up problem. */
+    @Setup
+    public void setUp() {
+        integrator   = new DormandPrince853Integrator(1.0e-10, 10.0, tolerance, tolerance);
+        equations    = new CoupledOscillators(oscillators);
+        final double[] y0 = new double[2 * oscillators];
+        y0[0] = 1.0;
+        initialState = new ODEState(0.0, y0);
+    }
+
+    /** Benchmark {@link DormandPrince853Integrator#integrate(OrdinaryDifferentialEquation, ODEState, double)}.
+     * @return final state
+     */
+    @Benchmark
+    public ODEStateAndDerivative integrate() {
+        return integrator.integrate(equations, initialState, 50.0);
+    }
+
+    /** Chain of coupled harmonic oscillators. */
+    private static class CoupledOscillators implements OrdinaryDifferentialEquation {
+
+        /** Number of oscillators. */
+        private final int n;
+
+        /** Simple constructor.
+         * @param n number of oscillators
+         */
+        CoupledOscillators(final int n) {
+            this.n = n;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public int getDimension() {
+            return 2 * n;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public double[] computeDerivatives(final double t, final double[] y) {
+            final double[] yDot = new double[2 * n];
+            for (int i = 0; i < n; ++i) {
+                final double left  = i > 0     ? y[i - 1] : 0.0;
+                final double right = i < n - 1 ? y[i + 1] : 0.0;
+                yDot[i]     = y[n + i];
+                yDot[n + i] = left - 2 * y[i] + right - y[i];
+            }
+            return yDot;
+        }
+
+    }
+
+}
@@ -0,0 +1,28 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * JMH benchmarks for the numerical hot paths of Hipparchus.
+ * <p>
+ * The benchmarks are packaged as a self-contained {@code benchmarks.jar}
+ * which is run using {@code java -jar hipparchus-benchmarks/target/benchmarks.jar}.
+ * Standard JMH options can be appended to the command line, for example
+ * a regular expression selecting some benchmarks only. The GC profiler is
+ * always enabled so allocation rates are reported with the timings.
+ * </p>
+ */
+package org.hipparchus.benchmarks;
@@ -28,6 +28,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
 
 import org.hipparchus.clustering.distance.DistanceMeasure;
 import org.hipparchus.clustering.distance.EuclideanDistance;
@@ -141,6 +142,26 @@ public class DBSCANClusterer<T extends Clusterable> extends Clusterer<T> {
         // sanity checks
         MathUtils.checkNotNull(points);
 
+        return cluster(points, point -> getNeighbors(point, points));
+
+    }
+
+    /**
+     * Performs DBSCAN cluster analysis, using a specified neighborhood search.
+     * <p>
+     * The neighborhood search must return the points at distance at most
+     * {@link #getEps() eps} of its argument (excluding the argument itself),
+     * in the iteration order of the {@code points} collection. This ensures
+     * the clusters are exactly the same as with the default linear search.
+     * </p>
+     *
+     * @param points the points to cluster
+     * @param neighborhood neighborhood search
+     * @return the list of clusters
+     * @since 3.1
+     */
+    List<Cluster<T>> cluster(final Collection<T> points, final Function<T, List<T>> neighborhood) {
+
         final List<Cluster<T>> clusters = new ArrayList<>();
         final Map<Clusterable, PointStatus> visited = new HashMap<>();
 
@@ -148,11 +169,11 @@ public class DBSCANClusterer<T extends Clusterable> extends Clusterer<T> {
             if (visited.get(point) != null) {
                 continue;
             }
-            final List<T> neighbors = getNeighbors(point, points);
+            final List<T> neighbors = neighborhood.apply(point);
             if (neighbors.size() >= minPts) {
                 // DBSCAN does not care about center points
                 final Cluster<T> cluster = new Cluster<>();
-                clusters.add(expandCluster(cluster, point, neighbors, points, visited));
+                clusters.add(expandCluster(cluster, point, neighbors, neighborhood, visited));
             } else {
                 visited.put(point, PointStatus.NOISE);
             }
@@ -167,14 +188,14 @@ public class DBSCANClusterer<T extends Clusterable> extends Clusterer<T> {
      * @param cluster Cluster to expand
      * @param point Point to add to cluster
      * @param neighbors List of neighbors
-     * @param points the data set
+     * @param neighborhood neighborhood search
      * @param visited the set of already visited points
      * @return the expanded cluster
      */
     private Cluster<T> expandCluster(final Cluster<T> cluster,
                                      final T point,
                                      final List<T> neighbors,
-                                     final Collection<T> points,
+                                     final Function<T, List<T>> neighborhood,
                                      final Map<Clusterable, PointStatus> visited) {
         cluster.addPoint(point);
         visited.put(point, PointStatus.PART_OF_CLUSTER);
@@ -186,7 +207,7 @@ public class DBSCANClusterer<T extends Clusterable> extends Clusterer<T> {
             PointStatus pStatus = visited.get(current);
             // only check non-visited points
             if (pStatus == null) {
-                final List<T> currentNeighbors = getNeighbors(current, points);
+                final List<T> currentNeighbors = neighborhood.apply(current);
                 if (currentNeighbors.size() >= minPts) {
                     seeds = merge(seeds, currentNeighbors);
                 }
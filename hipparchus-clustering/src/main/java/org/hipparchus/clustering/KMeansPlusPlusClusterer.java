@@ -26,12 +26,15 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 import org.hipparchus.clustering.distance.DistanceMeasure;
 import org.hipparchus.clustering.distance.EuclideanDistance;
 import org.hipparchus.exception.LocalizedCoreFormats;
 import org.hipparchus.exception.MathIllegalArgumentException;
 import org.hipparchus.exception.MathIllegalStateException;
+import org.hipparchus.exception.NullArgumentException;
 import org.hipparchus.random.JDKRandomGenerator;
 import org.hipparchus.random.RandomGenerator;
 import org.hipparchus.stat.descriptive.moment.Variance;
@@ -39,6 +42,17 @@ import org.hipparchus.util.MathUtils;
 
 /**
  * Clustering algorithm based on David Arthur and Sergei Vassilvitski k-means++ algorithm.
+ * <p>
+ * If a {@link ForkJoinPool} is provided at construction, the assignment step of
+ * the Lloyd iterations is split among the pool threads, each task accumulating
+ * partial coordinates sums for the clusters it assigns points to. The partial sums
+ * are then merged to compute the new centers without another pass on the points.
+ * As the coordinates are not summed in the same order as in sequential mode, the
+ * centers may differ from the sequential ones by a few ulps, and these differences
+ * may change the assignment of points lying almost at the same distance of two
+ * centers in the following iterations. Results are therefore not guaranteed to be
+ * identical to the sequential ones, although they are for well separated clusters.
+ * </p>
  * @param <T> type of the points to cluster
  * @see <a href="http://en.wikipedia.org/wiki/K-means%2B%2B">K-means++ (wikipedia)</a>
  */
@@ -73,6 +87,9 @@ public class KMeansPlusPlusClusterer<T extends Clusterable> extends Clusterer<T>
     /** Selected strategy for empty clusters. */
     private final EmptyClusterStrategy emptyStrategy;
 
+    /** Pool in which assignment steps are performed (null for sequential assignment). */
+    private final ForkJoinPool pool;
+
     /** Build a clusterer.
      * <p>
      * The default strategy for handling empty clusters that may appear during
@@ -151,6 +168,63 @@ public class KMeansPlusPlusClusterer<T extends Clusterable> extends Clusterer<T>
         this.maxIterations = maxIterations;
         this.random        = random;
         this.emptyStrategy = emptyStrategy;
+        this.pool          = null;
+    }
+
+    /** Build a clusterer performing the assignment steps in parallel.
+     *
+     * @param k the number of clusters to split the data into
+     * @param maxIterations the maximum number of iterations to run the algorithm for.
+     *   If negative, no maximum will be used.
+     * @param measure the distance measure to use
+     * @param random random generator to use for choosing initial centers
+     * @param emptyStrategy strategy to use for handling empty clusters that
+     * may appear during algorithm iterations
+     * @param pool pool in which the assignment steps will be performed
+     * (results may differ from sequential ones due to rounding, see class documentation)
+     * @exception NullArgumentException if {@code pool} is null
+     * @since 3.1
+     */
+    public KMeansPlusPlusClusterer(final int k, final int maxIterations,
+                                   final DistanceMeasure measure,
+                                   final RandomGenerator random,
+                                   final EmptyClusterStrategy emptyStrategy,
+                                   final ForkJoinPool pool)
+        throws NullArgumentException {
+        super(measure);
+        MathUtils.checkNotNull(pool);
+        this.k             = k;
+        this.maxIterations = maxIterations;
+        this.random        = random;
+        this.emptyStrategy = emptyStrategy;
+        this.pool          = pool;
+    }
+
+    /** Build a clusterer with the same settings as another one but a different random generator.
+     * @param original original clusterer
+     * @param random random generator to use for choosing initial centers
+     */
+    private KMeansPlusPlusClusterer(final KMeansPlusPlusClusterer<T> original,
+                                    final RandomGenerator random) {
+        super(original.getDistanceMeasure());
+        this.k             = original.k;
+        this.maxIterations = original.maxIterations;
+        this.random        = random;
+        this.emptyStrategy = original.emptyStrategy;
+        this.pool          = original.pool;
+    }
+
+    /** Create a copy of the instance using a different random generator.
+     * <p>
+     * This is used to run several independent clusterings concurrently,
+     * as random generators are not thread-safe.
+     * </p>
+     * @param newRandom random generator to use for choosing initial centers
+     * @return a new clusterer with the same settings as the instance
+     * @since 3.1
+     */
+    KMeansPlusPlusClusterer<T> withRandomGenerator(final RandomGenerator newRandom) {
+        return new KMeansPlusPlusClusterer<>(this, newRandom);
     }
 
     /**
@@ -185,6 +259,15 @@ public class KMeansPlusPlusClusterer<T extends Clusterable> extends Clusterer<T>
         return emptyStrategy;
     }
 
+    /**
+     * Returns the pool in which assignment steps are performed.
+     * @return pool in which assignment steps are performed, or null if they are sequential
+     * @since 3.1
+     */
+    public ForkJoinPool getPool() {
+        return pool;
+    }
+
     /**
      * Runs the K-means++ clustering algorithm.
      *
@@ -214,7 +297,16 @@ public class KMeansPlusPlusClusterer<T extends Clusterable> extends Clusterer<T>
         // create an array containing the latest assignment of a point to a cluster
         // no need to initialize the array, as it will be filled with the first assignment
         int[] assignments = new int[points.size()];
-        assignPointsToClusters(clusters, points, assignments);
+
+        // in parallel mode, coordinates sums of the points in each cluster are computed
+        // during assignment, and indexed access to the points is needed to split the work
+        final List<T>    pointList = (pool == null) ? null : new ArrayList<>(points);
+        final double[][] sums      = (pool == null) ? null : new double[k][];
+        if (pool == null) {
+            assignPointsToClusters(clusters, points, assignments);
+        } else {
+            assignPointsToClusters(clusters, pointList, assignments, sums);
+        }
 
         // iterate through updating the centers until we're done
         final int max = (maxIterations < 0) ? Integer.MAX_VALUE : maxIterations;
@@ -238,12 +330,18 @@ public class KMeansPlusPlusClusterer<T extends Clusterable> extends Clusterer<T>
                             throw new MathIllegalStateException(LocalizedClusteringFormats.EMPTY_CLUSTER_IN_K_MEANS);
                     }
                     emptyCluster = true;
-                } else {
+                } else if (sums == null || emptyCluster) {
+                    // when a point has been moved out of some cluster to handle an empty cluster,
+                    // sums computed during assignment are not reliable anymore
                     newCenter = centroidOf(cluster.getPoints(), cluster.getCenter().getPoint().length);
+                } else {
+                    newCenter = centroidOf(sums[newClusters.size()], cluster.getPoints().size());
                 }
                 newClusters.add(new CentroidCluster<T>(newCenter));
             }
-            int changes = assignPointsToClusters(newClusters, points, assignments);
+            final int changes = (pool == null) ?
+                                assignPointsToClusters(newClusters, points, assignments) :
+                                assignPointsToClusters(newClusters, pointList, assignments, sums);
             clusters = newClusters;
 
             // if there were no more changes in the point-to-cluster assignment
@@ -282,6 +380,34 @@ public class KMeansPlusPlusClusterer<T extends Clusterable> extends Clusterer<T>
         return assignedDifferently;
     }
 
+    /**
+     * Adds the given points to the closest {@link Cluster}, searching for closest clusters in parallel.
+     *
+     * @param clusters the {@link Cluster}s to add the points to
+     * @param points the points to add to the given {@link Cluster}s
+     * @param assignments points assignments to clusters
+     * @param sums placeholder for the coordinates sums of the points assigned to each cluster
+     * @return the number of points assigned to different clusters as the iteration before
+     */
+    private int assignPointsToClusters(final List<CentroidCluster<T>> clusters,
+                                       final List<T> points,
+                                       final int[] assignments,
+                                       final double[][] sums) {
+
+        // search nearest clusters in parallel
+        final AssignmentTask task = new AssignmentTask(clusters, points, assignments, 0, points.size());
+        pool.invoke(task);
+        System.arraycopy(task.sums, 0, sums, 0, sums.length);
+
+        // add points sequentially, so clusters contents are in the same order as in sequential mode
+        for (int i = 0; i < assignments.length; ++i) {
+            clusters.get(assignments[i]).addPoint(points.get(i));
+        }
+
+        return task.assignedDifferently;
+
+    }
+
     /**
      * Use K-means++ to choose the initial centers.
      *
@@ -566,4 +692,113 @@ public class KMeansPlusPlusClusterer<T extends Clusterable> extends Clusterer<T>
         return new DoublePoint(centroid);
     }
 
+    /**
+     * Computes the centroid for a set of points from their coordinates sum.
+     *
+     * @param sum coordinates sum of the points
+     * @param size number of points
+     * @return the computed centroid for the set of points
+     */
+    private Clusterable centroidOf(final double[] sum, final int size) {
+        final double[] centroid = new double[sum.length];
+        for (int i = 0; i < centroid.length; i++) {
+            centroid[i] = sum[i] / size;
+        }
+        return new DoublePoint(centroid);
+    }
+
+    /** Task for assigning a range of points to their nearest clusters. */
+    private class AssignmentTask extends RecursiveAction {
+
+        /** Serializable UID. */
+        private static final long serialVersionUID = 20261017L;
+
+        /** Number of points below which the task is not split anymore. */
+        private static final int TASK_SIZE = 1024;
+
+        /** Clusters to which points are assigned. */
+        private final List<CentroidCluster<T>> clusters;
+
+        /** Points to assign. */
+        private final List<T> points;
+
+        /** Points assignments to clusters. */
+        private final int[] assignments;
+
+        /** Index of the first point to assign (included). */
+        private final int from;
+
+        /** Index of the last point to assign (excluded). */
+        private final int to;
+
+        /** Coordinates sums of the points assigned to each cluster (null rows for clusters without points). */
+        private double[][] sums;
+
+        /** Number of points assigned to a different cluster as the iteration before. */
+        private int assignedDifferently;
+
+        /** Simple constructor.
+         * @param clusters clusters to which points are assigned
+         * @param points points to assign
+         * @param assignments points assignments to clusters
+         * @param from index of the first point to assign (included)
+         * @param to index of the last point to assign (excluded)
+         */
+        AssignmentTask(final List<CentroidCluster<T>> clusters, final List<T> points,
+                       final int[] assignments, final int from, final int to) {
+            this.clusters    = clusters;
+            this.points      = points;
+            this.assignments = assignments;
+            this.from        = from;
+            this.to          = to;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        protected void compute() {
+            if (to - from > TASK_SIZE) {
+
+                // split the range, the split points only depend on the number of points
+                // so the summation order (hence the result) does not depend on threads scheduling
+                final int middle = (from + to) >>> 1;
+                final AssignmentTask low  = new AssignmentTask(clusters, points, assignments, from, middle);
+                final AssignmentTask high = new AssignmentTask(clusters, points, assignments, middle, to);
+                invokeAll(low, high);
+
+                // merge the partial sums
+                assignedDifferently = low.assignedDifferently + high.assignedDifferently;
+                sums                = low.sums;
+                for (int c = 0; c < sums.length; ++c) {
+                    if (sums[c] == null) {
+                        sums[c] = high.sums[c];
+                    } else if (high.sums[c] != null) {
+                        for (int j = 0; j < sums[c].length; ++j) {
+                            sums[c][j] += high.sums[c][j];
+                        }
+                    }
+                }
+
+            } else {
+                sums = new double[clusters.size()][];
+                for (int i = from; i < to; ++i) {
+                    final T   p            = points.get(i);
+                    final int clusterIndex = getNearestCluster(clusters, p);
+                    if (clusterIndex != assignments[i]) {
+                        ++assignedDifferently;
+                    }
+                    assignments[i] = clusterIndex;
+                    final double[] coordinates = p.getPoint();
+                    if (sums[clusterIndex] == null) {
+                        sums[clusterIndex] = coordinates.clone();
+                    } else {
+                        for (int j = 0; j < coordinates.length; ++j) {
+                            sums[clusterIndex][j] += coordinates[j];
+                        }
+                    }
+                }
+            }
+        }
+
+    }
+
 }
@@ -0,0 +1,309 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hipparchus.clustering;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.hipparchus.clustering.distance.DistanceMeasure;
+import org.hipparchus.clustering.distance.EuclideanDistance;
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.exception.MathIllegalArgumentException;
+import org.hipparchus.random.JDKRandomGenerator;
+import org.hipparchus.random.RandomGenerator;
+import org.hipparchus.util.FastMath;
+import org.hipparchus.util.MathUtils;
+
+/**
+ * Mini-batch k-means clustering algorithm.
+ * <p>
+ * Instead of assigning all points to their nearest center at each iteration as
+ * {@link KMeansPlusPlusClusterer} does, each iteration of this algorithm draws a
+ * small random batch of points and moves the nearest centers towards them, using
+ * a per-center learning rate that decreases as the number of points already
+ * seen by the center increases. This allows clustering data sets that are too
+ * large to be iterated over fully at each step, at the expense of a slightly
+ * worse clustering quality.
+ * </p>
+ * <p>
+ * The initial centers are chosen using the k-means++ algorithm on a random
+ * sample of the points. Iterations stop either when the maximum number of
+ * iterations has been reached or when the smoothed average squared distance
+ * of the batch points to their nearest center has not improved for a given
+ * number of consecutive iterations. A single final pass assigns all points
+ * to their nearest center. Some of the returned clusters may be empty.
+ * </p>
+ * @param <T> type of the points to cluster
+ * @see <a href="https://dl.acm.org/doi/10.1145/1772690.1772862">D. Sculley,
+ * Web-scale k-means clustering, WWW'10</a>
+ * @since 3.1
+ */
+public class MiniBatchKMeansClusterer<T extends Clusterable> extends Clusterer<T> {
+
+    /** Default number of iterations without improvement before stopping. */
+    public static final int DEFAULT_MAX_NO_IMPROVEMENT_TIMES = 10;
+
+    /** Ratio between the size of the sample used for choosing initial centers and the batch size. */
+    private static final int INIT_SAMPLE_RATIO = 3;
+
+    /** The number of clusters. */
+    private final int k;
+
+    /** The maximum number of iterations. */
+    private final int maxIterations;
+
+    /** The number of points in each batch. */
+    private final int batchSize;
+
+    /** The number of consecutive iterations without improvement before stopping. */
+    private final int maxNoImprovementTimes;
+
+    /** Random generator for choosing initial centers and batches. */
+    private final RandomGenerator random;
+
+    /** Build a clusterer.
+     * <p>
+     * The euclidean distance will be used as default distance measure.
+     * </p>
+     * @param k the number of clusters to split the data into
+     * @param maxIterations the maximum number of iterations to run the algorithm for.
+     *   If negative, no maximum will be used.
+     * @param batchSize the number of points in each batch
+     * @exception MathIllegalArgumentException if {@code batchSize} is smaller than 1
+     */
+    public MiniBatchKMeansClusterer(final int k, final int maxIterations, final int batchSize)
+        throws MathIllegalArgumentException {
+        this(k, maxIterations, batchSize, DEFAULT_MAX_NO_IMPROVEMENT_TIMES,
+             new EuclideanDistance(), new JDKRandomGenerator());
+    }
+
+    /** Build a clusterer.
+     * @param k the number of clusters to split the data into
+     * @param maxIterations the maximum number of iterations to run the algorithm for.
+     *   If negative, no maximum will be used.
+     * @param batchSize the number of points in each batch
+     * @param maxNoImprovementTimes the number of consecutive iterations without
+     *   improvement of the smoothed batch inertia before stopping
+     * @param measure the distance measure to use
+     * @param random random generator to use for choosing initial centers and batches
+     * @exception MathIllegalArgumentException if {@code batchSize} or
+     *   {@code maxNoImprovementTimes} is smaller than 1
+     */
+    public MiniBatchKMeansClusterer(final int k, final int maxIterations,
+                                    final int batchSize, final int maxNoImprovementTimes,
+                                    final DistanceMeasure measure,
+                                    final RandomGenerator random)
+        throws MathIllegalArgumentException {
+        super(measure);
+        if (batchSize < 1) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.NUMBER_TOO_SMALL,
+                                                   batchSize, 1);
+        }
+        if (maxNoImprovementTimes < 1) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.NUMBER_TOO_SMALL,
+                                                   maxNoImprovementTimes, 1);
+        }
+        this.k                     = k;
+        this.maxIterations         = maxIterations;
+        this.batchSize             = batchSize;
+        this.maxNoImprovementTimes = maxNoImprovementTimes;
+        this.random                = random;
+    }
+
+    /**
+     * Return the number of clusters this instance will use.
+     * @return the number of clusters
+     */
+    public int getK() {
+        return k;
+    }
+
+    /**
+     * Returns the maximum number of iterations this instance will use.
+     * @return the maximum number of iterations, or -1 if no maximum is set
+     */
+    public int getMaxIterations() {
+        return maxIterations;
+    }
+
+    /**
+     * Returns the number of points in each batch.
+     * @return the number of points in each batch
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * Returns the number of consecutive iterations without improvement before stopping.
+     * @return the number of consecutive iterations without improvement before stopping
+     */
+    public int getMaxNoImprovementTimes() {
+        return maxNoImprovementTimes;
+    }
+
+    /**
+     * Returns the random generator this instance will use.
+     * @return the random generator
+     */
+    public RandomGenerator getRandomGenerator() {
+        return random;
+    }
+
+    /**
+     * Runs the mini-batch k-means clustering algorithm.
+     *
+     * @param points the points to cluster
+     * @return a list of clusters containing the points
+     * @throws MathIllegalArgumentException if the data points are null or the number
+     *     of clusters is larger than the number of data points
+     */
+    @Override
+    public List<CentroidCluster<T>> cluster(final Collection<T> points)
+        throws MathIllegalArgumentException {
+
+        // sanity checks
+        MathUtils.checkNotNull(points);
+
+        // number of clusters has to be smaller or equal the number of data points
+        if (points.size() < k) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.NUMBER_TOO_SMALL_BOUND_EXCLUDED,
+                                                   points.size(), k);
+        }
+
+        final List<T> pointList = new ArrayList<>(points);
+        final int     n         = pointList.size();
+
+        // choose initial centers
+        final double[][] centers = chooseInitialCenters(pointList);
+        final long[]     counts  = new long[k];
+
+        // smoothing factor for the batch inertia
+        final double alpha = FastMath.min(1.0, 2.0 * batchSize / (n + 1.0));
+
+        final List<T> batch         = new ArrayList<>(batchSize);
+        final int[]   nearest       = new int[batchSize];
+        double        smoothed      = Double.NaN;
+        double        best          = Double.POSITIVE_INFINITY;
+        int           noImprovement = 0;
+        final int     max           = (maxIterations < 0) ? Integer.MAX_VALUE : maxIterations;
+        for (int count = 0; count < max && noImprovement < maxNoImprovementTimes; count++) {
+
+            // draw a batch and cache the nearest centers, before any center is moved
+            batch.clear();
+            double inertia = 0;
+            for (int i = 0; i < batchSize; ++i) {
+                final T p = pointList.get(random.nextInt(n));
+                batch.add(p);
+                nearest[i] = getNearestCenter(centers, p.getPoint());
+                final double d = getDistanceMeasure().compute(centers[nearest[i]], p.getPoint());
+                inertia += d * d;
+            }
+
+            // move the centers towards the batch points
+            for (int i = 0; i < batchSize; ++i) {
+                final double[] center = centers[nearest[i]];
+                final double[] point  = batch.get(i).getPoint();
+                final double   eta    = 1.0 / ++counts[nearest[i]];
+                for (int j = 0; j < center.length; ++j) {
+                    center[j] += eta * (point[j] - center[j]);
+                }
+            }
+
+            // check convergence on smoothed inertia
+            smoothed = Double.isNaN(smoothed) ?
+                       inertia / batchSize :
+                       (1 - alpha) * smoothed + alpha * inertia / batchSize;
+            if (smoothed < best) {
+                best          = smoothed;
+                noImprovement = 0;
+            } else {
+                ++noImprovement;
+            }
+
+        }
+
+        // final assignment of all points
+        final List<CentroidCluster<T>> clusters = new ArrayList<>(k);
+        for (final double[] center : centers) {
+            clusters.add(new CentroidCluster<T>(new DoublePoint(center)));
+        }
+        for (final T p : pointList) {
+            clusters.get(getNearestCenter(centers, p.getPoint())).addPoint(p);
+        }
+
+        return clusters;
+
+    }
+
+    /**
+     * Use k-means++ on a random sample of the points to choose the initial centers.
+     *
+     * @param points the points to choose the initial centers from
+     * @return the initial centers
+     */
+    private double[][] chooseInitialCenters(final List<T> points) {
+
+        // draw a sample without replacement using a partial Fisher-Yates shuffle
+        final int n          = points.size();
+        final int sampleSize = (int) FastMath.max(k, FastMath.min(n, (long) INIT_SAMPLE_RATIO * batchSize));
+        final int[] indices  = new int[n];
+        for (int i = 0; i < n; ++i) {
+            indices[i] = i;
+        }
+        final List<T> sample = new ArrayList<>(sampleSize);
+        for (int i = 0; i < sampleSize; ++i) {
+            final int j   = i + random.nextInt(n - i);
+            final int tmp = indices[i];
+            indices[i]    = indices[j];
+            indices[j]    = tmp;
+            sample.add(points.get(indices[i]));
+        }
+
+        // apply k-means++ seeding on the sample, without any Lloyd iteration
+        final List<CentroidCluster<T>> initial =
+                        new KMeansPlusPlusClusterer<T>(k, 0, getDistanceMeasure(), random).cluster(sample);
+        final double[][] centers = new double[k][];
+        for (int i = 0; i < k; ++i) {
+            centers[i] = initial.get(i).getCenter().getPoint().clone();
+        }
+        return centers;
+
+    }
+
+    /**
+     * Returns the index of the nearest center to the given point.
+     *
+     * @param centers the centers to search
+     * @param point the point to find the nearest center for
+     * @return the index of the nearest center to the given point
+     */
+    private int getNearestCenter(final double[][] centers, final double[] point) {
+        double minDistance = Double.MAX_VALUE;
+        int minCenter = 0;
+        for (int i = 0; i < centers.length; ++i) {
+            final double distance = getDistanceMeasure().compute(point, centers[i]);
+            if (distance < minDistance) {
+                minDistance = distance;
+                minCenter   = i;
+            }
+        }
+        return minCenter;
+    }
+
+}
@@ -22,17 +22,32 @@
 
 package org.hipparchus.clustering;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 import org.hipparchus.clustering.evaluation.ClusterEvaluator;
 import org.hipparchus.clustering.evaluation.SumOfClusterVariances;
 import org.hipparchus.exception.MathIllegalArgumentException;
 import org.hipparchus.exception.MathIllegalStateException;
+import org.hipparchus.exception.NullArgumentException;
+import org.hipparchus.random.RandomGenerator;
+import org.hipparchus.random.Well19937c;
+import org.hipparchus.util.MathUtils;
 
 /**
  * A wrapper around a k-means++ clustering algorithm which performs multiple trials
  * and returns the best solution.
+ * <p>
+ * If a {@link ForkJoinPool} is provided at construction, the trials are run
+ * concurrently. As random generators are not thread-safe, each trial then uses
+ * a copy of the embedded clusterer with its own {@link Well19937c} generator,
+ * seeded from the random generator of the embedded clusterer. The selected
+ * solution therefore does not depend on threads scheduling.
+ * </p>
  * @param <T> type of the points to cluster
  */
 public class MultiKMeansPlusPlusClusterer<T extends Clusterable> extends Clusterer<T> {
@@ -46,6 +61,9 @@ public class MultiKMeansPlusPlusClusterer<T extends Clusterable> extends Cluster
     /** The cluster evaluator to use. */
     private final ClusterEvaluator<T> evaluator;
 
+    /** Pool in which trials are run (null for sequential trials). */
+    private final ForkJoinPool pool;
+
     /** Build a clusterer.
      * @param clusterer the k-means clusterer to use
      * @param numTrials number of trial runs
@@ -67,6 +85,28 @@ public class MultiKMeansPlusPlusClusterer<T extends Clusterable> extends Cluster
         this.clusterer = clusterer;
         this.numTrials = numTrials;
         this.evaluator = evaluator;
+        this.pool      = null;
+    }
+
+    /** Build a clusterer running trials concurrently.
+     * @param clusterer the k-means clusterer to use
+     * @param numTrials number of trial runs
+     * @param evaluator the cluster evaluator to use
+     * @param pool pool in which the trials will be run
+     * @exception NullArgumentException if {@code pool} is null
+     * @since 3.1
+     */
+    public MultiKMeansPlusPlusClusterer(final KMeansPlusPlusClusterer<T> clusterer,
+                                        final int numTrials,
+                                        final ClusterEvaluator<T> evaluator,
+                                        final ForkJoinPool pool)
+        throws NullArgumentException {
+        super(clusterer.getDistanceMeasure());
+        MathUtils.checkNotNull(pool);
+        this.clusterer = clusterer;
+        this.numTrials = numTrials;
+        this.evaluator = evaluator;
+        this.pool      = pool;
     }
 
     /**
@@ -93,6 +133,15 @@ public class MultiKMeansPlusPlusClusterer<T extends Clusterable> extends Cluster
        return evaluator;
     }
 
+    /**
+     * Returns the pool in which trials are run.
+     * @return pool in which trials are run, or null if they are sequential
+     * @since 3.1
+     */
+    public ForkJoinPool getPool() {
+        return pool;
+    }
+
     /**
      * Runs the K-means++ clustering algorithm.
      *
@@ -108,6 +157,10 @@ public class MultiKMeansPlusPlusClusterer<T extends Clusterable> extends Cluster
     public List<CentroidCluster<T>> cluster(final Collection<T> points)
         throws MathIllegalArgumentException, MathIllegalStateException {
 
+        if (pool != null) {
+            return clusterConcurrently(points);
+        }
+
         // at first, we have not found any clusters list yet
         List<CentroidCluster<T>> best = null;
         double bestVarianceSum = Double.POSITIVE_INFINITY;
@@ -134,4 +187,114 @@ public class MultiKMeansPlusPlusClusterer<T extends Clusterable> extends Cluster
 
     }
 
+    /**
+     * Runs the K-means++ clustering trials concurrently.
+     *
+     * @param points the points to cluster
+     * @return a list of clusters containing the points
+     * @throws MathIllegalArgumentException if the data points are null or the number
+     *   of clusters is larger than the number of data points
+     * @throws MathIllegalStateException if an empty cluster is encountered and the
+     *   underlying {@link KMeansPlusPlusClusterer} has its
+     *   {@link KMeansPlusPlusClusterer.EmptyClusterStrategy} is set to {@code ERROR}.
+     */
+    private List<CentroidCluster<T>> clusterConcurrently(final Collection<T> points)
+        throws MathIllegalArgumentException, MathIllegalStateException {
+
+        // draw the seeds sequentially, so the trials are reproducible
+        final RandomGenerator random = clusterer.getRandomGenerator();
+        final long[] seeds = new long[numTrials];
+        for (int i = 0; i < numTrials; ++i) {
+            seeds[i] = random.nextLong();
+        }
+
+        // run all trials
+        final TrialsTask task = new TrialsTask(points, seeds, 0, numTrials);
+        pool.invoke(task);
+
+        // select the best clusters list, favoring the earliest trials in case of ties
+        List<CentroidCluster<T>> best = null;
+        double bestVarianceSum = Double.POSITIVE_INFINITY;
+        for (int i = 0; i < numTrials; ++i) {
+            if (evaluator.isBetterScore(task.scores[i], bestVarianceSum)) {
+                best            = task.results.get(i);
+                bestVarianceSum = task.scores[i];
+            }
+        }
+
+        return best;
+
+    }
+
+    /** Task for running a range of trials. */
+    private class TrialsTask extends RecursiveAction {
+
+        /** Serializable UID. */
+        private static final long serialVersionUID = 20261017L;
+
+        /** Points to cluster. */
+        private final Collection<T> points;
+
+        /** Seeds for the random generators of all trials. */
+        private final long[] seeds;
+
+        /** Index of the first trial to run (included). */
+        private final int from;
+
+        /** Index of the last trial to run (excluded). */
+        private final int to;
+
+        /** Clusters lists for all trials (shared between all tasks). */
+        private final List<List<CentroidCluster<T>>> results;
+
+        /** Scores for all trials (shared between all tasks). */
+        private final double[] scores;
+
+        /** Build a task for all trials.
+         * @param points points to cluster
+         * @param seeds seeds for the random generators of all trials
+         * @param from index of the first trial to run (included)
+         * @param to index of the last trial to run (excluded)
+         */
+        TrialsTask(final Collection<T> points, final long[] seeds, final int from, final int to) {
+            this(points, seeds, from, to,
+                 new ArrayList<>(Collections.nCopies(seeds.length, (List<CentroidCluster<T>>) null)),
+                 new double[seeds.length]);
+        }
+
+        /** Build a task for a range of trials.
+         * @param points points to cluster
+         * @param seeds seeds for the random generators of all trials
+         * @param from index of the first trial to run (included)
+         * @param to index of the last trial to run (excluded)
+         * @param results clusters lists for all trials
+         * @param scores scores for all trials
+         */
+        private TrialsTask(final Collection<T> points, final long[] seeds, final int from, final int to,
+                           final List<List<CentroidCluster<T>>> results, final double[] scores) {
+            this.points  = points;
+            this.seeds   = seeds;
+            this.from    = from;
+            this.to      = to;
+            this.results = results;
+            this.scores  = scores;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        protected void compute() {
+            if (to - from > 1) {
+                final int middle = (from + to) >>> 1;
+                invokeAll(new TrialsTask(points, seeds, from, middle, results, scores),
+                          new TrialsTask(points, seeds, middle, to, results, scores));
+            } else if (to > from) {
+                final List<CentroidCluster<T>> clusters =
+                                clusterer.withRandomGenerator(new Well19937c(seeds[from])).cluster(points);
+                results.set(from, clusters);
+                scores[from] = evaluator.score(clusters);
+            }
+        }
+
+    }
+
 }
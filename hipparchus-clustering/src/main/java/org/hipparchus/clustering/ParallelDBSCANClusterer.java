@@ -0,0 +1,466 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hipparchus.clustering;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import org.hipparchus.clustering.distance.ChebyshevDistance;
+import org.hipparchus.clustering.distance.DistanceMeasure;
+import org.hipparchus.clustering.distance.EuclideanDistance;
+import org.hipparchus.clustering.distance.ManhattanDistance;
+import org.hipparchus.exception.MathIllegalArgumentException;
+import org.hipparchus.exception.NullArgumentException;
+import org.hipparchus.util.FastMath;
+import org.hipparchus.util.MathUtils;
+
+/**
+ * DBSCAN algorithm with parallel neighborhood searches backed by a spatial index.
+ * <p>
+ * This clusterer computes exactly the same clusters as {@link DBSCANClusterer},
+ * with the same points ordering. The difference is that all &epsilon;-neighborhoods
+ * are computed beforehand, in parallel, by tasks submitted to a {@link ForkJoinPool}.
+ * </p>
+ * <p>
+ * When the distance measure is one of {@link EuclideanDistance}, {@link ManhattanDistance}
+ * or {@link ChebyshevDistance}, two points at distance at most &epsilon; differ by at
+ * most &epsilon; along each coordinate. The points are then hashed into a grid whose cells
+ * are at least &epsilon; wide along (up to) three coordinates, and only points in adjacent
+ * cells are considered as neighbors candidates. This reduces the cost of each search from
+ * O(n) to roughly the number of points in the neighboring cells. For any other
+ * distance measure, no such pruning is possible and all points are considered as
+ * candidates, the searches are still performed in parallel.
+ * </p>
+ * <p>
+ * As neighborhoods are stored, memory consumption is proportional to the total
+ * number of neighbors pairs.
+ * </p>
+ *
+ * @param <T> type of the points to cluster
+ * @since 3.1
+ */
+public class ParallelDBSCANClusterer<T extends Clusterable> extends DBSCANClusterer<T> {
+
+    /** Maximum number of indexed coordinates. */
+    private static final int MAX_INDEXED_DIMENSIONS = 3;
+
+    /** Maximum number of grid cells along one indexed coordinate. */
+    private static final int MAX_CELLS = 1 << 20;
+
+    /** Safety margin on cells width, to avoid rounding issues at cells boundaries. */
+    private static final double CELL_MARGIN = 1.0e-3;
+
+    /** Number of points below which searches are not split further between tasks. */
+    private static final int TASK_SIZE = 256;
+
+    /** Pool in which neighborhood searches are performed. */
+    private final ForkJoinPool pool;
+
+    /**
+     * Creates a new instance of a ParallelDBSCANClusterer.
+     * <p>
+     * The euclidean distance will be used as default distance measure and
+     * searches will be performed in the {@link ForkJoinPool#commonPool() common pool}.
+     * </p>
+     *
+     * @param eps maximum radius of the neighborhood to be considered
+     * @param minPts minimum number of points needed for a cluster
+     * @throws MathIllegalArgumentException if {@code eps < 0.0} or {@code minPts < 0}
+     */
+    public ParallelDBSCANClusterer(final double eps, final int minPts)
+        throws MathIllegalArgumentException {
+        this(eps, minPts, new EuclideanDistance());
+    }
+
+    /**
+     * Creates a new instance of a ParallelDBSCANClusterer.
+     * <p>
+     * Searches will be performed in the {@link ForkJoinPool#commonPool() common pool}.
+     * </p>
+     *
+     * @param eps maximum radius of the neighborhood to be considered
+     * @param minPts minimum number of points needed for a cluster
+     * @param measure the distance measure to use
+     * @throws MathIllegalArgumentException if {@code eps < 0.0} or {@code minPts < 0}
+     */
+    public ParallelDBSCANClusterer(final double eps, final int minPts, final DistanceMeasure measure)
+        throws MathIllegalArgumentException {
+        this(eps, minPts, measure, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a new instance of a ParallelDBSCANClusterer.
+     *
+     * @param eps maximum radius of the neighborhood to be considered
+     * @param minPts minimum number of points needed for a cluster
+     * @param measure the distance measure to use
+     * @param pool pool in which neighborhood searches will be performed
+     * @throws MathIllegalArgumentException if {@code eps < 0.0} or {@code minPts < 0}
+     * @throws NullArgumentException if {@code pool} is null
+     */
+    public ParallelDBSCANClusterer(final double eps, final int minPts, final DistanceMeasure measure,
+                                   final ForkJoinPool pool)
+        throws MathIllegalArgumentException, NullArgumentException {
+        super(eps, minPts, measure);
+        MathUtils.checkNotNull(pool);
+        this.pool = pool;
+    }
+
+    /**
+     * Performs DBSCAN cluster analysis.
+     *
+     * @param points the points to cluster
+     * @return the list of clusters
+     * @throws NullArgumentException if the data points are null
+     */
+    @Override
+    public List<Cluster<T>> cluster(final Collection<T> points) throws NullArgumentException {
+
+        // sanity checks
+        MathUtils.checkNotNull(points);
+
+        // points are referenced by their index in iteration order
+        final List<T> list = new ArrayList<>(points);
+        final Map<T, Integer> indices = new IdentityHashMap<>(list.size());
+        for (int i = list.size() - 1; i >= 0; --i) {
+            indices.put(list.get(i), i);
+        }
+
+        // compute all neighborhoods in parallel
+        final Grid grid = createGrid(list);
+        final int[][] neighborhoods = new int[list.size()][];
+        pool.invoke(new SearchTask(list, grid, neighborhoods, 0, list.size()));
+
+        return cluster(list, point -> {
+            final int[] neighbors = neighborhoods[indices.get(point)];
+            final List<T> neighborsPoints = new ArrayList<>(neighbors.length);
+            for (final int index : neighbors) {
+                neighborsPoints.add(list.get(index));
+            }
+            return neighborsPoints;
+        });
+
+    }
+
+    /**
+     * Create the grid used to prune neighbors candidates.
+     *
+     * @param points points to cluster
+     * @return grid, or null if distance measure does not allow pruning
+     */
+    private Grid createGrid(final List<T> points) {
+
+        final Class<?> measureClass = getDistanceMeasure().getClass();
+        if (points.isEmpty() ||
+            measureClass != EuclideanDistance.class &&
+            measureClass != ManhattanDistance.class &&
+            measureClass != ChebyshevDistance.class) {
+            // we cannot prune candidates, all points will be checked
+            return null;
+        }
+
+        // find extent of the points along each coordinate
+        final int dimension = points.get(0).getPoint().length;
+        final double[] min = new double[dimension];
+        final double[] max = new double[dimension];
+        Arrays.fill(min, Double.POSITIVE_INFINITY);
+        Arrays.fill(max, Double.NEGATIVE_INFINITY);
+        for (final T point : points) {
+            final double[] p = point.getPoint();
+            for (int j = 0; j < dimension; ++j) {
+                min[j] = FastMath.min(min[j], p[j]);
+                max[j] = FastMath.max(max[j], p[j]);
+            }
+        }
+
+        // index the coordinates with the largest extents
+        final Integer[] sorted = new Integer[dimension];
+        for (int j = 0; j < dimension; ++j) {
+            sorted[j] = j;
+        }
+        Arrays.sort(sorted, (j1, j2) -> Double.compare(max[j2] - min[j2], max[j1] - min[j1]));
+        final int indexed = FastMath.min(dimension, MAX_INDEXED_DIMENSIONS);
+        final int[] coordinates = new int[indexed];
+        for (int k = 0; k < indexed; ++k) {
+            coordinates[k] = sorted[k];
+        }
+
+        return new Grid(points, coordinates, min, max, getEps());
+
+    }
+
+    /** Grid hashing points into cells at least &epsilon; wide. */
+    private static class Grid {
+
+        /** Indexed coordinates. */
+        private final int[] coordinates;
+
+        /** Lowest value along each indexed coordinate. */
+        private final double[] origin;
+
+        /** Width of the cells along each indexed coordinate. */
+        private final double[] width;
+
+        /** Number of cells along each indexed coordinate. */
+        private final int[] cells;
+
+        /** Stride of the cells keys along each indexed coordinate. */
+        private final long[] strides;
+
+        /** Sorted keys of non-empty cells. */
+        private final long[] keys;
+
+        /** Index of the first member of each non-empty cell in {@link #members}. */
+        private final int[] start;
+
+        /** Points indices, sorted by cell. */
+        private final int[] members;
+
+        /** Simple constructor.
+         * @param points points to index
+         * @param coordinates indexed coordinates
+         * @param min lowest value along each coordinate
+         * @param max highest value along each coordinate
+         * @param eps maximum radius of the neighborhood to be considered
+         */
+        Grid(final List<? extends Clusterable> points, final int[] coordinates,
+             final double[] min, final double[] max, final double eps) {
+
+            this.coordinates = coordinates.clone();
+            this.origin      = new double[coordinates.length];
+            this.width       = new double[coordinates.length];
+            this.cells       = new int[coordinates.length];
+            this.strides     = new long[coordinates.length];
+
+            long stride = 1;
+            for (int k = 0; k < coordinates.length; ++k) {
+                final double extent = max[coordinates[k]] - min[coordinates[k]];
+                // cells must be at least eps wide, but not too many
+                double w = FastMath.max(eps, extent / (MAX_CELLS - 1)) * (1 + CELL_MARGIN);
+                if (!(w > 0)) {
+                    // degenerate case with eps = 0 and all coordinates equal
+                    w = 1.0;
+                }
+                origin[k]  = min[coordinates[k]];
+                width[k]   = w;
+                cells[k]   = FastMath.min(MAX_CELLS, (int) FastMath.floor(extent / w) + 1);
+                strides[k] = stride;
+                stride    *= cells[k];
+            }
+
+            // compute cells keys of all points
+            final int n = points.size();
+            final long[] pointsKeys = new long[n];
+            for (int i = 0; i < n; ++i) {
+                pointsKeys[i] = key(points.get(i).getPoint());
+            }
+
+            // identify non-empty cells
+            final long[] sortedKeys = pointsKeys.clone();
+            Arrays.sort(sortedKeys);
+            int distinct = 0;
+            for (int i = 0; i < n; ++i) {
+                if (i == 0 || sortedKeys[i] != sortedKeys[i - 1]) {
+                    sortedKeys[distinct++] = sortedKeys[i];
+                }
+            }
+            keys = Arrays.copyOf(sortedKeys, distinct);
+
+            // sort points by cell, preserving points order within each cell
+            final int[] cellOf = new int[n];
+            start = new int[distinct + 1];
+            for (int i = 0; i < n; ++i) {
+                cellOf[i] = Arrays.binarySearch(keys, pointsKeys[i]);
+                ++start[cellOf[i] + 1];
+            }
+            for (int c = 0; c < distinct; ++c) {
+                start[c + 1] += start[c];
+            }
+            final int[] next = Arrays.copyOf(start, distinct);
+            members = new int[n];
+            for (int i = 0; i < n; ++i) {
+                members[next[cellOf[i]]++] = i;
+            }
+
+        }
+
+        /** Get the index of a point along an indexed coordinate.
+         * @param p point
+         * @param k index of the indexed coordinate
+         * @return index of the cell containing the point along the indexed coordinate
+         */
+        private int cellIndex(final double[] p, final int k) {
+            final int c = (int) FastMath.floor((p[coordinates[k]] - origin[k]) / width[k]);
+            return FastMath.max(0, FastMath.min(cells[k] - 1, c));
+        }
+
+        /** Compute the key of the cell containing a point.
+         * @param p point
+         * @return key of the cell containing the point
+         */
+        private long key(final double[] p) {
+            long key = 0;
+            for (int k = 0; k < coordinates.length; ++k) {
+                key += cellIndex(p, k) * strides[k];
+            }
+            return key;
+        }
+
+        /** Get the indices of the points in the cells adjacent to the cell of a point.
+         * @param p point
+         * @return indices of the points in the adjacent cells (including point own cell),
+         * in increasing order
+         */
+        int[] candidates(final double[] p) {
+
+            final int[] center = new int[coordinates.length];
+            for (int k = 0; k < coordinates.length; ++k) {
+                center[k] = cellIndex(p, k);
+            }
+
+            // loop over the 3^k adjacent cells, using a counter in base 3
+            int[] found = new int[16];
+            int n = 0;
+            final int[] offset = new int[coordinates.length];
+            Arrays.fill(offset, -1);
+            boolean done = false;
+            while (!done) {
+
+                long key = 0;
+                boolean inside = true;
+                for (int k = 0; k < coordinates.length; ++k) {
+                    final int c = center[k] + offset[k];
+                    if (c < 0 || c >= cells[k]) {
+                        inside = false;
+                    }
+                    key += c * strides[k];
+                }
+
+                if (inside) {
+                    final int cell = Arrays.binarySearch(keys, key);
+                    if (cell >= 0) {
+                        final int size = start[cell + 1] - start[cell];
+                        if (n + size > found.length) {
+                            found = Arrays.copyOf(found, FastMath.max(2 * found.length, n + size));
+                        }
+                        System.arraycopy(members, start[cell], found, n, size);
+                        n += size;
+                    }
+                }
+
+                // increment counter
+                done = true;
+                for (int k = 0; k < coordinates.length && done; ++k) {
+                    if (offset[k] < 1) {
+                        ++offset[k];
+                        done = false;
+                    } else {
+                        offset[k] = -1;
+                    }
+                }
+
+            }
+
+            // restore the iteration order of the points
+            final int[] candidates = Arrays.copyOf(found, n);
+            Arrays.sort(candidates);
+            return candidates;
+
+        }
+
+    }
+
+    /** Fork-join task computing a range of neighborhoods. */
+    private class SearchTask extends RecursiveAction {
+
+        /** Serializable version identifier. */
+        private static final long serialVersionUID = 20261017L;
+
+        /** Points to cluster. */
+        private final List<T> points;
+
+        /** Grid used to prune neighbors candidates (may be null). */
+        private final Grid grid;
+
+        /** Neighborhoods to fill up. */
+        private final int[][] neighborhoods;
+
+        /** Index of the first point to process (included). */
+        private final int from;
+
+        /** Index of the last point to process (excluded). */
+        private final int to;
+
+        /** Simple constructor.
+         * @param points points to cluster
+         * @param grid grid used to prune neighbors candidates (may be null)
+         * @param neighborhoods neighborhoods to fill up
+         * @param from index of the first point to process (included)
+         * @param to index of the last point to process (excluded)
+         */
+        SearchTask(final List<T> points, final Grid grid, final int[][] neighborhoods,
+                   final int from, final int to) {
+            this.points        = points;
+            this.grid          = grid;
+            this.neighborhoods = neighborhoods;
+            this.from          = from;
+            this.to            = to;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        protected void compute() {
+            if (to - from <= TASK_SIZE) {
+                for (int i = from; i < to; ++i) {
+                    neighborhoods[i] = search(i);
+                }
+            } else {
+                final int middle = (from + to) >>> 1;
+                invokeAll(new SearchTask(points, grid, neighborhoods, from, middle),
+                          new SearchTask(points, grid, neighborhoods, middle, to));
+            }
+        }
+
+        /** Search the neighbors of one point.
+         * @param i index of the point
+         * @return indices of the neighbors, in increasing order
+         */
+        private int[] search(final int i) {
+            final T point = points.get(i);
+            final int[] candidates = grid == null ? null : grid.candidates(point.getPoint());
+            final int nbCandidates = candidates == null ? points.size() : candidates.length;
+            final int[] neighbors  = new int[nbCandidates];
+            int n = 0;
+            for (int c = 0; c < nbCandidates; ++c) {
+                final int j = candidates == null ? c : candidates[c];
+                final T neighbor = points.get(j);
+                if (point != neighbor && distance(neighbor, point) <= getEps()) {
+                    neighbors[n++] = j;
+                }
+            }
+            return Arrays.copyOf(neighbors, n);
+        }
+
+    }
+
+}
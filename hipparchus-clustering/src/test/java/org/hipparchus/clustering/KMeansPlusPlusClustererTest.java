@@ -26,11 +26,14 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 import org.hipparchus.clustering.distance.EuclideanDistance;
 import org.hipparchus.exception.MathIllegalArgumentException;
+import org.hipparchus.exception.NullArgumentException;
 import org.hipparchus.random.JDKRandomGenerator;
 import org.hipparchus.random.RandomGenerator;
+import org.hipparchus.random.Well19937c;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
@@ -193,4 +196,68 @@ public class KMeansPlusPlusClustererTest {
 
     }
 
+    @Test
+    public void testParallelSameAsSequential() {
+        // parallel and sequential centers differ by rounding only,
+        // which does not change assignments for well separated blobs
+        final List<DoublePoint> points = createBlobs(new Well19937c(0x5c1e7a93d04b2f86l), 20000, 3, 7);
+        for (final KMeansPlusPlusClusterer.EmptyClusterStrategy strategy :
+             KMeansPlusPlusClusterer.EmptyClusterStrategy.values()) {
+            if (strategy == KMeansPlusPlusClusterer.EmptyClusterStrategy.ERROR) {
+                continue;
+            }
+            final List<CentroidCluster<DoublePoint>> expected =
+                            new KMeansPlusPlusClusterer<DoublePoint>(10, 100, new EuclideanDistance(),
+                                                                     new Well19937c(0x3al), strategy).
+                            cluster(points);
+            final ForkJoinPool pool = new ForkJoinPool(4);
+            try {
+                final KMeansPlusPlusClusterer<DoublePoint> parallel =
+                                new KMeansPlusPlusClusterer<DoublePoint>(10, 100, new EuclideanDistance(),
+                                                                         new Well19937c(0x3al), strategy, pool);
+                Assert.assertSame(pool, parallel.getPool());
+                final List<CentroidCluster<DoublePoint>> actual = parallel.cluster(points);
+                Assert.assertEquals(expected.size(), actual.size());
+                for (int i = 0; i < expected.size(); ++i) {
+                    Assert.assertArrayEquals(expected.get(i).getCenter().getPoint(),
+                                             actual.get(i).getCenter().getPoint(), 1.0e-10);
+                    final List<DoublePoint> e = expected.get(i).getPoints();
+                    final List<DoublePoint> a = actual.get(i).getPoints();
+                    Assert.assertEquals(e.size(), a.size());
+                    for (int j = 0; j < e.size(); ++j) {
+                        Assert.assertSame(e.get(j), a.get(j));
+                    }
+                }
+            } finally {
+                pool.shutdown();
+            }
+        }
+    }
+
+    @Test(expected = NullArgumentException.class)
+    public void testParallelNullPool() {
+        new KMeansPlusPlusClusterer<DoublePoint>(3, 10, new EuclideanDistance(), random,
+                                                 KMeansPlusPlusClusterer.EmptyClusterStrategy.ERROR, null);
+    }
+
+    static List<DoublePoint> createBlobs(final RandomGenerator generator, final int n,
+                                         final int dimension, final int blobs) {
+        final double[][] centers = new double[blobs][dimension];
+        for (final double[] center : centers) {
+            for (int j = 0; j < dimension; ++j) {
+                center[j] = 100 * generator.nextDouble();
+            }
+        }
+        final List<DoublePoint> points = new ArrayList<>(n);
+        for (int i = 0; i < n; ++i) {
+            final double[] center = centers[generator.nextInt(blobs)];
+            final double[] p = new double[dimension];
+            for (int j = 0; j < dimension; ++j) {
+                p[j] = center[j] + 3 * generator.nextGaussian();
+            }
+            points.add(new DoublePoint(p));
+        }
+        return points;
+    }
+
 }
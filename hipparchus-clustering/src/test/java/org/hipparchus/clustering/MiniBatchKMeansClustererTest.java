@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hipparchus.clustering;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.hipparchus.clustering.distance.EuclideanDistance;
+import org.hipparchus.clustering.evaluation.SumOfClusterVariances;
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.exception.MathIllegalArgumentException;
+import org.hipparchus.random.Well19937c;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class MiniBatchKMeansClustererTest {
+
+    @Test
+    public void testQualityCloseToFullKMeans() {
+        final List<DoublePoint> points =
+                        KMeansPlusPlusClustererTest.createBlobs(new Well19937c(0x7e3a5d1c9b2f4068l), 50000, 3, 5);
+        final SumOfClusterVariances<DoublePoint> evaluator = new SumOfClusterVariances<>(new EuclideanDistance());
+
+        final MiniBatchKMeansClusterer<DoublePoint> miniBatch =
+                        new MiniBatchKMeansClusterer<>(5, 500, 200,
+                                                       MiniBatchKMeansClusterer.DEFAULT_MAX_NO_IMPROVEMENT_TIMES,
+                                                       new EuclideanDistance(), new Well19937c(0x61l));
+        Assert.assertEquals(5, miniBatch.getK());
+        Assert.assertEquals(500, miniBatch.getMaxIterations());
+        Assert.assertEquals(200, miniBatch.getBatchSize());
+        Assert.assertEquals(10, miniBatch.getMaxNoImprovementTimes());
+        final List<CentroidCluster<DoublePoint>> approximate = miniBatch.cluster(points);
+
+        final List<CentroidCluster<DoublePoint>> full =
+                        new MultiKMeansPlusPlusClusterer<>(new KMeansPlusPlusClusterer<DoublePoint>(5, 100, new EuclideanDistance(),
+                                                                                                    new Well19937c(0x61l)),
+                                                           5).cluster(points);
+
+        Assert.assertEquals(5, approximate.size());
+        int total = 0;
+        for (final CentroidCluster<DoublePoint> cluster : approximate) {
+            total += cluster.getPoints().size();
+        }
+        Assert.assertEquals(points.size(), total);
+        Assert.assertEquals(evaluator.score(full), evaluator.score(approximate), 0.02 * evaluator.score(full));
+    }
+
+    @Test
+    public void testReproducible() {
+        final List<DoublePoint> points =
+                        KMeansPlusPlusClustererTest.createBlobs(new Well19937c(0x0c4f8b2e6d1a3795l), 2000, 2, 4);
+        final List<CentroidCluster<DoublePoint>> first =
+                        new MiniBatchKMeansClusterer<DoublePoint>(4, 100, 50, 5, new EuclideanDistance(),
+                                                                  new Well19937c(0x5fl)).cluster(points);
+        final List<CentroidCluster<DoublePoint>> second =
+                        new MiniBatchKMeansClusterer<DoublePoint>(4, 100, 50, 5, new EuclideanDistance(),
+                                                                  new Well19937c(0x5fl)).cluster(points);
+        for (int i = 0; i < first.size(); ++i) {
+            Assert.assertArrayEquals(first.get(i).getCenter().getPoint(), second.get(i).getCenter().getPoint(), 0.0);
+            Assert.assertEquals(first.get(i).getPoints(), second.get(i).getPoints());
+        }
+    }
+
+    @Test
+    public void testBatchLargerThanDataSet() {
+        final DoublePoint[] points = new DoublePoint[] {
+            new DoublePoint(new int[] { -10, 0 }), new DoublePoint(new int[] { -11, 0 }),
+            new DoublePoint(new int[] {  10, 0 }), new DoublePoint(new int[] {  11, 0 })
+        };
+        final List<CentroidCluster<DoublePoint>> clusters =
+                        new MiniBatchKMeansClusterer<DoublePoint>(2, 50, 100).cluster(Arrays.asList(points));
+        Assert.assertEquals(2, clusters.size());
+        for (final CentroidCluster<DoublePoint> cluster : clusters) {
+            Assert.assertEquals(2, cluster.getPoints().size());
+            Assert.assertEquals(10.5, Math.abs(cluster.getCenter().getPoint()[0]), 0.5);
+        }
+    }
+
+    @Test
+    public void testWrongSettings() {
+        try {
+            new MiniBatchKMeansClusterer<DoublePoint>(2, 10, 0);
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            Assert.assertEquals(LocalizedCoreFormats.NUMBER_TOO_SMALL, miae.getSpecifier());
+        }
+        try {
+            new MiniBatchKMeansClusterer<DoublePoint>(2, 10, 10, 0, new EuclideanDistance(), new Well19937c());
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            Assert.assertEquals(LocalizedCoreFormats.NUMBER_TOO_SMALL, miae.getSpecifier());
+        }
+        try {
+            new MiniBatchKMeansClusterer<DoublePoint>(3, 10, 10).
+            cluster(Arrays.asList(new DoublePoint(new int[] { 1 }), new DoublePoint(new int[] { 2 })));
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            Assert.assertEquals(LocalizedCoreFormats.NUMBER_TOO_SMALL_BOUND_EXCLUDED, miae.getSpecifier());
+        }
+    }
+
+}
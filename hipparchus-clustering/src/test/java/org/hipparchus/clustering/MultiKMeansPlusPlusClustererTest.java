@@ -25,6 +25,12 @@ package org.hipparchus.clustering;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.hipparchus.clustering.distance.EuclideanDistance;
+import org.hipparchus.clustering.evaluation.SumOfClusterVariances;
+import org.hipparchus.exception.NullArgumentException;
+import org.hipparchus.random.Well19937c;
 
 import org.junit.Assert;
 import org.junit.Test;
@@ -100,4 +106,41 @@ public class MultiKMeansPlusPlusClustererTest {
 
     }
 
+    @Test
+    public void testConcurrentTrials() {
+        final List<DoublePoint> points =
+                        KMeansPlusPlusClustererTest.createBlobs(new Well19937c(0x1d8e4c6b09a7f352l), 5000, 2, 6);
+        final SumOfClusterVariances<DoublePoint> evaluator = new SumOfClusterVariances<>(new EuclideanDistance());
+        final ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            final List<CentroidCluster<DoublePoint>> first  = runConcurrently(points, evaluator, pool);
+            final List<CentroidCluster<DoublePoint>> second = runConcurrently(points, evaluator, pool);
+            Assert.assertEquals(6, first.size());
+            Assert.assertEquals(evaluator.score(first), evaluator.score(second), 0.0);
+            for (int i = 0; i < first.size(); ++i) {
+                Assert.assertArrayEquals(first.get(i).getCenter().getPoint(),
+                                         second.get(i).getCenter().getPoint(), 0.0);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test(expected = NullArgumentException.class)
+    public void testNullPool() {
+        new MultiKMeansPlusPlusClusterer<DoublePoint>(new KMeansPlusPlusClusterer<DoublePoint>(3, 10), 5,
+                                                      new SumOfClusterVariances<>(new EuclideanDistance()), null);
+    }
+
+    private List<CentroidCluster<DoublePoint>> runConcurrently(final List<DoublePoint> points,
+                                                               final SumOfClusterVariances<DoublePoint> evaluator,
+                                                               final ForkJoinPool pool) {
+        final MultiKMeansPlusPlusClusterer<DoublePoint> clusterer =
+                        new MultiKMeansPlusPlusClusterer<>(new KMeansPlusPlusClusterer<DoublePoint>(6, 100, new EuclideanDistance(),
+                                                                                                    new Well19937c(0x2bl)),
+                                                           8, evaluator, pool);
+        Assert.assertSame(pool, clusterer.getPool());
+        return clusterer.cluster(points);
+    }
+
 }
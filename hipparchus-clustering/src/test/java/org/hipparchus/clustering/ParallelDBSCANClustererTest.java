@@ -0,0 +1,142 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hipparchus.clustering;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.hipparchus.clustering.distance.CanberraDistance;
+import org.hipparchus.clustering.distance.ChebyshevDistance;
+import org.hipparchus.clustering.distance.DistanceMeasure;
+import org.hipparchus.clustering.distance.EuclideanDistance;
+import org.hipparchus.clustering.distance.ManhattanDistance;
+import org.hipparchus.exception.MathIllegalArgumentException;
+import org.hipparchus.exception.NullArgumentException;
+import org.hipparchus.random.RandomGenerator;
+import org.hipparchus.random.Well19937c;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ParallelDBSCANClustererTest {
+
+    @Test
+    public void testSameAsSequential2D() {
+        checkSameAsSequential(createBlobs(new Well19937c(0x2f7a1c9e4b3d8065l), 3000, 2, 12),
+                              new EuclideanDistance(), 0.6, 5);
+    }
+
+    @Test
+    public void testSameAsSequentialHighDimension() {
+        checkSameAsSequential(createBlobs(new Well19937c(0x6b0e3d95c1a2f478l), 1500, 6, 8),
+                              new EuclideanDistance(), 1.5, 4);
+    }
+
+    @Test
+    public void testSameAsSequentialOtherMeasures() {
+        final List<DoublePoint> points = createBlobs(new Well19937c(0x18c4f2a7d93e5b60l), 1000, 3, 6);
+        checkSameAsSequential(points, new ManhattanDistance(), 1.2, 4);
+        checkSameAsSequential(points, new ChebyshevDistance(), 0.6, 4);
+        // no pruning possible with this measure, all points are candidates
+        checkSameAsSequential(points, new CanberraDistance(), 0.05, 4);
+    }
+
+    @Test
+    public void testDuplicatesAndZeroEps() {
+        final List<DoublePoint> points = new ArrayList<>();
+        final DoublePoint shared = new DoublePoint(new double[] { 1.0, 1.0 });
+        for (int i = 0; i < 5; ++i) {
+            points.add(new DoublePoint(new double[] { 1.0, 1.0 }));
+            points.add(shared);
+            points.add(new DoublePoint(new double[] { 3.0, i }));
+        }
+        checkSameAsSequential(points, new EuclideanDistance(), 0.0, 3);
+        checkSameAsSequential(points, new EuclideanDistance(), 1.0, 3);
+    }
+
+    @Test
+    public void testEmpty() {
+        Assert.assertTrue(new ParallelDBSCANClusterer<DoublePoint>(1.0, 3).
+                          cluster(Collections.emptyList()).isEmpty());
+    }
+
+    @Test(expected = NullArgumentException.class)
+    public void testNullDataset() {
+        new ParallelDBSCANClusterer<DoublePoint>(2.0, 5).cluster(null);
+    }
+
+    @Test(expected = NullArgumentException.class)
+    public void testNullPool() {
+        new ParallelDBSCANClusterer<DoublePoint>(2.0, 5, new EuclideanDistance(), null);
+    }
+
+    @Test(expected = MathIllegalArgumentException.class)
+    public void testNegativeEps() {
+        new ParallelDBSCANClusterer<DoublePoint>(-2.0, 5);
+    }
+
+    private void checkSameAsSequential(final List<DoublePoint> points, final DistanceMeasure measure,
+                                       final double eps, final int minPts) {
+        final List<Cluster<DoublePoint>> expected =
+                        new DBSCANClusterer<DoublePoint>(eps, minPts, measure).cluster(points);
+        final ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            final List<Cluster<DoublePoint>> actual =
+                            new ParallelDBSCANClusterer<DoublePoint>(eps, minPts, measure, pool).cluster(points);
+            Assert.assertEquals(expected.size(), actual.size());
+            for (int i = 0; i < expected.size(); ++i) {
+                final List<DoublePoint> e = expected.get(i).getPoints();
+                final List<DoublePoint> a = actual.get(i).getPoints();
+                Assert.assertEquals(e.size(), a.size());
+                for (int j = 0; j < e.size(); ++j) {
+                    Assert.assertSame(e.get(j), a.get(j));
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private List<DoublePoint> createBlobs(final RandomGenerator random, final int n,
+                                          final int dimension, final int blobs) {
+        final double[][] centers = new double[blobs][dimension];
+        for (final double[] center : centers) {
+            for (int j = 0; j < dimension; ++j) {
+                center[j] = 100 * random.nextDouble();
+            }
+        }
+        final List<DoublePoint> points = new ArrayList<>(n);
+        for (int i = 0; i < n; ++i) {
+            final double[] p = new double[dimension];
+            if (random.nextDouble() < 0.1) {
+                // noise
+                for (int j = 0; j < dimension; ++j) {
+                    p[j] = 100 * random.nextDouble();
+                }
+            } else {
+                final double[] center = centers[random.nextInt(blobs)];
+                for (int j = 0; j < dimension; ++j) {
+                    p[j] = center[j] + random.nextGaussian();
+                }
+            }
+            points.add(new DoublePoint(p));
+        }
+        return points;
+    }
+
+}
@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.hipparchus.analysis;
+
+/**
+ * An interface representing a multivariate real function that can
+ * be evaluated at several points in one call.
+ * <p>
+ * Evaluating all points at once allows implementations to amortize
+ * per-call set-up costs, or to distribute the evaluations by themselves,
+ * for example on several cores or on a cluster. Algorithms that need
+ * the values at several independent points, like population-based
+ * optimizers, use this method when available.
+ * </p>
+ * @since 3.1
+ */
+public interface BatchMultivariateFunction extends MultivariateFunction {
+
+    /**
+     * Compute the values of the function at several points.
+     *
+     * @param points Points at which the function must be evaluated,
+     * one point per row.
+     * @return the function values, one for each point, in the same order
+     * as the points.
+     * @throws org.hipparchus.exception.MathIllegalArgumentException
+     * if the dimension of some points is wrong for the function being evaluated.
+     */
+    double[] value(double[][] points);
+
+    /**
+     * Compute the value for the function at the given point.
+     * <p>
+     * The default implementation delegates to {@link #value(double[][])}
+     * with a single point.
+     * </p>
+     *
+     * @param point Point at which the function must be evaluated.
+     * @return the function value for the given point.
+     * @throws org.hipparchus.exception.MathIllegalArgumentException
+     * if the parameter's dimension is wrong for the function being evaluated.
+     */
+    @Override
+    default double value(double[] point) {
+        return value(new double[][] { point })[0];
+    }
+
+}
@@ -524,6 +524,9 @@ public enum LocalizedCoreFormats implements Localizable {
     /** SINGULAR_OPERATOR. */
     SINGULAR_OPERATOR("operator is singular"),
 
+    /** SPARSITY_PATTERN_MISMATCH. */
+    SPARSITY_PATTERN_MISMATCH("sparsity pattern differs from the analyzed one"),
+
     /** SUBARRAY_ENDS_AFTER_ARRAY_END. */
     SUBARRAY_ENDS_AFTER_ARRAY_END("subarray ends after array end"),
 
@@ -0,0 +1,424 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hipparchus.linear;
+
+import org.hipparchus.FieldElement;
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.exception.MathIllegalArgumentException;
+import org.hipparchus.util.MathArrays;
+
+/**
+ * Base class for dense field matrices using a structure of arrays layout.
+ * <p>
+ * Instead of one field element object per entry as in {@link Array2DRowFieldMatrix}
+ * or {@link BlockFieldMatrix}, the components of the entries (value and derivatives)
+ * are stored in separate planes, each plane being a flat {@code double} array
+ * holding one component for all entries in row major order: component k of entry
+ * (i, j) is stored in element {@code i * columns + j} of {@link #getPlaneRef(int)
+ * plane k}. Additions, matrix products and matrix-vector products are computed
+ * directly on the planes, without creating any field element object, so their
+ * cost is comparable to a few real matrices operations. Field elements are
+ * only created when entries are retrieved one at a time.
+ * </p>
+ * <p>
+ * As operations are performed component-wise rather than by the field elements
+ * themselves, results may differ from the ones of {@link Array2DRowFieldMatrix}
+ * by a few ulps.
+ * </p>
+ * @param <T> the type of the field elements
+ * @see AbstractPlanesFieldVector
+ * @since 3.1
+ */
+public abstract class AbstractPlanesFieldMatrix<T extends FieldElement<T>> extends AbstractFieldMatrix<T> {
+
+    /** Layout of the elements. */
+    private final FieldPlanes<T> layout;
+
+    /** Number of rows of the matrix. */
+    private final int rows;
+
+    /** Number of columns of the matrix. */
+    private final int columns;
+
+    /** Planes of the entries, in row major order. */
+    private final double[][] planes;
+
+    /**
+     * Create a matrix with all entries set to zero.
+     * @param layout layout of the elements
+     * @param rows number of rows
+     * @param columns number of columns
+     * @throws MathIllegalArgumentException if row or column dimension is not positive
+     */
+    AbstractPlanesFieldMatrix(final FieldPlanes<T> layout, final int rows, final int columns)
+        throws MathIllegalArgumentException {
+        this(layout, rows, columns, allocate(layout, rows, columns));
+    }
+
+    /**
+     * Create a matrix by copying another matrix.
+     * @param layout layout of the elements
+     * @param matrix matrix to copy
+     */
+    AbstractPlanesFieldMatrix(final FieldPlanes<T> layout, final FieldMatrix<T> matrix) {
+        this(layout, matrix.getRowDimension(), matrix.getColumnDimension(),
+             decompose(layout, matrix, true));
+    }
+
+    /**
+     * Create a matrix using the input planes as the underlying data.
+     * @param layout layout of the elements
+     * @param rows number of rows
+     * @param columns number of columns
+     * @param planes planes of the entries, in row major order (not copied)
+     * @throws MathIllegalArgumentException if row or column dimension is not positive
+     */
+    AbstractPlanesFieldMatrix(final FieldPlanes<T> layout, final int rows, final int columns,
+                              final double[][] planes)
+        throws MathIllegalArgumentException {
+        super(layout.getField(), rows, columns);
+        this.layout  = layout;
+        this.rows    = rows;
+        this.columns = columns;
+        this.planes  = planes;
+    }
+
+    /** Allocate planes for a matrix.
+     * @param <T> the type of the field elements
+     * @param layout layout of the elements
+     * @param rows number of rows
+     * @param columns number of columns
+     * @return planes with all entries set to zero
+     * @throws MathIllegalArgumentException if row or column dimension is not positive
+     */
+    private static <T extends FieldElement<T>> double[][] allocate(final FieldPlanes<T> layout,
+                                                                   final int rows, final int columns)
+        throws MathIllegalArgumentException {
+        if (rows <= 0) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.DIMENSION, rows);
+        }
+        if (columns <= 0) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.DIMENSION, columns);
+        }
+        return layout.allocate(rows * columns);
+    }
+
+    /** Build a matrix sharing the same layout.
+     * @param rowDimension number of rows
+     * @param columnDimension number of columns
+     * @param p planes of the entries, in row major order (not copied)
+     * @return new matrix
+     */
+    protected abstract AbstractPlanesFieldMatrix<T> create(int rowDimension, int columnDimension, double[][] p);
+
+    /** Build a vector sharing the same layout.
+     * @param p planes of the entries (not copied)
+     * @return new vector
+     */
+    protected abstract AbstractPlanesFieldVector<T> createVector(double[][] p);
+
+    /** Get the planes of a matrix.
+     * @param <T> the type of the field elements
+     * @param layout layout of the elements
+     * @param matrix matrix to decompose
+     * @param copy if true, planes of matrices with compatible layouts are copied
+     * @return planes of the matrix entries, in row major order
+     */
+    private static <T extends FieldElement<T>> double[][] decompose(final FieldPlanes<T> layout,
+                                                                    final FieldMatrix<T> matrix,
+                                                                    final boolean copy) {
+        if (matrix instanceof AbstractPlanesFieldMatrix &&
+            layout.isCompatible(((AbstractPlanesFieldMatrix<T>) matrix).layout)) {
+            final double[][] p = ((AbstractPlanesFieldMatrix<T>) matrix).planes;
+            if (!copy) {
+                return p;
+            }
+            final double[][] c = new double[p.length][];
+            for (int k = 0; k < p.length; ++k) {
+                c[k] = p[k].clone();
+            }
+            return c;
+        }
+        final int nRows = matrix.getRowDimension();
+        final int nCols = matrix.getColumnDimension();
+        final double[][] p = layout.allocate(nRows * nCols);
+        for (int i = 0; i < nRows; ++i) {
+            for (int j = 0; j < nCols; ++j) {
+                layout.store(matrix.getEntry(i, j), p, i * nCols + j);
+            }
+        }
+        return p;
+    }
+
+    /** Get the planes of a vector.
+     * @param v vector to decompose
+     * @return planes of the vector entries
+     */
+    private double[][] decompose(final FieldVector<T> v) {
+        if (v instanceof AbstractPlanesFieldVector &&
+            layout.isCompatible(((AbstractPlanesFieldVector<T>) v).getLayout())) {
+            return ((AbstractPlanesFieldVector<T>) v).getPlanes();
+        }
+        final double[][] p = layout.allocate(v.getDimension());
+        for (int i = 0; i < v.getDimension(); ++i) {
+            layout.store(v.getEntry(i), p, i);
+        }
+        return p;
+    }
+
+    /** Get the planes of an array.
+     * @param v array to decompose
+     * @return planes of the array elements
+     */
+    private double[][] decompose(final T[] v) {
+        final double[][] p = layout.allocate(v.length);
+        for (int i = 0; i < v.length; ++i) {
+            layout.store(v[i], p, i);
+        }
+        return p;
+    }
+
+    /** Build an array from planes.
+     * @param p planes of the array elements
+     * @param n number of elements
+     * @return array
+     */
+    private T[] toArray(final double[][] p, final int n) {
+        final T[] out = MathArrays.buildArray(getField(), n);
+        for (int i = 0; i < n; ++i) {
+            out[i] = layout.build(p, i);
+        }
+        return out;
+    }
+
+    /** Get the layout of the elements.
+     * @return layout of the elements
+     */
+    FieldPlanes<T> getLayout() {
+        return layout;
+    }
+
+    /** Get the number of planes.
+     * <p>
+     * Plane 0 holds the values, the other planes hold the derivatives.
+     * </p>
+     * @return number of planes
+     */
+    public int getPlanesNumber() {
+        return planes.length;
+    }
+
+    /**
+     * Gets a reference to one plane of the underlying data.
+     * <p>
+     * The plane layout is the one described in the class documentation.
+     * </p>
+     * @param k index of the plane
+     * @return reference to the plane, in row major order
+     */
+    public double[] getPlaneRef(final int k) {
+        return planes[k]; // NOPMD - returning an internal array is intentional and documented here
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public AbstractPlanesFieldMatrix<T> createMatrix(final int rowDimension, final int columnDimension)
+        throws MathIllegalArgumentException {
+        return create(rowDimension, columnDimension, allocate(layout, rowDimension, columnDimension));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public AbstractPlanesFieldMatrix<T> copy() {
+        return create(rows, columns, decompose(layout, this, true));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int getRowDimension() {
+        return rows;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int getColumnDimension() {
+        return columns;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public T getEntry(final int row, final int column) throws MathIllegalArgumentException {
+        checkRowIndex(row);
+        checkColumnIndex(column);
+        return layout.build(planes, row * columns + column);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void setEntry(final int row, final int column, final T value) throws MathIllegalArgumentException {
+        checkRowIndex(row);
+        checkColumnIndex(column);
+        layout.store(value, planes, row * columns + column);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void addToEntry(final int row, final int column, final T increment)
+        throws MathIllegalArgumentException {
+        checkRowIndex(row);
+        checkColumnIndex(column);
+        final int index = row * columns + column;
+        for (int k = 0; k < planes.length; ++k) {
+            planes[k][index] += layout.component(increment, k);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void multiplyEntry(final int row, final int column, final T factor)
+        throws MathIllegalArgumentException {
+        checkRowIndex(row);
+        checkColumnIndex(column);
+        final int index = row * columns + column;
+        layout.multiply(planes, index, layout.decompose(factor), 0, planes, index);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public AbstractPlanesFieldMatrix<T> add(final FieldMatrix<T> m) throws MathIllegalArgumentException {
+        checkAdditionCompatible(m);
+        final double[][] other = decompose(layout, m, false);
+        final double[][] out   = layout.allocate(rows * columns);
+        for (int k = 0; k < planes.length; ++k) {
+            final double[] pk = planes[k];
+            final double[] ok = other[k];
+            final double[] outK = out[k];
+            for (int i = 0; i < outK.length; ++i) {
+                outK[i] = pk[i] + ok[i];
+            }
+        }
+        return create(rows, columns, out);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public AbstractPlanesFieldMatrix<T> subtract(final FieldMatrix<T> m) throws MathIllegalArgumentException {
+        checkSubtractionCompatible(m);
+        final double[][] other = decompose(layout, m, false);
+        final double[][] out   = layout.allocate(rows * columns);
+        for (int k = 0; k < planes.length; ++k) {
+            final double[] pk = planes[k];
+            final double[] ok = other[k];
+            final double[] outK = out[k];
+            for (int i = 0; i < outK.length; ++i) {
+                outK[i] = pk[i] - ok[i];
+            }
+        }
+        return create(rows, columns, out);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public AbstractPlanesFieldMatrix<T> scalarAdd(final T d) {
+        final double[][] out = layout.allocate(rows * columns);
+        for (int k = 0; k < planes.length; ++k) {
+            final double   dk   = layout.component(d, k);
+            final double[] pk   = planes[k];
+            final double[] outK = out[k];
+            for (int i = 0; i < outK.length; ++i) {
+                outK[i] = pk[i] + dk;
+            }
+        }
+        return create(rows, columns, out);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public AbstractPlanesFieldMatrix<T> scalarMultiply(final T d) {
+        final double[][] dPlanes = layout.decompose(d);
+        final double[][] out     = layout.allocate(rows * columns);
+        for (int i = 0; i < rows * columns; ++i) {
+            layout.multiply(planes, i, dPlanes, 0, out, i);
+        }
+        return create(rows, columns, out);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public AbstractPlanesFieldMatrix<T> multiply(final FieldMatrix<T> m) throws MathIllegalArgumentException {
+        checkMultiplicationCompatible(m);
+        final int nCols = m.getColumnDimension();
+        return create(rows, nCols, layout.multiply(planes, decompose(layout, m, false), rows, columns, nCols));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public AbstractPlanesFieldMatrix<T> transpose() {
+        final double[][] out = layout.allocate(rows * columns);
+        for (int k = 0; k < planes.length; ++k) {
+            final double[] pk   = planes[k];
+            final double[] outK = out[k];
+            for (int i = 0; i < rows; ++i) {
+                for (int j = 0; j < columns; ++j) {
+                    outK[j * rows + i] = pk[i * columns + j];
+                }
+            }
+        }
+        return create(columns, rows, out);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public T[] operate(final T[] v) throws MathIllegalArgumentException {
+        checkLength(v.length, columns);
+        return toArray(layout.operate(planes, decompose(v), rows, columns), rows);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public AbstractPlanesFieldVector<T> operate(final FieldVector<T> v) throws MathIllegalArgumentException {
+        checkLength(v.getDimension(), columns);
+        return createVector(layout.operate(planes, decompose(v), rows, columns));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public T[] preMultiply(final T[] v) throws MathIllegalArgumentException {
+        checkLength(v.length, rows);
+        return toArray(layout.preMultiply(decompose(v), planes, rows, columns), columns);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public AbstractPlanesFieldVector<T> preMultiply(final FieldVector<T> v) throws MathIllegalArgumentException {
+        checkLength(v.getDimension(), rows);
+        return createVector(layout.preMultiply(decompose(v), planes, rows, columns));
+    }
+
+    /** Check a vector length.
+     * @param length vector length
+     * @param expected expected length
+     * @exception MathIllegalArgumentException if length does not match expected length
+     */
+    private static void checkLength(final int length, final int expected) throws MathIllegalArgumentException {
+        if (length != expected) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.DIMENSIONS_MISMATCH,
+                                                   length, expected);
+        }
+    }
+
+}
@@ -0,0 +1,503 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hipparchus.linear;
+
+import org.hipparchus.Field;
+import org.hipparchus.FieldElement;
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.exception.MathIllegalArgumentException;
+import org.hipparchus.exception.MathRuntimeException;
+import org.hipparchus.exception.NullArgumentException;
+import org.hipparchus.util.MathArrays;
+import org.hipparchus.util.MathUtils;
+
+/**
+ * Base class for field vectors using a structure of arrays layout.
+ * <p>
+ * Instead of one field element object per entry as in {@link ArrayFieldVector},
+ * the components of the entries (value and derivatives) are stored in separate
+ * planes, each plane being a flat {@code double} array holding one component
+ * for all entries. Additions, multiplications, dot products and outer products
+ * are computed directly on the planes, without creating any field element object.
+ * Field elements are only created when entries are retrieved one at a time, and
+ * for the operations that are not polynomial (divisions and inversions).
+ * </p>
+ * @param <T> the type of the field elements
+ * @see AbstractPlanesFieldMatrix
+ * @since 3.1
+ */
+public abstract class AbstractPlanesFieldVector<T extends FieldElement<T>> implements FieldVector<T> {
+
+    /** Layout of the elements. */
+    private final FieldPlanes<T> layout;
+
+    /** Planes of the entries. */
+    private final double[][] planes;
+
+    /**
+     * Create a vector with all entries set to zero.
+     * @param layout layout of the elements
+     * @param size dimension of the vector
+     */
+    AbstractPlanesFieldVector(final FieldPlanes<T> layout, final int size) {
+        this(layout, layout.allocate(size));
+    }
+
+    /**
+     * Create a vector by copying another vector.
+     * @param layout layout of the elements
+     * @param v vector to copy
+     */
+    AbstractPlanesFieldVector(final FieldPlanes<T> layout, final FieldVector<T> v) {
+        this(layout, decompose(layout, v, true));
+    }
+
+    /**
+     * Create a vector using the input planes as the underlying data.
+     * @param layout layout of the elements
+     * @param planes planes of the entries (not copied)
+     */
+    AbstractPlanesFieldVector(final FieldPlanes<T> layout, final double[][] planes) {
+        this.layout = layout;
+        this.planes = planes;
+    }
+
+    /** Build a vector sharing the same layout.
+     * @param p planes of the entries (not copied)
+     * @return new vector
+     */
+    protected abstract AbstractPlanesFieldVector<T> create(double[][] p);
+
+    /** Build a matrix sharing the same layout.
+     * @param rowDimension number of rows
+     * @param columnDimension number of columns
+     * @param p planes of the entries, in row major order (not copied)
+     * @return new matrix
+     */
+    protected abstract AbstractPlanesFieldMatrix<T> createMatrix(int rowDimension, int columnDimension,
+                                                                 double[][] p);
+
+    /** Get the planes of a vector.
+     * @param <T> the type of the field elements
+     * @param layout layout of the elements
+     * @param v vector to decompose
+     * @param copy if true, planes of vectors with compatible layouts are copied
+     * @return planes of the vector entries
+     */
+    private static <T extends FieldElement<T>> double[][] decompose(final FieldPlanes<T> layout,
+                                                                    final FieldVector<T> v,
+                                                                    final boolean copy) {
+        if (v instanceof AbstractPlanesFieldVector &&
+            layout.isCompatible(((AbstractPlanesFieldVector<T>) v).layout)) {
+            final double[][] p = ((AbstractPlanesFieldVector<T>) v).planes;
+            if (!copy) {
+                return p;
+            }
+            final double[][] c = new double[p.length][];
+            for (int k = 0; k < p.length; ++k) {
+                c[k] = p[k].clone();
+            }
+            return c;
+        }
+        final double[][] p = layout.allocate(v.getDimension());
+        for (int i = 0; i < v.getDimension(); ++i) {
+            layout.store(v.getEntry(i), p, i);
+        }
+        return p;
+    }
+
+    /** Get the layout of the elements.
+     * @return layout of the elements
+     */
+    FieldPlanes<T> getLayout() {
+        return layout;
+    }
+
+    /** Get a reference to the planes.
+     * @return reference to the planes
+     */
+    double[][] getPlanes() {
+        return planes;
+    }
+
+    /** Get the number of planes.
+     * <p>
+     * Plane 0 holds the values, the other planes hold the derivatives.
+     * </p>
+     * @return number of planes
+     */
+    public int getPlanesNumber() {
+        return planes.length;
+    }
+
+    /**
+     * Gets a reference to one plane of the underlying data.
+     * @param k index of the plane
+     * @return reference to the plane
+     */
+    public double[] getPlaneRef(final int k) {
+        return planes[k]; // NOPMD - returning an internal array is intentional and documented here
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Field<T> getField() {
+        return layout.getField();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public AbstractPlanesFieldVector<T> copy() {
+        return create(decompose(layout, this, true));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int getDimension() {
+        return planes[0].length;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public T getEntry(final int index) throws MathIllegalArgumentException {
+        checkIndex(index);
+        return layout.build(planes, index);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void setEntry(final int index, final T value) throws MathIllegalArgumentException {
+        checkIndex(index);
+        layout.store(value, planes, index);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public AbstractPlanesFieldVector<T> add(final FieldVector<T> v) throws MathIllegalArgumentException {
+        checkVectorDimensions(v);
+        final double[][] other = decompose(layout, v, false);
+        final double[][] out   = layout.allocate(getDimension());
+        for (int k = 0; k < planes.length; ++k) {
+            for (int i = 0; i < out[k].length; ++i) {
+                out[k][i] = planes[k][i] + other[k][i];
+            }
+        }
+        return create(out);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public AbstractPlanesFieldVector<T> subtract(final FieldVector<T> v) throws MathIllegalArgumentException {
+        checkVectorDimensions(v);
+        final double[][] other = decompose(layout, v, false);
+        final double[][] out   = layout.allocate(getDimension());
+        for (int k = 0; k < planes.length; ++k) {
+            for (int i = 0; i < out[k].length; ++i) {
+                out[k][i] = planes[k][i] - other[k][i];
+            }
+        }
+        return create(out);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public AbstractPlanesFieldVector<T> mapAdd(final T d) throws NullArgumentException {
+        return copy().mapAddToSelf(d);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public AbstractPlanesFieldVector<T> mapAddToSelf(final T d) throws NullArgumentException {
+        MathUtils.checkNotNull(d);
+        for (int k = 0; k < planes.length; ++k) {
+            final double dk = layout.component(d, k);
+            for (int i = 0; i < planes[k].length; ++i) {
+                planes[k][i] += dk;
+            }
+        }
+        return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public AbstractPlanesFieldVector<T> mapSubtract(final T d) throws NullArgumentException {
+        return copy().mapSubtractToSelf(d);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public AbstractPlanesFieldVector<T> mapSubtractToSelf(final T d) throws NullArgumentException {
+        MathUtils.checkNotNull(d);
+        for (int k = 0; k < planes.length; ++k) {
+            final double dk = layout.component(d, k);
+            for (int i = 0; i < planes[k].length; ++i) {
+                planes[k][i] -= dk;
+            }
+        }
+        return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public AbstractPlanesFieldVector<T> mapMultiply(final T d) throws NullArgumentException {
+        return copy().mapMultiplyToSelf(d);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public AbstractPlanesFieldVector<T> mapMultiplyToSelf(final T d) throws NullArgumentException {
+        MathUtils.checkNotNull(d);
+        final double[][] dPlanes = layout.decompose(d);
+        for (int i = 0; i < getDimension(); ++i) {
+            layout.multiply(planes, i, dPlanes, 0, planes, i);
+        }
+        return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public AbstractPlanesFieldVector<T> mapDivide(final T d)
+        throws NullArgumentException, MathRuntimeException {
+        return copy().mapDivideToSelf(d);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public AbstractPlanesFieldVector<T> mapDivideToSelf(final T d)
+        throws NullArgumentException, MathRuntimeException {
+        MathUtils.checkNotNull(d);
+        for (int i = 0; i < getDimension(); ++i) {
+            layout.store(layout.build(planes, i).divide(d), planes, i);
+        }
+        return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public AbstractPlanesFieldVector<T> mapInv() throws MathRuntimeException {
+        return copy().mapInvToSelf();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public AbstractPlanesFieldVector<T> mapInvToSelf() throws MathRuntimeException {
+        final T one = getField().getOne();
+        for (int i = 0; i < getDimension(); ++i) {
+            try {
+                layout.store(one.divide(layout.build(planes, i)), planes, i);
+            } catch (final MathRuntimeException e) {
+                throw new MathRuntimeException(e, LocalizedCoreFormats.INDEX, i);
+            }
+        }
+        return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public AbstractPlanesFieldVector<T> ebeMultiply(final FieldVector<T> v) throws MathIllegalArgumentException {
+        checkVectorDimensions(v);
+        final double[][] other = decompose(layout, v, false);
+        final double[][] out   = layout.allocate(getDimension());
+        for (int i = 0; i < getDimension(); ++i) {
+            layout.multiply(planes, i, other, i, out, i);
+        }
+        return create(out);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public AbstractPlanesFieldVector<T> ebeDivide(final FieldVector<T> v)
+        throws MathIllegalArgumentException, MathRuntimeException {
+        checkVectorDimensions(v);
+        final double[][] out = layout.allocate(getDimension());
+        for (int i = 0; i < getDimension(); ++i) {
+            try {
+                layout.store(layout.build(planes, i).divide(v.getEntry(i)), out, i);
+            } catch (final MathRuntimeException e) {
+                throw new MathRuntimeException(e, LocalizedCoreFormats.INDEX, i);
+            }
+        }
+        return create(out);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public T dotProduct(final FieldVector<T> v) throws MathIllegalArgumentException {
+        checkVectorDimensions(v);
+        return layout.dotProduct(planes, decompose(layout, v, false), getDimension());
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public AbstractPlanesFieldVector<T> projection(final FieldVector<T> v)
+        throws MathIllegalArgumentException, MathRuntimeException {
+        final AbstractPlanesFieldVector<T> w = create(decompose(layout, v, true));
+        return w.mapMultiplyToSelf(dotProduct(w).divide(w.dotProduct(w)));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public AbstractPlanesFieldMatrix<T> outerProduct(final FieldVector<T> v) {
+        final int m = getDimension();
+        final int n = v.getDimension();
+        return createMatrix(m, n, layout.outerProduct(planes, m, decompose(layout, v, false), n));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public AbstractPlanesFieldVector<T> append(final FieldVector<T> v) {
+        final double[][] other = decompose(layout, v, false);
+        final double[][] out   = layout.allocate(getDimension() + v.getDimension());
+        for (int k = 0; k < planes.length; ++k) {
+            System.arraycopy(planes[k], 0, out[k], 0, getDimension());
+            System.arraycopy(other[k], 0, out[k], getDimension(), v.getDimension());
+        }
+        return create(out);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public AbstractPlanesFieldVector<T> append(final T d) {
+        final double[][] out = layout.allocate(getDimension() + 1);
+        for (int k = 0; k < planes.length; ++k) {
+            System.arraycopy(planes[k], 0, out[k], 0, getDimension());
+        }
+        layout.store(d, out, getDimension());
+        return create(out);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public AbstractPlanesFieldVector<T> getSubVector(final int index, final int n)
+        throws MathIllegalArgumentException {
+        if (n < 0) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.NUMBER_OF_ELEMENTS_SHOULD_BE_POSITIVE, n);
+        }
+        if (n > 0) {
+            checkIndex(index);
+            checkIndex(index + n - 1);
+        }
+        final double[][] out = layout.allocate(n);
+        for (int k = 0; k < planes.length; ++k) {
+            System.arraycopy(planes[k], index, out[k], 0, n);
+        }
+        return create(out);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void setSubVector(final int index, final FieldVector<T> v) throws MathIllegalArgumentException {
+        final int n = v.getDimension();
+        if (n > 0) {
+            checkIndex(index);
+            checkIndex(index + n - 1);
+        }
+        final double[][] other = decompose(layout, v, false);
+        for (int k = 0; k < planes.length; ++k) {
+            System.arraycopy(other[k], 0, planes[k], index, n);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void set(final T value) {
+        for (int k = 0; k < planes.length; ++k) {
+            final double vk = layout.component(value, k);
+            for (int i = 0; i < planes[k].length; ++i) {
+                planes[k][i] = vk;
+            }
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public T[] toArray() {
+        final T[] out = MathArrays.buildArray(getField(), getDimension());
+        for (int i = 0; i < out.length; ++i) {
+            out[i] = layout.build(planes, i);
+        }
+        return out;
+    }
+
+    /**
+     * Test for the equality of two vectors.
+     *
+     * @param other Object to test for equality.
+     * @return {@code true} if two vector objects are equal, {@code false}
+     * otherwise.
+     */
+    @Override
+    public boolean equals(final Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof FieldVector)) {
+            return false;
+        }
+        final FieldVector<?> rhs = (FieldVector<?>) other;
+        if (getDimension() != rhs.getDimension()) {
+            return false;
+        }
+        for (int i = 0; i < getDimension(); ++i) {
+            if (!layout.build(planes, i).equals(rhs.getEntry(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Get a hashCode for the real vector.
+     * <p>All NaN values have the same hash code.</p>
+     * @return a hash code value for this object
+     */
+    @Override
+    public int hashCode() {
+        int h = 3542;
+        for (int i = 0; i < getDimension(); ++i) {
+            h ^= layout.build(planes, i).hashCode();
+        }
+        return h;
+    }
+
+    /**
+     * Check if an index is valid.
+     *
+     * @param index Index to check.
+     * @exception MathIllegalArgumentException if the index is not valid.
+     */
+    private void checkIndex(final int index) throws MathIllegalArgumentException {
+        if (index < 0 || index >= getDimension()) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.INDEX,
+                                                   index, 0, getDimension() - 1);
+        }
+    }
+
+    /**
+     * Check if instance and specified vectors have the same dimension.
+     *
+     * @param v vector to compare instance with
+     * @exception MathIllegalArgumentException if the vectors do not have the same dimension
+     */
+    private void checkVectorDimensions(final FieldVector<T> v) throws MathIllegalArgumentException {
+        if (v.getDimension() != getDimension()) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.DIMENSIONS_MISMATCH,
+                                                   v.getDimension(), getDimension());
+        }
+    }
+
+}
@@ -0,0 +1,306 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hipparchus.linear;
+
+import java.util.Arrays;
+
+import org.hipparchus.util.FastMath;
+
+/** Approximate minimum degree fill-reducing ordering.
+ * <p>
+ * This class computes a symmetric permutation of a sparse matrix which
+ * reduces the fill-in of its Cholesky or LU factors, using the approximate
+ * minimum degree algorithm of Amestoy, Davis and Duff. The elimination is
+ * simulated on a quotient graph, where each eliminated variable becomes an
+ * element representing the clique it created, so the memory used never
+ * exceeds the size of the pattern plus the size of the elements. The degree
+ * of the variables adjacent to each pivot is replaced by an upper bound which
+ * is cheap to compute. Elements whose variables all belong to a new element
+ * are absorbed aggressively.
+ * </p>
+ * <p>
+ * Supervariable detection and mass elimination, which speed up the algorithm
+ * on matrices with many identical rows, are not implemented.
+ * </p>
+ * <p>
+ * Only the pattern of A + A<sup>T</sup> is used, values are ignored.
+ * </p>
+ * @see <a href="https://doi.org/10.1137/S0895479894278952">P. R. Amestoy, T. A. Davis and I. S. Duff,
+ * An Approximate Minimum Degree Ordering Algorithm, SIAM Journal on Matrix Analysis and Applications
+ * 17(4): 886-905, 1996</a>
+ * @since 3.1
+ */
+final class ApproximateMinimumDegree {
+
+    /** Empty adjacency list. */
+    private static final int[] EMPTY = new int[0];
+
+    /** Private constructor for a utility class.
+     */
+    private ApproximateMinimumDegree() {
+        // nothing to do
+    }
+
+    /** Compute a fill-reducing ordering.
+     * @param n dimension of the square matrix
+     * @param rowStart index of first entry of each row in compressed sparse row format
+     * @param columnIndex column indices of the entries in compressed sparse row format
+     * @return permutation, element k being the index of the k<sup>th</sup> pivot
+     */
+    static int[] order(final int n, final int[] rowStart, final int[] columnIndex) {
+
+        // quotient graph
+        final int[][]   varAdj     = symmetricAdjacency(n, rowStart, columnIndex);
+        final int[]     varLen     = new int[n];
+        final int[][]   elemAdj    = new int[n][];
+        final int[]     elemLen    = new int[n];
+        final int[][]   elemVars   = new int[n][];
+        final boolean[] eliminated = new boolean[n];
+        final boolean[] absorbed   = new boolean[n];
+
+        // degree lists
+        final int[] degree = new int[n];
+        final int[] head   = new int[n];
+        final int[] next   = new int[n];
+        final int[] prev   = new int[n];
+        Arrays.fill(head, -1);
+        for (int i = 0; i < n; ++i) {
+            varLen[i]  = varAdj[i].length;
+            elemAdj[i] = EMPTY;
+            degree[i]  = varLen[i];
+            insert(i, degree[i], head, next, prev);
+        }
+
+        // work arrays
+        final int[] mark   = new int[n];
+        final int[] w      = new int[n];
+        final int[] wMark  = new int[n];
+        final int[] lp     = new int[n];
+        int stamp          = 0;
+        int minDegree      = 0;
+
+        final int[] permutation = new int[n];
+        for (int step = 0; step < n; ++step) {
+
+            // select pivot
+            while (head[minDegree] < 0) {
+                ++minDegree;
+            }
+            final int p = head[minDegree];
+            remove(p, degree[p], head, next, prev);
+            eliminated[p]     = true;
+            permutation[step] = p;
+
+            // build the new element Lp from the variables and elements adjacent to the pivot
+            mark[p] = ++stamp;
+            int size = 0;
+            for (int k = 0; k < varLen[p]; ++k) {
+                final int v = varAdj[p][k];
+                if (!eliminated[v] && mark[v] != stamp) {
+                    mark[v] = stamp;
+                    lp[size++] = v;
+                }
+            }
+            for (int k = 0; k < elemLen[p]; ++k) {
+                final int e = elemAdj[p][k];
+                if (!absorbed[e]) {
+                    for (final int v : elemVars[e]) {
+                        if (!eliminated[v] && mark[v] != stamp) {
+                            mark[v] = stamp;
+                            lp[size++] = v;
+                        }
+                    }
+                    // the pivot absorbs the elements it is adjacent to
+                    absorbed[e] = true;
+                    elemVars[e] = null;
+                }
+            }
+            elemVars[p] = Arrays.copyOf(lp, size);
+            varAdj[p]   = null;
+            elemAdj[p]  = null;
+
+            // update the adjacency of the variables in Lp
+            for (int k = 0; k < size; ++k) {
+                final int v = lp[k];
+                remove(v, degree[v], head, next, prev);
+
+                // variables of Lp are now reached through element p
+                final int[] a = varAdj[v];
+                int len = 0;
+                for (int q = 0; q < varLen[v]; ++q) {
+                    final int u = a[q];
+                    if (!eliminated[u] && mark[u] != stamp) {
+                        a[len++] = u;
+                    }
+                }
+                varLen[v] = len;
+
+                int[] ea = elemAdj[v];
+                int elen = 0;
+                for (int q = 0; q < elemLen[v]; ++q) {
+                    if (!absorbed[ea[q]]) {
+                        ea[elen++] = ea[q];
+                    }
+                }
+                if (elen == ea.length) {
+                    ea = Arrays.copyOf(ea, FastMath.max(4, 2 * elen));
+                    elemAdj[v] = ea;
+                }
+                ea[elen++] = p;
+                elemLen[v] = elen;
+            }
+
+            // compute |Le \ Lp| for all elements e adjacent to variables of Lp
+            ++stamp;
+            for (int k = 0; k < size; ++k) {
+                final int v = lp[k];
+                for (int q = 0; q < elemLen[v]; ++q) {
+                    final int e = elemAdj[v][q];
+                    if (e != p && !absorbed[e]) {
+                        if (wMark[e] != stamp) {
+                            wMark[e] = stamp;
+                            w[e]     = elemVars[e].length;
+                        }
+                        --w[e];
+                    }
+                }
+            }
+
+            // update approximate degrees
+            final int remaining = n - step - 1;
+            for (int k = 0; k < size; ++k) {
+                final int v = lp[k];
+                final int[] ea = elemAdj[v];
+                int d = varLen[v] + size - 1;
+                int elen = 0;
+                for (int q = 0; q < elemLen[v]; ++q) {
+                    final int e = ea[q];
+                    if (e == p) {
+                        ea[elen++] = e;
+                    } else if (!absorbed[e]) {
+                        if (w[e] == 0) {
+                            // aggressive absorption, Le is a subset of Lp
+                            absorbed[e] = true;
+                            elemVars[e] = null;
+                        } else {
+                            d += w[e];
+                            ea[elen++] = e;
+                        }
+                    }
+                }
+                elemLen[v] = elen;
+                d = FastMath.min(d, degree[v] + size - 1);
+                d = FastMath.max(0, FastMath.min(d, remaining - 1));
+                degree[v] = d;
+                insert(v, d, head, next, prev);
+                minDegree = FastMath.min(minDegree, d);
+            }
+
+        }
+
+        return permutation;
+
+    }
+
+    /** Build the adjacency lists of the pattern of A + A<sup>T</sup>, excluding the diagonal.
+     * @param n dimension of the square matrix
+     * @param rowStart index of first entry of each row in compressed sparse row format
+     * @param columnIndex column indices of the entries in compressed sparse row format
+     * @return adjacency lists, sorted and without duplicates
+     */
+    private static int[][] symmetricAdjacency(final int n, final int[] rowStart, final int[] columnIndex) {
+
+        final int[] count = new int[n];
+        for (int i = 0; i < n; ++i) {
+            for (int q = rowStart[i]; q < rowStart[i + 1]; ++q) {
+                final int j = columnIndex[q];
+                if (j != i) {
+                    ++count[i];
+                    ++count[j];
+                }
+            }
+        }
+
+        final int[][] adjacency = new int[n][];
+        for (int i = 0; i < n; ++i) {
+            adjacency[i] = new int[count[i]];
+            count[i]     = 0;
+        }
+        for (int i = 0; i < n; ++i) {
+            for (int q = rowStart[i]; q < rowStart[i + 1]; ++q) {
+                final int j = columnIndex[q];
+                if (j != i) {
+                    adjacency[i][count[i]++] = j;
+                    adjacency[j][count[j]++] = i;
+                }
+            }
+        }
+
+        // remove duplicates due to entries present in both triangles
+        for (int i = 0; i < n; ++i) {
+            final int[] a = adjacency[i];
+            Arrays.sort(a);
+            int len = 0;
+            for (int q = 0; q < a.length; ++q) {
+                if (len == 0 || a[len - 1] != a[q]) {
+                    a[len++] = a[q];
+                }
+            }
+            if (len < a.length) {
+                adjacency[i] = Arrays.copyOf(a, len);
+            }
+        }
+
+        return adjacency;
+
+    }
+
+    /** Insert a variable in a degree list.
+     * @param v variable to insert
+     * @param d degree of the variable
+     * @param head first variable of each degree list
+     * @param next next variable in degree lists
+     * @param prev previous variable in degree lists
+     */
+    private static void insert(final int v, final int d, final int[] head, final int[] next, final int[] prev) {
+        next[v] = head[d];
+        prev[v] = -1;
+        if (head[d] >= 0) {
+            prev[head[d]] = v;
+        }
+        head[d] = v;
+    }
+
+    /** Remove a variable from a degree list.
+     * @param v variable to remove
+     * @param d degree of the variable
+     * @param head first variable of each degree list
+     * @param next next variable in degree lists
+     * @param prev previous variable in degree lists
+     */
+    private static void remove(final int v, final int d, final int[] head, final int[] next, final int[] prev) {
+        if (prev[v] >= 0) {
+            next[prev[v]] = next[v];
+        } else {
+            head[d] = next[v];
+        }
+        if (next[v] >= 0) {
+            prev[next[v]] = prev[v];
+        }
+    }
+
+}
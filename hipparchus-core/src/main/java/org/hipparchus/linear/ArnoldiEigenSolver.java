@@ -0,0 +1,294 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hipparchus.linear;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.hipparchus.complex.Complex;
+import org.hipparchus.exception.MathIllegalArgumentException;
+import org.hipparchus.exception.MathIllegalStateException;
+import org.hipparchus.exception.MathRuntimeException;
+import org.hipparchus.exception.NullArgumentException;
+import org.hipparchus.util.FastMath;
+import org.hipparchus.util.IterationManager;
+import org.hipparchus.util.MathUtils;
+
+/**
+ * Implicitly restarted Arnoldi method for computing a few eigenpairs of a general
+ * (non-symmetric) linear operator.
+ * <p>
+ * The operator is accessed only through {@link RealLinearOperator#operate(RealVector)},
+ * so it can be a huge sparse matrix or even a matrix-free operator. The Arnoldi
+ * basis is fully reorthogonalized.
+ * </p>
+ * <p>
+ * Restarts are performed as in the implicitly restarted Arnoldi method of Sorensen,
+ * using the unwanted Ritz values as shifts (exact shifts) of implicit QR sweeps applied
+ * to the Hessenberg projected matrix. Complex conjugate shifts are applied together as
+ * real double shifts, and the number of kept vectors is adjusted so that conjugate
+ * pairs are never split.
+ * </p>
+ * <p>
+ * As the operator is real, complex eigenvalues appear as conjugate pairs. If the
+ * number of wanted eigenvalues splits such a pair, only the eigenvalue with positive
+ * imaginary part is returned.
+ * </p>
+ * @see LanczosEigenSolver
+ * @since 3.1
+ */
+public class ArnoldiEigenSolver extends IterativeEigenSolver {
+
+    /**
+     * Creates a new instance of this class, with default iteration manager.
+     *
+     * @param maxIterations the maximum number of restart cycles
+     * @param tolerance relative tolerance for convergence of Ritz pairs
+     */
+    public ArnoldiEigenSolver(final int maxIterations, final double tolerance) {
+        super(maxIterations, tolerance);
+    }
+
+    /**
+     * Creates a new instance of this class, with custom iteration manager.
+     *
+     * @param manager the custom iteration manager
+     * @param tolerance relative tolerance for convergence of Ritz pairs
+     * @throws NullArgumentException if {@code manager} is {@code null}
+     */
+    public ArnoldiEigenSolver(final IterationManager manager, final double tolerance)
+        throws NullArgumentException {
+        super(manager, tolerance);
+    }
+
+    /**
+     * Computes a few eigenpairs of a linear operator, using a default
+     * start vector and the {@link #getDefaultKrylovDimension(int, int) default
+     * Krylov subspace dimension}.
+     *
+     * @param a the linear operator A
+     * @param nev number of wanted eigenpairs
+     * @param selection selection of the wanted eigenvalues
+     * @return wanted eigenpairs
+     * @throws NullArgumentException if one of the parameters is {@code null}
+     * @throws MathIllegalArgumentException if {@code a} is not square or
+     * if {@code nev} is not between 1 and the operator dimension
+     * @throws MathIllegalStateException at exhaustion of the iteration count,
+     * unless a custom
+     * {@link org.hipparchus.util.Incrementor.MaxCountExceededCallback callback}
+     * has been set at construction of the {@link IterationManager}
+     */
+    public Solution solve(final RealLinearOperator a, final int nev, final Selection selection)
+        throws MathIllegalArgumentException, MathIllegalStateException, NullArgumentException {
+        MathUtils.checkNotNull(a);
+        final int n = a.getRowDimension();
+        return solve(a, createDefaultStart(n), nev, getDefaultKrylovDimension(n, nev), selection);
+    }
+
+    /**
+     * Computes a few eigenpairs of a linear operator.
+     *
+     * @param a the linear operator A
+     * @param start start vector
+     * @param nev number of wanted eigenpairs
+     * @param krylovDimension maximum dimension of the Krylov subspace
+     * @param selection selection of the wanted eigenvalues
+     * @return wanted eigenpairs
+     * @throws NullArgumentException if one of the parameters is {@code null}
+     * @throws MathIllegalArgumentException if {@code a} is not square, if
+     * {@code start} has dimensions inconsistent with {@code a}, if {@code nev}
+     * is not between 1 and the operator dimension, or if {@code krylovDimension}
+     * is not between {@code nev + 1} and the operator dimension
+     * @throws MathRuntimeException if {@code start} is a zero vector
+     * @throws MathIllegalStateException at exhaustion of the iteration count,
+     * unless a custom
+     * {@link org.hipparchus.util.Incrementor.MaxCountExceededCallback callback}
+     * has been set at construction of the {@link IterationManager}
+     */
+    public Solution solve(final RealLinearOperator a, final RealVector start,
+                          final int nev, final int krylovDimension, final Selection selection)
+        throws MathIllegalArgumentException, MathIllegalStateException,
+               MathRuntimeException, NullArgumentException {
+
+        checkParameters(a, start, nev, krylovDimension);
+        MathUtils.checkNotNull(selection);
+
+        final int m = krylovDimension;
+        final ArnoldiFactorization factorization = new ArnoldiFactorization(a, start, m, createGenerator());
+        final IterationManager manager = getIterationManager();
+        manager.resetIterationCount();
+
+        final double[] residuals = new double[nev];
+        Arrays.fill(residuals, Double.POSITIVE_INFINITY);
+        int converged = 0;
+        manager.fireInitializationEvent(new IterativeEigenSolverEvent(this, 0, converged, residuals));
+
+        int k = 0;
+        while (true) {
+
+            manager.incrementIterationCount();
+            manager.fireIterationStartedEvent(new IterativeEigenSolverEvent(this, manager.getIterations(),
+                                                                            converged, residuals));
+
+            // expand Arnoldi basis and solve the projected problem
+            factorization.expand(k);
+            final RealMatrix projected = factorization.getProjected(false);
+            final EigenDecompositionNonSymmetric ed = new EigenDecompositionNonSymmetric(projected);
+            final Complex[] theta = ed.getEigenvalues();
+            final double[] re = new double[m];
+            final double[] im = new double[m];
+            for (int i = 0; i < m; ++i) {
+                re[i] = theta[i].getReal();
+                im[i] = theta[i].getImaginary();
+            }
+            final int[] order  = selection.sort(re, im);
+            final double beta  = factorization.getResidualNorm();
+            final double hNorm = projected.getFrobeniusNorm();
+
+            // normalized Ritz vectors of the projected matrix, split in real and imaginary parts
+            final double[][] yRe = new double[m][];
+            final double[][] yIm = new double[m][];
+            for (final int index : order) {
+                final FieldVector<Complex> y = ed.getEigenvector(index);
+                yRe[index] = new double[m];
+                yIm[index] = new double[m];
+                double norm2 = 0;
+                for (int j = 0; j < m; ++j) {
+                    final Complex yj = y.getEntry(j);
+                    yRe[index][j] = yj.getReal();
+                    yIm[index][j] = yj.getImaginary();
+                    norm2 += yRe[index][j] * yRe[index][j] + yIm[index][j] * yIm[index][j];
+                }
+                final double norm = FastMath.sqrt(norm2);
+                for (int j = 0; j < m; ++j) {
+                    yRe[index][j] /= norm;
+                    yIm[index][j] /= norm;
+                }
+            }
+
+            // check convergence of wanted Ritz pairs
+            converged = 0;
+            for (int i = 0; i < nev; ++i) {
+                residuals[i] = FastMath.abs(beta) * FastMath.hypot(yRe[order[i]][m - 1], yIm[order[i]][m - 1]);
+                if (residuals[i] <= convergenceThreshold(theta[order[i]].norm(), hNorm)) {
+                    ++converged;
+                }
+            }
+            manager.fireIterationPerformedEvent(new IterativeEigenSolverEvent(this, manager.getIterations(),
+                                                                              converged, residuals));
+
+            if (converged == nev) {
+                // build the Ritz pairs
+                final Complex[] eigenvalues = new Complex[nev];
+                final List<FieldVector<Complex>> eigenvectors = new ArrayList<>(nev);
+                for (int i = 0; i < nev; ++i) {
+                    eigenvalues[i] = theta[order[i]];
+                    final double[] xRe = factorization.combine(yRe[order[i]]);
+                    final double[] xIm = factorization.combine(yIm[order[i]]);
+                    final double norm  = FastMath.hypot(ArnoldiFactorization.norm(xRe), ArnoldiFactorization.norm(xIm));
+                    final Complex[] x  = new Complex[xRe.length];
+                    for (int j = 0; j < x.length; ++j) {
+                        x[j] = new Complex(xRe[j] / norm, xIm[j] / norm);
+                    }
+                    eigenvectors.add(new ArrayFieldVector<>(x, false));
+                }
+                manager.fireTerminationEvent(new IterativeEigenSolverEvent(this, manager.getIterations(),
+                                                                           converged, residuals));
+                return new Solution(eigenvalues, eigenvectors);
+            }
+
+            // implicit restart, using the unwanted Ritz values as shifts
+            // (adjusting the number of kept vectors so conjugate pairs are not split)
+            k = FastMath.min(nev + (m - nev) / 2, m - 1);
+            if (isConjugate(re, im, order[k - 1], order[k])) {
+                k = (k + 1 < m) ? k + 1 : FastMath.max(1, k - 1);
+            }
+            final double[] shiftsRe = new double[m - k];
+            final double[] shiftsIm = new double[m - k];
+            for (int i = 0; i < shiftsRe.length; ++i) {
+                shiftsRe[i] = re[order[k + i]];
+                shiftsIm[i] = im[order[k + i]];
+            }
+            factorization.restart(shiftsRe, shiftsIm, k);
+
+        }
+
+    }
+
+    /** Check if two eigenvalues are complex conjugate.
+     * @param re real parts of the eigenvalues
+     * @param im imaginary parts of the eigenvalues
+     * @param i index of the first eigenvalue
+     * @param j index of the second eigenvalue
+     * @return true if the eigenvalues are complex conjugate
+     */
+    private static boolean isConjugate(final double[] re, final double[] im, final int i, final int j) {
+        return im[i] != 0 && re[i] == re[j] && im[i] == -im[j];
+    }
+
+    /** Container for the eigenpairs computed by an {@link ArnoldiEigenSolver}. */
+    public static class Solution {
+
+        /** Eigenvalues, most wanted first. */
+        private final Complex[] eigenvalues;
+
+        /** Normalized eigenvectors. */
+        private final List<FieldVector<Complex>> eigenvectors;
+
+        /** Simple constructor.
+         * @param eigenvalues eigenvalues, most wanted first
+         * @param eigenvectors normalized eigenvectors
+         */
+        Solution(final Complex[] eigenvalues, final List<FieldVector<Complex>> eigenvectors) {
+            this.eigenvalues  = eigenvalues;
+            this.eigenvectors = eigenvectors;
+        }
+
+        /** Get the number of computed eigenpairs.
+         * @return number of computed eigenpairs
+         */
+        public int getNumberOfEigenpairs() {
+            return eigenvalues.length;
+        }
+
+        /** Get a copy of the eigenvalues, most wanted first.
+         * @return a copy of the eigenvalues
+         */
+        public Complex[] getEigenvalues() {
+            return eigenvalues.clone();
+        }
+
+        /** Get the i<sup>th</sup> eigenvalue.
+         * @param i index of the eigenvalue (counting from 0, most wanted first)
+         * @return i<sup>th</sup> eigenvalue
+         */
+        public Complex getEigenvalue(final int i) {
+            return eigenvalues[i];
+        }
+
+        /** Get a copy of the i<sup>th</sup> normalized eigenvector.
+         * @param i index of the eigenvector (counting from 0, most wanted first)
+         * @return a copy of the i<sup>th</sup> eigenvector
+         */
+        public FieldVector<Complex> getEigenvector(final int i) {
+            return eigenvectors.get(i).copy();
+        }
+
+    }
+
+}
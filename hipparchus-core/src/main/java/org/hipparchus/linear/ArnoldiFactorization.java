@@ -0,0 +1,400 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hipparchus.linear;
+
+import java.util.Arrays;
+
+import org.hipparchus.random.RandomGenerator;
+import org.hipparchus.util.FastMath;
+import org.hipparchus.util.Precision;
+
+/** Arnoldi factorization A V<sub>m</sub> = V<sub>m</sub> H<sub>m</sub> + &beta; v<sub>m</sub> e<sub>m</sub><sup>T</sup>
+ * supporting implicit restarts.
+ * <p>
+ * The basis vectors are built using only {@link RealLinearOperator#operate(RealVector)}
+ * and are fully reorthogonalized (classical Gram-Schmidt applied twice). The projected
+ * matrix H<sub>m</sub> is upper Hessenberg (and tridiagonal up to rounding errors for
+ * symmetric operators).
+ * </p>
+ * @since 3.1
+ */
+class ArnoldiFactorization {
+
+    /** Factor for breakdown detection. */
+    private static final double BREAKDOWN = 16 * Precision.EPSILON;
+
+    /** Linear operator. */
+    private final RealLinearOperator a;
+
+    /** Krylov subspace dimension. */
+    private final int m;
+
+    /** Generator for new vectors after breakdowns. */
+    private final RandomGenerator random;
+
+    /** Basis vectors (m + 1 rows, the last one is the residual direction). */
+    private double[][] basis;
+
+    /** Projected matrix (m + 1 rows, the last one holding only the residual norm). */
+    private final double[][] h;
+
+    /** Simple constructor.
+     * @param a linear operator
+     * @param start start vector (must be non-zero)
+     * @param m Krylov subspace dimension
+     * @param random generator for new vectors after breakdowns
+     */
+    ArnoldiFactorization(final RealLinearOperator a, final RealVector start,
+                         final int m, final RandomGenerator random) {
+        this.a      = a;
+        this.m      = m;
+        this.random = random;
+        this.basis  = new double[m + 1][];
+        this.h      = new double[m + 1][m];
+        basis[0]    = start.toArray();
+        final double norm = norm(basis[0]);
+        for (int i = 0; i < basis[0].length; ++i) {
+            basis[0][i] /= norm;
+        }
+    }
+
+    /** Expand the factorization up to dimension m.
+     * @param k number of basis vectors already available (the
+     * residual direction being the k<sup>th</sup> vector)
+     */
+    void expand(final int k) {
+        final int n = basis[0].length;
+        for (int j = k; j < m; ++j) {
+
+            final double[] w  = apply(basis[j]);
+            final double norm0 = norm(w);
+            orthogonalize(w, j + 1, j);
+
+            final double beta = norm(w);
+            if (beta > BREAKDOWN * FastMath.max(norm0, Precision.SAFE_MIN)) {
+                h[j + 1][j] = beta;
+                for (int i = 0; i < n; ++i) {
+                    w[i] /= beta;
+                }
+                basis[j + 1] = w;
+            } else {
+                // an invariant subspace has been found,
+                // continue with a new random direction orthogonal to it
+                h[j + 1][j]  = 0;
+                basis[j + 1] = randomOrthogonal(j + 1);
+            }
+
+        }
+    }
+
+    /** Restart the factorization using implicit shifted QR sweeps.
+     * <p>
+     * The shifts are applied to the Hessenberg projected matrix by orthogonal
+     * similarity transforms, and the factorization is truncated to dimension k.
+     * The new start vector is therefore filtered by the polynomial whose roots
+     * are the shifts, so using unwanted Ritz values as shifts (exact shifts)
+     * damps the corresponding components. Complex shifts are applied as double
+     * shifts in real arithmetic.
+     * </p>
+     * @param re real parts of the shifts
+     * @param im imaginary parts of the shifts (each complex shift must appear with
+     * its conjugate, only the one with positive imaginary part is used)
+     * @param k dimension of the truncated factorization (must be at least 1)
+     */
+    void restart(final double[] re, final double[] im, final int k) {
+
+        final int n = basis[0].length;
+
+        // apply shifts to the projected matrix, accumulating the orthogonal transform
+        final double[][] q = new double[m][m];
+        for (int i = 0; i < m; ++i) {
+            q[i][i] = 1.0;
+        }
+        for (int i = 0; i < re.length; ++i) {
+            if (im[i] == 0) {
+                sweep(re[i], 0.0, false, q);
+            } else if (im[i] > 0) {
+                sweep(2 * re[i], re[i] * re[i] + im[i] * im[i], true, q);
+            }
+        }
+
+        // new basis, including the direction used for the residual
+        final double[][] newBasis = new double[m + 1][];
+        for (int c = 0; c <= k; ++c) {
+            final double[] v = new double[n];
+            for (int j = 0; j < m; ++j) {
+                final double qjc = q[j][c];
+                if (qjc != 0) {
+                    final double[] bj = basis[j];
+                    for (int i = 0; i < n; ++i) {
+                        v[i] += qjc * bj[i];
+                    }
+                }
+            }
+            newBasis[c] = v;
+        }
+
+        // new residual, combining the truncated part and the previous residual
+        final double hk    = h[k][k - 1];
+        final double betaQ = h[m][m - 1] * q[m - 1][k - 1];
+        final double[] f   = newBasis[k];
+        final double[] vm  = basis[m];
+        for (int i = 0; i < n; ++i) {
+            f[i] = hk * f[i] + betaQ * vm[i];
+        }
+
+        // truncate the projected matrix
+        for (int i = 0; i <= m; ++i) {
+            for (int j = (i < k) ? k : 0; j < m; ++j) {
+                h[i][j] = 0;
+            }
+        }
+
+        basis = newBasis;
+        final double beta = norm(f);
+        if (beta > BREAKDOWN * FastMath.max(FastMath.abs(hk) + FastMath.abs(betaQ), Precision.SAFE_MIN)) {
+            h[k][k - 1] = beta;
+            for (int i = 0; i < n; ++i) {
+                f[i] /= beta;
+            }
+        } else {
+            // an invariant subspace has been found
+            basis[k] = randomOrthogonal(k);
+        }
+
+    }
+
+    /** Perform one implicit QR sweep on the Hessenberg projected matrix.
+     * @param s shift for single shift, or sum of the shifts for double shifts
+     * @param t product of the shifts for double shifts (ignored for single shift)
+     * @param doubleShift if true, a double shift is performed
+     * @param q orthogonal transform to update
+     */
+    private void sweep(final double s, final double t, final boolean doubleShift, final double[][] q) {
+        final int size = doubleShift ? 3 : 2;
+        final double[] v = new double[size];
+        for (int j = 0; j < m - 1; ++j) {
+            final int l = FastMath.min(size, m - j);
+            if (j == 0) {
+                // first column of the shift polynomial applied to H
+                if (doubleShift) {
+                    v[0] = h[0][0] * h[0][0] + h[0][1] * h[1][0] - s * h[0][0] + t;
+                    v[1] = h[1][0] * (h[0][0] + h[1][1] - s);
+                    v[2] = (m > 2) ? h[1][0] * h[2][1] : 0.0;
+                } else {
+                    v[0] = h[0][0] - s;
+                    v[1] = h[1][0];
+                }
+            } else {
+                // chase the bulge
+                for (int i = 0; i < l; ++i) {
+                    v[i] = h[j + i][j - 1];
+                }
+            }
+            applyReflector(v, l, j, q);
+            if (j > 0) {
+                for (int i = 1; i < l; ++i) {
+                    h[j + i][j - 1] = 0;
+                }
+            }
+        }
+    }
+
+    /** Apply a Householder reflector zeroing all components of a vector except the first one.
+     * <p>
+     * The reflector is applied as a similarity transform on the projected matrix
+     * and accumulated in the orthogonal transform.
+     * </p>
+     * @param x vector to reflect (modified in place)
+     * @param l number of elements to consider in x
+     * @param r index of the first row and column affected
+     * @param q orthogonal transform to update
+     */
+    private void applyReflector(final double[] x, final int l, final int r, final double[][] q) {
+
+        // build reflector I - 2 u u^T / (u^T u), scaling x to avoid underflows
+        double scale = 0;
+        for (int i = 0; i < l; ++i) {
+            scale = FastMath.max(scale, FastMath.abs(x[i]));
+        }
+        if (scale == 0) {
+            return;
+        }
+        double norm2 = 0;
+        for (int i = 0; i < l; ++i) {
+            x[i] /= scale;
+            norm2 += x[i] * x[i];
+        }
+        x[0] += FastMath.copySign(FastMath.sqrt(norm2), x[0]);
+        double uu = 0;
+        for (int i = 0; i < l; ++i) {
+            uu += x[i] * x[i];
+        }
+        final double factor = 2 / uu;
+
+        // apply from the left to the rows of H
+        for (int j = 0; j < m; ++j) {
+            double dot = 0;
+            for (int i = 0; i < l; ++i) {
+                dot += x[i] * h[r + i][j];
+            }
+            dot *= factor;
+            for (int i = 0; i < l; ++i) {
+                h[r + i][j] -= dot * x[i];
+            }
+        }
+
+        // apply from the right to the columns of H and Q
+        for (final double[][] matrix : new double[][][] { h, q }) {
+            for (int j = 0; j < m; ++j) {
+                final double[] row = matrix[j];
+                double dot = 0;
+                for (int i = 0; i < l; ++i) {
+                    dot += x[i] * row[r + i];
+                }
+                dot *= factor;
+                for (int i = 0; i < l; ++i) {
+                    row[r + i] -= dot * x[i];
+                }
+            }
+        }
+
+    }
+
+    /** Get the projected matrix H<sub>m</sub>.
+     * @param symmetric if true, the matrix is symmetrized
+     * @return projected matrix
+     */
+    RealMatrix getProjected(final boolean symmetric) {
+        final double[][] p = new double[m][m];
+        for (int i = 0; i < m; ++i) {
+            for (int j = 0; j < m; ++j) {
+                p[i][j] = symmetric ? 0.5 * (h[i][j] + h[j][i]) : h[i][j];
+            }
+        }
+        return MatrixUtils.createRealMatrix(p);
+    }
+
+    /** Get the norm &beta; of the residual of the factorization.
+     * @return norm of the residual
+     */
+    double getResidualNorm() {
+        return h[m][m - 1];
+    }
+
+    /** Compute a linear combination of the basis vectors.
+     * @param y coefficients of the combination
+     * @return V<sub>m</sub> y
+     */
+    double[] combine(final double[] y) {
+        final double[] x = new double[basis[0].length];
+        for (int j = 0; j < m; ++j) {
+            final double yj = y[j];
+            if (yj != 0) {
+                final double[] bj = basis[j];
+                for (int i = 0; i < x.length; ++i) {
+                    x[i] += yj * bj[i];
+                }
+            }
+        }
+        return x;
+    }
+
+    /** Apply the operator to a vector.
+     * @param v vector to which operator should be applied
+     * @return A v
+     */
+    private double[] apply(final double[] v) {
+        final RealVector av = a.operate(new ArrayRealVector(v, false));
+        return (av instanceof ArrayRealVector) ? ((ArrayRealVector) av).getDataRef().clone() : av.toArray();
+    }
+
+    /** Orthogonalize a vector against the first basis vectors, twice.
+     * @param w vector to orthogonalize (modified in place)
+     * @param size number of basis vectors to consider
+     * @param column column of the projected matrix where coefficients should
+     * be accumulated (negative if coefficients should be ignored)
+     */
+    private void orthogonalize(final double[] w, final int size, final int column) {
+        for (int pass = 0; pass < 2; ++pass) {
+            final double[] coefficients = new double[size];
+            for (int j = 0; j < size; ++j) {
+                coefficients[j] = dot(basis[j], w);
+            }
+            for (int j = 0; j < size; ++j) {
+                final double c  = coefficients[j];
+                final double[] bj = basis[j];
+                for (int i = 0; i < w.length; ++i) {
+                    w[i] -= c * bj[i];
+                }
+                if (column >= 0) {
+                    h[j][column] += c;
+                }
+            }
+        }
+    }
+
+    /** Generate a random unit vector orthogonal to the first basis vectors.
+     * @param size number of basis vectors to consider
+     * @return random unit vector orthogonal to the first basis vectors, or a zero
+     * vector if the basis already spans the whole space
+     */
+    private double[] randomOrthogonal(final int size) {
+        final int n = basis[0].length;
+        final double[] w = new double[n];
+        if (size < n) {
+            for (int attempt = 0; attempt < 3; ++attempt) {
+                for (int i = 0; i < n; ++i) {
+                    w[i] = random.nextDouble() - 0.5;
+                }
+                final double norm0 = norm(w);
+                orthogonalize(w, size, -1);
+                final double norm = norm(w);
+                if (norm > BREAKDOWN * norm0) {
+                    for (int i = 0; i < n; ++i) {
+                        w[i] /= norm;
+                    }
+                    return w;
+                }
+            }
+        }
+        Arrays.fill(w, 0.0);
+        return w;
+    }
+
+    /** Compute the dot product of two vectors.
+     * @param u first vector
+     * @param v second vector
+     * @return u.v
+     */
+    private static double dot(final double[] u, final double[] v) {
+        double sum = 0;
+        for (int i = 0; i < u.length; ++i) {
+            sum += u[i] * v[i];
+        }
+        return sum;
+    }
+
+    /** Compute the Euclidean norm of a vector.
+     * @param v vector
+     * @return norm of the vector
+     */
+    static double norm(final double[] v) {
+        return FastMath.sqrt(dot(v, v));
+    }
+
+}
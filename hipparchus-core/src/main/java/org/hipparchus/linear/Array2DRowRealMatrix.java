@@ -23,6 +23,8 @@
 package org.hipparchus.linear;
 
 import java.io.Serializable;
+import java.util.Arrays;
+
 import org.hipparchus.exception.LocalizedCoreFormats;
 import org.hipparchus.exception.MathIllegalArgumentException;
 import org.hipparchus.exception.MathIllegalStateException;
@@ -383,6 +385,119 @@ public class Array2DRowRealMatrix extends AbstractRealMatrix implements Serializ
         }
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public void add(final RealMatrix m, final RealMatrix out)
+        throws MathIllegalArgumentException {
+        if (m instanceof Array2DRowRealMatrix && out instanceof Array2DRowRealMatrix) {
+            MatrixUtils.checkAdditionCompatible(this, m);
+            MatrixUtils.checkDimensions(out, getRowDimension(), getColumnDimension());
+            final double[][] mData   = ((Array2DRowRealMatrix) m).data;
+            final double[][] outData = ((Array2DRowRealMatrix) out).data;
+            for (int row = 0; row < data.length; row++) {
+                final double[] dataRow    = data[row];
+                final double[] mRow       = mData[row];
+                final double[] outDataRow = outData[row];
+                for (int col = 0; col < dataRow.length; col++) {
+                    outDataRow[col] = dataRow[col] + mRow[col];
+                }
+            }
+        } else {
+            super.add(m, out);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void subtract(final RealMatrix m, final RealMatrix out)
+        throws MathIllegalArgumentException {
+        if (m instanceof Array2DRowRealMatrix && out instanceof Array2DRowRealMatrix) {
+            MatrixUtils.checkSubtractionCompatible(this, m);
+            MatrixUtils.checkDimensions(out, getRowDimension(), getColumnDimension());
+            final double[][] mData   = ((Array2DRowRealMatrix) m).data;
+            final double[][] outData = ((Array2DRowRealMatrix) out).data;
+            for (int row = 0; row < data.length; row++) {
+                final double[] dataRow    = data[row];
+                final double[] mRow       = mData[row];
+                final double[] outDataRow = outData[row];
+                for (int col = 0; col < dataRow.length; col++) {
+                    outDataRow[col] = dataRow[col] - mRow[col];
+                }
+            }
+        } else {
+            super.subtract(m, out);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void scalarMultiply(final double d, final RealMatrix out)
+        throws MathIllegalArgumentException {
+        if (out instanceof Array2DRowRealMatrix) {
+            MatrixUtils.checkDimensions(out, getRowDimension(), getColumnDimension());
+            final double[][] outData = ((Array2DRowRealMatrix) out).data;
+            for (int row = 0; row < data.length; row++) {
+                final double[] dataRow    = data[row];
+                final double[] outDataRow = outData[row];
+                for (int col = 0; col < dataRow.length; col++) {
+                    outDataRow[col] = d * dataRow[col];
+                }
+            }
+        } else {
+            super.scalarMultiply(d, out);
+        }
+    }
+
+    /** {@inheritDoc}
+     * <p>
+     * The product is accumulated row by row, so no temporary
+     * array is needed.
+     * </p>
+     */
+    @Override
+    public void multiply(final RealMatrix m, final RealMatrix out)
+        throws MathIllegalArgumentException {
+        if (m instanceof Array2DRowRealMatrix && out instanceof Array2DRowRealMatrix) {
+            MatrixUtils.checkMultiplicationCompatible(this, m);
+            MatrixUtils.checkDimensions(out, getRowDimension(), m.getColumnDimension());
+            final double[][] mData   = ((Array2DRowRealMatrix) m).data;
+            final double[][] outData = ((Array2DRowRealMatrix) out).data;
+            final int nSum = getColumnDimension();
+            for (int row = 0; row < data.length; row++) {
+                final double[] dataRow    = data[row];
+                final double[] outDataRow = outData[row];
+                Arrays.fill(outDataRow, 0.0);
+                for (int i = 0; i < nSum; i++) {
+                    final double   a    = dataRow[i];
+                    final double[] mRow = mData[i];
+                    for (int col = 0; col < outDataRow.length; col++) {
+                        outDataRow[col] += a * mRow[col];
+                    }
+                }
+            }
+        } else {
+            super.multiply(m, out);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void transpose(final RealMatrix out)
+        throws MathIllegalArgumentException {
+        if (out instanceof Array2DRowRealMatrix) {
+            MatrixUtils.checkDimensions(out, getColumnDimension(), getRowDimension());
+            final double[][] outData = ((Array2DRowRealMatrix) out).data;
+            for (int row = 0; row < data.length; row++) {
+                final double[] dataRow = data[row];
+                for (int col = 0; col < dataRow.length; col++) {
+                    outData[col][row] = dataRow[col];
+                }
+            }
+        } else {
+            super.transpose(out);
+        }
+    }
+
     /** {@inheritDoc} */
     @Override
     public double[][] getData() {
@@ -508,6 +623,30 @@ public class Array2DRowRealMatrix extends AbstractRealMatrix implements Serializ
         return out;
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public void operate(final double[] v, final double[] out)
+        throws MathIllegalArgumentException {
+        final int nRows = this.getRowDimension();
+        final int nCols = this.getColumnDimension();
+        if (v.length != nCols) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.DIMENSIONS_MISMATCH,
+                                                   v.length, nCols);
+        }
+        if (out.length != nRows) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.DIMENSIONS_MISMATCH,
+                                                   out.length, nRows);
+        }
+        for (int row = 0; row < nRows; row++) {
+            final double[] dataRow = data[row];
+            double sum = 0;
+            for (int i = 0; i < nCols; i++) {
+                sum += dataRow[i] * v[i];
+            }
+            out[row] = sum;
+        }
+    }
+
     /** {@inheritDoc} */
     @Override
     public double[] preMultiply(final double[] v)
@@ -532,6 +671,30 @@ public class Array2DRowRealMatrix extends AbstractRealMatrix implements Serializ
 
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public void preMultiply(final double[] v, final double[] out)
+        throws MathIllegalArgumentException {
+        final int nRows = getRowDimension();
+        final int nCols = getColumnDimension();
+        if (v.length != nRows) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.DIMENSIONS_MISMATCH,
+                                                   v.length, nRows);
+        }
+        if (out.length != nCols) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.DIMENSIONS_MISMATCH,
+                                                   out.length, nCols);
+        }
+        Arrays.fill(out, 0.0);
+        for (int i = 0; i < nRows; ++i) {
+            final double[] dataRow = data[i];
+            final double   vI      = v[i];
+            for (int col = 0; col < nCols; ++col) {
+                out[col] += dataRow[col] * vI;
+            }
+        }
+    }
+
     /** {@inheritDoc} */
     @Override
     public RealMatrix getSubMatrix(final int startRow, final int endRow,
@@ -316,6 +316,23 @@ public class ArrayRealVector extends RealVector implements Serializable {
         }
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public void add(final RealVector v, final RealVector out)
+        throws MathIllegalArgumentException {
+        if (v instanceof ArrayRealVector && out instanceof ArrayRealVector) {
+            final double[] vData   = ((ArrayRealVector) v).data;
+            final double[] outData = ((ArrayRealVector) out).data;
+            checkVectorDimensions(vData.length);
+            checkVectorDimensions(outData.length);
+            for (int i = 0; i < data.length; i++) {
+                outData[i] = data[i] + vData[i];
+            }
+        } else {
+            super.add(v, out);
+        }
+    }
+
     /** {@inheritDoc} */
     @Override
     public ArrayRealVector subtract(RealVector v)
@@ -342,6 +359,23 @@ public class ArrayRealVector extends RealVector implements Serializable {
         }
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public void subtract(final RealVector v, final RealVector out)
+        throws MathIllegalArgumentException {
+        if (v instanceof ArrayRealVector && out instanceof ArrayRealVector) {
+            final double[] vData   = ((ArrayRealVector) v).data;
+            final double[] outData = ((ArrayRealVector) out).data;
+            checkVectorDimensions(vData.length);
+            checkVectorDimensions(outData.length);
+            for (int i = 0; i < data.length; i++) {
+                outData[i] = data[i] - vData[i];
+            }
+        } else {
+            super.subtract(v, out);
+        }
+    }
+
     /** {@inheritDoc} */
     @Override
     public ArrayRealVector map(UnivariateFunction function) {
@@ -384,6 +418,21 @@ public class ArrayRealVector extends RealVector implements Serializable {
         return this;
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public void mapMultiply(final double d, final RealVector out)
+        throws MathIllegalArgumentException {
+        if (out instanceof ArrayRealVector) {
+            final double[] outData = ((ArrayRealVector) out).data;
+            checkVectorDimensions(outData.length);
+            for (int i = 0; i < data.length; i++) {
+                outData[i] = data[i] * d;
+            }
+        } else {
+            super.mapMultiply(d, out);
+        }
+    }
+
     /** {@inheritDoc} */
     @Override
     public RealVector mapDivideToSelf(double d) {
@@ -417,6 +466,23 @@ public class ArrayRealVector extends RealVector implements Serializable {
         }
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public void ebeMultiply(final RealVector v, final RealVector out)
+        throws MathIllegalArgumentException {
+        if (v instanceof ArrayRealVector && out instanceof ArrayRealVector) {
+            final double[] vData   = ((ArrayRealVector) v).data;
+            final double[] outData = ((ArrayRealVector) out).data;
+            checkVectorDimensions(vData.length);
+            checkVectorDimensions(outData.length);
+            for (int i = 0; i < data.length; i++) {
+                outData[i] = data[i] * vData[i];
+            }
+        } else {
+            super.ebeMultiply(v, out);
+        }
+    }
+
     /** {@inheritDoc} */
     @Override
     public ArrayRealVector ebeDivide(RealVector v)
@@ -863,6 +929,23 @@ public class ArrayRealVector extends RealVector implements Serializable {
         return this;
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public void combine(final double a, final double b, final RealVector y, final RealVector out)
+        throws MathIllegalArgumentException {
+        if (y instanceof ArrayRealVector && out instanceof ArrayRealVector) {
+            final double[] yData   = ((ArrayRealVector) y).data;
+            final double[] outData = ((ArrayRealVector) out).data;
+            checkVectorDimensions(yData.length);
+            checkVectorDimensions(outData.length);
+            for (int i = 0; i < data.length; i++) {
+                outData[i] = a * data[i] + b * yData[i];
+            }
+        } else {
+            super.combine(a, b, y, out);
+        }
+    }
+
     /** {@inheritDoc} */
     @Override
     public double walkInDefaultOrder(final RealVectorPreservingVisitor visitor) {
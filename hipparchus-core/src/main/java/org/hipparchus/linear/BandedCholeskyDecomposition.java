@@ -0,0 +1,292 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hipparchus.linear;
+
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.exception.MathIllegalArgumentException;
+import org.hipparchus.util.FastMath;
+
+/**
+ * Calculates the Cholesky decomposition of a band matrix.
+ * <p>
+ * The Cholesky factor L of a symmetric positive-definite band matrix
+ * with bandwidth k has the same lower bandwidth k, so the factorization
+ * is performed in O(n&middot;k<sup>2</sup>) operations and both storage
+ * and solution costs are linear in the dimension.
+ * </p>
+ * @see CholeskyDecomposition
+ * @since 3.1
+ */
+public class BandedCholeskyDecomposition {
+
+    /** Bandwidth of the decomposed matrix. */
+    private final int bandwidth;
+
+    /** Entries of L, row by row, entry (i, j) being at {@code [i][j - i + bandwidth]}. */
+    private final double[][] lData;
+
+    /** Cached value of L. */
+    private RealMatrix cachedL;
+
+    /** Cached value of LT. */
+    private RealMatrix cachedLT;
+
+    /**
+     * Calculates the Cholesky decomposition of the given band matrix.
+     * <p>
+     * Calling this constructor is equivalent to call {@link
+     * #BandedCholeskyDecomposition(BandedRealMatrix, double, double)} with the
+     * thresholds set to the default values {@link
+     * CholeskyDecomposition#DEFAULT_RELATIVE_SYMMETRY_THRESHOLD} and {@link
+     * CholeskyDecomposition#DEFAULT_ABSOLUTE_POSITIVITY_THRESHOLD}
+     * </p>
+     * @param matrix the matrix to decompose
+     * @throws MathIllegalArgumentException if the matrix is not symmetric.
+     * @throws MathIllegalArgumentException if the matrix is not
+     * strictly positive definite.
+     */
+    public BandedCholeskyDecomposition(final BandedRealMatrix matrix) {
+        this(matrix,
+             CholeskyDecomposition.DEFAULT_RELATIVE_SYMMETRY_THRESHOLD,
+             CholeskyDecomposition.DEFAULT_ABSOLUTE_POSITIVITY_THRESHOLD);
+    }
+
+    /**
+     * Calculates the Cholesky decomposition of the given band matrix.
+     * @param matrix the matrix to decompose
+     * @param relativeSymmetryThreshold threshold above which off-diagonal
+     * elements are considered too different and matrix not symmetric
+     * @param absolutePositivityThreshold threshold below which diagonal
+     * elements are considered null and matrix not positive definite
+     * @throws MathIllegalArgumentException if the matrix is not symmetric.
+     * @throws MathIllegalArgumentException if the matrix is not
+     * strictly positive definite.
+     */
+    public BandedCholeskyDecomposition(final BandedRealMatrix matrix,
+                                       final double relativeSymmetryThreshold,
+                                       final double absolutePositivityThreshold) {
+
+        final int n = matrix.getRowDimension();
+        final int b = FastMath.max(matrix.getLowerBandwidth(), matrix.getUpperBandwidth());
+        bandwidth = b;
+        lData     = new double[n][b + 1];
+        cachedL   = null;
+        cachedLT  = null;
+
+        // check symmetry and copy the lower part of the band
+        for (int i = 0; i < n; ++i) {
+            for (int j = FastMath.max(0, i - b); j < i; ++j) {
+                final double aIJ = matrix.getEntry(i, j);
+                final double aJI = matrix.getEntry(j, i);
+                final double maxDelta =
+                    relativeSymmetryThreshold * FastMath.max(FastMath.abs(aIJ), FastMath.abs(aJI));
+                if (FastMath.abs(aIJ - aJI) > maxDelta) {
+                    throw new MathIllegalArgumentException(LocalizedCoreFormats.NON_SYMMETRIC_MATRIX,
+                                                           i, j, relativeSymmetryThreshold);
+                }
+                lData[i][j - i + b] = aIJ;
+            }
+            lData[i][b] = matrix.getEntry(i, i);
+        }
+
+        // transform the matrix
+        for (int i = 0; i < n; ++i) {
+            final double[] lI = lData[i];
+            final int jMin = FastMath.max(0, i - b);
+            for (int j = jMin; j <= i; ++j) {
+                final double[] lJ = lData[j];
+                double sum = lI[j - i + b];
+                for (int k = FastMath.max(jMin, j - b); k < j; ++k) {
+                    sum -= lI[k - i + b] * lJ[k - j + b];
+                }
+                if (j < i) {
+                    lI[j - i + b] = sum / lJ[b];
+                } else {
+                    // check diagonal element
+                    if (sum <= absolutePositivityThreshold) {
+                        throw new MathIllegalArgumentException(LocalizedCoreFormats.NOT_POSITIVE_DEFINITE_MATRIX);
+                    }
+                    lI[b] = FastMath.sqrt(sum);
+                }
+            }
+        }
+
+    }
+
+    /**
+     * Returns the matrix L of the decomposition.
+     * <p>L is an lower-triangular band matrix</p>
+     * @return the L matrix
+     */
+    public RealMatrix getL() {
+        if (cachedL == null) {
+            cachedL = new BandedRealMatrix(lData, bandwidth, 0, true);
+        }
+        return cachedL;
+    }
+
+    /**
+     * Returns the transpose of the matrix L of the decomposition.
+     * <p>L<sup>T</sup> is an upper-triangular band matrix</p>
+     * @return the transpose of the matrix L of the decomposition
+     */
+    public RealMatrix getLT() {
+        if (cachedLT == null) {
+            cachedLT = getL().transpose();
+        }
+        return cachedLT;
+    }
+
+    /**
+     * Return the determinant of the matrix
+     * @return determinant of the matrix
+     */
+    public double getDeterminant() {
+        double determinant = 1.0;
+        for (final double[] lI : lData) {
+            final double lII = lI[bandwidth];
+            determinant *= lII * lII;
+        }
+        return determinant;
+    }
+
+    /**
+     * Get a solver for finding the A &times; X = B solution in least square sense.
+     * @return a solver
+     */
+    public DecompositionSolver getSolver() {
+        return new Solver();
+    }
+
+    /** Specialized solver. */
+    private class Solver implements DecompositionSolver {
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean isNonSingular() {
+            // if we get this far, the matrix was positive definite, hence non-singular
+            return true;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public RealVector solve(final RealVector b) {
+            final int m = lData.length;
+            if (b.getDimension() != m) {
+                throw new MathIllegalArgumentException(LocalizedCoreFormats.DIMENSIONS_MISMATCH,
+                                                       b.getDimension(), m);
+            }
+
+            final double[] x = b.toArray();
+
+            // Solve LY = b
+            for (int i = 0; i < m; ++i) {
+                final double[] lI = lData[i];
+                double sum = x[i];
+                for (int k = FastMath.max(0, i - bandwidth); k < i; ++k) {
+                    sum -= lI[k - i + bandwidth] * x[k];
+                }
+                x[i] = sum / lI[bandwidth];
+            }
+
+            // Solve LTX = Y
+            for (int j = m - 1; j >= 0; --j) {
+                final double[] lJ = lData[j];
+                x[j] /= lJ[bandwidth];
+                final double xJ = x[j];
+                for (int i = FastMath.max(0, j - bandwidth); i < j; ++i) {
+                    x[i] -= xJ * lJ[i - j + bandwidth];
+                }
+            }
+
+            return new ArrayRealVector(x, false);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public RealMatrix solve(final RealMatrix b) {
+            final int m = lData.length;
+            if (b.getRowDimension() != m) {
+                throw new MathIllegalArgumentException(LocalizedCoreFormats.DIMENSIONS_MISMATCH,
+                                                       b.getRowDimension(), m);
+            }
+
+            final int nColB = b.getColumnDimension();
+            final double[][] x = b.getData();
+
+            // Solve LY = b
+            for (int i = 0; i < m; ++i) {
+                final double[] lI = lData[i];
+                final double[] xI = x[i];
+                for (int k = FastMath.max(0, i - bandwidth); k < i; ++k) {
+                    final double[] xK = x[k];
+                    final double lIK = lI[k - i + bandwidth];
+                    for (int c = 0; c < nColB; ++c) {
+                        xI[c] -= lIK * xK[c];
+                    }
+                }
+                final double lII = lI[bandwidth];
+                for (int c = 0; c < nColB; ++c) {
+                    xI[c] /= lII;
+                }
+            }
+
+            // Solve LTX = Y
+            for (int j = m - 1; j >= 0; --j) {
+                final double[] lJ = lData[j];
+                final double[] xJ = x[j];
+                final double lJJ = lJ[bandwidth];
+                for (int c = 0; c < nColB; ++c) {
+                    xJ[c] /= lJJ;
+                }
+                for (int i = FastMath.max(0, j - bandwidth); i < j; ++i) {
+                    final double[] xI = x[i];
+                    final double lJI = lJ[i - j + bandwidth];
+                    for (int c = 0; c < nColB; ++c) {
+                        xI[c] -= xJ[c] * lJI;
+                    }
+                }
+            }
+
+            return new Array2DRowRealMatrix(x, false);
+        }
+
+        /**
+         * Get the inverse of the decomposed matrix.
+         *
+         * @return the inverse matrix.
+         */
+        @Override
+        public RealMatrix getInverse() {
+            return solve(MatrixUtils.createRealIdentityMatrix(lData.length));
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public int getRowDimension() {
+            return lData.length;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public int getColumnDimension() {
+            return lData.length;
+        }
+
+    }
+
+}
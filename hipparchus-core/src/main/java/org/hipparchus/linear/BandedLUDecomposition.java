@@ -0,0 +1,354 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hipparchus.linear;
+
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.exception.MathIllegalArgumentException;
+import org.hipparchus.util.FastMath;
+
+/**
+ * Calculates the LU-decomposition of a band matrix.
+ * <p>
+ * The decomposition uses partial pivoting, as {@link LUDecomposition} does,
+ * but it only works on the band. Row exchanges increase the upper bandwidth
+ * of U to the sum of the lower and upper bandwidths of the decomposed matrix,
+ * whereas the lower bandwidth remains unchanged, so the factorization is
+ * performed in O(n&middot;k<sub>l</sub>&middot;(k<sub>l</sub>+k<sub>u</sub>))
+ * operations and both storage and solution costs are linear in the dimension.
+ * </p>
+ * <p>
+ * As in LAPACK {@code dgbtrf}, the lower triangular factor is not stored
+ * as a matrix, but as the sequence of multipliers used at each elimination
+ * step, interleaved with the row exchanges recorded in {@link #getPivot()}.
+ * Only the {@link #getU() upper triangular factor} is therefore available.
+ * </p>
+ * @see LUDecomposition
+ * @since 3.1
+ */
+public class BandedLUDecomposition {
+
+    /** Default bound to determine effective singularity in LU decomposition. */
+    private static final double DEFAULT_TOO_SMALL = 1e-11;
+
+    /** Lower bandwidth of the decomposed matrix. */
+    private final int lowerBandwidth;
+
+    /** Upper bandwidth of the U factor. */
+    private final int upperBandwidth;
+
+    /** Entries of U and multipliers of L, row by row, entry (i, j) being at {@code [i][j - i + lowerBandwidth]}. */
+    private final double[][] lu;
+
+    /** Row exchanged with row k at step k. */
+    private final int[] pivot;
+
+    /** Parity of the permutation associated with the LU decomposition. */
+    private final boolean even;
+
+    /** Singularity indicator. */
+    private final boolean singular;
+
+    /** Cached value of U. */
+    private RealMatrix cachedU;
+
+    /**
+     * Calculates the LU-decomposition of the given band matrix.
+     * <p>
+     * This constructor uses 1e-11 as default value for the singularity
+     * threshold.
+     * </p>
+     * @param matrix matrix to decompose
+     */
+    public BandedLUDecomposition(final BandedRealMatrix matrix) {
+        this(matrix, DEFAULT_TOO_SMALL);
+    }
+
+    /**
+     * Calculates the LU-decomposition of the given band matrix.
+     * @param matrix matrix to decompose
+     * @param singularityThreshold threshold (based on pivot absolute value)
+     * under which a matrix is considered singular
+     */
+    public BandedLUDecomposition(final BandedRealMatrix matrix, final double singularityThreshold) {
+
+        final int n  = matrix.getRowDimension();
+        final int kl = matrix.getLowerBandwidth();
+        final int ku = matrix.getUpperBandwidth();
+        lowerBandwidth = kl;
+        upperBandwidth = kl + ku;
+        cachedU        = null;
+
+        // copy the band, leaving room for the fill-in due to row exchanges
+        final double[][] data = matrix.getDataRef();
+        lu    = new double[n][2 * kl + ku + 1];
+        pivot = new int[n];
+        for (int i = 0; i < n; ++i) {
+            System.arraycopy(data[i], 0, lu[i], 0, kl + ku + 1);
+        }
+
+        boolean isEven     = true;
+        boolean isSingular = false;
+        for (int k = 0; k < n; ++k) {
+
+            final int iMax = FastMath.min(n - 1, k + kl);
+            final int jMax = FastMath.min(n - 1, k + kl + ku);
+
+            // find pivot in column k
+            int max = k;
+            double largest = FastMath.abs(lu[k][kl]);
+            for (int i = k + 1; i <= iMax; ++i) {
+                final double abs = FastMath.abs(lu[i][k - i + kl]);
+                if (abs > largest) {
+                    largest = abs;
+                    max     = i;
+                }
+            }
+            pivot[k] = max;
+
+            // singularity check
+            if (largest < singularityThreshold) {
+                isSingular = true;
+                break;
+            }
+
+            // exchange the parts of the rows at the right of the multipliers
+            if (max != k) {
+                final double[] luK   = lu[k];
+                final double[] luMax = lu[max];
+                for (int j = k; j <= jMax; ++j) {
+                    final double tmp = luK[j - k + kl];
+                    luK[j - k + kl]     = luMax[j - max + kl];
+                    luMax[j - max + kl] = tmp;
+                }
+                isEven = !isEven;
+            }
+
+            // compute multipliers and update the rows below the pivot
+            final double[] luK   = lu[k];
+            final double   luKK  = luK[kl];
+            for (int i = k + 1; i <= iMax; ++i) {
+                final double[] luI = lu[i];
+                final int shift = kl - i;
+                luI[k + shift] /= luKK;
+                final double l = luI[k + shift];
+                if (l != 0) {
+                    for (int j = k + 1; j <= jMax; ++j) {
+                        luI[j + shift] -= l * luK[j - k + kl];
+                    }
+                }
+            }
+
+        }
+
+        even     = isEven;
+        singular = isSingular;
+
+    }
+
+    /**
+     * Returns the matrix U of the decomposition.
+     * <p>U is an upper-triangular band matrix</p>
+     * @return the U matrix (or null if decomposed matrix is singular)
+     */
+    public RealMatrix getU() {
+        if ((cachedU == null) && !singular) {
+            final int n = lu.length;
+            final BandedRealMatrix u = new BandedRealMatrix(n, 0, upperBandwidth);
+            final double[][] uData = u.getDataRef();
+            for (int i = 0; i < n; ++i) {
+                System.arraycopy(lu[i], lowerBandwidth, uData[i], 0, upperBandwidth + 1);
+            }
+            cachedU = u;
+        }
+        return cachedU;
+    }
+
+    /**
+     * Returns the row exchanges of the decomposition.
+     * <p>
+     * Element k of the returned array is the index of the row that
+     * was exchanged with row k at step k of the elimination. Note that
+     * this is <em>not</em> the permutation array returned by {@link
+     * LUDecomposition#getPivot()}.
+     * </p>
+     * @return the row exchanges
+     */
+    public int[] getPivot() {
+        return pivot.clone();
+    }
+
+    /**
+     * Return the determinant of the matrix
+     * @return determinant of the matrix
+     */
+    public double getDeterminant() {
+        if (singular) {
+            return 0;
+        } else {
+            double determinant = even ? 1 : -1;
+            for (int i = 0; i < lu.length; i++) {
+                determinant *= lu[i][lowerBandwidth];
+            }
+            return determinant;
+        }
+    }
+
+    /**
+     * Get a solver for finding the A &times; X = B solution in exact linear
+     * sense.
+     * @return a solver
+     */
+    public DecompositionSolver getSolver() {
+        return new Solver();
+    }
+
+    /** Specialized solver. */
+    private class Solver implements DecompositionSolver {
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean isNonSingular() {
+            return !singular;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public RealVector solve(final RealVector b) {
+            final int m = lu.length;
+            if (b.getDimension() != m) {
+                throw new MathIllegalArgumentException(LocalizedCoreFormats.DIMENSIONS_MISMATCH,
+                                                       b.getDimension(), m);
+            }
+            if (singular) {
+                throw new MathIllegalArgumentException(LocalizedCoreFormats.SINGULAR_MATRIX);
+            }
+
+            final double[] x = b.toArray();
+            final int kl = lowerBandwidth;
+
+            // Solve LY = b, applying row exchanges as they occurred
+            for (int k = 0; k < m; ++k) {
+                final int p = pivot[k];
+                if (p != k) {
+                    final double tmp = x[k];
+                    x[k] = x[p];
+                    x[p] = tmp;
+                }
+                final double xK = x[k];
+                final int iMax = FastMath.min(m - 1, k + kl);
+                for (int i = k + 1; i <= iMax; ++i) {
+                    x[i] -= lu[i][k - i + kl] * xK;
+                }
+            }
+
+            // Solve UX = Y
+            for (int k = m - 1; k >= 0; --k) {
+                final double[] luK = lu[k];
+                final int jMax = FastMath.min(m - 1, k + upperBandwidth);
+                double sum = x[k];
+                for (int j = k + 1; j <= jMax; ++j) {
+                    sum -= luK[j - k + kl] * x[j];
+                }
+                x[k] = sum / luK[kl];
+            }
+
+            return new ArrayRealVector(x, false);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public RealMatrix solve(final RealMatrix b) {
+
+            final int m = lu.length;
+            if (b.getRowDimension() != m) {
+                throw new MathIllegalArgumentException(LocalizedCoreFormats.DIMENSIONS_MISMATCH,
+                                                       b.getRowDimension(), m);
+            }
+            if (singular) {
+                throw new MathIllegalArgumentException(LocalizedCoreFormats.SINGULAR_MATRIX);
+            }
+
+            final int nColB = b.getColumnDimension();
+            final double[][] x = b.getData();
+            final int kl = lowerBandwidth;
+
+            // Solve LY = b, applying row exchanges as they occurred
+            for (int k = 0; k < m; ++k) {
+                final int p = pivot[k];
+                if (p != k) {
+                    final double[] tmp = x[k];
+                    x[k] = x[p];
+                    x[p] = tmp;
+                }
+                final double[] xK = x[k];
+                final int iMax = FastMath.min(m - 1, k + kl);
+                for (int i = k + 1; i <= iMax; ++i) {
+                    final double[] xI = x[i];
+                    final double l = lu[i][k - i + kl];
+                    for (int j = 0; j < nColB; ++j) {
+                        xI[j] -= l * xK[j];
+                    }
+                }
+            }
+
+            // Solve UX = Y
+            for (int k = m - 1; k >= 0; --k) {
+                final double[] luK = lu[k];
+                final double[] xK  = x[k];
+                final int qMax = FastMath.min(m - 1, k + upperBandwidth);
+                for (int q = k + 1; q <= qMax; ++q) {
+                    final double[] xQ = x[q];
+                    final double u = luK[q - k + kl];
+                    for (int j = 0; j < nColB; ++j) {
+                        xK[j] -= u * xQ[j];
+                    }
+                }
+                final double luDiag = luK[kl];
+                for (int j = 0; j < nColB; ++j) {
+                    xK[j] /= luDiag;
+                }
+            }
+
+            return new Array2DRowRealMatrix(x, false);
+        }
+
+        /**
+         * Get the inverse of the decomposed matrix.
+         *
+         * @return the inverse matrix.
+         * @throws MathIllegalArgumentException if the decomposed matrix is singular.
+         */
+        @Override
+        public RealMatrix getInverse() {
+            return solve(MatrixUtils.createRealIdentityMatrix(lu.length));
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public int getRowDimension() {
+            return lu.length;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public int getColumnDimension() {
+            return lu.length;
+        }
+
+    }
+
+}
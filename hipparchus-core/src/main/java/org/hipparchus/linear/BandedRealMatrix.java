@@ -0,0 +1,366 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hipparchus.linear;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.exception.MathIllegalArgumentException;
+import org.hipparchus.util.FastMath;
+import org.hipparchus.util.Precision;
+
+/**
+ * Implementation of a square band matrix.
+ * <p>
+ * Only the entries that lie on the diagonal, on the first {@link
+ * #getLowerBandwidth() lower bandwidth} sub-diagonals and on the first
+ * {@link #getUpperBandwidth() upper bandwidth} super-diagonals are stored,
+ * all other entries are zero. Storage is row-oriented: entry (i, j) is
+ * stored in element {@code [i][j - i + lowerBandwidth]} of the {@link
+ * #getDataRef() underlying array}, so each row uses {@code lowerBandwidth
+ * + upperBandwidth + 1} elements, and the elements corresponding to
+ * columns outside of the matrix (in the first and last rows) are unused.
+ * </p>
+ * <p>
+ * Matrix-vector products are computed in O(n&middot;bw) operations, and
+ * linear systems can be solved using {@link BandedLUDecomposition} or
+ * {@link BandedCholeskyDecomposition}, whose factorization costs are in
+ * O(n&middot;bw<sup>2</sup>) instead of O(n<sup>3</sup>) for dense matrices.
+ * </p>
+ * @see TridiagonalRealMatrix
+ * @since 3.1
+ */
+public class BandedRealMatrix extends AbstractRealMatrix implements Serializable {
+
+    /** Serializable version identifier. */
+    private static final long serialVersionUID = 20261017L;
+
+    /** Number of non-zero sub-diagonals. */
+    private final int lowerBandwidth;
+
+    /** Number of non-zero super-diagonals. */
+    private final int upperBandwidth;
+
+    /** Entries of the band, row by row. */
+    private final double[][] data;
+
+    /**
+     * Creates a band matrix with all entries set to zero.
+     * @param dimension number of rows and columns of the matrix
+     * @param lowerBandwidth number of non-zero sub-diagonals
+     * @param upperBandwidth number of non-zero super-diagonals
+     * @exception MathIllegalArgumentException if dimension is not positive
+     * or one of the bandwidths is negative
+     */
+    public BandedRealMatrix(final int dimension, final int lowerBandwidth, final int upperBandwidth)
+        throws MathIllegalArgumentException {
+        super(dimension, dimension);
+        checkBandwidth(lowerBandwidth);
+        checkBandwidth(upperBandwidth);
+        this.lowerBandwidth = lowerBandwidth;
+        this.upperBandwidth = upperBandwidth;
+        this.data           = new double[dimension][lowerBandwidth + upperBandwidth + 1];
+    }
+
+    /**
+     * Creates a band matrix by copying the band of another matrix.
+     * @param matrix square matrix to copy
+     * @param lowerBandwidth number of non-zero sub-diagonals
+     * @param upperBandwidth number of non-zero super-diagonals
+     * @exception MathIllegalArgumentException if matrix is not square,
+     * one of the bandwidths is negative, or an entry outside of the band is non-zero
+     */
+    public BandedRealMatrix(final RealMatrix matrix, final int lowerBandwidth, final int upperBandwidth)
+        throws MathIllegalArgumentException {
+        this(checkSquare(matrix), lowerBandwidth, upperBandwidth);
+        final int n = getRowDimension();
+        for (int i = 0; i < n; ++i) {
+            for (int j = 0; j < n; ++j) {
+                setEntry(i, j, matrix.getEntry(i, j));
+            }
+        }
+    }
+
+    /**
+     * Creates a band matrix using the input array as the underlying data.
+     * <p>
+     * The array layout is the one described in the class documentation.
+     * </p>
+     * @param data entries of the band, row by row
+     * @param lowerBandwidth number of non-zero sub-diagonals
+     * @param upperBandwidth number of non-zero super-diagonals
+     * @param copyArray if {@code true}, the input array will be copied,
+     * otherwise it will be referenced
+     * @exception MathIllegalArgumentException if one of the bandwidths is negative
+     * or rows do not have {@code lowerBandwidth + upperBandwidth + 1} elements
+     */
+    public BandedRealMatrix(final double[][] data, final int lowerBandwidth, final int upperBandwidth,
+                            final boolean copyArray)
+        throws MathIllegalArgumentException {
+        super(data.length, data.length);
+        checkBandwidth(lowerBandwidth);
+        checkBandwidth(upperBandwidth);
+        final int width = lowerBandwidth + upperBandwidth + 1;
+        for (final double[] row : data) {
+            if (row.length != width) {
+                throw new MathIllegalArgumentException(LocalizedCoreFormats.DIMENSIONS_MISMATCH,
+                                                       row.length, width);
+            }
+        }
+        this.lowerBandwidth = lowerBandwidth;
+        this.upperBandwidth = upperBandwidth;
+        if (copyArray) {
+            this.data = new double[data.length][];
+            for (int i = 0; i < data.length; ++i) {
+                this.data[i] = data[i].clone();
+            }
+        } else {
+            this.data = data;
+        }
+    }
+
+    /** Check a matrix is square.
+     * @param matrix matrix to check
+     * @return dimension of the matrix
+     * @exception MathIllegalArgumentException if matrix is not square
+     */
+    private static int checkSquare(final RealMatrix matrix) throws MathIllegalArgumentException {
+        if (!matrix.isSquare()) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.NON_SQUARE_MATRIX,
+                                                   matrix.getRowDimension(), matrix.getColumnDimension());
+        }
+        return matrix.getRowDimension();
+    }
+
+    /** Check a bandwidth is not negative.
+     * @param bandwidth bandwidth to check
+     * @exception MathIllegalArgumentException if bandwidth is negative
+     */
+    private static void checkBandwidth(final int bandwidth) throws MathIllegalArgumentException {
+        if (bandwidth < 0) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.NUMBER_TOO_SMALL, bandwidth, 0);
+        }
+    }
+
+    /** Get the number of non-zero sub-diagonals.
+     * @return number of non-zero sub-diagonals
+     */
+    public int getLowerBandwidth() {
+        return lowerBandwidth;
+    }
+
+    /** Get the number of non-zero super-diagonals.
+     * @return number of non-zero super-diagonals
+     */
+    public int getUpperBandwidth() {
+        return upperBandwidth;
+    }
+
+    /**
+     * Gets a reference to the underlying data array.
+     * <p>
+     * The array layout is the one described in the class documentation.
+     * </p>
+     * @return entries of the band, row by row
+     */
+    public double[][] getDataRef() {
+        return data; // NOPMD - returning an internal array is intentional and documented here
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * As the results of general operations on band matrices do not share
+     * the band structure, the created matrix is a dense matrix.
+     * </p>
+     */
+    @Override
+    public RealMatrix createMatrix(final int rowDimension, final int columnDimension)
+        throws MathIllegalArgumentException {
+        return MatrixUtils.createRealMatrix(rowDimension, columnDimension);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public BandedRealMatrix copy() {
+        return new BandedRealMatrix(data, lowerBandwidth, upperBandwidth, true);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public BandedRealMatrix transpose() {
+        final int n = data.length;
+        final double[][] tData = new double[n][lowerBandwidth + upperBandwidth + 1];
+        for (int i = 0; i < n; ++i) {
+            final int jMin = FastMath.max(0, i - lowerBandwidth);
+            final int jMax = FastMath.min(n - 1, i + upperBandwidth);
+            for (int j = jMin; j <= jMax; ++j) {
+                // entry (i, j) becomes entry (j, i), upper and lower bandwidths being exchanged
+                tData[j][i - j + upperBandwidth] = data[i][j - i + lowerBandwidth];
+            }
+        }
+        return new BandedRealMatrix(tData, upperBandwidth, lowerBandwidth, false);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int getRowDimension() {
+        return data.length;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int getColumnDimension() {
+        return data.length;
+    }
+
+    /** Check if an entry belongs to the band.
+     * @param row row index of the entry
+     * @param column column index of the entry
+     * @return true if the entry belongs to the band
+     */
+    private boolean inBand(final int row, final int column) {
+        return column >= row - lowerBandwidth && column <= row + upperBandwidth;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public double getEntry(final int row, final int column)
+        throws MathIllegalArgumentException {
+        MatrixUtils.checkMatrixIndex(this, row, column);
+        return inBand(row, column) ? data[row][column - row + lowerBandwidth] : 0;
+    }
+
+    /** {@inheritDoc}
+     * @throws MathIllegalArgumentException if entry is outside of the band and value is non-zero.
+     */
+    @Override
+    public void setEntry(final int row, final int column, final double value)
+        throws MathIllegalArgumentException {
+        MatrixUtils.checkMatrixIndex(this, row, column);
+        if (inBand(row, column)) {
+            data[row][column - row + lowerBandwidth] = value;
+        } else {
+            ensureZero(value);
+        }
+    }
+
+    /** {@inheritDoc}
+     * @throws MathIllegalArgumentException if entry is outside of the band and increment is non-zero.
+     */
+    @Override
+    public void addToEntry(final int row, final int column, final double increment)
+        throws MathIllegalArgumentException {
+        MatrixUtils.checkMatrixIndex(this, row, column);
+        if (inBand(row, column)) {
+            data[row][column - row + lowerBandwidth] += increment;
+        } else {
+            ensureZero(increment);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void multiplyEntry(final int row, final int column, final double factor)
+        throws MathIllegalArgumentException {
+        MatrixUtils.checkMatrixIndex(this, row, column);
+        // we don't care about entries outside of the band for multiplication
+        if (inBand(row, column)) {
+            data[row][column - row + lowerBandwidth] *= factor;
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public double[] operate(final double[] v) throws MathIllegalArgumentException {
+        final double[] out = new double[data.length];
+        operate(v, out);
+        return out;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void operate(final double[] v, final double[] out) throws MathIllegalArgumentException {
+        final int n = data.length;
+        if (v.length != n) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.DIMENSIONS_MISMATCH, v.length, n);
+        }
+        if (out.length != n) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.DIMENSIONS_MISMATCH, out.length, n);
+        }
+        for (int i = 0; i < n; ++i) {
+            final double[] dataI = data[i];
+            final int jMin = FastMath.max(0, i - lowerBandwidth);
+            final int jMax = FastMath.min(n - 1, i + upperBandwidth);
+            final int shift = lowerBandwidth - i;
+            double sum = 0;
+            for (int j = jMin; j <= jMax; ++j) {
+                sum += dataI[j + shift] * v[j];
+            }
+            out[i] = sum;
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public double[] preMultiply(final double[] v) throws MathIllegalArgumentException {
+        final double[] out = new double[data.length];
+        preMultiply(v, out);
+        return out;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void preMultiply(final double[] v, final double[] out) throws MathIllegalArgumentException {
+        final int n = data.length;
+        if (v.length != n) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.DIMENSIONS_MISMATCH, v.length, n);
+        }
+        if (out.length != n) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.DIMENSIONS_MISMATCH, out.length, n);
+        }
+        if (out == v) {
+            // the accumulation below needs the original vector
+            preMultiply(v.clone(), out);
+            return;
+        }
+        Arrays.fill(out, 0.0);
+        for (int i = 0; i < n; ++i) {
+            final double[] dataI = data[i];
+            final int jMin = FastMath.max(0, i - lowerBandwidth);
+            final int jMax = FastMath.min(n - 1, i + upperBandwidth);
+            final int shift = lowerBandwidth - i;
+            final double vI = v[i];
+            for (int j = jMin; j <= jMax; ++j) {
+                out[j] += vI * dataI[j + shift];
+            }
+        }
+    }
+
+    /** Ensure a value is zero.
+     * @param value value to check
+     * @exception MathIllegalArgumentException if value is not zero
+     */
+    private void ensureZero(final double value) throws MathIllegalArgumentException {
+        if (!Precision.equals(0.0, value, 1)) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.NUMBER_TOO_LARGE,
+                                                   FastMath.abs(value), 0);
+        }
+    }
+
+}
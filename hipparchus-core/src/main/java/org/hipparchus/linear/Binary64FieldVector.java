@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hipparchus.linear;
+
+import org.hipparchus.util.Binary64;
+
+/**
+ * Vector of {@link Binary64} elements using a structure of arrays layout.
+ * @see AbstractPlanesFieldVector
+ * @since 3.1
+ */
+public class Binary64FieldVector extends AbstractPlanesFieldVector<Binary64> {
+
+    /** Layout of the elements. */
+    private static final FieldPlanes<Binary64> LAYOUT = FieldPlanes.binary64();
+
+    /**
+     * Create a vector with all entries set to zero.
+     * @param size dimension of the vector
+     */
+    public Binary64FieldVector(final int size) {
+        super(LAYOUT, size);
+    }
+
+    /**
+     * Create a vector by copying another vector.
+     * @param v vector to copy
+     */
+    public Binary64FieldVector(final FieldVector<Binary64> v) {
+        super(LAYOUT, v);
+    }
+
+    /**
+     * Create a vector using the input planes as the underlying data.
+     * @param planes planes of the entries (not copied)
+     */
+    Binary64FieldVector(final double[][] planes) {
+        super(LAYOUT, planes);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected Binary64FieldVector create(final double[][] p) {
+        return new Binary64FieldVector(p);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected Binary64FieldMatrix createMatrix(final int rowDimension, final int columnDimension, final double[][] p) {
+        return new Binary64FieldMatrix(rowDimension, columnDimension, p);
+    }
+
+}
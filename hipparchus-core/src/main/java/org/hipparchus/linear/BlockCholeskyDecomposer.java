@@ -0,0 +1,212 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hipparchus.linear;
+
+import java.util.concurrent.ForkJoinPool;
+
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.exception.MathIllegalArgumentException;
+import org.hipparchus.util.FastMath;
+import org.hipparchus.util.MathUtils;
+
+/** Matrix decomposer using a blocked and parallel Cholesky decomposition.
+ * <p>
+ * This decomposer computes the same decomposition as {@link CholeskyDecomposer},
+ * but it uses a right-looking blocked algorithm. At each step, a panel of rows
+ * of L<sup>T</sup> is computed, then the trailing sub-matrix is updated by a
+ * symmetric rank-k product. This last step performs almost all the floating
+ * point operations; it is performed in parallel by the specified pool and on
+ * cache-friendly tiles. This makes this decomposer much faster than {@link
+ * CholeskyDecomposer} for large matrices. As the operations are performed in
+ * a different order, the results may differ from the ones of {@link
+ * CholeskyDecomposer} by a few ulps.
+ * </p>
+ * @see CholeskyDecomposer
+ * @since 3.1
+ */
+public class BlockCholeskyDecomposer implements MatrixDecomposer {
+
+    /** Default number of rows in each panel. */
+    public static final int DEFAULT_BLOCK_SIZE = 64;
+
+    /** Number of columns in each tile of the trailing sub-matrix updates. */
+    private static final int TILE_WIDTH = 256;
+
+    /** Threshold above which off-diagonal elements are considered too different and matrix not symmetric. */
+    private final double relativeSymmetryThreshold;
+
+    /** Threshold below which diagonal elements are considered null and matrix not positive definite. */
+    private final double absolutePositivityThreshold;
+
+    /** Number of rows in each panel. */
+    private final int blockSize;
+
+    /** Pool in which the updates are performed. */
+    private final ForkJoinPool pool;
+
+    /**
+     * Creates a blocked Cholesky decomposer with default block size.
+     * @param relativeSymmetryThreshold threshold above which off-diagonal
+     * elements are considered too different and matrix not symmetric
+     * @param absolutePositivityThreshold threshold below which diagonal
+     * elements are considered null and matrix not positive definite
+     * @param pool pool in which the updates are performed
+     */
+    public BlockCholeskyDecomposer(final double relativeSymmetryThreshold,
+                                   final double absolutePositivityThreshold,
+                                   final ForkJoinPool pool) {
+        this(relativeSymmetryThreshold, absolutePositivityThreshold, DEFAULT_BLOCK_SIZE, pool);
+    }
+
+    /**
+     * Creates a blocked Cholesky decomposer.
+     * @param relativeSymmetryThreshold threshold above which off-diagonal
+     * elements are considered too different and matrix not symmetric
+     * @param absolutePositivityThreshold threshold below which diagonal
+     * elements are considered null and matrix not positive definite
+     * @param blockSize number of rows in each panel
+     * @param pool pool in which the updates are performed
+     * @exception MathIllegalArgumentException if block size is not strictly positive
+     */
+    public BlockCholeskyDecomposer(final double relativeSymmetryThreshold,
+                                   final double absolutePositivityThreshold,
+                                   final int blockSize,
+                                   final ForkJoinPool pool)
+        throws MathIllegalArgumentException {
+        if (blockSize < 1) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.NUMBER_TOO_SMALL, blockSize, 1);
+        }
+        MathUtils.checkNotNull(pool);
+        this.relativeSymmetryThreshold   = relativeSymmetryThreshold;
+        this.absolutePositivityThreshold = absolutePositivityThreshold;
+        this.blockSize                   = blockSize;
+        this.pool                        = pool;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public DecompositionSolver decompose(final RealMatrix a) {
+        return decomposeCholesky(a).getSolver();
+    }
+
+    /** Compute the Cholesky decomposition of a matrix.
+     * @param matrix matrix to decompose
+     * @return Cholesky decomposition of the matrix
+     * @throws MathIllegalArgumentException if the matrix is not square.
+     * @throws MathIllegalArgumentException if the matrix is not symmetric.
+     * @throws MathIllegalArgumentException if the matrix is not
+     * strictly positive definite.
+     */
+    public CholeskyDecomposition decomposeCholesky(final RealMatrix matrix)
+        throws MathIllegalArgumentException {
+
+        if (!matrix.isSquare()) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.NON_SQUARE_MATRIX,
+                                                   matrix.getRowDimension(), matrix.getColumnDimension());
+        }
+
+        final int order = matrix.getRowDimension();
+        final double[][] lT = matrix.getData();
+
+        // check the matrix before transformation
+        for (int i = 0; i < order; ++i) {
+            final double[] lI = lT[i];
+
+            // check off-diagonal elements (and reset them to 0)
+            for (int j = i + 1; j < order; ++j) {
+                final double[] lJ = lT[j];
+                final double lIJ = lI[j];
+                final double lJI = lJ[i];
+                final double maxDelta =
+                    relativeSymmetryThreshold * FastMath.max(FastMath.abs(lIJ), FastMath.abs(lJI));
+                if (FastMath.abs(lIJ - lJI) > maxDelta) {
+                    throw new MathIllegalArgumentException(LocalizedCoreFormats.NON_SYMMETRIC_MATRIX,
+                                                           i, j, relativeSymmetryThreshold);
+                }
+                lJ[i] = 0;
+            }
+        }
+
+        for (int panel = 0; panel < order; panel += blockSize) {
+            final int k0 = panel;
+            final int k1 = FastMath.min(k0 + blockSize, order);
+
+            // compute the panel with rows k0 to k1 - 1 of L^T
+            for (int i = k0; i < k1; ++i) {
+
+                final double[] ltI = lT[i];
+
+                // check diagonal element
+                if (ltI[i] <= absolutePositivityThreshold) {
+                    throw new MathIllegalArgumentException(LocalizedCoreFormats.NOT_POSITIVE_DEFINITE_MATRIX);
+                }
+
+                ltI[i] = FastMath.sqrt(ltI[i]);
+                final double inverse = 1.0 / ltI[i];
+                for (int q = i + 1; q < order; ++q) {
+                    ltI[q] *= inverse;
+                }
+
+                // update the remaining rows of the panel
+                for (int q = i + 1; q < k1; ++q) {
+                    final double[] ltQ = lT[q];
+                    final double   f   = ltI[q];
+                    for (int p = q; p < order; ++p) {
+                        ltQ[p] -= f * ltI[p];
+                    }
+                }
+
+            }
+
+            if (k1 < order) {
+                // update trailing sub-matrix (upper part only): A22 = A22 - U12^T U12
+                pool.invoke(new RangeTask((start, end) -> {
+                    for (int p0 = start; p0 < order; p0 += TILE_WIDTH) {
+                        final int p1 = FastMath.min(p0 + TILE_WIDTH, order);
+                        for (int q = start; q < end && q < p1; ++q) {
+                            final double[] ltQ = lT[q];
+                            final int pStart = FastMath.max(q, p0);
+                            for (int i = k0; i < k1; ++i) {
+                                final double[] ltI = lT[i];
+                                final double   f   = ltI[q];
+                                if (f != 0) {
+                                    for (int p = pStart; p < p1; ++p) {
+                                        ltQ[p] -= f * ltI[p];
+                                    }
+                                }
+                            }
+                        }
+                    }
+                }, k1, order, rowsGrain(order - k1)));
+            }
+
+        }
+
+        return new CholeskyDecomposition(lT);
+
+    }
+
+    /** Get the number of rows updated by each task.
+     * @param width number of columns to update
+     * @return number of rows updated by each task
+     */
+    private int rowsGrain(final int width) {
+        // aim at about 2^18 multiplications per task (rows are half-filled on average)
+        return FastMath.max(1, (1 << 19) / FastMath.max(1, width * blockSize));
+    }
+
+}
@@ -0,0 +1,218 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hipparchus.linear;
+
+import java.util.concurrent.ForkJoinPool;
+
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.exception.MathIllegalArgumentException;
+import org.hipparchus.util.FastMath;
+import org.hipparchus.util.MathUtils;
+
+/** Matrix decomposer using a blocked and parallel LU-decomposition.
+ * <p>
+ * This decomposer computes the same decomposition as {@link LUDecomposer}
+ * (with partial pivoting), but it uses a right-looking blocked algorithm.
+ * At each step, a panel of columns is factorized, then the corresponding
+ * rows of the upper triangular matrix are computed and finally the
+ * trailing sub-matrix is updated by a matrix product. These last two steps
+ * perform almost all the floating point operations; they are performed in
+ * parallel by the specified pool and on cache-friendly tiles. This makes this
+ * decomposer much faster than {@link LUDecomposer} for large matrices. As
+ * the operations are performed in a different order, the results may differ
+ * from the ones of {@link LUDecomposer} by a few ulps.
+ * </p>
+ * @see LUDecomposer
+ * @since 3.1
+ */
+public class BlockLUDecomposer implements MatrixDecomposer {
+
+    /** Default number of columns in each panel. */
+    public static final int DEFAULT_BLOCK_SIZE = 64;
+
+    /** Number of columns in each tile of the trailing sub-matrix updates. */
+    private static final int TILE_WIDTH = 256;
+
+    /** Threshold under which a matrix is considered singular. */
+    private final double singularityThreshold;
+
+    /** Number of columns in each panel. */
+    private final int blockSize;
+
+    /** Pool in which the updates are performed. */
+    private final ForkJoinPool pool;
+
+    /**
+     * Creates a blocked LU decomposer with default block size.
+     * @param singularityThreshold threshold (based on partial row norm)
+     * under which a matrix is considered singular
+     * @param pool pool in which the updates are performed
+     */
+    public BlockLUDecomposer(final double singularityThreshold, final ForkJoinPool pool) {
+        this(singularityThreshold, DEFAULT_BLOCK_SIZE, pool);
+    }
+
+    /**
+     * Creates a blocked LU decomposer.
+     * @param singularityThreshold threshold (based on partial row norm)
+     * under which a matrix is considered singular
+     * @param blockSize number of columns in each panel
+     * @param pool pool in which the updates are performed
+     * @exception MathIllegalArgumentException if block size is not strictly positive
+     */
+    public BlockLUDecomposer(final double singularityThreshold, final int blockSize, final ForkJoinPool pool)
+        throws MathIllegalArgumentException {
+        if (blockSize < 1) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.NUMBER_TOO_SMALL, blockSize, 1);
+        }
+        MathUtils.checkNotNull(pool);
+        this.singularityThreshold = singularityThreshold;
+        this.blockSize            = blockSize;
+        this.pool                 = pool;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public DecompositionSolver decompose(final RealMatrix a) {
+        return decomposeLU(a).getSolver();
+    }
+
+    /** Compute the LU-decomposition of a matrix.
+     * @param a matrix to decompose
+     * @return LU-decomposition of the matrix
+     * @exception MathIllegalArgumentException if matrix is not square
+     */
+    public LUDecomposition decomposeLU(final RealMatrix a) throws MathIllegalArgumentException {
+
+        if (!a.isSquare()) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.NON_SQUARE_MATRIX,
+                                                   a.getRowDimension(), a.getColumnDimension());
+        }
+
+        final int m = a.getColumnDimension();
+        final double[][] lu = a.getData();
+        final int[] pivot = new int[m];
+        for (int row = 0; row < m; row++) {
+            pivot[row] = row;
+        }
+        boolean even = true;
+
+        for (int panel = 0; panel < m; panel += blockSize) {
+            final int k0 = panel;
+            final int k1 = FastMath.min(k0 + blockSize, m);
+
+            // factorize the panel with columns k0 to k1 - 1
+            for (int col = k0; col < k1; ++col) {
+
+                // find pivot
+                int max = col;
+                double largest = FastMath.abs(lu[col][col]);
+                for (int row = col + 1; row < m; ++row) {
+                    final double abs = FastMath.abs(lu[row][col]);
+                    if (abs > largest) {
+                        largest = abs;
+                        max     = row;
+                    }
+                }
+
+                // singularity check
+                if (largest < singularityThreshold) {
+                    return new LUDecomposition(lu, pivot, even, true);
+                }
+
+                // pivot if necessary (whole rows are exchanged, including already computed parts of L)
+                if (max != col) {
+                    final double[] tmp = lu[max];
+                    lu[max] = lu[col];
+                    lu[col] = tmp;
+                    final int temp = pivot[max];
+                    pivot[max] = pivot[col];
+                    pivot[col] = temp;
+                    even = !even;
+                }
+
+                // compute column of L and update the remaining columns of the panel
+                final double[] luCol  = lu[col];
+                final double   luDiag = luCol[col];
+                for (int row = col + 1; row < m; ++row) {
+                    final double[] luRow = lu[row];
+                    luRow[col] /= luDiag;
+                    final double l = luRow[col];
+                    if (l != 0) {
+                        for (int j = col + 1; j < k1; ++j) {
+                            luRow[j] -= l * luCol[j];
+                        }
+                    }
+                }
+
+            }
+
+            if (k1 < m) {
+
+                // compute the rows of U at the right of the panel: U12 = L11^-1 A12
+                pool.invoke(new RangeTask((start, end) -> {
+                    for (int row = k0 + 1; row < k1; ++row) {
+                        final double[] luRow = lu[row];
+                        for (int q = k0; q < row; ++q) {
+                            final double l = luRow[q];
+                            if (l != 0) {
+                                final double[] luQ = lu[q];
+                                for (int j = start; j < end; ++j) {
+                                    luRow[j] -= l * luQ[j];
+                                }
+                            }
+                        }
+                    }
+                }, k1, m, TILE_WIDTH));
+
+                // update trailing sub-matrix: A22 = A22 - L21 U12
+                pool.invoke(new RangeTask((start, end) -> {
+                    for (int j0 = k1; j0 < m; j0 += TILE_WIDTH) {
+                        final int j1 = FastMath.min(j0 + TILE_WIDTH, m);
+                        for (int row = start; row < end; ++row) {
+                            final double[] luRow = lu[row];
+                            for (int q = k0; q < k1; ++q) {
+                                final double l = luRow[q];
+                                if (l != 0) {
+                                    final double[] luQ = lu[q];
+                                    for (int j = j0; j < j1; ++j) {
+                                        luRow[j] -= l * luQ[j];
+                                    }
+                                }
+                            }
+                        }
+                    }
+                }, k1, m, rowsGrain(m - k1)));
+
+            }
+
+        }
+
+        return new LUDecomposition(lu, pivot, even, false);
+
+    }
+
+    /** Get the number of rows updated by each task.
+     * @param width number of columns to update
+     * @return number of rows updated by each task
+     */
+    private int rowsGrain(final int width) {
+        // aim at about 2^18 multiplications per task
+        return FastMath.max(1, (1 << 18) / FastMath.max(1, width * blockSize));
+    }
+
+}
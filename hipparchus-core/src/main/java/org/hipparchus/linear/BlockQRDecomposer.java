@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hipparchus.linear;
+
+import java.util.concurrent.ForkJoinPool;
+
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.exception.MathIllegalArgumentException;
+import org.hipparchus.util.MathUtils;
+
+/** Matrix decomposer using a blocked and parallel QR-decomposition.
+ * @see BlockQRDecomposition
+ * @see QRDecomposer
+ * @since 3.1
+ */
+public class BlockQRDecomposer implements MatrixDecomposer {
+
+    /** Threshold under which a matrix is considered singular. */
+    private final double singularityThreshold;
+
+    /** Number of columns in each panel. */
+    private final int blockSize;
+
+    /** Pool in which the updates are performed. */
+    private final ForkJoinPool pool;
+
+    /**
+     * Creates a blocked QR decomposer with default block size.
+     * @param singularityThreshold threshold (based on partial row norm)
+     * under which a matrix is considered singular
+     * @param pool pool in which the updates are performed
+     */
+    public BlockQRDecomposer(final double singularityThreshold, final ForkJoinPool pool) {
+        this(singularityThreshold, BlockQRDecomposition.DEFAULT_BLOCK_SIZE, pool);
+    }
+
+    /**
+     * Creates a blocked QR decomposer.
+     * @param singularityThreshold threshold (based on partial row norm)
+     * under which a matrix is considered singular
+     * @param blockSize number of columns in each panel
+     * @param pool pool in which the updates are performed
+     * @exception MathIllegalArgumentException if block size is not strictly positive
+     */
+    public BlockQRDecomposer(final double singularityThreshold, final int blockSize, final ForkJoinPool pool)
+        throws MathIllegalArgumentException {
+        if (blockSize < 1) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.NUMBER_TOO_SMALL, blockSize, 1);
+        }
+        MathUtils.checkNotNull(pool);
+        this.singularityThreshold = singularityThreshold;
+        this.blockSize            = blockSize;
+        this.pool                 = pool;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public DecompositionSolver decompose(final RealMatrix a) {
+        return new BlockQRDecomposition(a, singularityThreshold, blockSize, pool).getSolver();
+    }
+
+}
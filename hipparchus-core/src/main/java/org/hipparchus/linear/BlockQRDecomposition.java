@@ -0,0 +1,543 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hipparchus.linear;
+
+import java.util.concurrent.ForkJoinPool;
+
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.exception.MathIllegalArgumentException;
+import org.hipparchus.util.FastMath;
+import org.hipparchus.util.MathUtils;
+
+/**
+ * Calculates the QR-decomposition of a matrix using a blocked algorithm.
+ * <p>
+ * This class computes the same decomposition as {@link QRDecomposition},
+ * using the same Householder reflectors, but the reflectors are grouped
+ * by panels of consecutive columns. The product of all reflectors in a panel
+ * is kept in compact WY representation: H<sub>1</sub>&hellip;H<sub>b</sub>
+ * = I - V T V<sup>T</sup>, where V holds the reflector vectors and T is a
+ * small upper triangular matrix. Applying a whole panel to the remaining
+ * columns (or to the right hand sides in the {@link #getSolver() solver})
+ * is then performed by matrix products, walking through the rows by chunks
+ * so the reflector vectors are reused from cache. These updates are performed
+ * in parallel by the specified pool. This makes this class much faster than
+ * {@link QRDecomposition} for large matrices, and especially for tall matrices
+ * as encountered in least squares problems. As the operations are performed
+ * in a different order, the results may differ from the ones of
+ * {@link QRDecomposition} by a few ulps.
+ * </p>
+ * <p>
+ * As in {@link QRDecomposition}, the decomposition in packed form is transposed,
+ * so each reflector vector is stored in a contiguous array.
+ * </p>
+ * @see QRDecomposition
+ * @see BlockQRDecomposer
+ * @since 3.1
+ */
+public class BlockQRDecomposition {
+
+    /** Default number of columns in each panel. */
+    public static final int DEFAULT_BLOCK_SIZE = 64;
+
+    /** Number of rows in each chunk of the panel applications. */
+    private static final int ROWS_CHUNK = 512;
+
+    /** Minimum number of columns updated by each task. */
+    private static final int MIN_COLUMNS_GRAIN = 8;
+
+    /**
+     * A packed TRANSPOSED representation of the QR decomposition.
+     * <p>The elements BELOW the diagonal are the elements of the UPPER triangular
+     * matrix R, and the rows ABOVE the diagonal are the Householder reflector vectors
+     * from which an explicit form of Q can be recomputed if desired.</p>
+     */
+    private final double[][] qrt;
+
+    /** The diagonal elements of R. */
+    private final double[] rDiag;
+
+    /** Triangular factors T of the compact WY representation, one per panel. */
+    private final double[][][] tFactors;
+
+    /** Number of columns in each panel. */
+    private final int blockSize;
+
+    /** Pool in which the updates are performed. */
+    private final ForkJoinPool pool;
+
+    /** Singularity threshold. */
+    private final double threshold;
+
+    /** Cached value of Q. */
+    private RealMatrix cachedQ;
+
+    /** Cached value of QT. */
+    private RealMatrix cachedQT;
+
+    /** Cached value of R. */
+    private RealMatrix cachedR;
+
+    /** Cached value of H. */
+    private RealMatrix cachedH;
+
+    /**
+     * Calculates the QR-decomposition of the given matrix with default block size.
+     *
+     * @param matrix The matrix to decompose.
+     * @param threshold Singularity threshold.
+     * @param pool pool in which the updates are performed
+     */
+    public BlockQRDecomposition(final RealMatrix matrix, final double threshold, final ForkJoinPool pool) {
+        this(matrix, threshold, DEFAULT_BLOCK_SIZE, pool);
+    }
+
+    /**
+     * Calculates the QR-decomposition of the given matrix.
+     *
+     * @param matrix The matrix to decompose.
+     * @param threshold Singularity threshold.
+     * @param blockSize number of columns in each panel
+     * @param pool pool in which the updates are performed
+     * @exception MathIllegalArgumentException if block size is not strictly positive
+     */
+    public BlockQRDecomposition(final RealMatrix matrix, final double threshold,
+                                final int blockSize, final ForkJoinPool pool)
+        throws MathIllegalArgumentException {
+
+        if (blockSize < 1) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.NUMBER_TOO_SMALL, blockSize, 1);
+        }
+        MathUtils.checkNotNull(pool);
+        this.threshold = threshold;
+        this.blockSize = blockSize;
+        this.pool      = pool;
+
+        final int m = matrix.getRowDimension();
+        final int n = matrix.getColumnDimension();
+        final int p = FastMath.min(m, n);
+        qrt      = matrix.transpose().getData();
+        rDiag    = new double[p];
+        tFactors = new double[(p + blockSize - 1) / blockSize][][];
+
+        for (int k0 = 0; k0 < p; k0 += blockSize) {
+            final int k1 = FastMath.min(k0 + blockSize, p);
+            final double[][] t = factorizePanel(k0, k1);
+            tFactors[k0 / blockSize] = t;
+            if (k1 < n) {
+                // update trailing columns: A22 = (I - V T V^T)^T A22
+                applyPanelInParallel(k0, t, qrt, k1, n);
+            }
+        }
+
+    }
+
+    /** Factorize one panel.
+     * <p>
+     * The Householder reflections are applied only to the columns within the panel.
+     * </p>
+     * @param k0 index of the first column of the panel (included)
+     * @param k1 index of the last column of the panel (excluded)
+     * @return triangular factor T of the compact WY representation of the panel
+     */
+    private double[][] factorizePanel(final int k0, final int k1) {
+
+        final int      m   = qrt[0].length;
+        final int      b   = k1 - k0;
+        final double[] tau = new double[b];
+
+        for (int minor = k0; minor < k1; ++minor) {
+
+            final double[] qrtMinor = qrt[minor];
+
+            // see QRDecomposition.performHouseholderReflection for the details
+            double xNormSqr = 0;
+            for (int row = minor; row < m; row++) {
+                final double c = qrtMinor[row];
+                xNormSqr += c * c;
+            }
+            final double a = (qrtMinor[minor] > 0) ? -FastMath.sqrt(xNormSqr) : FastMath.sqrt(xNormSqr);
+            rDiag[minor] = a;
+
+            if (a != 0.0) {
+
+                // reflection vector v = x - ae, the reflector is H = I - tau v v^T
+                qrtMinor[minor] -= a;
+                tau[minor - k0] = -1.0 / (a * qrtMinor[minor]);
+
+                // transform the rest of the columns of the panel
+                for (int col = minor + 1; col < k1; col++) {
+                    final double[] qrtCol = qrt[col];
+                    double alpha = 0;
+                    for (int row = minor; row < m; row++) {
+                        alpha += qrtCol[row] * qrtMinor[row];
+                    }
+                    alpha *= tau[minor - k0];
+                    for (int row = minor; row < m; row++) {
+                        qrtCol[row] -= alpha * qrtMinor[row];
+                    }
+                }
+
+            }
+        }
+
+        // build the triangular factor, column by column:
+        // T(0:i-1, i) = -tau(i) T(0:i-1, 0:i-1) V(:, 0:i-1)^T v(i)
+        final double[][] t = new double[b][b];
+        final double[]   z = new double[b];
+        for (int i = 0; i < b; ++i) {
+            t[i][i] = tau[i];
+            if (tau[i] != 0) {
+                final double[] vI = qrt[k0 + i];
+                for (int q = 0; q < i; ++q) {
+                    final double[] vQ = qrt[k0 + q];
+                    double dot = 0;
+                    for (int row = k0 + i; row < m; ++row) {
+                        dot += vQ[row] * vI[row];
+                    }
+                    z[q] = dot;
+                }
+                for (int q = 0; q < i; ++q) {
+                    final double[] tQ = t[q];
+                    double sum = 0;
+                    for (int r = q; r < i; ++r) {
+                        sum += tQ[r] * z[r];
+                    }
+                    tQ[i] = -tau[i] * sum;
+                }
+            }
+        }
+
+        return t;
+
+    }
+
+    /** Apply the transpose of the reflectors product of one panel to a set of columns, in parallel.
+     * @param k0 index of the first column of the panel (included)
+     * @param t triangular factor T of the compact WY representation of the panel
+     * @param columns columns to update (each array is one column)
+     * @param start index of the first column to update (included)
+     * @param end index of the last column to update (excluded)
+     */
+    private void applyPanelInParallel(final int k0, final double[][] t,
+                                      final double[][] columns, final int start, final int end) {
+        // aim at about 2^18 multiplications per task
+        final int grain = FastMath.max(MIN_COLUMNS_GRAIN,
+                                       (1 << 18) / FastMath.max(1, t.length * (qrt[0].length - k0)));
+        pool.invoke(new RangeTask((rangeStart, rangeEnd) -> applyPanel(k0, t, columns, rangeStart, rangeEnd),
+                                  start, end, grain));
+    }
+
+    /** Apply the transpose of the reflectors product of one panel to a set of columns.
+     * <p>
+     * The columns are updated as C = (I - V T V<sup>T</sup>)<sup>T</sup> C,
+     * i.e. W = V<sup>T</sup> C is computed first, then C = C - V (T<sup>T</sup> W).
+     * Both products walk through the rows by chunks, so the part of the
+     * reflector vectors corresponding to a chunk is reused for all columns.
+     * </p>
+     * @param k0 index of the first column of the panel (included)
+     * @param t triangular factor T of the compact WY representation of the panel
+     * @param columns columns to update (each array is one column)
+     * @param start index of the first column to update (included)
+     * @param end index of the last column to update (excluded)
+     */
+    private void applyPanel(final int k0, final double[][] t,
+                            final double[][] columns, final int start, final int end) {
+
+        final int m = qrt[0].length;
+        final int b = t.length;
+        final double[][] w = new double[end - start][b];
+
+        // W = V^T C
+        for (int r0 = k0; r0 < m; r0 += ROWS_CHUNK) {
+            final int r1 = FastMath.min(r0 + ROWS_CHUNK, m);
+            for (int j = start; j < end; ++j) {
+                final double[] c  = columns[j];
+                final double[] wJ = w[j - start];
+                for (int i = 0; i < b && k0 + i < r1; ++i) {
+                    final double[] v = qrt[k0 + i];
+                    double dot = 0;
+                    for (int row = FastMath.max(r0, k0 + i); row < r1; ++row) {
+                        dot += v[row] * c[row];
+                    }
+                    wJ[i] += dot;
+                }
+            }
+        }
+
+        // W = T^T W
+        for (final double[] wJ : w) {
+            for (int i = b - 1; i >= 0; --i) {
+                double sum = 0;
+                for (int q = 0; q <= i; ++q) {
+                    sum += t[q][i] * wJ[q];
+                }
+                wJ[i] = sum;
+            }
+        }
+
+        // C = C - V W
+        for (int r0 = k0; r0 < m; r0 += ROWS_CHUNK) {
+            final int r1 = FastMath.min(r0 + ROWS_CHUNK, m);
+            for (int j = start; j < end; ++j) {
+                final double[] c  = columns[j];
+                final double[] wJ = w[j - start];
+                for (int i = 0; i < b && k0 + i < r1; ++i) {
+                    final double wI = wJ[i];
+                    if (wI != 0) {
+                        final double[] v = qrt[k0 + i];
+                        for (int row = FastMath.max(r0, k0 + i); row < r1; ++row) {
+                            c[row] -= wI * v[row];
+                        }
+                    }
+                }
+            }
+        }
+
+    }
+
+    /** Apply Q<sup>T</sup> to a set of columns, in parallel.
+     * @param columns columns to update (each array is one column)
+     */
+    private void applyQT(final double[][] columns) {
+        for (int k = 0; k < tFactors.length; ++k) {
+            applyPanelInParallel(k * blockSize, tFactors[k], columns, 0, columns.length);
+        }
+    }
+
+    /**
+     * Returns the matrix R of the decomposition.
+     * <p>R is an upper-triangular matrix</p>
+     * @return the R matrix
+     */
+    public RealMatrix getR() {
+
+        if (cachedR == null) {
+
+            // R is supposed to be m x n
+            final int n = qrt.length;
+            final int m = qrt[0].length;
+            double[][] ra = new double[m][n];
+            // copy the diagonal from rDiag and the upper triangle of qr
+            for (int row = FastMath.min(m, n) - 1; row >= 0; row--) {
+                ra[row][row] = rDiag[row];
+                for (int col = row + 1; col < n; col++) {
+                    ra[row][col] = qrt[col][row];
+                }
+            }
+            cachedR = MatrixUtils.createRealMatrix(ra);
+        }
+
+        // return the cached matrix
+        return cachedR;
+    }
+
+    /**
+     * Returns the matrix Q of the decomposition.
+     * <p>Q is an orthogonal matrix</p>
+     * @return the Q matrix
+     */
+    public RealMatrix getQ() {
+        if (cachedQ == null) {
+            // applying Q^T to the columns of identity gives the columns of Q^T,
+            // hence the rows of Q
+            final int m = qrt[0].length;
+            final double[][] qa = new double[m][m];
+            for (int i = 0; i < m; ++i) {
+                qa[i][i] = 1.0;
+            }
+            applyQT(qa);
+            cachedQ = MatrixUtils.createRealMatrix(qa);
+        }
+        return cachedQ;
+    }
+
+    /**
+     * Returns the transpose of the matrix Q of the decomposition.
+     * <p>Q is an orthogonal matrix</p>
+     * @return the transpose of the Q matrix, Q<sup>T</sup>
+     */
+    public RealMatrix getQT() {
+        if (cachedQT == null) {
+            cachedQT = getQ().transpose();
+        }
+        return cachedQT;
+    }
+
+    /**
+     * Returns the Householder reflector vectors.
+     * <p>H is a lower trapezoidal matrix whose columns represent
+     * each successive Householder reflector vector. This matrix is used
+     * to compute Q.</p>
+     * @return a matrix containing the Householder reflector vectors
+     */
+    public RealMatrix getH() {
+        if (cachedH == null) {
+
+            final int n = qrt.length;
+            final int m = qrt[0].length;
+            double[][] ha = new double[m][n];
+            for (int i = 0; i < m; ++i) {
+                for (int j = 0; j < FastMath.min(i + 1, n); ++j) {
+                    ha[i][j] = qrt[j][i] / -rDiag[j];
+                }
+            }
+            cachedH = MatrixUtils.createRealMatrix(ha);
+        }
+
+        // return the cached matrix
+        return cachedH;
+    }
+
+    /**
+     * Get a solver for finding the A &times; X = B solution in least square sense.
+     * <p>
+     * Least Square sense means a solver can be computed for an overdetermined system,
+     * (i.e. a system with more equations than unknowns, which corresponds to a tall A
+     * matrix with more rows than columns). In any case, if the matrix is singular
+     * within the tolerance set at construction, an error will be triggered when
+     * the {@link DecompositionSolver#solve(RealVector) solve} method will be called.
+     * </p>
+     * <p>
+     * The solver applies Q<sup>T</sup> to the right hand sides using the same
+     * compact WY blocks as the decomposition, in parallel when solving for a matrix.
+     * </p>
+     * @return a solver
+     */
+    public DecompositionSolver getSolver() {
+        return new Solver();
+    }
+
+    /** Specialized solver. */
+    private class Solver implements DecompositionSolver {
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean isNonSingular() {
+            return !checkSingular(false);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public RealVector solve(final RealVector b) {
+            final int m = qrt[0].length;
+            if (b.getDimension() != m) {
+                throw new MathIllegalArgumentException(LocalizedCoreFormats.DIMENSIONS_MISMATCH,
+                                                       b.getDimension(), m);
+            }
+            checkSingular(true);
+
+            final double[][] y = new double[][] { b.toArray() };
+            for (int k = 0; k < tFactors.length; ++k) {
+                applyPanel(k * blockSize, tFactors[k], y, 0, 1);
+            }
+
+            return new ArrayRealVector(solveTriangular(y[0]), false);
+
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public RealMatrix solve(final RealMatrix b) {
+            final int m = qrt[0].length;
+            if (b.getRowDimension() != m) {
+                throw new MathIllegalArgumentException(LocalizedCoreFormats.DIMENSIONS_MISMATCH,
+                                                       b.getRowDimension(), m);
+            }
+            checkSingular(true);
+
+            // each array in the transposed right hand side is one column
+            final double[][] y = b.transpose().getData();
+            applyQT(y);
+
+            final double[][] x = new double[y.length][];
+            pool.invoke(new RangeTask((start, end) -> {
+                for (int j = start; j < end; ++j) {
+                    x[j] = solveTriangular(y[j]);
+                }
+            }, 0, y.length, MIN_COLUMNS_GRAIN));
+
+            return MatrixUtils.createRealMatrix(x).transpose();
+
+        }
+
+        /**
+         * {@inheritDoc}
+         * @throws MathIllegalArgumentException if the decomposed matrix is singular.
+         */
+        @Override
+        public RealMatrix getInverse() {
+            return solve(MatrixUtils.createRealIdentityMatrix(qrt[0].length));
+        }
+
+        /** Solve triangular system R.x = y.
+         * @param y right hand side, already multiplied by Q<sup>T</sup>
+         * (it is modified by the method)
+         * @return solution x
+         */
+        private double[] solveTriangular(final double[] y) {
+            final double[] x = new double[qrt.length];
+            for (int row = rDiag.length - 1; row >= 0; --row) {
+                y[row] /= rDiag[row];
+                final double yRow = y[row];
+                final double[] qrtRow = qrt[row];
+                x[row] = yRow;
+                for (int i = 0; i < row; i++) {
+                    y[i] -= yRow * qrtRow[i];
+                }
+            }
+            return x;
+        }
+
+        /**
+         * Check singularity.
+         *
+         * @param raise Whether to raise a {@link MathIllegalArgumentException}
+         * if any element of the diagonal fails the check.
+         * @return {@code true} if any element of the diagonal is smaller
+         * or equal to the threshold.
+         * @throws MathIllegalArgumentException if the matrix is singular and
+         * {@code raise} is {@code true}.
+         */
+        private boolean checkSingular(final boolean raise) {
+            for (final double d : rDiag) {
+                if (FastMath.abs(d) <= threshold) {
+                    if (raise) {
+                        throw new MathIllegalArgumentException(LocalizedCoreFormats.SINGULAR_MATRIX);
+                    } else {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public int getRowDimension() {
+            return qrt[0].length;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public int getColumnDimension() {
+            return qrt.length;
+        }
+
+    }
+
+}
@@ -24,6 +24,9 @@ package org.hipparchus.linear;
 
 import java.io.Serializable;
 import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
 
 import org.hipparchus.exception.LocalizedCoreFormats;
 import org.hipparchus.exception.MathIllegalArgumentException;
@@ -538,57 +541,180 @@ public class BlockRealMatrix extends AbstractRealMatrix implements Serializable
         final BlockRealMatrix out = new BlockRealMatrix(rows, m.columns);
 
         // perform multiplication block-wise, to ensure good cache behavior
-        int blockIndex = 0;
-        for (int iBlock = 0; iBlock < out.blockRows; ++iBlock) {
+        for (int blockIndex = 0; blockIndex < out.blocks.length; ++blockIndex) {
+            multiplyBlock(m, out, blockIndex);
+        }
 
-            final int pStart = iBlock * BLOCK_SIZE;
-            final int pEnd   = FastMath.min(pStart + BLOCK_SIZE, rows);
+        return out;
+    }
 
-            for (int jBlock = 0; jBlock < out.blockColumns; ++jBlock) {
-                final int jWidth = out.blockWidth(jBlock);
-                final int jWidth2 = jWidth  + jWidth;
-                final int jWidth3 = jWidth2 + jWidth;
-                final int jWidth4 = jWidth3 + jWidth;
-
-                // select current block
-                final double[] outBlock = out.blocks[blockIndex];
-
-                // perform multiplication on current block
-                for (int kBlock = 0; kBlock < blockColumns; ++kBlock) {
-                    final int kWidth = blockWidth(kBlock);
-                    final double[] tBlock = blocks[iBlock * blockColumns + kBlock];
-                    final double[] mBlock = m.blocks[kBlock * m.blockColumns + jBlock];
-                    int k = 0;
-                    for (int p = pStart; p < pEnd; ++p) {
-                        final int lStart = (p - pStart) * kWidth;
-                        final int lEnd   = lStart + kWidth;
-                        for (int nStart = 0; nStart < jWidth; ++nStart) {
-                            double sum = 0;
-                            int l = lStart;
-                            int n = nStart;
-                            while (l < lEnd - 3) {
-                                sum += tBlock[l] * mBlock[n] +
-                                       tBlock[l + 1] * mBlock[n + jWidth] +
-                                       tBlock[l + 2] * mBlock[n + jWidth2] +
-                                       tBlock[l + 3] * mBlock[n + jWidth3];
-                                l += 4;
-                                n += jWidth4;
-                            }
-                            while (l < lEnd) {
-                                sum += tBlock[l++] * mBlock[n];
-                                n += jWidth;
-                            }
-                            outBlock[k] += sum;
-                            ++k;
-                        }
+    /**
+     * Returns the result of postmultiplying this by {@code m}, using several threads.
+     * <p>
+     * The output blocks are computed independently from each other by tasks
+     * submitted to the specified pool. Each output block is computed exactly
+     * as in {@link #multiply(BlockRealMatrix)}, so the result is identical to
+     * the one of the single-threaded method.
+     * </p>
+     * @param m Matrix to postmultiply by.
+     * @param pool pool in which the output blocks will be computed
+     * @return {@code this} * m.
+     * @throws MathIllegalArgumentException if the matrices are not compatible.
+     * @since 3.1
+     */
+    public BlockRealMatrix multiply(final BlockRealMatrix m, final ForkJoinPool pool)
+        throws MathIllegalArgumentException {
+        // safety check
+        MatrixUtils.checkMultiplicationCompatible(this, m);
+        MathUtils.checkNotNull(pool);
+
+        final BlockRealMatrix out = new BlockRealMatrix(rows, m.columns);
+
+        // perform multiplication block-wise, one task per output block
+        pool.invoke(new BlocksTask(blockIndex -> multiplyBlock(m, out, blockIndex), 0, out.blocks.length));
+
+        return out;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void add(final RealMatrix m, final RealMatrix out)
+        throws MathIllegalArgumentException {
+        if (m instanceof BlockRealMatrix && out instanceof BlockRealMatrix) {
+            MatrixUtils.checkAdditionCompatible(this, m);
+            MatrixUtils.checkDimensions(out, rows, columns);
+            final double[][] mBlocks   = ((BlockRealMatrix) m).blocks;
+            final double[][] outBlocks = ((BlockRealMatrix) out).blocks;
+            for (int blockIndex = 0; blockIndex < blocks.length; ++blockIndex) {
+                final double[] outBlock = outBlocks[blockIndex];
+                final double[] tBlock   = blocks[blockIndex];
+                final double[] mBlock   = mBlocks[blockIndex];
+                for (int k = 0; k < outBlock.length; ++k) {
+                    outBlock[k] = tBlock[k] + mBlock[k];
+                }
+            }
+        } else {
+            super.add(m, out);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void subtract(final RealMatrix m, final RealMatrix out)
+        throws MathIllegalArgumentException {
+        if (m instanceof BlockRealMatrix && out instanceof BlockRealMatrix) {
+            MatrixUtils.checkSubtractionCompatible(this, m);
+            MatrixUtils.checkDimensions(out, rows, columns);
+            final double[][] mBlocks   = ((BlockRealMatrix) m).blocks;
+            final double[][] outBlocks = ((BlockRealMatrix) out).blocks;
+            for (int blockIndex = 0; blockIndex < blocks.length; ++blockIndex) {
+                final double[] outBlock = outBlocks[blockIndex];
+                final double[] tBlock   = blocks[blockIndex];
+                final double[] mBlock   = mBlocks[blockIndex];
+                for (int k = 0; k < outBlock.length; ++k) {
+                    outBlock[k] = tBlock[k] - mBlock[k];
+                }
+            }
+        } else {
+            super.subtract(m, out);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void scalarMultiply(final double d, final RealMatrix out)
+        throws MathIllegalArgumentException {
+        if (out instanceof BlockRealMatrix) {
+            MatrixUtils.checkDimensions(out, rows, columns);
+            final double[][] outBlocks = ((BlockRealMatrix) out).blocks;
+            for (int blockIndex = 0; blockIndex < blocks.length; ++blockIndex) {
+                final double[] outBlock = outBlocks[blockIndex];
+                final double[] tBlock   = blocks[blockIndex];
+                for (int k = 0; k < outBlock.length; ++k) {
+                    outBlock[k] = tBlock[k] * d;
+                }
+            }
+        } else {
+            super.scalarMultiply(d, out);
+        }
+    }
+
+    /** {@inheritDoc}
+     * <p>
+     * When both {@code m} and {@code out} are {@link BlockRealMatrix} instances,
+     * each output block is computed exactly as in {@link #multiply(BlockRealMatrix)},
+     * so the result is identical to the one of the allocating method.
+     * </p>
+     */
+    @Override
+    public void multiply(final RealMatrix m, final RealMatrix out)
+        throws MathIllegalArgumentException {
+        if (m instanceof BlockRealMatrix && out instanceof BlockRealMatrix) {
+            MatrixUtils.checkMultiplicationCompatible(this, m);
+            MatrixUtils.checkDimensions(out, rows, m.getColumnDimension());
+            final BlockRealMatrix bOut = (BlockRealMatrix) out;
+            for (int blockIndex = 0; blockIndex < bOut.blocks.length; ++blockIndex) {
+                Arrays.fill(bOut.blocks[blockIndex], 0.0);
+                multiplyBlock((BlockRealMatrix) m, bOut, blockIndex);
+            }
+        } else {
+            super.multiply(m, out);
+        }
+    }
+
+    /**
+     * Compute one block of {@code this} * m.
+     * @param m Matrix to postmultiply by.
+     * @param out output matrix
+     * @param blockIndex index of the output block to compute
+     */
+    private void multiplyBlock(final BlockRealMatrix m, final BlockRealMatrix out, final int blockIndex) {
+
+        final int iBlock = blockIndex / out.blockColumns;
+        final int jBlock = blockIndex - iBlock * out.blockColumns;
+
+        final int pStart = iBlock * BLOCK_SIZE;
+        final int pEnd   = FastMath.min(pStart + BLOCK_SIZE, rows);
+
+        final int jWidth = out.blockWidth(jBlock);
+        final int jWidth2 = jWidth  + jWidth;
+        final int jWidth3 = jWidth2 + jWidth;
+        final int jWidth4 = jWidth3 + jWidth;
+
+        // select current block
+        final double[] outBlock = out.blocks[blockIndex];
+
+        // perform multiplication on current block
+        for (int kBlock = 0; kBlock < blockColumns; ++kBlock) {
+            final int kWidth = blockWidth(kBlock);
+            final double[] tBlock = blocks[iBlock * blockColumns + kBlock];
+            final double[] mBlock = m.blocks[kBlock * m.blockColumns + jBlock];
+            int k = 0;
+            for (int p = pStart; p < pEnd; ++p) {
+                final int lStart = (p - pStart) * kWidth;
+                final int lEnd   = lStart + kWidth;
+                for (int nStart = 0; nStart < jWidth; ++nStart) {
+                    double sum = 0;
+                    int l = lStart;
+                    int n = nStart;
+                    while (l < lEnd - 3) {
+                        sum += tBlock[l] * mBlock[n] +
+                               tBlock[l + 1] * mBlock[n + jWidth] +
+                               tBlock[l + 2] * mBlock[n + jWidth2] +
+                               tBlock[l + 3] * mBlock[n + jWidth3];
+                        l += 4;
+                        n += jWidth4;
                     }
+                    while (l < lEnd) {
+                        sum += tBlock[l++] * mBlock[n];
+                        n += jWidth;
+                    }
+                    outBlock[k] += sum;
+                    ++k;
                 }
-                // go to next block
-                ++blockIndex;
             }
         }
 
-        return out;
     }
 
     /**
@@ -607,53 +733,91 @@ public class BlockRealMatrix extends AbstractRealMatrix implements Serializable
         final BlockRealMatrix out = new BlockRealMatrix(rows, m.rows);
 
         // perform multiplication block-wise, to ensure good cache behavior
-        int blockIndex = 0;
-        for (int iBlock = 0; iBlock < out.blockRows; ++iBlock) {
+        for (int blockIndex = 0; blockIndex < out.blocks.length; ++blockIndex) {
+            multiplyTransposedBlock(m, out, blockIndex);
+        }
 
-            final int pStart = iBlock * BLOCK_SIZE;
-            final int pEnd   = FastMath.min(pStart + BLOCK_SIZE, rows);
+        return out;
+    }
 
-            for (int jBlock = 0; jBlock < out.blockColumns; ++jBlock) {
-                final int jWidth = out.blockWidth(jBlock);
+    /**
+     * Returns the result of postmultiplying {@code this} by {@code m^T}, using several threads.
+     * <p>
+     * The output blocks are computed independently from each other by tasks
+     * submitted to the specified pool. Each output block is computed exactly
+     * as in {@link #multiplyTransposed(BlockRealMatrix)}, so the result is
+     * identical to the one of the single-threaded method.
+     * </p>
+     * @param m matrix to first transpose and second postmultiply by
+     * @param pool pool in which the output blocks will be computed
+     * @return {@code this * m^T}
+     * @throws MathIllegalArgumentException if
+     * {@code columnDimension(this) != columnDimension(m)}
+     * @since 3.1
+     */
+    public BlockRealMatrix multiplyTransposed(final BlockRealMatrix m, final ForkJoinPool pool)
+        throws MathIllegalArgumentException {
+        // safety check
+        MatrixUtils.checkSameColumnDimension(this, m);
+        MathUtils.checkNotNull(pool);
 
-                // select current block
-                final double[] outBlock = out.blocks[blockIndex];
+        final BlockRealMatrix out = new BlockRealMatrix(rows, m.rows);
 
-                // perform multiplication on current block
-                for (int kBlock = 0; kBlock < blockColumns; ++kBlock) {
-                    final int kWidth = blockWidth(kBlock);
-                    final double[] tBlock = blocks[iBlock * blockColumns + kBlock];
-                    final double[] mBlock = m.blocks[jBlock * m.blockColumns + kBlock];
-                    int k = 0;
-                    for (int p = pStart; p < pEnd; ++p) {
-                        final int lStart = (p - pStart) * kWidth;
-                        final int lEnd   = lStart + kWidth;
-                        for (int nStart = 0; nStart < jWidth * kWidth; nStart += kWidth) {
-                            double sum = 0;
-                            int l = lStart;
-                            int n = nStart;
-                            while (l < lEnd - 3) {
-                                sum += tBlock[l]     * mBlock[n]     +
-                                       tBlock[l + 1] * mBlock[n + 1] +
-                                       tBlock[l + 2] * mBlock[n + 2] +
-                                       tBlock[l + 3] * mBlock[n + 3];
-                                l += 4;
-                                n += 4;
-                            }
-                            while (l < lEnd) {
-                                sum += tBlock[l++] * mBlock[n++];
-                            }
-                            outBlock[k] += sum;
-                            ++k;
-                        }
+        // perform multiplication block-wise, one task per output block
+        pool.invoke(new BlocksTask(blockIndex -> multiplyTransposedBlock(m, out, blockIndex), 0, out.blocks.length));
+
+        return out;
+    }
+
+    /**
+     * Compute one block of {@code this * m^T}.
+     * @param m matrix to first transpose and second postmultiply by
+     * @param out output matrix
+     * @param blockIndex index of the output block to compute
+     */
+    private void multiplyTransposedBlock(final BlockRealMatrix m, final BlockRealMatrix out, final int blockIndex) {
+
+        final int iBlock = blockIndex / out.blockColumns;
+        final int jBlock = blockIndex - iBlock * out.blockColumns;
+
+        final int pStart = iBlock * BLOCK_SIZE;
+        final int pEnd   = FastMath.min(pStart + BLOCK_SIZE, rows);
+
+        final int jWidth = out.blockWidth(jBlock);
+
+        // select current block
+        final double[] outBlock = out.blocks[blockIndex];
+
+        // perform multiplication on current block
+        for (int kBlock = 0; kBlock < blockColumns; ++kBlock) {
+            final int kWidth = blockWidth(kBlock);
+            final double[] tBlock = blocks[iBlock * blockColumns + kBlock];
+            final double[] mBlock = m.blocks[jBlock * m.blockColumns + kBlock];
+            int k = 0;
+            for (int p = pStart; p < pEnd; ++p) {
+                final int lStart = (p - pStart) * kWidth;
+                final int lEnd   = lStart + kWidth;
+                for (int nStart = 0; nStart < jWidth * kWidth; nStart += kWidth) {
+                    double sum = 0;
+                    int l = lStart;
+                    int n = nStart;
+                    while (l < lEnd - 3) {
+                        sum += tBlock[l]     * mBlock[n]     +
+                               tBlock[l + 1] * mBlock[n + 1] +
+                               tBlock[l + 2] * mBlock[n + 2] +
+                               tBlock[l + 3] * mBlock[n + 3];
+                        l += 4;
+                        n += 4;
+                    }
+                    while (l < lEnd) {
+                        sum += tBlock[l++] * mBlock[n++];
                     }
+                    outBlock[k] += sum;
+                    ++k;
                 }
-                // go to next block
-                ++blockIndex;
             }
         }
 
-        return out;
     }
 
     /** {@inheritDoc} */
@@ -726,62 +890,100 @@ public class BlockRealMatrix extends AbstractRealMatrix implements Serializable
         final BlockRealMatrix out = new BlockRealMatrix(columns, m.columns);
 
         // perform multiplication block-wise, to ensure good cache behavior
-        int blockIndex = 0;
-        for (int iBlock = 0; iBlock < out.blockRows; ++iBlock) {
+        for (int blockIndex = 0; blockIndex < out.blocks.length; ++blockIndex) {
+            transposeMultiplyBlock(m, out, blockIndex);
+        }
 
-            final int iHeight  = out.blockHeight(iBlock);
-            final int iHeight2 = iHeight  + iHeight;
-            final int iHeight3 = iHeight2 + iHeight;
-            final int iHeight4 = iHeight3 + iHeight;
-            final int pStart   = iBlock * BLOCK_SIZE;
-            final int pEnd     = FastMath.min(pStart + BLOCK_SIZE, columns);
+        return out;
+    }
 
-            for (int jBlock = 0; jBlock < out.blockColumns; ++jBlock) {
-                final int jWidth  = out.blockWidth(jBlock);
-                final int jWidth2 = jWidth  + jWidth;
-                final int jWidth3 = jWidth2 + jWidth;
-                final int jWidth4 = jWidth3 + jWidth;
-
-                // select current block
-                final double[] outBlock = out.blocks[blockIndex];
-
-                // perform multiplication on current block
-                for (int kBlock = 0; kBlock < blockRows; ++kBlock) {
-                    final int      kHeight = blockHeight(kBlock);
-                    final double[] tBlock  = blocks[kBlock * blockColumns + iBlock];
-                    final double[] mBlock  = m.blocks[kBlock * m.blockColumns + jBlock];
-                    int k = 0;
-                    for (int p = pStart; p < pEnd; ++p) {
-                        final int lStart = p - pStart;
-                        final int lEnd   = lStart + iHeight * kHeight;
-                        for (int nStart = 0; nStart < jWidth; ++nStart) {
-                            double sum = 0;
-                            int l = lStart;
-                            int n = nStart;
-                            while (l < lEnd - iHeight3) {
-                                sum += tBlock[l]            * mBlock[n] +
-                                       tBlock[l + iHeight]  * mBlock[n + jWidth] +
-                                       tBlock[l + iHeight2] * mBlock[n + jWidth2] +
-                                       tBlock[l + iHeight3] * mBlock[n + jWidth3];
-                                l += iHeight4;
-                                n += jWidth4;
-                            }
-                            while (l < lEnd) {
-                                sum += tBlock[l] * mBlock[n];
-                                l += iHeight;
-                                n += jWidth;
-                            }
-                            outBlock[k] += sum;
-                            ++k;
-                        }
+    /**
+     * Returns the result of postmultiplying {@code this^T} by {@code m}, using several threads.
+     * <p>
+     * The output blocks are computed independently from each other by tasks
+     * submitted to the specified pool. Each output block is computed exactly
+     * as in {@link #transposeMultiply(BlockRealMatrix)}, so the result is
+     * identical to the one of the single-threaded method.
+     * </p>
+     * @param m matrix to postmultiply by
+     * @param pool pool in which the output blocks will be computed
+     * @return {@code this^T * m}
+     * @throws MathIllegalArgumentException if
+     * {@code rowDimension(this) != rowDimension(m)}
+     * @since 3.1
+     */
+    public BlockRealMatrix transposeMultiply(final BlockRealMatrix m, final ForkJoinPool pool)
+        throws MathIllegalArgumentException {
+        // safety check
+        MatrixUtils.checkSameRowDimension(this, m);
+        MathUtils.checkNotNull(pool);
+
+        final BlockRealMatrix out = new BlockRealMatrix(columns, m.columns);
+
+        // perform multiplication block-wise, one task per output block
+        pool.invoke(new BlocksTask(blockIndex -> transposeMultiplyBlock(m, out, blockIndex), 0, out.blocks.length));
+
+        return out;
+    }
+
+    /**
+     * Compute one block of {@code this^T * m}.
+     * @param m matrix to postmultiply by
+     * @param out output matrix
+     * @param blockIndex index of the output block to compute
+     */
+    private void transposeMultiplyBlock(final BlockRealMatrix m, final BlockRealMatrix out, final int blockIndex) {
+
+        final int iBlock = blockIndex / out.blockColumns;
+        final int jBlock = blockIndex - iBlock * out.blockColumns;
+
+        final int iHeight  = out.blockHeight(iBlock);
+        final int iHeight2 = iHeight  + iHeight;
+        final int iHeight3 = iHeight2 + iHeight;
+        final int iHeight4 = iHeight3 + iHeight;
+        final int pStart   = iBlock * BLOCK_SIZE;
+        final int pEnd     = FastMath.min(pStart + BLOCK_SIZE, columns);
+
+        final int jWidth  = out.blockWidth(jBlock);
+        final int jWidth2 = jWidth  + jWidth;
+        final int jWidth3 = jWidth2 + jWidth;
+        final int jWidth4 = jWidth3 + jWidth;
+
+        // select current block
+        final double[] outBlock = out.blocks[blockIndex];
+
+        // perform multiplication on current block
+        for (int kBlock = 0; kBlock < blockRows; ++kBlock) {
+            final int      kHeight = blockHeight(kBlock);
+            final double[] tBlock  = blocks[kBlock * blockColumns + iBlock];
+            final double[] mBlock  = m.blocks[kBlock * m.blockColumns + jBlock];
+            int k = 0;
+            for (int p = pStart; p < pEnd; ++p) {
+                final int lStart = p - pStart;
+                final int lEnd   = lStart + iHeight * kHeight;
+                for (int nStart = 0; nStart < jWidth; ++nStart) {
+                    double sum = 0;
+                    int l = lStart;
+                    int n = nStart;
+                    while (l < lEnd - iHeight3) {
+                        sum += tBlock[l]            * mBlock[n] +
+                               tBlock[l + iHeight]  * mBlock[n + jWidth] +
+                               tBlock[l + iHeight2] * mBlock[n + jWidth2] +
+                               tBlock[l + iHeight3] * mBlock[n + jWidth3];
+                        l += iHeight4;
+                        n += jWidth4;
                     }
+                    while (l < lEnd) {
+                        sum += tBlock[l] * mBlock[n];
+                        l += iHeight;
+                        n += jWidth;
+                    }
+                    outBlock[k] += sum;
+                    ++k;
                 }
-                // go to next block
-                ++blockIndex;
             }
         }
 
-        return out;
     }
 
     /** {@inheritDoc} */
@@ -1491,37 +1693,47 @@ public class BlockRealMatrix extends AbstractRealMatrix implements Serializable
     /** {@inheritDoc} */
     @Override
     public BlockRealMatrix transpose() {
-        final int nRows = getRowDimension();
-        final int nCols = getColumnDimension();
-        final BlockRealMatrix out = new BlockRealMatrix(nCols, nRows);
+        final BlockRealMatrix out = new BlockRealMatrix(columns, rows);
+        transpose(out);
+        return out;
+    }
 
-        // perform transpose block-wise, to ensure good cache behavior
-        int blockIndex = 0;
-        for (int iBlock = 0; iBlock < blockColumns; ++iBlock) {
-            final int pStart = iBlock * BLOCK_SIZE;
-            final int pEnd   = FastMath.min(pStart + BLOCK_SIZE, columns);
-            for (int jBlock = 0; jBlock < blockRows; ++jBlock) {
-                // transpose current block
-                final double[] outBlock = out.blocks[blockIndex];
-                final double[] tBlock = blocks[jBlock * blockColumns + iBlock];
-                final int qStart = jBlock * BLOCK_SIZE;
-                final int qEnd   = FastMath.min(qStart + BLOCK_SIZE, rows);
-                int k = 0;
-                for (int p = pStart; p < pEnd; ++p) {
-                    final int lInc = pEnd - pStart;
-                    int l = p - pStart;
-                    for (int q = qStart; q < qEnd; ++q) {
-                        outBlock[k] = tBlock[l];
-                        ++k;
-                        l+= lInc;
+    /** {@inheritDoc} */
+    @Override
+    public void transpose(final RealMatrix out)
+        throws MathIllegalArgumentException {
+        if (out instanceof BlockRealMatrix) {
+            MatrixUtils.checkDimensions(out, columns, rows);
+            final BlockRealMatrix bOut = (BlockRealMatrix) out;
+
+            // perform transpose block-wise, to ensure good cache behavior
+            int blockIndex = 0;
+            for (int iBlock = 0; iBlock < blockColumns; ++iBlock) {
+                final int pStart = iBlock * BLOCK_SIZE;
+                final int pEnd   = FastMath.min(pStart + BLOCK_SIZE, columns);
+                for (int jBlock = 0; jBlock < blockRows; ++jBlock) {
+                    // transpose current block
+                    final double[] outBlock = bOut.blocks[blockIndex];
+                    final double[] tBlock = blocks[jBlock * blockColumns + iBlock];
+                    final int qStart = jBlock * BLOCK_SIZE;
+                    final int qEnd   = FastMath.min(qStart + BLOCK_SIZE, rows);
+                    int k = 0;
+                    for (int p = pStart; p < pEnd; ++p) {
+                        final int lInc = pEnd - pStart;
+                        int l = p - pStart;
+                        for (int q = qStart; q < qEnd; ++q) {
+                            outBlock[k] = tBlock[l];
+                            ++k;
+                            l+= lInc;
+                        }
                     }
+                    // go to next block
+                    ++blockIndex;
                 }
-                // go to next block
-                ++blockIndex;
             }
+        } else {
+            super.transpose(out);
         }
-
-        return out;
     }
 
     /** {@inheritDoc} */
@@ -1539,12 +1751,25 @@ public class BlockRealMatrix extends AbstractRealMatrix implements Serializable
     /** {@inheritDoc} */
     @Override
     public double[] operate(final double[] v)
+        throws MathIllegalArgumentException {
+        final double[] out = new double[rows];
+        operate(v, out);
+        return out;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void operate(final double[] v, final double[] out)
         throws MathIllegalArgumentException {
         if (v.length != columns) {
             throw new MathIllegalArgumentException(LocalizedCoreFormats.DIMENSIONS_MISMATCH,
                                                    v.length, columns);
         }
-        final double[] out = new double[rows];
+        if (out.length != rows) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.DIMENSIONS_MISMATCH,
+                                                   out.length, rows);
+        }
+        Arrays.fill(out, 0.0);
 
         // perform multiplication block-wise, to ensure good cache behavior
         for (int iBlock = 0; iBlock < blockRows; ++iBlock) {
@@ -1573,19 +1798,30 @@ public class BlockRealMatrix extends AbstractRealMatrix implements Serializable
                 }
             }
         }
+    }
 
+    /** {@inheritDoc} */
+    @Override
+    public double[] preMultiply(final double[] v)
+        throws MathIllegalArgumentException {
+        final double[] out = new double[columns];
+        preMultiply(v, out);
         return out;
     }
 
     /** {@inheritDoc} */
     @Override
-    public double[] preMultiply(final double[] v)
+    public void preMultiply(final double[] v, final double[] out)
         throws MathIllegalArgumentException {
         if (v.length != rows) {
             throw new MathIllegalArgumentException(LocalizedCoreFormats.DIMENSIONS_MISMATCH,
                                                    v.length, rows);
         }
-        final double[] out = new double[columns];
+        if (out.length != columns) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.DIMENSIONS_MISMATCH,
+                                                   out.length, columns);
+        }
+        Arrays.fill(out, 0.0);
 
         // perform multiplication block-wise, to ensure good cache behavior
         for (int jBlock = 0; jBlock < blockColumns; ++jBlock) {
@@ -1619,8 +1855,6 @@ public class BlockRealMatrix extends AbstractRealMatrix implements Serializable
                 }
             }
         }
-
-        return out;
     }
 
     /** {@inheritDoc} */
@@ -1861,4 +2095,47 @@ public class BlockRealMatrix extends AbstractRealMatrix implements Serializable
         return (blockColumn == blockColumns - 1) ? columns - blockColumn * BLOCK_SIZE : BLOCK_SIZE;
     }
 
+    /** Fork-join task computing a range of output blocks.
+     * @since 3.1
+     */
+    private static class BlocksTask extends RecursiveAction {
+
+        /** Serializable version identifier. */
+        private static final long serialVersionUID = 20261016L;
+
+        /** Computation of one output block. */
+        private final IntConsumer blockComputation;
+
+        /** Index of the first block to compute (included). */
+        private final int start;
+
+        /** Index of the last block to compute (excluded). */
+        private final int end;
+
+        /** Simple constructor.
+         * @param blockComputation computation of one output block
+         * @param start index of the first block to compute (included)
+         * @param end index of the last block to compute (excluded)
+         */
+        BlocksTask(final IntConsumer blockComputation, final int start, final int end) {
+            this.blockComputation = blockComputation;
+            this.start            = start;
+            this.end              = end;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        protected void compute() {
+            if (end - start == 1) {
+                // a single block is already a large enough unit of work
+                blockComputation.accept(start);
+            } else {
+                final int middle = (start + end) >>> 1;
+                invokeAll(new BlocksTask(blockComputation, start, middle),
+                          new BlocksTask(blockComputation, middle, end));
+            }
+        }
+
+    }
+
 }
@@ -0,0 +1,696 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hipparchus.linear;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.nio.DoubleBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.exception.MathIllegalArgumentException;
+import org.hipparchus.exception.MathIllegalStateException;
+import org.hipparchus.util.FastMath;
+
+/**
+ * Off-heap dense matrix, backed by direct buffers or by a memory-mapped file.
+ * <p>
+ * The entries of this matrix are not stored on the Java heap, so huge matrices
+ * do not put any pressure on the garbage collector. When the matrix is backed
+ * by a memory-mapped file, opening it is almost instantaneous regardless of
+ * its size, as the operating system loads pages lazily on access, and the same
+ * file can be shared between several processes.
+ * </p>
+ * <p>
+ * The entries are stored using the same blocks layout as {@link BlockRealMatrix}:
+ * the matrix is split in {@link #BLOCK_SIZE} x {@link #BLOCK_SIZE} squares (except
+ * at right hand side and bottom side where blocks may be smaller to fit matrix
+ * dimensions), each block being flattened in row major order. All the blocks
+ * of one block row are stored contiguously in a single buffer. The {@link
+ * #walkInOptimizedOrder(RealMatrixChangingVisitor) walkInOptimizedOrder} methods
+ * traverse the matrix one block at a time, which is the cache-friendly and
+ * page-friendly way to process the entries.
+ * </p>
+ * <p>
+ * Memory-mapped files start with a 32 bytes header holding a magic number, the
+ * dimensions of the matrix and the block size, followed by the entries stored
+ * as little-endian doubles in blocks layout. Changes to writable memory-mapped
+ * matrices are written back to the file by the operating system, they can be
+ * forced to the storage device by calling {@link #force()}.
+ * </p>
+ * <p>
+ * As each block row is stored in one buffer, the number of columns is limited
+ * to {@code Integer.MAX_VALUE / (8 * BLOCK_SIZE)}, i.e. about five million.
+ * Calling {@link #setEntry(int, int, double) setEntry} or any other modifying
+ * method on a read-only memory-mapped matrix triggers a {@link
+ * java.nio.ReadOnlyBufferException}.
+ * </p>
+ * <p>
+ * Serialization writes the entries themselves, deserialized matrices are
+ * always backed by direct buffers, even if the serialized matrix was
+ * backed by a file.
+ * </p>
+ * @see BlockRealMatrix
+ * @see BufferRealVector
+ * @since 3.1
+ */
+public class BufferRealMatrix extends AbstractRealMatrix implements Serializable {
+
+    /** Block size. */
+    public static final int BLOCK_SIZE = BlockRealMatrix.BLOCK_SIZE;
+
+    /** Serializable version identifier. */
+    private static final long serialVersionUID = 20261017L;
+
+    /** Buffers holding the block rows of the matrix. */
+    private final transient DoubleBuffer[] blockRowsData;
+
+    /** Mapped regions backing the buffers (null if matrix is not backed by a file). */
+    private final transient MappedByteBuffer[] regions;
+
+    /** Number of rows of the matrix. */
+    private final int rows;
+
+    /** Number of columns of the matrix. */
+    private final int columns;
+
+    /** Number of block rows of the matrix. */
+    private final int blockRows;
+
+    /** Number of block columns of the matrix. */
+    private final int blockColumns;
+
+    /**
+     * Create a new matrix with the supplied row and column dimensions.
+     * <p>
+     * The entries are stored in direct buffers allocated outside of
+     * the Java heap, they are all initialized to 0.
+     * </p>
+     * @param rows the number of rows in the new matrix
+     * @param columns the number of columns in the new matrix
+     * @throws MathIllegalArgumentException if row or column dimension is not
+     * positive or if there are too many columns
+     */
+    public BufferRealMatrix(final int rows, final int columns)
+        throws MathIllegalArgumentException {
+        this(rows, columns, allocate(rows, columns), null);
+    }
+
+    /**
+     * Create a new matrix copying the entries of another matrix.
+     * <p>
+     * The entries are stored in direct buffers allocated outside of
+     * the Java heap.
+     * </p>
+     * @param matrix matrix to copy
+     * @throws MathIllegalArgumentException if there are too many columns
+     */
+    public BufferRealMatrix(final RealMatrix matrix)
+        throws MathIllegalArgumentException {
+        this(matrix.getRowDimension(), matrix.getColumnDimension());
+        copyFrom(matrix);
+    }
+
+    /**
+     * Create a new matrix wrapping existing buffers.
+     * @param rows the number of rows in the new matrix
+     * @param columns the number of columns in the new matrix
+     * @param blockRowsData buffers holding the block rows of the matrix
+     * @param regions mapped regions backing the buffers (null if matrix is not backed by a file)
+     */
+    private BufferRealMatrix(final int rows, final int columns,
+                             final DoubleBuffer[] blockRowsData, final MappedByteBuffer[] regions) {
+        super(rows, columns);
+        this.rows          = rows;
+        this.columns       = columns;
+        this.blockRows     = (rows    + BLOCK_SIZE - 1) / BLOCK_SIZE;
+        this.blockColumns  = (columns + BLOCK_SIZE - 1) / BLOCK_SIZE;
+        this.blockRowsData = blockRowsData;
+        this.regions       = regions;
+    }
+
+    /**
+     * Create a new matrix backed by a memory-mapped file.
+     * <p>
+     * If the file already exists, it is overwritten. All entries are
+     * initialized to 0. The matrix is writable.
+     * </p>
+     * @param file file backing the matrix
+     * @param rows the number of rows in the new matrix
+     * @param columns the number of columns in the new matrix
+     * @return a new matrix backed by the file
+     * @throws MathIllegalArgumentException if row or column dimension is not
+     * positive or if there are too many columns
+     * @throws IOException if file cannot be created or mapped
+     */
+    public static BufferRealMatrix createMapped(final Path file, final int rows, final int columns)
+        throws MathIllegalArgumentException, IOException {
+        checkDimensions(rows, columns);
+        try (FileChannel channel = BufferStorage.create(file, BufferStorage.MATRIX_MAGIC,
+                                                        rows, columns, BLOCK_SIZE)) {
+            return map(channel, FileChannel.MapMode.READ_WRITE, rows, columns);
+        }
+    }
+
+    /**
+     * Create a new matrix backed by a memory-mapped file, copying the entries of another matrix.
+     * <p>
+     * If the file already exists, it is overwritten. The matrix is writable.
+     * </p>
+     * @param file file backing the matrix
+     * @param matrix matrix to copy
+     * @return a new matrix backed by the file
+     * @throws MathIllegalArgumentException if there are too many columns
+     * @throws IOException if file cannot be created or mapped
+     */
+    public static BufferRealMatrix createMapped(final Path file, final RealMatrix matrix)
+        throws MathIllegalArgumentException, IOException {
+        final BufferRealMatrix mapped = createMapped(file, matrix.getRowDimension(), matrix.getColumnDimension());
+        mapped.copyFrom(matrix);
+        return mapped;
+    }
+
+    /**
+     * Open a matrix backed by an existing memory-mapped file.
+     * <p>
+     * Entries are not read at opening, they are loaded lazily by the
+     * operating system as they are accessed.
+     * </p>
+     * @param file file backing the matrix, as created by {@link #createMapped(Path, int, int)}
+     * or {@link #createMapped(Path, RealMatrix)}
+     * @param writable if true, the matrix can be modified and the changes are written
+     * back to the file, otherwise the matrix is read-only
+     * @return a matrix backed by the file
+     * @throws MathIllegalStateException if the file does not contain a matrix
+     * @throws IOException if file cannot be read or mapped
+     */
+    public static BufferRealMatrix openMapped(final Path file, final boolean writable)
+        throws MathIllegalStateException, IOException {
+        try (FileChannel channel = BufferStorage.open(file, writable)) {
+            final int[] dimensions = BufferStorage.readHeader(channel, file, BufferStorage.MATRIX_MAGIC, BLOCK_SIZE);
+            return map(channel,
+                       writable ? FileChannel.MapMode.READ_WRITE : FileChannel.MapMode.READ_ONLY,
+                       dimensions[0], dimensions[1]);
+        }
+    }
+
+    /** Check matrix dimensions.
+     * @param rows the number of rows in the matrix
+     * @param columns the number of columns in the matrix
+     * @throws MathIllegalArgumentException if row or column dimension is not
+     * positive or if there are too many columns
+     */
+    private static void checkDimensions(final int rows, final int columns)
+        throws MathIllegalArgumentException {
+        if (rows < 1) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.AT_LEAST_ONE_ROW);
+        }
+        if (columns < 1) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.AT_LEAST_ONE_COLUMN);
+        }
+        BufferStorage.checkSize(((long) BLOCK_SIZE) * columns);
+    }
+
+    /** Allocate direct buffers for the block rows.
+     * @param rows the number of rows in the matrix
+     * @param columns the number of columns in the matrix
+     * @return allocated buffers
+     * @throws MathIllegalArgumentException if row or column dimension is not
+     * positive or if there are too many columns
+     */
+    private static DoubleBuffer[] allocate(final int rows, final int columns)
+        throws MathIllegalArgumentException {
+        checkDimensions(rows, columns);
+        final DoubleBuffer[] data = new DoubleBuffer[(rows + BLOCK_SIZE - 1) / BLOCK_SIZE];
+        for (int iBlock = 0; iBlock < data.length; ++iBlock) {
+            final int iHeight = FastMath.min(rows - iBlock * BLOCK_SIZE, BLOCK_SIZE);
+            data[iBlock] = BufferStorage.allocate(iHeight * columns);
+        }
+        return data;
+    }
+
+    /** Map the block rows of a file.
+     * @param channel open channel
+     * @param mode mapping mode
+     * @param rows the number of rows in the matrix
+     * @param columns the number of columns in the matrix
+     * @return a matrix backed by the file
+     * @throws IOException if file cannot be mapped
+     */
+    private static BufferRealMatrix map(final FileChannel channel, final FileChannel.MapMode mode,
+                                        final int rows, final int columns)
+        throws IOException {
+        final int blockRows = (rows + BLOCK_SIZE - 1) / BLOCK_SIZE;
+        final DoubleBuffer[]     data    = new DoubleBuffer[blockRows];
+        final MappedByteBuffer[] regions = new MappedByteBuffer[blockRows];
+        for (int iBlock = 0; iBlock < blockRows; ++iBlock) {
+            final int iHeight = FastMath.min(rows - iBlock * BLOCK_SIZE, BLOCK_SIZE);
+            regions[iBlock] = BufferStorage.map(channel, mode,
+                                                ((long) iBlock) * BLOCK_SIZE * columns,
+                                                iHeight * columns);
+            data[iBlock]    = regions[iBlock].asDoubleBuffer();
+        }
+        return new BufferRealMatrix(rows, columns, data, regions);
+    }
+
+    /** Copy the entries of another matrix.
+     * @param matrix matrix to copy, must have the same dimensions as the instance
+     */
+    private void copyFrom(final RealMatrix matrix) {
+        if (matrix instanceof BufferRealMatrix) {
+            final BufferRealMatrix m = (BufferRealMatrix) matrix;
+            for (int iBlock = 0; iBlock < blockRows; ++iBlock) {
+                blockRowsData[iBlock].duplicate().put(m.blockRowsData[iBlock].duplicate());
+            }
+        } else {
+            matrix.walkInOptimizedOrder(new DefaultRealMatrixPreservingVisitor() {
+                /** {@inheritDoc} */
+                @Override
+                public void visit(final int row, final int column, final double value) {
+                    blockRowsData[row / BLOCK_SIZE].put(index(row, column), value);
+                }
+            });
+        }
+    }
+
+    /** Check if the matrix is read-only.
+     * @return true if the matrix is backed by a file mapped in read-only mode
+     */
+    public boolean isReadOnly() {
+        return blockRowsData[0].isReadOnly();
+    }
+
+    /** Check if the matrix is backed by a memory-mapped file.
+     * @return true if the matrix is backed by a memory-mapped file
+     */
+    public boolean isMapped() {
+        return regions != null;
+    }
+
+    /** Force changes to be written to the storage device.
+     * <p>
+     * This method does nothing if the matrix is not backed by a file
+     * or if it is read-only.
+     * </p>
+     */
+    public void force() {
+        if (regions != null && !isReadOnly()) {
+            for (final MappedByteBuffer region : regions) {
+                region.force();
+            }
+        }
+    }
+
+    /** {@inheritDoc}
+     * <p>
+     * The matrix created is backed by direct buffers, not by a file.
+     * </p>
+     */
+    @Override
+    public BufferRealMatrix createMatrix(final int rowDimension, final int columnDimension)
+        throws MathIllegalArgumentException {
+        return new BufferRealMatrix(rowDimension, columnDimension);
+    }
+
+    /** {@inheritDoc}
+     * <p>
+     * The copy is backed by direct buffers, not by a file.
+     * </p>
+     */
+    @Override
+    public BufferRealMatrix copy() {
+        return new BufferRealMatrix(this);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int getRowDimension() {
+        return rows;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int getColumnDimension() {
+        return columns;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public double getEntry(final int row, final int column)
+        throws MathIllegalArgumentException {
+        MatrixUtils.checkMatrixIndex(this, row, column);
+        return blockRowsData[row / BLOCK_SIZE].get(index(row, column));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void setEntry(final int row, final int column, final double value)
+        throws MathIllegalArgumentException {
+        MatrixUtils.checkMatrixIndex(this, row, column);
+        blockRowsData[row / BLOCK_SIZE].put(index(row, column), value);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void addToEntry(final int row, final int column, final double increment)
+        throws MathIllegalArgumentException {
+        MatrixUtils.checkMatrixIndex(this, row, column);
+        final DoubleBuffer data = blockRowsData[row / BLOCK_SIZE];
+        final int k = index(row, column);
+        data.put(k, data.get(k) + increment);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void multiplyEntry(final int row, final int column, final double factor)
+        throws MathIllegalArgumentException {
+        MatrixUtils.checkMatrixIndex(this, row, column);
+        final DoubleBuffer data = blockRowsData[row / BLOCK_SIZE];
+        final int k = index(row, column);
+        data.put(k, data.get(k) * factor);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public double[] operate(final double[] v)
+        throws MathIllegalArgumentException {
+        if (v.length != columns) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.DIMENSIONS_MISMATCH,
+                                                   v.length, columns);
+        }
+        final double[] out = new double[rows];
+
+        // perform multiplication block-wise, to ensure good cache behavior
+        for (int iBlock = 0; iBlock < blockRows; ++iBlock) {
+            final DoubleBuffer data = blockRowsData[iBlock];
+            final int pStart = iBlock * BLOCK_SIZE;
+            final int pEnd   = FastMath.min(pStart + BLOCK_SIZE, rows);
+            int k = 0;
+            for (int jBlock = 0; jBlock < blockColumns; ++jBlock) {
+                final int qStart = jBlock * BLOCK_SIZE;
+                final int qEnd   = FastMath.min(qStart + BLOCK_SIZE, columns);
+                for (int p = pStart; p < pEnd; ++p) {
+                    double sum = 0;
+                    for (int q = qStart; q < qEnd; ++q) {
+                        sum += data.get(k++) * v[q];
+                    }
+                    out[p] += sum;
+                }
+            }
+        }
+
+        return out;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public double[] preMultiply(final double[] v)
+        throws MathIllegalArgumentException {
+        if (v.length != rows) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.DIMENSIONS_MISMATCH,
+                                                   v.length, rows);
+        }
+        final double[] out = new double[columns];
+
+        // perform multiplication block-wise, to ensure good cache behavior
+        for (int iBlock = 0; iBlock < blockRows; ++iBlock) {
+            final DoubleBuffer data = blockRowsData[iBlock];
+            final int pStart = iBlock * BLOCK_SIZE;
+            final int pEnd   = FastMath.min(pStart + BLOCK_SIZE, rows);
+            int k = 0;
+            for (int jBlock = 0; jBlock < blockColumns; ++jBlock) {
+                final int qStart = jBlock * BLOCK_SIZE;
+                final int qEnd   = FastMath.min(qStart + BLOCK_SIZE, columns);
+                for (int p = pStart; p < pEnd; ++p) {
+                    final double vP = v[p];
+                    for (int q = qStart; q < qEnd; ++q) {
+                        out[q] += data.get(k++) * vP;
+                    }
+                }
+            }
+        }
+
+        return out;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public double walkInRowOrder(final RealMatrixChangingVisitor visitor) {
+        visitor.start(rows, columns, 0, rows - 1, 0, columns - 1);
+        for (int iBlock = 0; iBlock < blockRows; ++iBlock) {
+            final DoubleBuffer data = blockRowsData[iBlock];
+            final int pStart = iBlock * BLOCK_SIZE;
+            final int pEnd   = FastMath.min(pStart + BLOCK_SIZE, rows);
+            for (int p = pStart; p < pEnd; ++p) {
+                for (int jBlock = 0; jBlock < blockColumns; ++jBlock) {
+                    final int jWidth = blockWidth(jBlock);
+                    final int qStart = jBlock * BLOCK_SIZE;
+                    final int qEnd   = FastMath.min(qStart + BLOCK_SIZE, columns);
+                    int k = (pEnd - pStart) * qStart + (p - pStart) * jWidth;
+                    for (int q = qStart; q < qEnd; ++q) {
+                        data.put(k, visitor.visit(p, q, data.get(k)));
+                        ++k;
+                    }
+                }
+            }
+        }
+        return visitor.end();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public double walkInRowOrder(final RealMatrixPreservingVisitor visitor) {
+        visitor.start(rows, columns, 0, rows - 1, 0, columns - 1);
+        for (int iBlock = 0; iBlock < blockRows; ++iBlock) {
+            final DoubleBuffer data = blockRowsData[iBlock];
+            final int pStart = iBlock * BLOCK_SIZE;
+            final int pEnd   = FastMath.min(pStart + BLOCK_SIZE, rows);
+            for (int p = pStart; p < pEnd; ++p) {
+                for (int jBlock = 0; jBlock < blockColumns; ++jBlock) {
+                    final int jWidth = blockWidth(jBlock);
+                    final int qStart = jBlock * BLOCK_SIZE;
+                    final int qEnd   = FastMath.min(qStart + BLOCK_SIZE, columns);
+                    int k = (pEnd - pStart) * qStart + (p - pStart) * jWidth;
+                    for (int q = qStart; q < qEnd; ++q) {
+                        visitor.visit(p, q, data.get(k));
+                        ++k;
+                    }
+                }
+            }
+        }
+        return visitor.end();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public double walkInOptimizedOrder(final RealMatrixChangingVisitor visitor) {
+        visitor.start(rows, columns, 0, rows - 1, 0, columns - 1);
+        for (int iBlock = 0; iBlock < blockRows; ++iBlock) {
+            final DoubleBuffer data = blockRowsData[iBlock];
+            final int pStart = iBlock * BLOCK_SIZE;
+            final int pEnd   = FastMath.min(pStart + BLOCK_SIZE, rows);
+            int k = 0;
+            for (int jBlock = 0; jBlock < blockColumns; ++jBlock) {
+                final int qStart = jBlock * BLOCK_SIZE;
+                final int qEnd   = FastMath.min(qStart + BLOCK_SIZE, columns);
+                for (int p = pStart; p < pEnd; ++p) {
+                    for (int q = qStart; q < qEnd; ++q) {
+                        data.put(k, visitor.visit(p, q, data.get(k)));
+                        ++k;
+                    }
+                }
+            }
+        }
+        return visitor.end();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public double walkInOptimizedOrder(final RealMatrixPreservingVisitor visitor) {
+        visitor.start(rows, columns, 0, rows - 1, 0, columns - 1);
+        for (int iBlock = 0; iBlock < blockRows; ++iBlock) {
+            final DoubleBuffer data = blockRowsData[iBlock];
+            final int pStart = iBlock * BLOCK_SIZE;
+            final int pEnd   = FastMath.min(pStart + BLOCK_SIZE, rows);
+            int k = 0;
+            for (int jBlock = 0; jBlock < blockColumns; ++jBlock) {
+                final int qStart = jBlock * BLOCK_SIZE;
+                final int qEnd   = FastMath.min(qStart + BLOCK_SIZE, columns);
+                for (int p = pStart; p < pEnd; ++p) {
+                    for (int q = qStart; q < qEnd; ++q) {
+                        visitor.visit(p, q, data.get(k));
+                        ++k;
+                    }
+                }
+            }
+        }
+        return visitor.end();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public double walkInOptimizedOrder(final RealMatrixChangingVisitor visitor,
+                                       final int startRow, final int endRow,
+                                       final int startColumn, final int endColumn)
+        throws MathIllegalArgumentException {
+        MatrixUtils.checkSubMatrixIndex(this, startRow, endRow, startColumn, endColumn);
+        visitor.start(rows, columns, startRow, endRow, startColumn, endColumn);
+        for (int iBlock = startRow / BLOCK_SIZE; iBlock < 1 + endRow / BLOCK_SIZE; ++iBlock) {
+            final DoubleBuffer data = blockRowsData[iBlock];
+            final int p0     = iBlock * BLOCK_SIZE;
+            final int pStart = FastMath.max(startRow, p0);
+            final int pEnd   = FastMath.min((iBlock + 1) * BLOCK_SIZE, 1 + endRow);
+            final int height = blockHeight(iBlock);
+            for (int jBlock = startColumn / BLOCK_SIZE; jBlock < 1 + endColumn / BLOCK_SIZE; ++jBlock) {
+                final int jWidth = blockWidth(jBlock);
+                final int q0     = jBlock * BLOCK_SIZE;
+                final int qStart = FastMath.max(startColumn, q0);
+                final int qEnd   = FastMath.min((jBlock + 1) * BLOCK_SIZE, 1 + endColumn);
+                for (int p = pStart; p < pEnd; ++p) {
+                    int k = height * q0 + (p - p0) * jWidth + qStart - q0;
+                    for (int q = qStart; q < qEnd; ++q) {
+                        data.put(k, visitor.visit(p, q, data.get(k)));
+                        ++k;
+                    }
+                }
+            }
+        }
+        return visitor.end();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public double walkInOptimizedOrder(final RealMatrixPreservingVisitor visitor,
+                                       final int startRow, final int endRow,
+                                       final int startColumn, final int endColumn)
+        throws MathIllegalArgumentException {
+        MatrixUtils.checkSubMatrixIndex(this, startRow, endRow, startColumn, endColumn);
+        visitor.start(rows, columns, startRow, endRow, startColumn, endColumn);
+        for (int iBlock = startRow / BLOCK_SIZE; iBlock < 1 + endRow / BLOCK_SIZE; ++iBlock) {
+            final DoubleBuffer data = blockRowsData[iBlock];
+            final int p0     = iBlock * BLOCK_SIZE;
+            final int pStart = FastMath.max(startRow, p0);
+            final int pEnd   = FastMath.min((iBlock + 1) * BLOCK_SIZE, 1 + endRow);
+            final int height = blockHeight(iBlock);
+            for (int jBlock = startColumn / BLOCK_SIZE; jBlock < 1 + endColumn / BLOCK_SIZE; ++jBlock) {
+                final int jWidth = blockWidth(jBlock);
+                final int q0     = jBlock * BLOCK_SIZE;
+                final int qStart = FastMath.max(startColumn, q0);
+                final int qEnd   = FastMath.min((jBlock + 1) * BLOCK_SIZE, 1 + endColumn);
+                for (int p = pStart; p < pEnd; ++p) {
+                    int k = height * q0 + (p - p0) * jWidth + qStart - q0;
+                    for (int q = qStart; q < qEnd; ++q) {
+                        visitor.visit(p, q, data.get(k));
+                        ++k;
+                    }
+                }
+            }
+        }
+        return visitor.end();
+    }
+
+    /**
+     * Get the index of an entry within its block row buffer.
+     * @param row row index of the entry
+     * @param column column index of the entry
+     * @return index of the entry in the buffer of block row {@code row / BLOCK_SIZE}
+     */
+    private int index(final int row, final int column) {
+        final int iBlock = row    / BLOCK_SIZE;
+        final int jBlock = column / BLOCK_SIZE;
+        final int q0     = jBlock * BLOCK_SIZE;
+        return blockHeight(iBlock) * q0 + (row - iBlock * BLOCK_SIZE) * blockWidth(jBlock) + column - q0;
+    }
+
+    /**
+     * Get the height of a block.
+     * @param blockRow row index (in block sense) of the block
+     * @return height (number of rows) of the block
+     */
+    private int blockHeight(final int blockRow) {
+        return (blockRow == blockRows - 1) ? rows - blockRow * BLOCK_SIZE : BLOCK_SIZE;
+    }
+
+    /**
+     * Get the width of a block.
+     * @param blockColumn column index (in block sense) of the block
+     * @return width (number of columns) of the block
+     */
+    private int blockWidth(final int blockColumn) {
+        return (blockColumn == blockColumns - 1) ? columns - blockColumn * BLOCK_SIZE : BLOCK_SIZE;
+    }
+
+    /** Replace the instance with a data transfer object for serialization.
+     * @return data transfer object that will be serialized
+     */
+    private Object writeReplace() {
+        final double[][] data = new double[blockRows][];
+        for (int iBlock = 0; iBlock < blockRows; ++iBlock) {
+            data[iBlock] = new double[blockRowsData[iBlock].capacity()];
+            blockRowsData[iBlock].duplicate().get(data[iBlock]);
+        }
+        return new DataTransferObject(rows, columns, data);
+    }
+
+    /** Internal class used only for serialization. */
+    private static class DataTransferObject implements Serializable {
+
+        /** Serializable version identifier. */
+        private static final long serialVersionUID = 20261017L;
+
+        /** Number of rows of the matrix.
+         * @serial
+         */
+        private final int rows;
+
+        /** Number of columns of the matrix.
+         * @serial
+         */
+        private final int columns;
+
+        /** Entries of the block rows, in blocks layout.
+         * @serial
+         */
+        private final double[][] data;
+
+        /** Simple constructor.
+         * @param rows number of rows of the matrix
+         * @param columns number of columns of the matrix
+         * @param data entries of the block rows, in blocks layout
+         */
+        DataTransferObject(final int rows, final int columns, final double[][] data) {
+            this.rows    = rows;
+            this.columns = columns;
+            this.data    = data;
+        }
+
+        /** Replace the deserialized data transfer object with a {@link BufferRealMatrix}.
+         * @return replacement {@link BufferRealMatrix}
+         */
+        private Object readResolve() {
+            final BufferRealMatrix matrix = new BufferRealMatrix(rows, columns);
+            for (int iBlock = 0; iBlock < data.length; ++iBlock) {
+                matrix.blockRowsData[iBlock].duplicate().put(data[iBlock]);
+            }
+            return matrix;
+        }
+
+    }
+
+}
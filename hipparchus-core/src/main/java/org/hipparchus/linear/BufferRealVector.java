@@ -0,0 +1,494 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hipparchus.linear;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.nio.DoubleBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.exception.MathIllegalArgumentException;
+import org.hipparchus.exception.MathIllegalStateException;
+
+/**
+ * Off-heap vector, backed by a direct buffer or by a memory-mapped file.
+ * <p>
+ * The entries of this vector are not stored on the Java heap. When the vector is
+ * backed by a memory-mapped file, opening it is almost instantaneous regardless of
+ * its size, and the same file can be shared between several processes.
+ * </p>
+ * <p>
+ * Memory-mapped files start with a 32 bytes header holding a magic number and the
+ * dimension of the vector, followed by the entries stored as little-endian doubles.
+ * The dimension is limited to {@code Integer.MAX_VALUE / 8}. Calling {@link
+ * #setEntry(int, double) setEntry} or any other modifying method on a read-only
+ * memory-mapped vector triggers a {@link java.nio.ReadOnlyBufferException}.
+ * </p>
+ * <p>
+ * Serialization writes the entries themselves, deserialized vectors are
+ * always backed by direct buffers, even if the serialized vector was
+ * backed by a file.
+ * </p>
+ * @see BufferRealMatrix
+ * @since 3.1
+ */
+public class BufferRealVector extends RealVector implements Serializable {
+
+    /** Serializable version identifier. */
+    private static final long serialVersionUID = 20261017L;
+
+    /** Entries of the vector. */
+    private final transient DoubleBuffer data;
+
+    /** Mapped region backing the buffer (null if vector is not backed by a file). */
+    private final transient MappedByteBuffer region;
+
+    /**
+     * Construct a vector of zeroes.
+     * <p>
+     * The entries are stored in a direct buffer allocated outside of the Java heap.
+     * </p>
+     * @param size size of the vector
+     * @throws MathIllegalArgumentException if size is too large
+     */
+    public BufferRealVector(final int size) throws MathIllegalArgumentException {
+        this(BufferStorage.allocate(size), null);
+    }
+
+    /**
+     * Construct a vector from an array, copying the input array.
+     * <p>
+     * The entries are stored in a direct buffer allocated outside of the Java heap.
+     * </p>
+     * @param d array
+     * @throws MathIllegalArgumentException if array is too large
+     */
+    public BufferRealVector(final double[] d) throws MathIllegalArgumentException {
+        this(d.length);
+        data.duplicate().put(d);
+    }
+
+    /**
+     * Construct a vector copying the entries of another vector.
+     * <p>
+     * The entries are stored in a direct buffer allocated outside of the Java heap.
+     * </p>
+     * @param v vector to copy
+     * @throws MathIllegalArgumentException if vector is too large
+     */
+    public BufferRealVector(final RealVector v) throws MathIllegalArgumentException {
+        this(v.getDimension());
+        copyFrom(v);
+    }
+
+    /**
+     * Construct a vector wrapping an existing buffer.
+     * @param data entries of the vector
+     * @param region mapped region backing the buffer (null if vector is not backed by a file)
+     */
+    private BufferRealVector(final DoubleBuffer data, final MappedByteBuffer region) {
+        this.data   = data;
+        this.region = region;
+    }
+
+    /**
+     * Create a new vector backed by a memory-mapped file.
+     * <p>
+     * If the file already exists, it is overwritten. All entries are
+     * initialized to 0. The vector is writable.
+     * </p>
+     * @param file file backing the vector
+     * @param size size of the vector
+     * @return a new vector backed by the file
+     * @throws MathIllegalArgumentException if size is not strictly positive or too large
+     * @throws IOException if file cannot be created or mapped
+     */
+    public static BufferRealVector createMapped(final Path file, final int size)
+        throws MathIllegalArgumentException, IOException {
+        if (size < 1) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.NUMBER_TOO_SMALL, size, 1);
+        }
+        BufferStorage.checkSize(size);
+        try (FileChannel channel = BufferStorage.create(file, BufferStorage.VECTOR_MAGIC, size, 1, 1)) {
+            return map(channel, FileChannel.MapMode.READ_WRITE, size);
+        }
+    }
+
+    /**
+     * Create a new vector backed by a memory-mapped file, copying the entries of another vector.
+     * <p>
+     * If the file already exists, it is overwritten. The vector is writable.
+     * </p>
+     * @param file file backing the vector
+     * @param v vector to copy
+     * @return a new vector backed by the file
+     * @throws MathIllegalArgumentException if vector is empty or too large
+     * @throws IOException if file cannot be created or mapped
+     */
+    public static BufferRealVector createMapped(final Path file, final RealVector v)
+        throws MathIllegalArgumentException, IOException {
+        final BufferRealVector mapped = createMapped(file, v.getDimension());
+        mapped.copyFrom(v);
+        return mapped;
+    }
+
+    /**
+     * Open a vector backed by an existing memory-mapped file.
+     * <p>
+     * Entries are not read at opening, they are loaded lazily by the
+     * operating system as they are accessed.
+     * </p>
+     * @param file file backing the vector, as created by {@link #createMapped(Path, int)}
+     * or {@link #createMapped(Path, RealVector)}
+     * @param writable if true, the vector can be modified and the changes are written
+     * back to the file, otherwise the vector is read-only
+     * @return a vector backed by the file
+     * @throws MathIllegalStateException if the file does not contain a vector
+     * @throws IOException if file cannot be read or mapped
+     */
+    public static BufferRealVector openMapped(final Path file, final boolean writable)
+        throws MathIllegalStateException, IOException {
+        try (FileChannel channel = BufferStorage.open(file, writable)) {
+            final int[] dimensions = BufferStorage.readHeader(channel, file, BufferStorage.VECTOR_MAGIC, 1);
+            return map(channel,
+                       writable ? FileChannel.MapMode.READ_WRITE : FileChannel.MapMode.READ_ONLY,
+                       dimensions[0]);
+        }
+    }
+
+    /** Map a file.
+     * @param channel open channel
+     * @param mode mapping mode
+     * @param size size of the vector
+     * @return a vector backed by the file
+     * @throws IOException if file cannot be mapped
+     */
+    private static BufferRealVector map(final FileChannel channel, final FileChannel.MapMode mode, final int size)
+        throws IOException {
+        final MappedByteBuffer region = BufferStorage.map(channel, mode, 0L, size);
+        return new BufferRealVector(region.asDoubleBuffer(), region);
+    }
+
+    /** Copy the entries of another vector.
+     * @param v vector to copy, must have the same dimension as the instance
+     */
+    private void copyFrom(final RealVector v) {
+        if (v instanceof BufferRealVector) {
+            data.duplicate().put(((BufferRealVector) v).data.duplicate());
+        } else if (v instanceof ArrayRealVector) {
+            data.duplicate().put(((ArrayRealVector) v).getDataRef());
+        } else {
+            for (int i = 0; i < data.capacity(); ++i) {
+                data.put(i, v.getEntry(i));
+            }
+        }
+    }
+
+    /** Check if the vector is read-only.
+     * @return true if the vector is backed by a file mapped in read-only mode
+     */
+    public boolean isReadOnly() {
+        return data.isReadOnly();
+    }
+
+    /** Check if the vector is backed by a memory-mapped file.
+     * @return true if the vector is backed by a memory-mapped file
+     */
+    public boolean isMapped() {
+        return region != null;
+    }
+
+    /** Force changes to be written to the storage device.
+     * <p>
+     * This method does nothing if the vector is not backed by a file
+     * or if it is read-only.
+     * </p>
+     */
+    public void force() {
+        if (region != null && !isReadOnly()) {
+            region.force();
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int getDimension() {
+        return data.capacity();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public double getEntry(final int index) throws MathIllegalArgumentException {
+        try {
+            return data.get(index);
+        } catch (IndexOutOfBoundsException e) {
+            throw new MathIllegalArgumentException(e, LocalizedCoreFormats.INDEX, index, 0, getDimension() - 1);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void setEntry(final int index, final double value) throws MathIllegalArgumentException {
+        try {
+            data.put(index, value);
+        } catch (IndexOutOfBoundsException e) {
+            throw new MathIllegalArgumentException(e, LocalizedCoreFormats.INDEX, index, 0, getDimension() - 1);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void addToEntry(final int index, final double increment) throws MathIllegalArgumentException {
+        try {
+            data.put(index, data.get(index) + increment);
+        } catch (IndexOutOfBoundsException e) {
+            throw new MathIllegalArgumentException(e, LocalizedCoreFormats.INDEX, index, 0, getDimension() - 1);
+        }
+    }
+
+    /** {@inheritDoc}
+     * <p>
+     * The vector created is backed by a direct buffer, not by a file.
+     * </p>
+     */
+    @Override
+    public BufferRealVector append(final RealVector v) {
+        final int n = getDimension();
+        final BufferRealVector out = new BufferRealVector(n + v.getDimension());
+        out.data.duplicate().put(data.duplicate());
+        for (int i = 0; i < v.getDimension(); ++i) {
+            out.data.put(n + i, v.getEntry(i));
+        }
+        return out;
+    }
+
+    /** {@inheritDoc}
+     * <p>
+     * The vector created is backed by a direct buffer, not by a file.
+     * </p>
+     */
+    @Override
+    public BufferRealVector append(final double d) {
+        final int n = getDimension();
+        final BufferRealVector out = new BufferRealVector(n + 1);
+        out.data.duplicate().put(data.duplicate());
+        out.data.put(n, d);
+        return out;
+    }
+
+    /** {@inheritDoc}
+     * <p>
+     * The vector created is backed by a direct buffer, not by a file.
+     * </p>
+     */
+    @Override
+    public BufferRealVector getSubVector(final int index, final int n)
+        throws MathIllegalArgumentException {
+        if (n < 0) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.NUMBER_OF_ELEMENTS_SHOULD_BE_POSITIVE, n);
+        }
+        if (n > 0) {
+            checkIndex(index);
+            checkIndex(index + n - 1);
+        }
+        final BufferRealVector out = new BufferRealVector(n);
+        for (int i = 0; i < n; ++i) {
+            out.data.put(i, data.get(index + i));
+        }
+        return out;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void setSubVector(final int index, final RealVector v)
+        throws MathIllegalArgumentException {
+        if (v.getDimension() > 0) {
+            checkIndex(index);
+            checkIndex(index + v.getDimension() - 1);
+        }
+        for (int i = 0; i < v.getDimension(); ++i) {
+            data.put(index + i, v.getEntry(i));
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void set(final double value) {
+        for (int i = 0; i < data.capacity(); ++i) {
+            data.put(i, value);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public double[] toArray() {
+        final double[] array = new double[data.capacity()];
+        data.duplicate().get(array);
+        return array;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isNaN() {
+        for (int i = 0; i < data.capacity(); ++i) {
+            if (Double.isNaN(data.get(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isInfinite() {
+        if (isNaN()) {
+            return false;
+        }
+        for (int i = 0; i < data.capacity(); ++i) {
+            if (Double.isInfinite(data.get(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** {@inheritDoc}
+     * <p>
+     * The copy is backed by a direct buffer, not by a file.
+     * </p>
+     */
+    @Override
+    public BufferRealVector copy() {
+        return new BufferRealVector(this);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public BufferRealVector ebeMultiply(final RealVector v)
+        throws MathIllegalArgumentException {
+        checkVectorDimensions(v);
+        final BufferRealVector out = new BufferRealVector(data.capacity());
+        for (int i = 0; i < data.capacity(); ++i) {
+            out.data.put(i, data.get(i) * v.getEntry(i));
+        }
+        return out;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public BufferRealVector ebeDivide(final RealVector v)
+        throws MathIllegalArgumentException {
+        checkVectorDimensions(v);
+        final BufferRealVector out = new BufferRealVector(data.capacity());
+        for (int i = 0; i < data.capacity(); ++i) {
+            out.data.put(i, data.get(i) / v.getEntry(i));
+        }
+        return out;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public double dotProduct(final RealVector v) throws MathIllegalArgumentException {
+        checkVectorDimensions(v);
+        double dot = 0;
+        for (int i = 0; i < data.capacity(); ++i) {
+            dot += data.get(i) * v.getEntry(i);
+        }
+        return dot;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean equals(final Object other) {
+        if (this == other) {
+            return true;
+        }
+
+        if (!(other instanceof RealVector)) {
+            return false;
+        }
+
+        final RealVector rhs = (RealVector) other;
+        if (data.capacity() != rhs.getDimension()) {
+            return false;
+        }
+
+        if (rhs.isNaN()) {
+            return this.isNaN();
+        }
+
+        for (int i = 0; i < data.capacity(); ++i) {
+            if (data.get(i) != rhs.getEntry(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * {@inheritDoc} All {@code NaN} values have the same hash code.
+     */
+    @Override
+    public int hashCode() {
+        if (isNaN()) {
+            return 9;
+        }
+        int h = 1;
+        for (int i = 0; i < data.capacity(); ++i) {
+            h = 31 * h + Double.hashCode(data.get(i));
+        }
+        return h;
+    }
+
+    /** Replace the instance with a data transfer object for serialization.
+     * @return data transfer object that will be serialized
+     */
+    private Object writeReplace() {
+        return new DataTransferObject(toArray());
+    }
+
+    /** Internal class used only for serialization. */
+    private static class DataTransferObject implements Serializable {
+
+        /** Serializable version identifier. */
+        private static final long serialVersionUID = 20261017L;
+
+        /** Entries of the vector.
+         * @serial
+         */
+        private final double[] entries;
+
+        /** Simple constructor.
+         * @param entries entries of the vector
+         */
+        DataTransferObject(final double[] entries) {
+            this.entries = entries;
+        }
+
+        /** Replace the deserialized data transfer object with a {@link BufferRealVector}.
+         * @return replacement {@link BufferRealVector}
+         */
+        private Object readResolve() {
+            return new BufferRealVector(entries);
+        }
+
+    }
+
+}
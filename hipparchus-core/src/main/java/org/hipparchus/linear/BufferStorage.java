@@ -0,0 +1,193 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hipparchus.linear;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.exception.MathIllegalArgumentException;
+import org.hipparchus.exception.MathIllegalStateException;
+
+/** Utility class for off-heap storage of real matrices and vectors.
+ * <p>
+ * Files used for memory-mapped storage start with a {@link #HEADER_SIZE}
+ * bytes header containing a magic number identifying the type of the stored
+ * object, its dimensions and the block size used for tiling, all in big-endian
+ * order. The header is followed by the entries, stored as little-endian
+ * IEEE754 doubles.
+ * </p>
+ * @since 3.1
+ */
+final class BufferStorage {
+
+    /** Size of the file header (bytes). */
+    static final int HEADER_SIZE = 32;
+
+    /** Magic number for files containing matrices ("HIPPMAT1" in ASCII). */
+    static final long MATRIX_MAGIC = 0x484950504d415431L;
+
+    /** Magic number for files containing vectors ("HIPPVEC1" in ASCII). */
+    static final long VECTOR_MAGIC = 0x4849505056454331L;
+
+    /** Maximum number of doubles in one buffer. */
+    static final int MAX_BUFFER_SIZE = Integer.MAX_VALUE / Double.BYTES;
+
+    /** Private constructor for a utility class.
+     */
+    private BufferStorage() {
+        // nothing to do
+    }
+
+    /** Allocate a direct buffer.
+     * <p>
+     * The entries of the allocated buffer are all set to 0.
+     * </p>
+     * @param size number of doubles in the buffer
+     * @return allocated buffer, using native byte order
+     * @exception MathIllegalArgumentException if size exceeds {@link #MAX_BUFFER_SIZE}
+     */
+    static DoubleBuffer allocate(final int size) throws MathIllegalArgumentException {
+        checkSize(size);
+        return ByteBuffer.allocateDirect(size * Double.BYTES).order(ByteOrder.nativeOrder()).asDoubleBuffer();
+    }
+
+    /** Check a buffer size.
+     * @param size number of doubles in a buffer
+     * @exception MathIllegalArgumentException if size exceeds {@link #MAX_BUFFER_SIZE}
+     */
+    static void checkSize(final long size) throws MathIllegalArgumentException {
+        if (size > MAX_BUFFER_SIZE) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.NUMBER_TOO_LARGE,
+                                                   size, MAX_BUFFER_SIZE);
+        }
+    }
+
+    /** Create a file and write its header.
+     * <p>
+     * If the file already exists, it is truncated.
+     * </p>
+     * @param file file to create
+     * @param magic magic number identifying the stored object type
+     * @param rows number of rows
+     * @param columns number of columns
+     * @param blockSize block size used for tiling
+     * @return channel open for reading and writing
+     * @exception IOException if file cannot be created
+     */
+    static FileChannel create(final Path file, final long magic,
+                              final int rows, final int columns, final int blockSize)
+        throws IOException {
+        final FileChannel channel = FileChannel.open(file,
+                                                     StandardOpenOption.CREATE,
+                                                     StandardOpenOption.TRUNCATE_EXISTING,
+                                                     StandardOpenOption.READ,
+                                                     StandardOpenOption.WRITE);
+        final ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        header.putLong(0, magic);
+        header.putInt(8, rows);
+        header.putInt(12, columns);
+        header.putInt(16, blockSize);
+        int written = 0;
+        while (written < HEADER_SIZE) {
+            written += channel.write(header, written);
+        }
+        return channel;
+    }
+
+    /** Open a file.
+     * @param file file to open
+     * @param writable if true, the file is open for reading and writing, otherwise it is read-only
+     * @return open channel
+     * @exception IOException if file cannot be open
+     */
+    static FileChannel open(final Path file, final boolean writable) throws IOException {
+        return writable ?
+               FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE) :
+               FileChannel.open(file, StandardOpenOption.READ);
+    }
+
+    /** Read and check the header of a file.
+     * @param channel open channel
+     * @param file file name (for error messages)
+     * @param magic expected magic number
+     * @param blockSize expected block size used for tiling
+     * @return number of rows and columns read from the header
+     * @exception IOException if file cannot be read
+     * @exception MathIllegalStateException if header is inconsistent
+     * or file size does not match the header
+     */
+    static int[] readHeader(final FileChannel channel, final Path file, final long magic,
+                            final int blockSize)
+        throws IOException, MathIllegalStateException {
+
+        final ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        int read = 0;
+        while (read < HEADER_SIZE) {
+            final int n = channel.read(header, read);
+            if (n < 0) {
+                throw new MathIllegalStateException(LocalizedCoreFormats.CANNOT_PARSE, file, read);
+            }
+            read += n;
+        }
+
+        if (header.getLong(0) != magic) {
+            throw new MathIllegalStateException(LocalizedCoreFormats.CANNOT_PARSE, file, 0);
+        }
+        final int rows    = header.getInt(8);
+        final int columns = header.getInt(12);
+        if (rows < 1 || columns < 1) {
+            throw new MathIllegalStateException(LocalizedCoreFormats.CANNOT_PARSE, file, 8);
+        }
+        if (header.getInt(16) != blockSize) {
+            throw new MathIllegalStateException(LocalizedCoreFormats.CANNOT_PARSE, file, 16);
+        }
+
+        final long expected = HEADER_SIZE + ((long) rows) * columns * Double.BYTES;
+        if (channel.size() != expected) {
+            throw new MathIllegalStateException(LocalizedCoreFormats.DIMENSIONS_MISMATCH,
+                                                channel.size(), expected);
+        }
+
+        return new int[] { rows, columns };
+
+    }
+
+    /** Map a region of a file.
+     * @param channel open channel
+     * @param mode mapping mode
+     * @param offset offset of the first mapped double (not counting the header)
+     * @param size number of mapped doubles
+     * @return mapped region, using little-endian byte order
+     * @exception IOException if file cannot be mapped
+     */
+    static MappedByteBuffer map(final FileChannel channel, final FileChannel.MapMode mode,
+                                final long offset, final int size)
+        throws IOException {
+        final MappedByteBuffer region = channel.map(mode, HEADER_SIZE + offset * Double.BYTES,
+                                                    (long) size * Double.BYTES);
+        region.order(ByteOrder.LITTLE_ENDIAN);
+        return region;
+    }
+
+}
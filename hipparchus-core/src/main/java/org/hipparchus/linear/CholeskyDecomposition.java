@@ -119,19 +119,23 @@ public class CholeskyDecomposition {
         cachedLT = null;
 
         // check the matrix before transformation
+        // (packed symmetric matrices are symmetric by construction)
+        final boolean check = !(matrix instanceof SymmetricRealMatrix);
         for (int i = 0; i < order; ++i) {
             final double[] lI = lTData[i];
 
             // check off-diagonal elements (and reset them to 0)
             for (int j = i + 1; j < order; ++j) {
                 final double[] lJ = lTData[j];
-                final double lIJ = lI[j];
-                final double lJI = lJ[i];
-                final double maxDelta =
-                    relativeSymmetryThreshold * FastMath.max(FastMath.abs(lIJ), FastMath.abs(lJI));
-                if (FastMath.abs(lIJ - lJI) > maxDelta) {
-                    throw new MathIllegalArgumentException(LocalizedCoreFormats.NON_SYMMETRIC_MATRIX,
-                                                           i, j, relativeSymmetryThreshold);
+                if (check) {
+                    final double lIJ = lI[j];
+                    final double lJI = lJ[i];
+                    final double maxDelta =
+                        relativeSymmetryThreshold * FastMath.max(FastMath.abs(lIJ), FastMath.abs(lJI));
+                    if (FastMath.abs(lIJ - lJI) > maxDelta) {
+                        throw new MathIllegalArgumentException(LocalizedCoreFormats.NON_SYMMETRIC_MATRIX,
+                                                               i, j, relativeSymmetryThreshold);
+                    }
                 }
                 lJ[i] = 0;
            }
@@ -160,6 +164,17 @@ public class CholeskyDecomposition {
         }
     }
 
+    /**
+     * Builds a decomposition from already computed data.
+     * @param lTData row-oriented storage for L<sup>T</sup> matrix data
+     * @since 3.1
+     */
+    CholeskyDecomposition(final double[][] lTData) {
+        this.lTData   = lTData;
+        this.cachedL  = null;
+        this.cachedLT = null;
+    }
+
     /**
      * Returns the matrix L of the decomposition.
      * <p>L is an lower-triangular matrix</p>
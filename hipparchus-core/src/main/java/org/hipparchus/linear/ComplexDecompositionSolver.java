@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hipparchus.linear;
+
+import org.hipparchus.exception.MathIllegalArgumentException;
+
+/**
+ * Interface handling decomposition algorithms that can solve A &times; X = B
+ * for {@link ComplexMatrix complex matrices}.
+ * <p>
+ * This is the counterpart of {@link DecompositionSolver} for complex matrices
+ * stored in interleaved arrays.
+ * </p>
+ * @see ComplexLUDecomposition
+ * @see ComplexQRDecomposition
+ * @since 3.1
+ */
+public interface ComplexDecompositionSolver {
+
+    /**
+     * Solve the linear equation A &times; X = B for matrices A.
+     * <p>
+     * The A matrix is implicit, it is provided by the underlying
+     * decomposition algorithm.
+     * </p>
+     * @param b right-hand side of the equation A &times; X = B
+     * @return a vector X that minimizes the two norm of A &times; X - B
+     * @throws MathIllegalArgumentException if the matrices dimensions do not match
+     * or if the decomposed matrix is singular
+     */
+    ComplexVector solve(ComplexVector b) throws MathIllegalArgumentException;
+
+    /**
+     * Solve the linear equation A &times; X = B for matrices A.
+     * <p>
+     * The A matrix is implicit, it is provided by the underlying
+     * decomposition algorithm.
+     * </p>
+     * @param b right-hand side of the equation A &times; X = B
+     * @return a matrix X that minimizes the two norm of A &times; X - B
+     * @throws MathIllegalArgumentException if the matrices dimensions do not match
+     * or if the decomposed matrix is singular
+     */
+    ComplexMatrix solve(ComplexMatrix b) throws MathIllegalArgumentException;
+
+    /**
+     * Check if the decomposed matrix is non-singular.
+     * @return true if the decomposed matrix is non-singular
+     */
+    boolean isNonSingular();
+
+    /**
+     * Get the inverse (or pseudo-inverse) of the decomposed matrix.
+     * @return inverse matrix
+     * @throws MathIllegalArgumentException if the decomposed matrix is singular
+     */
+    ComplexMatrix getInverse() throws MathIllegalArgumentException;
+
+    /**
+     * Returns the number of rows in the matrix.
+     * @return rowDimension
+     */
+    int getRowDimension();
+
+    /**
+     * Returns the number of columns in the matrix.
+     * @return columnDimension
+     */
+    int getColumnDimension();
+
+}
@@ -0,0 +1,368 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hipparchus.linear;
+
+import org.hipparchus.complex.Complex;
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.exception.MathIllegalArgumentException;
+import org.hipparchus.util.FastMath;
+
+/**
+ * Calculates the LUP-decomposition of a square {@link ComplexMatrix complex matrix}.
+ * <p>
+ * This is the counterpart of {@link LUDecomposition} for complex matrices stored in
+ * interleaved arrays: the decomposition uses partial pivoting on the modulus of the
+ * entries and all updates are performed directly on primitive doubles, only one
+ * {@link Complex} instance being created per pivot.
+ * </p>
+ * @see ComplexMatrix
+ * @see FieldLUDecomposition
+ * @since 3.1
+ */
+public class ComplexLUDecomposition {
+
+    /** Default bound to determine effective singularity in LU decomposition. */
+    private static final double DEFAULT_TOO_SMALL = 1e-11;
+
+    /** Entries of LU decomposition, as interleaved rows. */
+    private final double[][] lu;
+
+    /** Pivot permutation associated with LU decomposition. */
+    private final int[] pivot;
+
+    /** Parity of the permutation associated with the LU decomposition. */
+    private boolean even;
+
+    /** Singularity indicator. */
+    private boolean singular;
+
+    /**
+     * Calculates the LU-decomposition of the given matrix.
+     * This constructor uses 1e-11 as default value for the singularity
+     * threshold.
+     *
+     * @param matrix Matrix to decompose.
+     * @throws MathIllegalArgumentException if matrix is not square.
+     */
+    public ComplexLUDecomposition(final ComplexMatrix matrix) {
+        this(matrix, DEFAULT_TOO_SMALL);
+    }
+
+    /**
+     * Calculates the LU-decomposition of the given matrix.
+     * @param matrix The matrix to decompose.
+     * @param singularityThreshold threshold (based on entries modulus)
+     * under which a matrix is considered singular
+     * @throws MathIllegalArgumentException if matrix is not square
+     */
+    public ComplexLUDecomposition(final ComplexMatrix matrix, final double singularityThreshold) {
+        if (!matrix.isSquare()) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.NON_SQUARE_MATRIX,
+                                                   matrix.getRowDimension(), matrix.getColumnDimension());
+        }
+
+        final int m = matrix.getColumnDimension();
+        final double[] data = matrix.getDataRef();
+        lu    = new double[m][2 * m];
+        pivot = new int[m];
+        for (int row = 0; row < m; ++row) {
+            System.arraycopy(data, 2 * row * m, lu[row], 0, 2 * m);
+            pivot[row] = row;
+        }
+        even     = true;
+        singular = false;
+
+        for (int col = 0; col < m; ++col) {
+
+            // find pivot
+            int max = col;
+            double largest = modulus2(lu[col], col);
+            for (int row = col + 1; row < m; ++row) {
+                final double mod2 = modulus2(lu[row], col);
+                if (mod2 > largest) {
+                    largest = mod2;
+                    max     = row;
+                }
+            }
+
+            // singularity check
+            if (FastMath.sqrt(largest) < singularityThreshold) {
+                singular = true;
+                return;
+            }
+
+            // pivot if necessary
+            if (max != col) {
+                final double[] tmp = lu[max];
+                lu[max] = lu[col];
+                lu[col] = tmp;
+                final int temp = pivot[max];
+                pivot[max] = pivot[col];
+                pivot[col] = temp;
+                even = !even;
+            }
+
+            // compute column of L and update the remaining sub-matrix
+            final double[] luCol = lu[col];
+            final Complex  inv   = new Complex(luCol[2 * col], luCol[2 * col + 1]).reciprocal();
+            final double   invRe = inv.getReal();
+            final double   invIm = inv.getImaginary();
+            for (int row = col + 1; row < m; ++row) {
+                final double[] luRow = lu[row];
+                final double   aRe   = luRow[2 * col];
+                final double   aIm   = luRow[2 * col + 1];
+                final double   lRe   = aRe * invRe - aIm * invIm;
+                final double   lIm   = aRe * invIm + aIm * invRe;
+                luRow[2 * col]     = lRe;
+                luRow[2 * col + 1] = lIm;
+                for (int k = 2 * (col + 1); k < 2 * m; k += 2) {
+                    final double uRe = luCol[k];
+                    final double uIm = luCol[k + 1];
+                    luRow[k]     -= lRe * uRe - lIm * uIm;
+                    luRow[k + 1] -= lRe * uIm + lIm * uRe;
+                }
+            }
+
+        }
+
+    }
+
+    /** Compute the squared modulus of an entry in an interleaved row.
+     * @param row interleaved row
+     * @param index index of the entry
+     * @return squared modulus of the entry
+     */
+    private static double modulus2(final double[] row, final int index) {
+        final double re = row[2 * index];
+        final double im = row[2 * index + 1];
+        return re * re + im * im;
+    }
+
+    /**
+     * Returns the matrix L of the decomposition.
+     * <p>L is a lower-triangular matrix</p>
+     * @return the L matrix (or null if decomposed matrix is singular)
+     */
+    public ComplexMatrix getL() {
+        if (singular) {
+            return null;
+        }
+        final int m = pivot.length;
+        final double[] l = new double[2 * m * m];
+        for (int i = 0; i < m; ++i) {
+            System.arraycopy(lu[i], 0, l, 2 * i * m, 2 * i);
+            l[2 * (i * m + i)] = 1.0;
+        }
+        return new ComplexMatrix(m, m, l, false);
+    }
+
+    /**
+     * Returns the matrix U of the decomposition.
+     * <p>U is an upper-triangular matrix</p>
+     * @return the U matrix (or null if decomposed matrix is singular)
+     */
+    public ComplexMatrix getU() {
+        if (singular) {
+            return null;
+        }
+        final int m = pivot.length;
+        final double[] u = new double[2 * m * m];
+        for (int i = 0; i < m; ++i) {
+            System.arraycopy(lu[i], 2 * i, u, 2 * (i * m + i), 2 * (m - i));
+        }
+        return new ComplexMatrix(m, m, u, false);
+    }
+
+    /**
+     * Returns the P rows permutation matrix.
+     * <p>P is a sparse matrix with exactly one element set to 1.0 in
+     * each row and each column, all other elements being set to 0.0.</p>
+     * <p>The positions of the 1 elements are given by the {@link #getPivot()
+     * pivot permutation vector}.</p>
+     * @return the P rows permutation matrix (or null if decomposed matrix is singular)
+     * @see #getPivot()
+     */
+    public ComplexMatrix getP() {
+        if (singular) {
+            return null;
+        }
+        final int m = pivot.length;
+        final ComplexMatrix p = new ComplexMatrix(m, m);
+        for (int i = 0; i < m; ++i) {
+            p.setEntry(i, pivot[i], 1.0, 0.0);
+        }
+        return p;
+    }
+
+    /**
+     * Returns the pivot permutation vector.
+     * @return the pivot permutation vector
+     * @see #getP()
+     */
+    public int[] getPivot() {
+        return pivot.clone();
+    }
+
+    /**
+     * Return the determinant of the matrix.
+     * @return determinant of the matrix
+     */
+    public Complex getDeterminant() {
+        if (singular) {
+            return Complex.ZERO;
+        } else {
+            double dRe = even ? 1 : -1;
+            double dIm = 0;
+            for (int i = 0; i < pivot.length; ++i) {
+                final double re = lu[i][2 * i];
+                final double im = lu[i][2 * i + 1];
+                final double t  = dRe * re - dIm * im;
+                dIm = dRe * im + dIm * re;
+                dRe = t;
+            }
+            return new Complex(dRe, dIm);
+        }
+    }
+
+    /**
+     * Get a solver for finding the A &times; X = B solution in exact linear
+     * sense.
+     * @return a solver
+     */
+    public ComplexDecompositionSolver getSolver() {
+        return new Solver();
+    }
+
+    /** Specialized solver. */
+    private class Solver implements ComplexDecompositionSolver {
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean isNonSingular() {
+            return !singular;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public ComplexVector solve(final ComplexVector b) {
+            final int m = pivot.length;
+            if (b.getDimension() != m) {
+                throw new MathIllegalArgumentException(LocalizedCoreFormats.DIMENSIONS_MISMATCH,
+                                                       b.getDimension(), m);
+            }
+            final double[] x = new double[2 * m];
+            solve(b.getDataRef(), x, 1);
+            return new ComplexVector(x, false);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public ComplexMatrix solve(final ComplexMatrix b) {
+            final int m = pivot.length;
+            if (b.getRowDimension() != m) {
+                throw new MathIllegalArgumentException(LocalizedCoreFormats.DIMENSIONS_MISMATCH,
+                                                       b.getRowDimension(), m);
+            }
+            final int nColB = b.getColumnDimension();
+            final double[] x = new double[2 * m * nColB];
+            solve(b.getDataRef(), x, nColB);
+            return new ComplexMatrix(m, nColB, x, false);
+        }
+
+        /** Solve the linear system for several right hand sides.
+         * @param b interleaved right hand sides, in row major order
+         * @param x placeholder for the interleaved solutions, in row major order
+         * @param nColB number of right hand sides
+         */
+        private void solve(final double[] b, final double[] x, final int nColB) {
+
+            if (singular) {
+                throw new MathIllegalArgumentException(LocalizedCoreFormats.SINGULAR_MATRIX);
+            }
+
+            final int m     = pivot.length;
+            final int width = 2 * nColB;
+
+            // apply permutations to b
+            for (int row = 0; row < m; ++row) {
+                System.arraycopy(b, pivot[row] * width, x, row * width, width);
+            }
+
+            // solve LY = b
+            for (int col = 0; col < m; ++col) {
+                final int xCol = col * width;
+                for (int i = col + 1; i < m; ++i) {
+                    final double lRe = lu[i][2 * col];
+                    final double lIm = lu[i][2 * col + 1];
+                    final int    xI  = i * width;
+                    for (int k = 0; k < width; k += 2) {
+                        final double yRe = x[xCol + k];
+                        final double yIm = x[xCol + k + 1];
+                        x[xI + k]     -= yRe * lRe - yIm * lIm;
+                        x[xI + k + 1] -= yRe * lIm + yIm * lRe;
+                    }
+                }
+            }
+
+            // solve UX = Y
+            for (int col = m - 1; col >= 0; --col) {
+                final int     xCol  = col * width;
+                final Complex inv   = new Complex(lu[col][2 * col], lu[col][2 * col + 1]).reciprocal();
+                final double  invRe = inv.getReal();
+                final double  invIm = inv.getImaginary();
+                for (int k = 0; k < width; k += 2) {
+                    final double yRe = x[xCol + k];
+                    final double yIm = x[xCol + k + 1];
+                    x[xCol + k]     = yRe * invRe - yIm * invIm;
+                    x[xCol + k + 1] = yRe * invIm + yIm * invRe;
+                }
+                for (int i = 0; i < col; ++i) {
+                    final double uRe = lu[i][2 * col];
+                    final double uIm = lu[i][2 * col + 1];
+                    final int    xI  = i * width;
+                    for (int k = 0; k < width; k += 2) {
+                        final double yRe = x[xCol + k];
+                        final double yIm = x[xCol + k + 1];
+                        x[xI + k]     -= yRe * uRe - yIm * uIm;
+                        x[xI + k + 1] -= yRe * uIm + yIm * uRe;
+                    }
+                }
+            }
+
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public ComplexMatrix getInverse() {
+            return solve(ComplexMatrix.createIdentity(pivot.length));
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public int getRowDimension() {
+            return pivot.length;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public int getColumnDimension() {
+            return pivot.length;
+        }
+
+    }
+
+}
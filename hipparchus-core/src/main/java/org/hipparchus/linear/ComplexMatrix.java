@@ -0,0 +1,479 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hipparchus.linear;
+
+import java.io.Serializable;
+import java.util.concurrent.ForkJoinPool;
+
+import org.hipparchus.complex.Complex;
+import org.hipparchus.complex.ComplexField;
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.exception.MathIllegalArgumentException;
+import org.hipparchus.util.FastMath;
+import org.hipparchus.util.MathUtils;
+
+/**
+ * Dense complex matrix backed by an interleaved array of primitive doubles.
+ * <p>
+ * Contrary to {@link FieldMatrix FieldMatrix&lt;Complex&gt;}, which holds one immutable
+ * {@link Complex} instance per entry, this class stores the real and imaginary parts
+ * of all entries in a single flat {@code double} array, in row major order: the real
+ * part of entry (i, j) is at index {@code 2 * (i * columns + j)} and its imaginary
+ * part immediately follows it. Arithmetic operations, including the in-place ones,
+ * work directly on this array and do not allocate any {@link Complex} instance.
+ * </p>
+ * <p>
+ * Conversions to and from {@link FieldMatrix FieldMatrix&lt;Complex&gt;} are
+ * provided for compatibility with the rest of the library.
+ * </p>
+ * @see ComplexVector
+ * @see ComplexLUDecomposition
+ * @see ComplexQRDecomposition
+ * @since 3.1
+ */
+public class ComplexMatrix implements AnyMatrix, Serializable {
+
+    /** Serializable version identifier. */
+    private static final long serialVersionUID = 20261017L;
+
+    /** Number of rows and columns in the tiles used for multiplication. */
+    private static final int BLOCK_SIZE = 64;
+
+    /** Number of rows of the matrix. */
+    private final int rows;
+
+    /** Number of columns of the matrix. */
+    private final int columns;
+
+    /** Interleaved real and imaginary parts of the entries, in row major order. */
+    private final double[] data;
+
+    /**
+     * Create a matrix with all entries set to zero.
+     * @param rows number of rows
+     * @param columns number of columns
+     * @throws MathIllegalArgumentException if row or column dimension is not positive
+     */
+    public ComplexMatrix(final int rows, final int columns) throws MathIllegalArgumentException {
+        this(rows, columns, new double[2 * checkDimension(rows) * checkDimension(columns)], false);
+    }
+
+    /**
+     * Create a matrix from a two dimensional array of complex numbers.
+     * @param entries entries of the matrix, as an array of rows
+     * @throws MathIllegalArgumentException if the array is empty or not rectangular
+     */
+    public ComplexMatrix(final Complex[][] entries) throws MathIllegalArgumentException {
+        this(entries.length, entries.length == 0 ? 0 : entries[0].length);
+        for (int i = 0; i < rows; ++i) {
+            if (entries[i].length != columns) {
+                throw new MathIllegalArgumentException(LocalizedCoreFormats.DIMENSIONS_MISMATCH,
+                                                       entries[i].length, columns);
+            }
+            for (int j = 0; j < columns; ++j) {
+                setEntry(i, j, entries[i][j]);
+            }
+        }
+    }
+
+    /**
+     * Create a matrix by copying a field matrix.
+     * @param matrix field matrix to copy
+     */
+    public ComplexMatrix(final FieldMatrix<Complex> matrix) {
+        this(matrix.getRowDimension(), matrix.getColumnDimension());
+        for (int i = 0; i < rows; ++i) {
+            for (int j = 0; j < columns; ++j) {
+                setEntry(i, j, matrix.getEntry(i, j));
+            }
+        }
+    }
+
+    /**
+     * Create a matrix from an interleaved array.
+     * @param rows number of rows
+     * @param columns number of columns
+     * @param data interleaved real and imaginary parts of the entries, in row major order
+     * @param copyArray if true, the input array will be copied, otherwise
+     * it will be referenced
+     * @throws MathIllegalArgumentException if row or column dimension is not positive
+     * or if the array length is not {@code 2 * rows * columns}
+     */
+    public ComplexMatrix(final int rows, final int columns, final double[] data, final boolean copyArray)
+        throws MathIllegalArgumentException {
+        checkDimension(rows);
+        checkDimension(columns);
+        if (data.length != 2 * rows * columns) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.DIMENSIONS_MISMATCH,
+                                                   data.length, 2 * rows * columns);
+        }
+        this.rows    = rows;
+        this.columns = columns;
+        this.data    = copyArray ? data.clone() : data;
+    }
+
+    /** Create an identity matrix.
+     * @param dimension dimension of the matrix
+     * @return identity matrix
+     * @throws MathIllegalArgumentException if dimension is not positive
+     */
+    public static ComplexMatrix createIdentity(final int dimension) throws MathIllegalArgumentException {
+        final ComplexMatrix identity = new ComplexMatrix(dimension, dimension);
+        for (int i = 0; i < dimension; ++i) {
+            identity.data[2 * (i * dimension + i)] = 1.0;
+        }
+        return identity;
+    }
+
+    /** Check a dimension is strictly positive.
+     * @param dimension dimension to check
+     * @return dimension
+     * @throws MathIllegalArgumentException if dimension is not positive
+     */
+    private static int checkDimension(final int dimension) throws MathIllegalArgumentException {
+        if (dimension <= 0) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.DIMENSION, dimension);
+        }
+        return dimension;
+    }
+
+    /** Convert the instance to a field matrix.
+     * @return field matrix containing the same entries
+     */
+    public FieldMatrix<Complex> toFieldMatrix() {
+        final FieldMatrix<Complex> m = new Array2DRowFieldMatrix<>(ComplexField.getInstance(), rows, columns);
+        for (int i = 0; i < rows; ++i) {
+            for (int j = 0; j < columns; ++j) {
+                m.setEntry(i, j, getEntry(i, j));
+            }
+        }
+        return m;
+    }
+
+    /** Get a reference to the underlying interleaved array.
+     * <p>
+     * The real part of entry (i, j) is at index {@code 2 * (i * columns + j)}
+     * and its imaginary part immediately follows it.
+     * </p>
+     * @return reference to the underlying array
+     */
+    public double[] getDataRef() {
+        return data; // NOPMD - returning an internal array is intentional and documented here
+    }
+
+    /** Get a copy of the instance.
+     * @return copy of the instance
+     */
+    public ComplexMatrix copy() {
+        return new ComplexMatrix(rows, columns, data, true);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isSquare() {
+        return rows == columns;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int getRowDimension() {
+        return rows;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int getColumnDimension() {
+        return columns;
+    }
+
+    /** Get an entry.
+     * @param row row index
+     * @param column column index
+     * @return entry at (row, column)
+     * @throws MathIllegalArgumentException if the indices are not valid
+     */
+    public Complex getEntry(final int row, final int column) throws MathIllegalArgumentException {
+        final int k = index(row, column);
+        return new Complex(data[k], data[k + 1]);
+    }
+
+    /** Get the real part of an entry.
+     * @param row row index
+     * @param column column index
+     * @return real part of entry at (row, column)
+     * @throws MathIllegalArgumentException if the indices are not valid
+     */
+    public double getReal(final int row, final int column) throws MathIllegalArgumentException {
+        return data[index(row, column)];
+    }
+
+    /** Get the imaginary part of an entry.
+     * @param row row index
+     * @param column column index
+     * @return imaginary part of entry at (row, column)
+     * @throws MathIllegalArgumentException if the indices are not valid
+     */
+    public double getImaginary(final int row, final int column) throws MathIllegalArgumentException {
+        return data[index(row, column) + 1];
+    }
+
+    /** Set an entry.
+     * @param row row index
+     * @param column column index
+     * @param value new value of the entry
+     * @throws MathIllegalArgumentException if the indices are not valid
+     */
+    public void setEntry(final int row, final int column, final Complex value) throws MathIllegalArgumentException {
+        setEntry(row, column, value.getReal(), value.getImaginary());
+    }
+
+    /** Set an entry.
+     * @param row row index
+     * @param column column index
+     * @param real real part of the new value of the entry
+     * @param imaginary imaginary part of the new value of the entry
+     * @throws MathIllegalArgumentException if the indices are not valid
+     */
+    public void setEntry(final int row, final int column, final double real, final double imaginary)
+        throws MathIllegalArgumentException {
+        final int k = index(row, column);
+        data[k]     = real;
+        data[k + 1] = imaginary;
+    }
+
+    /** Get the index of the real part of an entry in the interleaved array.
+     * @param row row index
+     * @param column column index
+     * @return index of the real part of the entry
+     * @throws MathIllegalArgumentException if the indices are not valid
+     */
+    private int index(final int row, final int column) throws MathIllegalArgumentException {
+        MatrixUtils.checkMatrixIndex(this, row, column);
+        return 2 * (row * columns + column);
+    }
+
+    /** Add a matrix to the instance, in place.
+     * @param m matrix to add
+     * @return this
+     * @throws MathIllegalArgumentException if the dimensions do not match
+     */
+    public ComplexMatrix addToSelf(final ComplexMatrix m) throws MathIllegalArgumentException {
+        MatrixUtils.checkAdditionCompatible(this, m);
+        for (int k = 0; k < data.length; ++k) {
+            data[k] += m.data[k];
+        }
+        return this;
+    }
+
+    /** Subtract a matrix from the instance, in place.
+     * @param m matrix to subtract
+     * @return this
+     * @throws MathIllegalArgumentException if the dimensions do not match
+     */
+    public ComplexMatrix subtractToSelf(final ComplexMatrix m) throws MathIllegalArgumentException {
+        MatrixUtils.checkSubtractionCompatible(this, m);
+        for (int k = 0; k < data.length; ++k) {
+            data[k] -= m.data[k];
+        }
+        return this;
+    }
+
+    /** Multiply the instance by a scalar, in place.
+     * @param d scalar factor
+     * @return this
+     */
+    public ComplexMatrix scalarMultiplyToSelf(final Complex d) {
+        scale(data, d.getReal(), d.getImaginary());
+        return this;
+    }
+
+    /** Add a matrix to the instance.
+     * @param m matrix to add
+     * @return this + m
+     * @throws MathIllegalArgumentException if the dimensions do not match
+     */
+    public ComplexMatrix add(final ComplexMatrix m) throws MathIllegalArgumentException {
+        return copy().addToSelf(m);
+    }
+
+    /** Subtract a matrix from the instance.
+     * @param m matrix to subtract
+     * @return this - m
+     * @throws MathIllegalArgumentException if the dimensions do not match
+     */
+    public ComplexMatrix subtract(final ComplexMatrix m) throws MathIllegalArgumentException {
+        return copy().subtractToSelf(m);
+    }
+
+    /** Multiply the instance by a scalar.
+     * @param d scalar factor
+     * @return this × d
+     */
+    public ComplexMatrix scalarMultiply(final Complex d) {
+        return copy().scalarMultiplyToSelf(d);
+    }
+
+    /** Get the transpose of the instance.
+     * @return transpose of the instance
+     */
+    public ComplexMatrix transpose() {
+        return transpose(1.0);
+    }
+
+    /** Get the conjugate transpose of the instance.
+     * @return conjugate transpose of the instance
+     */
+    public ComplexMatrix conjugateTranspose() {
+        return transpose(-1.0);
+    }
+
+    /** Get the transpose of the instance, possibly conjugated.
+     * @param sign sign to apply to imaginary parts
+     * @return transposed matrix
+     */
+    private ComplexMatrix transpose(final double sign) {
+        final double[] t = new double[data.length];
+        for (int i = 0; i < rows; ++i) {
+            for (int j = 0; j < columns; ++j) {
+                final int k = 2 * (i * columns + j);
+                final int l = 2 * (j * rows + i);
+                t[l]     = data[k];
+                t[l + 1] = sign * data[k + 1];
+            }
+        }
+        return new ComplexMatrix(columns, rows, t, false);
+    }
+
+    /** Multiply the instance by another matrix.
+     * <p>
+     * The product is computed on cache-friendly tiles of the matrices.
+     * </p>
+     * @param m matrix to postmultiply by
+     * @return this × m
+     * @throws MathIllegalArgumentException if the matrices are not compatible
+     */
+    public ComplexMatrix multiply(final ComplexMatrix m) throws MathIllegalArgumentException {
+        MatrixUtils.checkMultiplicationCompatible(this, m);
+        final ComplexMatrix out = new ComplexMatrix(rows, m.columns);
+        multiplyRows(m, out, 0, rows);
+        return out;
+    }
+
+    /** Multiply the instance by another matrix, using several threads.
+     * <p>
+     * The rows of the product are computed independently from each other
+     * by tasks submitted to the specified pool. Each entry is computed exactly
+     * as in {@link #multiply(ComplexMatrix)}, so the result is identical
+     * to the one of the single-threaded method.
+     * </p>
+     * @param m matrix to postmultiply by
+     * @param pool pool in which the rows of the product will be computed
+     * @return this × m
+     * @throws MathIllegalArgumentException if the matrices are not compatible
+     */
+    public ComplexMatrix multiply(final ComplexMatrix m, final ForkJoinPool pool)
+        throws MathIllegalArgumentException {
+        MatrixUtils.checkMultiplicationCompatible(this, m);
+        MathUtils.checkNotNull(pool);
+        final ComplexMatrix out = new ComplexMatrix(rows, m.columns);
+        // aim at about 2^16 complex multiplications per task
+        final int grain = FastMath.max(1, (1 << 16) / FastMath.max(1, columns * m.columns));
+        pool.invoke(new RangeTask((start, end) -> multiplyRows(m, out, start, end), 0, rows, grain));
+        return out;
+    }
+
+    /** Compute some rows of this × m.
+     * @param m matrix to postmultiply by
+     * @param out output matrix (rows to compute must be initialized to zero)
+     * @param start index of the first row to compute (included)
+     * @param end index of the last row to compute (excluded)
+     */
+    private void multiplyRows(final ComplexMatrix m, final ComplexMatrix out, final int start, final int end) {
+        final int      n     = columns;
+        final int      p     = m.columns;
+        final double[] mData = m.data;
+        final double[] oData = out.data;
+        for (int j0 = 0; j0 < p; j0 += BLOCK_SIZE) {
+            final int j1 = FastMath.min(j0 + BLOCK_SIZE, p);
+            for (int k0 = 0; k0 < n; k0 += BLOCK_SIZE) {
+                final int k1 = FastMath.min(k0 + BLOCK_SIZE, n);
+                for (int i = start; i < end; ++i) {
+                    final int oStart = 2 * (i * p + j0);
+                    for (int k = k0; k < k1; ++k) {
+                        final int    a   = 2 * (i * n + k);
+                        final double aRe = data[a];
+                        final double aIm = data[a + 1];
+                        int b = 2 * (k * p + j0);
+                        int o = oStart;
+                        for (int j = j0; j < j1; ++j) {
+                            final double bRe = mData[b];
+                            final double bIm = mData[b + 1];
+                            oData[o]     += aRe * bRe - aIm * bIm;
+                            oData[o + 1] += aRe * bIm + aIm * bRe;
+                            b += 2;
+                            o += 2;
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /** Multiply the instance by a vector.
+     * @param v vector to multiply by
+     * @return this × v
+     * @throws MathIllegalArgumentException if the dimensions do not match
+     */
+    public ComplexVector operate(final ComplexVector v) throws MathIllegalArgumentException {
+        if (v.getDimension() != columns) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.DIMENSIONS_MISMATCH,
+                                                   v.getDimension(), columns);
+        }
+        final double[] vData = v.getDataRef();
+        final double[] out   = new double[2 * rows];
+        for (int i = 0; i < rows; ++i) {
+            double sRe = 0;
+            double sIm = 0;
+            for (int j = 0, a = 2 * i * columns; j < columns; ++j, a += 2) {
+                final double aRe = data[a];
+                final double aIm = data[a + 1];
+                final double bRe = vData[2 * j];
+                final double bIm = vData[2 * j + 1];
+                sRe += aRe * bRe - aIm * bIm;
+                sIm += aRe * bIm + aIm * bRe;
+            }
+            out[2 * i]     = sRe;
+            out[2 * i + 1] = sIm;
+        }
+        return new ComplexVector(out, false);
+    }
+
+    /** Multiply in place all pairs of an interleaved array by a complex factor.
+     * @param array interleaved array
+     * @param re real part of the factor
+     * @param im imaginary part of the factor
+     */
+    static void scale(final double[] array, final double re, final double im) {
+        for (int k = 0; k < array.length; k += 2) {
+            final double xRe = array[k];
+            final double xIm = array[k + 1];
+            array[k]     = xRe * re - xIm * im;
+            array[k + 1] = xRe * im + xIm * re;
+        }
+    }
+
+}
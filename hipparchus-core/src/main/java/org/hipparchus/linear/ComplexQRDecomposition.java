@@ -0,0 +1,365 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hipparchus.linear;
+
+import org.hipparchus.complex.Complex;
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.exception.MathIllegalArgumentException;
+import org.hipparchus.util.FastMath;
+
+/**
+ * Calculates the QR-decomposition of a {@link ComplexMatrix complex matrix}.
+ * <p>
+ * This is the counterpart of {@link QRDecomposition} for complex matrices stored in
+ * interleaved arrays. The decomposition uses complex Householder reflections
+ * H = I - &beta; v v<sup>H</sup>, with the phase of each diagonal element of R chosen
+ * opposite to the phase of the corresponding pivot, so &beta; is always real. Q is
+ * therefore unitary (Q<sup>H</sup>Q = I) and R is upper triangular.
+ * </p>
+ * @see ComplexMatrix
+ * @see FieldQRDecomposition
+ * @since 3.1
+ */
+public class ComplexQRDecomposition {
+
+    /**
+     * A packed TRANSPOSED representation of the QR decomposition.
+     * <p>Each array holds one interleaved column of the decomposed matrix: the elements
+     * above the diagonal of R are stored before the diagonal index, and the Householder
+     * reflector vectors are stored from the diagonal index.</p>
+     */
+    private final double[][] qrt;
+
+    /** The interleaved diagonal elements of R. */
+    private final double[] rDiag;
+
+    /** Singularity threshold. */
+    private final double threshold;
+
+    /**
+     * Calculates the QR-decomposition of the given matrix.
+     * The singularity threshold defaults to zero.
+     *
+     * @param matrix The matrix to decompose.
+     */
+    public ComplexQRDecomposition(final ComplexMatrix matrix) {
+        this(matrix, 0d);
+    }
+
+    /**
+     * Calculates the QR-decomposition of the given matrix.
+     *
+     * @param matrix The matrix to decompose.
+     * @param threshold Singularity threshold, on the modulus of the diagonal elements of R.
+     */
+    public ComplexQRDecomposition(final ComplexMatrix matrix, final double threshold) {
+        this.threshold = threshold;
+
+        final int m = matrix.getRowDimension();
+        final int n = matrix.getColumnDimension();
+        final double[] data = matrix.getDataRef();
+        qrt   = new double[n][2 * m];
+        rDiag = new double[2 * FastMath.min(m, n)];
+        for (int row = 0; row < m; ++row) {
+            for (int col = 0; col < n; ++col) {
+                final int k = 2 * (row * n + col);
+                qrt[col][2 * row]     = data[k];
+                qrt[col][2 * row + 1] = data[k + 1];
+            }
+        }
+
+        for (int minor = 0; minor < FastMath.min(m, n); ++minor) {
+            performHouseholderReflection(minor);
+        }
+
+    }
+
+    /** Perform Householder reflection for a minor A(minor, minor) of A.
+     * @param minor minor index
+     */
+    private void performHouseholderReflection(final int minor) {
+
+        final double[] qrtMinor = qrt[minor];
+        final int      m        = qrtMinor.length / 2;
+
+        // norm of the column below the diagonal
+        double xNormSqr = 0;
+        for (int k = 2 * minor; k < 2 * m; ++k) {
+            xNormSqr += qrtMinor[k] * qrtMinor[k];
+        }
+        final double xNorm = FastMath.sqrt(xNormSqr);
+        if (xNorm == 0) {
+            // nothing to reflect, the reflection is the identity
+            rDiag[2 * minor]     = 0;
+            rDiag[2 * minor + 1] = 0;
+            return;
+        }
+
+        // diagonal element of R, with phase opposite to the pivot phase
+        final double x0Re  = qrtMinor[2 * minor];
+        final double x0Im  = qrtMinor[2 * minor + 1];
+        final double x0Mod = FastMath.hypot(x0Re, x0Im);
+        final double aRe   = x0Mod == 0 ? -xNorm : -xNorm * x0Re / x0Mod;
+        final double aIm   = x0Mod == 0 ? 0      : -xNorm * x0Im / x0Mod;
+        rDiag[2 * minor]     = aRe;
+        rDiag[2 * minor + 1] = aIm;
+
+        // Householder vector v = x - a e₁, stored in place of x
+        qrtMinor[2 * minor]     = x0Re - aRe;
+        qrtMinor[2 * minor + 1] = x0Im - aIm;
+
+        // apply the reflection to the remaining columns
+        final double beta = beta(minor);
+        for (int col = minor + 1; col < qrt.length; ++col) {
+            reflect(qrtMinor, minor, beta, qrt[col], 0, 2);
+        }
+
+    }
+
+    /** Get the real factor &beta; of a Householder reflection.
+     * @param minor minor index
+     * @return 2 / (v<sup>H</sup> v), or 0 if the reflection is the identity
+     */
+    private double beta(final int minor) {
+        final double aMod = FastMath.hypot(rDiag[2 * minor], rDiag[2 * minor + 1]);
+        if (aMod == 0) {
+            return 0;
+        }
+        // vᴴv = 2 |a| (|a| + |x₀|) = 2 |a| |v₀|
+        final double[] qrtMinor = qrt[minor];
+        return 1.0 / (aMod * FastMath.hypot(qrtMinor[2 * minor], qrtMinor[2 * minor + 1]));
+    }
+
+    /** Apply a Householder reflection y ← y - &beta; v (v<sup>H</sup> y) to one strided vector.
+     * @param v interleaved Householder vector (meaningful from index {@code 2 * minor})
+     * @param minor minor index
+     * @param beta real factor of the reflection
+     * @param y interleaved array containing the vector to reflect
+     * @param offset index of the real part of the first element of the vector in y
+     * @param stride distance between consecutive elements of the vector in y
+     */
+    private static void reflect(final double[] v, final int minor, final double beta,
+                                final double[] y, final int offset, final int stride) {
+        final int m = v.length / 2;
+        double sRe = 0;
+        double sIm = 0;
+        for (int row = minor, k = offset + row * stride; row < m; ++row, k += stride) {
+            final double vRe = v[2 * row];
+            final double vIm = v[2 * row + 1];
+            sRe += vRe * y[k]     + vIm * y[k + 1];
+            sIm += vRe * y[k + 1] - vIm * y[k];
+        }
+        sRe *= beta;
+        sIm *= beta;
+        for (int row = minor, k = offset + row * stride; row < m; ++row, k += stride) {
+            final double vRe = v[2 * row];
+            final double vIm = v[2 * row + 1];
+            y[k]     -= vRe * sRe - vIm * sIm;
+            y[k + 1] -= vRe * sIm + vIm * sRe;
+        }
+    }
+
+    /**
+     * Returns the matrix R of the decomposition.
+     * <p>R is an upper-triangular matrix</p>
+     * @return the R matrix
+     */
+    public ComplexMatrix getR() {
+        final int n = qrt.length;
+        final int m = qrt[0].length / 2;
+        final ComplexMatrix r = new ComplexMatrix(m, n);
+        for (int row = FastMath.min(m, n) - 1; row >= 0; --row) {
+            r.setEntry(row, row, rDiag[2 * row], rDiag[2 * row + 1]);
+            for (int col = row + 1; col < n; ++col) {
+                r.setEntry(row, col, qrt[col][2 * row], qrt[col][2 * row + 1]);
+            }
+        }
+        return r;
+    }
+
+    /**
+     * Returns the matrix Q of the decomposition.
+     * <p>Q is an unitary matrix</p>
+     * @return the Q matrix
+     */
+    public ComplexMatrix getQ() {
+        final int m = qrt[0].length / 2;
+        final ComplexMatrix q = ComplexMatrix.createIdentity(m);
+        final double[] data = q.getDataRef();
+        // Q = H₀ H₁ … Hₚ₋₁, applied right to left on the identity columns
+        for (int minor = FastMath.min(m, qrt.length) - 1; minor >= 0; --minor) {
+            final double beta = beta(minor);
+            if (beta != 0) {
+                for (int col = minor; col < m; ++col) {
+                    reflect(qrt[minor], minor, beta, data, 2 * col, 2 * m);
+                }
+            }
+        }
+        return q;
+    }
+
+    /**
+     * Get a solver for finding the A &times; X = B solution in least square sense.
+     * <p>
+     * Least Square sense means a solver can be computed for an overdetermined system,
+     * (i.e. a system with more equations than unknowns, which corresponds to a tall A
+     * matrix with more rows than columns). In any case, if the matrix is singular
+     * within the tolerance set at {@link ComplexQRDecomposition#ComplexQRDecomposition(ComplexMatrix,
+     * double) construction}, an error will be triggered when
+     * the {@link ComplexDecompositionSolver#solve(ComplexVector) solve} method will be called.
+     * </p>
+     * @return a solver
+     */
+    public ComplexDecompositionSolver getSolver() {
+        return new Solver();
+    }
+
+    /** Specialized solver. */
+    private class Solver implements ComplexDecompositionSolver {
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean isNonSingular() {
+            return !checkSingular(false);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public ComplexVector solve(final ComplexVector b) {
+            final int n = qrt.length;
+            final int m = qrt[0].length / 2;
+            if (b.getDimension() != m) {
+                throw new MathIllegalArgumentException(LocalizedCoreFormats.DIMENSIONS_MISMATCH,
+                                                       b.getDimension(), m);
+            }
+            final double[] x = new double[2 * n];
+            solve(b.getDataRef().clone(), x, 1);
+            return new ComplexVector(x, false);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public ComplexMatrix solve(final ComplexMatrix b) {
+            final int n = qrt.length;
+            final int m = qrt[0].length / 2;
+            if (b.getRowDimension() != m) {
+                throw new MathIllegalArgumentException(LocalizedCoreFormats.DIMENSIONS_MISMATCH,
+                                                       b.getRowDimension(), m);
+            }
+            final int nColB = b.getColumnDimension();
+            final double[] x = new double[2 * n * nColB];
+            solve(b.getDataRef().clone(), x, nColB);
+            return new ComplexMatrix(n, nColB, x, false);
+        }
+
+        /** Solve the linear system for several right hand sides.
+         * @param y interleaved right hand sides, in row major order (will be overwritten)
+         * @param x placeholder for the interleaved solutions, in row major order
+         * @param nColB number of right hand sides
+         */
+        private void solve(final double[] y, final double[] x, final int nColB) {
+
+            checkSingular(true);
+
+            final int width = 2 * nColB;
+
+            // apply Householder transforms to solve Q.y = b
+            for (int minor = 0; minor < rDiag.length / 2; ++minor) {
+                final double beta = beta(minor);
+                if (beta != 0) {
+                    for (int k = 0; k < width; k += 2) {
+                        reflect(qrt[minor], minor, beta, y, k, width);
+                    }
+                }
+            }
+
+            // solve triangular system R.x = y
+            for (int row = rDiag.length / 2 - 1; row >= 0; --row) {
+                final Complex  inv    = new Complex(rDiag[2 * row], rDiag[2 * row + 1]).reciprocal();
+                final double   invRe  = inv.getReal();
+                final double   invIm  = inv.getImaginary();
+                final double[] qrtRow = qrt[row];
+                final int      yRow   = row * width;
+                for (int k = 0; k < width; k += 2) {
+                    final double re = y[yRow + k];
+                    final double im = y[yRow + k + 1];
+                    y[yRow + k]     = re * invRe - im * invIm;
+                    y[yRow + k + 1] = re * invIm + im * invRe;
+                }
+                System.arraycopy(y, yRow, x, yRow, width);
+                for (int i = 0; i < row; ++i) {
+                    final double rRe = qrtRow[2 * i];
+                    final double rIm = qrtRow[2 * i + 1];
+                    final int    yI  = i * width;
+                    for (int k = 0; k < width; k += 2) {
+                        final double re = y[yRow + k];
+                        final double im = y[yRow + k + 1];
+                        y[yI + k]     -= re * rRe - im * rIm;
+                        y[yI + k + 1] -= re * rIm + im * rRe;
+                    }
+                }
+            }
+
+        }
+
+        /**
+         * {@inheritDoc}
+         * @throws MathIllegalArgumentException if the decomposed matrix is singular.
+         */
+        @Override
+        public ComplexMatrix getInverse() {
+            return solve(ComplexMatrix.createIdentity(qrt[0].length / 2));
+        }
+
+        /**
+         * Check singularity.
+         *
+         * @param raise Whether to raise a {@link MathIllegalArgumentException}
+         * if any element of the diagonal fails the check.
+         * @return {@code true} if any element of the diagonal has a modulus smaller
+         * or equal to the threshold.
+         * @throws MathIllegalArgumentException if the matrix is singular and
+         * {@code raise} is {@code true}.
+         */
+        private boolean checkSingular(final boolean raise) {
+            for (int i = 0; i < rDiag.length; i += 2) {
+                if (FastMath.hypot(rDiag[i], rDiag[i + 1]) <= threshold) {
+                    if (raise) {
+                        throw new MathIllegalArgumentException(LocalizedCoreFormats.SINGULAR_MATRIX);
+                    } else {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public int getRowDimension() {
+            return qrt[0].length / 2;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public int getColumnDimension() {
+            return qrt.length;
+        }
+
+    }
+
+}
@@ -0,0 +1,325 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hipparchus.linear;
+
+import java.io.Serializable;
+
+import org.hipparchus.complex.Complex;
+import org.hipparchus.complex.ComplexField;
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.exception.MathIllegalArgumentException;
+import org.hipparchus.util.FastMath;
+
+/**
+ * Complex vector backed by an interleaved array of primitive doubles.
+ * <p>
+ * The real part of entry i is at index {@code 2 * i} and its imaginary part at
+ * index {@code 2 * i + 1}. Arithmetic operations, including the in-place ones,
+ * work directly on this array and do not allocate any {@link Complex} instance.
+ * </p>
+ * @see ComplexMatrix
+ * @since 3.1
+ */
+public class ComplexVector implements Serializable {
+
+    /** Serializable version identifier. */
+    private static final long serialVersionUID = 20261017L;
+
+    /** Interleaved real and imaginary parts of the entries. */
+    private final double[] data;
+
+    /**
+     * Create a vector with all entries set to zero.
+     * @param size dimension of the vector
+     */
+    public ComplexVector(final int size) {
+        this.data = new double[2 * size];
+    }
+
+    /**
+     * Create a vector from an array of complex numbers.
+     * @param entries entries of the vector
+     */
+    public ComplexVector(final Complex[] entries) {
+        this(entries.length);
+        for (int i = 0; i < entries.length; ++i) {
+            data[2 * i]     = entries[i].getReal();
+            data[2 * i + 1] = entries[i].getImaginary();
+        }
+    }
+
+    /**
+     * Create a vector by copying a field vector.
+     * @param v field vector to copy
+     */
+    public ComplexVector(final FieldVector<Complex> v) {
+        this(v.toArray());
+    }
+
+    /**
+     * Create a vector from an interleaved array.
+     * @param data interleaved real and imaginary parts of the entries
+     * @param copyArray if true, the input array will be copied, otherwise
+     * it will be referenced
+     * @throws MathIllegalArgumentException if the array length is odd
+     */
+    public ComplexVector(final double[] data, final boolean copyArray) throws MathIllegalArgumentException {
+        if (data.length % 2 != 0) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.DIMENSIONS_MISMATCH,
+                                                   data.length, data.length + 1);
+        }
+        this.data = copyArray ? data.clone() : data;
+    }
+
+    /** Convert the instance to a field vector.
+     * @return field vector containing the same entries
+     */
+    public FieldVector<Complex> toFieldVector() {
+        return new ArrayFieldVector<>(ComplexField.getInstance(), toArray(), false);
+    }
+
+    /** Convert the instance to an array of complex numbers.
+     * @return array containing the same entries
+     */
+    public Complex[] toArray() {
+        final Complex[] array = new Complex[getDimension()];
+        for (int i = 0; i < array.length; ++i) {
+            array[i] = new Complex(data[2 * i], data[2 * i + 1]);
+        }
+        return array;
+    }
+
+    /** Get a reference to the underlying interleaved array.
+     * @return reference to the underlying array
+     */
+    public double[] getDataRef() {
+        return data; // NOPMD - returning an internal array is intentional and documented here
+    }
+
+    /** Get a copy of the instance.
+     * @return copy of the instance
+     */
+    public ComplexVector copy() {
+        return new ComplexVector(data, true);
+    }
+
+    /** Get the dimension of the vector.
+     * @return dimension of the vector
+     */
+    public int getDimension() {
+        return data.length / 2;
+    }
+
+    /** Get an entry.
+     * @param index index of the entry
+     * @return entry at index
+     * @throws MathIllegalArgumentException if the index is not valid
+     */
+    public Complex getEntry(final int index) throws MathIllegalArgumentException {
+        checkIndex(index);
+        return new Complex(data[2 * index], data[2 * index + 1]);
+    }
+
+    /** Get the real part of an entry.
+     * @param index index of the entry
+     * @return real part of entry at index
+     * @throws MathIllegalArgumentException if the index is not valid
+     */
+    public double getReal(final int index) throws MathIllegalArgumentException {
+        checkIndex(index);
+        return data[2 * index];
+    }
+
+    /** Get the imaginary part of an entry.
+     * @param index index of the entry
+     * @return imaginary part of entry at index
+     * @throws MathIllegalArgumentException if the index is not valid
+     */
+    public double getImaginary(final int index) throws MathIllegalArgumentException {
+        checkIndex(index);
+        return data[2 * index + 1];
+    }
+
+    /** Set an entry.
+     * @param index index of the entry
+     * @param value new value of the entry
+     * @throws MathIllegalArgumentException if the index is not valid
+     */
+    public void setEntry(final int index, final Complex value) throws MathIllegalArgumentException {
+        setEntry(index, value.getReal(), value.getImaginary());
+    }
+
+    /** Set an entry.
+     * @param index index of the entry
+     * @param real real part of the new value of the entry
+     * @param imaginary imaginary part of the new value of the entry
+     * @throws MathIllegalArgumentException if the index is not valid
+     */
+    public void setEntry(final int index, final double real, final double imaginary)
+        throws MathIllegalArgumentException {
+        checkIndex(index);
+        data[2 * index]     = real;
+        data[2 * index + 1] = imaginary;
+    }
+
+    /** Add a vector to the instance, in place.
+     * @param v vector to add
+     * @return this
+     * @throws MathIllegalArgumentException if the dimensions do not match
+     */
+    public ComplexVector addToSelf(final ComplexVector v) throws MathIllegalArgumentException {
+        checkDimension(v);
+        for (int k = 0; k < data.length; ++k) {
+            data[k] += v.data[k];
+        }
+        return this;
+    }
+
+    /** Subtract a vector from the instance, in place.
+     * @param v vector to subtract
+     * @return this
+     * @throws MathIllegalArgumentException if the dimensions do not match
+     */
+    public ComplexVector subtractToSelf(final ComplexVector v) throws MathIllegalArgumentException {
+        checkDimension(v);
+        for (int k = 0; k < data.length; ++k) {
+            data[k] -= v.data[k];
+        }
+        return this;
+    }
+
+    /** Multiply the instance by a scalar, in place.
+     * @param d scalar factor
+     * @return this
+     */
+    public ComplexVector mapMultiplyToSelf(final Complex d) {
+        ComplexMatrix.scale(data, d.getReal(), d.getImaginary());
+        return this;
+    }
+
+    /** Add a vector to the instance.
+     * @param v vector to add
+     * @return this + v
+     * @throws MathIllegalArgumentException if the dimensions do not match
+     */
+    public ComplexVector add(final ComplexVector v) throws MathIllegalArgumentException {
+        return copy().addToSelf(v);
+    }
+
+    /** Subtract a vector from the instance.
+     * @param v vector to subtract
+     * @return this - v
+     * @throws MathIllegalArgumentException if the dimensions do not match
+     */
+    public ComplexVector subtract(final ComplexVector v) throws MathIllegalArgumentException {
+        return copy().subtractToSelf(v);
+    }
+
+    /** Multiply the instance by a scalar.
+     * @param d scalar factor
+     * @return this × d
+     */
+    public ComplexVector mapMultiply(final Complex d) {
+        return copy().mapMultiplyToSelf(d);
+    }
+
+    /** Compute the dot product of the instance with another vector.
+     * <p>
+     * As in {@link FieldVector#dotProduct(FieldVector)}, the entries
+     * of the instance are <em>not</em> conjugated, the result is
+     * ∑ this<sub>i</sub> v<sub>i</sub>.
+     * </p>
+     * @param v other vector
+     * @return dot product
+     * @throws MathIllegalArgumentException if the dimensions do not match
+     * @see #conjugateDotProduct(ComplexVector)
+     */
+    public Complex dotProduct(final ComplexVector v) throws MathIllegalArgumentException {
+        return dotProduct(v, 1.0);
+    }
+
+    /** Compute the Hermitian dot product of the instance with another vector.
+     * <p>
+     * The entries of the instance are conjugated, the result is
+     * ∑ conj(this<sub>i</sub>) v<sub>i</sub>.
+     * </p>
+     * @param v other vector
+     * @return Hermitian dot product
+     * @throws MathIllegalArgumentException if the dimensions do not match
+     * @see #dotProduct(ComplexVector)
+     */
+    public Complex conjugateDotProduct(final ComplexVector v) throws MathIllegalArgumentException {
+        return dotProduct(v, -1.0);
+    }
+
+    /** Compute the dot product of the instance with another vector, possibly conjugated.
+     * @param v other vector
+     * @param sign sign to apply to imaginary parts of the instance
+     * @return dot product
+     * @throws MathIllegalArgumentException if the dimensions do not match
+     */
+    private Complex dotProduct(final ComplexVector v, final double sign) throws MathIllegalArgumentException {
+        checkDimension(v);
+        double sRe = 0;
+        double sIm = 0;
+        for (int k = 0; k < data.length; k += 2) {
+            final double aRe = data[k];
+            final double aIm = sign * data[k + 1];
+            final double bRe = v.data[k];
+            final double bIm = v.data[k + 1];
+            sRe += aRe * bRe - aIm * bIm;
+            sIm += aRe * bIm + aIm * bRe;
+        }
+        return new Complex(sRe, sIm);
+    }
+
+    /** Compute the Euclidean norm of the vector.
+     * @return √(∑ |this<sub>i</sub>|²)
+     */
+    public double getNorm() {
+        double sum = 0;
+        for (final double x : data) {
+            sum += x * x;
+        }
+        return FastMath.sqrt(sum);
+    }
+
+    /**
+     * Check if an index is valid.
+     * @param index index to check
+     * @exception MathIllegalArgumentException if the index is not valid
+     */
+    private void checkIndex(final int index) throws MathIllegalArgumentException {
+        if (index < 0 || index >= getDimension()) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.INDEX,
+                                                   index, 0, getDimension() - 1);
+        }
+    }
+
+    /**
+     * Check if instance and specified vectors have the same dimension.
+     * @param v vector to compare instance with
+     * @exception MathIllegalArgumentException if the vectors do not have the same dimension
+     */
+    private void checkDimension(final ComplexVector v) throws MathIllegalArgumentException {
+        if (v.getDimension() != getDimension()) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.DIMENSIONS_MISMATCH,
+                                                   v.getDimension(), getDimension());
+        }
+    }
+
+}
@@ -0,0 +1,684 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hipparchus.linear;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.exception.MathIllegalArgumentException;
+import org.hipparchus.exception.MathRuntimeException;
+import org.hipparchus.util.FastMath;
+
+/**
+ * Immutable sparse matrix implementation based on Compressed Sparse Row storage.
+ * <p>
+ * The non-zero entries are stored row after row in two flat arrays holding
+ * the column indices and the values, sorted by increasing column index
+ * within each row. A third array holds the index of the first entry of each
+ * row. This layout allows matrix-vector products to be computed by a single
+ * sequential pass over the storage, which is much faster than the hash-based
+ * {@link OpenMapRealMatrix}. As the entries are not keyed by a flattened
+ * {@code row * columns + column} index, the total number of entries
+ * (including zeros) is not limited to {@code Integer.MAX_VALUE}, only the
+ * number of non-zero entries is.
+ * </p>
+ * <p>
+ * The Compressed Sparse Column representation of a matrix is the same as the
+ * Compressed Sparse Row representation of its {@link #transpose() transpose},
+ * which can be computed in time proportional to the number of non-zero entries.
+ * </p>
+ * <p>
+ * Instances are built using a {@link CompressedRowRealMatrixBuilder builder}
+ * or by converting another matrix. They cannot be modified afterwards, all
+ * the methods that change entries in place (like {@link #setEntry(int, int, double)})
+ * throw a {@link MathRuntimeException}.
+ * </p>
+ * <p>
+ *  Caveat: This implementation assumes that, for any {@code x},
+ *  the equality {@code x * 0d == 0d} holds. But it is is not true for
+ *  {@code NaN}. Moreover, zero entries will lose their sign.
+ *  Some operations (that involve {@code NaN} and/or infinities) may
+ *  thus give incorrect results.
+ * </p>
+ * @since 3.1
+ */
+public class CompressedRowRealMatrix extends AbstractRealMatrix
+    implements SparseRealMatrix, Serializable {
+
+    /** Serializable version identifier. */
+    private static final long serialVersionUID = 20261017L;
+
+    /** Number of rows of the matrix. */
+    private final int rows;
+
+    /** Number of columns of the matrix. */
+    private final int columns;
+
+    /** Index of first entry of each row (with an extra element holding the number of entries). */
+    private final int[] rowStart;
+
+    /** Column indices of the entries. */
+    private final int[] columnIndex;
+
+    /** Values of the entries. */
+    private final double[] values;
+
+    /**
+     * Build a sparse matrix by copying the non-zero entries of another matrix.
+     *
+     * @param matrix matrix to copy
+     */
+    public CompressedRowRealMatrix(final RealMatrix matrix) {
+        this(convert(matrix));
+    }
+
+    /**
+     * Build a matrix sharing the storage of another one.
+     *
+     * @param matrix matrix to share storage with
+     */
+    private CompressedRowRealMatrix(final CompressedRowRealMatrix matrix) {
+        this(matrix.rows, matrix.columns, matrix.rowStart, matrix.columnIndex, matrix.values);
+    }
+
+    /**
+     * Build a matrix from its compressed arrays, without copying them.
+     *
+     * @param rows number of rows
+     * @param columns number of columns
+     * @param rowStart index of first entry of each row (with an extra
+     * element holding the number of entries)
+     * @param columnIndex column indices of the entries
+     * @param values values of the entries
+     */
+    CompressedRowRealMatrix(final int rows, final int columns,
+                            final int[] rowStart, final int[] columnIndex, final double[] values) {
+        super(rows, columns);
+        this.rows        = rows;
+        this.columns     = columns;
+        this.rowStart    = rowStart;
+        this.columnIndex = columnIndex;
+        this.values      = values;
+    }
+
+    /**
+     * Get a builder for matrices with specified dimensions.
+     *
+     * @param rowDimension number of rows of the matrix
+     * @param columnDimension number of columns of the matrix
+     * @return a builder for matrices with specified dimensions
+     * @throws MathIllegalArgumentException if row or column dimension is not positive
+     */
+    public static CompressedRowRealMatrixBuilder builder(final int rowDimension, final int columnDimension)
+        throws MathIllegalArgumentException {
+        return new CompressedRowRealMatrixBuilder(rowDimension, columnDimension);
+    }
+
+    /**
+     * Convert a matrix to compressed form.
+     *
+     * @param matrix matrix to convert
+     * @return converted matrix
+     */
+    private static CompressedRowRealMatrix convert(final RealMatrix matrix) {
+
+        if (matrix instanceof CompressedRowRealMatrix) {
+            return (CompressedRowRealMatrix) matrix;
+        }
+
+        final CompressedRowRealMatrixBuilder builder =
+                        builder(matrix.getRowDimension(), matrix.getColumnDimension());
+        if (matrix instanceof OpenMapRealMatrix) {
+            // only visit the stored entries, the builder will sort them
+            ((OpenMapRealMatrix) matrix).addNonZeros(builder);
+            return builder.build();
+        }
+
+        // entries are visited in row order, so they are already sorted
+        matrix.walkInRowOrder(new DefaultRealMatrixPreservingVisitor() {
+            /** {@inheritDoc} */
+            @Override
+            public void visit(final int row, final int column, final double value) {
+                if (value != 0.0) {
+                    builder.addEntry(row, column, value);
+                }
+            }
+        });
+        return builder.build();
+
+    }
+
+    /** {@inheritDoc}
+     * <p>
+     * As instances of this class are immutable, the returned matrix is a
+     * dense matrix built using {@link MatrixUtils#createRealMatrix(int, int)}.
+     * </p>
+     */
+    @Override
+    public RealMatrix createMatrix(final int rowDimension, final int columnDimension)
+        throws MathIllegalArgumentException {
+        return MatrixUtils.createRealMatrix(rowDimension, columnDimension);
+    }
+
+    /** {@inheritDoc}
+     * <p>
+     * As instances of this class are immutable, the copy shares
+     * its storage with the instance.
+     * </p>
+     */
+    @Override
+    public CompressedRowRealMatrix copy() {
+        return new CompressedRowRealMatrix(this);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int getRowDimension() {
+        return rows;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int getColumnDimension() {
+        return columns;
+    }
+
+    /**
+     * Get the number of non-zero entries.
+     *
+     * @return number of non-zero entries
+     */
+    public int getNonZeros() {
+        return rowStart[rows];
+    }
+
+    /**
+     * Get a reference to the underlying row start array.
+     * <p>
+     * The array has {@link #getRowDimension()} + 1 elements, the entries
+     * of row {@code i} are at indices between {@code rowStart[i]} (included)
+     * and {@code rowStart[i + 1]} (excluded) in the column indices and
+     * values arrays.
+     * </p>
+     *
+     * @return index of first entry of each row (with an extra element
+     * holding the number of entries)
+     */
+    int[] getRowStartRef() {
+        return rowStart;
+    }
+
+    /**
+     * Get a reference to the underlying column indices array.
+     *
+     * @return column indices of the entries, sorted within each row
+     */
+    int[] getColumnIndexRef() {
+        return columnIndex;
+    }
+
+    /**
+     * Get a reference to the underlying values array.
+     *
+     * @return values of the entries
+     */
+    double[] getValuesRef() {
+        return values;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public double getEntry(final int row, final int column) throws MathIllegalArgumentException {
+        MatrixUtils.checkRowIndex(this, row);
+        MatrixUtils.checkColumnIndex(this, column);
+        final int index = Arrays.binarySearch(columnIndex, rowStart[row], rowStart[row + 1], column);
+        return index < 0 ? 0.0 : values[index];
+    }
+
+    /** {@inheritDoc}
+     * @throws MathRuntimeException always, as instances are immutable
+     */
+    @Override
+    public void setEntry(final int row, final int column, final double value)
+        throws MathRuntimeException {
+        throw new MathRuntimeException(LocalizedCoreFormats.UNSUPPORTED_OPERATION);
+    }
+
+    /** {@inheritDoc}
+     * @throws MathRuntimeException always, as instances are immutable
+     */
+    @Override
+    public void addToEntry(final int row, final int column, final double increment)
+        throws MathRuntimeException {
+        throw new MathRuntimeException(LocalizedCoreFormats.UNSUPPORTED_OPERATION);
+    }
+
+    /** {@inheritDoc}
+     * @throws MathRuntimeException always, as instances are immutable
+     */
+    @Override
+    public void multiplyEntry(final int row, final int column, final double factor)
+        throws MathRuntimeException {
+        throw new MathRuntimeException(LocalizedCoreFormats.UNSUPPORTED_OPERATION);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public double[] getRow(final int row) throws MathIllegalArgumentException {
+        MatrixUtils.checkRowIndex(this, row);
+        final double[] out = new double[columns];
+        for (int k = rowStart[row]; k < rowStart[row + 1]; ++k) {
+            out[columnIndex[k]] = values[k];
+        }
+        return out;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompressedRowRealMatrix scalarMultiply(final double d) {
+        if (d == 0.0) {
+            return new CompressedRowRealMatrix(rows, columns, new int[rows + 1], new int[0], new double[0]);
+        }
+        final double[] out = new double[values.length];
+        for (int k = 0; k < out.length; ++k) {
+            out[k] = d * values[k];
+        }
+        return new CompressedRowRealMatrix(rows, columns, rowStart, columnIndex, out);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompressedRowRealMatrix transpose() {
+
+        // count entries in each column
+        final int[] tStart = new int[columns + 1];
+        for (int k = 0; k < rowStart[rows]; ++k) {
+            ++tStart[columnIndex[k] + 1];
+        }
+        for (int j = 0; j < columns; ++j) {
+            tStart[j + 1] += tStart[j];
+        }
+
+        // scatter entries, rows being scanned in increasing order
+        // they end up sorted within each column
+        final int[]    next    = tStart.clone();
+        final int[]    tColumn = new int[rowStart[rows]];
+        final double[] tValues = new double[rowStart[rows]];
+        for (int i = 0; i < rows; ++i) {
+            for (int k = rowStart[i]; k < rowStart[i + 1]; ++k) {
+                final int index = next[columnIndex[k]]++;
+                tColumn[index] = i;
+                tValues[index] = values[k];
+            }
+        }
+
+        return new CompressedRowRealMatrix(columns, rows, tStart, tColumn, tValues);
+
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public double[] operate(final double[] v)
+        throws MathIllegalArgumentException {
+        if (v.length != columns) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.DIMENSIONS_MISMATCH,
+                                                   v.length, columns);
+        }
+
+        final double[] out = new double[rows];
+        for (int i = 0; i < rows; ++i) {
+            double sum = 0;
+            for (int k = rowStart[i]; k < rowStart[i + 1]; ++k) {
+                sum += values[k] * v[columnIndex[k]];
+            }
+            out[i] = sum;
+        }
+
+        return out;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public RealVector operate(final RealVector v)
+        throws MathIllegalArgumentException {
+        return new ArrayRealVector(operate(v instanceof ArrayRealVector ?
+                                           ((ArrayRealVector) v).getDataRef() :
+                                           v.toArray()),
+                                   false);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public double[] preMultiply(final double[] v)
+        throws MathIllegalArgumentException {
+        if (v.length != rows) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.DIMENSIONS_MISMATCH,
+                                                   v.length, rows);
+        }
+
+        final double[] out = new double[columns];
+        for (int i = 0; i < rows; ++i) {
+            final double vi = v[i];
+            for (int k = rowStart[i]; k < rowStart[i + 1]; ++k) {
+                out[columnIndex[k]] += vi * values[k];
+            }
+        }
+
+        return out;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public RealVector preMultiply(final RealVector v)
+        throws MathIllegalArgumentException {
+        return new ArrayRealVector(preMultiply(v instanceof ArrayRealVector ?
+                                               ((ArrayRealVector) v).getDataRef() :
+                                               v.toArray()),
+                                   false);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public RealVector operateTranspose(final RealVector v)
+        throws MathIllegalArgumentException {
+        return preMultiply(v);
+    }
+
+    /** {@inheritDoc}
+     * @return {@code true}
+     */
+    @Override
+    public boolean isTransposable() {
+        return true;
+    }
+
+    /** {@inheritDoc}
+     * <p>
+     * If {@code m} is also a {@link CompressedRowRealMatrix}, the result
+     * is sparse, otherwise it is dense.
+     * </p>
+     */
+    @Override
+    public RealMatrix multiply(final RealMatrix m)
+        throws MathIllegalArgumentException {
+
+        if (m instanceof CompressedRowRealMatrix) {
+            return multiply((CompressedRowRealMatrix) m);
+        }
+
+        // safety check
+        MatrixUtils.checkMultiplicationCompatible(this, m);
+
+        final int        outCols = m.getColumnDimension();
+        final double[][] mData   = (m instanceof Array2DRowRealMatrix) ?
+                                   ((Array2DRowRealMatrix) m).getDataRef() :
+                                   m.getData();
+        final double[][] out     = new double[rows][outCols];
+        for (int i = 0; i < rows; ++i) {
+            final double[] outRow = out[i];
+            for (int k = rowStart[i]; k < rowStart[i + 1]; ++k) {
+                final double   a    = values[k];
+                final double[] mRow = mData[columnIndex[k]];
+                for (int j = 0; j < outCols; ++j) {
+                    outRow[j] += a * mRow[j];
+                }
+            }
+        }
+
+        return new Array2DRowRealMatrix(out, false);
+
+    }
+
+    /**
+     * Postmultiply this matrix by another sparse matrix.
+     *
+     * @param m Matrix to postmultiply by.
+     * @return {@code this} * {@code m}.
+     * @throws MathIllegalArgumentException if the number of columns of
+     * {@code this} matrix is not equal to the number of rows of matrix
+     * {@code m}.
+     */
+    public CompressedRowRealMatrix multiply(final CompressedRowRealMatrix m)
+        throws MathIllegalArgumentException {
+
+        // safety check
+        MatrixUtils.checkMultiplicationCompatible(this, m);
+
+        final int[]    outStart  = new int[rows + 1];
+        int[]          outColumn = new int[getNonZeros() + m.getNonZeros()];
+        double[]       outValues = new double[outColumn.length];
+        final int[]    marker    = new int[m.columns];
+        final double[] acc       = new double[m.columns];
+        Arrays.fill(marker, -1);
+
+        int n = 0;
+        for (int i = 0; i < rows; ++i) {
+
+            // accumulate the linear combination of rows of m
+            final int first = n;
+            for (int ka = rowStart[i]; ka < rowStart[i + 1]; ++ka) {
+                final double a = values[ka];
+                final int    r = columnIndex[ka];
+                for (int kb = m.rowStart[r]; kb < m.rowStart[r + 1]; ++kb) {
+                    final int j = m.columnIndex[kb];
+                    if (marker[j] != i) {
+                        // first contribution to this entry
+                        marker[j] = i;
+                        if (n == outColumn.length) {
+                            final int newLength = grow(n);
+                            outColumn = Arrays.copyOf(outColumn, newLength);
+                            outValues = Arrays.copyOf(outValues, newLength);
+                        }
+                        outColumn[n++] = j;
+                    }
+                    acc[j] += a * m.values[kb];
+                }
+            }
+
+            // store the row, sorted by column index and dropping cancelled entries
+            Arrays.sort(outColumn, first, n);
+            int last = first;
+            for (int k = first; k < n; ++k) {
+                final int j = outColumn[k];
+                if (acc[j] != 0.0) {
+                    outColumn[last]   = j;
+                    outValues[last++] = acc[j];
+                }
+                acc[j] = 0.0;
+            }
+            n = last;
+            outStart[i + 1] = n;
+
+        }
+
+        return new CompressedRowRealMatrix(rows, m.columns, outStart,
+                                           Arrays.copyOf(outColumn, n), Arrays.copyOf(outValues, n));
+
+    }
+
+    /**
+     * Compute a new capacity for growing storage arrays.
+     *
+     * @param length current length
+     * @return new length
+     */
+    private static int grow(final int length) {
+        return (int) FastMath.min(Integer.MAX_VALUE - 8, 3L * length / 2 + 16);
+    }
+
+    /** Builder for {@link CompressedRowRealMatrix} instances.
+     * <p>
+     * Entries can be added in any order. If several entries are added at
+     * the same position, their values are summed, which is convenient for
+     * assembling matrices from elementary contributions (as in finite
+     * elements methods). Entries that are zero after summation are not stored.
+     * </p>
+     * @since 3.1
+     */
+    public static class CompressedRowRealMatrixBuilder {
+
+        /** Number of rows of the matrix. */
+        private final int rows;
+
+        /** Number of columns of the matrix. */
+        private final int columns;
+
+        /** Row indices of the entries added so far. */
+        private int[] entriesRows;
+
+        /** Column indices of the entries added so far. */
+        private int[] entriesColumns;
+
+        /** Values of the entries added so far. */
+        private double[] entriesValues;
+
+        /** Number of entries added so far. */
+        private int size;
+
+        /**
+         * Simple constructor.
+         *
+         * @param rowDimension number of rows of the matrix
+         * @param columnDimension number of columns of the matrix
+         * @throws MathIllegalArgumentException if row or column dimension is not positive
+         */
+        public CompressedRowRealMatrixBuilder(final int rowDimension, final int columnDimension)
+            throws MathIllegalArgumentException {
+            if (rowDimension < 1) {
+                throw new MathIllegalArgumentException(LocalizedCoreFormats.AT_LEAST_ONE_ROW);
+            }
+            if (columnDimension < 1) {
+                throw new MathIllegalArgumentException(LocalizedCoreFormats.AT_LEAST_ONE_COLUMN);
+            }
+            this.rows           = rowDimension;
+            this.columns        = columnDimension;
+            this.entriesRows    = new int[16];
+            this.entriesColumns = new int[16];
+            this.entriesValues  = new double[16];
+            this.size           = 0;
+        }
+
+        /**
+         * Add an entry.
+         * <p>
+         * If an entry has already been added at the same position, the values are summed.
+         * </p>
+         *
+         * @param row row index of the entry
+         * @param column column index of the entry
+         * @param value value of the entry
+         * @return this builder
+         * @throws MathIllegalArgumentException if the row or column index is not valid
+         */
+        public CompressedRowRealMatrixBuilder addEntry(final int row, final int column, final double value)
+            throws MathIllegalArgumentException {
+            if (row < 0 || row >= rows) {
+                throw new MathIllegalArgumentException(LocalizedCoreFormats.ROW_INDEX,
+                                                       row, 0, rows - 1);
+            }
+            if (column < 0 || column >= columns) {
+                throw new MathIllegalArgumentException(LocalizedCoreFormats.COLUMN_INDEX,
+                                                       column, 0, columns - 1);
+            }
+            if (size == entriesRows.length) {
+                final int newLength = grow(size);
+                entriesRows    = Arrays.copyOf(entriesRows,    newLength);
+                entriesColumns = Arrays.copyOf(entriesColumns, newLength);
+                entriesValues  = Arrays.copyOf(entriesValues,  newLength);
+            }
+            entriesRows[size]    = row;
+            entriesColumns[size] = column;
+            entriesValues[size]  = value;
+            ++size;
+            return this;
+        }
+
+        /**
+         * Build the matrix.
+         * <p>
+         * The builder can still be used after this method has been called,
+         * for example to add more entries and build another matrix.
+         * </p>
+         *
+         * @return a new matrix containing all entries added so far
+         */
+        public CompressedRowRealMatrix build() {
+
+            // first pass: counting sort by column
+            final int[] byColumn = new int[size];
+            final int[] next     = new int[FastMath.max(rows, columns) + 1];
+            for (int k = 0; k < size; ++k) {
+                ++next[entriesColumns[k] + 1];
+            }
+            for (int j = 0; j < columns; ++j) {
+                next[j + 1] += next[j];
+            }
+            for (int k = 0; k < size; ++k) {
+                byColumn[next[entriesColumns[k]]++] = k;
+            }
+
+            // second pass: stable counting sort by row,
+            // so columns end up sorted within each row
+            final int[] rowStart = new int[rows + 1];
+            for (int k = 0; k < size; ++k) {
+                ++rowStart[entriesRows[k] + 1];
+            }
+            for (int i = 0; i < rows; ++i) {
+                rowStart[i + 1] += rowStart[i];
+            }
+            System.arraycopy(rowStart, 0, next, 0, rows);
+            final int[]    columnIndex = new int[size];
+            final double[] values      = new double[size];
+            for (final int k : byColumn) {
+                final int index = next[entriesRows[k]]++;
+                columnIndex[index] = entriesColumns[k];
+                values[index]      = entriesValues[k];
+            }
+
+            // third pass: merge duplicated entries and remove zeros
+            int n = 0;
+            for (int i = 0; i < rows; ++i) {
+                final int first = n;
+                for (int k = rowStart[i]; k < rowStart[i + 1]; ++k) {
+                    if (n > first && columnIndex[n - 1] == columnIndex[k]) {
+                        values[n - 1] += values[k];
+                    } else {
+                        columnIndex[n] = columnIndex[k];
+                        values[n++]    = values[k];
+                    }
+                }
+                int last = first;
+                for (int k = first; k < n; ++k) {
+                    if (values[k] != 0.0) {
+                        columnIndex[last] = columnIndex[k];
+                        values[last++]    = values[k];
+                    }
+                }
+                n = last;
+                rowStart[i] = first;
+            }
+            rowStart[rows] = n;
+
+            return new CompressedRowRealMatrix(rows, columns, rowStart,
+                                               Arrays.copyOf(columnIndex, n), Arrays.copyOf(values, n));
+
+        }
+
+    }
+
+}
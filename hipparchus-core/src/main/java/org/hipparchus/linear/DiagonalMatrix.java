@@ -192,6 +192,82 @@ public class DiagonalMatrix extends AbstractRealMatrix
         }
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public void add(final RealMatrix m, final RealMatrix out)
+        throws MathIllegalArgumentException {
+        if (m instanceof DiagonalMatrix && out instanceof DiagonalMatrix) {
+            MatrixUtils.checkAdditionCompatible(this, m);
+            MatrixUtils.checkDimensions(out, data.length, data.length);
+            final double[] mData   = ((DiagonalMatrix) m).data;
+            final double[] outData = ((DiagonalMatrix) out).data;
+            for (int i = 0; i < data.length; i++) {
+                outData[i] = data[i] + mData[i];
+            }
+        } else {
+            super.add(m, out);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void subtract(final RealMatrix m, final RealMatrix out)
+        throws MathIllegalArgumentException {
+        if (m instanceof DiagonalMatrix && out instanceof DiagonalMatrix) {
+            MatrixUtils.checkSubtractionCompatible(this, m);
+            MatrixUtils.checkDimensions(out, data.length, data.length);
+            final double[] mData   = ((DiagonalMatrix) m).data;
+            final double[] outData = ((DiagonalMatrix) out).data;
+            for (int i = 0; i < data.length; i++) {
+                outData[i] = data[i] - mData[i];
+            }
+        } else {
+            super.subtract(m, out);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void scalarMultiply(final double d, final RealMatrix out)
+        throws MathIllegalArgumentException {
+        if (out instanceof DiagonalMatrix) {
+            MatrixUtils.checkDimensions(out, data.length, data.length);
+            final double[] outData = ((DiagonalMatrix) out).data;
+            for (int i = 0; i < data.length; i++) {
+                outData[i] = d * data[i];
+            }
+        } else {
+            super.scalarMultiply(d, out);
+        }
+    }
+
+    /** {@inheritDoc}
+     * <p>
+     * The product of a diagonal matrix by another matrix only
+     * scales its rows, so the cost is proportional to the number
+     * of entries of {@code out} and not to the cube of the dimension.
+     * </p>
+     */
+    @Override
+    public void multiply(final RealMatrix m, final RealMatrix out)
+        throws MathIllegalArgumentException {
+        MatrixUtils.checkMultiplicationCompatible(this, m);
+        MatrixUtils.checkDimensions(out, data.length, m.getColumnDimension());
+        if (m instanceof DiagonalMatrix && out instanceof DiagonalMatrix) {
+            final double[] mData   = ((DiagonalMatrix) m).data;
+            final double[] outData = ((DiagonalMatrix) out).data;
+            for (int i = 0; i < data.length; i++) {
+                outData[i] = data[i] * mData[i];
+            }
+        } else {
+            for (int i = 0; i < data.length; i++) {
+                for (int j = 0; j < m.getColumnDimension(); j++) {
+                    out.setEntry(i, j, data[i] * m.getEntry(i, j));
+                }
+            }
+        }
+    }
+
     /**
      * Returns the result of postmultiplying {@code this} by {@code m^T}.
      * @param m matrix to first transpose and second postmultiply by
@@ -251,6 +327,18 @@ public class DiagonalMatrix extends AbstractRealMatrix
         }
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public void transpose(final RealMatrix out)
+        throws MathIllegalArgumentException {
+        if (out instanceof DiagonalMatrix) {
+            MatrixUtils.checkDimensions(out, data.length, data.length);
+            System.arraycopy(data, 0, ((DiagonalMatrix) out).data, 0, data.length);
+        } else {
+            super.transpose(out);
+        }
+    }
+
     /** {@inheritDoc} */
     @Override
     public double[][] getData() {
@@ -343,6 +431,23 @@ public class DiagonalMatrix extends AbstractRealMatrix
         return multiply(new DiagonalMatrix(v, false)).getDataRef();
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public void operate(final double[] v, final double[] out)
+        throws MathIllegalArgumentException {
+        if (v.length != data.length) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.DIMENSIONS_MISMATCH,
+                                                   v.length, data.length);
+        }
+        if (out.length != data.length) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.DIMENSIONS_MISMATCH,
+                                                   out.length, data.length);
+        }
+        for (int i = 0; i < data.length; i++) {
+            out[i] = data[i] * v[i];
+        }
+    }
+
     /** {@inheritDoc} */
     @Override
     public double[] preMultiply(final double[] v)
@@ -350,6 +455,13 @@ public class DiagonalMatrix extends AbstractRealMatrix
         return operate(v);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public void preMultiply(final double[] v, final double[] out)
+        throws MathIllegalArgumentException {
+        operate(v, out);
+    }
+
     /** {@inheritDoc} */
     @Override
     public RealVector preMultiply(final RealVector v) throws MathIllegalArgumentException {
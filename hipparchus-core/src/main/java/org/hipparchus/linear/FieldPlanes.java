@@ -0,0 +1,383 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hipparchus.linear;
+
+import org.hipparchus.Field;
+import org.hipparchus.FieldElement;
+import org.hipparchus.analysis.differentiation.Gradient;
+import org.hipparchus.analysis.differentiation.GradientField;
+import org.hipparchus.analysis.differentiation.UnivariateDerivative1;
+import org.hipparchus.analysis.differentiation.UnivariateDerivative1Field;
+import org.hipparchus.analysis.differentiation.UnivariateDerivative2;
+import org.hipparchus.analysis.differentiation.UnivariateDerivative2Field;
+import org.hipparchus.util.Binary64;
+import org.hipparchus.util.Binary64Field;
+
+/** Decomposition of field elements into planes of primitive doubles.
+ * <p>
+ * This class is used by {@link AbstractPlanesFieldMatrix} and {@link
+ * AbstractPlanesFieldVector} to store the components of field elements
+ * (value and derivatives) in separate flat {@code double} arrays, one
+ * per component. The product of two elements is described by a list
+ * of terms {@code out[target] += multiplier * left[l] * right[r]}, which
+ * allows all products to be computed directly on the planes, without
+ * building any intermediate field element.
+ * </p>
+ * @param <T> the type of the field elements
+ * @since 3.1
+ */
+abstract class FieldPlanes<T extends FieldElement<T>> {
+
+    /** Field to which elements belong. */
+    private final Field<T> field;
+
+    /** Number of planes. */
+    private final int planes;
+
+    /** Terms of the product rule {target, left, right, multiplier}, sorted by target. */
+    private final int[][] terms;
+
+    /** Simple constructor.
+     * @param field field to which elements belong
+     * @param planes number of planes
+     * @param terms terms of the product rule {target, left, right, multiplier}, sorted by target
+     */
+    private FieldPlanes(final Field<T> field, final int planes, final int[][] terms) {
+        this.field  = field;
+        this.planes = planes;
+        this.terms  = terms;
+    }
+
+    /** Get the layout for {@link Binary64} elements.
+     * @return layout for {@link Binary64} elements
+     */
+    static FieldPlanes<Binary64> binary64() {
+        return new FieldPlanes<Binary64>(Binary64Field.getInstance(), 1, firstOrderTerms(0)) {
+            /** {@inheritDoc} */
+            @Override
+            Binary64 build(final double[][] p, final int index) {
+                return new Binary64(p[0][index]);
+            }
+            /** {@inheritDoc} */
+            @Override
+            double component(final Binary64 element, final int plane) {
+                return element.getReal();
+            }
+        };
+    }
+
+    /** Get the layout for {@link UnivariateDerivative1} elements.
+     * @return layout for {@link UnivariateDerivative1} elements
+     */
+    static FieldPlanes<UnivariateDerivative1> univariateDerivative1() {
+        return new FieldPlanes<UnivariateDerivative1>(UnivariateDerivative1Field.getInstance(), 2, firstOrderTerms(1)) {
+            /** {@inheritDoc} */
+            @Override
+            UnivariateDerivative1 build(final double[][] p, final int index) {
+                return new UnivariateDerivative1(p[0][index], p[1][index]);
+            }
+            /** {@inheritDoc} */
+            @Override
+            double component(final UnivariateDerivative1 element, final int plane) {
+                return plane == 0 ? element.getValue() : element.getFirstDerivative();
+            }
+        };
+    }
+
+    /** Get the layout for {@link UnivariateDerivative2} elements.
+     * @return layout for {@link UnivariateDerivative2} elements
+     */
+    static FieldPlanes<UnivariateDerivative2> univariateDerivative2() {
+        // (uv)'' = u v'' + 2 u' v' + u'' v
+        final int[][] terms = {
+            { 0, 0, 0, 1 },
+            { 1, 0, 1, 1 }, { 1, 1, 0, 1 },
+            { 2, 0, 2, 1 }, { 2, 1, 1, 2 }, { 2, 2, 0, 1 }
+        };
+        return new FieldPlanes<UnivariateDerivative2>(UnivariateDerivative2Field.getInstance(), 3, terms) {
+            /** {@inheritDoc} */
+            @Override
+            UnivariateDerivative2 build(final double[][] p, final int index) {
+                return new UnivariateDerivative2(p[0][index], p[1][index], p[2][index]);
+            }
+            /** {@inheritDoc} */
+            @Override
+            double component(final UnivariateDerivative2 element, final int plane) {
+                switch (plane) {
+                    case 0 :
+                        return element.getValue();
+                    case 1 :
+                        return element.getFirstDerivative();
+                    default :
+                        return element.getSecondDerivative();
+                }
+            }
+        };
+    }
+
+    /** Get the layout for {@link Gradient} elements.
+     * @param parameters number of free parameters
+     * @return layout for {@link Gradient} elements
+     */
+    static FieldPlanes<Gradient> gradient(final int parameters) {
+        return new FieldPlanes<Gradient>(GradientField.getField(parameters), parameters + 1,
+                                         firstOrderTerms(parameters)) {
+            /** {@inheritDoc} */
+            @Override
+            Gradient build(final double[][] p, final int index) {
+                final double[] gradient = new double[parameters];
+                for (int k = 0; k < parameters; ++k) {
+                    gradient[k] = p[k + 1][index];
+                }
+                return new Gradient(p[0][index], gradient);
+            }
+            /** {@inheritDoc} */
+            @Override
+            double component(final Gradient element, final int plane) {
+                return plane == 0 ? element.getValue() : element.getPartialDerivative(plane - 1);
+            }
+        };
+    }
+
+    /** Build the product rule terms for first order derivatives.
+     * @param parameters number of free parameters
+     * @return product rule terms
+     */
+    private static int[][] firstOrderTerms(final int parameters) {
+        // (uv)' = u v' + u' v
+        final int[][] terms = new int[2 * parameters + 1][];
+        terms[0] = new int[] { 0, 0, 0, 1 };
+        for (int k = 1; k <= parameters; ++k) {
+            terms[2 * k - 1] = new int[] { k, 0, k, 1 };
+            terms[2 * k]     = new int[] { k, k, 0, 1 };
+        }
+        return terms;
+    }
+
+    /** Build an element from its components.
+     * @param p planes
+     * @param index index of the element in the planes
+     * @return element
+     */
+    abstract T build(double[][] p, int index);
+
+    /** Get one component of an element.
+     * @param element element
+     * @param plane index of the plane
+     * @return component of the element in the plane
+     */
+    abstract double component(T element, int plane);
+
+    /** Get the field to which elements belong.
+     * @return field to which elements belong
+     */
+    Field<T> getField() {
+        return field;
+    }
+
+    /** Get the number of planes.
+     * @return number of planes
+     */
+    int getPlanes() {
+        return planes;
+    }
+
+    /** Check if another layout is compatible with this one.
+     * @param other other layout
+     * @return true if the layouts are compatible
+     */
+    boolean isCompatible(final FieldPlanes<?> other) {
+        return planes == other.planes && field.equals(other.field);
+    }
+
+    /** Allocate planes.
+     * @param size number of elements in each plane
+     * @return new planes with all elements set to zero
+     */
+    double[][] allocate(final int size) {
+        return new double[planes][size];
+    }
+
+    /** Decompose one element into planes.
+     * @param element element to decompose
+     * @param p planes to fill
+     * @param index index of the element in the planes
+     */
+    void store(final T element, final double[][] p, final int index) {
+        for (int k = 0; k < planes; ++k) {
+            p[k][index] = component(element, k);
+        }
+    }
+
+    /** Decompose one element into single-element planes.
+     * @param element element to decompose
+     * @return single-element planes
+     */
+    double[][] decompose(final T element) {
+        final double[][] p = allocate(1);
+        store(element, p, 0);
+        return p;
+    }
+
+    /** Compute the product of two elements.
+     * <p>
+     * The output may be one of the inputs.
+     * </p>
+     * @param a planes of the first element
+     * @param ia index of the first element
+     * @param b planes of the second element
+     * @param ib index of the second element
+     * @param out planes of the product
+     * @param io index of the product
+     */
+    void multiply(final double[][] a, final int ia, final double[][] b, final int ib,
+                  final double[][] out, final int io) {
+        // targets are processed in decreasing order, so each target only
+        // depends on components that have not been overwritten yet
+        int end = terms.length;
+        while (end > 0) {
+            final int target = terms[end - 1][0];
+            double sum = 0;
+            int start = end - 1;
+            while (start >= 0 && terms[start][0] == target) {
+                final int[] term = terms[start--];
+                sum += term[3] * a[term[1]][ia] * b[term[2]][ib];
+            }
+            out[target][io] = sum;
+            end = start + 1;
+        }
+    }
+
+    /** Compute the dot product of two vectors.
+     * @param a planes of the first vector
+     * @param b planes of the second vector
+     * @param n dimension of the vectors
+     * @return dot product
+     */
+    T dotProduct(final double[][] a, final double[][] b, final int n) {
+        final double[][] out = allocate(1);
+        for (final int[] term : terms) {
+            final double[] left  = a[term[1]];
+            final double[] right = b[term[2]];
+            double sum = 0;
+            for (int k = 0; k < n; ++k) {
+                sum += left[k] * right[k];
+            }
+            out[term[0]][0] += term[3] * sum;
+        }
+        return build(out, 0);
+    }
+
+    /** Compute the outer product of two vectors.
+     * @param a planes of the first vector
+     * @param m dimension of the first vector
+     * @param b planes of the second vector
+     * @param n dimension of the second vector
+     * @return planes of the m&times;n product matrix, in row major order
+     */
+    double[][] outerProduct(final double[][] a, final int m, final double[][] b, final int n) {
+        final double[][] out = allocate(m * n);
+        for (final int[] term : terms) {
+            final double[] left  = a[term[1]];
+            final double[] right = b[term[2]];
+            final double[] o     = out[term[0]];
+            for (int i = 0; i < m; ++i) {
+                final double li = term[3] * left[i];
+                for (int j = 0; j < n; ++j) {
+                    o[i * n + j] += li * right[j];
+                }
+            }
+        }
+        return out;
+    }
+
+    /** Compute a matrix product.
+     * @param a planes of the m&times;n left matrix, in row major order
+     * @param b planes of the n&times;p right matrix, in row major order
+     * @param m number of rows of the left matrix
+     * @param n number of columns of the left matrix
+     * @param p number of columns of the right matrix
+     * @return planes of the m&times;p product matrix, in row major order
+     */
+    double[][] multiply(final double[][] a, final double[][] b, final int m, final int n, final int p) {
+        final double[][] out = allocate(m * p);
+        for (final int[] term : terms) {
+            final double[] left  = a[term[1]];
+            final double[] right = b[term[2]];
+            final double[] o     = out[term[0]];
+            for (int i = 0; i < m; ++i) {
+                final int rowOut = i * p;
+                for (int k = 0; k < n; ++k) {
+                    final double lik      = term[3] * left[i * n + k];
+                    final int    rowRight = k * p;
+                    for (int j = 0; j < p; ++j) {
+                        o[rowOut + j] += lik * right[rowRight + j];
+                    }
+                }
+            }
+        }
+        return out;
+    }
+
+    /** Compute a matrix-vector product.
+     * @param a planes of the m&times;n matrix, in row major order
+     * @param v planes of the vector
+     * @param m number of rows of the matrix
+     * @param n number of columns of the matrix
+     * @return planes of the product vector
+     */
+    double[][] operate(final double[][] a, final double[][] v, final int m, final int n) {
+        final double[][] out = allocate(m);
+        for (final int[] term : terms) {
+            final double[] left  = a[term[1]];
+            final double[] right = v[term[2]];
+            final double[] o     = out[term[0]];
+            for (int i = 0; i < m; ++i) {
+                double sum = 0;
+                for (int k = 0; k < n; ++k) {
+                    sum += left[i * n + k] * right[k];
+                }
+                o[i] += term[3] * sum;
+            }
+        }
+        return out;
+    }
+
+    /** Compute a vector-matrix product.
+     * @param v planes of the vector
+     * @param a planes of the m&times;n matrix, in row major order
+     * @param m number of rows of the matrix
+     * @param n number of columns of the matrix
+     * @return planes of the product vector
+     */
+    double[][] preMultiply(final double[][] v, final double[][] a, final int m, final int n) {
+        final double[][] out = allocate(n);
+        for (final int[] term : terms) {
+            final double[] left  = v[term[1]];
+            final double[] right = a[term[2]];
+            final double[] o     = out[term[0]];
+            for (int i = 0; i < m; ++i) {
+                final double vi = term[3] * left[i];
+                for (int j = 0; j < n; ++j) {
+                    o[j] += vi * right[i * n + j];
+                }
+            }
+        }
+        return out;
+    }
+
+}
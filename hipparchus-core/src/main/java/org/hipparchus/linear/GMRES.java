@@ -0,0 +1,268 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hipparchus.linear;
+
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.exception.MathIllegalArgumentException;
+import org.hipparchus.exception.MathIllegalStateException;
+import org.hipparchus.exception.NullArgumentException;
+import org.hipparchus.util.FastMath;
+import org.hipparchus.util.IterationManager;
+
+/**
+ * <p>
+ * This is an implementation of the restarted Generalized Minimal RESidual
+ * method (GMRES(m)) for {@link RealLinearOperator}, following the template by
+ * <a href="#BARR1994">Barrett et al. (1994)</a> (figure 2.6). Contrary to
+ * {@link ConjugateGradient} and {@link SymmLQ}, this method does not require
+ * the linear operator to be symmetric. The linear system at hand is
+ * A &middot; x = b, and the residual is r = b - A &middot; x.
+ * </p>
+ * <p>
+ * At each cycle, an orthonormal basis of the Krylov subspace is built by the
+ * Arnoldi process, and the estimate of the solution minimizing the residual
+ * norm over this subspace is computed. As the storage and cost of each step
+ * grow with the size of the basis, the process is restarted from the current
+ * estimate once the basis has {@code restart} vectors.
+ * </p>
+ * <p>
+ * The preconditioner M, if any, is applied on the right, i.e. the method
+ * actually solves A &middot; M &middot; y = b and x = M &middot; y. This way,
+ * the residual minimized by the method is the residual of the original system.
+ * </p>
+ * <p><strong>Default stopping criterion</strong></p>
+ * <p>
+ * A default stopping criterion is implemented. The iterations stop when || r ||
+ * &le; &delta; || b ||, where b is the right-hand side vector, r the current
+ * estimate of the residual, and &delta; a user-specified tolerance. Within
+ * a cycle, the residual norm is obtained as a by-product of the least squares
+ * problem, neither the residual nor the estimate of the solution are updated,
+ * so the {@link IterativeLinearSolverEvent events} fired at each iteration
+ * only provide the norm of the residual. The true residual is recomputed at the
+ * end of each cycle.
+ * </p>
+ * <p><strong>Iteration count</strong></p>
+ * <p>
+ * In the present context, an iteration should be understood as one step of
+ * the Arnoldi process, i.e. one evaluation of the matrix-vector product
+ * A &middot; x. The initialization phase counts as one iteration, the
+ * recomputation of the residual at the end of each cycle does not.
+ * </p>
+ * <p><strong>References</strong></p>
+ * <dl>
+ * <dt><a id="BARR1994">Barret et al. (1994)</a></dt>
+ * <dd>R. Barrett, M. Berry, T. F. Chan, J. Demmel, J. M. Donato, J. Dongarra,
+ * V. Eijkhout, R. Pozo, C. Romine and H. Van der Vorst,
+ * <a href="http://www.netlib.org/linalg/html_templates/Templates.html"><em>
+ * Templates for the Solution of Linear Systems: Building Blocks for Iterative
+ * Methods</em></a>, SIAM</dd>
+ * <dt>Saad and Schultz (1986)</dt>
+ * <dd>Y. Saad and M. H. Schultz, <em>GMRES: A Generalized Minimal Residual
+ * Algorithm for Solving Nonsymmetric Linear Systems</em>, SIAM Journal on
+ * Scientific and Statistical Computing 7(3): 856-869, 1986</dd>
+ * </dl>
+ * @see BiCGSTAB
+ * @since 3.1
+ */
+public class GMRES extends PreconditionedIterativeLinearSolver {
+
+    /** Default number of iterations between restarts. */
+    public static final int DEFAULT_RESTART = 30;
+
+    /** Number of iterations between restarts. */
+    private final int restart;
+
+    /** The value of &delta;, for the default stopping criterion. */
+    private final double delta;
+
+    /**
+     * Creates a new instance of this class, with <a href="#stopcrit">default
+     * stopping criterion</a>.
+     *
+     * @param maxIterations the maximum number of iterations
+     * @param restart number of iterations between restarts
+     * @param delta the &delta; parameter for the default stopping criterion
+     * @exception MathIllegalArgumentException if restart is not strictly positive
+     */
+    public GMRES(final int maxIterations, final int restart, final double delta)
+        throws MathIllegalArgumentException {
+        super(maxIterations);
+        this.restart = checkRestart(restart);
+        this.delta   = delta;
+    }
+
+    /**
+     * Creates a new instance of this class, with <a href="#stopcrit">default
+     * stopping criterion</a> and custom iteration manager.
+     *
+     * @param manager the custom iteration manager
+     * @param restart number of iterations between restarts
+     * @param delta the &delta; parameter for the default stopping criterion
+     * @throws NullArgumentException if {@code manager} is {@code null}
+     * @exception MathIllegalArgumentException if restart is not strictly positive
+     */
+    public GMRES(final IterationManager manager, final int restart, final double delta)
+        throws MathIllegalArgumentException, NullArgumentException {
+        super(manager);
+        this.restart = checkRestart(restart);
+        this.delta   = delta;
+    }
+
+    /** Check the number of iterations between restarts.
+     * @param restart number of iterations between restarts
+     * @return restart
+     * @exception MathIllegalArgumentException if restart is not strictly positive
+     */
+    private static int checkRestart(final int restart) throws MathIllegalArgumentException {
+        if (restart < 1) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.NUMBER_TOO_SMALL, restart, 1);
+        }
+        return restart;
+    }
+
+    /** Get the number of iterations between restarts.
+     * @return number of iterations between restarts
+     */
+    public int getRestart() {
+        return restart;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws MathIllegalArgumentException if {@code a} is singular
+     */
+    @Override
+    public RealVector solveInPlace(final RealLinearOperator a,
+                                   final RealLinearOperator m,
+                                   final RealVector b,
+                                   final RealVector x0)
+        throws MathIllegalArgumentException, NullArgumentException,
+        MathIllegalStateException {
+        checkParameters(a, m, b, x0);
+        final IterationManager manager = getIterationManager();
+        // Initialization of default stopping criterion
+        manager.resetIterationCount();
+        final double rmax = delta * b.getNorm();
+        final RealVector bro = RealVector.unmodifiableRealVector(b);
+
+        // Initialization phase counts as one iteration.
+        manager.incrementIterationCount();
+        final RealVector x = x0;
+        final RealVector xro = RealVector.unmodifiableRealVector(x);
+        RealVector r = b.combine(1, -1, a.operate(x));
+        double rnorm = r.getNorm();
+        IterativeLinearSolverEvent evt;
+        evt = new DefaultIterativeLinearSolverEvent(this, manager.getIterations(),
+                                                    xro, bro, RealVector.unmodifiableRealVector(r), rnorm);
+        manager.fireInitializationEvent(evt);
+        if (rnorm <= rmax) {
+            manager.fireTerminationEvent(evt);
+            return x;
+        }
+
+        // Arnoldi basis, preconditioned basis, Hessenberg matrix and Givens rotations
+        final RealVector[] v   = new RealVector[restart + 1];
+        final RealVector[] z   = new RealVector[restart];
+        final double[][]   h   = new double[restart + 1][restart];
+        final double[]     cos = new double[restart];
+        final double[]     sin = new double[restart];
+        final double[]     g   = new double[restart + 1];
+
+        while (true) {
+
+            // start a new cycle from the current residual
+            v[0] = r.mapDivide(rnorm);
+            g[0] = rnorm;
+            int k = 0;
+            boolean lucky = false;
+            while (k < restart && rnorm > rmax && !lucky) {
+
+                manager.incrementIterationCount();
+                evt = new DefaultIterativeLinearSolverEvent(this, manager.getIterations(), xro, bro, rnorm);
+                manager.fireIterationStartedEvent(evt);
+
+                // Arnoldi step, with modified Gram-Schmidt orthogonalization
+                z[k] = (m == null) ? v[k] : m.operate(v[k]);
+                final RealVector w = a.operate(z[k]);
+                for (int i = 0; i <= k; ++i) {
+                    h[i][k] = w.dotProduct(v[i]);
+                    w.combineToSelf(1, -h[i][k], v[i]);
+                }
+                final double hNext = w.getNorm();
+                h[k + 1][k] = hNext;
+
+                // apply previous rotations to the new column
+                for (int i = 0; i < k; ++i) {
+                    final double hik  = h[i][k];
+                    final double hi1k = h[i + 1][k];
+                    h[i][k]     =  cos[i] * hik + sin[i] * hi1k;
+                    h[i + 1][k] = -sin[i] * hik + cos[i] * hi1k;
+                }
+
+                // compute a new rotation to eliminate the sub-diagonal element
+                final double hypot = FastMath.hypot(h[k][k], h[k + 1][k]);
+                if (hypot == 0) {
+                    throw new MathIllegalArgumentException(LocalizedCoreFormats.SINGULAR_OPERATOR);
+                }
+                cos[k]      = h[k][k] / hypot;
+                sin[k]      = h[k + 1][k] / hypot;
+                h[k][k]     = hypot;
+                h[k + 1][k] = 0;
+                g[k + 1]    = -sin[k] * g[k];
+                g[k]        =  cos[k] * g[k];
+                rnorm       = FastMath.abs(g[k + 1]);
+
+                // the Krylov subspace is invariant if the new basis vector vanishes
+                lucky = hNext == 0;
+                if (!lucky) {
+                    v[k + 1] = w.mapDivideToSelf(hNext);
+                }
+                ++k;
+
+                evt = new DefaultIterativeLinearSolverEvent(this, manager.getIterations(), xro, bro, rnorm);
+                manager.fireIterationPerformedEvent(evt);
+
+            }
+
+            // update the estimate of the solution, solving the triangular least squares problem
+            final double[] y = new double[k];
+            for (int i = k - 1; i >= 0; --i) {
+                double sum = g[i];
+                for (int j = i + 1; j < k; ++j) {
+                    sum -= h[i][j] * y[j];
+                }
+                y[i] = sum / h[i][i];
+            }
+            for (int i = 0; i < k; ++i) {
+                x.combineToSelf(1, y[i], z[i]);
+            }
+
+            // recompute the true residual, which may differ from the estimate due to rounding
+            r     = b.combine(1, -1, a.operate(x));
+            rnorm = r.getNorm();
+            if (rnorm <= rmax) {
+                evt = new DefaultIterativeLinearSolverEvent(this, manager.getIterations(),
+                                                            xro, bro, RealVector.unmodifiableRealVector(r), rnorm);
+                manager.fireTerminationEvent(evt);
+                return x;
+            }
+
+        }
+    }
+
+}
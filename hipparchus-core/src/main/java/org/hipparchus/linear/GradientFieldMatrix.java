@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hipparchus.linear;
+
+import org.hipparchus.analysis.differentiation.Gradient;
+import org.hipparchus.exception.MathIllegalArgumentException;
+
+/**
+ * Dense matrix of {@link Gradient} elements using a structure of arrays layout.
+ * @see AbstractPlanesFieldMatrix
+ * @since 3.1
+ */
+public class GradientFieldMatrix extends AbstractPlanesFieldMatrix<Gradient> {
+
+    /**
+     * Create a matrix with all entries set to zero.
+     * @param parameters number of free parameters
+     * @param rows number of rows
+     * @param columns number of columns
+     * @throws MathIllegalArgumentException if row or column dimension is not positive
+     */
+    public GradientFieldMatrix(final int parameters, final int rows, final int columns)
+        throws MathIllegalArgumentException {
+        super(FieldPlanes.gradient(parameters), rows, columns);
+    }
+
+    /**
+     * Create a matrix by copying another matrix.
+     * @param matrix matrix to copy
+     */
+    public GradientFieldMatrix(final FieldMatrix<Gradient> matrix) {
+        super(FieldPlanes.gradient(matrix.getField().getOne().getFreeParameters()), matrix);
+    }
+
+    /**
+     * Create a matrix using the input planes as the underlying data.
+     * @param layout layout of the elements
+     * @param rows number of rows
+     * @param columns number of columns
+     * @param planes planes of the entries, in row major order (not copied)
+     */
+    GradientFieldMatrix(final FieldPlanes<Gradient> layout,
+                        final int rows, final int columns, final double[][] planes) {
+        super(layout, rows, columns, planes);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected GradientFieldMatrix create(final int rowDimension, final int columnDimension, final double[][] p) {
+        return new GradientFieldMatrix(getLayout(), rowDimension, columnDimension, p);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected GradientFieldVector createVector(final double[][] p) {
+        return new GradientFieldVector(getLayout(), p);
+    }
+
+}
@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hipparchus.linear;
+
+import org.hipparchus.analysis.differentiation.Gradient;
+
+/**
+ * Vector of {@link Gradient} elements using a structure of arrays layout.
+ * @see AbstractPlanesFieldVector
+ * @since 3.1
+ */
+public class GradientFieldVector extends AbstractPlanesFieldVector<Gradient> {
+
+    /**
+     * Create a vector with all entries set to zero.
+     * @param parameters number of free parameters
+     * @param size dimension of the vector
+     */
+    public GradientFieldVector(final int parameters, final int size) {
+        super(FieldPlanes.gradient(parameters), size);
+    }
+
+    /**
+     * Create a vector by copying another vector.
+     * @param v vector to copy
+     */
+    public GradientFieldVector(final FieldVector<Gradient> v) {
+        super(FieldPlanes.gradient(v.getField().getOne().getFreeParameters()), v);
+    }
+
+    /**
+     * Create a vector using the input planes as the underlying data.
+     * @param layout layout of the elements
+     * @param planes planes of the entries (not copied)
+     */
+    GradientFieldVector(final FieldPlanes<Gradient> layout, final double[][] planes) {
+        super(layout, planes);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected GradientFieldVector create(final double[][] p) {
+        return new GradientFieldVector(getLayout(), p);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected GradientFieldMatrix createMatrix(final int rowDimension, final int columnDimension, final double[][] p) {
+        return new GradientFieldMatrix(getLayout(), rowDimension, columnDimension, p);
+    }
+
+}
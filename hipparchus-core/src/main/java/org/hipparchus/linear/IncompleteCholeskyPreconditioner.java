@@ -0,0 +1,197 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hipparchus.linear;
+
+import java.util.Arrays;
+
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.exception.MathIllegalArgumentException;
+import org.hipparchus.util.FastMath;
+
+/**
+ * This class implements the incomplete Cholesky factorization preconditioner
+ * with no fill-in, IC(0).
+ * <p>
+ * For a sparse symmetric positive definite matrix A, this preconditioner
+ * computes a lower triangular factor L whose non-zero entries are restricted
+ * to the non-zero pattern of the lower triangular part of A, and such that
+ * L &middot; L<sup>T</sup> matches A on this pattern. The preconditioner is
+ * M = (L &middot; L<sup>T</sup>)<sup>-1</sup>, applied by forward and
+ * backward substitutions in time proportional to the number of non-zero
+ * entries of A. As M is symmetric positive definite, it is suited to
+ * {@link ConjugateGradient}.
+ * </p>
+ * <p>
+ * Only the lower triangular part of A is used, symmetry is not checked.
+ * The factor is computed on the {@link CompressedRowRealMatrix compressed
+ * sparse row} representation of A, which is built first if A is another
+ * kind of matrix. The incomplete factorization may fail even for positive
+ * definite matrices, it is guaranteed to succeed for M-matrices, like the
+ * ones arising from many discretized elliptic problems.
+ * </p>
+ * @see IncompleteLUPreconditioner
+ * @see JacobiPreconditioner
+ * @since 3.1
+ */
+public class IncompleteCholeskyPreconditioner implements RealLinearOperator {
+
+    /** Index of first entry of each row of L (with an extra element holding the number of entries). */
+    private final int[] rowStart;
+
+    /** Column indices of the entries of L, the diagonal being the last entry of each row. */
+    private final int[] columnIndex;
+
+    /** Entries of L. */
+    private final double[] l;
+
+    /**
+     * Creates a new instance of this class.
+     *
+     * @param a the matrix for which the preconditioner should be built
+     * @throws MathIllegalArgumentException if {@code a} is not square, or if
+     * a non-positive pivot is encountered
+     */
+    public IncompleteCholeskyPreconditioner(final RealMatrix a)
+        throws MathIllegalArgumentException {
+
+        if (!a.isSquare()) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.NON_SQUARE_OPERATOR,
+                                                   a.getRowDimension(), a.getColumnDimension());
+        }
+        final CompressedRowRealMatrix csr = (a instanceof CompressedRowRealMatrix) ?
+                                            (CompressedRowRealMatrix) a :
+                                            new CompressedRowRealMatrix(a);
+        final int      n       = csr.getRowDimension();
+        final int[]    aStart  = csr.getRowStartRef();
+        final int[]    aColumn = csr.getColumnIndexRef();
+        final double[] aValues = csr.getValuesRef();
+
+        // extract the lower triangular part
+        rowStart = new int[n + 1];
+        for (int i = 0; i < n; ++i) {
+            int count = 0;
+            for (int p = aStart[i]; p < aStart[i + 1] && aColumn[p] <= i; ++p) {
+                ++count;
+            }
+            rowStart[i + 1] = rowStart[i] + count;
+        }
+        columnIndex = new int[rowStart[n]];
+        l           = new double[rowStart[n]];
+        for (int i = 0; i < n; ++i) {
+            final int count = rowStart[i + 1] - rowStart[i];
+            System.arraycopy(aColumn, aStart[i], columnIndex, rowStart[i], count);
+            System.arraycopy(aValues, aStart[i], l,           rowStart[i], count);
+        }
+
+        // marker[j] is the index of entry (i, j) in the current row i, or -1
+        final int[] marker = new int[n];
+        Arrays.fill(marker, -1);
+
+        for (int i = 0; i < n; ++i) {
+
+            final int start = rowStart[i];
+            final int end   = rowStart[i + 1];
+            if (end == start || columnIndex[end - 1] != i) {
+                // missing diagonal entry
+                throw new MathIllegalArgumentException(LocalizedCoreFormats.NOT_POSITIVE_DEFINITE_MATRIX);
+            }
+            for (int p = start; p < end; ++p) {
+                marker[columnIndex[p]] = p;
+            }
+
+            // off-diagonal entries: l[i][k] = (a[i][k] - sum(l[i][j] l[k][j], j < k)) / l[k][k]
+            for (int p = start; p < end - 1; ++p) {
+                final int k = columnIndex[p];
+                double sum = l[p];
+                for (int q = rowStart[k]; q < rowStart[k + 1] - 1; ++q) {
+                    final int pos = marker[columnIndex[q]];
+                    if (pos >= 0) {
+                        sum -= l[pos] * l[q];
+                    }
+                }
+                l[p] = sum / l[rowStart[k + 1] - 1];
+            }
+
+            // diagonal entry: l[i][i] = sqrt(a[i][i] - sum(l[i][j]^2, j < i))
+            double sum = l[end - 1];
+            for (int p = start; p < end - 1; ++p) {
+                sum -= l[p] * l[p];
+            }
+            if (sum <= 0) {
+                throw new MathIllegalArgumentException(LocalizedCoreFormats.NOT_POSITIVE_DEFINITE_MATRIX);
+            }
+            l[end - 1] = FastMath.sqrt(sum);
+
+            for (int p = start; p < end; ++p) {
+                marker[columnIndex[p]] = -1;
+            }
+
+        }
+
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int getColumnDimension() {
+        return rowStart.length - 1;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int getRowDimension() {
+        return rowStart.length - 1;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This method computes (L &middot; L<sup>T</sup>)<sup>-1</sup> &middot; x.
+     * </p>
+     */
+    @Override
+    public RealVector operate(final RealVector x) throws MathIllegalArgumentException {
+        final int n = rowStart.length - 1;
+        if (x.getDimension() != n) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.DIMENSIONS_MISMATCH,
+                                                   x.getDimension(), n);
+        }
+        final double[] y = x.toArray();
+
+        // solve L.z = x
+        for (int i = 0; i < n; ++i) {
+            final int diag = rowStart[i + 1] - 1;
+            double sum = y[i];
+            for (int p = rowStart[i]; p < diag; ++p) {
+                sum -= l[p] * y[columnIndex[p]];
+            }
+            y[i] = sum / l[diag];
+        }
+
+        // solve LT.y = z, accessing L row by row
+        for (int i = n - 1; i >= 0; --i) {
+            final int diag = rowStart[i + 1] - 1;
+            y[i] /= l[diag];
+            final double yI = y[i];
+            for (int p = rowStart[i]; p < diag; ++p) {
+                y[columnIndex[p]] -= l[p] * yI;
+            }
+        }
+
+        return new ArrayRealVector(y, false);
+    }
+
+}
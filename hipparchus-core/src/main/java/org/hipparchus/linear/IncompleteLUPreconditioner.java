@@ -0,0 +1,173 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hipparchus.linear;
+
+import java.util.Arrays;
+
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.exception.MathIllegalArgumentException;
+
+/**
+ * This class implements the incomplete LU factorization preconditioner
+ * with no fill-in, ILU(0).
+ * <p>
+ * For a sparse matrix A, this preconditioner computes lower and upper
+ * triangular factors L and U whose non-zero entries are restricted to
+ * the non-zero pattern of A, and such that L &middot; U matches A on
+ * this pattern. The preconditioner is M = (L &middot; U)<sup>-1</sup>,
+ * applied by forward and backward substitutions in time proportional to
+ * the number of non-zero entries of A. It is suited to non-symmetric
+ * systems solved by {@link GMRES} or {@link BiCGSTAB}.
+ * </p>
+ * <p>
+ * The factors are computed on the {@link CompressedRowRealMatrix
+ * compressed sparse row} representation of A, which is built first
+ * if A is another kind of matrix.
+ * </p>
+ * @see IncompleteCholeskyPreconditioner
+ * @see JacobiPreconditioner
+ * @since 3.1
+ */
+public class IncompleteLUPreconditioner implements RealLinearOperator {
+
+    /** Index of first entry of each row (with an extra element holding the number of entries). */
+    private final int[] rowStart;
+
+    /** Column indices of the entries. */
+    private final int[] columnIndex;
+
+    /** Entries of the L (strictly lower part, unit diagonal omitted) and U factors. */
+    private final double[] lu;
+
+    /** Index of the diagonal entry of each row. */
+    private final int[] diagonal;
+
+    /**
+     * Creates a new instance of this class.
+     *
+     * @param a the matrix for which the preconditioner should be built
+     * @throws MathIllegalArgumentException if {@code a} is not square, if one of
+     * its diagonal entries is structurally zero or if a zero pivot is encountered
+     */
+    public IncompleteLUPreconditioner(final RealMatrix a)
+        throws MathIllegalArgumentException {
+
+        if (!a.isSquare()) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.NON_SQUARE_OPERATOR,
+                                                   a.getRowDimension(), a.getColumnDimension());
+        }
+        final CompressedRowRealMatrix csr = (a instanceof CompressedRowRealMatrix) ?
+                                            (CompressedRowRealMatrix) a :
+                                            new CompressedRowRealMatrix(a);
+
+        // the pattern is shared with the immutable matrix, only the values are copied
+        final int n = csr.getRowDimension();
+        rowStart    = csr.getRowStartRef();
+        columnIndex = csr.getColumnIndexRef();
+        lu          = csr.getValuesRef().clone();
+        diagonal    = new int[n];
+
+        // marker[j] is the index of entry (i, j) in the current row i, or -1
+        final int[] marker = new int[n];
+        Arrays.fill(marker, -1);
+
+        for (int i = 0; i < n; ++i) {
+
+            final int start = rowStart[i];
+            final int end   = rowStart[i + 1];
+            for (int p = start; p < end; ++p) {
+                marker[columnIndex[p]] = p;
+            }
+
+            // eliminate the entries at the left of the diagonal
+            int p = start;
+            while (p < end && columnIndex[p] < i) {
+                final int k = columnIndex[p];
+                lu[p] /= lu[diagonal[k]];
+                final double lIK = lu[p];
+                for (int q = diagonal[k] + 1; q < rowStart[k + 1]; ++q) {
+                    final int pos = marker[columnIndex[q]];
+                    if (pos >= 0) {
+                        // entry (i, j) is in the pattern, update it
+                        lu[pos] -= lIK * lu[q];
+                    }
+                }
+                ++p;
+            }
+
+            if (p == end || columnIndex[p] != i || lu[p] == 0) {
+                throw new MathIllegalArgumentException(LocalizedCoreFormats.SINGULAR_MATRIX);
+            }
+            diagonal[i] = p;
+
+            for (int q = start; q < end; ++q) {
+                marker[columnIndex[q]] = -1;
+            }
+
+        }
+
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int getColumnDimension() {
+        return diagonal.length;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int getRowDimension() {
+        return diagonal.length;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This method computes (L &middot; U)<sup>-1</sup> &middot; x.
+     * </p>
+     */
+    @Override
+    public RealVector operate(final RealVector x) throws MathIllegalArgumentException {
+        final int n = diagonal.length;
+        if (x.getDimension() != n) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.DIMENSIONS_MISMATCH,
+                                                   x.getDimension(), n);
+        }
+        final double[] y = x.toArray();
+
+        // solve L.z = x, L having a unit diagonal
+        for (int i = 0; i < n; ++i) {
+            double sum = y[i];
+            for (int p = rowStart[i]; p < diagonal[i]; ++p) {
+                sum -= lu[p] * y[columnIndex[p]];
+            }
+            y[i] = sum;
+        }
+
+        // solve U.y = z
+        for (int i = n - 1; i >= 0; --i) {
+            double sum = y[i];
+            for (int p = diagonal[i] + 1; p < rowStart[i + 1]; ++p) {
+                sum -= lu[p] * y[columnIndex[p]];
+            }
+            y[i] = sum / lu[diagonal[i]];
+        }
+
+        return new ArrayRealVector(y, false);
+    }
+
+}
@@ -0,0 +1,263 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hipparchus.linear;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.exception.MathIllegalArgumentException;
+import org.hipparchus.exception.MathRuntimeException;
+import org.hipparchus.exception.NullArgumentException;
+import org.hipparchus.random.RandomGenerator;
+import org.hipparchus.random.Well1024a;
+import org.hipparchus.util.FastMath;
+import org.hipparchus.util.IterationManager;
+import org.hipparchus.util.MathUtils;
+import org.hipparchus.util.Precision;
+
+/**
+ * This abstract class defines an iterative solver computing a few eigenpairs
+ * of a large linear operator A.
+ * <p>
+ * The solvers build an orthonormal basis of a Krylov subspace using only
+ * {@link RealLinearOperator#operate(RealVector)}, so the operator is never
+ * stored as a dense matrix. The wanted eigenpairs are approximated by Ritz
+ * pairs of the projection of the operator on this subspace. When the subspace
+ * reaches its maximum dimension without convergence, it is restarted, keeping
+ * only the part corresponding to the most wanted Ritz pairs.
+ * </p>
+ * <p>
+ * Each restart cycle is an iteration as counted by the {@link IterationManager}
+ * that also fires {@link IterativeEigenSolverEvent} events to registered
+ * {@link org.hipparchus.util.IterationListener listeners}.
+ * </p>
+ * <p>
+ * A Ritz pair (&theta;, x) is considered converged when its residual norm
+ * ||A x - &theta; x|| is lower than tolerance &times; max(|&theta;|, &epsilon;<sup>2/3</sup> ||H||),
+ * where H is the projected matrix.
+ * </p>
+ * @since 3.1
+ */
+public abstract class IterativeEigenSolver {
+
+    /** Selection of the wanted eigenvalues. */
+    public enum Selection {
+
+        /** Eigenvalues with largest modulus. */
+        LARGEST_MAGNITUDE {
+            /** {@inheritDoc} */
+            @Override
+            double key(final double re, final double im) {
+                return FastMath.hypot(re, im);
+            }
+        },
+
+        /** Eigenvalues with smallest modulus. */
+        SMALLEST_MAGNITUDE {
+            /** {@inheritDoc} */
+            @Override
+            double key(final double re, final double im) {
+                return -FastMath.hypot(re, im);
+            }
+        },
+
+        /** Eigenvalues with largest real part (i.e. largest algebraic value for symmetric operators). */
+        LARGEST_REAL {
+            /** {@inheritDoc} */
+            @Override
+            double key(final double re, final double im) {
+                return re;
+            }
+        },
+
+        /** Eigenvalues with smallest real part (i.e. smallest algebraic value for symmetric operators). */
+        SMALLEST_REAL {
+            /** {@inheritDoc} */
+            @Override
+            double key(final double re, final double im) {
+                return -re;
+            }
+        };
+
+        /** Compute the sorting key of an eigenvalue.
+         * @param re real part of the eigenvalue
+         * @param im imaginary part of the eigenvalue
+         * @return sorting key (largest keys are the most wanted)
+         */
+        abstract double key(double re, double im);
+
+        /** Sort eigenvalues from the most wanted to the least wanted.
+         * <p>
+         * Complex conjugate eigenvalues are adjacent, the one with
+         * positive imaginary part first.
+         * </p>
+         * @param re real parts of the eigenvalues
+         * @param im imaginary parts of the eigenvalues
+         * @return indices of the eigenvalues, most wanted first
+         */
+        int[] sort(final double[] re, final double[] im) {
+            final Integer[] indices = new Integer[re.length];
+            for (int i = 0; i < indices.length; ++i) {
+                indices[i] = i;
+            }
+            Arrays.sort(indices,
+                        Comparator.<Integer>comparingDouble(i -> -key(re[i], im[i])).
+                        thenComparingDouble(i -> -FastMath.abs(im[i])).
+                        thenComparingDouble(i -> -im[i]));
+            final int[] sorted = new int[indices.length];
+            for (int i = 0; i < sorted.length; ++i) {
+                sorted[i] = indices[i];
+            }
+            return sorted;
+        }
+
+    }
+
+    /** Seed for the default start vector and for new directions after breakdowns. */
+    private static final long SEED = 0x3c81d55a7f2e49b0L;
+
+    /** The object in charge of managing the iterations. */
+    private final IterationManager manager;
+
+    /** Relative tolerance for convergence of Ritz pairs. */
+    private final double tolerance;
+
+    /**
+     * Creates a new instance of this class, with default iteration manager.
+     *
+     * @param maxIterations the maximum number of restart cycles
+     * @param tolerance relative tolerance for convergence of Ritz pairs
+     */
+    protected IterativeEigenSolver(final int maxIterations, final double tolerance) {
+        this(new IterationManager(maxIterations), tolerance);
+    }
+
+    /**
+     * Creates a new instance of this class, with custom iteration manager.
+     *
+     * @param manager the custom iteration manager
+     * @param tolerance relative tolerance for convergence of Ritz pairs
+     * @throws NullArgumentException if {@code manager} is {@code null}
+     */
+    protected IterativeEigenSolver(final IterationManager manager, final double tolerance)
+        throws NullArgumentException {
+        MathUtils.checkNotNull(manager);
+        this.manager   = manager;
+        this.tolerance = tolerance;
+    }
+
+    /**
+     * Returns the iteration manager attached to this solver.
+     *
+     * @return the manager
+     */
+    public IterationManager getIterationManager() {
+        return manager;
+    }
+
+    /**
+     * Returns the relative tolerance for convergence of Ritz pairs.
+     *
+     * @return relative tolerance for convergence of Ritz pairs
+     */
+    public double getTolerance() {
+        return tolerance;
+    }
+
+    /**
+     * Returns the default Krylov subspace dimension.
+     * <p>
+     * The default dimension is min(n, max(2 nev + 1, nev + 20)).
+     * </p>
+     *
+     * @param n dimension of the operator
+     * @param nev number of wanted eigenpairs
+     * @return default Krylov subspace dimension
+     */
+    public static int getDefaultKrylovDimension(final int n, final int nev) {
+        return FastMath.min(n, FastMath.max(2 * nev + 1, nev + 20));
+    }
+
+    /**
+     * Performs all checks on the parameters of a solve method, and throws
+     * an exception if one of the checks fails.
+     *
+     * @param a the linear operator A
+     * @param start start vector
+     * @param nev number of wanted eigenpairs
+     * @param krylovDimension maximum dimension of the Krylov subspace
+     * @throws NullArgumentException if one of the parameters is {@code null}
+     * @throws MathIllegalArgumentException if {@code a} is not square, if
+     * {@code start} has dimensions inconsistent with {@code a}, if {@code nev}
+     * is not between 1 and the operator dimension, or if {@code krylovDimension}
+     * is not between {@code nev + 1} and the operator dimension
+     * @throws MathRuntimeException if {@code start} is a zero vector
+     */
+    protected static void checkParameters(final RealLinearOperator a, final RealVector start,
+                                          final int nev, final int krylovDimension)
+        throws MathIllegalArgumentException, MathRuntimeException, NullArgumentException {
+        MathUtils.checkNotNull(a);
+        MathUtils.checkNotNull(start);
+        final int n = a.getRowDimension();
+        if (n != a.getColumnDimension()) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.NON_SQUARE_OPERATOR,
+                                                   n, a.getColumnDimension());
+        }
+        if (start.getDimension() != n) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.DIMENSIONS_MISMATCH,
+                                                   start.getDimension(), n);
+        }
+        MathUtils.checkRangeInclusive(nev, 1, n);
+        MathUtils.checkRangeInclusive(krylovDimension, FastMath.min(nev + 1, n), n);
+        if (start.getNorm() == 0) {
+            throw new MathRuntimeException(LocalizedCoreFormats.ZERO_NORM);
+        }
+    }
+
+    /**
+     * Creates the default start vector.
+     *
+     * @param n dimension of the operator
+     * @return default start vector (random, but reproducible)
+     */
+    protected static RealVector createDefaultStart(final int n) {
+        final RandomGenerator random = createGenerator();
+        final double[] start = new double[n];
+        for (int i = 0; i < n; ++i) {
+            start[i] = random.nextDouble() - 0.5;
+        }
+        return new ArrayRealVector(start, false);
+    }
+
+    /** Create the generator used for new directions after breakdowns.
+     * @return generator for new directions
+     */
+    static RandomGenerator createGenerator() {
+        return new Well1024a(SEED);
+    }
+
+    /** Get the threshold below which a residual norm is considered converged.
+     * @param eigenvalueNorm modulus of the Ritz value
+     * @param projectedNorm norm of the projected matrix
+     * @return convergence threshold
+     */
+    double convergenceThreshold(final double eigenvalueNorm, final double projectedNorm) {
+        return tolerance * FastMath.max(eigenvalueNorm, FastMath.cbrt(Precision.EPSILON * Precision.EPSILON) * projectedNorm);
+    }
+
+}
@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hipparchus.linear;
+
+import org.hipparchus.util.IterationEvent;
+
+/**
+ * Event occurring during the iterations of an {@link IterativeEigenSolver}.
+ * <p>
+ * One iteration corresponds to one restart cycle, i.e. to an expansion of
+ * the Krylov subspace up to its maximum dimension followed by the extraction
+ * of Ritz pairs from the projected problem.
+ * </p>
+ * @since 3.1
+ */
+public class IterativeEigenSolverEvent extends IterationEvent {
+
+    /** Serializable UID. */
+    private static final long serialVersionUID = 20261017L;
+
+    /** Number of converged wanted eigenpairs. */
+    private final int converged;
+
+    /** Residual norms of the wanted Ritz pairs. */
+    private final double[] residualNorms;
+
+    /**
+     * Creates a new instance of this class.
+     *
+     * @param source the iterative algorithm on which the event initially
+     * occurred
+     * @param iterations the number of iterations performed at the time
+     * {@code this} event is created
+     * @param converged number of wanted eigenpairs that have converged
+     * @param residualNorms residual norms of the wanted Ritz pairs (the array
+     * is copied)
+     */
+    public IterativeEigenSolverEvent(final Object source, final int iterations,
+                                     final int converged, final double[] residualNorms) {
+        super(source, iterations);
+        this.converged     = converged;
+        this.residualNorms = residualNorms.clone();
+    }
+
+    /**
+     * Returns the number of wanted eigenpairs that have converged.
+     *
+     * @return number of wanted eigenpairs that have converged
+     */
+    public int getConverged() {
+        return converged;
+    }
+
+    /**
+     * Returns the residual norms ||A x - &lambda; x|| of the wanted Ritz pairs,
+     * in the order of the wanted eigenvalues.
+     * <p>
+     * All residual norms are infinite in the initialization event, as no
+     * Ritz pairs are available yet.
+     * </p>
+     *
+     * @return a copy of the residual norms
+     */
+    public double[] getResidualNorms() {
+        return residualNorms.clone();
+    }
+
+}
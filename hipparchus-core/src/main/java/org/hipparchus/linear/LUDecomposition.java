@@ -167,6 +167,24 @@ public class LUDecomposition {
         }
     }
 
+    /**
+     * Builds a decomposition from already computed entries.
+     * @param lu entries of LU decomposition
+     * @param pivot pivot permutation associated with LU decomposition
+     * @param even parity of the permutation associated with the LU decomposition
+     * @param singular singularity indicator
+     * @since 3.1
+     */
+    LUDecomposition(final double[][] lu, final int[] pivot, final boolean even, final boolean singular) {
+        this.lu       = lu;
+        this.pivot    = pivot;
+        this.even     = even;
+        this.singular = singular;
+        this.cachedL  = null;
+        this.cachedU  = null;
+        this.cachedP  = null;
+    }
+
     /**
      * Returns the matrix L of the decomposition.
      * <p>L is a lower-triangular matrix</p>
@@ -0,0 +1,246 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hipparchus.linear;
+
+import java.util.Arrays;
+
+import org.hipparchus.exception.MathIllegalArgumentException;
+import org.hipparchus.exception.MathIllegalStateException;
+import org.hipparchus.exception.MathRuntimeException;
+import org.hipparchus.exception.NullArgumentException;
+import org.hipparchus.util.FastMath;
+import org.hipparchus.util.IterationManager;
+import org.hipparchus.util.MathUtils;
+
+/**
+ * Implicitly restarted Lanczos method for computing a few eigenpairs of a symmetric
+ * linear operator.
+ * <p>
+ * The operator is accessed only through {@link RealLinearOperator#operate(RealVector)},
+ * so it can be a huge sparse matrix or even a matrix-free operator. The Lanczos
+ * basis is fully reorthogonalized, which avoids spurious copies of converged
+ * eigenvalues at the expense of O(n m) operations per step, where m is the
+ * Krylov subspace dimension.
+ * </p>
+ * <p>
+ * Restarts are performed as in the implicitly restarted Lanczos method of Calvetti,
+ * Reichel and Sorensen, using the unwanted Ritz values as shifts (exact shifts) of
+ * implicit QR sweeps applied to the projected matrix. This keeps the most wanted
+ * Ritz vectors in the restarted basis and is mathematically equivalent to the
+ * thick-restart Lanczos method of Wu and Simon.
+ * </p>
+ * <p>
+ * The operator is <em>assumed</em> to be symmetric, this is not checked.
+ * {@link ArnoldiEigenSolver} should be used for non-symmetric operators.
+ * </p>
+ * @see ArnoldiEigenSolver
+ * @since 3.1
+ */
+public class LanczosEigenSolver extends IterativeEigenSolver {
+
+    /**
+     * Creates a new instance of this class, with default iteration manager.
+     *
+     * @param maxIterations the maximum number of restart cycles
+     * @param tolerance relative tolerance for convergence of Ritz pairs
+     */
+    public LanczosEigenSolver(final int maxIterations, final double tolerance) {
+        super(maxIterations, tolerance);
+    }
+
+    /**
+     * Creates a new instance of this class, with custom iteration manager.
+     *
+     * @param manager the custom iteration manager
+     * @param tolerance relative tolerance for convergence of Ritz pairs
+     * @throws NullArgumentException if {@code manager} is {@code null}
+     */
+    public LanczosEigenSolver(final IterationManager manager, final double tolerance)
+        throws NullArgumentException {
+        super(manager, tolerance);
+    }
+
+    /**
+     * Computes a few eigenpairs of a symmetric linear operator, using a default
+     * start vector and the {@link #getDefaultKrylovDimension(int, int) default
+     * Krylov subspace dimension}.
+     *
+     * @param a the symmetric linear operator A
+     * @param nev number of wanted eigenpairs
+     * @param selection selection of the wanted eigenvalues
+     * @return wanted eigenpairs
+     * @throws NullArgumentException if one of the parameters is {@code null}
+     * @throws MathIllegalArgumentException if {@code a} is not square or
+     * if {@code nev} is not between 1 and the operator dimension
+     * @throws MathIllegalStateException at exhaustion of the iteration count,
+     * unless a custom
+     * {@link org.hipparchus.util.Incrementor.MaxCountExceededCallback callback}
+     * has been set at construction of the {@link IterationManager}
+     */
+    public Solution solve(final RealLinearOperator a, final int nev, final Selection selection)
+        throws MathIllegalArgumentException, MathIllegalStateException, NullArgumentException {
+        MathUtils.checkNotNull(a);
+        final int n = a.getRowDimension();
+        return solve(a, createDefaultStart(n), nev, getDefaultKrylovDimension(n, nev), selection);
+    }
+
+    /**
+     * Computes a few eigenpairs of a symmetric linear operator.
+     *
+     * @param a the symmetric linear operator A
+     * @param start start vector
+     * @param nev number of wanted eigenpairs
+     * @param krylovDimension maximum dimension of the Krylov subspace
+     * @param selection selection of the wanted eigenvalues
+     * @return wanted eigenpairs
+     * @throws NullArgumentException if one of the parameters is {@code null}
+     * @throws MathIllegalArgumentException if {@code a} is not square, if
+     * {@code start} has dimensions inconsistent with {@code a}, if {@code nev}
+     * is not between 1 and the operator dimension, or if {@code krylovDimension}
+     * is not between {@code nev + 1} and the operator dimension
+     * @throws MathRuntimeException if {@code start} is a zero vector
+     * @throws MathIllegalStateException at exhaustion of the iteration count,
+     * unless a custom
+     * {@link org.hipparchus.util.Incrementor.MaxCountExceededCallback callback}
+     * has been set at construction of the {@link IterationManager}
+     */
+    public Solution solve(final RealLinearOperator a, final RealVector start,
+                          final int nev, final int krylovDimension, final Selection selection)
+        throws MathIllegalArgumentException, MathIllegalStateException,
+               MathRuntimeException, NullArgumentException {
+
+        checkParameters(a, start, nev, krylovDimension);
+        MathUtils.checkNotNull(selection);
+
+        final int m = krylovDimension;
+        final ArnoldiFactorization factorization = new ArnoldiFactorization(a, start, m, createGenerator());
+        final IterationManager manager = getIterationManager();
+        manager.resetIterationCount();
+
+        final double[] residuals = new double[nev];
+        Arrays.fill(residuals, Double.POSITIVE_INFINITY);
+        int converged = 0;
+        manager.fireInitializationEvent(new IterativeEigenSolverEvent(this, 0, converged, residuals));
+
+        int k = 0;
+        while (true) {
+
+            manager.incrementIterationCount();
+            manager.fireIterationStartedEvent(new IterativeEigenSolverEvent(this, manager.getIterations(),
+                                                                            converged, residuals));
+
+            // expand Lanczos basis and solve the projected problem
+            factorization.expand(k);
+            final RealMatrix projected = factorization.getProjected(true);
+            final EigenDecompositionSymmetric ed = new EigenDecompositionSymmetric(projected);
+            final double[] theta = ed.getEigenvalues();
+            final int[] order    = selection.sort(theta, new double[m]);
+            final double beta    = factorization.getResidualNorm();
+            final double hNorm   = projected.getFrobeniusNorm();
+
+            // check convergence of wanted Ritz pairs
+            converged = 0;
+            for (int i = 0; i < nev; ++i) {
+                residuals[i] = FastMath.abs(beta * ed.getEigenvector(order[i]).getEntry(m - 1));
+                if (residuals[i] <= convergenceThreshold(FastMath.abs(theta[order[i]]), hNorm)) {
+                    ++converged;
+                }
+            }
+            manager.fireIterationPerformedEvent(new IterativeEigenSolverEvent(this, manager.getIterations(),
+                                                                              converged, residuals));
+
+            if (converged == nev) {
+                // build the Ritz pairs
+                final double[]     eigenvalues  = new double[nev];
+                final RealVector[] eigenvectors = new RealVector[nev];
+                for (int i = 0; i < nev; ++i) {
+                    eigenvalues[i]  = theta[order[i]];
+                    final double[] x = factorization.combine(ed.getEigenvector(order[i]).toArray());
+                    final double norm = ArnoldiFactorization.norm(x);
+                    for (int j = 0; j < x.length; ++j) {
+                        x[j] /= norm;
+                    }
+                    eigenvectors[i] = new ArrayRealVector(x, false);
+                }
+                manager.fireTerminationEvent(new IterativeEigenSolverEvent(this, manager.getIterations(),
+                                                                           converged, residuals));
+                return new Solution(eigenvalues, eigenvectors);
+            }
+
+            // implicit restart, using the unwanted Ritz values as shifts
+            k = FastMath.min(nev + (m - nev) / 2, m - 1);
+            final double[] shifts = new double[m - k];
+            for (int i = 0; i < shifts.length; ++i) {
+                shifts[i] = theta[order[k + i]];
+            }
+            factorization.restart(shifts, new double[shifts.length], k);
+
+        }
+
+    }
+
+    /** Container for the eigenpairs computed by a {@link LanczosEigenSolver}. */
+    public static class Solution {
+
+        /** Eigenvalues, most wanted first. */
+        private final double[] eigenvalues;
+
+        /** Normalized eigenvectors. */
+        private final RealVector[] eigenvectors;
+
+        /** Simple constructor.
+         * @param eigenvalues eigenvalues, most wanted first
+         * @param eigenvectors normalized eigenvectors
+         */
+        Solution(final double[] eigenvalues, final RealVector[] eigenvectors) {
+            this.eigenvalues  = eigenvalues;
+            this.eigenvectors = eigenvectors;
+        }
+
+        /** Get the number of computed eigenpairs.
+         * @return number of computed eigenpairs
+         */
+        public int getNumberOfEigenpairs() {
+            return eigenvalues.length;
+        }
+
+        /** Get a copy of the eigenvalues, most wanted first.
+         * @return a copy of the eigenvalues
+         */
+        public double[] getEigenvalues() {
+            return eigenvalues.clone();
+        }
+
+        /** Get the i<sup>th</sup> eigenvalue.
+         * @param i index of the eigenvalue (counting from 0, most wanted first)
+         * @return i<sup>th</sup> eigenvalue
+         */
+        public double getEigenvalue(final int i) {
+            return eigenvalues[i];
+        }
+
+        /** Get a copy of the i<sup>th</sup> normalized eigenvector.
+         * @param i index of the eigenvector (counting from 0, most wanted first)
+         * @return a copy of the i<sup>th</sup> eigenvector
+         */
+        public RealVector getEigenvector(final int i) {
+            return eigenvectors[i].copy();
+        }
+
+    }
+
+}
@@ -0,0 +1,564 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hipparchus.linear;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+import org.hipparchus.exception.MathIllegalArgumentException;
+
+/**
+ * Fixed-size 3&times;3 real matrix.
+ * <p>
+ * This class is intended for the many small products, inversions and decompositions
+ * performed in attitude computations, where general purpose implementations like
+ * {@link Array2DRowRealMatrix} spend more time in loops, bounds checks and allocations
+ * than in arithmetic. All products, transposition, determinant and Cholesky decomposition
+ * are hand-unrolled, and the inverse is computed from the adjugate matrix.
+ * </p>
+ * <p>
+ * Each operation is available in two flavors: one allocating a new instance
+ * for the result, and one storing the result in a caller-supplied destination.
+ * Contrary to the "into" methods of {@link RealMatrix}, the destination may be
+ * the instance itself or the other operand, so all operations can be performed
+ * in place. Conversions from and to {@link RealMatrix} are direct copies of the
+ * entries, which are stored in row major order.
+ * </p>
+ * @see Matrix2
+ * @see Matrix6
+ * @since 3.1
+ */
+public final class Matrix3 implements SmallRealMatrix<Matrix3>, Serializable {
+
+    /** Serializable version identifier. */
+    private static final long serialVersionUID = 20261017L;
+
+    /** Entries of the matrix, in row major order. */
+    private final double[] data;
+
+    /** Create a matrix with all entries set to zero.
+     */
+    public Matrix3() {
+        data = new double[9];
+    }
+
+    /** Create a matrix from a two-dimensional array.
+     * @param d entries of the matrix, as an array of rows
+     * @throws MathIllegalArgumentException if the array is not 3&times;3
+     */
+    public Matrix3(final double[][] d) throws MathIllegalArgumentException {
+        this();
+        SmallMatrices.copy(d, 3, data);
+    }
+
+    /** Create a matrix by copying a real matrix.
+     * @param m real matrix to copy
+     * @throws MathIllegalArgumentException if the matrix is not 3&times;3
+     */
+    public Matrix3(final RealMatrix m) throws MathIllegalArgumentException {
+        this();
+        SmallMatrices.copy(m, 3, data);
+    }
+
+    /** Create an identity matrix.
+     * @return identity matrix
+     */
+    public static Matrix3 identity() {
+        final Matrix3 id = new Matrix3();
+        id.data[0] = 1.0;
+        id.data[4] = 1.0;
+        id.data[8] = 1.0;
+        return id;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isSquare() {
+        return true;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int getRowDimension() {
+        return 3;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int getColumnDimension() {
+        return 3;
+    }
+
+    /** Get an entry.
+     * @param row row index
+     * @param column column index
+     * @return entry at (row, column)
+     * @throws MathIllegalArgumentException if the indices are not valid
+     */
+    @Override
+    public double getEntry(final int row, final int column) throws MathIllegalArgumentException {
+        MatrixUtils.checkMatrixIndex(this, row, column);
+        return data[row * 3 + column];
+    }
+
+    /** Set an entry.
+     * @param row row index
+     * @param column column index
+     * @param value new value of the entry
+     * @throws MathIllegalArgumentException if the indices are not valid
+     */
+    @Override
+    public void setEntry(final int row, final int column, final double value) throws MathIllegalArgumentException {
+        MatrixUtils.checkMatrixIndex(this, row, column);
+        data[row * 3 + column] = value;
+    }
+
+    /** Get a reference to the underlying array.
+     * <p>
+     * Entry (i, j) is stored at index {@code 3 * i + j}.
+     * </p>
+     * @return reference to the underlying array
+     */
+    @Override
+    public double[] getDataRef() {
+        return data; // NOPMD - returning an internal array is intentional and documented here
+    }
+
+    /** Get the entries as a two-dimensional array.
+     * @return new array containing the entries, as an array of rows
+     */
+    @Override
+    public double[][] getData() {
+        return SmallMatrices.toArray(data, 3);
+    }
+
+    /** Convert the instance to a real matrix.
+     * <p>
+     * The entries are copied once into a new array of rows, which is then
+     * used without further copy by the returned {@link Array2DRowRealMatrix}.
+     * The returned matrix is therefore independent of the instance.
+     * </p>
+     * @return real matrix containing a copy of the entries
+     */
+    @Override
+    public RealMatrix toRealMatrix() {
+        return new Array2DRowRealMatrix(getData(), false);
+    }
+
+    /** Get a copy of the instance.
+     * @return copy of the instance
+     */
+    @Override
+    public Matrix3 copy() {
+        final Matrix3 copy = new Matrix3();
+        copy.set(this);
+        return copy;
+    }
+
+    /** Set all entries from another matrix.
+     * @param m matrix to copy
+     */
+    @Override
+    public void set(final Matrix3 m) {
+        System.arraycopy(m.data, 0, data, 0, 9);
+    }
+
+    /** Compute the sum of the instance and another matrix.
+     * @param m matrix to add
+     * @return this + m
+     */
+    @Override
+    public Matrix3 add(final Matrix3 m) {
+        final Matrix3 out = new Matrix3();
+        add(m, out);
+        return out;
+    }
+
+    /** Compute the sum of the instance and another matrix into a destination matrix.
+     * @param m matrix to add
+     * @param out destination matrix, where this + m is stored
+     * (may be the instance itself or {@code m})
+     */
+    @Override
+    public void add(final Matrix3 m, final Matrix3 out) {
+        for (int k = 0; k < 9; ++k) {
+            out.data[k] = data[k] + m.data[k];
+        }
+    }
+
+    /** Compute the difference of the instance and another matrix.
+     * @param m matrix to subtract
+     * @return this - m
+     */
+    @Override
+    public Matrix3 subtract(final Matrix3 m) {
+        final Matrix3 out = new Matrix3();
+        subtract(m, out);
+        return out;
+    }
+
+    /** Compute the difference of the instance and another matrix into a destination matrix.
+     * @param m matrix to subtract
+     * @param out destination matrix, where this - m is stored
+     * (may be the instance itself or {@code m})
+     */
+    @Override
+    public void subtract(final Matrix3 m, final Matrix3 out) {
+        for (int k = 0; k < 9; ++k) {
+            out.data[k] = data[k] - m.data[k];
+        }
+    }
+
+    /** Multiply the instance by a scalar.
+     * @param d scalar factor
+     * @return this &times; d
+     */
+    @Override
+    public Matrix3 scalarMultiply(final double d) {
+        final Matrix3 out = new Matrix3();
+        scalarMultiply(d, out);
+        return out;
+    }
+
+    /** Multiply the instance by a scalar into a destination matrix.
+     * @param d scalar factor
+     * @param out destination matrix, where this &times; d is stored
+     * (may be the instance itself)
+     */
+    @Override
+    public void scalarMultiply(final double d, final Matrix3 out) {
+        for (int k = 0; k < 9; ++k) {
+            out.data[k] = data[k] * d;
+        }
+    }
+
+    /** Compute the product of the instance by another matrix.
+     * @param m other matrix
+     * @return this &times; m
+     */
+    @Override
+    public Matrix3 multiply(final Matrix3 m) {
+        final Matrix3 out = new Matrix3();
+        multiply(m, out);
+        return out;
+    }
+
+    /** Compute the product of the instance by another matrix into a destination matrix.
+     * @param m other matrix
+     * @param out destination matrix, where this &times; m is stored
+     * (may be the instance itself or {@code m})
+     */
+    @Override
+    public void multiply(final Matrix3 m, final Matrix3 out) {
+        final double[] a = data;
+        final double[] b = m.data;
+        final double c00 = a[0] * b[0] + a[1] * b[3] + a[2] * b[6];
+        final double c01 = a[0] * b[1] + a[1] * b[4] + a[2] * b[7];
+        final double c02 = a[0] * b[2] + a[1] * b[5] + a[2] * b[8];
+        final double c10 = a[3] * b[0] + a[4] * b[3] + a[5] * b[6];
+        final double c11 = a[3] * b[1] + a[4] * b[4] + a[5] * b[7];
+        final double c12 = a[3] * b[2] + a[4] * b[5] + a[5] * b[8];
+        final double c20 = a[6] * b[0] + a[7] * b[3] + a[8] * b[6];
+        final double c21 = a[6] * b[1] + a[7] * b[4] + a[8] * b[7];
+        final double c22 = a[6] * b[2] + a[7] * b[5] + a[8] * b[8];
+        final double[] c = out.data;
+        c[0] = c00;
+        c[1] = c01;
+        c[2] = c02;
+        c[3] = c10;
+        c[4] = c11;
+        c[5] = c12;
+        c[6] = c20;
+        c[7] = c21;
+        c[8] = c22;
+    }
+
+    /** Compute the product of the instance by the transpose of another matrix.
+     * @param m other matrix
+     * @return this &times; m<sup>T</sup>
+     */
+    @Override
+    public Matrix3 multiplyTransposed(final Matrix3 m) {
+        final Matrix3 out = new Matrix3();
+        multiplyTransposed(m, out);
+        return out;
+    }
+
+    /** Compute the product of the instance by the transpose of another matrix into a destination matrix.
+     * @param m other matrix
+     * @param out destination matrix, where this &times; m<sup>T</sup> is stored
+     * (may be the instance itself or {@code m})
+     */
+    @Override
+    public void multiplyTransposed(final Matrix3 m, final Matrix3 out) {
+        final double[] a = data;
+        final double[] b = m.data;
+        final double c00 = a[0] * b[0] + a[1] * b[1] + a[2] * b[2];
+        final double c01 = a[0] * b[3] + a[1] * b[4] + a[2] * b[5];
+        final double c02 = a[0] * b[6] + a[1] * b[7] + a[2] * b[8];
+        final double c10 = a[3] * b[0] + a[4] * b[1] + a[5] * b[2];
+        final double c11 = a[3] * b[3] + a[4] * b[4] + a[5] * b[5];
+        final double c12 = a[3] * b[6] + a[4] * b[7] + a[5] * b[8];
+        final double c20 = a[6] * b[0] + a[7] * b[1] + a[8] * b[2];
+        final double c21 = a[6] * b[3] + a[7] * b[4] + a[8] * b[5];
+        final double c22 = a[6] * b[6] + a[7] * b[7] + a[8] * b[8];
+        final double[] c = out.data;
+        c[0] = c00;
+        c[1] = c01;
+        c[2] = c02;
+        c[3] = c10;
+        c[4] = c11;
+        c[5] = c12;
+        c[6] = c20;
+        c[7] = c21;
+        c[8] = c22;
+    }
+
+    /** Compute the product of the transpose of the instance by another matrix.
+     * @param m other matrix
+     * @return this<sup>T</sup> &times; m
+     */
+    @Override
+    public Matrix3 transposeMultiply(final Matrix3 m) {
+        final Matrix3 out = new Matrix3();
+        transposeMultiply(m, out);
+        return out;
+    }
+
+    /** Compute the product of the transpose of the instance by another matrix into a destination matrix.
+     * @param m other matrix
+     * @param out destination matrix, where this<sup>T</sup> &times; m is stored
+     * (may be the instance itself or {@code m})
+     */
+    @Override
+    public void transposeMultiply(final Matrix3 m, final Matrix3 out) {
+        final double[] a = data;
+        final double[] b = m.data;
+        final double c00 = a[0] * b[0] + a[3] * b[3] + a[6] * b[6];
+        final double c01 = a[0] * b[1] + a[3] * b[4] + a[6] * b[7];
+        final double c02 = a[0] * b[2] + a[3] * b[5] + a[6] * b[8];
+        final double c10 = a[1] * b[0] + a[4] * b[3] + a[7] * b[6];
+        final double c11 = a[1] * b[1] + a[4] * b[4] + a[7] * b[7];
+        final double c12 = a[1] * b[2] + a[4] * b[5] + a[7] * b[8];
+        final double c20 = a[2] * b[0] + a[5] * b[3] + a[8] * b[6];
+        final double c21 = a[2] * b[1] + a[5] * b[4] + a[8] * b[7];
+        final double c22 = a[2] * b[2] + a[5] * b[5] + a[8] * b[8];
+        final double[] c = out.data;
+        c[0] = c00;
+        c[1] = c01;
+        c[2] = c02;
+        c[3] = c10;
+        c[4] = c11;
+        c[5] = c12;
+        c[6] = c20;
+        c[7] = c21;
+        c[8] = c22;
+    }
+
+    /** Compute the transpose of the instance.
+     * @return transpose of the instance
+     */
+    @Override
+    public Matrix3 transpose() {
+        final Matrix3 out = new Matrix3();
+        transpose(out);
+        return out;
+    }
+
+    /** Compute the transpose of the instance into a destination matrix.
+     * @param out destination matrix, where the transpose is stored
+     * (may be the instance itself)
+     */
+    @Override
+    public void transpose(final Matrix3 out) {
+        final double[] a = data;
+        final double[] c = out.data;
+        c[0] = a[0];
+        c[4] = a[4];
+        c[8] = a[8];
+        final double a01 = a[1];
+        c[1] = a[3];
+        c[3] = a01;
+        final double a02 = a[2];
+        c[2] = a[6];
+        c[6] = a02;
+        final double a12 = a[5];
+        c[5] = a[7];
+        c[7] = a12;
+    }
+
+    /** Multiply the instance by a vector.
+     * @param v vector to multiply by
+     * @return this &times; v
+     * @throws MathIllegalArgumentException if the vector dimension is not 3
+     */
+    @Override
+    public double[] operate(final double[] v) throws MathIllegalArgumentException {
+        final double[] out = new double[3];
+        operate(v, out);
+        return out;
+    }
+
+    /** Multiply the instance by a vector into a destination array.
+     * @param v vector to multiply by
+     * @param out destination array, where this &times; v is stored (may be {@code v})
+     * @throws MathIllegalArgumentException if a vector dimension is not 3
+     */
+    @Override
+    public void operate(final double[] v, final double[] out) throws MathIllegalArgumentException {
+        SmallMatrices.checkVector(v, 3);
+        SmallMatrices.checkVector(out, 3);
+        final double[] a = data;
+        final double y0 = a[0] * v[0] + a[1] * v[1] + a[2] * v[2];
+        final double y1 = a[3] * v[0] + a[4] * v[1] + a[5] * v[2];
+        final double y2 = a[6] * v[0] + a[7] * v[1] + a[8] * v[2];
+        out[0] = y0;
+        out[1] = y1;
+        out[2] = y2;
+    }
+
+    /** Get the trace of the matrix.
+     * @return sum of the diagonal elements
+     */
+    @Override
+    public double getTrace() {
+        return data[0] + data[4] + data[8];
+    }
+
+    /** Compute the determinant of the matrix.
+     * @return determinant of the matrix
+     */
+    @Override
+    public double getDeterminant() {
+        final double[] a = data;
+        final double m01_01 = a[0] * a[4] - a[1] * a[3];
+        final double m01_02 = a[0] * a[5] - a[2] * a[3];
+        final double m01_12 = a[1] * a[5] - a[2] * a[4];
+        return m01_01 * a[8]
+               - m01_02 * a[7]
+               + m01_12 * a[6];
+    }
+
+    /** Compute the inverse of the matrix.
+     * @return inverse of the matrix
+     * @throws MathIllegalArgumentException if the matrix is singular
+     */
+    @Override
+    public Matrix3 inverse() throws MathIllegalArgumentException {
+        final Matrix3 out = new Matrix3();
+        inverse(out);
+        return out;
+    }
+
+    /** Compute the inverse of the matrix into a destination matrix.
+     * @param out destination matrix, where the inverse is stored (may be the instance itself)
+     * @throws MathIllegalArgumentException if the matrix is singular
+     */
+    @Override
+    public void inverse(final Matrix3 out) throws MathIllegalArgumentException {
+        final double[] a = data;
+        final double c00 = a[4] * a[8] - a[5] * a[7];
+        final double c01 = a[5] * a[6] - a[3] * a[8];
+        final double c02 = a[3] * a[7] - a[4] * a[6];
+        final double c10 = a[2] * a[7] - a[1] * a[8];
+        final double c11 = a[0] * a[8] - a[2] * a[6];
+        final double c12 = a[1] * a[6] - a[0] * a[7];
+        final double c20 = a[1] * a[5] - a[2] * a[4];
+        final double c21 = a[2] * a[3] - a[0] * a[5];
+        final double c22 = a[0] * a[4] - a[1] * a[3];
+        final double inv = 1.0 / SmallMatrices.checkNonSingular(a[0] * c00 + a[1] * c01 + a[2] * c02);
+        final double[] c = out.data;
+        c[0] = c00 * inv;
+        c[1] = c10 * inv;
+        c[2] = c20 * inv;
+        c[3] = c01 * inv;
+        c[4] = c11 * inv;
+        c[5] = c21 * inv;
+        c[6] = c02 * inv;
+        c[7] = c12 * inv;
+        c[8] = c22 * inv;
+    }
+
+    /** Compute the Cholesky decomposition of the matrix.
+     * <p>
+     * Only the lower triangular part of the instance is used, symmetry is not checked.
+     * </p>
+     * @return lower triangular matrix L such that this = L &times; L<sup>T</sup>
+     * @throws MathIllegalArgumentException if the matrix is not positive definite
+     * @see CholeskyDecomposition
+     */
+    @Override
+    public Matrix3 cholesky() throws MathIllegalArgumentException {
+        final Matrix3 out = new Matrix3();
+        cholesky(out);
+        return out;
+    }
+
+    /** Compute the Cholesky decomposition of the matrix into a destination matrix.
+     * <p>
+     * Only the lower triangular part of the instance is used, symmetry is not checked.
+     * Diagonal elements smaller than {@link
+     * CholeskyDecomposition#DEFAULT_ABSOLUTE_POSITIVITY_THRESHOLD} are considered null.
+     * </p>
+     * @param out destination matrix, where the lower triangular matrix L such that
+     * this = L &times; L<sup>T</sup> is stored (may be the instance itself)
+     * @throws MathIllegalArgumentException if the matrix is not positive definite
+     * @see CholeskyDecomposition
+     */
+    @Override
+    public void cholesky(final Matrix3 out) throws MathIllegalArgumentException {
+        final double threshold = CholeskyDecomposition.DEFAULT_ABSOLUTE_POSITIVITY_THRESHOLD;
+        final double[] a = data;
+        final double l00 = SmallMatrices.checkedSqrt(a[0], threshold);
+        final double i0  = 1.0 / l00;
+        final double l10 = a[3] * i0;
+        final double l20 = a[6] * i0;
+        final double l11 = SmallMatrices.checkedSqrt(a[4] - l10 * l10, threshold);
+        final double i1  = 1.0 / l11;
+        final double l21 = (a[7] - l20 * l10) * i1;
+        final double l22 = SmallMatrices.checkedSqrt(a[8] - l20 * l20 - l21 * l21, threshold);
+        final double[] c = out.data;
+        c[0] = l00;
+        c[1] = 0.0;
+        c[2] = 0.0;
+        c[3] = l10;
+        c[4] = l11;
+        c[5] = 0.0;
+        c[6] = l20;
+        c[7] = l21;
+        c[8] = l22;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean equals(final Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (other instanceof Matrix3) {
+            return Arrays.equals(data, ((Matrix3) other).data);
+        }
+        return false;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(data);
+    }
+
+}
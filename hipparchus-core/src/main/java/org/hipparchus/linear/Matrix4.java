@@ -0,0 +1,671 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hipparchus.linear;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+import org.hipparchus.exception.MathIllegalArgumentException;
+
+/**
+ * Fixed-size 4&times;4 real matrix.
+ * <p>
+ * This class provides the same operations as {@link Matrix3}, for 4&times;4 matrices
+ * (for example homogeneous transforms or quaternion products). The inverse is computed
+ * by Gauss-Jordan elimination with partial pivoting, directly in the destination matrix.
+ * </p>
+ * @see Matrix3
+ * @since 3.1
+ */
+public final class Matrix4 implements SmallRealMatrix<Matrix4>, Serializable {
+
+    /** Serializable version identifier. */
+    private static final long serialVersionUID = 20261017L;
+
+    /** Entries of the matrix, in row major order. */
+    private final double[] data;
+
+    /** Create a matrix with all entries set to zero.
+     */
+    public Matrix4() {
+        data = new double[16];
+    }
+
+    /** Create a matrix from a two-dimensional array.
+     * @param d entries of the matrix, as an array of rows
+     * @throws MathIllegalArgumentException if the array is not 4&times;4
+     */
+    public Matrix4(final double[][] d) throws MathIllegalArgumentException {
+        this();
+        SmallMatrices.copy(d, 4, data);
+    }
+
+    /** Create a matrix by copying a real matrix.
+     * @param m real matrix to copy
+     * @throws MathIllegalArgumentException if the matrix is not 4&times;4
+     */
+    public Matrix4(final RealMatrix m) throws MathIllegalArgumentException {
+        this();
+        SmallMatrices.copy(m, 4, data);
+    }
+
+    /** Create an identity matrix.
+     * @return identity matrix
+     */
+    public static Matrix4 identity() {
+        final Matrix4 id = new Matrix4();
+        id.data[0] = 1.0;
+        id.data[5] = 1.0;
+        id.data[10] = 1.0;
+        id.data[15] = 1.0;
+        return id;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isSquare() {
+        return true;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int getRowDimension() {
+        return 4;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int getColumnDimension() {
+        return 4;
+    }
+
+    /** Get an entry.
+     * @param row row index
+     * @param column column index
+     * @return entry at (row, column)
+     * @throws MathIllegalArgumentException if the indices are not valid
+     */
+    @Override
+    public double getEntry(final int row, final int column) throws MathIllegalArgumentException {
+        MatrixUtils.checkMatrixIndex(this, row, column);
+        return data[row * 4 + column];
+    }
+
+    /** Set an entry.
+     * @param row row index
+     * @param column column index
+     * @param value new value of the entry
+     * @throws MathIllegalArgumentException if the indices are not valid
+     */
+    @Override
+    public void setEntry(final int row, final int column, final double value) throws MathIllegalArgumentException {
+        MatrixUtils.checkMatrixIndex(this, row, column);
+        data[row * 4 + column] = value;
+    }
+
+    /** Get a reference to the underlying array.
+     * <p>
+     * Entry (i, j) is stored at index {@code 4 * i + j}.
+     * </p>
+     * @return reference to the underlying array
+     */
+    @Override
+    public double[] getDataRef() {
+        return data; // NOPMD - returning an internal array is intentional and documented here
+    }
+
+    /** Get the entries as a two-dimensional array.
+     * @return new array containing the entries, as an array of rows
+     */
+    @Override
+    public double[][] getData() {
+        return SmallMatrices.toArray(data, 4);
+    }
+
+    /** Convert the instance to a real matrix.
+     * <p>
+     * The entries are copied once into a new array of rows, which is then
+     * used without further copy by the returned {@link Array2DRowRealMatrix}.
+     * The returned matrix is therefore independent of the instance.
+     * </p>
+     * @return real matrix containing a copy of the entries
+     */
+    @Override
+    public RealMatrix toRealMatrix() {
+        return new Array2DRowRealMatrix(getData(), false);
+    }
+
+    /** Get a copy of the instance.
+     * @return copy of the instance
+     */
+    @Override
+    public Matrix4 copy() {
+        final Matrix4 copy = new Matrix4();
+        copy.set(this);
+        return copy;
+    }
+
+    /** Set all entries from another matrix.
+     * @param m matrix to copy
+     */
+    @Override
+    public void set(final Matrix4 m) {
+        System.arraycopy(m.data, 0, data, 0, 16);
+    }
+
+    /** Compute the sum of the instance and another matrix.
+     * @param m matrix to add
+     * @return this + m
+     */
+    @Override
+    public Matrix4 add(final Matrix4 m) {
+        final Matrix4 out = new Matrix4();
+        add(m, out);
+        return out;
+    }
+
+    /** Compute the sum of the instance and another matrix into a destination matrix.
+     * @param m matrix to add
+     * @param out destination matrix, where this + m is stored
+     * (may be the instance itself or {@code m})
+     */
+    @Override
+    public void add(final Matrix4 m, final Matrix4 out) {
+        for (int k = 0; k < 16; ++k) {
+            out.data[k] = data[k] + m.data[k];
+        }
+    }
+
+    /** Compute the difference of the instance and another matrix.
+     * @param m matrix to subtract
+     * @return this - m
+     */
+    @Override
+    public Matrix4 subtract(final Matrix4 m) {
+        final Matrix4 out = new Matrix4();
+        subtract(m, out);
+        return out;
+    }
+
+    /** Compute the difference of the instance and another matrix into a destination matrix.
+     * @param m matrix to subtract
+     * @param out destination matrix, where this - m is stored
+     * (may be the instance itself or {@code m})
+     */
+    @Override
+    public void subtract(final Matrix4 m, final Matrix4 out) {
+        for (int k = 0; k < 16; ++k) {
+            out.data[k] = data[k] - m.data[k];
+        }
+    }
+
+    /** Multiply the instance by a scalar.
+     * @param d scalar factor
+     * @return this &times; d
+     */
+    @Override
+    public Matrix4 scalarMultiply(final double d) {
+        final Matrix4 out = new Matrix4();
+        scalarMultiply(d, out);
+        return out;
+    }
+
+    /** Multiply the instance by a scalar into a destination matrix.
+     * @param d scalar factor
+     * @param out destination matrix, where this &times; d is stored
+     * (may be the instance itself)
+     */
+    @Override
+    public void scalarMultiply(final double d, final Matrix4 out) {
+        for (int k = 0; k < 16; ++k) {
+            out.data[k] = data[k] * d;
+        }
+    }
+
+    /** Compute the product of the instance by another matrix.
+     * @param m other matrix
+     * @return this &times; m
+     */
+    @Override
+    public Matrix4 multiply(final Matrix4 m) {
+        final Matrix4 out = new Matrix4();
+        multiply(m, out);
+        return out;
+    }
+
+    /** Compute the product of the instance by another matrix into a destination matrix.
+     * @param m other matrix
+     * @param out destination matrix, where this &times; m is stored
+     * (may be the instance itself or {@code m})
+     */
+    @Override
+    public void multiply(final Matrix4 m, final Matrix4 out) {
+        final double[] a = data;
+        final double[] b = m.data;
+        final double c00 = a[0] * b[0] + a[1] * b[4] + a[2] * b[8] +
+                           a[3] * b[12];
+        final double c01 = a[0] * b[1] + a[1] * b[5] + a[2] * b[9] +
+                           a[3] * b[13];
+        final double c02 = a[0] * b[2] + a[1] * b[6] + a[2] * b[10] +
+                           a[3] * b[14];
+        final double c03 = a[0] * b[3] + a[1] * b[7] + a[2] * b[11] +
+                           a[3] * b[15];
+        final double c10 = a[4] * b[0] + a[5] * b[4] + a[6] * b[8] +
+                           a[7] * b[12];
+        final double c11 = a[4] * b[1] + a[5] * b[5] + a[6] * b[9] +
+                           a[7] * b[13];
+        final double c12 = a[4] * b[2] + a[5] * b[6] + a[6] * b[10] +
+                           a[7] * b[14];
+        final double c13 = a[4] * b[3] + a[5] * b[7] + a[6] * b[11] +
+                           a[7] * b[15];
+        final double c20 = a[8] * b[0] + a[9] * b[4] + a[10] * b[8] +
+                           a[11] * b[12];
+        final double c21 = a[8] * b[1] + a[9] * b[5] + a[10] * b[9] +
+                           a[11] * b[13];
+        final double c22 = a[8] * b[2] + a[9] * b[6] + a[10] * b[10] +
+                           a[11] * b[14];
+        final double c23 = a[8] * b[3] + a[9] * b[7] + a[10] * b[11] +
+                           a[11] * b[15];
+        final double c30 = a[12] * b[0] + a[13] * b[4] + a[14] * b[8] +
+                           a[15] * b[12];
+        final double c31 = a[12] * b[1] + a[13] * b[5] + a[14] * b[9] +
+                           a[15] * b[13];
+        final double c32 = a[12] * b[2] + a[13] * b[6] + a[14] * b[10] +
+                           a[15] * b[14];
+        final double c33 = a[12] * b[3] + a[13] * b[7] + a[14] * b[11] +
+                           a[15] * b[15];
+        final double[] c = out.data;
+        c[0] = c00;
+        c[1] = c01;
+        c[2] = c02;
+        c[3] = c03;
+        c[4] = c10;
+        c[5] = c11;
+        c[6] = c12;
+        c[7] = c13;
+        c[8] = c20;
+        c[9] = c21;
+        c[10] = c22;
+        c[11] = c23;
+        c[12] = c30;
+        c[13] = c31;
+        c[14] = c32;
+        c[15] = c33;
+    }
+
+    /** Compute the product of the instance by the transpose of another matrix.
+     * @param m other matrix
+     * @return this &times; m<sup>T</sup>
+     */
+    @Override
+    public Matrix4 multiplyTransposed(final Matrix4 m) {
+        final Matrix4 out = new Matrix4();
+        multiplyTransposed(m, out);
+        return out;
+    }
+
+    /** Compute the product of the instance by the transpose of another matrix into a destination matrix.
+     * @param m other matrix
+     * @param out destination matrix, where this &times; m<sup>T</sup> is stored
+     * (may be the instance itself or {@code m})
+     */
+    @Override
+    public void multiplyTransposed(final Matrix4 m, final Matrix4 out) {
+        final double[] a = data;
+        final double[] b = m.data;
+        final double c00 = a[0] * b[0] + a[1] * b[1] + a[2] * b[2] +
+                           a[3] * b[3];
+        final double c01 = a[0] * b[4] + a[1] * b[5] + a[2] * b[6] +
+                           a[3] * b[7];
+        final double c02 = a[0] * b[8] + a[1] * b[9] + a[2] * b[10] +
+                           a[3] * b[11];
+        final double c03 = a[0] * b[12] + a[1] * b[13] + a[2] * b[14] +
+                           a[3] * b[15];
+        final double c10 = a[4] * b[0] + a[5] * b[1] + a[6] * b[2] +
+                           a[7] * b[3];
+        final double c11 = a[4] * b[4] + a[5] * b[5] + a[6] * b[6] +
+                           a[7] * b[7];
+        final double c12 = a[4] * b[8] + a[5] * b[9] + a[6] * b[10] +
+                           a[7] * b[11];
+        final double c13 = a[4] * b[12] + a[5] * b[13] + a[6] * b[14] +
+                           a[7] * b[15];
+        final double c20 = a[8] * b[0] + a[9] * b[1] + a[10] * b[2] +
+                           a[11] * b[3];
+        final double c21 = a[8] * b[4] + a[9] * b[5] + a[10] * b[6] +
+                           a[11] * b[7];
+        final double c22 = a[8] * b[8] + a[9] * b[9] + a[10] * b[10] +
+                           a[11] * b[11];
+        final double c23 = a[8] * b[12] + a[9] * b[13] + a[10] * b[14] +
+                           a[11] * b[15];
+        final double c30 = a[12] * b[0] + a[13] * b[1] + a[14] * b[2] +
+                           a[15] * b[3];
+        final double c31 = a[12] * b[4] + a[13] * b[5] + a[14] * b[6] +
+                           a[15] * b[7];
+        final double c32 = a[12] * b[8] + a[13] * b[9] + a[14] * b[10] +
+                           a[15] * b[11];
+        final double c33 = a[12] * b[12] + a[13] * b[13] + a[14] * b[14] +
+                           a[15] * b[15];
+        final double[] c = out.data;
+        c[0] = c00;
+        c[1] = c01;
+        c[2] = c02;
+        c[3] = c03;
+        c[4] = c10;
+        c[5] = c11;
+        c[6] = c12;
+        c[7] = c13;
+        c[8] = c20;
+        c[9] = c21;
+        c[10] = c22;
+        c[11] = c23;
+        c[12] = c30;
+        c[13] = c31;
+        c[14] = c32;
+        c[15] = c33;
+    }
+
+    /** Compute the product of the transpose of the instance by another matrix.
+     * @param m other matrix
+     * @return this<sup>T</sup> &times; m
+     */
+    @Override
+    public Matrix4 transposeMultiply(final Matrix4 m) {
+        final Matrix4 out = new Matrix4();
+        transposeMultiply(m, out);
+        return out;
+    }
+
+    /** Compute the product of the transpose of the instance by another matrix into a destination matrix.
+     * @param m other matrix
+     * @param out destination matrix, where this<sup>T</sup> &times; m is stored
+     * (may be the instance itself or {@code m})
+     */
+    @Override
+    public void transposeMultiply(final Matrix4 m, final Matrix4 out) {
+        final double[] a = data;
+        final double[] b = m.data;
+        final double c00 = a[0] * b[0] + a[4] * b[4] + a[8] * b[8] +
+                           a[12] * b[12];
+        final double c01 = a[0] * b[1] + a[4] * b[5] + a[8] * b[9] +
+                           a[12] * b[13];
+        final double c02 = a[0] * b[2] + a[4] * b[6] + a[8] * b[10] +
+                           a[12] * b[14];
+        final double c03 = a[0] * b[3] + a[4] * b[7] + a[8] * b[11] +
+                           a[12] * b[15];
+        final double c10 = a[1] * b[0] + a[5] * b[4] + a[9] * b[8] +
+                           a[13] * b[12];
+        final double c11 = a[1] * b[1] + a[5] * b[5] + a[9] * b[9] +
+                           a[13] * b[13];
+        final double c12 = a[1] * b[2] + a[5] * b[6] + a[9] * b[10] +
+                           a[13] * b[14];
+        final double c13 = a[1] * b[3] + a[5] * b[7] + a[9] * b[11] +
+                           a[13] * b[15];
+        final double c20 = a[2] * b[0] + a[6] * b[4] + a[10] * b[8] +
+                           a[14] * b[12];
+        final double c21 = a[2] * b[1] + a[6] * b[5] + a[10] * b[9] +
+                           a[14] * b[13];
+        final double c22 = a[2] * b[2] + a[6] * b[6] + a[10] * b[10] +
+                           a[14] * b[14];
+        final double c23 = a[2] * b[3] + a[6] * b[7] + a[10] * b[11] +
+                           a[14] * b[15];
+        final double c30 = a[3] * b[0] + a[7] * b[4] + a[11] * b[8] +
+                           a[15] * b[12];
+        final double c31 = a[3] * b[1] + a[7] * b[5] + a[11] * b[9] +
+                           a[15] * b[13];
+        final double c32 = a[3] * b[2] + a[7] * b[6] + a[11] * b[10] +
+                           a[15] * b[14];
+        final double c33 = a[3] * b[3] + a[7] * b[7] + a[11] * b[11] +
+                           a[15] * b[15];
+        final double[] c = out.data;
+        c[0] = c00;
+        c[1] = c01;
+        c[2] = c02;
+        c[3] = c03;
+        c[4] = c10;
+        c[5] = c11;
+        c[6] = c12;
+        c[7] = c13;
+        c[8] = c20;
+        c[9] = c21;
+        c[10] = c22;
+        c[11] = c23;
+        c[12] = c30;
+        c[13] = c31;
+        c[14] = c32;
+        c[15] = c33;
+    }
+
+    /** Compute the transpose of the instance.
+     * @return transpose of the instance
+     */
+    @Override
+    public Matrix4 transpose() {
+        final Matrix4 out = new Matrix4();
+        transpose(out);
+        return out;
+    }
+
+    /** Compute the transpose of the instance into a destination matrix.
+     * @param out destination matrix, where the transpose is stored
+     * (may be the instance itself)
+     */
+    @Override
+    public void transpose(final Matrix4 out) {
+        final double[] a = data;
+        final double[] c = out.data;
+        c[0] = a[0];
+        c[5] = a[5];
+        c[10] = a[10];
+        c[15] = a[15];
+        final double a01 = a[1];
+        c[1] = a[4];
+        c[4] = a01;
+        final double a02 = a[2];
+        c[2] = a[8];
+        c[8] = a02;
+        final double a03 = a[3];
+        c[3] = a[12];
+        c[12] = a03;
+        final double a12 = a[6];
+        c[6] = a[9];
+        c[9] = a12;
+        final double a13 = a[7];
+        c[7] = a[13];
+        c[13] = a13;
+        final double a23 = a[11];
+        c[11] = a[14];
+        c[14] = a23;
+    }
+
+    /** Multiply the instance by a vector.
+     * @param v vector to multiply by
+     * @return this &times; v
+     * @throws MathIllegalArgumentException if the vector dimension is not 4
+     */
+    @Override
+    public double[] operate(final double[] v) throws MathIllegalArgumentException {
+        final double[] out = new double[4];
+        operate(v, out);
+        return out;
+    }
+
+    /** Multiply the instance by a vector into a destination array.
+     * @param v vector to multiply by
+     * @param out destination array, where this &times; v is stored (may be {@code v})
+     * @throws MathIllegalArgumentException if a vector dimension is not 4
+     */
+    @Override
+    public void operate(final double[] v, final double[] out) throws MathIllegalArgumentException {
+        SmallMatrices.checkVector(v, 4);
+        SmallMatrices.checkVector(out, 4);
+        final double[] a = data;
+        final double y0 = a[0] * v[0] + a[1] * v[1] + a[2] * v[2] +
+                          a[3] * v[3];
+        final double y1 = a[4] * v[0] + a[5] * v[1] + a[6] * v[2] +
+                          a[7] * v[3];
+        final double y2 = a[8] * v[0] + a[9] * v[1] + a[10] * v[2] +
+                          a[11] * v[3];
+        final double y3 = a[12] * v[0] + a[13] * v[1] + a[14] * v[2] +
+                          a[15] * v[3];
+        out[0] = y0;
+        out[1] = y1;
+        out[2] = y2;
+        out[3] = y3;
+    }
+
+    /** Get the trace of the matrix.
+     * @return sum of the diagonal elements
+     */
+    @Override
+    public double getTrace() {
+        return data[0] + data[5] + data[10] + data[15];
+    }
+
+    /** Compute the determinant of the matrix.
+     * @return determinant of the matrix
+     */
+    @Override
+    public double getDeterminant() {
+        final double[] a = data;
+        final double m01_01 = a[0] * a[5] - a[1] * a[4];
+        final double m01_02 = a[0] * a[6] - a[2] * a[4];
+        final double m01_03 = a[0] * a[7] - a[3] * a[4];
+        final double m01_12 = a[1] * a[6] - a[2] * a[5];
+        final double m01_13 = a[1] * a[7] - a[3] * a[5];
+        final double m01_23 = a[2] * a[7] - a[3] * a[6];
+        final double m23_01 = a[8] * a[13] - a[9] * a[12];
+        final double m23_02 = a[8] * a[14] - a[10] * a[12];
+        final double m23_03 = a[8] * a[15] - a[11] * a[12];
+        final double m23_12 = a[9] * a[14] - a[10] * a[13];
+        final double m23_13 = a[9] * a[15] - a[11] * a[13];
+        final double m23_23 = a[10] * a[15] - a[11] * a[14];
+        return m01_01 * m23_23
+               - m01_02 * m23_13
+               + m01_03 * m23_12
+               + m01_12 * m23_03
+               - m01_13 * m23_02
+               + m01_23 * m23_01;
+    }
+
+    /** Compute the inverse of the matrix.
+     * @return inverse of the matrix
+     * @throws MathIllegalArgumentException if the matrix is singular
+     */
+    @Override
+    public Matrix4 inverse() throws MathIllegalArgumentException {
+        final Matrix4 out = new Matrix4();
+        inverse(out);
+        return out;
+    }
+
+    /** Compute the inverse of the matrix into a destination matrix.
+     * <p>
+     * If the matrix is singular, the content of {@code out} is undefined
+     * after the exception has been thrown.
+     * </p>
+     * @param out destination matrix, where the inverse is stored (may be the instance itself)
+     * @throws MathIllegalArgumentException if the matrix is singular
+     */
+    @Override
+    public void inverse(final Matrix4 out) throws MathIllegalArgumentException {
+        if (out != this) {
+            out.set(this);
+        }
+        SmallMatrices.invertInPlace(out.data, 4);
+    }
+
+    /** Compute the Cholesky decomposition of the matrix.
+     * <p>
+     * Only the lower triangular part of the instance is used, symmetry is not checked.
+     * </p>
+     * @return lower triangular matrix L such that this = L &times; L<sup>T</sup>
+     * @throws MathIllegalArgumentException if the matrix is not positive definite
+     * @see CholeskyDecomposition
+     */
+    @Override
+    public Matrix4 cholesky() throws MathIllegalArgumentException {
+        final Matrix4 out = new Matrix4();
+        cholesky(out);
+        return out;
+    }
+
+    /** Compute the Cholesky decomposition of the matrix into a destination matrix.
+     * <p>
+     * Only the lower triangular part of the instance is used, symmetry is not checked.
+     * Diagonal elements smaller than {@link
+     * CholeskyDecomposition#DEFAULT_ABSOLUTE_POSITIVITY_THRESHOLD} are considered null.
+     * </p>
+     * @param out destination matrix, where the lower triangular matrix L such that
+     * this = L &times; L<sup>T</sup> is stored (may be the instance itself)
+     * @throws MathIllegalArgumentException if the matrix is not positive definite
+     * @see CholeskyDecomposition
+     */
+    @Override
+    public void cholesky(final Matrix4 out) throws MathIllegalArgumentException {
+        final double threshold = CholeskyDecomposition.DEFAULT_ABSOLUTE_POSITIVITY_THRESHOLD;
+        final double[] a = data;
+        final double l00 = SmallMatrices.checkedSqrt(a[0], threshold);
+        final double i0  = 1.0 / l00;
+        final double l10 = a[4] * i0;
+        final double l20 = a[8] * i0;
+        final double l30 = a[12] * i0;
+        final double l11 = SmallMatrices.checkedSqrt(a[5] - l10 * l10, threshold);
+        final double i1  = 1.0 / l11;
+        final double l21 = (a[9] - l20 * l10) * i1;
+        final double l31 = (a[13] - l30 * l10) * i1;
+        final double l22 = SmallMatrices.checkedSqrt(a[10] - l20 * l20 - l21 * l21, threshold);
+        final double i2  = 1.0 / l22;
+        final double l32 = (a[14] - l30 * l20 - l31 * l21) * i2;
+        final double l33 = SmallMatrices.checkedSqrt(a[15] - l30 * l30 - l31 * l31 - l32 * l32, threshold);
+        final double[] c = out.data;
+        c[0] = l00;
+        c[1] = 0.0;
+        c[2] = 0.0;
+        c[3] = 0.0;
+        c[4] = l10;
+        c[5] = l11;
+        c[6] = 0.0;
+        c[7] = 0.0;
+        c[8] = l20;
+        c[9] = l21;
+        c[10] = l22;
+        c[11] = 0.0;
+        c[12] = l30;
+        c[13] = l31;
+        c[14] = l32;
+        c[15] = l33;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean equals(final Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (other instanceof Matrix4) {
+            return Arrays.equals(data, ((Matrix4) other).data);
+        }
+        return false;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(data);
+    }
+
+}
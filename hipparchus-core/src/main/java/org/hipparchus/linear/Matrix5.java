@@ -0,0 +1,796 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hipparchus.linear;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+import org.hipparchus.exception.MathIllegalArgumentException;
+
+/**
+ * Fixed-size 5&times;5 real matrix.
+ * <p>
+ * This class provides the same operations as {@link Matrix3}, for 5&times;5 matrices.
+ * The inverse is computed by Gauss-Jordan elimination with partial pivoting,
+ * directly in the destination matrix.
+ * </p>
+ * @see Matrix3
+ * @since 3.1
+ */
+public final class Matrix5 implements SmallRealMatrix<Matrix5>, Serializable {
+
+    /** Serializable version identifier. */
+    private static final long serialVersionUID = 20261017L;
+
+    /** Entries of the matrix, in row major order. */
+    private final double[] data;
+
+    /** Create a matrix with all entries set to zero.
+     */
+    public Matrix5() {
+        data = new double[25];
+    }
+
+    /** Create a matrix from a two-dimensional array.
+     * @param d entries of the matrix, as an array of rows
+     * @throws MathIllegalArgumentException if the array is not 5&times;5
+     */
+    public Matrix5(final double[][] d) throws MathIllegalArgumentException {
+        this();
+        SmallMatrices.copy(d, 5, data);
+    }
+
+    /** Create a matrix by copying a real matrix.
+     * @param m real matrix to copy
+     * @throws MathIllegalArgumentException if the matrix is not 5&times;5
+     */
+    public Matrix5(final RealMatrix m) throws MathIllegalArgumentException {
+        this();
+        SmallMatrices.copy(m, 5, data);
+    }
+
+    /** Create an identity matrix.
+     * @return identity matrix
+     */
+    public static Matrix5 identity() {
+        final Matrix5 id = new Matrix5();
+        id.data[0] = 1.0;
+        id.data[6] = 1.0;
+        id.data[12] = 1.0;
+        id.data[18] = 1.0;
+        id.data[24] = 1.0;
+        return id;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isSquare() {
+        return true;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int getRowDimension() {
+        return 5;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int getColumnDimension() {
+        return 5;
+    }
+
+    /** Get an entry.
+     * @param row row index
+     * @param column column index
+     * @return entry at (row, column)
+     * @throws MathIllegalArgumentException if the indices are not valid
+     */
+    @Override
+    public double getEntry(final int row, final int column) throws MathIllegalArgumentException {
+        MatrixUtils.checkMatrixIndex(this, row, column);
+        return data[row * 5 + column];
+    }
+
+    /** Set an entry.
+     * @param row row index
+     * @param column column index
+     * @param value new value of the entry
+     * @throws MathIllegalArgumentException if the indices are not valid
+     */
+    @Override
+    public void setEntry(final int row, final int column, final double value) throws MathIllegalArgumentException {
+        MatrixUtils.checkMatrixIndex(this, row, column);
+        data[row * 5 + column] = value;
+    }
+
+    /** Get a reference to the underlying array.
+     * <p>
+     * Entry (i, j) is stored at index {@code 5 * i + j}.
+     * </p>
+     * @return reference to the underlying array
+     */
+    @Override
+    public double[] getDataRef() {
+        return data; // NOPMD - returning an internal array is intentional and documented here
+    }
+
+    /** Get the entries as a two-dimensional array.
+     * @return new array containing the entries, as an array of rows
+     */
+    @Override
+    public double[][] getData() {
+        return SmallMatrices.toArray(data, 5);
+    }
+
+    /** Convert the instance to a real matrix.
+     * <p>
+     * The entries are copied once into a new array of rows, which is then
+     * used without further copy by the returned {@link Array2DRowRealMatrix}.
+     * The returned matrix is therefore independent of the instance.
+     * </p>
+     * @return real matrix containing a copy of the entries
+     */
+    @Override
+    public RealMatrix toRealMatrix() {
+        return new Array2DRowRealMatrix(getData(), false);
+    }
+
+    /** Get a copy of the instance.
+     * @return copy of the instance
+     */
+    @Override
+    public Matrix5 copy() {
+        final Matrix5 copy = new Matrix5();
+        copy.set(this);
+        return copy;
+    }
+
+    /** Set all entries from another matrix.
+     * @param m matrix to copy
+     */
+    @Override
+    public void set(final Matrix5 m) {
+        System.arraycopy(m.data, 0, data, 0, 25);
+    }
+
+    /** Compute the sum of the instance and another matrix.
+     * @param m matrix to add
+     * @return this + m
+     */
+    @Override
+    public Matrix5 add(final Matrix5 m) {
+        final Matrix5 out = new Matrix5();
+        add(m, out);
+        return out;
+    }
+
+    /** Compute the sum of the instance and another matrix into a destination matrix.
+     * @param m matrix to add
+     * @param out destination matrix, where this + m is stored
+     * (may be the instance itself or {@code m})
+     */
+    @Override
+    public void add(final Matrix5 m, final Matrix5 out) {
+        for (int k = 0; k < 25; ++k) {
+            out.data[k] = data[k] + m.data[k];
+        }
+    }
+
+    /** Compute the difference of the instance and another matrix.
+     * @param m matrix to subtract
+     * @return this - m
+     */
+    @Override
+    public Matrix5 subtract(final Matrix5 m) {
+        final Matrix5 out = new Matrix5();
+        subtract(m, out);
+        return out;
+    }
+
+    /** Compute the difference of the instance and another matrix into a destination matrix.
+     * @param m matrix to subtract
+     * @param out destination matrix, where this - m is stored
+     * (may be the instance itself or {@code m})
+     */
+    @Override
+    public void subtract(final Matrix5 m, final Matrix5 out) {
+        for (int k = 0; k < 25; ++k) {
+            out.data[k] = data[k] - m.data[k];
+        }
+    }
+
+    /** Multiply the instance by a scalar.
+     * @param d scalar factor
+     * @return this &times; d
+     */
+    @Override
+    public Matrix5 scalarMultiply(final double d) {
+        final Matrix5 out = new Matrix5();
+        scalarMultiply(d, out);
+        return out;
+    }
+
+    /** Multiply the instance by a scalar into a destination matrix.
+     * @param d scalar factor
+     * @param out destination matrix, where this &times; d is stored
+     * (may be the instance itself)
+     */
+    @Override
+    public void scalarMultiply(final double d, final Matrix5 out) {
+        for (int k = 0; k < 25; ++k) {
+            out.data[k] = data[k] * d;
+        }
+    }
+
+    /** Compute the product of the instance by another matrix.
+     * @param m other matrix
+     * @return this &times; m
+     */
+    @Override
+    public Matrix5 multiply(final Matrix5 m) {
+        final Matrix5 out = new Matrix5();
+        multiply(m, out);
+        return out;
+    }
+
+    /** Compute the product of the instance by another matrix into a destination matrix.
+     * @param m other matrix
+     * @param out destination matrix, where this &times; m is stored
+     * (may be the instance itself or {@code m})
+     */
+    @Override
+    public void multiply(final Matrix5 m, final Matrix5 out) {
+        final double[] a = data;
+        final double[] b = m.data;
+        final double c00 = a[0] * b[0] + a[1] * b[5] + a[2] * b[10] +
+                           a[3] * b[15] + a[4] * b[20];
+        final double c01 = a[0] * b[1] + a[1] * b[6] + a[2] * b[11] +
+                           a[3] * b[16] + a[4] * b[21];
+        final double c02 = a[0] * b[2] + a[1] * b[7] + a[2] * b[12] +
+                           a[3] * b[17] + a[4] * b[22];
+        final double c03 = a[0] * b[3] + a[1] * b[8] + a[2] * b[13] +
+                           a[3] * b[18] + a[4] * b[23];
+        final double c04 = a[0] * b[4] + a[1] * b[9] + a[2] * b[14] +
+                           a[3] * b[19] + a[4] * b[24];
+        final double c10 = a[5] * b[0] + a[6] * b[5] + a[7] * b[10] +
+                           a[8] * b[15] + a[9] * b[20];
+        final double c11 = a[5] * b[1] + a[6] * b[6] + a[7] * b[11] +
+                           a[8] * b[16] + a[9] * b[21];
+        final double c12 = a[5] * b[2] + a[6] * b[7] + a[7] * b[12] +
+                           a[8] * b[17] + a[9] * b[22];
+        final double c13 = a[5] * b[3] + a[6] * b[8] + a[7] * b[13] +
+                           a[8] * b[18] + a[9] * b[23];
+        final double c14 = a[5] * b[4] + a[6] * b[9] + a[7] * b[14] +
+                           a[8] * b[19] + a[9] * b[24];
+        final double c20 = a[10] * b[0] + a[11] * b[5] + a[12] * b[10] +
+                           a[13] * b[15] + a[14] * b[20];
+        final double c21 = a[10] * b[1] + a[11] * b[6] + a[12] * b[11] +
+                           a[13] * b[16] + a[14] * b[21];
+        final double c22 = a[10] * b[2] + a[11] * b[7] + a[12] * b[12] +
+                           a[13] * b[17] + a[14] * b[22];
+        final double c23 = a[10] * b[3] + a[11] * b[8] + a[12] * b[13] +
+                           a[13] * b[18] + a[14] * b[23];
+        final double c24 = a[10] * b[4] + a[11] * b[9] + a[12] * b[14] +
+                           a[13] * b[19] + a[14] * b[24];
+        final double c30 = a[15] * b[0] + a[16] * b[5] + a[17] * b[10] +
+                           a[18] * b[15] + a[19] * b[20];
+        final double c31 = a[15] * b[1] + a[16] * b[6] + a[17] * b[11] +
+                           a[18] * b[16] + a[19] * b[21];
+        final double c32 = a[15] * b[2] + a[16] * b[7] + a[17] * b[12] +
+                           a[18] * b[17] + a[19] * b[22];
+        final double c33 = a[15] * b[3] + a[16] * b[8] + a[17] * b[13] +
+                           a[18] * b[18] + a[19] * b[23];
+        final double c34 = a[15] * b[4] + a[16] * b[9] + a[17] * b[14] +
+                           a[18] * b[19] + a[19] * b[24];
+        final double c40 = a[20] * b[0] + a[21] * b[5] + a[22] * b[10] +
+                           a[23] * b[15] + a[24] * b[20];
+        final double c41 = a[20] * b[1] + a[21] * b[6] + a[22] * b[11] +
+                           a[23] * b[16] + a[24] * b[21];
+        final double c42 = a[20] * b[2] + a[21] * b[7] + a[22] * b[12] +
+                           a[23] * b[17] + a[24] * b[22];
+        final double c43 = a[20] * b[3] + a[21] * b[8] + a[22] * b[13] +
+                           a[23] * b[18] + a[24] * b[23];
+        final double c44 = a[20] * b[4] + a[21] * b[9] + a[22] * b[14] +
+                           a[23] * b[19] + a[24] * b[24];
+        final double[] c = out.data;
+        c[0] = c00;
+        c[1] = c01;
+        c[2] = c02;
+        c[3] = c03;
+        c[4] = c04;
+        c[5] = c10;
+        c[6] = c11;
+        c[7] = c12;
+        c[8] = c13;
+        c[9] = c14;
+        c[10] = c20;
+        c[11] = c21;
+        c[12] = c22;
+        c[13] = c23;
+        c[14] = c24;
+        c[15] = c30;
+        c[16] = c31;
+        c[17] = c32;
+        c[18] = c33;
+        c[19] = c34;
+        c[20] = c40;
+        c[21] = c41;
+        c[22] = c42;
+        c[23] = c43;
+        c[24] = c44;
+    }
+
+    /** Compute the product of the instance by the transpose of another matrix.
+     * @param m other matrix
+     * @return this &times; m<sup>T</sup>
+     */
+    @Override
+    public Matrix5 multiplyTransposed(final Matrix5 m) {
+        final Matrix5 out = new Matrix5();
+        multiplyTransposed(m, out);
+        return out;
+    }
+
+    /** Compute the product of the instance by the transpose of another matrix into a destination matrix.
+     * @param m other matrix
+     * @param out destination matrix, where this &times; m<sup>T</sup> is stored
+     * (may be the instance itself or {@code m})
+     */
+    @Override
+    public void multiplyTransposed(final Matrix5 m, final Matrix5 out) {
+        final double[] a = data;
+        final double[] b = m.data;
+        final double c00 = a[0] * b[0] + a[1] * b[1] + a[2] * b[2] +
+                           a[3] * b[3] + a[4] * b[4];
+        final double c01 = a[0] * b[5] + a[1] * b[6] + a[2] * b[7] +
+                           a[3] * b[8] + a[4] * b[9];
+        final double c02 = a[0] * b[10] + a[1] * b[11] + a[2] * b[12] +
+                           a[3] * b[13] + a[4] * b[14];
+        final double c03 = a[0] * b[15] + a[1] * b[16] + a[2] * b[17] +
+                           a[3] * b[18] + a[4] * b[19];
+        final double c04 = a[0] * b[20] + a[1] * b[21] + a[2] * b[22] +
+                           a[3] * b[23] + a[4] * b[24];
+        final double c10 = a[5] * b[0] + a[6] * b[1] + a[7] * b[2] +
+                           a[8] * b[3] + a[9] * b[4];
+        final double c11 = a[5] * b[5] + a[6] * b[6] + a[7] * b[7] +
+                           a[8] * b[8] + a[9] * b[9];
+        final double c12 = a[5] * b[10] + a[6] * b[11] + a[7] * b[12] +
+                           a[8] * b[13] + a[9] * b[14];
+        final double c13 = a[5] * b[15] + a[6] * b[16] + a[7] * b[17] +
+                           a[8] * b[18] + a[9] * b[19];
+        final double c14 = a[5] * b[20] + a[6] * b[21] + a[7] * b[22] +
+                           a[8] * b[23] + a[9] * b[24];
+        final double c20 = a[10] * b[0] + a[11] * b[1] + a[12] * b[2] +
+                           a[13] * b[3] + a[14] * b[4];
+        final double c21 = a[10] * b[5] + a[11] * b[6] + a[12] * b[7] +
+                           a[13] * b[8] + a[14] * b[9];
+        final double c22 = a[10] * b[10] + a[11] * b[11] + a[12] * b[12] +
+                           a[13] * b[13] + a[14] * b[14];
+        final double c23 = a[10] * b[15] + a[11] * b[16] + a[12] * b[17] +
+                           a[13] * b[18] + a[14] * b[19];
+        final double c24 = a[10] * b[20] + a[11] * b[21] + a[12] * b[22] +
+                           a[13] * b[23] + a[14] * b[24];
+        final double c30 = a[15] * b[0] + a[16] * b[1] + a[17] * b[2] +
+                           a[18] * b[3] + a[19] * b[4];
+        final double c31 = a[15] * b[5] + a[16] * b[6] + a[17] * b[7] +
+                           a[18] * b[8] + a[19] * b[9];
+        final double c32 = a[15] * b[10] + a[16] * b[11] + a[17] * b[12] +
+                           a[18] * b[13] + a[19] * b[14];
+        final double c33 = a[15] * b[15] + a[16] * b[16] + a[17] * b[17] +
+                           a[18] * b[18] + a[19] * b[19];
+        final double c34 = a[15] * b[20] + a[16] * b[21] + a[17] * b[22] +
+                           a[18] * b[23] + a[19] * b[24];
+        final double c40 = a[20] * b[0] + a[21] * b[1] + a[22] * b[2] +
+                           a[23] * b[3] + a[24] * b[4];
+        final double c41 = a[20] * b[5] + a[21] * b[6] + a[22] * b[7] +
+                           a[23] * b[8] + a[24] * b[9];
+        final double c42 = a[20] * b[10] + a[21] * b[11] + a[22] * b[12] +
+                           a[23] * b[13] + a[24] * b[14];
+        final double c43 = a[20] * b[15] + a[21] * b[16] + a[22] * b[17] +
+                           a[23] * b[18] + a[24] * b[19];
+        final double c44 = a[20] * b[20] + a[21] * b[21] + a[22] * b[22] +
+                           a[23] * b[23] + a[24] * b[24];
+        final double[] c = out.data;
+        c[0] = c00;
+        c[1] = c01;
+        c[2] = c02;
+        c[3] = c03;
+        c[4] = c04;
+        c[5] = c10;
+        c[6] = c11;
+        c[7] = c12;
+        c[8] = c13;
+        c[9] = c14;
+        c[10] = c20;
+        c[11] = c21;
+        c[12] = c22;
+        c[13] = c23;
+        c[14] = c24;
+        c[15] = c30;
+        c[16] = c31;
+        c[17] = c32;
+        c[18] = c33;
+        c[19] = c34;
+        c[20] = c40;
+        c[21] = c41;
+        c[22] = c42;
+        c[23] = c43;
+        c[24] = c44;
+    }
+
+    /** Compute the product of the transpose of the instance by another matrix.
+     * @param m other matrix
+     * @return this<sup>T</sup> &times; m
+     */
+    @Override
+    public Matrix5 transposeMultiply(final Matrix5 m) {
+        final Matrix5 out = new Matrix5();
+        transposeMultiply(m, out);
+        return out;
+    }
+
+    /** Compute the product of the transpose of the instance by another matrix into a destination matrix.
+     * @param m other matrix
+     * @param out destination matrix, where this<sup>T</sup> &times; m is stored
+     * (may be the instance itself or {@code m})
+     */
+    @Override
+    public void transposeMultiply(final Matrix5 m, final Matrix5 out) {
+        final double[] a = data;
+        final double[] b = m.data;
+        final double c00 = a[0] * b[0] + a[5] * b[5] + a[10] * b[10] +
+                           a[15] * b[15] + a[20] * b[20];
+        final double c01 = a[0] * b[1] + a[5] * b[6] + a[10] * b[11] +
+                           a[15] * b[16] + a[20] * b[21];
+        final double c02 = a[0] * b[2] + a[5] * b[7] + a[10] * b[12] +
+                           a[15] * b[17] + a[20] * b[22];
+        final double c03 = a[0] * b[3] + a[5] * b[8] + a[10] * b[13] +
+                           a[15] * b[18] + a[20] * b[23];
+        final double c04 = a[0] * b[4] + a[5] * b[9] + a[10] * b[14] +
+                           a[15] * b[19] + a[20] * b[24];
+        final double c10 = a[1] * b[0] + a[6] * b[5] + a[11] * b[10] +
+                           a[16] * b[15] + a[21] * b[20];
+        final double c11 = a[1] * b[1] + a[6] * b[6] + a[11] * b[11] +
+                           a[16] * b[16] + a[21] * b[21];
+        final double c12 = a[1] * b[2] + a[6] * b[7] + a[11] * b[12] +
+                           a[16] * b[17] + a[21] * b[22];
+        final double c13 = a[1] * b[3] + a[6] * b[8] + a[11] * b[13] +
+                           a[16] * b[18] + a[21] * b[23];
+        final double c14 = a[1] * b[4] + a[6] * b[9] + a[11] * b[14] +
+                           a[16] * b[19] + a[21] * b[24];
+        final double c20 = a[2] * b[0] + a[7] * b[5] + a[12] * b[10] +
+                           a[17] * b[15] + a[22] * b[20];
+        final double c21 = a[2] * b[1] + a[7] * b[6] + a[12] * b[11] +
+                           a[17] * b[16] + a[22] * b[21];
+        final double c22 = a[2] * b[2] + a[7] * b[7] + a[12] * b[12] +
+                           a[17] * b[17] + a[22] * b[22];
+        final double c23 = a[2] * b[3] + a[7] * b[8] + a[12] * b[13] +
+                           a[17] * b[18] + a[22] * b[23];
+        final double c24 = a[2] * b[4] + a[7] * b[9] + a[12] * b[14] +
+                           a[17] * b[19] + a[22] * b[24];
+        final double c30 = a[3] * b[0] + a[8] * b[5] + a[13] * b[10] +
+                           a[18] * b[15] + a[23] * b[20];
+        final double c31 = a[3] * b[1] + a[8] * b[6] + a[13] * b[11] +
+                           a[18] * b[16] + a[23] * b[21];
+        final double c32 = a[3] * b[2] + a[8] * b[7] + a[13] * b[12] +
+                           a[18] * b[17] + a[23] * b[22];
+        final double c33 = a[3] * b[3] + a[8] * b[8] + a[13] * b[13] +
+                           a[18] * b[18] + a[23] * b[23];
+        final double c34 = a[3] * b[4] + a[8] * b[9] + a[13] * b[14] +
+                           a[18] * b[19] + a[23] * b[24];
+        final double c40 = a[4] * b[0] + a[9] * b[5] + a[14] * b[10] +
+                           a[19] * b[15] + a[24] * b[20];
+        final double c41 = a[4] * b[1] + a[9] * b[6] + a[14] * b[11] +
+                           a[19] * b[16] + a[24] * b[21];
+        final double c42 = a[4] * b[2] + a[9] * b[7] + a[14] * b[12] +
+                           a[19] * b[17] + a[24] * b[22];
+        final double c43 = a[4] * b[3] + a[9] * b[8] + a[14] * b[13] +
+                           a[19] * b[18] + a[24] * b[23];
+        final double c44 = a[4] * b[4] + a[9] * b[9] + a[14] * b[14] +
+                           a[19] * b[19] + a[24] * b[24];
+        final double[] c = out.data;
+        c[0] = c00;
+        c[1] = c01;
+        c[2] = c02;
+        c[3] = c03;
+        c[4] = c04;
+        c[5] = c10;
+        c[6] = c11;
+        c[7] = c12;
+        c[8] = c13;
+        c[9] = c14;
+        c[10] = c20;
+        c[11] = c21;
+        c[12] = c22;
+        c[13] = c23;
+        c[14] = c24;
+        c[15] = c30;
+        c[16] = c31;
+        c[17] = c32;
+        c[18] = c33;
+        c[19] = c34;
+        c[20] = c40;
+        c[21] = c41;
+        c[22] = c42;
+        c[23] = c43;
+        c[24] = c44;
+    }
+
+    /** Compute the transpose of the instance.
+     * @return transpose of the instance
+     */
+    @Override
+    public Matrix5 transpose() {
+        final Matrix5 out = new Matrix5();
+        transpose(out);
+        return out;
+    }
+
+    /** Compute the transpose of the instance into a destination matrix.
+     * @param out destination matrix, where the transpose is stored
+     * (may be the instance itself)
+     */
+    @Override
+    public void transpose(final Matrix5 out) {
+        final double[] a = data;
+        final double[] c = out.data;
+        c[0] = a[0];
+        c[6] = a[6];
+        c[12] = a[12];
+        c[18] = a[18];
+        c[24] = a[24];
+        final double a01 = a[1];
+        c[1] = a[5];
+        c[5] = a01;
+        final double a02 = a[2];
+        c[2] = a[10];
+        c[10] = a02;
+        final double a03 = a[3];
+        c[3] = a[15];
+        c[15] = a03;
+        final double a04 = a[4];
+        c[4] = a[20];
+        c[20] = a04;
+        final double a12 = a[7];
+        c[7] = a[11];
+        c[11] = a12;
+        final double a13 = a[8];
+        c[8] = a[16];
+        c[16] = a13;
+        final double a14 = a[9];
+        c[9] = a[21];
+        c[21] = a14;
+        final double a23 = a[13];
+        c[13] = a[17];
+        c[17] = a23;
+        final double a24 = a[14];
+        c[14] = a[22];
+        c[22] = a24;
+        final double a34 = a[19];
+        c[19] = a[23];
+        c[23] = a34;
+    }
+
+    /** Multiply the instance by a vector.
+     * @param v vector to multiply by
+     * @return this &times; v
+     * @throws MathIllegalArgumentException if the vector dimension is not 5
+     */
+    @Override
+    public double[] operate(final double[] v) throws MathIllegalArgumentException {
+        final double[] out = new double[5];
+        operate(v, out);
+        return out;
+    }
+
+    /** Multiply the instance by a vector into a destination array.
+     * @param v vector to multiply by
+     * @param out destination array, where this &times; v is stored (may be {@code v})
+     * @throws MathIllegalArgumentException if a vector dimension is not 5
+     */
+    @Override
+    public void operate(final double[] v, final double[] out) throws MathIllegalArgumentException {
+        SmallMatrices.checkVector(v, 5);
+        SmallMatrices.checkVector(out, 5);
+        final double[] a = data;
+        final double y0 = a[0] * v[0] + a[1] * v[1] + a[2] * v[2] +
+                          a[3] * v[3] + a[4] * v[4];
+        final double y1 = a[5] * v[0] + a[6] * v[1] + a[7] * v[2] +
+                          a[8] * v[3] + a[9] * v[4];
+        final double y2 = a[10] * v[0] + a[11] * v[1] + a[12] * v[2] +
+                          a[13] * v[3] + a[14] * v[4];
+        final double y3 = a[15] * v[0] + a[16] * v[1] + a[17] * v[2] +
+                          a[18] * v[3] + a[19] * v[4];
+        final double y4 = a[20] * v[0] + a[21] * v[1] + a[22] * v[2] +
+                          a[23] * v[3] + a[24] * v[4];
+        out[0] = y0;
+        out[1] = y1;
+        out[2] = y2;
+        out[3] = y3;
+        out[4] = y4;
+    }
+
+    /** Get the trace of the matrix.
+     * @return sum of the diagonal elements
+     */
+    @Override
+    public double getTrace() {
+        return data[0] + data[6] + data[12] + data[18] + data[24];
+    }
+
+    /** Compute the determinant of the matrix.
+     * @return determinant of the matrix
+     */
+    @Override
+    public double getDeterminant() {
+        final double[] a = data;
+        final double m01_01 = a[0] * a[6] - a[1] * a[5];
+        final double m01_02 = a[0] * a[7] - a[2] * a[5];
+        final double m01_03 = a[0] * a[8] - a[3] * a[5];
+        final double m01_04 = a[0] * a[9] - a[4] * a[5];
+        final double m01_12 = a[1] * a[7] - a[2] * a[6];
+        final double m01_13 = a[1] * a[8] - a[3] * a[6];
+        final double m01_14 = a[1] * a[9] - a[4] * a[6];
+        final double m01_23 = a[2] * a[8] - a[3] * a[7];
+        final double m01_24 = a[2] * a[9] - a[4] * a[7];
+        final double m01_34 = a[3] * a[9] - a[4] * a[8];
+        final double m23_01 = a[10] * a[16] - a[11] * a[15];
+        final double m23_02 = a[10] * a[17] - a[12] * a[15];
+        final double m23_03 = a[10] * a[18] - a[13] * a[15];
+        final double m23_04 = a[10] * a[19] - a[14] * a[15];
+        final double m23_12 = a[11] * a[17] - a[12] * a[16];
+        final double m23_13 = a[11] * a[18] - a[13] * a[16];
+        final double m23_14 = a[11] * a[19] - a[14] * a[16];
+        final double m23_23 = a[12] * a[18] - a[13] * a[17];
+        final double m23_24 = a[12] * a[19] - a[14] * a[17];
+        final double m23_34 = a[13] * a[19] - a[14] * a[18];
+        return m01_01 * (m23_23 * a[24] - m23_24 * a[23] + m23_34 * a[22])
+               - m01_02 * (m23_13 * a[24] - m23_14 * a[23] + m23_34 * a[21])
+               + m01_03 * (m23_12 * a[24] - m23_14 * a[22] + m23_24 * a[21])
+               - m01_04 * (m23_12 * a[23] - m23_13 * a[22] + m23_23 * a[21])
+               + m01_12 * (m23_03 * a[24] - m23_04 * a[23] + m23_34 * a[20])
+               - m01_13 * (m23_02 * a[24] - m23_04 * a[22] + m23_24 * a[20])
+               + m01_14 * (m23_02 * a[23] - m23_03 * a[22] + m23_23 * a[20])
+               + m01_23 * (m23_01 * a[24] - m23_04 * a[21] + m23_14 * a[20])
+               - m01_24 * (m23_01 * a[23] - m23_03 * a[21] + m23_13 * a[20])
+               + m01_34 * (m23_01 * a[22] - m23_02 * a[21] + m23_12 * a[20]);
+    }
+
+    /** Compute the inverse of the matrix.
+     * @return inverse of the matrix
+     * @throws MathIllegalArgumentException if the matrix is singular
+     */
+    @Override
+    public Matrix5 inverse() throws MathIllegalArgumentException {
+        final Matrix5 out = new Matrix5();
+        inverse(out);
+        return out;
+    }
+
+    /** Compute the inverse of the matrix into a destination matrix.
+     * <p>
+     * If the matrix is singular, the content of {@code out} is undefined
+     * after the exception has been thrown.
+     * </p>
+     * @param out destination matrix, where the inverse is stored (may be the instance itself)
+     * @throws MathIllegalArgumentException if the matrix is singular
+     */
+    @Override
+    public void inverse(final Matrix5 out) throws MathIllegalArgumentException {
+        if (out != this) {
+            out.set(this);
+        }
+        SmallMatrices.invertInPlace(out.data, 5);
+    }
+
+    /** Compute the Cholesky decomposition of the matrix.
+     * <p>
+     * Only the lower triangular part of the instance is used, symmetry is not checked.
+     * </p>
+     * @return lower triangular matrix L such that this = L &times; L<sup>T</sup>
+     * @throws MathIllegalArgumentException if the matrix is not positive definite
+     * @see CholeskyDecomposition
+     */
+    @Override
+    public Matrix5 cholesky() throws MathIllegalArgumentException {
+        final Matrix5 out = new Matrix5();
+        cholesky(out);
+        return out;
+    }
+
+    /** Compute the Cholesky decomposition of the matrix into a destination matrix.
+     * <p>
+     * Only the lower triangular part of the instance is used, symmetry is not checked.
+     * Diagonal elements smaller than {@link
+     * CholeskyDecomposition#DEFAULT_ABSOLUTE_POSITIVITY_THRESHOLD} are considered null.
+     * </p>
+     * @param out destination matrix, where the lower triangular matrix L such that
+     * this = L &times; L<sup>T</sup> is stored (may be the instance itself)
+     * @throws MathIllegalArgumentException if the matrix is not positive definite
+     * @see CholeskyDecomposition
+     */
+    @Override
+    public void cholesky(final Matrix5 out) throws MathIllegalArgumentException {
+        final double threshold = CholeskyDecomposition.DEFAULT_ABSOLUTE_POSITIVITY_THRESHOLD;
+        final double[] a = data;
+        final double l00 = SmallMatrices.checkedSqrt(a[0], threshold);
+        final double i0  = 1.0 / l00;
+        final double l10 = a[5] * i0;
+        final double l20 = a[10] * i0;
+        final double l30 = a[15] * i0;
+        final double l40 = a[20] * i0;
+        final double l11 = SmallMatrices.checkedSqrt(a[6] - l10 * l10, threshold);
+        final double i1  = 1.0 / l11;
+        final double l21 = (a[11] - l20 * l10) * i1;
+        final double l31 = (a[16] - l30 * l10) * i1;
+        final double l41 = (a[21] - l40 * l10) * i1;
+        final double l22 = SmallMatrices.checkedSqrt(a[12] - l20 * l20 - l21 * l21, threshold);
+        final double i2  = 1.0 / l22;
+        final double l32 = (a[17] - l30 * l20 - l31 * l21) * i2;
+        final double l42 = (a[22] - l40 * l20 - l41 * l21) * i2;
+        final double l33 = SmallMatrices.checkedSqrt(a[18] - l30 * l30 - l31 * l31 - l32 * l32, threshold);
+        final double i3  = 1.0 / l33;
+        final double l43 = (a[23] - l40 * l30 - l41 * l31 - l42 * l32) * i3;
+        final double l44 = SmallMatrices.checkedSqrt(a[24] - l40 * l40 - l41 * l41 - l42 * l42 - l43 * l43, threshold);
+        final double[] c = out.data;
+        c[0] = l00;
+        c[1] = 0.0;
+        c[2] = 0.0;
+        c[3] = 0.0;
+        c[4] = 0.0;
+        c[5] = l10;
+        c[6] = l11;
+        c[7] = 0.0;
+        c[8] = 0.0;
+        c[9] = 0.0;
+        c[10] = l20;
+        c[11] = l21;
+        c[12] = l22;
+        c[13] = 0.0;
+        c[14] = 0.0;
+        c[15] = l30;
+        c[16] = l31;
+        c[17] = l32;
+        c[18] = l33;
+        c[19] = 0.0;
+        c[20] = l40;
+        c[21] = l41;
+        c[22] = l42;
+        c[23] = l43;
+        c[24] = l44;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean equals(final Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (other instanceof Matrix5) {
+            return Arrays.equals(data, ((Matrix5) other).data);
+        }
+        return false;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(data);
+    }
+
+}
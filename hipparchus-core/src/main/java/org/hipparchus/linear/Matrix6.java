@@ -0,0 +1,980 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hipparchus.linear;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+import org.hipparchus.exception.MathIllegalArgumentException;
+
+/**
+ * Fixed-size 6&times;6 real matrix.
+ * <p>
+ * This class provides the same operations as {@link Matrix3}, for 6&times;6 matrices
+ * like state transition matrices and covariances of position-velocity states in orbit
+ * determination. The inverse is computed by Gauss-Jordan elimination with partial
+ * pivoting, directly in the destination matrix, and the determinant by a Laplace
+ * expansion on the 2&times;2 minors of pairs of rows.
+ * </p>
+ * @see Matrix3
+ * @since 3.1
+ */
+public final class Matrix6 implements SmallRealMatrix<Matrix6>, Serializable {
+
+    /** Serializable version identifier. */
+    private static final long serialVersionUID = 20261017L;
+
+    /** Entries of the matrix, in row major order. */
+    private final double[] data;
+
+    /** Create a matrix with all entries set to zero.
+     */
+    public Matrix6() {
+        data = new double[36];
+    }
+
+    /** Create a matrix from a two-dimensional array.
+     * @param d entries of the matrix, as an array of rows
+     * @throws MathIllegalArgumentException if the array is not 6&times;6
+     */
+    public Matrix6(final double[][] d) throws MathIllegalArgumentException {
+        this();
+        SmallMatrices.copy(d, 6, data);
+    }
+
+    /** Create a matrix by copying a real matrix.
+     * @param m real matrix to copy
+     * @throws MathIllegalArgumentException if the matrix is not 6&times;6
+     */
+    public Matrix6(final RealMatrix m) throws MathIllegalArgumentException {
+        this();
+        SmallMatrices.copy(m, 6, data);
+    }
+
+    /** Create an identity matrix.
+     * @return identity matrix
+     */
+    public static Matrix6 identity() {
+        final Matrix6 id = new Matrix6();
+        id.data[0] = 1.0;
+        id.data[7] = 1.0;
+        id.data[14] = 1.0;
+        id.data[21] = 1.0;
+        id.data[28] = 1.0;
+        id.data[35] = 1.0;
+        return id;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isSquare() {
+        return true;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int getRowDimension() {
+        return 6;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int getColumnDimension() {
+        return 6;
+    }
+
+    /** Get an entry.
+     * @param row row index
+     * @param column column index
+     * @return entry at (row, column)
+     * @throws MathIllegalArgumentException if the indices are not valid
+     */
+    @Override
+    public double getEntry(final int row, final int column) throws MathIllegalArgumentException {
+        MatrixUtils.checkMatrixIndex(this, row, column);
+        return data[row * 6 + column];
+    }
+
+    /** Set an entry.
+     * @param row row index
+     * @param column column index
+     * @param value new value of the entry
+     * @throws MathIllegalArgumentException if the indices are not valid
+     */
+    @Override
+    public void setEntry(final int row, final int column, final double value) throws MathIllegalArgumentException {
+        MatrixUtils.checkMatrixIndex(this, row, column);
+        data[row * 6 + column] = value;
+    }
+
+    /** Get a reference to the underlying array.
+     * <p>
+     * Entry (i, j) is stored at index {@code 6 * i + j}.
+     * </p>
+     * @return reference to the underlying array
+     */
+    @Override
+    public double[] getDataRef() {
+        return data; // NOPMD - returning an internal array is intentional and documented here
+    }
+
+    /** Get the entries as a two-dimensional array.
+     * @return new array containing the entries, as an array of rows
+     */
+    @Override
+    public double[][] getData() {
+        return SmallMatrices.toArray(data, 6);
+    }
+
+    /** Convert the instance to a real matrix.
+     * <p>
+     * The entries are copied once into a new array of rows, which is then
+     * used without further copy by the returned {@link Array2DRowRealMatrix}.
+     * The returned matrix is therefore independent of the instance.
+     * </p>
+     * @return real matrix containing a copy of the entries
+     */
+    @Override
+    public RealMatrix toRealMatrix() {
+        return new Array2DRowRealMatrix(getData(), false);
+    }
+
+    /** Get a copy of the instance.
+     * @return copy of the instance
+     */
+    @Override
+    public Matrix6 copy() {
+        final Matrix6 copy = new Matrix6();
+        copy.set(this);
+        return copy;
+    }
+
+    /** Set all entries from another matrix.
+     * @param m matrix to copy
+     */
+    @Override
+    public void set(final Matrix6 m) {
+        System.arraycopy(m.data, 0, data, 0, 36);
+    }
+
+    /** Compute the sum of the instance and another matrix.
+     * @param m matrix to add
+     * @return this + m
+     */
+    @Override
+    public Matrix6 add(final Matrix6 m) {
+        final Matrix6 out = new Matrix6();
+        add(m, out);
+        return out;
+    }
+
+    /** Compute the sum of the instance and another matrix into a destination matrix.
+     * @param m matrix to add
+     * @param out destination matrix, where this + m is stored
+     * (may be the instance itself or {@code m})
+     */
+    @Override
+    public void add(final Matrix6 m, final Matrix6 out) {
+        for (int k = 0; k < 36; ++k) {
+            out.data[k] = data[k] + m.data[k];
+        }
+    }
+
+    /** Compute the difference of the instance and another matrix.
+     * @param m matrix to subtract
+     * @return this - m
+     */
+    @Override
+    public Matrix6 subtract(final Matrix6 m) {
+        final Matrix6 out = new Matrix6();
+        subtract(m, out);
+        return out;
+    }
+
+    /** Compute the difference of the instance and another matrix into a destination matrix.
+     * @param m matrix to subtract
+     * @param out destination matrix, where this - m is stored
+     * (may be the instance itself or {@code m})
+     */
+    @Override
+    public void subtract(final Matrix6 m, final Matrix6 out) {
+        for (int k = 0; k < 36; ++k) {
+            out.data[k] = data[k] - m.data[k];
+        }
+    }
+
+    /** Multiply the instance by a scalar.
+     * @param d scalar factor
+     * @return this &times; d
+     */
+    @Override
+    public Matrix6 scalarMultiply(final double d) {
+        final Matrix6 out = new Matrix6();
+        scalarMultiply(d, out);
+        return out;
+    }
+
+    /** Multiply the instance by a scalar into a destination matrix.
+     * @param d scalar factor
+     * @param out destination matrix, where this &times; d is stored
+     * (may be the instance itself)
+     */
+    @Override
+    public void scalarMultiply(final double d, final Matrix6 out) {
+        for (int k = 0; k < 36; ++k) {
+            out.data[k] = data[k] * d;
+        }
+    }
+
+    /** Compute the product of the instance by another matrix.
+     * @param m other matrix
+     * @return this &times; m
+     */
+    @Override
+    public Matrix6 multiply(final Matrix6 m) {
+        final Matrix6 out = new Matrix6();
+        multiply(m, out);
+        return out;
+    }
+
+    /** Compute the product of the instance by another matrix into a destination matrix.
+     * @param m other matrix
+     * @param out destination matrix, where this &times; m is stored
+     * (may be the instance itself or {@code m})
+     */
+    @Override
+    public void multiply(final Matrix6 m, final Matrix6 out) {
+        final double[] a = data;
+        final double[] b = m.data;
+        final double c00 = a[0] * b[0] + a[1] * b[6] + a[2] * b[12] +
+                           a[3] * b[18] + a[4] * b[24] + a[5] * b[30];
+        final double c01 = a[0] * b[1] + a[1] * b[7] + a[2] * b[13] +
+                           a[3] * b[19] + a[4] * b[25] + a[5] * b[31];
+        final double c02 = a[0] * b[2] + a[1] * b[8] + a[2] * b[14] +
+                           a[3] * b[20] + a[4] * b[26] + a[5] * b[32];
+        final double c03 = a[0] * b[3] + a[1] * b[9] + a[2] * b[15] +
+                           a[3] * b[21] + a[4] * b[27] + a[5] * b[33];
+        final double c04 = a[0] * b[4] + a[1] * b[10] + a[2] * b[16] +
+                           a[3] * b[22] + a[4] * b[28] + a[5] * b[34];
+        final double c05 = a[0] * b[5] + a[1] * b[11] + a[2] * b[17] +
+                           a[3] * b[23] + a[4] * b[29] + a[5] * b[35];
+        final double c10 = a[6] * b[0] + a[7] * b[6] + a[8] * b[12] +
+                           a[9] * b[18] + a[10] * b[24] + a[11] * b[30];
+        final double c11 = a[6] * b[1] + a[7] * b[7] + a[8] * b[13] +
+                           a[9] * b[19] + a[10] * b[25] + a[11] * b[31];
+        final double c12 = a[6] * b[2] + a[7] * b[8] + a[8] * b[14] +
+                           a[9] * b[20] + a[10] * b[26] + a[11] * b[32];
+        final double c13 = a[6] * b[3] + a[7] * b[9] + a[8] * b[15] +
+                           a[9] * b[21] + a[10] * b[27] + a[11] * b[33];
+        final double c14 = a[6] * b[4] + a[7] * b[10] + a[8] * b[16] +
+                           a[9] * b[22] + a[10] * b[28] + a[11] * b[34];
+        final double c15 = a[6] * b[5] + a[7] * b[11] + a[8] * b[17] +
+                           a[9] * b[23] + a[10] * b[29] + a[11] * b[35];
+        final double c20 = a[12] * b[0] + a[13] * b[6] + a[14] * b[12] +
+                           a[15] * b[18] + a[16] * b[24] + a[17] * b[30];
+        final double c21 = a[12] * b[1] + a[13] * b[7] + a[14] * b[13] +
+                           a[15] * b[19] + a[16] * b[25] + a[17] * b[31];
+        final double c22 = a[12] * b[2] + a[13] * b[8] + a[14] * b[14] +
+                           a[15] * b[20] + a[16] * b[26] + a[17] * b[32];
+        final double c23 = a[12] * b[3] + a[13] * b[9] + a[14] * b[15] +
+                           a[15] * b[21] + a[16] * b[27] + a[17] * b[33];
+        final double c24 = a[12] * b[4] + a[13] * b[10] + a[14] * b[16] +
+                           a[15] * b[22] + a[16] * b[28] + a[17] * b[34];
+        final double c25 = a[12] * b[5] + a[13] * b[11] + a[14] * b[17] +
+                           a[15] * b[23] + a[16] * b[29] + a[17] * b[35];
+        final double c30 = a[18] * b[0] + a[19] * b[6] + a[20] * b[12] +
+                           a[21] * b[18] + a[22] * b[24] + a[23] * b[30];
+        final double c31 = a[18] * b[1] + a[19] * b[7] + a[20] * b[13] +
+                           a[21] * b[19] + a[22] * b[25] + a[23] * b[31];
+        final double c32 = a[18] * b[2] + a[19] * b[8] + a[20] * b[14] +
+                           a[21] * b[20] + a[22] * b[26] + a[23] * b[32];
+        final double c33 = a[18] * b[3] + a[19] * b[9] + a[20] * b[15] +
+                           a[21] * b[21] + a[22] * b[27] + a[23] * b[33];
+        final double c34 = a[18] * b[4] + a[19] * b[10] + a[20] * b[16] +
+                           a[21] * b[22] + a[22] * b[28] + a[23] * b[34];
+        final double c35 = a[18] * b[5] + a[19] * b[11] + a[20] * b[17] +
+                           a[21] * b[23] + a[22] * b[29] + a[23] * b[35];
+        final double c40 = a[24] * b[0] + a[25] * b[6] + a[26] * b[12] +
+                           a[27] * b[18] + a[28] * b[24] + a[29] * b[30];
+        final double c41 = a[24] * b[1] + a[25] * b[7] + a[26] * b[13] +
+                           a[27] * b[19] + a[28] * b[25] + a[29] * b[31];
+        final double c42 = a[24] * b[2] + a[25] * b[8] + a[26] * b[14] +
+                           a[27] * b[20] + a[28] * b[26] + a[29] * b[32];
+        final double c43 = a[24] * b[3] + a[25] * b[9] + a[26] * b[15] +
+                           a[27] * b[21] + a[28] * b[27] + a[29] * b[33];
+        final double c44 = a[24] * b[4] + a[25] * b[10] + a[26] * b[16] +
+                           a[27] * b[22] + a[28] * b[28] + a[29] * b[34];
+        final double c45 = a[24] * b[5] + a[25] * b[11] + a[26] * b[17] +
+                           a[27] * b[23] + a[28] * b[29] + a[29] * b[35];
+        final double c50 = a[30] * b[0] + a[31] * b[6] + a[32] * b[12] +
+                           a[33] * b[18] + a[34] * b[24] + a[35] * b[30];
+        final double c51 = a[30] * b[1] + a[31] * b[7] + a[32] * b[13] +
+                           a[33] * b[19] + a[34] * b[25] + a[35] * b[31];
+        final double c52 = a[30] * b[2] + a[31] * b[8] + a[32] * b[14] +
+                           a[33] * b[20] + a[34] * b[26] + a[35] * b[32];
+        final double c53 = a[30] * b[3] + a[31] * b[9] + a[32] * b[15] +
+                           a[33] * b[21] + a[34] * b[27] + a[35] * b[33];
+        final double c54 = a[30] * b[4] + a[31] * b[10] + a[32] * b[16] +
+                           a[33] * b[22] + a[34] * b[28] + a[35] * b[34];
+        final double c55 = a[30] * b[5] + a[31] * b[11] + a[32] * b[17] +
+                           a[33] * b[23] + a[34] * b[29] + a[35] * b[35];
+        final double[] c = out.data;
+        c[0] = c00;
+        c[1] = c01;
+        c[2] = c02;
+        c[3] = c03;
+        c[4] = c04;
+        c[5] = c05;
+        c[6] = c10;
+        c[7] = c11;
+        c[8] = c12;
+        c[9] = c13;
+        c[10] = c14;
+        c[11] = c15;
+        c[12] = c20;
+        c[13] = c21;
+        c[14] = c22;
+        c[15] = c23;
+        c[16] = c24;
+        c[17] = c25;
+        c[18] = c30;
+        c[19] = c31;
+        c[20] = c32;
+        c[21] = c33;
+        c[22] = c34;
+        c[23] = c35;
+        c[24] = c40;
+        c[25] = c41;
+        c[26] = c42;
+        c[27] = c43;
+        c[28] = c44;
+        c[29] = c45;
+        c[30] = c50;
+        c[31] = c51;
+        c[32] = c52;
+        c[33] = c53;
+        c[34] = c54;
+        c[35] = c55;
+    }
+
+    /** Compute the product of the instance by the transpose of another matrix.
+     * @param m other matrix
+     * @return this &times; m<sup>T</sup>
+     */
+    @Override
+    public Matrix6 multiplyTransposed(final Matrix6 m) {
+        final Matrix6 out = new Matrix6();
+        multiplyTransposed(m, out);
+        return out;
+    }
+
+    /** Compute the product of the instance by the transpose of another matrix into a destination matrix.
+     * @param m other matrix
+     * @param out destination matrix, where this &times; m<sup>T</sup> is stored
+     * (may be the instance itself or {@code m})
+     */
+    @Override
+    public void multiplyTransposed(final Matrix6 m, final Matrix6 out) {
+        final double[] a = data;
+        final double[] b = m.data;
+        final double c00 = a[0] * b[0] + a[1] * b[1] + a[2] * b[2] +
+                           a[3] * b[3] + a[4] * b[4] + a[5] * b[5];
+        final double c01 = a[0] * b[6] + a[1] * b[7] + a[2] * b[8] +
+                           a[3] * b[9] + a[4] * b[10] + a[5] * b[11];
+        final double c02 = a[0] * b[12] + a[1] * b[13] + a[2] * b[14] +
+                           a[3] * b[15] + a[4] * b[16] + a[5] * b[17];
+        final double c03 = a[0] * b[18] + a[1] * b[19] + a[2] * b[20] +
+                           a[3] * b[21] + a[4] * b[22] + a[5] * b[23];
+        final double c04 = a[0] * b[24] + a[1] * b[25] + a[2] * b[26] +
+                           a[3] * b[27] + a[4] * b[28] + a[5] * b[29];
+        final double c05 = a[0] * b[30] + a[1] * b[31] + a[2] * b[32] +
+                           a[3] * b[33] + a[4] * b[34] + a[5] * b[35];
+        final double c10 = a[6] * b[0] + a[7] * b[1] + a[8] * b[2] +
+                           a[9] * b[3] + a[10] * b[4] + a[11] * b[5];
+        final double c11 = a[6] * b[6] + a[7] * b[7] + a[8] * b[8] +
+                           a[9] * b[9] + a[10] * b[10] + a[11] * b[11];
+        final double c12 = a[6] * b[12] + a[7] * b[13] + a[8] * b[14] +
+                           a[9] * b[15] + a[10] * b[16] + a[11] * b[17];
+        final double c13 = a[6] * b[18] + a[7] * b[19] + a[8] * b[20] +
+                           a[9] * b[21] + a[10] * b[22] + a[11] * b[23];
+        final double c14 = a[6] * b[24] + a[7] * b[25] + a[8] * b[26] +
+                           a[9] * b[27] + a[10] * b[28] + a[11] * b[29];
+        final double c15 = a[6] * b[30] + a[7] * b[31] + a[8] * b[32] +
+                           a[9] * b[33] + a[10] * b[34] + a[11] * b[35];
+        final double c20 = a[12] * b[0] + a[13] * b[1] + a[14] * b[2] +
+                           a[15] * b[3] + a[16] * b[4] + a[17] * b[5];
+        final double c21 = a[12] * b[6] + a[13] * b[7] + a[14] * b[8] +
+                           a[15] * b[9] + a[16] * b[10] + a[17] * b[11];
+        final double c22 = a[12] * b[12] + a[13] * b[13] + a[14] * b[14] +
+                           a[15] * b[15] + a[16] * b[16] + a[17] * b[17];
+        final double c23 = a[12] * b[18] + a[13] * b[19] + a[14] * b[20] +
+                           a[15] * b[21] + a[16] * b[22] + a[17] * b[23];
+        final double c24 = a[12] * b[24] + a[13] * b[25] + a[14] * b[26] +
+                           a[15] * b[27] + a[16] * b[28] + a[17] * b[29];
+        final double c25 = a[12] * b[30] + a[13] * b[31] + a[14] * b[32] +
+                           a[15] * b[33] + a[16] * b[34] + a[17] * b[35];
+        final double c30 = a[18] * b[0] + a[19] * b[1] + a[20] * b[2] +
+                           a[21] * b[3] + a[22] * b[4] + a[23] * b[5];
+        final double c31 = a[18] * b[6] + a[19] * b[7] + a[20] * b[8] +
+                           a[21] * b[9] + a[22] * b[10] + a[23] * b[11];
+        final double c32 = a[18] * b[12] + a[19] * b[13] + a[20] * b[14] +
+                           a[21] * b[15] + a[22] * b[16] + a[23] * b[17];
+        final double c33 = a[18] * b[18] + a[19] * b[19] + a[20] * b[20] +
+                           a[21] * b[21] + a[22] * b[22] + a[23] * b[23];
+        final double c34 = a[18] * b[24] + a[19] * b[25] + a[20] * b[26] +
+                           a[21] * b[27] + a[22] * b[28] + a[23] * b[29];
+        final double c35 = a[18] * b[30] + a[19] * b[31] + a[20] * b[32] +
+                           a[21] * b[33] + a[22] * b[34] + a[23] * b[35];
+        final double c40 = a[24] * b[0] + a[25] * b[1] + a[26] * b[2] +
+                           a[27] * b[3] + a[28] * b[4] + a[29] * b[5];
+        final double c41 = a[24] * b[6] + a[25] * b[7] + a[26] * b[8] +
+                           a[27] * b[9] + a[28] * b[10] + a[29] * b[11];
+        final double c42 = a[24] * b[12] + a[25] * b[13] + a[26] * b[14] +
+                           a[27] * b[15] + a[28] * b[16] + a[29] * b[17];
+        final double c43 = a[24] * b[18] + a[25] * b[19] + a[26] * b[20] +
+                           a[27] * b[21] + a[28] * b[22] + a[29] * b[23];
+        final double c44 = a[24] * b[24] + a[25] * b[25] + a[26] * b[26] +
+                           a[27] * b[27] + a[28] * b[28] + a[29] * b[29];
+        final double c45 = a[24] * b[30] + a[25] * b[31] + a[26] * b[32] +
+                           a[27] * b[33] + a[28] * b[34] + a[29] * b[35];
+        final double c50 = a[30] * b[0] + a[31] * b[1] + a[32] * b[2] +
+                           a[33] * b[3] + a[34] * b[4] + a[35] * b[5];
+        final double c51 = a[30] * b[6] + a[31] * b[7] + a[32] * b[8] +
+                           a[33] * b[9] + a[34] * b[10] + a[35] * b[11];
+        final double c52 = a[30] * b[12] + a[31] * b[13] + a[32] * b[14] +
+                           a[33] * b[15] + a[34] * b[16] + a[35] * b[17];
+        final double c53 = a[30] * b[18] + a[31] * b[19] + a[32] * b[20] +
+                           a[33] * b[21] + a[34] * b[22] + a[35] * b[23];
+        final double c54 = a[30] * b[24] + a[31] * b[25] + a[32] * b[26] +
+                           a[33] * b[27] + a[34] * b[28] + a[35] * b[29];
+        final double c55 = a[30] * b[30] + a[31] * b[31] + a[32] * b[32] +
+                           a[33] * b[33] + a[34] * b[34] + a[35] * b[35];
+        final double[] c = out.data;
+        c[0] = c00;
+        c[1] = c01;
+        c[2] = c02;
+        c[3] = c03;
+        c[4] = c04;
+        c[5] = c05;
+        c[6] = c10;
+        c[7] = c11;
+        c[8] = c12;
+        c[9] = c13;
+        c[10] = c14;
+        c[11] = c15;
+        c[12] = c20;
+        c[13] = c21;
+        c[14] = c22;
+        c[15] = c23;
+        c[16] = c24;
+        c[17] = c25;
+        c[18] = c30;
+        c[19] = c31;
+        c[20] = c32;
+        c[21] = c33;
+        c[22] = c34;
+        c[23] = c35;
+        c[24] = c40;
+        c[25] = c41;
+        c[26] = c42;
+        c[27] = c43;
+        c[28] = c44;
+        c[29] = c45;
+        c[30] = c50;
+        c[31] = c51;
+        c[32] = c52;
+        c[33] = c53;
+        c[34] = c54;
+        c[35] = c55;
+    }
+
+    /** Compute the product of the transpose of the instance by another matrix.
+     * @param m other matrix
+     * @return this<sup>T</sup> &times; m
+     */
+    @Override
+    public Matrix6 transposeMultiply(final Matrix6 m) {
+        final Matrix6 out = new Matrix6();
+        transposeMultiply(m, out);
+        return out;
+    }
+
+    /** Compute the product of the transpose of the instance by another matrix into a destination matrix.
+     * @param m other matrix
+     * @param out destination matrix, where this<sup>T</sup> &times; m is stored
+     * (may be the instance itself or {@code m})
+     */
+    @Override
+    public void transposeMultiply(final Matrix6 m, final Matrix6 out) {
+        final double[] a = data;
+        final double[] b = m.data;
+        final double c00 = a[0] * b[0] + a[6] * b[6] + a[12] * b[12] +
+                           a[18] * b[18] + a[24] * b[24] + a[30] * b[30];
+        final double c01 = a[0] * b[1] + a[6] * b[7] + a[12] * b[13] +
+                           a[18] * b[19] + a[24] * b[25] + a[30] * b[31];
+        final double c02 = a[0] * b[2] + a[6] * b[8] + a[12] * b[14] +
+                           a[18] * b[20] + a[24] * b[26] + a[30] * b[32];
+        final double c03 = a[0] * b[3] + a[6] * b[9] + a[12] * b[15] +
+                           a[18] * b[21] + a[24] * b[27] + a[30] * b[33];
+        final double c04 = a[0] * b[4] + a[6] * b[10] + a[12] * b[16] +
+                           a[18] * b[22] + a[24] * b[28] + a[30] * b[34];
+        final double c05 = a[0] * b[5] + a[6] * b[11] + a[12] * b[17] +
+                           a[18] * b[23] + a[24] * b[29] + a[30] * b[35];
+        final double c10 = a[1] * b[0] + a[7] * b[6] + a[13] * b[12] +
+                           a[19] * b[18] + a[25] * b[24] + a[31] * b[30];
+        final double c11 = a[1] * b[1] + a[7] * b[7] + a[13] * b[13] +
+                           a[19] * b[19] + a[25] * b[25] + a[31] * b[31];
+        final double c12 = a[1] * b[2] + a[7] * b[8] + a[13] * b[14] +
+                           a[19] * b[20] + a[25] * b[26] + a[31] * b[32];
+        final double c13 = a[1] * b[3] + a[7] * b[9] + a[13] * b[15] +
+                           a[19] * b[21] + a[25] * b[27] + a[31] * b[33];
+        final double c14 = a[1] * b[4] + a[7] * b[10] + a[13] * b[16] +
+                           a[19] * b[22] + a[25] * b[28] + a[31] * b[34];
+        final double c15 = a[1] * b[5] + a[7] * b[11] + a[13] * b[17] +
+                           a[19] * b[23] + a[25] * b[29] + a[31] * b[35];
+        final double c20 = a[2] * b[0] + a[8] * b[6] + a[14] * b[12] +
+                           a[20] * b[18] + a[26] * b[24] + a[32] * b[30];
+        final double c21 = a[2] * b[1] + a[8] * b[7] + a[14] * b[13] +
+                           a[20] * b[19] + a[26] * b[25] + a[32] * b[31];
+        final double c22 = a[2] * b[2] + a[8] * b[8] + a[14] * b[14] +
+                           a[20] * b[20] + a[26] * b[26] + a[32] * b[32];
+        final double c23 = a[2] * b[3] + a[8] * b[9] + a[14] * b[15] +
+                           a[20] * b[21] + a[26] * b[27] + a[32] * b[33];
+        final double c24 = a[2] * b[4] + a[8] * b[10] + a[14] * b[16] +
+                           a[20] * b[22] + a[26] * b[28] + a[32] * b[34];
+        final double c25 = a[2] * b[5] + a[8] * b[11] + a[14] * b[17] +
+                           a[20] * b[23] + a[26] * b[29] + a[32] * b[35];
+        final double c30 = a[3] * b[0] + a[9] * b[6] + a[15] * b[12] +
+                           a[21] * b[18] + a[27] * b[24] + a[33] * b[30];
+        final double c31 = a[3] * b[1] + a[9] * b[7] + a[15] * b[13] +
+                           a[21] * b[19] + a[27] * b[25] + a[33] * b[31];
+        final double c32 = a[3] * b[2] + a[9] * b[8] + a[15] * b[14] +
+                           a[21] * b[20] + a[27] * b[26] + a[33] * b[32];
+        final double c33 = a[3] * b[3] + a[9] * b[9] + a[15] * b[15] +
+                           a[21] * b[21] + a[27] * b[27] + a[33] * b[33];
+        final double c34 = a[3] * b[4] + a[9] * b[10] + a[15] * b[16] +
+                           a[21] * b[22] + a[27] * b[28] + a[33] * b[34];
+        final double c35 = a[3] * b[5] + a[9] * b[11] + a[15] * b[17] +
+                           a[21] * b[23] + a[27] * b[29] + a[33] * b[35];
+        final double c40 = a[4] * b[0] + a[10] * b[6] + a[16] * b[12] +
+                           a[22] * b[18] + a[28] * b[24] + a[34] * b[30];
+        final double c41 = a[4] * b[1] + a[10] * b[7] + a[16] * b[13] +
+                           a[22] * b[19] + a[28] * b[25] + a[34] * b[31];
+        final double c42 = a[4] * b[2] + a[10] * b[8] + a[16] * b[14] +
+                           a[22] * b[20] + a[28] * b[26] + a[34] * b[32];
+        final double c43 = a[4] * b[3] + a[10] * b[9] + a[16] * b[15] +
+                           a[22] * b[21] + a[28] * b[27] + a[34] * b[33];
+        final double c44 = a[4] * b[4] + a[10] * b[10] + a[16] * b[16] +
+                           a[22] * b[22] + a[28] * b[28] + a[34] * b[34];
+        final double c45 = a[4] * b[5] + a[10] * b[11] + a[16] * b[17] +
+                           a[22] * b[23] + a[28] * b[29] + a[34] * b[35];
+        final double c50 = a[5] * b[0] + a[11] * b[6] + a[17] * b[12] +
+                           a[23] * b[18] + a[29] * b[24] + a[35] * b[30];
+        final double c51 = a[5] * b[1] + a[11] * b[7] + a[17] * b[13] +
+                           a[23] * b[19] + a[29] * b[25] + a[35] * b[31];
+        final double c52 = a[5] * b[2] + a[11] * b[8] + a[17] * b[14] +
+                           a[23] * b[20] + a[29] * b[26] + a[35] * b[32];
+        final double c53 = a[5] * b[3] + a[11] * b[9] + a[17] * b[15] +
+                           a[23] * b[21] + a[29] * b[27] + a[35] * b[33];
+        final double c54 = a[5] * b[4] + a[11] * b[10] + a[17] * b[16] +
+                           a[23] * b[22] + a[29] * b[28] + a[35] * b[34];
+        final double c55 = a[5] * b[5] + a[11] * b[11] + a[17] * b[17] +
+                           a[23] * b[23] + a[29] * b[29] + a[35] * b[35];
+        final double[] c = out.data;
+        c[0] = c00;
+        c[1] = c01;
+        c[2] = c02;
+        c[3] = c03;
+        c[4] = c04;
+        c[5] = c05;
+        c[6] = c10;
+        c[7] = c11;
+        c[8] = c12;
+        c[9] = c13;
+        c[10] = c14;
+        c[11] = c15;
+        c[12] = c20;
+        c[13] = c21;
+        c[14] = c22;
+        c[15] = c23;
+        c[16] = c24;
+        c[17] = c25;
+        c[18] = c30;
+        c[19] = c31;
+        c[20] = c32;
+        c[21] = c33;
+        c[22] = c34;
+        c[23] = c35;
+        c[24] = c40;
+        c[25] = c41;
+        c[26] = c42;
+        c[27] = c43;
+        c[28] = c44;
+        c[29] = c45;
+        c[30] = c50;
+        c[31] = c51;
+        c[32] = c52;
+        c[33] = c53;
+        c[34] = c54;
+        c[35] = c55;
+    }
+
+    /** Compute the transpose of the instance.
+     * @return transpose of the instance
+     */
+    @Override
+    public Matrix6 transpose() {
+        final Matrix6 out = new Matrix6();
+        transpose(out);
+        return out;
+    }
+
+    /** Compute the transpose of the instance into a destination matrix.
+     * @param out destination matrix, where the transpose is stored
+     * (may be the instance itself)
+     */
+    @Override
+    public void transpose(final Matrix6 out) {
+        final double[] a = data;
+        final double[] c = out.data;
+        c[0] = a[0];
+        c[7] = a[7];
+        c[14] = a[14];
+        c[21] = a[21];
+        c[28] = a[28];
+        c[35] = a[35];
+        final double a01 = a[1];
+        c[1] = a[6];
+        c[6] = a01;
+        final double a02 = a[2];
+        c[2] = a[12];
+        c[12] = a02;
+        final double a03 = a[3];
+        c[3] = a[18];
+        c[18] = a03;
+        final double a04 = a[4];
+        c[4] = a[24];
+        c[24] = a04;
+        final double a05 = a[5];
+        c[5] = a[30];
+        c[30] = a05;
+        final double a12 = a[8];
+        c[8] = a[13];
+        c[13] = a12;
+        final double a13 = a[9];
+        c[9] = a[19];
+        c[19] = a13;
+        final double a14 = a[10];
+        c[10] = a[25];
+        c[25] = a14;
+        final double a15 = a[11];
+        c[11] = a[31];
+        c[31] = a15;
+        final double a23 = a[15];
+        c[15] = a[20];
+        c[20] = a23;
+        final double a24 = a[16];
+        c[16] = a[26];
+        c[26] = a24;
+        final double a25 = a[17];
+        c[17] = a[32];
+        c[32] = a25;
+        final double a34 = a[22];
+        c[22] = a[27];
+        c[27] = a34;
+        final double a35 = a[23];
+        c[23] = a[33];
+        c[33] = a35;
+        final double a45 = a[29];
+        c[29] = a[34];
+        c[34] = a45;
+    }
+
+    /** Multiply the instance by a vector.
+     * @param v vector to multiply by
+     * @return this &times; v
+     * @throws MathIllegalArgumentException if the vector dimension is not 6
+     */
+    @Override
+    public double[] operate(final double[] v) throws MathIllegalArgumentException {
+        final double[] out = new double[6];
+        operate(v, out);
+        return out;
+    }
+
+    /** Multiply the instance by a vector into a destination array.
+     * @param v vector to multiply by
+     * @param out destination array, where this &times; v is stored (may be {@code v})
+     * @throws MathIllegalArgumentException if a vector dimension is not 6
+     */
+    @Override
+    public void operate(final double[] v, final double[] out) throws MathIllegalArgumentException {
+        SmallMatrices.checkVector(v, 6);
+        SmallMatrices.checkVector(out, 6);
+        final double[] a = data;
+        final double y0 = a[0] * v[0] + a[1] * v[1] + a[2] * v[2] +
+                          a[3] * v[3] + a[4] * v[4] + a[5] * v[5];
+        final double y1 = a[6] * v[0] + a[7] * v[1] + a[8] * v[2] +
+                          a[9] * v[3] + a[10] * v[4] + a[11] * v[5];
+        final double y2 = a[12] * v[0] + a[13] * v[1] + a[14] * v[2] +
+                          a[15] * v[3] + a[16] * v[4] + a[17] * v[5];
+        final double y3 = a[18] * v[0] + a[19] * v[1] + a[20] * v[2] +
+                          a[21] * v[3] + a[22] * v[4] + a[23] * v[5];
+        final double y4 = a[24] * v[0] + a[25] * v[1] + a[26] * v[2] +
+                          a[27] * v[3] + a[28] * v[4] + a[29] * v[5];
+        final double y5 = a[30] * v[0] + a[31] * v[1] + a[32] * v[2] +
+                          a[33] * v[3] + a[34] * v[4] + a[35] * v[5];
+        out[0] = y0;
+        out[1] = y1;
+        out[2] = y2;
+        out[3] = y3;
+        out[4] = y4;
+        out[5] = y5;
+    }
+
+    /** Get the trace of the matrix.
+     * @return sum of the diagonal elements
+     */
+    @Override
+    public double getTrace() {
+        return data[0] + data[7] + data[14] + data[21] + data[28] + data[35];
+    }
+
+    /** Compute the determinant of the matrix.
+     * @return determinant of the matrix
+     */
+    @Override
+    public double getDeterminant() {
+        final double[] a = data;
+        final double m01_01 = a[0] * a[7] - a[1] * a[6];
+        final double m01_02 = a[0] * a[8] - a[2] * a[6];
+        final double m01_03 = a[0] * a[9] - a[3] * a[6];
+        final double m01_04 = a[0] * a[10] - a[4] * a[6];
+        final double m01_05 = a[0] * a[11] - a[5] * a[6];
+        final double m01_12 = a[1] * a[8] - a[2] * a[7];
+        final double m01_13 = a[1] * a[9] - a[3] * a[7];
+        final double m01_14 = a[1] * a[10] - a[4] * a[7];
+        final double m01_15 = a[1] * a[11] - a[5] * a[7];
+        final double m01_23 = a[2] * a[9] - a[3] * a[8];
+        final double m01_24 = a[2] * a[10] - a[4] * a[8];
+        final double m01_25 = a[2] * a[11] - a[5] * a[8];
+        final double m01_34 = a[3] * a[10] - a[4] * a[9];
+        final double m01_35 = a[3] * a[11] - a[5] * a[9];
+        final double m01_45 = a[4] * a[11] - a[5] * a[10];
+        final double m23_01 = a[12] * a[19] - a[13] * a[18];
+        final double m23_02 = a[12] * a[20] - a[14] * a[18];
+        final double m23_03 = a[12] * a[21] - a[15] * a[18];
+        final double m23_04 = a[12] * a[22] - a[16] * a[18];
+        final double m23_05 = a[12] * a[23] - a[17] * a[18];
+        final double m23_12 = a[13] * a[20] - a[14] * a[19];
+        final double m23_13 = a[13] * a[21] - a[15] * a[19];
+        final double m23_14 = a[13] * a[22] - a[16] * a[19];
+        final double m23_15 = a[13] * a[23] - a[17] * a[19];
+        final double m23_23 = a[14] * a[21] - a[15] * a[20];
+        final double m23_24 = a[14] * a[22] - a[16] * a[20];
+        final double m23_25 = a[14] * a[23] - a[17] * a[20];
+        final double m23_34 = a[15] * a[22] - a[16] * a[21];
+        final double m23_35 = a[15] * a[23] - a[17] * a[21];
+        final double m23_45 = a[16] * a[23] - a[17] * a[22];
+        final double m45_01 = a[24] * a[31] - a[25] * a[30];
+        final double m45_02 = a[24] * a[32] - a[26] * a[30];
+        final double m45_03 = a[24] * a[33] - a[27] * a[30];
+        final double m45_04 = a[24] * a[34] - a[28] * a[30];
+        final double m45_05 = a[24] * a[35] - a[29] * a[30];
+        final double m45_12 = a[25] * a[32] - a[26] * a[31];
+        final double m45_13 = a[25] * a[33] - a[27] * a[31];
+        final double m45_14 = a[25] * a[34] - a[28] * a[31];
+        final double m45_15 = a[25] * a[35] - a[29] * a[31];
+        final double m45_23 = a[26] * a[33] - a[27] * a[32];
+        final double m45_24 = a[26] * a[34] - a[28] * a[32];
+        final double m45_25 = a[26] * a[35] - a[29] * a[32];
+        final double m45_34 = a[27] * a[34] - a[28] * a[33];
+        final double m45_35 = a[27] * a[35] - a[29] * a[33];
+        final double m45_45 = a[28] * a[35] - a[29] * a[34];
+        return m01_01 * (m23_23 * m45_45 - m23_24 * m45_35 + m23_25 * m45_34
+                         + m23_34 * m45_25 - m23_35 * m45_24 + m23_45 * m45_23)
+               - m01_02 * (m23_13 * m45_45 - m23_14 * m45_35 + m23_15 * m45_34
+                           + m23_34 * m45_15 - m23_35 * m45_14 + m23_45 * m45_13)
+               + m01_03 * (m23_12 * m45_45 - m23_14 * m45_25 + m23_15 * m45_24
+                           + m23_24 * m45_15 - m23_25 * m45_14 + m23_45 * m45_12)
+               - m01_04 * (m23_12 * m45_35 - m23_13 * m45_25 + m23_15 * m45_23
+                           + m23_23 * m45_15 - m23_25 * m45_13 + m23_35 * m45_12)
+               + m01_05 * (m23_12 * m45_34 - m23_13 * m45_24 + m23_14 * m45_23
+                           + m23_23 * m45_14 - m23_24 * m45_13 + m23_34 * m45_12)
+               + m01_12 * (m23_03 * m45_45 - m23_04 * m45_35 + m23_05 * m45_34
+                           + m23_34 * m45_05 - m23_35 * m45_04 + m23_45 * m45_03)
+               - m01_13 * (m23_02 * m45_45 - m23_04 * m45_25 + m23_05 * m45_24
+                           + m23_24 * m45_05 - m23_25 * m45_04 + m23_45 * m45_02)
+               + m01_14 * (m23_02 * m45_35 - m23_03 * m45_25 + m23_05 * m45_23
+                           + m23_23 * m45_05 - m23_25 * m45_03 + m23_35 * m45_02)
+               - m01_15 * (m23_02 * m45_34 - m23_03 * m45_24 + m23_04 * m45_23
+                           + m23_23 * m45_04 - m23_24 * m45_03 + m23_34 * m45_02)
+               + m01_23 * (m23_01 * m45_45 - m23_04 * m45_15 + m23_05 * m45_14
+                           + m23_14 * m45_05 - m23_15 * m45_04 + m23_45 * m45_01)
+               - m01_24 * (m23_01 * m45_35 - m23_03 * m45_15 + m23_05 * m45_13
+                           + m23_13 * m45_05 - m23_15 * m45_03 + m23_35 * m45_01)
+               + m01_25 * (m23_01 * m45_34 - m23_03 * m45_14 + m23_04 * m45_13
+                           + m23_13 * m45_04 - m23_14 * m45_03 + m23_34 * m45_01)
+               + m01_34 * (m23_01 * m45_25 - m23_02 * m45_15 + m23_05 * m45_12
+                           + m23_12 * m45_05 - m23_15 * m45_02 + m23_25 * m45_01)
+               - m01_35 * (m23_01 * m45_24 - m23_02 * m45_14 + m23_04 * m45_12
+                           + m23_12 * m45_04 - m23_14 * m45_02 + m23_24 * m45_01)
+               + m01_45 * (m23_01 * m45_23 - m23_02 * m45_13 + m23_03 * m45_12
+                           + m23_12 * m45_03 - m23_13 * m45_02 + m23_23 * m45_01);
+    }
+
+    /** Compute the inverse of the matrix.
+     * @return inverse of the matrix
+     * @throws MathIllegalArgumentException if the matrix is singular
+     */
+    @Override
+    public Matrix6 inverse() throws MathIllegalArgumentException {
+        final Matrix6 out = new Matrix6();
+        inverse(out);
+        return out;
+    }
+
+    /** Compute the inverse of the matrix into a destination matrix.
+     * <p>
+     * If the matrix is singular, the content of {@code out} is undefined
+     * after the exception has been thrown.
+     * </p>
+     * @param out destination matrix, where the inverse is stored (may be the instance itself)
+     * @throws MathIllegalArgumentException if the matrix is singular
+     */
+    @Override
+    public void inverse(final Matrix6 out) throws MathIllegalArgumentException {
+        if (out != this) {
+            out.set(this);
+        }
+        SmallMatrices.invertInPlace(out.data, 6);
+    }
+
+    /** Compute the Cholesky decomposition of the matrix.
+     * <p>
+     * Only the lower triangular part of the instance is used, symmetry is not checked.
+     * </p>
+     * @return lower triangular matrix L such that this = L &times; L<sup>T</sup>
+     * @throws MathIllegalArgumentException if the matrix is not positive definite
+     * @see CholeskyDecomposition
+     */
+    @Override
+    public Matrix6 cholesky() throws MathIllegalArgumentException {
+        final Matrix6 out = new Matrix6();
+        cholesky(out);
+        return out;
+    }
+
+    /** Compute the Cholesky decomposition of the matrix into a destination matrix.
+     * <p>
+     * Only the lower triangular part of the instance is used, symmetry is not checked.
+     * Diagonal elements smaller than {@link
+     * CholeskyDecomposition#DEFAULT_ABSOLUTE_POSITIVITY_THRESHOLD} are considered null.
+     * </p>
+     * @param out destination matrix, where the lower triangular matrix L such that
+     * this = L &times; L<sup>T</sup> is stored (may be the instance itself)
+     * @throws MathIllegalArgumentException if the matrix is not positive definite
+     * @see CholeskyDecomposition
+     */
+    @Override
+    public void cholesky(final Matrix6 out) throws MathIllegalArgumentException {
+        final double threshold = CholeskyDecomposition.DEFAULT_ABSOLUTE_POSITIVITY_THRESHOLD;
+        final double[] a = data;
+        final double l00 = SmallMatrices.checkedSqrt(a[0], threshold);
+        final double i0  = 1.0 / l00;
+        final double l10 = a[6] * i0;
+        final double l20 = a[12] * i0;
+        final double l30 = a[18] * i0;
+        final double l40 = a[24] * i0;
+        final double l50 = a[30] * i0;
+        final double l11 = SmallMatrices.checkedSqrt(a[7] - l10 * l10, threshold);
+        final double i1  = 1.0 / l11;
+        final double l21 = (a[13] - l20 * l10) * i1;
+        final double l31 = (a[19] - l30 * l10) * i1;
+        final double l41 = (a[25] - l40 * l10) * i1;
+        final double l51 = (a[31] - l50 * l10) * i1;
+        final double l22 = SmallMatrices.checkedSqrt(a[14] - l20 * l20 - l21 * l21, threshold);
+        final double i2  = 1.0 / l22;
+        final double l32 = (a[20] - l30 * l20 - l31 * l21) * i2;
+        final double l42 = (a[26] - l40 * l20 - l41 * l21) * i2;
+        final double l52 = (a[32] - l50 * l20 - l51 * l21) * i2;
+        final double l33 = SmallMatrices.checkedSqrt(a[21] - l30 * l30 - l31 * l31 - l32 * l32, threshold);
+        final double i3  = 1.0 / l33;
+        final double l43 = (a[27] - l40 * l30 - l41 * l31 - l42 * l32) * i3;
+        final double l53 = (a[33] - l50 * l30 - l51 * l31 - l52 * l32) * i3;
+        final double l44 = SmallMatrices.checkedSqrt(a[28] - l40 * l40 - l41 * l41 - l42 * l42 - l43 * l43, threshold);
+        final double i4  = 1.0 / l44;
+        final double l54 = (a[34] - l50 * l40 - l51 * l41 - l52 * l42 - l53 * l43) * i4;
+        final double l55 = SmallMatrices.checkedSqrt(a[35] - l50 * l50 - l51 * l51 - l52 * l52 - l53 * l53 - l54 * l54, threshold);
+        final double[] c = out.data;
+        c[0] = l00;
+        c[1] = 0.0;
+        c[2] = 0.0;
+        c[3] = 0.0;
+        c[4] = 0.0;
+        c[5] = 0.0;
+        c[6] = l10;
+        c[7] = l11;
+        c[8] = 0.0;
+        c[9] = 0.0;
+        c[10] = 0.0;
+        c[11] = 0.0;
+        c[12] = l20;
+        c[13] = l21;
+        c[14] = l22;
+        c[15] = 0.0;
+        c[16] = 0.0;
+        c[17] = 0.0;
+        c[18] = l30;
+        c[19] = l31;
+        c[20] = l32;
+        c[21] = l33;
+        c[22] = 0.0;
+        c[23] = 0.0;
+        c[24] = l40;
+        c[25] = l41;
+        c[26] = l42;
+        c[27] = l43;
+        c[28] = l44;
+        c[29] = 0.0;
+        c[30] = l50;
+        c[31] = l51;
+        c[32] = l52;
+        c[33] = l53;
+        c[34] = l54;
+        c[35] = l55;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean equals(final Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (other instanceof Matrix6) {
+            return Arrays.equals(data, ((Matrix6) other).data);
+        }
+        return false;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(data);
+    }
+
+}
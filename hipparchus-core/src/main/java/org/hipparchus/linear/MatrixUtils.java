@@ -474,6 +474,10 @@ public class MatrixUtils {
                 return false;
             }
         }
+        if (matrix instanceof SymmetricRealMatrix) {
+            // symmetric by construction
+            return true;
+        }
         for (int i = 0; i < rows; i++) {
             for (int j = i + 1; j < rows; j++) {
                 final double mij = matrix.getEntry(i, j);
@@ -688,6 +692,28 @@ public class MatrixUtils {
         }
     }
 
+    /**
+     * Check if a matrix has the expected dimensions.
+     * <p>
+     * This is typically used to check destination matrices
+     * in operations that write their result into a caller-supplied matrix.
+     * </p>
+     *
+     * @param m matrix to check
+     * @param rows expected number of rows
+     * @param columns expected number of columns
+     * @throws MathIllegalArgumentException if matrix does not have the expected dimensions
+     * @since 3.1
+     */
+    public static void checkDimensions(final AnyMatrix m, final int rows, final int columns)
+        throws MathIllegalArgumentException {
+        if (m.getRowDimension() != rows || m.getColumnDimension() != columns) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.DIMENSIONS_MISMATCH_2x2,
+                                                   m.getRowDimension(), m.getColumnDimension(),
+                                                   rows, columns);
+        }
+    }
+
     /**
      * Check if matrices have the same number of columns.
      *
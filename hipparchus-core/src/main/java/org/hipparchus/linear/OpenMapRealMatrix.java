@@ -356,6 +356,24 @@ public class OpenMapRealMatrix extends AbstractRealMatrix
         }
     }
 
+    /**
+     * Add the non-zero entries of this matrix to a compressed sparse row builder.
+     * <p>
+     * This method visits only the stored entries, in hash order, so its cost
+     * is proportional to the number of non-zero entries and not to the total
+     * number of entries.
+     * </p>
+     * @param builder builder to which entries should be added
+     * @since 3.1
+     */
+    void addNonZeros(final CompressedRowRealMatrix.CompressedRowRealMatrixBuilder builder) {
+        for (OpenIntToDoubleHashMap.Iterator iterator = entries.iterator(); iterator.hasNext();) {
+            iterator.advance();
+            final int key = iterator.key();
+            builder.addEntry(key / columns, key % columns, iterator.value());
+        }
+    }
+
     /**
      * Compute the key to access a matrix element
      * @param row row index of the matrix element
@@ -0,0 +1,1092 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hipparchus.linear;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.stream.IntStream;
+
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.exception.MathIllegalArgumentException;
+import org.hipparchus.exception.MathIllegalStateException;
+import org.hipparchus.random.RandomGenerator;
+import org.hipparchus.random.Well1024a;
+import org.hipparchus.util.FastMath;
+import org.hipparchus.util.MathUtils;
+import org.hipparchus.util.Precision;
+
+/**
+ * Calculates the eigen decomposition of a large symmetric real matrix, using several threads.
+ * <p>
+ * As in {@link EigenDecompositionSymmetric}, the matrix is first transformed to
+ * tridiagonal form by a {@link TriDiagonalTransformer}, but the tridiagonal
+ * eigenproblem is solved differently:
+ * </p>
+ * <ul>
+ *   <li>when all eigenpairs are requested, a divide-and-conquer algorithm is used
+ *   (Cuppen's method, with deflation and Gu-Eisenstat computation of the eigenvectors
+ *   for numerical orthogonality); the two halves of each split are solved in parallel
+ *   and the merges are performed by parallel matrix products,</li>
+ *   <li>when only the eigenpairs in an {@link #selectIndices(RealMatrix, double, boolean,
+ *   int, int, ForkJoinPool) index range} or in a {@link #selectValues(RealMatrix, double,
+ *   boolean, double, double, ForkJoinPool) value range} are requested, the eigenvalues
+ *   are computed by bisection using Sturm sequences and the eigenvectors are computed
+ *   by inverse iteration, both in parallel; the cost of this step is then proportional
+ *   to the number of selected eigenpairs.</li>
+ * </ul>
+ * <p>
+ * In both cases, the eigenvectors of the tridiagonal matrix are transformed back to
+ * eigenvectors of the original matrix by applying the Householder reflectors directly
+ * to groups of vectors in parallel, without forming the orthogonal transform explicitly.
+ * </p>
+ * <p>
+ * The eigenvectors are orthonormal. When only some eigenpairs are selected, the
+ * \(V\) matrix has as many columns as selected eigenpairs, so no determinant
+ * or solver is provided by this class.
+ * </p>
+ * @see EigenDecompositionSymmetric
+ * @since 3.1
+ */
+public class ParallelEigenDecompositionSymmetric {
+
+    /** Default epsilon value to use for internal epsilon **/
+    public static final double DEFAULT_EPSILON = EigenDecompositionSymmetric.DEFAULT_EPSILON;
+
+    /** Size under which tridiagonal sub-problems are solved directly. */
+    private static final int LEAF_SIZE = 32;
+
+    /** Maximum number of iterations for secular equation roots and bisection. */
+    private static final int MAX_ITER = 200;
+
+    /** Number of inverse iterations for each eigenvector. */
+    private static final int INVERSE_ITERATIONS = 3;
+
+    /** Minimum number of vectors transformed back by each task. */
+    private static final int MIN_VECTORS_GRAIN = 16;
+
+    /** Relative gap under which eigenvalues are considered to belong to one cluster. */
+    private static final double CLUSTER_GAP = 1.0e-3;
+
+    /** Pool in which computation is performed. */
+    private final ForkJoinPool pool;
+
+    /** Internally used epsilon criteria. */
+    private final double epsilon;
+
+    /** Eigenvalues. */
+    private final double[] eigenvalues;
+
+    /** Eigenvectors. */
+    private final ArrayRealVector[] eigenvectors;
+
+    /** Cached value of V. */
+    private RealMatrix cachedV;
+
+    /** Cached value of D. */
+    private DiagonalMatrix cachedD;
+
+    /** Cached value of Vt. */
+    private RealMatrix cachedVt;
+
+    /**
+     * Calculates the complete eigen decomposition of the given symmetric real matrix.
+     * <p>
+     * This constructor uses the {@link #DEFAULT_EPSILON default epsilon} and
+     * decreasing order for eigenvalues.
+     * </p>
+     * @param matrix Matrix to decompose.
+     * @param pool pool in which computation is performed
+     * @throws MathIllegalArgumentException if the matrix is not symmetric
+     */
+    public ParallelEigenDecompositionSymmetric(final RealMatrix matrix, final ForkJoinPool pool) {
+        this(matrix, DEFAULT_EPSILON, true, pool);
+    }
+
+    /**
+     * Calculates the complete eigen decomposition of the given symmetric real matrix.
+     *
+     * @param matrix Matrix to decompose.
+     * @param epsilon Epsilon used for internal tests (e.g. symmetry check)
+     * @param decreasing if true, eigenvalues will be sorted in decreasing order
+     * @param pool pool in which computation is performed
+     * @throws MathIllegalArgumentException if the matrix is not symmetric
+     */
+    public ParallelEigenDecompositionSymmetric(final RealMatrix matrix, final double epsilon,
+                                               final boolean decreasing, final ForkJoinPool pool) {
+        this(matrix, epsilon, decreasing, pool, null);
+    }
+
+    /**
+     * Calculates the eigen decomposition of the given symmetric real matrix.
+     *
+     * @param matrix Matrix to decompose.
+     * @param epsilon Epsilon used for internal tests (e.g. symmetry check)
+     * @param decreasing if true, eigenvalues will be sorted in decreasing order
+     * @param pool pool in which computation is performed
+     * @param selector selector for the eigenvalues to compute (null for all eigenvalues)
+     * @throws MathIllegalArgumentException if the matrix is not symmetric
+     */
+    private ParallelEigenDecompositionSymmetric(final RealMatrix matrix, final double epsilon,
+                                                final boolean decreasing, final ForkJoinPool pool,
+                                                final Selector selector) {
+
+        MathUtils.checkNotNull(pool);
+        this.pool    = pool;
+        this.epsilon = epsilon;
+        MatrixUtils.checkSymmetric(matrix, epsilon);
+
+        // transform the matrix to tridiagonal
+        final TriDiagonalTransformer transformer = new TriDiagonalTransformer(matrix);
+        final double[] main      = transformer.getMainDiagonalRef();
+        final double[] secondary = transformer.getSecondaryDiagonalRef();
+
+        // solve the tridiagonal eigenproblem, with eigenvalues in increasing order
+        final double[]   values;
+        final double[][] vectors;
+        if (selector == null) {
+            final Eigen eigen = pool.invoke(new DivideAndConquerTask(main.clone(), secondary.clone(),
+                                                                     0, main.length));
+            values  = eigen.values;
+            vectors = new Array2DRowRealMatrix(eigen.vectors, false).transpose().getData();
+        } else {
+            final int[] range = selector.select(main, secondary);
+            values  = bisection(main, secondary, range[0], range[1]);
+            vectors = inverseIteration(main, secondary, values);
+        }
+
+        // transform back the eigenvectors
+        backTransform(transformer.getHouseholderVectorsRef(), secondary, vectors);
+
+        final int k = values.length;
+        eigenvalues  = new double[k];
+        eigenvectors = new ArrayRealVector[k];
+        for (int i = 0; i < k; ++i) {
+            final int j = decreasing ? k - 1 - i : i;
+            eigenvalues[i]  = values[j];
+            eigenvectors[i] = new ArrayRealVector(vectors[j], false);
+        }
+
+    }
+
+    /**
+     * Calculates the eigenpairs of the given symmetric real matrix within an index range.
+     * <p>
+     * The indices refer to the order of eigenvalues selected by the {@code decreasing}
+     * flag, so for example the eigenpairs corresponding to the 10 largest eigenvalues
+     * are selected with {@code decreasing} set to true, {@code from} set to 0 and
+     * {@code to} set to 10.
+     * </p>
+     * @param matrix Matrix to decompose.
+     * @param epsilon Epsilon used for internal tests (e.g. symmetry check)
+     * @param decreasing if true, eigenvalues will be sorted in decreasing order
+     * @param from index of the first eigenvalue to compute (included)
+     * @param to index of the last eigenvalue to compute (excluded)
+     * @param pool pool in which computation is performed
+     * @return decomposition containing only the selected eigenpairs
+     * @throws MathIllegalArgumentException if the matrix is not symmetric
+     * or the indices are out of range
+     */
+    public static ParallelEigenDecompositionSymmetric selectIndices(final RealMatrix matrix, final double epsilon,
+                                                                    final boolean decreasing,
+                                                                    final int from, final int to,
+                                                                    final ForkJoinPool pool)
+        throws MathIllegalArgumentException {
+        final int n = matrix.getRowDimension();
+        MathUtils.checkRangeInclusive(from, 0, n);
+        MathUtils.checkRangeInclusive(to, from, n);
+        return new ParallelEigenDecompositionSymmetric(matrix, epsilon, decreasing, pool,
+                                                       (main, secondary) ->
+                                                       decreasing ? new int[] { n - to, n - from } : new int[] { from, to });
+    }
+
+    /**
+     * Calculates the eigenpairs of the given symmetric real matrix within a value range.
+     * <p>
+     * The eigenvalues \(\lambda\) selected are the ones such that
+     * {@code lower} &le; \(\lambda\) &lt; {@code upper}.
+     * </p>
+     * @param matrix Matrix to decompose.
+     * @param epsilon Epsilon used for internal tests (e.g. symmetry check)
+     * @param decreasing if true, eigenvalues will be sorted in decreasing order
+     * @param lower lower bound of the eigenvalues to compute (included)
+     * @param upper upper bound of the eigenvalues to compute (excluded)
+     * @param pool pool in which computation is performed
+     * @return decomposition containing only the selected eigenpairs
+     * @throws MathIllegalArgumentException if the matrix is not symmetric
+     * or the bounds are not sorted
+     */
+    public static ParallelEigenDecompositionSymmetric selectValues(final RealMatrix matrix, final double epsilon,
+                                                                   final boolean decreasing,
+                                                                   final double lower, final double upper,
+                                                                   final ForkJoinPool pool)
+        throws MathIllegalArgumentException {
+        if (upper <= lower) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.LOWER_BOUND_NOT_BELOW_UPPER_BOUND,
+                                                   lower, upper);
+        }
+        return new ParallelEigenDecompositionSymmetric(matrix, epsilon, decreasing, pool,
+                                                       (main, secondary) -> {
+                                                           final double pivMin = pivMin(secondary);
+                                                           return new int[] {
+                                                               countLower(main, secondary, pivMin, lower),
+                                                               countLower(main, secondary, pivMin, upper)
+                                                           };
+                                                       });
+    }
+
+    /**
+     * Gets the matrix V of the decomposition.
+     * <p>
+     * The columns of V are the eigenvectors of the original matrix. V has as
+     * many columns as computed eigenpairs, so it is an orthogonal matrix
+     * only if all eigenpairs have been computed.
+     * </p>
+     * @return the V matrix.
+     * @exception MathIllegalStateException if no eigenpairs have been selected
+     */
+    public RealMatrix getV() throws MathIllegalStateException {
+
+        if (cachedV == null) {
+            if (eigenvectors.length == 0) {
+                // a matrix with no columns cannot be built
+                throw new MathIllegalStateException(LocalizedCoreFormats.NO_DATA);
+            }
+            final int m = eigenvectors[0].getDimension();
+            final double[][] v = new double[m][eigenvectors.length];
+            for (int k = 0; k < eigenvectors.length; ++k) {
+                final double[] vK = eigenvectors[k].getDataRef();
+                for (int i = 0; i < m; ++i) {
+                    v[i][k] = vK[i];
+                }
+            }
+            cachedV = MatrixUtils.createRealMatrix(v);
+        }
+        // return the cached matrix
+        return cachedV;
+    }
+
+    /**
+     * Gets the diagonal matrix D of the decomposition.
+     * D is a diagonal matrix.
+     * @return the D matrix.
+     *
+     * @see #getEigenvalues()
+     */
+    public DiagonalMatrix getD() {
+
+        if (cachedD == null) {
+            // cache the matrix for subsequent calls
+            cachedD = new DiagonalMatrix(eigenvalues);
+        }
+
+        return cachedD;
+
+    }
+
+    /**
+     * Get's the value for epsilon which is used for internal tests (e.g. symmetry check).
+     *
+     * @return the epsilon value.
+     */
+    public double getEpsilon() {
+        return epsilon;
+    }
+
+    /**
+     * Gets the transpose of the matrix V of the decomposition.
+     * @return the transpose of the V matrix.
+     * @exception MathIllegalStateException if no eigenpairs have been selected
+     * @see #getV()
+     */
+    public RealMatrix getVT() throws MathIllegalStateException {
+
+        if (cachedVt == null) {
+            cachedVt = getV().transpose();
+        }
+
+        // return the cached matrix
+        return cachedVt;
+    }
+
+    /**
+     * Gets a copy of the computed eigenvalues of the original matrix.
+     *
+     * @return a copy of the computed eigenvalues of the original matrix.
+     *
+     * @see #getD()
+     * @see #getEigenvalue(int)
+     */
+    public double[] getEigenvalues() {
+        return eigenvalues.clone();
+    }
+
+    /**
+     * Returns the i<sup>th</sup> computed eigenvalue of the original matrix.
+     *
+     * @param i index of the eigenvalue (counting from 0)
+     * @return i<sup>th</sup> computed eigenvalue of the original matrix.
+     *
+     * @see #getD()
+     * @see #getEigenvalues()
+     */
+    public double getEigenvalue(final int i) {
+        return eigenvalues[i];
+    }
+
+    /**
+     * Gets a copy of the i<sup>th</sup> computed eigenvector of the original matrix.
+     * @param i Index of the eigenvector (counting from 0).
+     * @return a copy of the i<sup>th</sup> computed eigenvector of the original matrix.
+     * @see #getD()
+     */
+    public RealVector getEigenvector(final int i) {
+        return eigenvectors[i].copy();
+    }
+
+    /** Apply the Householder reflectors of the tridiagonal transform to vectors.
+     * <p>
+     * The vectors are transformed in place, in parallel by groups, so each
+     * reflector is reused from cache for all vectors in a group.
+     * </p>
+     * @param householderVectors Householder vectors of the transform
+     * @param secondary secondary diagonal of the tridiagonal matrix
+     * @param vectors vectors to transform (each array is one vector)
+     */
+    private void backTransform(final double[][] householderVectors, final double[] secondary,
+                               final double[][] vectors) {
+        final int m = householderVectors.length;
+        pool.invoke(new RangeTask((start, end) -> {
+            // V = H(0) H(1) ... H(m-2) Z, so the last reflector is applied first
+            for (int k = m - 2; k >= 0; --k) {
+                final double[] hK = householderVectors[k];
+                if (hK[k + 1] != 0.0) {
+                    final double inv = 1.0 / (secondary[k] * hK[k + 1]);
+                    for (int j = start; j < end; ++j) {
+                        final double[] v = vectors[j];
+                        double beta = 0;
+                        for (int i = k + 1; i < m; ++i) {
+                            beta += v[i] * hK[i];
+                        }
+                        beta *= inv;
+                        for (int i = k + 1; i < m; ++i) {
+                            v[i] += beta * hK[i];
+                        }
+                    }
+                }
+            }
+        }, 0, vectors.length, MIN_VECTORS_GRAIN));
+    }
+
+    /** Compute the minimum pivot allowed in Sturm sequences.
+     * @param secondary secondary diagonal of the tridiagonal matrix
+     * @return minimum pivot
+     */
+    private static double pivMin(final double[] secondary) {
+        double max = 1.0;
+        for (final double e : secondary) {
+            max = FastMath.max(max, e * e);
+        }
+        return Precision.SAFE_MIN * max;
+    }
+
+    /** Count the eigenvalues of a tridiagonal matrix lower than a value.
+     * <p>
+     * This is the number of negative pivots in the LDL<sup>T</sup> factorization
+     * of T - x I (Sturm sequence).
+     * </p>
+     * @param main main diagonal of the tridiagonal matrix
+     * @param secondary secondary diagonal of the tridiagonal matrix
+     * @param pivMin minimum pivot allowed
+     * @param x value to check
+     * @return number of eigenvalues strictly lower than x
+     */
+    private static int countLower(final double[] main, final double[] secondary,
+                                  final double pivMin, final double x) {
+        int count = 0;
+        double q = main[0] - x;
+        for (int i = 0; ; ++i) {
+            if (FastMath.abs(q) < pivMin) {
+                q = -pivMin;
+            }
+            if (q < 0) {
+                ++count;
+            }
+            if (i == secondary.length) {
+                return count;
+            }
+            q = main[i + 1] - x - secondary[i] * secondary[i] / q;
+        }
+    }
+
+    /** Compute the norm of a tridiagonal matrix.
+     * @param main main diagonal of the tridiagonal matrix
+     * @param secondary secondary diagonal of the tridiagonal matrix
+     * @return norm of the matrix (maximum absolute row sum)
+     */
+    private static double norm(final double[] main, final double[] secondary) {
+        double norm = 0;
+        for (int i = 0; i < main.length; ++i) {
+            final double below = i == 0 ? 0 : FastMath.abs(secondary[i - 1]);
+            final double above = i == secondary.length ? 0 : FastMath.abs(secondary[i]);
+            norm = FastMath.max(norm, FastMath.abs(main[i]) + below + above);
+        }
+        return norm;
+    }
+
+    /** Compute selected eigenvalues of a tridiagonal matrix by bisection.
+     * @param main main diagonal of the tridiagonal matrix
+     * @param secondary secondary diagonal of the tridiagonal matrix
+     * @param from index of the first eigenvalue to compute in increasing order (included)
+     * @param to index of the last eigenvalue to compute in increasing order (excluded)
+     * @return selected eigenvalues, in increasing order
+     */
+    private double[] bisection(final double[] main, final double[] secondary, final int from, final int to) {
+
+        final double pivMin = pivMin(secondary);
+        final double norm   = norm(main, secondary);
+        final double margin = 2 * Precision.EPSILON * main.length * norm + 2 * pivMin;
+
+        final double[] values = new double[to - from];
+        pool.invoke(new RangeTask((start, end) -> {
+            for (int index = start; index < end; ++index) {
+                // Gershgorin interval contains all eigenvalues
+                double lo = -norm - margin;
+                double hi =  norm + margin;
+                for (int iter = 0; iter < MAX_ITER; ++iter) {
+                    final double tol = 2 * Precision.EPSILON * FastMath.max(FastMath.abs(lo), FastMath.abs(hi)) +
+                                       pivMin;
+                    if (hi - lo <= tol) {
+                        break;
+                    }
+                    final double mid = 0.5 * (lo + hi);
+                    if (countLower(main, secondary, pivMin, mid) > from + index) {
+                        hi = mid;
+                    } else {
+                        lo = mid;
+                    }
+                }
+                values[index] = 0.5 * (lo + hi);
+            }
+        }, 0, values.length, 1));
+
+        return values;
+
+    }
+
+    /** Compute eigenvectors of a tridiagonal matrix by inverse iteration.
+     * <p>
+     * Eigenvectors corresponding to clustered eigenvalues are orthogonalized
+     * against each other (modified Gram-Schmidt) at each iteration. Clusters
+     * are processed in parallel.
+     * </p>
+     * @param main main diagonal of the tridiagonal matrix
+     * @param secondary secondary diagonal of the tridiagonal matrix
+     * @param values eigenvalues, in increasing order
+     * @return eigenvectors (each array is one vector)
+     */
+    private double[][] inverseIteration(final double[] main, final double[] secondary, final double[] values) {
+
+        final int      n     = main.length;
+        final double   norm  = norm(main, secondary);
+        final double[][] vectors = new double[values.length][];
+
+        // identify clusters
+        final int[] clusterStart = new int[values.length + 1];
+        int nbClusters = 0;
+        for (int j = 0; j < values.length; ++j) {
+            if (j == 0 || values[j] - values[j - 1] > CLUSTER_GAP * norm) {
+                clusterStart[nbClusters++] = j;
+            }
+        }
+        clusterStart[nbClusters] = values.length;
+
+        pool.invoke(new RangeTask((start, end) -> {
+            for (int c = start; c < end; ++c) {
+                double previous = Double.NaN;
+                for (int j = clusterStart[c]; j < clusterStart[c + 1]; ++j) {
+
+                    // perturb equal eigenvalues so factorizations differ
+                    double x = values[j];
+                    if (j > clusterStart[c] && x - previous < 10 * Precision.EPSILON * FastMath.abs(x)) {
+                        x = previous + 10 * Precision.EPSILON * FastMath.max(FastMath.abs(x), norm);
+                    }
+                    previous = x;
+
+                    final ShiftedTriDiagonal factor = new ShiftedTriDiagonal(main, secondary, x, norm);
+                    final RandomGenerator random = new Well1024a(0x5ae9f7d20c1b4386L + j);
+                    double[] v = new double[n];
+                    for (int i = 0; i < n; ++i) {
+                        v[i] = random.nextDouble() - 0.5;
+                    }
+                    for (int iter = 0; iter < INVERSE_ITERATIONS; ++iter) {
+                        v = factor.solve(v);
+                        for (int p = clusterStart[c]; p < j; ++p) {
+                            orthogonalize(v, vectors[p]);
+                        }
+                        normalize(v);
+                    }
+                    vectors[j] = v;
+
+                }
+            }
+        }, 0, nbClusters, 1));
+
+        return vectors;
+
+    }
+
+    /** Remove from a vector its component along a unit vector.
+     * @param v vector to orthogonalize (modified in place)
+     * @param u unit vector
+     */
+    private static void orthogonalize(final double[] v, final double[] u) {
+        double dot = 0;
+        for (int i = 0; i < v.length; ++i) {
+            dot += v[i] * u[i];
+        }
+        for (int i = 0; i < v.length; ++i) {
+            v[i] -= dot * u[i];
+        }
+    }
+
+    /** Normalize a vector.
+     * @param v vector to normalize (modified in place)
+     */
+    private static void normalize(final double[] v) {
+        double max = 0;
+        for (final double vI : v) {
+            max = FastMath.max(max, FastMath.abs(vI));
+        }
+        double sum = 0;
+        for (int i = 0; i < v.length; ++i) {
+            v[i] /= max;
+            sum  += v[i] * v[i];
+        }
+        final double inv = 1.0 / FastMath.sqrt(sum);
+        for (int i = 0; i < v.length; ++i) {
+            v[i] *= inv;
+        }
+    }
+
+    /** Selector for the eigenvalues to compute. */
+    @FunctionalInterface
+    private interface Selector {
+
+        /** Select the range of eigenvalues to compute.
+         * @param main main diagonal of the tridiagonal matrix
+         * @param secondary secondary diagonal of the tridiagonal matrix
+         * @return indices of the first (included) and last (excluded) eigenvalues
+         * to compute, in increasing order
+         */
+        int[] select(double[] main, double[] secondary);
+
+    }
+
+    /** LU factorization with partial pivoting of a shifted tridiagonal matrix T - x I. */
+    private static class ShiftedTriDiagonal {
+
+        /** Diagonal of U. */
+        private final double[] diag;
+
+        /** First super-diagonal of U. */
+        private final double[] upper1;
+
+        /** Second super-diagonal of U. */
+        private final double[] upper2;
+
+        /** Multipliers of L. */
+        private final double[] multipliers;
+
+        /** Rows interchanges. */
+        private final boolean[] swapped;
+
+        /** Simple constructor.
+         * @param main main diagonal of the tridiagonal matrix
+         * @param secondary secondary diagonal of the tridiagonal matrix
+         * @param x shift
+         * @param norm norm of the tridiagonal matrix
+         */
+        ShiftedTriDiagonal(final double[] main, final double[] secondary, final double x, final double norm) {
+
+            final int n = main.length;
+            diag        = new double[n];
+            upper1      = new double[n];
+            upper2      = new double[n];
+            multipliers = new double[n];
+            swapped     = new boolean[n];
+            for (int i = 0; i < n; ++i) {
+                diag[i] = main[i] - x;
+            }
+            System.arraycopy(secondary, 0, upper1, 0, secondary.length);
+
+            // tiny pivots are replaced, as the matrix is singular by design
+            final double tiny = FastMath.max(Precision.EPSILON * norm, Precision.SAFE_MIN);
+            for (int i = 0; i < n - 1; ++i) {
+                final double below = secondary[i];
+                if (FastMath.abs(diag[i]) >= FastMath.abs(below)) {
+                    if (FastMath.abs(diag[i]) < tiny) {
+                        diag[i] = FastMath.copySign(tiny, diag[i]);
+                    }
+                    final double l = below / diag[i];
+                    multipliers[i] = l;
+                    diag[i + 1]   -= l * upper1[i];
+                } else {
+                    // exchange rows i and i + 1
+                    final double l     = diag[i] / below;
+                    final double d1    = diag[i + 1];
+                    final double u1    = upper1[i];
+                    final double u1Row = upper1[i + 1];
+                    swapped[i]     = true;
+                    multipliers[i] = l;
+                    diag[i]        = below;
+                    upper1[i]      = d1;
+                    upper2[i]      = u1Row;
+                    diag[i + 1]    = u1 - l * d1;
+                    upper1[i + 1]  = -l * u1Row;
+                }
+            }
+            if (FastMath.abs(diag[n - 1]) < tiny) {
+                diag[n - 1] = FastMath.copySign(tiny, diag[n - 1]);
+            }
+
+        }
+
+        /** Solve (T - x I) y = b.
+         * @param b right hand side (modified by the method)
+         * @return solution y
+         */
+        double[] solve(final double[] b) {
+            final int n = diag.length;
+            for (int i = 0; i < n - 1; ++i) {
+                if (swapped[i]) {
+                    final double tmp = b[i];
+                    b[i]     = b[i + 1];
+                    b[i + 1] = tmp;
+                }
+                b[i + 1] -= multipliers[i] * b[i];
+            }
+            final double[] y = new double[n];
+            for (int i = n - 1; i >= 0; --i) {
+                double s = b[i];
+                if (i + 1 < n) {
+                    s -= upper1[i] * y[i + 1];
+                }
+                if (i + 2 < n) {
+                    s -= upper2[i] * y[i + 2];
+                }
+                y[i] = s / diag[i];
+            }
+            return y;
+        }
+
+    }
+
+    /** Eigenvalues and eigenvectors of a tridiagonal sub-problem. */
+    private static class Eigen {
+
+        /** Eigenvalues, in increasing order. */
+        private final double[] values;
+
+        /** Eigenvectors, one per column. */
+        private final double[][] vectors;
+
+        /** Simple constructor.
+         * @param values eigenvalues, in increasing order
+         * @param vectors eigenvectors, one per column
+         */
+        Eigen(final double[] values, final double[][] vectors) {
+            this.values  = values;
+            this.vectors = vectors;
+        }
+
+    }
+
+    /** Divide-and-conquer task for a tridiagonal sub-problem. */
+    private class DivideAndConquerTask extends RecursiveTask<Eigen> {
+
+        /** Serializable version identifier. */
+        private static final long serialVersionUID = 20261017L;
+
+        /** Main diagonal (shared between all tasks, modified by rank-one tearing). */
+        private final double[] main;
+
+        /** Secondary diagonal (shared between all tasks). */
+        private final double[] secondary;
+
+        /** Index of the first row of the sub-problem (included). */
+        private final int start;
+
+        /** Index of the last row of the sub-problem (excluded). */
+        private final int end;
+
+        /** Simple constructor.
+         * @param main main diagonal (shared between all tasks)
+         * @param secondary secondary diagonal (shared between all tasks)
+         * @param start index of the first row of the sub-problem (included)
+         * @param end index of the last row of the sub-problem (excluded)
+         */
+        DivideAndConquerTask(final double[] main, final double[] secondary, final int start, final int end) {
+            this.main      = main;
+            this.secondary = secondary;
+            this.start     = start;
+            this.end       = end;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        protected Eigen compute() {
+
+            if (end - start <= LEAF_SIZE) {
+                // small problem, solved directly using implicit QL
+                final EigenDecompositionSymmetric ed =
+                                new EigenDecompositionSymmetric(Arrays.copyOfRange(main, start, end),
+                                                                Arrays.copyOfRange(secondary, start, end - 1),
+                                                                EigenDecompositionSymmetric.DEFAULT_EPSILON,
+                                                                false);
+                return new Eigen(ed.getEigenvalues(), ed.getV().getData());
+            }
+
+            // tear the matrix: T = diag(T1, T2) + rho u uT, with u = e(middle - 1) + e(middle)
+            final int    middle = (start + end) >>> 1;
+            final double rho    = secondary[middle - 1];
+            main[middle - 1] -= rho;
+            main[middle]     -= rho;
+
+            final DivideAndConquerTask first  = new DivideAndConquerTask(main, secondary, start, middle);
+            final DivideAndConquerTask second = new DivideAndConquerTask(main, secondary, middle, end);
+            invokeAll(first, second);
+
+            return merge(first.join(), second.join(), rho);
+
+        }
+
+    }
+
+    /** Merge the eigen decompositions of two sub-problems.
+     * @param first decomposition of the first sub-problem
+     * @param second decomposition of the second sub-problem
+     * @param rho coupling between the sub-problems
+     * @return decomposition of the merged problem
+     */
+    private Eigen merge(final Eigen first, final Eigen second, final double rho) {
+
+        final int n1 = first.values.length;
+        final int n  = n1 + second.values.length;
+
+        // the merged problem is Q (D + rho z zT) QT, with Q = diag(Q1, Q2)
+        final double[][] q = new double[n][n];
+        final double[]   d = new double[n];
+        final double[]   z = new double[n];
+        for (int i = 0; i < n1; ++i) {
+            System.arraycopy(first.vectors[i], 0, q[i], 0, n1);
+            d[i] = first.values[i];
+            z[i] = first.vectors[n1 - 1][i];
+        }
+        for (int i = n1; i < n; ++i) {
+            System.arraycopy(second.vectors[i - n1], 0, q[i], n1, n - n1);
+            d[i] = second.values[i - n1];
+            z[i] = second.vectors[0][i - n1];
+        }
+
+        // normalize z and ensure rho is positive, flipping the sign of the problem if needed
+        double zNorm2 = 0;
+        for (final double zI : z) {
+            zNorm2 += zI * zI;
+        }
+        final double zNorm = FastMath.sqrt(zNorm2);
+        final double sign  = rho < 0 ? -1 : 1;
+        final double r     = FastMath.abs(rho) * zNorm2;
+        for (int i = 0; i < n; ++i) {
+            z[i] /= zNorm;
+            d[i] *= sign;
+        }
+
+        // sort values, keeping track of the associated columns
+        final Integer[] sorted = new Integer[n];
+        for (int i = 0; i < n; ++i) {
+            sorted[i] = i;
+        }
+        Arrays.sort(sorted, Comparator.comparingDouble(i -> d[i]));
+        final int[]    col = new int[n];
+        final double[] ds  = new double[n];
+        final double[] zs  = new double[n];
+        double maxD = 0;
+        double maxZ = 0;
+        for (int j = 0; j < n; ++j) {
+            col[j] = sorted[j];
+            ds[j]  = d[col[j]];
+            zs[j]  = z[col[j]];
+            maxD   = FastMath.max(maxD, FastMath.abs(ds[j]));
+            maxZ   = FastMath.max(maxZ, FastMath.abs(zs[j]));
+        }
+
+        // deflation
+        final double    tol      = 8 * Precision.EPSILON * FastMath.max(maxD, r * maxZ);
+        final boolean[] deflated = new boolean[n];
+        int previous    = -1;
+        int nonDeflated = 0;
+        for (int j = 0; j < n; ++j) {
+            if (r * FastMath.abs(zs[j]) <= tol) {
+                // negligible component, the eigenpair is already known
+                deflated[j] = true;
+            } else {
+                if (previous >= 0) {
+                    final double s = zs[previous];
+                    final double c = zs[j];
+                    final double h = FastMath.hypot(c, s);
+                    if (FastMath.abs((ds[j] - ds[previous]) * (c / h) * (s / h)) <= tol) {
+                        // close values, a Givens rotation eliminates one component
+                        final double cn = c / h;
+                        final double sn = s / h;
+                        zs[j]        = h;
+                        zs[previous] = 0;
+                        final double dp = ds[previous];
+                        ds[previous] = cn * cn * dp + sn * sn * ds[j];
+                        ds[j]        = sn * sn * dp + cn * cn * ds[j];
+                        final int cp = col[previous];
+                        final int cj = col[j];
+                        for (final double[] qRow : q) {
+                            final double a = qRow[cp];
+                            final double b = qRow[cj];
+                            qRow[cp] = cn * a - sn * b;
+                            qRow[cj] = sn * a + cn * b;
+                        }
+                        deflated[previous] = true;
+                        --nonDeflated;
+                    }
+                }
+                previous = j;
+                ++nonDeflated;
+            }
+        }
+
+        // gather non-deflated components
+        final int      k    = nonDeflated;
+        final int[]    kept = new int[k];
+        final double[] dk   = new double[k];
+        final double[] zk   = new double[k];
+        for (int j = 0, p = 0; j < n; ++j) {
+            if (!deflated[j]) {
+                kept[p] = j;
+                dk[p]   = ds[j];
+                zk[p]   = zs[j];
+                ++p;
+            }
+        }
+
+        // solve secular equation
+        final double[]   lambda = new double[k];
+        final double[][] delta  = new double[k][];
+        pool.invoke(new RangeTask((rangeStart, rangeEnd) -> {
+            for (int i = rangeStart; i < rangeEnd; ++i) {
+                delta[i]  = new double[k];
+                lambda[i] = secularRoot(dk, zk, r, i, delta[i]);
+            }
+        }, 0, k, FastMath.max(1, (1 << 14) / FastMath.max(1, k))));
+
+        // recompute z for numerical orthogonality of eigenvectors (Gu and Eisenstat)
+        final double[] zHat = new double[k];
+        for (int j = 0; j < k; ++j) {
+            double w = delta[j][j];
+            for (int i = 0; i < k; ++i) {
+                if (i != j) {
+                    w *= delta[i][j] / (dk[j] - dk[i]);
+                }
+            }
+            zHat[j] = FastMath.copySign(FastMath.sqrt(FastMath.abs(w)), zk[j]);
+        }
+
+        // eigenvectors of D + rho z zT
+        final double[][] u = new double[k][k];
+        pool.invoke(new RangeTask((rangeStart, rangeEnd) -> {
+            for (int i = rangeStart; i < rangeEnd; ++i) {
+                double norm2 = 0;
+                for (int j = 0; j < k; ++j) {
+                    final double uJ = zHat[j] / delta[i][j];
+                    u[j][i] = uJ;
+                    norm2  += uJ * uJ;
+                }
+                final double inv = 1.0 / FastMath.sqrt(norm2);
+                for (int j = 0; j < k; ++j) {
+                    u[j][i] *= inv;
+                }
+            }
+        }, 0, k, FastMath.max(1, (1 << 14) / FastMath.max(1, k))));
+
+        // eigenvectors of the merged problem
+        final double[][] qk = new double[n][k];
+        for (int i = 0; i < n; ++i) {
+            final double[] qRow = q[i];
+            final double[] qkRow = qk[i];
+            for (int p = 0; p < k; ++p) {
+                qkRow[p] = qRow[col[kept[p]]];
+            }
+        }
+        final double[][] products = k == 0 ?
+                                    new double[n][0] :
+                                    new BlockRealMatrix(qk).multiply(new BlockRealMatrix(u), pool).getData();
+
+        // gather all eigenpairs, sorted in increasing order
+        final double[]   values  = new double[n];
+        final double[][] vectors = new double[n][n];
+        final int[]      source  = new int[n];
+        for (int j = 0, p = 0; j < n; ++j) {
+            if (deflated[j]) {
+                values[j] = sign * ds[j];
+                source[j] = -1 - col[j];
+            } else {
+                values[j] = sign * lambda[p];
+                source[j] = p++;
+            }
+        }
+        final int[] order = IntStream.range(0, n).boxed().
+                            sorted(Comparator.comparingDouble(j -> values[j])).
+                            mapToInt(Integer::intValue).toArray();
+        final double[] sortedValues = new double[n];
+        for (int c = 0; c < n; ++c) {
+            final int j = order[c];
+            sortedValues[c] = values[j];
+            for (int i = 0; i < n; ++i) {
+                vectors[i][c] = source[j] < 0 ? q[i][-1 - source[j]] : products[i][source[j]];
+            }
+        }
+
+        return new Eigen(sortedValues, vectors);
+
+    }
+
+    /** Find one root of the secular equation 1 + r &sum; z<sub>j</sub><sup>2</sup> / (d<sub>j</sub> - &lambda;) = 0.
+     * <p>
+     * The root is searched between d<sub>i</sub> and d<sub>i+1</sub> (or between
+     * d<sub>k-1</sub> and d<sub>k-1</sub> + r for the last one), using a rational
+     * interpolation of the two nearest poles ("middle way" method from Ren-Cang Li),
+     * safeguarded by bisection. The origin is shifted to the nearest pole, so the
+     * differences d<sub>j</sub> - &lambda; are computed accurately.
+     * </p>
+     * @param d poles, in strictly increasing order
+     * @param z weights (normalized)
+     * @param r positive scaling factor
+     * @param i index of the root
+     * @param diff placeholder for the differences d<sub>j</sub> - &lambda;
+     * @return root
+     */
+    private static double secularRoot(final double[] d, final double[] z, final double r,
+                                      final int i, final double[] diff) {
+
+        final int k    = d.length;
+        final boolean last = i == k - 1;
+
+        // select origin and initial bracket
+        final int origin;
+        double lo;
+        double hi;
+        if (last) {
+            origin = i;
+            lo     = 0;
+            hi     = r;
+        } else {
+            final double mid = 0.5 * (d[i] + d[i + 1]);
+            double f = 1;
+            for (int j = 0; j < k; ++j) {
+                f += r * z[j] * z[j] / (d[j] - mid);
+            }
+            if (f >= 0) {
+                origin = i;
+                lo     = 0;
+                hi     = mid - d[i];
+            } else {
+                origin = i + 1;
+                lo     = mid - d[i + 1];
+                hi     = 0;
+            }
+        }
+        final double[] shifted = new double[k];
+        for (int j = 0; j < k; ++j) {
+            shifted[j] = d[j] - d[origin];
+        }
+
+        double tau = 0.5 * (lo + hi);
+        for (int iter = 0; iter < MAX_ITER; ++iter) {
+
+            // evaluate function and derivatives, split on both sides of the root
+            double psi  = 0;
+            double dPsi = 0;
+            double phi  = 0;
+            double dPhi = 0;
+            for (int j = 0; j < k; ++j) {
+                diff[j] = shifted[j] - tau;
+                final double t = r * z[j] * z[j] / diff[j];
+                if (j <= i) {
+                    psi  += t;
+                    dPsi += t / diff[j];
+                } else {
+                    phi  += t;
+                    dPhi += t / diff[j];
+                }
+            }
+            final double f = 1 + psi + phi;
+            if (FastMath.abs(f) <= Precision.EPSILON * k * (1 + FastMath.abs(psi) + FastMath.abs(phi))) {
+                break;
+            }
+
+            // update bracket
+            if (f < 0) {
+                lo = tau;
+            } else {
+                hi = tau;
+            }
+            if (hi - lo <= 2 * Precision.EPSILON * FastMath.max(FastMath.abs(lo), FastMath.abs(hi))) {
+                break;
+            }
+
+            // rational interpolation of the two nearest poles
+            final double di = diff[i];
+            double eta;
+            if (last) {
+                final double c = f - di * dPsi;
+                eta = c > 0 ? di + di * di * dPsi / c : Double.NaN;
+            } else {
+                final double di1 = diff[i + 1];
+                final double c   = f - di * dPsi - di1 * dPhi;
+                final double s   = di * di * dPsi;
+                final double sp  = di1 * di1 * dPhi;
+                final double a   = c * (di + di1) + s + sp;
+                final double b   = c * di * di1 + s * di1 + sp * di;
+                if (c == 0) {
+                    eta = b / a;
+                } else {
+                    final double sqrt = FastMath.sqrt(FastMath.abs(a * a - 4 * b * c));
+                    eta = (a <= 0) ? (a - sqrt) / (2 * c) : 2 * b / (a + sqrt);
+                }
+            }
+
+            // safeguard with bisection
+            final double next = tau + eta;
+            tau = (next > lo && next < hi) ? next : 0.5 * (lo + hi);
+
+        }
+
+        for (int j = 0; j < k; ++j) {
+            diff[j] = shifted[j] - tau;
+        }
+        return d[origin] + tau;
+
+    }
+
+}
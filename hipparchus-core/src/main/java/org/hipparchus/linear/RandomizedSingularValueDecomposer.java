@@ -0,0 +1,367 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hipparchus.linear;
+
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.exception.MathIllegalArgumentException;
+import org.hipparchus.exception.MathRuntimeException;
+import org.hipparchus.random.RandomGenerator;
+import org.hipparchus.util.FastMath;
+import org.hipparchus.util.MathUtils;
+import org.hipparchus.util.Precision;
+
+/** Matrix decomposer computing a truncated Singular Value Decomposition by randomized projections.
+ * <p>
+ * This decomposer implements the randomized range finder from Halko, Martinsson and Tropp
+ * (<a href="https://arxiv.org/abs/0909.4061">Finding structure with randomness: Probabilistic
+ * algorithms for constructing approximate matrix decompositions</a>, SIAM Review, 2011).
+ * The range of A is first sampled by applying it to a few Gaussian random vectors (the target
+ * rank plus some oversampling), the samples are orthonormalized and refined by power iterations
+ * with A A<sup>T</sup>, and the small projected matrix Q<sup>T</sup> A is finally decomposed
+ * using a regular {@link SingularValueDecomposition}.
+ * </p>
+ * <p>
+ * The matrix to decompose is only accessed by products with blocks of vectors, so it can be
+ * a {@link RealLinearOperator} (which must support {@link RealLinearOperator#operateTranspose(RealVector)
+ * transposed products}) and dense matrices are traversed one row at a time. Computation time is
+ * proportional to the number of entries times the target rank, and memory (apart from the
+ * matrix itself) is proportional to the dimensions times the target rank.
+ * </p>
+ * <p>
+ * The result is a {@link SingularValueDecomposition} whose U, &Sigma; and V matrices hold only
+ * the requested leading singular triplets. Power iterations improve accuracy when singular values
+ * decay slowly; one or two iterations are usually sufficient.
+ * </p>
+ * <p>
+ * Instances of this class are not thread-safe, as they share the random generator.
+ * </p>
+ * @see SingularValueDecomposer
+ * @since 3.1
+ */
+public class RandomizedSingularValueDecomposer implements MatrixDecomposer {
+
+    /** Default number of additional samples. */
+    public static final int DEFAULT_OVERSAMPLING = 10;
+
+    /** Default number of power iterations. */
+    public static final int DEFAULT_POWER_ITERATIONS = 2;
+
+    /** Number of singular triplets to compute. */
+    private final int rank;
+
+    /** Number of additional samples. */
+    private final int oversampling;
+
+    /** Number of power iterations. */
+    private final int powerIterations;
+
+    /** Generator for random samples. */
+    private final RandomGenerator random;
+
+    /**
+     * Creates a randomized SVD decomposer with default oversampling and power iterations.
+     * @param rank number of singular triplets to compute
+     * @param random generator for random samples
+     * @exception MathIllegalArgumentException if rank is not strictly positive
+     */
+    public RandomizedSingularValueDecomposer(final int rank, final RandomGenerator random)
+        throws MathIllegalArgumentException {
+        this(rank, DEFAULT_OVERSAMPLING, DEFAULT_POWER_ITERATIONS, random);
+    }
+
+    /**
+     * Creates a randomized SVD decomposer.
+     * @param rank number of singular triplets to compute
+     * @param oversampling number of additional samples
+     * @param powerIterations number of power iterations
+     * @param random generator for random samples
+     * @exception MathIllegalArgumentException if rank is not strictly positive
+     * or oversampling or power iterations are negative
+     */
+    public RandomizedSingularValueDecomposer(final int rank, final int oversampling,
+                                             final int powerIterations, final RandomGenerator random)
+        throws MathIllegalArgumentException {
+        if (rank < 1) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.NUMBER_TOO_SMALL, rank, 1);
+        }
+        if (oversampling < 0) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.NUMBER_TOO_SMALL, oversampling, 0);
+        }
+        if (powerIterations < 0) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.NUMBER_TOO_SMALL, powerIterations, 0);
+        }
+        MathUtils.checkNotNull(random);
+        this.rank            = rank;
+        this.oversampling    = oversampling;
+        this.powerIterations = powerIterations;
+        this.random          = random;
+    }
+
+    /** {@inheritDoc}
+     * <p>
+     * The solver uses the pseudo-inverse of the truncated decomposition.
+     * </p>
+     */
+    @Override
+    public DecompositionSolver decompose(final RealMatrix a) {
+        return decomposeSVD(a).getSolver();
+    }
+
+    /** Compute the truncated Singular Value Decomposition of a matrix.
+     * @param a matrix to decompose
+     * @return truncated decomposition
+     * @exception MathIllegalArgumentException if rank is larger than the smallest matrix dimension
+     */
+    public SingularValueDecomposition decomposeSVD(final RealMatrix a)
+        throws MathIllegalArgumentException {
+        return decompose(new BlockOperator() {
+
+            /** {@inheritDoc} */
+            @Override
+            public int getRowDimension() {
+                return a.getRowDimension();
+            }
+
+            /** {@inheritDoc} */
+            @Override
+            public int getColumnDimension() {
+                return a.getColumnDimension();
+            }
+
+            /** {@inheritDoc} */
+            @Override
+            public double[][] operate(final double[][] x) {
+                final int m = a.getRowDimension();
+                final double[][] y = new double[x.length][m];
+                for (int i = 0; i < m; ++i) {
+                    final double[] row = a.getRow(i);
+                    for (int j = 0; j < x.length; ++j) {
+                        final double[] xJ = x[j];
+                        double sum = 0;
+                        for (int k = 0; k < row.length; ++k) {
+                            sum += row[k] * xJ[k];
+                        }
+                        y[j][i] = sum;
+                    }
+                }
+                return y;
+            }
+
+            /** {@inheritDoc} */
+            @Override
+            public double[][] operateTranspose(final double[][] y) {
+                final int m = a.getRowDimension();
+                final double[][] x = new double[y.length][a.getColumnDimension()];
+                for (int i = 0; i < m; ++i) {
+                    final double[] row = a.getRow(i);
+                    for (int j = 0; j < y.length; ++j) {
+                        final double yJI = y[j][i];
+                        if (yJI != 0) {
+                            final double[] xJ = x[j];
+                            for (int k = 0; k < row.length; ++k) {
+                                xJ[k] += yJI * row[k];
+                            }
+                        }
+                    }
+                }
+                return x;
+            }
+
+        });
+    }
+
+    /** Compute the truncated Singular Value Decomposition of a linear operator.
+     * @param a linear operator to decompose
+     * @return truncated decomposition
+     * @exception MathIllegalArgumentException if rank is larger than the smallest operator dimension
+     * @exception MathRuntimeException if the operator does not support transposed products
+     */
+    public SingularValueDecomposition decomposeSVD(final RealLinearOperator a)
+        throws MathIllegalArgumentException, MathRuntimeException {
+        if (!a.isTransposable()) {
+            throw new MathRuntimeException(LocalizedCoreFormats.UNSUPPORTED_OPERATION);
+        }
+        return decompose(new BlockOperator() {
+
+            /** {@inheritDoc} */
+            @Override
+            public int getRowDimension() {
+                return a.getRowDimension();
+            }
+
+            /** {@inheritDoc} */
+            @Override
+            public int getColumnDimension() {
+                return a.getColumnDimension();
+            }
+
+            /** {@inheritDoc} */
+            @Override
+            public double[][] operate(final double[][] x) {
+                final double[][] y = new double[x.length][];
+                for (int j = 0; j < x.length; ++j) {
+                    y[j] = a.operate(new ArrayRealVector(x[j], false)).toArray();
+                }
+                return y;
+            }
+
+            /** {@inheritDoc} */
+            @Override
+            public double[][] operateTranspose(final double[][] y) {
+                final double[][] x = new double[y.length][];
+                for (int j = 0; j < y.length; ++j) {
+                    x[j] = a.operateTranspose(new ArrayRealVector(y[j], false)).toArray();
+                }
+                return x;
+            }
+
+        });
+    }
+
+    /** Compute the truncated Singular Value Decomposition of an operator.
+     * @param a operator to decompose
+     * @return truncated decomposition
+     * @exception MathIllegalArgumentException if rank is larger than the smallest operator dimension
+     */
+    private SingularValueDecomposition decompose(final BlockOperator a)
+        throws MathIllegalArgumentException {
+
+        final int m = a.getRowDimension();
+        final int n = a.getColumnDimension();
+        final int p = FastMath.min(m, n);
+        if (rank > p) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.NUMBER_TOO_LARGE, rank, p);
+        }
+        final int l = FastMath.min(rank + oversampling, p);
+
+        // sample the range of A, vectors are stored as arrays
+        final double[][] omega = new double[l][n];
+        for (final double[] omegaJ : omega) {
+            for (int k = 0; k < n; ++k) {
+                omegaJ[k] = random.nextGaussian();
+            }
+        }
+        double[][] q = orthonormalize(a.operate(omega));
+
+        // power iterations, with orthonormalization at each step to preserve small singular values
+        for (int iteration = 0; iteration < powerIterations; ++iteration) {
+            q = orthonormalize(a.operate(orthonormalize(a.operateTranspose(q))));
+        }
+
+        // decompose the small projected matrix B = QT A, stored as l rows of length n
+        final SingularValueDecomposition svd =
+                        new SingularValueDecomposition(new Array2DRowRealMatrix(a.operateTranspose(q), false));
+        final double[]   sB = svd.getSingularValues();
+        final RealMatrix uB = svd.getU();
+        final RealMatrix vB = svd.getV();
+
+        // U = Q UB, truncated to the requested rank
+        final double[][] u = new double[m][rank];
+        for (int j = 0; j < l; ++j) {
+            final double[] qJ = q[j];
+            for (int c = 0; c < rank; ++c) {
+                final double uBJC = uB.getEntry(j, c);
+                if (uBJC != 0) {
+                    for (int i = 0; i < m; ++i) {
+                        u[i][c] += qJ[i] * uBJC;
+                    }
+                }
+            }
+        }
+
+        final double[] s = new double[rank];
+        System.arraycopy(sB, 0, s, 0, rank);
+        return new SingularValueDecomposition(s,
+                                              MatrixUtils.createRealMatrix(u),
+                                              vB.getSubMatrix(0, n - 1, 0, rank - 1),
+                                              FastMath.max(m, n));
+
+    }
+
+    /** Orthonormalize a set of vectors.
+     * <p>
+     * This method uses modified Gram-Schmidt with reorthogonalization. Vectors
+     * that are numerically dependent on the previous ones are replaced by zeros.
+     * </p>
+     * @param vectors vectors to orthonormalize (modified in place)
+     * @return orthonormalized vectors (the same arrays as the input)
+     */
+    private static double[][] orthonormalize(final double[][] vectors) {
+        for (int j = 0; j < vectors.length; ++j) {
+            final double[] v = vectors[j];
+            final double initialNorm = norm(v);
+            for (int pass = 0; pass < 2; ++pass) {
+                for (int i = 0; i < j; ++i) {
+                    final double[] w = vectors[i];
+                    double dot = 0;
+                    for (int k = 0; k < v.length; ++k) {
+                        dot += v[k] * w[k];
+                    }
+                    for (int k = 0; k < v.length; ++k) {
+                        v[k] -= dot * w[k];
+                    }
+                }
+            }
+            final double norm = norm(v);
+            final double scale = norm <= Precision.EPSILON * v.length * initialNorm ? 0 : 1 / norm;
+            for (int k = 0; k < v.length; ++k) {
+                v[k] *= scale;
+            }
+        }
+        return vectors;
+    }
+
+    /** Compute the Euclidean norm of a vector.
+     * @param v vector
+     * @return Euclidean norm of the vector
+     */
+    private static double norm(final double[] v) {
+        double sum = 0;
+        for (final double vK : v) {
+            sum += vK * vK;
+        }
+        return FastMath.sqrt(sum);
+    }
+
+    /** Interface for operators applied to blocks of vectors. */
+    private interface BlockOperator {
+
+        /** Get the dimension of the codomain.
+         * @return number of rows of the underlying matrix
+         */
+        int getRowDimension();
+
+        /** Get the dimension of the domain.
+         * @return number of columns of the underlying matrix
+         */
+        int getColumnDimension();
+
+        /** Apply the operator to a block of vectors.
+         * @param x vectors to operate on (each array is one vector)
+         * @return product of the operator with each vector
+         */
+        double[][] operate(double[][] x);
+
+        /** Apply the transposed operator to a block of vectors.
+         * @param y vectors to operate on (each array is one vector)
+         * @return product of the transposed operator with each vector
+         */
+        double[][] operateTranspose(double[][] y);
+
+    }
+
+}
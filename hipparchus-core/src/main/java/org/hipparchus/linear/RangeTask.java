@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hipparchus.linear;
+
+import java.util.concurrent.RecursiveAction;
+
+/** Fork-join task splitting a range of indices between threads.
+ * <p>
+ * This class is used by parallel linear algebra kernels, where each
+ * index corresponds for example to one row or one column that can
+ * be updated independently of the other ones.
+ * </p>
+ * @since 3.1
+ */
+class RangeTask extends RecursiveAction {
+
+    /** Serializable version identifier. */
+    private static final long serialVersionUID = 20261017L;
+
+    /** Computation on a sub-range. */
+    private final Computation computation;
+
+    /** Index of the first element of the range (included). */
+    private final int start;
+
+    /** Index of the last element of the range (excluded). */
+    private final int end;
+
+    /** Maximum size of sub-ranges that are not split further. */
+    private final int grain;
+
+    /** Simple constructor.
+     * @param computation computation on a sub-range
+     * @param start index of the first element of the range (included)
+     * @param end index of the last element of the range (excluded)
+     * @param grain maximum size of sub-ranges that are not split further
+     */
+    RangeTask(final Computation computation, final int start, final int end, final int grain) {
+        this.computation = computation;
+        this.start       = start;
+        this.end         = end;
+        this.grain       = grain;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void compute() {
+        if (end - start <= grain) {
+            computation.compute(start, end);
+        } else {
+            final int middle = (start + end) >>> 1;
+            invokeAll(new RangeTask(computation, start, middle, grain),
+                      new RangeTask(computation, middle, end, grain));
+        }
+    }
+
+    /** Interface for computations on a sub-range. */
+    @FunctionalInterface
+    interface Computation {
+
+        /** Perform computation on a sub-range.
+         * @param rangeStart index of the first element of the sub-range (included)
+         * @param rangeEnd index of the last element of the sub-range (excluded)
+         */
+        void compute(int rangeStart, int rangeEnd);
+
+    }
+
+}
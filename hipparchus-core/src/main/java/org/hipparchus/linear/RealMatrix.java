@@ -24,6 +24,7 @@ package org.hipparchus.linear;
 
 import org.hipparchus.analysis.UnivariateFunction;
 import org.hipparchus.analysis.polynomials.SmoothStepFactory;
+import org.hipparchus.exception.LocalizedCoreFormats;
 import org.hipparchus.exception.MathIllegalArgumentException;
 import org.hipparchus.exception.NullArgumentException;
 import org.hipparchus.util.Blendable;
@@ -70,6 +71,30 @@ public interface RealMatrix extends AnyMatrix, Blendable<RealMatrix> {
     RealMatrix add(RealMatrix m)
         throws MathIllegalArgumentException;
 
+    /**
+     * Computes the sum of {@code this} and {@code m} into a destination matrix.
+     * <p>
+     * This method does not allocate any new matrix. The destination
+     * may be {@code this} or {@code m}.
+     * </p>
+     *
+     * @param m matrix to be added
+     * @param out destination matrix, where {@code this + m} is stored
+     * @throws MathIllegalArgumentException if {@code m} or {@code out}
+     * are not the same size as {@code this}.
+     * @since 3.1
+     */
+    default void add(final RealMatrix m, final RealMatrix out)
+        throws MathIllegalArgumentException {
+        MatrixUtils.checkAdditionCompatible(this, m);
+        MatrixUtils.checkDimensions(out, getRowDimension(), getColumnDimension());
+        for (int i = 0; i < getRowDimension(); ++i) {
+            for (int j = 0; j < getColumnDimension(); ++j) {
+                out.setEntry(i, j, getEntry(i, j) + m.getEntry(i, j));
+            }
+        }
+    }
+
     /**
      * Returns {@code this} minus {@code m}.
      *
@@ -81,6 +106,30 @@ public interface RealMatrix extends AnyMatrix, Blendable<RealMatrix> {
     RealMatrix subtract(RealMatrix m)
         throws MathIllegalArgumentException;
 
+    /**
+     * Computes {@code this} minus {@code m} into a destination matrix.
+     * <p>
+     * This method does not allocate any new matrix. The destination
+     * may be {@code this} or {@code m}.
+     * </p>
+     *
+     * @param m matrix to be subtracted
+     * @param out destination matrix, where {@code this - m} is stored
+     * @throws MathIllegalArgumentException if {@code m} or {@code out}
+     * are not the same size as {@code this}.
+     * @since 3.1
+     */
+    default void subtract(final RealMatrix m, final RealMatrix out)
+        throws MathIllegalArgumentException {
+        MatrixUtils.checkSubtractionCompatible(this, m);
+        MatrixUtils.checkDimensions(out, getRowDimension(), getColumnDimension());
+        for (int i = 0; i < getRowDimension(); ++i) {
+            for (int j = 0; j < getColumnDimension(); ++j) {
+                out.setEntry(i, j, getEntry(i, j) - m.getEntry(i, j));
+            }
+        }
+    }
+
     /**
      * Returns the result of adding {@code d} to each entry of {@code this}.
      *
@@ -98,6 +147,30 @@ public interface RealMatrix extends AnyMatrix, Blendable<RealMatrix> {
      */
     RealMatrix scalarMultiply(double d);
 
+    /**
+     * Computes the result of multiplying each entry of {@code this} by
+     * {@code d} into a destination matrix.
+     * <p>
+     * This method does not allocate any new matrix. The destination
+     * may be {@code this}.
+     * </p>
+     *
+     * @param d value to multiply all entries by
+     * @param out destination matrix, where {@code d * this} is stored
+     * @throws MathIllegalArgumentException if {@code out} is not
+     * the same size as {@code this}.
+     * @since 3.1
+     */
+    default void scalarMultiply(final double d, final RealMatrix out)
+        throws MathIllegalArgumentException {
+        MatrixUtils.checkDimensions(out, getRowDimension(), getColumnDimension());
+        for (int i = 0; i < getRowDimension(); ++i) {
+            for (int j = 0; j < getColumnDimension(); ++j) {
+                out.setEntry(i, j, d * getEntry(i, j));
+            }
+        }
+    }
+
     /**
      * Returns the result of postmultiplying {@code this} by {@code m}.
      *
@@ -109,6 +182,36 @@ public interface RealMatrix extends AnyMatrix, Blendable<RealMatrix> {
     RealMatrix multiply(RealMatrix m)
         throws MathIllegalArgumentException;
 
+    /**
+     * Computes the result of postmultiplying {@code this} by {@code m}
+     * into a destination matrix.
+     * <p>
+     * This method does not allocate any new matrix. The destination
+     * must be distinct from both {@code this} and {@code m}.
+     * </p>
+     *
+     * @param m matrix to postmultiply by
+     * @param out destination matrix, where {@code this * m} is stored
+     * @throws MathIllegalArgumentException if
+     * {@code columnDimension(this) != rowDimension(m)} or if {@code out}
+     * is not {@code rowDimension(this)} x {@code columnDimension(m)}
+     * @since 3.1
+     */
+    default void multiply(final RealMatrix m, final RealMatrix out)
+        throws MathIllegalArgumentException {
+        MatrixUtils.checkMultiplicationCompatible(this, m);
+        MatrixUtils.checkDimensions(out, getRowDimension(), m.getColumnDimension());
+        for (int i = 0; i < getRowDimension(); ++i) {
+            for (int j = 0; j < m.getColumnDimension(); ++j) {
+                double sum = 0;
+                for (int k = 0; k < getColumnDimension(); ++k) {
+                    sum += getEntry(i, k) * m.getEntry(k, j);
+                }
+                out.setEntry(i, j, sum);
+            }
+        }
+    }
+
     /**
      * Returns the result of postmultiplying {@code this} by {@code m^T}.
      * <p>
@@ -588,6 +691,28 @@ public interface RealMatrix extends AnyMatrix, Blendable<RealMatrix> {
      */
     RealMatrix transpose();
 
+    /**
+     * Computes the transpose of this matrix into a destination matrix.
+     * <p>
+     * This method does not allocate any new matrix. The destination
+     * must be distinct from {@code this}.
+     * </p>
+     *
+     * @param out destination matrix, where the transpose of {@code this} is stored
+     * @throws MathIllegalArgumentException if {@code out} is not
+     * {@code columnDimension(this)} x {@code rowDimension(this)}
+     * @since 3.1
+     */
+    default void transpose(final RealMatrix out)
+        throws MathIllegalArgumentException {
+        MatrixUtils.checkDimensions(out, getColumnDimension(), getRowDimension());
+        for (int i = 0; i < getRowDimension(); ++i) {
+            for (int j = 0; j < getColumnDimension(); ++j) {
+                out.setEntry(j, i, getEntry(i, j));
+            }
+        }
+    }
+
     /**
      * Returns the <a href="http://mathworld.wolfram.com/MatrixTrace.html">
      * trace</a> of the matrix (the sum of the elements on the main diagonal).
@@ -607,6 +732,40 @@ public interface RealMatrix extends AnyMatrix, Blendable<RealMatrix> {
      */
     double[] operate(double[] v) throws MathIllegalArgumentException;
 
+    /**
+     * Computes the result of multiplying this by the vector {@code v}
+     * into a destination array.
+     * <p>
+     * This method does not allocate any new array. The destination
+     * must be distinct from {@code v}.
+     * </p>
+     *
+     * @param v the vector to operate on
+     * @param out destination array, where {@code this * v} is stored
+     * @throws MathIllegalArgumentException if the length of {@code v} does not
+     * match the column dimension of {@code this} or the length of {@code out}
+     * does not match the row dimension of {@code this}.
+     * @since 3.1
+     */
+    default void operate(final double[] v, final double[] out)
+        throws MathIllegalArgumentException {
+        if (v.length != getColumnDimension()) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.DIMENSIONS_MISMATCH,
+                                                   v.length, getColumnDimension());
+        }
+        if (out.length != getRowDimension()) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.DIMENSIONS_MISMATCH,
+                                                   out.length, getRowDimension());
+        }
+        for (int i = 0; i < out.length; ++i) {
+            double sum = 0;
+            for (int j = 0; j < v.length; ++j) {
+                sum += getEntry(i, j) * v[j];
+            }
+            out[i] = sum;
+        }
+    }
+
     /**
      * Returns the result of multiplying this by the vector {@code v}.
      *
@@ -617,6 +776,44 @@ public interface RealMatrix extends AnyMatrix, Blendable<RealMatrix> {
      */
     RealVector operate(RealVector v) throws MathIllegalArgumentException;
 
+    /**
+     * Computes the result of multiplying this by the vector {@code v}
+     * into a destination vector.
+     * <p>
+     * This method does not allocate any new vector. The destination
+     * must be distinct from {@code v}.
+     * </p>
+     *
+     * @param v the vector to operate on
+     * @param out destination vector, where {@code this * v} is stored
+     * @throws MathIllegalArgumentException if the dimension of {@code v} does not
+     * match the column dimension of {@code this} or the dimension of {@code out}
+     * does not match the row dimension of {@code this}.
+     * @since 3.1
+     */
+    default void operate(final RealVector v, final RealVector out)
+        throws MathIllegalArgumentException {
+        if (v instanceof ArrayRealVector && out instanceof ArrayRealVector) {
+            operate(((ArrayRealVector) v).getDataRef(), ((ArrayRealVector) out).getDataRef());
+        } else {
+            if (v.getDimension() != getColumnDimension()) {
+                throw new MathIllegalArgumentException(LocalizedCoreFormats.DIMENSIONS_MISMATCH,
+                                                       v.getDimension(), getColumnDimension());
+            }
+            if (out.getDimension() != getRowDimension()) {
+                throw new MathIllegalArgumentException(LocalizedCoreFormats.DIMENSIONS_MISMATCH,
+                                                       out.getDimension(), getRowDimension());
+            }
+            for (int i = 0; i < out.getDimension(); ++i) {
+                double sum = 0;
+                for (int j = 0; j < v.getDimension(); ++j) {
+                    sum += getEntry(i, j) * v.getEntry(j);
+                }
+                out.setEntry(i, sum);
+            }
+        }
+    }
+
     /**
      * Returns the (row) vector result of premultiplying this by the vector {@code v}.
      *
@@ -627,6 +824,40 @@ public interface RealMatrix extends AnyMatrix, Blendable<RealMatrix> {
      */
     double[] preMultiply(double[] v) throws MathIllegalArgumentException;
 
+    /**
+     * Computes the (row) vector result of premultiplying this by the vector {@code v}
+     * into a destination array.
+     * <p>
+     * This method does not allocate any new array. The destination
+     * must be distinct from {@code v}.
+     * </p>
+     *
+     * @param v the row vector to premultiply by
+     * @param out destination array, where {@code v * this} is stored
+     * @throws MathIllegalArgumentException if the length of {@code v} does not
+     * match the row dimension of {@code this} or the length of {@code out}
+     * does not match the column dimension of {@code this}.
+     * @since 3.1
+     */
+    default void preMultiply(final double[] v, final double[] out)
+        throws MathIllegalArgumentException {
+        if (v.length != getRowDimension()) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.DIMENSIONS_MISMATCH,
+                                                   v.length, getRowDimension());
+        }
+        if (out.length != getColumnDimension()) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.DIMENSIONS_MISMATCH,
+                                                   out.length, getColumnDimension());
+        }
+        for (int j = 0; j < out.length; ++j) {
+            double sum = 0;
+            for (int i = 0; i < v.length; ++i) {
+                sum += getEntry(i, j) * v[i];
+            }
+            out[j] = sum;
+        }
+    }
+
     /**
      * Returns the (row) vector result of premultiplying this by the vector {@code v}.
      *
@@ -252,6 +252,28 @@ public abstract class RealVector {
         return result;
     }
 
+    /**
+     * Compute the sum of this vector and {@code v} into a destination vector.
+     * <p>
+     * This method does not allocate any new vector. The destination
+     * may be {@code this} or {@code v}.
+     * </p>
+     *
+     * @param v Vector to be added.
+     * @param out destination vector, where {@code this} + {@code v} is stored
+     * @throws MathIllegalArgumentException if {@code v} or {@code out} are not the same size as
+     * {@code this} vector.
+     * @since 3.1
+     */
+    public void add(final RealVector v, final RealVector out)
+        throws MathIllegalArgumentException {
+        checkVectorDimensions(v);
+        checkVectorDimensions(out);
+        for (int i = 0; i < getDimension(); i++) {
+            out.setEntry(i, getEntry(i) + v.getEntry(i));
+        }
+    }
+
     /**
      * Subtract {@code v} from this vector.
      * Returns a new vector. Does not change instance data.
@@ -273,6 +295,28 @@ public abstract class RealVector {
         return result;
     }
 
+    /**
+     * Subtract {@code v} from this vector into a destination vector.
+     * <p>
+     * This method does not allocate any new vector. The destination
+     * may be {@code this} or {@code v}.
+     * </p>
+     *
+     * @param v Vector to be subtracted.
+     * @param out destination vector, where {@code this} - {@code v} is stored
+     * @throws MathIllegalArgumentException if {@code v} or {@code out} are not the same size as
+     * {@code this} vector.
+     * @since 3.1
+     */
+    public void subtract(final RealVector v, final RealVector out)
+        throws MathIllegalArgumentException {
+        checkVectorDimensions(v);
+        checkVectorDimensions(out);
+        for (int i = 0; i < getDimension(); i++) {
+            out.setEntry(i, getEntry(i) - v.getEntry(i));
+        }
+    }
+
     /**
      * Add a value to each entry.
      * Returns a new vector. Does not change instance data.
@@ -368,6 +412,28 @@ public abstract class RealVector {
     public abstract RealVector ebeMultiply(RealVector v)
         throws MathIllegalArgumentException;
 
+    /**
+     * Element-by-element multiplication into a destination vector.
+     * <p>
+     * This method does not allocate any new vector. The destination
+     * may be {@code this} or {@code v}.
+     * </p>
+     *
+     * @param v Vector by which instance elements must be multiplied
+     * @param out destination vector, where {@code this[i] * v[i]} for all i is stored
+     * @throws MathIllegalArgumentException if {@code v} or {@code out} are not the same size as
+     * {@code this} vector.
+     * @since 3.1
+     */
+    public void ebeMultiply(final RealVector v, final RealVector out)
+        throws MathIllegalArgumentException {
+        checkVectorDimensions(v);
+        checkVectorDimensions(out);
+        for (int i = 0; i < getDimension(); i++) {
+            out.setEntry(i, getEntry(i) * v.getEntry(i));
+        }
+    }
+
     /**
      * Distance between two vectors.
      * <p>This method computes the distance consistent with the
@@ -578,6 +644,27 @@ public abstract class RealVector {
         return copy().mapMultiplyToSelf(d);
     }
 
+    /**
+     * Multiply each entry by the argument into a destination vector.
+     * <p>
+     * This method does not allocate any new vector. The destination
+     * may be {@code this}.
+     * </p>
+     *
+     * @param d Multiplication factor.
+     * @param out destination vector, where {@code this} * {@code d} is stored
+     * @throws MathIllegalArgumentException if {@code out} is not the same size as
+     * {@code this} vector.
+     * @since 3.1
+     */
+    public void mapMultiply(final double d, final RealVector out)
+        throws MathIllegalArgumentException {
+        checkVectorDimensions(out);
+        for (int i = 0; i < getDimension(); i++) {
+            out.setEntry(i, getEntry(i) * d);
+        }
+    }
+
     /**
      * Multiply each entry.
      * The instance is changed in-place.
@@ -852,6 +939,30 @@ public abstract class RealVector {
         return copy().combineToSelf(a, b, y);
     }
 
+    /**
+     * Computes the linear combination of {@code this} and {@code y} into a destination vector.
+     * <p>
+     * This method does not allocate any new vector. The destination
+     * may be {@code this} or {@code y}.
+     * </p>
+     *
+     * @param a Weight of {@code this}.
+     * @param b Weight of {@code y}.
+     * @param y Vector with which {@code this} is linearly combined.
+     * @param out destination vector, where {@code a * this[i] + b * y[i]} for all {@code i} is stored
+     * @throws MathIllegalArgumentException if {@code y} or {@code out} are not the same size as
+     * {@code this} vector.
+     * @since 3.1
+     */
+    public void combine(final double a, final double b, final RealVector y, final RealVector out)
+        throws MathIllegalArgumentException {
+        checkVectorDimensions(y);
+        checkVectorDimensions(out);
+        for (int i = 0; i < getDimension(); i++) {
+            out.setEntry(i, a * getEntry(i) + b * y.getEntry(i));
+        }
+    }
+
     /**
      * Updates {@code this} with the linear combination of {@code this} and
      * {@code y}.
@@ -486,6 +486,29 @@ public class SingularValueDecomposition {
         }
     }
 
+    /**
+     * Build a decomposition from already computed elements.
+     * <p>
+     * This constructor is used by decomposers that compute only some singular
+     * triplets, like {@link RandomizedSingularValueDecomposer}.
+     * </p>
+     * @param singularValues singular values, in non-increasing order
+     * @param u U matrix, with one column per singular value
+     * @param v V matrix, with one column per singular value
+     * @param maxDimension max(row dimension, column dimension) of the decomposed matrix
+     * @since 3.1
+     */
+    SingularValueDecomposition(final double[] singularValues, final RealMatrix u, final RealMatrix v,
+                               final int maxDimension) {
+        this.singularValues = singularValues;
+        this.m              = maxDimension;
+        this.n              = singularValues.length;
+        this.cachedU        = u;
+        this.cachedV        = v;
+        this.tol            = FastMath.max(m * singularValues[0] * EPS,
+                                           FastMath.sqrt(Precision.SAFE_MIN));
+    }
+
     /**
      * Returns the matrix U of the decomposition.
      * <p>U is an orthogonal matrix, i.e. its transpose is also its inverse.</p>
@@ -586,7 +609,8 @@ public class SingularValueDecomposition {
                                                 minSingularValue, singularValues[0], true);
         }
 
-        final double[][] data = new double[dimension][p];
+        final int columns = getVT().getColumnDimension();
+        final double[][] data = new double[dimension][columns];
         getVT().walkInOptimizedOrder(new DefaultRealMatrixPreservingVisitor() {
             /** {@inheritDoc} */
             @Override
@@ -594,7 +618,7 @@ public class SingularValueDecomposition {
                     final double value) {
                 data[row][column] = value / singularValues[row];
             }
-        }, 0, dimension - 1, 0, p - 1);
+        }, 0, dimension - 1, 0, columns - 1);
 
         RealMatrix jv = new Array2DRowRealMatrix(data, false);
         return jv.transposeMultiply(jv);
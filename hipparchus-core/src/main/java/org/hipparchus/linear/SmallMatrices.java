@@ -0,0 +1,202 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hipparchus.linear;
+
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.exception.MathIllegalArgumentException;
+import org.hipparchus.util.FastMath;
+
+/** Utility methods shared by the fixed-size matrices {@link Matrix2} to {@link Matrix6}.
+ * @since 3.1
+ */
+final class SmallMatrices {
+
+    /** Number of bits used to store one pivot index in the packed pivots. */
+    private static final int PIVOT_BITS = 3;
+
+    /** Mask for one pivot index in the packed pivots. */
+    private static final int PIVOT_MASK = (1 << PIVOT_BITS) - 1;
+
+    /** Private constructor for a utility class.
+     */
+    private SmallMatrices() {
+        // nothing to do
+    }
+
+    /** Copy a square matrix from a two-dimensional array.
+     * @param d two-dimensional array
+     * @param n expected dimension
+     * @param data row major array where to copy the entries
+     * @throws MathIllegalArgumentException if the array is not n&times;n
+     */
+    static void copy(final double[][] d, final int n, final double[] data)
+        throws MathIllegalArgumentException {
+        if (d.length != n) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.DIMENSIONS_MISMATCH, d.length, n);
+        }
+        for (int i = 0; i < n; ++i) {
+            if (d[i].length != n) {
+                throw new MathIllegalArgumentException(LocalizedCoreFormats.DIMENSIONS_MISMATCH, d[i].length, n);
+            }
+            System.arraycopy(d[i], 0, data, i * n, n);
+        }
+    }
+
+    /** Copy a square matrix from a real matrix.
+     * @param m real matrix
+     * @param n expected dimension
+     * @param data row major array where to copy the entries
+     * @throws MathIllegalArgumentException if the matrix is not n&times;n
+     */
+    static void copy(final RealMatrix m, final int n, final double[] data)
+        throws MathIllegalArgumentException {
+        MatrixUtils.checkDimensions(m, n, n);
+        if (m instanceof Array2DRowRealMatrix) {
+            copy(((Array2DRowRealMatrix) m).getDataRef(), n, data);
+        } else {
+            for (int i = 0; i < n; ++i) {
+                for (int j = 0; j < n; ++j) {
+                    data[i * n + j] = m.getEntry(i, j);
+                }
+            }
+        }
+    }
+
+    /** Convert a row major array to a two-dimensional array.
+     * @param data row major array
+     * @param n dimension
+     * @return two-dimensional array
+     */
+    static double[][] toArray(final double[] data, final int n) {
+        final double[][] d = new double[n][n];
+        for (int i = 0; i < n; ++i) {
+            System.arraycopy(data, i * n, d[i], 0, n);
+        }
+        return d;
+    }
+
+    /** Check a vector dimension.
+     * @param v vector
+     * @param n expected dimension
+     * @throws MathIllegalArgumentException if the vector dimension is not n
+     */
+    static void checkVector(final double[] v, final int n) throws MathIllegalArgumentException {
+        if (v.length != n) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.DIMENSIONS_MISMATCH, v.length, n);
+        }
+    }
+
+    /** Check the determinant of a matrix to invert is not zero.
+     * @param det determinant
+     * @return det
+     * @throws MathIllegalArgumentException if the determinant is zero
+     */
+    static double checkNonSingular(final double det) throws MathIllegalArgumentException {
+        if (det == 0) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.SINGULAR_MATRIX);
+        }
+        return det;
+    }
+
+    /** Check a diagonal element in a Cholesky decomposition is positive.
+     * @param d diagonal element (before square root)
+     * @param threshold threshold below which diagonal elements are considered null
+     * @return square root of d
+     * @throws MathIllegalArgumentException if the diagonal element is below threshold
+     */
+    static double checkedSqrt(final double d, final double threshold) throws MathIllegalArgumentException {
+        if (d <= threshold) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.NOT_POSITIVE_DEFINITE_MATRIX);
+        }
+        return FastMath.sqrt(d);
+    }
+
+    /** Invert a square matrix in place, using Gauss-Jordan elimination with partial pivoting.
+     * <p>
+     * The row exchanges are packed in a single int, so the inversion does not need any
+     * working array.
+     * </p>
+     * @param a row major array containing the matrix to invert, replaced by its inverse
+     * @param n dimension of the matrix (at most 8)
+     * @throws MathIllegalArgumentException if the matrix is singular
+     */
+    static void invertInPlace(final double[] a, final int n) throws MathIllegalArgumentException {
+
+        int pivots = 0;
+        for (int k = 0; k < n; ++k) {
+
+            // find pivot
+            int    p   = k;
+            double max = FastMath.abs(a[k * n + k]);
+            for (int i = k + 1; i < n; ++i) {
+                final double abs = FastMath.abs(a[i * n + k]);
+                if (abs > max) {
+                    max = abs;
+                    p   = i;
+                }
+            }
+            if (max == 0) {
+                throw new MathIllegalArgumentException(LocalizedCoreFormats.SINGULAR_MATRIX);
+            }
+            pivots |= p << (PIVOT_BITS * k);
+
+            // exchange rows
+            if (p != k) {
+                for (int j = 0; j < n; ++j) {
+                    final double tmp = a[k * n + j];
+                    a[k * n + j] = a[p * n + j];
+                    a[p * n + j] = tmp;
+                }
+            }
+
+            // normalize pivot row
+            final int    kk  = k * n;
+            final double inv = 1.0 / a[kk + k];
+            a[kk + k] = 1.0;
+            for (int j = 0; j < n; ++j) {
+                a[kk + j] *= inv;
+            }
+
+            // eliminate column k from the other rows
+            for (int i = 0; i < n; ++i) {
+                if (i != k) {
+                    final int    ii = i * n;
+                    final double f  = a[ii + k];
+                    a[ii + k] = 0.0;
+                    for (int j = 0; j < n; ++j) {
+                        a[ii + j] -= f * a[kk + j];
+                    }
+                }
+            }
+
+        }
+
+        // undo the row exchanges, as column exchanges in reverse order
+        for (int k = n - 1; k >= 0; --k) {
+            final int p = (pivots >>> (PIVOT_BITS * k)) & PIVOT_MASK;
+            if (p != k) {
+                for (int i = 0; i < n; ++i) {
+                    final double tmp = a[i * n + k];
+                    a[i * n + k] = a[i * n + p];
+                    a[i * n + p] = tmp;
+                }
+            }
+        }
+
+    }
+
+}
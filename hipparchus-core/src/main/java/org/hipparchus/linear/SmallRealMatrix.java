@@ -0,0 +1,224 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hipparchus.linear;
+
+import org.hipparchus.exception.MathIllegalArgumentException;
+
+/**
+ * Interface shared by the fixed-size square real matrices {@link Matrix2} to {@link Matrix6}.
+ * <p>
+ * This interface allows writing code independent of the matrix size. Each operation is
+ * available in two flavors: one allocating a new instance for the result, and one storing
+ * the result in a caller-supplied destination, which may be the instance itself or the
+ * other operand. Performance critical code should use the final implementation classes
+ * directly, so that the hand-unrolled methods can be inlined.
+ * </p>
+ * @param <M> type of the implementing matrix
+ * @since 3.1
+ */
+public interface SmallRealMatrix<M extends SmallRealMatrix<M>> extends AnyMatrix {
+
+    /** Get an entry.
+     * @param row row index
+     * @param column column index
+     * @return entry at (row, column)
+     * @throws MathIllegalArgumentException if the indices are not valid
+     */
+    double getEntry(int row, int column) throws MathIllegalArgumentException;
+
+    /** Set an entry.
+     * @param row row index
+     * @param column column index
+     * @param value new value of the entry
+     * @throws MathIllegalArgumentException if the indices are not valid
+     */
+    void setEntry(int row, int column, double value) throws MathIllegalArgumentException;
+
+    /** Get a reference to the underlying array.
+     * <p>
+     * Entries are stored in row major order.
+     * </p>
+     * @return reference to the underlying array
+     */
+    double[] getDataRef();
+
+    /** Get the entries as a two-dimensional array.
+     * @return new array containing the entries, as an array of rows
+     */
+    double[][] getData();
+
+    /** Convert the instance to a real matrix.
+     * @return real matrix containing a copy of the entries
+     */
+    RealMatrix toRealMatrix();
+
+    /** Get a copy of the instance.
+     * @return copy of the instance
+     */
+    M copy();
+
+    /** Set all entries from another matrix.
+     * @param m matrix to copy
+     */
+    void set(M m);
+
+    /** Compute the sum of the instance and another matrix.
+     * @param m matrix to add
+     * @return this + m
+     */
+    M add(M m);
+
+    /** Compute the sum of the instance and another matrix into a destination matrix.
+     * @param m matrix to add
+     * @param out destination matrix, where this + m is stored
+     * (may be the instance itself or {@code m})
+     */
+    void add(M m, M out);
+
+    /** Subtract another matrix from the instance.
+     * @param m matrix to subtract
+     * @return this - m
+     */
+    M subtract(M m);
+
+    /** Subtract another matrix from the instance into a destination matrix.
+     * @param m matrix to subtract
+     * @param out destination matrix, where this - m is stored
+     * (may be the instance itself or {@code m})
+     */
+    void subtract(M m, M out);
+
+    /** Multiply each entry by a scalar.
+     * @param d value to multiply all entries by
+     * @return d &times; this
+     */
+    M scalarMultiply(double d);
+
+    /** Multiply each entry by a scalar into a destination matrix.
+     * @param d value to multiply all entries by
+     * @param out destination matrix, where d &times; this is stored
+     * (may be the instance itself)
+     */
+    void scalarMultiply(double d, M out);
+
+    /** Compute the product of the instance by another matrix.
+     * @param m matrix to postmultiply by
+     * @return this &times; m
+     */
+    M multiply(M m);
+
+    /** Compute the product of the instance by another matrix into a destination matrix.
+     * @param m matrix to postmultiply by
+     * @param out destination matrix, where this &times; m is stored
+     * (may be the instance itself or {@code m})
+     */
+    void multiply(M m, M out);
+
+    /** Compute the product of the instance by the transpose of another matrix.
+     * @param m matrix whose transpose is used to postmultiply
+     * @return this &times; m<sup>T</sup>
+     */
+    M multiplyTransposed(M m);
+
+    /** Compute the product of the instance by the transpose of another matrix into a destination matrix.
+     * @param m matrix whose transpose is used to postmultiply
+     * @param out destination matrix, where this &times; m<sup>T</sup> is stored
+     * (may be the instance itself or {@code m})
+     */
+    void multiplyTransposed(M m, M out);
+
+    /** Compute the product of the transpose of the instance by another matrix.
+     * @param m matrix to postmultiply by
+     * @return this<sup>T</sup> &times; m
+     */
+    M transposeMultiply(M m);
+
+    /** Compute the product of the transpose of the instance by another matrix into a destination matrix.
+     * @param m matrix to postmultiply by
+     * @param out destination matrix, where this<sup>T</sup> &times; m is stored
+     * (may be the instance itself or {@code m})
+     */
+    void transposeMultiply(M m, M out);
+
+    /** Compute the transpose of the instance.
+     * @return transpose of the instance
+     */
+    M transpose();
+
+    /** Compute the transpose of the instance into a destination matrix.
+     * @param out destination matrix, where the transpose is stored
+     * (may be the instance itself)
+     */
+    void transpose(M out);
+
+    /** Multiply the instance by a vector.
+     * @param v vector to multiply by
+     * @return this &times; v
+     * @throws MathIllegalArgumentException if the vector dimension is not consistent
+     */
+    double[] operate(double[] v) throws MathIllegalArgumentException;
+
+    /** Multiply the instance by a vector into a destination array.
+     * @param v vector to multiply by
+     * @param out destination array, where this &times; v is stored (may be {@code v})
+     * @throws MathIllegalArgumentException if a vector dimension is not consistent
+     */
+    void operate(double[] v, double[] out) throws MathIllegalArgumentException;
+
+    /** Get the trace of the matrix.
+     * @return sum of the diagonal elements
+     */
+    double getTrace();
+
+    /** Compute the determinant of the matrix.
+     * @return determinant of the matrix
+     */
+    double getDeterminant();
+
+    /** Compute the inverse of the matrix.
+     * @return inverse of the matrix
+     * @throws MathIllegalArgumentException if the matrix is singular
+     */
+    M inverse() throws MathIllegalArgumentException;
+
+    /** Compute the inverse of the matrix into a destination matrix.
+     * @param out destination matrix, where the inverse is stored
+     * (may be the instance itself)
+     * @throws MathIllegalArgumentException if the matrix is singular
+     */
+    void inverse(M out) throws MathIllegalArgumentException;
+
+    /** Compute the Cholesky decomposition of the matrix.
+     * <p>
+     * Only the lower triangle of the matrix is read.
+     * </p>
+     * @return lower triangular matrix L such that this = L &times; L<sup>T</sup>
+     * @throws MathIllegalArgumentException if the matrix is not positive definite
+     */
+    M cholesky() throws MathIllegalArgumentException;
+
+    /** Compute the Cholesky decomposition of the matrix into a destination matrix.
+     * <p>
+     * Only the lower triangle of the matrix is read.
+     * </p>
+     * @param out destination matrix, where the lower triangular matrix L such that
+     * this = L &times; L<sup>T</sup> is stored (may be the instance itself)
+     * @throws MathIllegalArgumentException if the matrix is not positive definite
+     */
+    void cholesky(M out) throws MathIllegalArgumentException;
+
+}
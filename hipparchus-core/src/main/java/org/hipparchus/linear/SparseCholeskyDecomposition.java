@@ -0,0 +1,382 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hipparchus.linear;
+
+import java.util.Arrays;
+
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.exception.MathIllegalArgumentException;
+import org.hipparchus.util.FastMath;
+
+/**
+ * Calculates the Cholesky decomposition of a sparse matrix.
+ * <p>
+ * The decomposition of a symmetric positive definite matrix A is
+ * P A P<sup>T</sup> = L L<sup>T</sup>, where P is a fill-reducing
+ * permutation computed by a {@link SparseSymbolicAnalysis symbolic analysis}
+ * and L is a sparse lower triangular matrix. The factor is computed row by
+ * row using the elimination tree, so only the non-zero entries of A and L
+ * are ever visited and the matrix is never densified.
+ * </p>
+ * <p>
+ * The symbolic analysis can be provided by the caller, so it is computed
+ * only once for a sequence of matrices sharing the same sparsity pattern.
+ * </p>
+ * @see CholeskyDecomposition
+ * @see SparseSymbolicAnalysis
+ * @since 3.1
+ */
+public class SparseCholeskyDecomposition {
+
+    /** Dimension of the matrix. */
+    private final int n;
+
+    /** Permutation, element k being the original index of the k<sup>th</sup> pivot. */
+    private final int[] permutation;
+
+    /** Index of first entry of each column of L (with an extra element holding the number of entries). */
+    private final int[] lStart;
+
+    /** Row indices of the entries of L, diagonal first in each column. */
+    private final int[] lRow;
+
+    /** Values of the entries of L, diagonal first in each column. */
+    private final double[] lValues;
+
+    /** Cached value of L<sup>T</sup>. */
+    private CompressedRowRealMatrix cachedLT;
+
+    /**
+     * Calculates the Cholesky decomposition of the given matrix.
+     * <p>
+     * Calling this constructor is equivalent to call {@link
+     * #SparseCholeskyDecomposition(RealMatrix, SparseSymbolicAnalysis, double, double)}
+     * with a new symbolic analysis of the matrix and the thresholds set to the default
+     * values {@link CholeskyDecomposition#DEFAULT_RELATIVE_SYMMETRY_THRESHOLD} and
+     * {@link CholeskyDecomposition#DEFAULT_ABSOLUTE_POSITIVITY_THRESHOLD}
+     * </p>
+     * @param matrix the matrix to decompose
+     * @throws MathIllegalArgumentException if the matrix is not square.
+     * @throws MathIllegalArgumentException if the matrix is not symmetric.
+     * @throws MathIllegalArgumentException if the matrix is not
+     * strictly positive definite.
+     */
+    public SparseCholeskyDecomposition(final RealMatrix matrix) {
+        this(matrix, new SparseSymbolicAnalysis(matrix));
+    }
+
+    /**
+     * Calculates the Cholesky decomposition of the given matrix, reusing a symbolic analysis.
+     * <p>
+     * Calling this constructor is equivalent to call {@link
+     * #SparseCholeskyDecomposition(RealMatrix, SparseSymbolicAnalysis, double, double)}
+     * with the thresholds set to the default values {@link
+     * CholeskyDecomposition#DEFAULT_RELATIVE_SYMMETRY_THRESHOLD} and {@link
+     * CholeskyDecomposition#DEFAULT_ABSOLUTE_POSITIVITY_THRESHOLD}
+     * </p>
+     * @param matrix the matrix to decompose
+     * @param analysis symbolic analysis of a matrix with the same sparsity pattern
+     * @throws MathIllegalArgumentException if the matrix does not match the analysis.
+     * @throws MathIllegalArgumentException if the matrix is not symmetric.
+     * @throws MathIllegalArgumentException if the matrix is not
+     * strictly positive definite.
+     */
+    public SparseCholeskyDecomposition(final RealMatrix matrix, final SparseSymbolicAnalysis analysis) {
+        this(matrix, analysis,
+             CholeskyDecomposition.DEFAULT_RELATIVE_SYMMETRY_THRESHOLD,
+             CholeskyDecomposition.DEFAULT_ABSOLUTE_POSITIVITY_THRESHOLD);
+    }
+
+    /**
+     * Calculates the Cholesky decomposition of the given matrix, reusing a symbolic analysis.
+     * @param matrix the matrix to decompose
+     * @param analysis symbolic analysis of a matrix with the same sparsity pattern
+     * @param relativeSymmetryThreshold threshold above which off-diagonal
+     * elements are considered too different and matrix not symmetric
+     * @param absolutePositivityThreshold threshold below which diagonal
+     * elements are considered null and matrix not positive definite
+     * @throws MathIllegalArgumentException if the matrix does not match the analysis.
+     * @throws MathIllegalArgumentException if the matrix is not symmetric.
+     * @throws MathIllegalArgumentException if the matrix is not
+     * strictly positive definite.
+     */
+    public SparseCholeskyDecomposition(final RealMatrix matrix, final SparseSymbolicAnalysis analysis,
+                                       final double relativeSymmetryThreshold,
+                                       final double absolutePositivityThreshold) {
+
+        final CompressedRowRealMatrix a = new CompressedRowRealMatrix(matrix);
+        analysis.checkPattern(a);
+
+        final int[]    aStart  = a.getRowStartRef();
+        final int[]    aColumn = a.getColumnIndexRef();
+        final double[] aValues = a.getValuesRef();
+
+        this.n           = analysis.getDimension();
+        this.permutation = analysis.getPermutation();
+        final int[] inverse  = analysis.getInverseRef();
+        final int[] parent   = analysis.getParentRef();
+        final int[] expected = analysis.getFactorStartRef();
+
+        // check symmetry
+        // (pairs stored on both sides are checked once from the upper triangle,
+        // entries stored on one side only are compared to an implicit zero)
+        for (int i = 0; i < n; ++i) {
+            for (int p = aStart[i]; p < aStart[i + 1]; ++p) {
+                final int j = aColumn[p];
+                if (j != i) {
+                    final int q = Arrays.binarySearch(aColumn, aStart[j], aStart[j + 1], i);
+                    if (j > i || q < 0) {
+                        final double aIJ = aValues[p];
+                        final double aJI = (q < 0) ? 0.0 : aValues[q];
+                        final double maxDelta =
+                            relativeSymmetryThreshold * FastMath.max(FastMath.abs(aIJ), FastMath.abs(aJI));
+                        if (FastMath.abs(aIJ - aJI) > maxDelta) {
+                            throw new MathIllegalArgumentException(LocalizedCoreFormats.NON_SYMMETRIC_MATRIX,
+                                                                   i, j, relativeSymmetryThreshold);
+                        }
+                    }
+                }
+            }
+        }
+
+        // up-looking factorization, computing one row of L at a time
+        final int[]    start  = expected.clone();
+        final int[]    row    = new int[expected[n]];
+        final double[] values = new double[expected[n]];
+        final int[]    next   = Arrays.copyOf(expected, n);
+        final double[] x      = new double[n];
+        final int[]    flag   = new int[n];
+        final int[]    stack  = new int[n];
+        for (int k = 0; k < n; ++k) {
+
+            // scatter the lower part of row k of P A P^T and find the pattern
+            // of row k of L, in topological order, using the elimination tree
+            flag[k] = k;
+            int top = n;
+            final int original = permutation[k];
+            for (int p = aStart[original]; p < aStart[original + 1]; ++p) {
+                int i = inverse[aColumn[p]];
+                if (i <= k) {
+                    x[i] += aValues[p];
+                    int length = 0;
+                    while (flag[i] != k) {
+                        stack[length++] = i;
+                        flag[i]         = k;
+                        i               = parent[i];
+                    }
+                    while (length > 0) {
+                        stack[--top] = stack[--length];
+                    }
+                }
+            }
+
+            // sparse triangular solve
+            double d = x[k];
+            x[k] = 0;
+            for (; top < n; ++top) {
+                final int    i   = stack[top];
+                final double lKI = x[i] / values[start[i]];
+                x[i] = 0;
+                for (int p = start[i] + 1; p < next[i]; ++p) {
+                    x[row[p]] -= values[p] * lKI;
+                }
+                d -= lKI * lKI;
+                row[next[i]]      = k;
+                values[next[i]++] = lKI;
+            }
+
+            // check diagonal element
+            if (d <= absolutePositivityThreshold) {
+                throw new MathIllegalArgumentException(LocalizedCoreFormats.NOT_POSITIVE_DEFINITE_MATRIX);
+            }
+            row[next[k]]      = k;
+            values[next[k]++] = FastMath.sqrt(d);
+
+        }
+
+        // remove the gaps left by entries of the analyzed pattern that are zero in this matrix
+        int size = 0;
+        for (int j = 0; j < n; ++j) {
+            final int from = start[j];
+            start[j] = size;
+            for (int p = from; p < next[j]; ++p) {
+                row[size]      = row[p];
+                values[size++] = values[p];
+            }
+        }
+        start[n] = size;
+
+        this.lStart   = start;
+        this.lRow     = (size == row.length)    ? row    : Arrays.copyOf(row, size);
+        this.lValues  = (size == values.length) ? values : Arrays.copyOf(values, size);
+        this.cachedLT = null;
+
+    }
+
+    /**
+     * Returns the matrix L of the decomposition.
+     * <p>L is a sparse lower-triangular matrix such that P A P<sup>T</sup> = L L<sup>T</sup></p>
+     * @return the L matrix
+     */
+    public CompressedRowRealMatrix getL() {
+        return getLT().transpose();
+    }
+
+    /**
+     * Returns the transpose of the matrix L of the decomposition.
+     * <p>L<sup>T</sup> is a sparse upper-triangular matrix</p>
+     * @return the transpose of the matrix L of the decomposition
+     */
+    public CompressedRowRealMatrix getLT() {
+        if (cachedLT == null) {
+            // the compressed columns of L are the compressed rows of L^T
+            cachedLT = new CompressedRowRealMatrix(n, n, lStart, lRow, lValues);
+        }
+        return cachedLT;
+    }
+
+    /**
+     * Returns the fill-reducing permutation P of the decomposition.
+     * @return permutation, element k being the index in the original
+     * matrix of the k<sup>th</sup> pivot
+     */
+    public int[] getPermutation() {
+        return permutation.clone();
+    }
+
+    /**
+     * Return the determinant of the matrix
+     * @return determinant of the matrix
+     */
+    public double getDeterminant() {
+        double determinant = 1.0;
+        for (int j = 0; j < n; ++j) {
+            final double lJJ = lValues[lStart[j]];
+            determinant *= lJJ * lJJ;
+        }
+        return determinant;
+    }
+
+    /**
+     * Get a solver for finding the A &times; X = B solution in least square sense.
+     * @return a solver
+     */
+    public DecompositionSolver getSolver() {
+        return new Solver();
+    }
+
+    /** Specialized solver. */
+    private class Solver implements DecompositionSolver {
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean isNonSingular() {
+            // if we get this far, the matrix was positive definite, hence non-singular
+            return true;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public RealVector solve(final RealVector b) {
+            if (b.getDimension() != n) {
+                throw new MathIllegalArgumentException(LocalizedCoreFormats.DIMENSIONS_MISMATCH,
+                                                       b.getDimension(), n);
+            }
+            final double[] y = new double[n];
+            for (int k = 0; k < n; ++k) {
+                y[k] = b.getEntry(permutation[k]);
+            }
+            solve(y);
+            final double[] x = new double[n];
+            for (int k = 0; k < n; ++k) {
+                x[permutation[k]] = y[k];
+            }
+            return new ArrayRealVector(x, false);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public RealMatrix solve(final RealMatrix b) {
+            if (b.getRowDimension() != n) {
+                throw new MathIllegalArgumentException(LocalizedCoreFormats.DIMENSIONS_MISMATCH,
+                                                       b.getRowDimension(), n);
+            }
+            final int nColB = b.getColumnDimension();
+            final double[][] x = new double[n][nColB];
+            final double[] y = new double[n];
+            for (int c = 0; c < nColB; ++c) {
+                for (int k = 0; k < n; ++k) {
+                    y[k] = b.getEntry(permutation[k], c);
+                }
+                solve(y);
+                for (int k = 0; k < n; ++k) {
+                    x[permutation[k]][c] = y[k];
+                }
+            }
+            return new Array2DRowRealMatrix(x, false);
+        }
+
+        /** Solve L L<sup>T</sup> y = b in place.
+         * @param y right hand side on input, solution on output
+         */
+        private void solve(final double[] y) {
+
+            // solve L z = b
+            for (int j = 0; j < n; ++j) {
+                y[j] /= lValues[lStart[j]];
+                final double yJ = y[j];
+                for (int p = lStart[j] + 1; p < lStart[j + 1]; ++p) {
+                    y[lRow[p]] -= lValues[p] * yJ;
+                }
+            }
+
+            // solve L^T y = z
+            for (int j = n - 1; j >= 0; --j) {
+                double yJ = y[j];
+                for (int p = lStart[j] + 1; p < lStart[j + 1]; ++p) {
+                    yJ -= lValues[p] * y[lRow[p]];
+                }
+                y[j] = yJ / lValues[lStart[j]];
+            }
+
+        }
+
+        /**
+         * Get the inverse of the decomposed matrix.
+         *
+         * @return the inverse matrix.
+         */
+        @Override
+        public RealMatrix getInverse() {
+            return solve(MatrixUtils.createRealIdentityMatrix(n));
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public int getRowDimension() {
+            return n;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public int getColumnDimension() {
+            return n;
+        }
+
+    }
+
+}
@@ -0,0 +1,518 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hipparchus.linear;
+
+import java.util.Arrays;
+
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.exception.MathIllegalArgumentException;
+import org.hipparchus.util.FastMath;
+
+/**
+ * Calculates the LU-decomposition of a sparse matrix.
+ * <p>
+ * The decomposition of a square matrix A is P A Q = L U, where Q is the
+ * fill-reducing column permutation computed by a {@link SparseSymbolicAnalysis
+ * symbolic analysis}, P is a row permutation resulting from partial pivoting,
+ * L is a sparse unit lower triangular matrix and U is a sparse upper triangular
+ * matrix. The factors are computed column by column using the left-looking
+ * algorithm of Gilbert and Peierls, where the pattern of each column is found
+ * by a depth-first search in the graph of L before the numerical sparse triangular
+ * solve, so the cost is proportional to the number of floating point operations
+ * and the matrix is never densified.
+ * </p>
+ * <p>
+ * Pivoting uses a threshold: the diagonal entry is preferred as long as its
+ * magnitude is at least the pivoting threshold times the magnitude of the largest
+ * candidate in its column. A threshold of 1 corresponds to classical partial pivoting,
+ * smaller thresholds preserve the fill-reducing ordering for matrices that are
+ * almost symmetric or diagonally dominant.
+ * </p>
+ * <p>
+ * As for {@link LUDecomposition}, a singular matrix does not trigger an
+ * exception at construction, but its solver {@link DecompositionSolver#isNonSingular()
+ * reports it} and its determinant is zero.
+ * </p>
+ * @see LUDecomposition
+ * @see SparseSymbolicAnalysis
+ * @see <a href="https://doi.org/10.1137/0909058">J. R. Gilbert and T. Peierls, Sparse
+ * Partial Pivoting in Time Proportional to Arithmetic Operations, SIAM Journal on
+ * Scientific and Statistical Computing 9(5): 862-874, 1988</a>
+ * @since 3.1
+ */
+public class SparseLUDecomposition {
+
+    /** Default pivoting threshold. */
+    public static final double DEFAULT_PIVOTING_THRESHOLD = 0.1;
+
+    /** Default bound to determine effective singularity in LU decomposition. */
+    private static final double DEFAULT_TOO_SMALL = 1e-11;
+
+    /** Dimension of the matrix. */
+    private final int n;
+
+    /** Row permutation, element k being the original row of the k<sup>th</sup> pivot. */
+    private final int[] rowPermutation;
+
+    /** Column permutation, element k being the original column of the k<sup>th</sup> pivot. */
+    private final int[] columnPermutation;
+
+    /** Index of first entry of each column of L (with an extra element holding the number of entries). */
+    private int[] lStart;
+
+    /** Row indices of the entries of L, unit diagonal first in each column. */
+    private int[] lRow;
+
+    /** Values of the entries of L, unit diagonal first in each column. */
+    private double[] lValues;
+
+    /** Index of first entry of each column of U (with an extra element holding the number of entries). */
+    private int[] uStart;
+
+    /** Row indices of the entries of U, diagonal last in each column. */
+    private int[] uRow;
+
+    /** Values of the entries of U, diagonal last in each column. */
+    private double[] uValues;
+
+    /** Singularity indicator. */
+    private boolean singular;
+
+    /**
+     * Calculates the LU-decomposition of the given matrix.
+     * <p>
+     * Calling this constructor is equivalent to call {@link
+     * #SparseLUDecomposition(RealMatrix, SparseSymbolicAnalysis, double, double)}
+     * with a new symbolic analysis of the matrix, the pivoting threshold set to
+     * {@link #DEFAULT_PIVOTING_THRESHOLD} and a default singularity threshold.
+     * </p>
+     * @param matrix the matrix to decompose
+     * @throws MathIllegalArgumentException if matrix is not square
+     */
+    public SparseLUDecomposition(final RealMatrix matrix) {
+        this(matrix, new SparseSymbolicAnalysis(matrix));
+    }
+
+    /**
+     * Calculates the LU-decomposition of the given matrix, reusing a symbolic analysis.
+     * <p>
+     * Calling this constructor is equivalent to call {@link
+     * #SparseLUDecomposition(RealMatrix, SparseSymbolicAnalysis, double, double)}
+     * with the pivoting threshold set to {@link #DEFAULT_PIVOTING_THRESHOLD} and
+     * a default singularity threshold.
+     * </p>
+     * @param matrix the matrix to decompose
+     * @param analysis symbolic analysis of a matrix with the same sparsity pattern
+     * @throws MathIllegalArgumentException if the matrix does not match the analysis
+     */
+    public SparseLUDecomposition(final RealMatrix matrix, final SparseSymbolicAnalysis analysis) {
+        this(matrix, analysis, DEFAULT_PIVOTING_THRESHOLD, DEFAULT_TOO_SMALL);
+    }
+
+    /**
+     * Calculates the LU-decomposition of the given matrix, reusing a symbolic analysis.
+     * @param matrix the matrix to decompose
+     * @param analysis symbolic analysis of a matrix with the same sparsity pattern
+     * @param pivotingThreshold threshold (between 0 and 1) above which the diagonal
+     * entry is preferred as a pivot over the largest entry of the column
+     * @param singularityThreshold threshold under which a matrix is considered singular
+     * @throws MathIllegalArgumentException if the matrix does not match the analysis
+     * @throws MathIllegalArgumentException if the pivoting threshold is not between 0 and 1
+     */
+    public SparseLUDecomposition(final RealMatrix matrix, final SparseSymbolicAnalysis analysis,
+                                 final double pivotingThreshold, final double singularityThreshold) {
+
+        if (pivotingThreshold < 0 || pivotingThreshold > 1) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.OUT_OF_RANGE_SIMPLE,
+                                                   pivotingThreshold, 0, 1);
+        }
+
+        final CompressedRowRealMatrix a = new CompressedRowRealMatrix(matrix);
+        analysis.checkPattern(a);
+
+        // the compressed rows of A^T are the compressed columns of A
+        final CompressedRowRealMatrix aT = a.transpose();
+        final int[]    aStart  = aT.getRowStartRef();
+        final int[]    aRow    = aT.getColumnIndexRef();
+        final double[] aValues = aT.getValuesRef();
+
+        this.n                 = analysis.getDimension();
+        this.columnPermutation = analysis.getPermutation();
+        this.rowPermutation    = new int[n];
+        this.singular          = false;
+
+        // L row indices refer to original rows until the end of the factorization
+        final int[] pivotRank = new int[n];
+        Arrays.fill(pivotRank, -1);
+
+        final int initialSize = 4 * aStart[n] + n;
+        lStart  = new int[n + 1];
+        lRow    = new int[initialSize];
+        lValues = new double[initialSize];
+        uStart  = new int[n + 1];
+        uRow    = new int[initialSize];
+        uValues = new double[initialSize];
+        int lSize = 0;
+        int uSize = 0;
+
+        final double[] x      = new double[n];
+        final int[]    reach  = new int[n];
+        final int[]    stack  = new int[n];
+        final int[]    cursor = new int[n];
+        final int[]    mark   = new int[n];
+        Arrays.fill(mark, -1);
+
+        for (int k = 0; k < n; ++k) {
+
+            // make room for the worst case column
+            if (lRow.length - lSize < n) {
+                final int newLength = 2 * lRow.length + n;
+                lRow    = Arrays.copyOf(lRow,    newLength);
+                lValues = Arrays.copyOf(lValues, newLength);
+            }
+            if (uRow.length - uSize < n) {
+                final int newLength = 2 * uRow.length + n;
+                uRow    = Arrays.copyOf(uRow,    newLength);
+                uValues = Arrays.copyOf(uValues, newLength);
+            }
+            lStart[k] = lSize;
+            uStart[k] = uSize;
+
+            // find the pattern of x = L \ A(:, q[k]) in topological order
+            final int column = columnPermutation[k];
+            int top = n;
+            for (int p = aStart[column]; p < aStart[column + 1]; ++p) {
+                if (mark[aRow[p]] != k) {
+                    top = depthFirstSearch(aRow[p], k, top, pivotRank, reach, stack, cursor, mark);
+                }
+            }
+
+            // sparse triangular solve
+            for (int p = aStart[column]; p < aStart[column + 1]; ++p) {
+                x[aRow[p]] = aValues[p];
+            }
+            for (int p = top; p < n; ++p) {
+                final int j     = reach[p];
+                final int rank  = pivotRank[j];
+                if (rank >= 0) {
+                    // L has a unit diagonal, stored first in each column
+                    final double xJ = x[j];
+                    for (int q = lStart[rank] + 1; q < lStart[rank + 1]; ++q) {
+                        x[lRow[q]] -= lValues[q] * xJ;
+                    }
+                }
+            }
+
+            // split between U (already pivoted rows) and L (candidate pivot rows)
+            int    pivot   = -1;
+            double largest = -1;
+            for (int p = top; p < n; ++p) {
+                final int i = reach[p];
+                if (pivotRank[i] < 0) {
+                    final double abs = FastMath.abs(x[i]);
+                    if (abs > largest) {
+                        largest = abs;
+                        pivot   = i;
+                    }
+                } else {
+                    uRow[uSize]      = pivotRank[i];
+                    uValues[uSize++] = x[i];
+                }
+            }
+
+            // singularity check
+            if (pivot < 0 || largest < singularityThreshold) {
+                singular = true;
+                return;
+            }
+
+            // prefer the diagonal entry to preserve the fill-reducing ordering
+            if (pivotRank[column] < 0 && mark[column] == k &&
+                FastMath.abs(x[column]) >= pivotingThreshold * largest) {
+                pivot = column;
+            }
+
+            final double pivotValue = x[pivot];
+            uRow[uSize]       = k;
+            uValues[uSize++]  = pivotValue;
+            pivotRank[pivot]  = k;
+            rowPermutation[k] = pivot;
+            lRow[lSize]       = pivot;
+            lValues[lSize++]  = 1.0;
+            for (int p = top; p < n; ++p) {
+                final int i = reach[p];
+                if (pivotRank[i] < 0) {
+                    lRow[lSize]      = i;
+                    lValues[lSize++] = x[i] / pivotValue;
+                }
+                x[i] = 0;
+            }
+
+        }
+
+        lStart[n] = lSize;
+        uStart[n] = uSize;
+
+        // renumber the rows of L according to pivoting
+        for (int p = 0; p < lSize; ++p) {
+            lRow[p] = pivotRank[lRow[p]];
+        }
+        lRow    = Arrays.copyOf(lRow,    lSize);
+        lValues = Arrays.copyOf(lValues, lSize);
+        uRow    = Arrays.copyOf(uRow,    uSize);
+        uValues = Arrays.copyOf(uValues, uSize);
+
+    }
+
+    /** Non-recursive depth-first search in the graph of L.
+     * <p>
+     * Nodes are original row indices, the children of a row that has already been
+     * chosen as the pivot of column j are the rows of the entries of column j of L.
+     * </p>
+     * @param root start node
+     * @param k current column, used as the visit mark
+     * @param top current top of the reach stack
+     * @param pivotRank pivot rank of each original row (-1 if not yet pivoted)
+     * @param reach reach stack, filled from the end
+     * @param stack depth-first search stack
+     * @param cursor position of the next child to visit for each node in the search stack
+     * @param mark visit marks
+     * @return new top of the reach stack
+     */
+    private int depthFirstSearch(final int root, final int k, final int top, final int[] pivotRank,
+                                 final int[] reach, final int[] stack, final int[] cursor, final int[] mark) {
+        int newTop = top;
+        int head   = 0;
+        stack[0] = root;
+        while (head >= 0) {
+            final int j    = stack[head];
+            final int rank = pivotRank[j];
+            if (mark[j] != k) {
+                mark[j]      = k;
+                cursor[head] = (rank < 0) ? 0 : lStart[rank] + 1;
+            }
+            final int end = (rank < 0) ? 0 : lStart[rank + 1];
+            boolean done = true;
+            for (int p = cursor[head]; p < end; ++p) {
+                final int i = lRow[p];
+                if (mark[i] != k) {
+                    // go deeper
+                    cursor[head]  = p + 1;
+                    stack[++head] = i;
+                    done          = false;
+                    break;
+                }
+            }
+            if (done) {
+                // all children have been visited
+                --head;
+                reach[--newTop] = j;
+            }
+        }
+        return newTop;
+    }
+
+    /**
+     * Returns the matrix L of the decomposition.
+     * <p>L is a sparse unit lower-triangular matrix such that P A Q = L U</p>
+     * @return the L matrix (or null if decomposed matrix is singular)
+     */
+    public CompressedRowRealMatrix getL() {
+        if (singular) {
+            return null;
+        }
+        // the compressed columns of L are the compressed rows of L^T
+        return new CompressedRowRealMatrix(n, n, lStart, lRow, lValues).transpose();
+    }
+
+    /**
+     * Returns the matrix U of the decomposition.
+     * <p>U is a sparse upper-triangular matrix such that P A Q = L U</p>
+     * @return the U matrix (or null if decomposed matrix is singular)
+     */
+    public CompressedRowRealMatrix getU() {
+        if (singular) {
+            return null;
+        }
+        // the compressed columns of U are the compressed rows of U^T
+        return new CompressedRowRealMatrix(n, n, uStart, uRow, uValues).transpose();
+    }
+
+    /**
+     * Returns the row permutation P of the decomposition.
+     * @return row permutation, element k being the index in the original
+     * matrix of the k<sup>th</sup> pivot row (or null if decomposed matrix is singular)
+     */
+    public int[] getRowPermutation() {
+        return singular ? null : rowPermutation.clone();
+    }
+
+    /**
+     * Returns the column permutation Q of the decomposition.
+     * @return column permutation, element k being the index in the original
+     * matrix of the k<sup>th</sup> pivot column
+     */
+    public int[] getColumnPermutation() {
+        return columnPermutation.clone();
+    }
+
+    /**
+     * Return the determinant of the matrix
+     * @return determinant of the matrix
+     */
+    public double getDeterminant() {
+        if (singular) {
+            return 0;
+        }
+        double determinant = (isEven(rowPermutation) == isEven(columnPermutation)) ? 1 : -1;
+        for (int j = 0; j < n; ++j) {
+            // diagonal is the last entry of each column of U
+            determinant *= uValues[uStart[j + 1] - 1];
+        }
+        return determinant;
+    }
+
+    /** Check if a permutation is even.
+     * @param permutation permutation to check
+     * @return true if the permutation is even
+     */
+    private static boolean isEven(final int[] permutation) {
+        final boolean[] visited = new boolean[permutation.length];
+        boolean even = true;
+        for (int i = 0; i < permutation.length; ++i) {
+            if (!visited[i]) {
+                // a cycle of length l is the product of l - 1 transpositions
+                for (int j = permutation[i]; j != i; j = permutation[j]) {
+                    visited[j] = true;
+                    even = !even;
+                }
+                visited[i] = true;
+            }
+        }
+        return even;
+    }
+
+    /**
+     * Get a solver for finding the A &times; X = B solution in exact linear
+     * sense.
+     * @return a solver
+     */
+    public DecompositionSolver getSolver() {
+        return new Solver();
+    }
+
+    /** Specialized solver. */
+    private class Solver implements DecompositionSolver {
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean isNonSingular() {
+            return !singular;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public RealVector solve(final RealVector b) {
+            if (b.getDimension() != n) {
+                throw new MathIllegalArgumentException(LocalizedCoreFormats.DIMENSIONS_MISMATCH,
+                                                       b.getDimension(), n);
+            }
+            if (singular) {
+                throw new MathIllegalArgumentException(LocalizedCoreFormats.SINGULAR_MATRIX);
+            }
+            final double[] y = new double[n];
+            for (int k = 0; k < n; ++k) {
+                y[k] = b.getEntry(rowPermutation[k]);
+            }
+            solve(y);
+            final double[] x = new double[n];
+            for (int k = 0; k < n; ++k) {
+                x[columnPermutation[k]] = y[k];
+            }
+            return new ArrayRealVector(x, false);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public RealMatrix solve(final RealMatrix b) {
+            if (b.getRowDimension() != n) {
+                throw new MathIllegalArgumentException(LocalizedCoreFormats.DIMENSIONS_MISMATCH,
+                                                       b.getRowDimension(), n);
+            }
+            if (singular) {
+                throw new MathIllegalArgumentException(LocalizedCoreFormats.SINGULAR_MATRIX);
+            }
+            final int nColB = b.getColumnDimension();
+            final double[][] x = new double[n][nColB];
+            final double[] y = new double[n];
+            for (int c = 0; c < nColB; ++c) {
+                for (int k = 0; k < n; ++k) {
+                    y[k] = b.getEntry(rowPermutation[k], c);
+                }
+                solve(y);
+                for (int k = 0; k < n; ++k) {
+                    x[columnPermutation[k]][c] = y[k];
+                }
+            }
+            return new Array2DRowRealMatrix(x, false);
+        }
+
+        /** Solve L U y = b in place.
+         * @param y right hand side on input, solution on output
+         */
+        private void solve(final double[] y) {
+
+            // solve L z = b, L has a unit diagonal stored first in each column
+            for (int j = 0; j < n; ++j) {
+                final double yJ = y[j];
+                for (int p = lStart[j] + 1; p < lStart[j + 1]; ++p) {
+                    y[lRow[p]] -= lValues[p] * yJ;
+                }
+            }
+
+            // solve U y = z, diagonal is stored last in each column of U
+            for (int j = n - 1; j >= 0; --j) {
+                y[j] /= uValues[uStart[j + 1] - 1];
+                final double yJ = y[j];
+                for (int p = uStart[j]; p < uStart[j + 1] - 1; ++p) {
+                    y[uRow[p]] -= uValues[p] * yJ;
+                }
+            }
+
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public RealMatrix getInverse() {
+            return solve(MatrixUtils.createRealIdentityMatrix(n));
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public int getRowDimension() {
+            return n;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public int getColumnDimension() {
+            return n;
+        }
+
+    }
+
+}
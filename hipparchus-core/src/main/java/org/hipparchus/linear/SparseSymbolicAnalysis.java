@@ -0,0 +1,229 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hipparchus.linear;
+
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.exception.MathIllegalArgumentException;
+
+/**
+ * Symbolic analysis of a sparse square matrix, shared by sparse direct solvers.
+ * <p>
+ * The analysis depends only on the sparsity pattern of the matrix, not on
+ * the values of its entries. It computes a fill-reducing symmetric ordering
+ * using an {@link ApproximateMinimumDegree approximate minimum degree} algorithm
+ * on the pattern of A + A<sup>T</sup>, the elimination tree of the permuted
+ * matrix and the number of non-zero entries in each column of its Cholesky
+ * factor. As these computations are often as expensive as the numerical
+ * factorization itself, an analysis can be reused for all matrices that share
+ * the same pattern, as is the case in non-linear or time-dependent problems
+ * where the same mesh is assembled again and again with different values.
+ * </p>
+ * <p>
+ * Instances of this class are immutable and can be shared between threads.
+ * </p>
+ * @see SparseCholeskyDecomposition
+ * @see SparseLUDecomposition
+ * @since 3.1
+ */
+public class SparseSymbolicAnalysis {
+
+    /** Dimension of the matrix. */
+    private final int n;
+
+    /** Index of first entry of each row of the analyzed pattern. */
+    private final int[] rowStart;
+
+    /** Column indices of the entries of the analyzed pattern. */
+    private final int[] columnIndex;
+
+    /** Permutation, element k being the original index of the k<sup>th</sup> pivot. */
+    private final int[] permutation;
+
+    /** Inverse permutation, element i being the pivot rank of original index i. */
+    private final int[] inverse;
+
+    /** Parent of each node in the elimination tree (-1 for roots). */
+    private final int[] parent;
+
+    /** Index of first entry of each column of the Cholesky factor (with an extra element holding the number of entries). */
+    private final int[] factorStart;
+
+    /**
+     * Analyze the sparsity pattern of a matrix.
+     * <p>
+     * Only the positions of the non-zero entries of the matrix are used.
+     * </p>
+     * @param matrix matrix to analyze
+     * @exception MathIllegalArgumentException if the matrix is not square
+     */
+    public SparseSymbolicAnalysis(final RealMatrix matrix) throws MathIllegalArgumentException {
+
+        if (!matrix.isSquare()) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.NON_SQUARE_MATRIX,
+                                                   matrix.getRowDimension(), matrix.getColumnDimension());
+        }
+
+        final CompressedRowRealMatrix compressed = new CompressedRowRealMatrix(matrix);
+        this.n           = compressed.getRowDimension();
+        this.rowStart    = compressed.getRowStartRef();
+        this.columnIndex = compressed.getColumnIndexRef();
+
+        // fill-reducing ordering
+        this.permutation = ApproximateMinimumDegree.order(n, rowStart, columnIndex);
+        this.inverse     = new int[n];
+        for (int k = 0; k < n; ++k) {
+            inverse[permutation[k]] = k;
+        }
+
+        // pattern of A^T, so the symmetric pattern of A + A^T can be scanned
+        final CompressedRowRealMatrix transposed = compressed.transpose();
+        final int[] tStart  = transposed.getRowStartRef();
+        final int[] tColumn = transposed.getColumnIndexRef();
+
+        // elimination tree of P (A + A^T) P^T, using path compression
+        this.parent = new int[n];
+        final int[] ancestor = new int[n];
+        for (int k = 0; k < n; ++k) {
+            parent[k]   = -1;
+            ancestor[k] = -1;
+            final int original = permutation[k];
+            for (int pass = 0; pass < 2; ++pass) {
+                final int[] start  = (pass == 0) ? rowStart    : tStart;
+                final int[] column = (pass == 0) ? columnIndex : tColumn;
+                for (int q = start[original]; q < start[original + 1]; ++q) {
+                    int i = inverse[column[q]];
+                    while (i >= 0 && i < k) {
+                        final int next = ancestor[i];
+                        ancestor[i] = k;
+                        if (next < 0) {
+                            parent[i] = k;
+                        }
+                        i = next;
+                    }
+                }
+            }
+        }
+
+        // column counts of the Cholesky factor, walking the row subtrees
+        final int[] count = new int[n];
+        final int[] flag  = new int[n];
+        for (int k = 0; k < n; ++k) {
+            flag[k]  = k;
+            count[k] = 1;
+            final int original = permutation[k];
+            for (int pass = 0; pass < 2; ++pass) {
+                final int[] start  = (pass == 0) ? rowStart    : tStart;
+                final int[] column = (pass == 0) ? columnIndex : tColumn;
+                for (int q = start[original]; q < start[original + 1]; ++q) {
+                    for (int i = inverse[column[q]]; i < k && flag[i] != k; i = parent[i]) {
+                        // L(k, i) is non-zero
+                        ++count[i];
+                        flag[i] = k;
+                    }
+                }
+            }
+        }
+        this.factorStart = new int[n + 1];
+        for (int k = 0; k < n; ++k) {
+            factorStart[k + 1] = factorStart[k] + count[k];
+        }
+
+    }
+
+    /** Get the dimension of the analyzed matrix.
+     * @return dimension of the analyzed matrix
+     */
+    public int getDimension() {
+        return n;
+    }
+
+    /** Get the fill-reducing permutation.
+     * @return permutation, element k being the index in the original
+     * matrix of the k<sup>th</sup> pivot
+     */
+    public int[] getPermutation() {
+        return permutation.clone();
+    }
+
+    /** Get the number of non-zero entries in the Cholesky factor of the permuted matrix.
+     * <p>
+     * This number includes the diagonal entries. For non-symmetric patterns, it
+     * corresponds to the Cholesky factor of the symmetric pattern of A + A<sup>T</sup>.
+     * </p>
+     * @return number of non-zero entries in the Cholesky factor
+     */
+    public int getCholeskyNonZeros() {
+        return factorStart[n];
+    }
+
+    /** Get a reference to the inverse permutation.
+     * @return reference to the inverse permutation
+     */
+    int[] getInverseRef() {
+        return inverse;
+    }
+
+    /** Get a reference to the elimination tree.
+     * @return reference to the parent of each node in the elimination tree (-1 for roots)
+     */
+    int[] getParentRef() {
+        return parent;
+    }
+
+    /** Get a reference to the index of first entry of each column of the Cholesky factor.
+     * @return reference to the index of first entry of each column of the
+     * Cholesky factor (with an extra element holding the number of entries)
+     */
+    int[] getFactorStartRef() {
+        return factorStart;
+    }
+
+    /** Check a matrix is compatible with the analyzed pattern.
+     * <p>
+     * The matrix is compatible if all its non-zero entries belong to the analyzed
+     * pattern, so entries of the pattern that happen to be exactly zero are allowed.
+     * </p>
+     * @param matrix matrix to check
+     * @exception MathIllegalArgumentException if dimensions do not match or if
+     * the matrix has non-zero entries outside of the analyzed pattern
+     */
+    void checkPattern(final CompressedRowRealMatrix matrix) throws MathIllegalArgumentException {
+
+        if (matrix.getRowDimension() != n || matrix.getColumnDimension() != n) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.DIMENSIONS_MISMATCH_2x2,
+                                                   matrix.getRowDimension(), matrix.getColumnDimension(),
+                                                   n, n);
+        }
+
+        final int[] mStart  = matrix.getRowStartRef();
+        final int[] mColumn = matrix.getColumnIndexRef();
+        for (int i = 0; i < n; ++i) {
+            // both rows are sorted by increasing column index
+            int q = rowStart[i];
+            for (int p = mStart[i]; p < mStart[i + 1]; ++p) {
+                while (q < rowStart[i + 1] && columnIndex[q] < mColumn[p]) {
+                    ++q;
+                }
+                if (q == rowStart[i + 1] || columnIndex[q] != mColumn[p]) {
+                    throw new MathIllegalArgumentException(LocalizedCoreFormats.SPARSITY_PATTERN_MISMATCH);
+                }
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,628 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hipparchus.linear;
+
+import java.io.Serializable;
+
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.exception.MathIllegalArgumentException;
+import org.hipparchus.util.FastMath;
+
+/**
+ * Implementation of a symmetric matrix using packed storage.
+ * <p>
+ * Only the upper triangle of the matrix (including the diagonal) is stored,
+ * row by row, in a single array of n(n+1)/2 elements: entry (i, j) with
+ * i &le; j is stored in element {@code i * n - i * (i - 1) / 2 + j - i} of the
+ * {@link #getDataRef() underlying array}. This halves the memory used with
+ * respect to dense matrices, and the products involving the matrix visit each
+ * stored entry only once.
+ * </p>
+ * <p>
+ * As the matrix is symmetric by construction, setting entry (i, j) also sets
+ * entry (j, i), and instances can be given directly to {@link CholeskyDecomposition}
+ * or {@link EigenDecompositionSymmetric} without any symmetry check. Operations
+ * whose results are always symmetric, like {@link #add(SymmetricRealMatrix) addition}
+ * of another symmetric matrix or {@link #congruence(RealMatrix) congruence}
+ * transforms A&middot;S&middot;A<sup>T</sup>, return symmetric matrices.
+ * </p>
+ * <p>
+ * Walking the matrix with a {@link RealMatrixChangingVisitor} visits each
+ * stored entry only once, so the visitor result is applied once to each
+ * pair of symmetric entries. Only entries on or above the diagonal are
+ * visited when walking the whole matrix.
+ * </p>
+ * @since 3.1
+ */
+public class SymmetricRealMatrix extends AbstractRealMatrix implements Serializable {
+
+    /** Serializable version identifier. */
+    private static final long serialVersionUID = 20261017L;
+
+    /** Dimension of the matrix. */
+    private final int n;
+
+    /** Entries of the upper triangle, row by row. */
+    private final double[] data;
+
+    /**
+     * Creates a symmetric matrix with all entries set to zero.
+     * @param dimension number of rows and columns of the matrix
+     * @exception MathIllegalArgumentException if dimension is not positive
+     * or too large for packed storage
+     */
+    public SymmetricRealMatrix(final int dimension) throws MathIllegalArgumentException {
+        super(dimension, dimension);
+        this.n    = dimension;
+        this.data = new double[packedSize(dimension)];
+    }
+
+    /**
+     * Creates a symmetric matrix by copying another matrix.
+     * @param matrix square matrix to copy
+     * @param relativeSymmetryThreshold threshold above which off-diagonal
+     * elements are considered too different and matrix not symmetric
+     * @exception MathIllegalArgumentException if matrix is not square or not symmetric
+     */
+    public SymmetricRealMatrix(final RealMatrix matrix, final double relativeSymmetryThreshold)
+        throws MathIllegalArgumentException {
+        this(checkSymmetric(matrix, relativeSymmetryThreshold));
+        int index = 0;
+        for (int i = 0; i < n; ++i) {
+            for (int j = i; j < n; ++j) {
+                data[index++] = matrix.getEntry(i, j);
+            }
+        }
+    }
+
+    /**
+     * Creates a symmetric matrix using the input array as the underlying data.
+     * <p>
+     * The array layout is the one described in the class documentation.
+     * </p>
+     * @param dimension number of rows and columns of the matrix
+     * @param data entries of the upper triangle, row by row
+     * @param copyArray if {@code true}, the input array will be copied,
+     * otherwise it will be referenced
+     * @exception MathIllegalArgumentException if dimension is not positive
+     * or array does not have dimension * (dimension + 1) / 2 elements
+     */
+    public SymmetricRealMatrix(final int dimension, final double[] data, final boolean copyArray)
+        throws MathIllegalArgumentException {
+        super(dimension, dimension);
+        final int size = packedSize(dimension);
+        if (data.length != size) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.DIMENSIONS_MISMATCH,
+                                                   data.length, size);
+        }
+        this.n    = dimension;
+        this.data = copyArray ? data.clone() : data;
+    }
+
+    /** Check a matrix is symmetric.
+     * @param matrix matrix to check
+     * @param relativeSymmetryThreshold threshold above which off-diagonal
+     * elements are considered too different and matrix not symmetric
+     * @return dimension of the matrix
+     * @exception MathIllegalArgumentException if matrix is not square or not symmetric
+     */
+    private static int checkSymmetric(final RealMatrix matrix, final double relativeSymmetryThreshold)
+        throws MathIllegalArgumentException {
+        MatrixUtils.checkSymmetric(matrix, relativeSymmetryThreshold);
+        return matrix.getRowDimension();
+    }
+
+    /** Compute the number of elements of the packed storage.
+     * @param dimension number of rows and columns of the matrix
+     * @return number of elements of the packed storage
+     * @exception MathIllegalArgumentException if dimension is too large for packed storage
+     */
+    private static int packedSize(final int dimension) throws MathIllegalArgumentException {
+        final long size = ((long) dimension * (dimension + 1)) / 2;
+        if (size > Integer.MAX_VALUE) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.NUMBER_TOO_LARGE,
+                                                   size, Integer.MAX_VALUE);
+        }
+        return (int) size;
+    }
+
+    /** Get the index of an entry in the packed storage.
+     * @param row row index of the entry
+     * @param column column index of the entry
+     * @return index of the entry in the packed storage
+     */
+    private int index(final int row, final int column) {
+        final int i = FastMath.min(row, column);
+        final int j = FastMath.max(row, column);
+        return diagonalIndex(i) + j - i;
+    }
+
+    /** Get the index of a diagonal entry in the packed storage.
+     * <p>
+     * The computation is done with long integers, as the intermediate
+     * products overflow int for large dimensions.
+     * </p>
+     * @param i row index of the diagonal entry
+     * @return index of entry (i, i) in the packed storage
+     */
+    private int diagonalIndex(final int i) {
+        return (int) (((long) i * (2L * n - i + 1)) / 2);
+    }
+
+    /**
+     * Gets a reference to the underlying data array.
+     * <p>
+     * The array layout is the one described in the class documentation.
+     * </p>
+     * @return entries of the upper triangle, row by row
+     */
+    public double[] getDataRef() {
+        return data; // NOPMD - returning an internal array is intentional and documented here
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * As the results of general operations on symmetric matrices are not
+     * symmetric, the created matrix is a dense matrix.
+     * </p>
+     */
+    @Override
+    public RealMatrix createMatrix(final int rowDimension, final int columnDimension)
+        throws MathIllegalArgumentException {
+        return MatrixUtils.createRealMatrix(rowDimension, columnDimension);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public SymmetricRealMatrix copy() {
+        return new SymmetricRealMatrix(n, data, true);
+    }
+
+    /** {@inheritDoc}
+     * <p>
+     * As the matrix is symmetric, this method simply returns a copy.
+     * </p>
+     */
+    @Override
+    public SymmetricRealMatrix transpose() {
+        return copy();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int getRowDimension() {
+        return n;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int getColumnDimension() {
+        return n;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public double[][] getData() {
+        final double[][] out = new double[n][n];
+        int index = 0;
+        for (int i = 0; i < n; ++i) {
+            final double[] outI = out[i];
+            for (int j = i; j < n; ++j) {
+                final double value = data[index++];
+                outI[j]   = value;
+                out[j][i] = value;
+            }
+        }
+        return out;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public double getEntry(final int row, final int column)
+        throws MathIllegalArgumentException {
+        MatrixUtils.checkMatrixIndex(this, row, column);
+        return data[index(row, column)];
+    }
+
+    /** {@inheritDoc}
+     * <p>
+     * As the matrix is symmetric, this also sets entry (column, row).
+     * </p>
+     */
+    @Override
+    public void setEntry(final int row, final int column, final double value)
+        throws MathIllegalArgumentException {
+        MatrixUtils.checkMatrixIndex(this, row, column);
+        data[index(row, column)] = value;
+    }
+
+    /** {@inheritDoc}
+     * <p>
+     * As the matrix is symmetric, this also changes entry (column, row).
+     * </p>
+     */
+    @Override
+    public void addToEntry(final int row, final int column, final double increment)
+        throws MathIllegalArgumentException {
+        MatrixUtils.checkMatrixIndex(this, row, column);
+        data[index(row, column)] += increment;
+    }
+
+    /** {@inheritDoc}
+     * <p>
+     * As the matrix is symmetric, this also changes entry (column, row).
+     * </p>
+     */
+    @Override
+    public void multiplyEntry(final int row, final int column, final double factor)
+        throws MathIllegalArgumentException {
+        MatrixUtils.checkMatrixIndex(this, row, column);
+        data[index(row, column)] *= factor;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public RealMatrix add(final RealMatrix m) throws MathIllegalArgumentException {
+        if (m instanceof SymmetricRealMatrix) {
+            return add((SymmetricRealMatrix) m);
+        }
+        return super.add(m);
+    }
+
+    /**
+     * Compute the sum of {@code this} and {@code m}.
+     *
+     * @param m matrix to be added
+     * @return {@code this + m}
+     * @throws MathIllegalArgumentException if {@code m} is not the same
+     * size as {@code this}
+     */
+    public SymmetricRealMatrix add(final SymmetricRealMatrix m) throws MathIllegalArgumentException {
+        MatrixUtils.checkAdditionCompatible(this, m);
+        final double[] out = new double[data.length];
+        for (int k = 0; k < out.length; ++k) {
+            out[k] = data[k] + m.data[k];
+        }
+        return new SymmetricRealMatrix(n, out, false);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public RealMatrix subtract(final RealMatrix m) throws MathIllegalArgumentException {
+        if (m instanceof SymmetricRealMatrix) {
+            return subtract((SymmetricRealMatrix) m);
+        }
+        return super.subtract(m);
+    }
+
+    /**
+     * Subtract {@code m} from this matrix.
+     *
+     * @param m matrix to be subtracted
+     * @return {@code this - m}
+     * @throws MathIllegalArgumentException if {@code m} is not the same
+     * size as {@code this}
+     */
+    public SymmetricRealMatrix subtract(final SymmetricRealMatrix m) throws MathIllegalArgumentException {
+        MatrixUtils.checkSubtractionCompatible(this, m);
+        final double[] out = new double[data.length];
+        for (int k = 0; k < out.length; ++k) {
+            out[k] = data[k] - m.data[k];
+        }
+        return new SymmetricRealMatrix(n, out, false);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public SymmetricRealMatrix scalarAdd(final double d) {
+        final double[] out = new double[data.length];
+        for (int k = 0; k < out.length; ++k) {
+            out[k] = data[k] + d;
+        }
+        return new SymmetricRealMatrix(n, out, false);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public SymmetricRealMatrix scalarMultiply(final double d) {
+        final double[] out = new double[data.length];
+        for (int k = 0; k < out.length; ++k) {
+            out[k] = data[k] * d;
+        }
+        return new SymmetricRealMatrix(n, out, false);
+    }
+
+    /** {@inheritDoc}
+     * <p>
+     * Each stored entry is visited only once, contributing both to
+     * its row and to its column.
+     * </p>
+     */
+    @Override
+    public RealMatrix multiply(final RealMatrix m) throws MathIllegalArgumentException {
+        MatrixUtils.checkMultiplicationCompatible(this, m);
+        final int        p      = m.getColumnDimension();
+        final double[][] mData  = m.getData();
+        final double[][] out    = new double[n][p];
+        int index = 0;
+        for (int i = 0; i < n; ++i) {
+            final double[] outI = out[i];
+            final double[] mI   = mData[i];
+            final double   sII  = data[index++];
+            for (int k = 0; k < p; ++k) {
+                outI[k] += sII * mI[k];
+            }
+            for (int j = i + 1; j < n; ++j) {
+                final double   sIJ  = data[index++];
+                final double[] outJ = out[j];
+                final double[] mJ   = mData[j];
+                for (int k = 0; k < p; ++k) {
+                    outI[k] += sIJ * mJ[k];
+                    outJ[k] += sIJ * mI[k];
+                }
+            }
+        }
+        return new Array2DRowRealMatrix(out, false);
+    }
+
+    /**
+     * Compute the congruence transform A&middot;S&middot;A<sup>T</sup> of this matrix S.
+     * <p>
+     * This is the way covariance matrices are propagated through linear
+     * transforms. The result is symmetric by construction, so only its upper
+     * triangle is computed and stored. For an m&times;n matrix A, the cost
+     * is about m&middot;n<sup>2</sup> + m<sup>2</sup>&middot;n/2 multiplications,
+     * instead of m&middot;n<sup>2</sup> + m<sup>2</sup>&middot;n for the equivalent
+     * {@code a.multiply(this).multiplyTransposed(a)}.
+     * </p>
+     * @param a transform matrix
+     * @return A&middot;S&middot;A<sup>T</sup>
+     * @exception MathIllegalArgumentException if the column dimension of
+     * {@code a} is not the dimension of {@code this}
+     */
+    public SymmetricRealMatrix congruence(final RealMatrix a) throws MathIllegalArgumentException {
+
+        if (a.getColumnDimension() != n) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.DIMENSIONS_MISMATCH,
+                                                   a.getColumnDimension(), n);
+        }
+        final int        m     = a.getRowDimension();
+        final double[][] aData = (a instanceof Array2DRowRealMatrix) ?
+                                 ((Array2DRowRealMatrix) a).getDataRef() :
+                                 a.getData();
+
+        // rows of A.S (i.e. S.A_r for each row A_r of A, as S is symmetric)
+        final double[][] as = new double[m][n];
+        for (int r = 0; r < m; ++r) {
+            operate(aData[r], as[r]);
+        }
+
+        // upper triangle of (A.S).A^T
+        final double[] out = new double[packedSize(m)];
+        int index = 0;
+        for (int i = 0; i < m; ++i) {
+            final double[] asI = as[i];
+            for (int j = i; j < m; ++j) {
+                final double[] aJ = aData[j];
+                double sum = 0;
+                for (int k = 0; k < n; ++k) {
+                    sum += asI[k] * aJ[k];
+                }
+                out[index++] = sum;
+            }
+        }
+
+        return new SymmetricRealMatrix(m, out, false);
+
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public double[] operate(final double[] v) throws MathIllegalArgumentException {
+        final double[] out = new double[n];
+        operate(v, out);
+        return out;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void operate(final double[] v, final double[] out) throws MathIllegalArgumentException {
+        if (v.length != n) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.DIMENSIONS_MISMATCH, v.length, n);
+        }
+        if (out.length != n) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.DIMENSIONS_MISMATCH, out.length, n);
+        }
+        if (out == v) {
+            // the accumulation below needs the original vector
+            operate(v.clone(), out);
+            return;
+        }
+        for (int i = 0; i < n; ++i) {
+            out[i] = 0;
+        }
+        int index = 0;
+        for (int i = 0; i < n; ++i) {
+            final double vI = v[i];
+            double sum = data[index++] * vI;
+            for (int j = i + 1; j < n; ++j) {
+                final double sIJ = data[index++];
+                sum    += sIJ * v[j];
+                out[j] += sIJ * vI;
+            }
+            out[i] += sum;
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public double[] preMultiply(final double[] v) throws MathIllegalArgumentException {
+        return operate(v);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void preMultiply(final double[] v, final double[] out) throws MathIllegalArgumentException {
+        operate(v, out);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public double getTrace() {
+        double trace = 0;
+        for (int i = 0; i < n; ++i) {
+            trace += data[diagonalIndex(i)];
+        }
+        return trace;
+    }
+
+
+    /** {@inheritDoc}
+     * <p>
+     * Only the stored entries (i, j) with j &ge; i are visited, so each
+     * visitor result is applied once to both (i, j) and (j, i).
+     * </p>
+     */
+    @Override
+    public double walkInRowOrder(final RealMatrixChangingVisitor visitor) {
+        visitor.start(n, n, 0, n - 1, 0, n - 1);
+        int index = 0;
+        for (int i = 0; i < n; ++i) {
+            for (int j = i; j < n; ++j) {
+                data[index] = visitor.visit(i, j, data[index]);
+                ++index;
+            }
+        }
+        return visitor.end();
+    }
+
+    /** {@inheritDoc}
+     * <p>
+     * Each stored entry is visited only once, so each visitor result is applied
+     * once to both (i, j) and (j, i). Entries (i, j) with j &ge; i are visited
+     * as such, entries with j &lt; i are visited only if their symmetric entry
+     * (j, i) is outside of the sub-matrix.
+     * </p>
+     */
+    @Override
+    public double walkInRowOrder(final RealMatrixChangingVisitor visitor,
+                                 final int startRow, final int endRow,
+                                 final int startColumn, final int endColumn)
+        throws MathIllegalArgumentException {
+        MatrixUtils.checkSubMatrixIndex(this, startRow, endRow, startColumn, endColumn);
+        visitor.start(n, n, startRow, endRow, startColumn, endColumn);
+        for (int row = startRow; row <= endRow; ++row) {
+            for (int column = startColumn; column <= endColumn; ++column) {
+                if (!visitedAsSymmetric(row, column, startRow, endRow, startColumn, endColumn)) {
+                    final int index = index(row, column);
+                    data[index] = visitor.visit(row, column, data[index]);
+                }
+            }
+        }
+        return visitor.end();
+    }
+
+    /** {@inheritDoc}
+     * <p>
+     * Only the stored entries (i, j) with j &ge; i are visited, so each
+     * visitor result is applied once to both (i, j) and (j, i).
+     * </p>
+     */
+    @Override
+    public double walkInColumnOrder(final RealMatrixChangingVisitor visitor) {
+        visitor.start(n, n, 0, n - 1, 0, n - 1);
+        for (int j = 0; j < n; ++j) {
+            for (int i = 0; i <= j; ++i) {
+                final int index = diagonalIndex(i) + j - i;
+                data[index] = visitor.visit(i, j, data[index]);
+            }
+        }
+        return visitor.end();
+    }
+
+    /** {@inheritDoc}
+     * <p>
+     * Each stored entry is visited only once, so each visitor result is applied
+     * once to both (i, j) and (j, i). Entries (i, j) with j &ge; i are visited
+     * as such, entries with j &lt; i are visited only if their symmetric entry
+     * (j, i) is outside of the sub-matrix.
+     * </p>
+     */
+    @Override
+    public double walkInColumnOrder(final RealMatrixChangingVisitor visitor,
+                                    final int startRow, final int endRow,
+                                    final int startColumn, final int endColumn)
+        throws MathIllegalArgumentException {
+        MatrixUtils.checkSubMatrixIndex(this, startRow, endRow, startColumn, endColumn);
+        visitor.start(n, n, startRow, endRow, startColumn, endColumn);
+        for (int column = startColumn; column <= endColumn; ++column) {
+            for (int row = startRow; row <= endRow; ++row) {
+                if (!visitedAsSymmetric(row, column, startRow, endRow, startColumn, endColumn)) {
+                    final int index = index(row, column);
+                    data[index] = visitor.visit(row, column, data[index]);
+                }
+            }
+        }
+        return visitor.end();
+    }
+
+    /** {@inheritDoc}
+     * <p>
+     * Entries are visited in packed storage order, i.e. in row order.
+     * Only the stored entries (i, j) with j &ge; i are visited, so each
+     * visitor result is applied once to both (i, j) and (j, i).
+     * </p>
+     */
+    @Override
+    public double walkInOptimizedOrder(final RealMatrixChangingVisitor visitor) {
+        return walkInRowOrder(visitor);
+    }
+
+    /** {@inheritDoc}
+     * <p>
+     * Each stored entry is visited only once, as in {@link
+     * #walkInRowOrder(RealMatrixChangingVisitor, int, int, int, int)}.
+     * </p>
+     */
+    @Override
+    public double walkInOptimizedOrder(final RealMatrixChangingVisitor visitor,
+                                       final int startRow, final int endRow,
+                                       final int startColumn, final int endColumn)
+        throws MathIllegalArgumentException {
+        return walkInRowOrder(visitor, startRow, endRow, startColumn, endColumn);
+    }
+
+    /** Check if an entry below the diagonal is visited through its symmetric entry.
+     * @param row row index of the entry
+     * @param column column index of the entry
+     * @param startRow initial row index of the sub-matrix
+     * @param endRow final row index of the sub-matrix (inclusive)
+     * @param startColumn initial column index of the sub-matrix
+     * @param endColumn final column index of the sub-matrix (inclusive)
+     * @return true if entry is below the diagonal and its symmetric entry
+     * belongs to the sub-matrix
+     */
+    private static boolean visitedAsSymmetric(final int row, final int column,
+                                              final int startRow, final int endRow,
+                                              final int startColumn, final int endColumn) {
+        return column < row &&
+               column >= startRow && column <= endRow &&
+               row >= startColumn && row <= endColumn;
+    }
+
+}
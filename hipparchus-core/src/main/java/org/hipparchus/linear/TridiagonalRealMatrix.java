@@ -0,0 +1,150 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hipparchus.linear;
+
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.exception.MathIllegalArgumentException;
+
+/**
+ * Implementation of a square tridiagonal matrix.
+ * <p>
+ * This is a {@link BandedRealMatrix band matrix} with one sub-diagonal
+ * and one super-diagonal, as found for example in spline interpolation
+ * or in finite differences discretization of one-dimensional differential
+ * equations. Linear systems can be solved in O(n) operations using
+ * {@link BandedLUDecomposition} or {@link BandedCholeskyDecomposition}.
+ * </p>
+ * @since 3.1
+ */
+public class TridiagonalRealMatrix extends BandedRealMatrix {
+
+    /** Serializable version identifier. */
+    private static final long serialVersionUID = 20261017L;
+
+    /**
+     * Creates a tridiagonal matrix with all entries set to zero.
+     * @param dimension number of rows and columns of the matrix
+     * @exception MathIllegalArgumentException if dimension is not positive
+     */
+    public TridiagonalRealMatrix(final int dimension) throws MathIllegalArgumentException {
+        super(dimension, 1, 1);
+    }
+
+    /**
+     * Creates a tridiagonal matrix from its three diagonals.
+     * @param subDiagonal entries below the diagonal, {@code subDiagonal[i]} being entry (i + 1, i)
+     * @param diagonal entries on the diagonal
+     * @param superDiagonal entries above the diagonal, {@code superDiagonal[i]} being entry (i, i + 1)
+     * @exception MathIllegalArgumentException if the sub-diagonal or super-diagonal
+     * length is not one less than the diagonal length
+     */
+    public TridiagonalRealMatrix(final double[] subDiagonal, final double[] diagonal,
+                                 final double[] superDiagonal)
+        throws MathIllegalArgumentException {
+        this(toBand(subDiagonal, diagonal, superDiagonal));
+    }
+
+    /**
+     * Creates a tridiagonal matrix referencing the entries of a band.
+     * @param data entries of the band, row by row
+     */
+    private TridiagonalRealMatrix(final double[][] data) {
+        super(data, 1, 1, false);
+    }
+
+    /** Build the band storage from the three diagonals.
+     * @param subDiagonal entries below the diagonal
+     * @param diagonal entries on the diagonal
+     * @param superDiagonal entries above the diagonal
+     * @return entries of the band, row by row
+     * @exception MathIllegalArgumentException if the sub-diagonal or super-diagonal
+     * length is not one less than the diagonal length
+     */
+    private static double[][] toBand(final double[] subDiagonal, final double[] diagonal,
+                                     final double[] superDiagonal)
+        throws MathIllegalArgumentException {
+        final int n = diagonal.length;
+        if (subDiagonal.length != n - 1) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.DIMENSIONS_MISMATCH,
+                                                   subDiagonal.length, n - 1);
+        }
+        if (superDiagonal.length != n - 1) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.DIMENSIONS_MISMATCH,
+                                                   superDiagonal.length, n - 1);
+        }
+        final double[][] data = new double[n][3];
+        for (int i = 0; i < n; ++i) {
+            if (i > 0) {
+                data[i][0] = subDiagonal[i - 1];
+            }
+            data[i][1] = diagonal[i];
+            if (i < n - 1) {
+                data[i][2] = superDiagonal[i];
+            }
+        }
+        return data;
+    }
+
+    /** Get the entries below the diagonal.
+     * @return entries below the diagonal, element i being entry (i + 1, i)
+     */
+    public double[] getSubDiagonal() {
+        return extract(0, 1);
+    }
+
+    /** Get the entries on the diagonal.
+     * @return entries on the diagonal
+     */
+    public double[] getDiagonal() {
+        return extract(1, 0);
+    }
+
+    /** Get the entries above the diagonal.
+     * @return entries above the diagonal, element i being entry (i, i + 1)
+     */
+    public double[] getSuperDiagonal() {
+        return extract(2, 0);
+    }
+
+    /** Extract one diagonal from the band.
+     * @param index index of the diagonal within each band row
+     * @param firstRow first row containing the diagonal
+     * @return extracted diagonal
+     */
+    private double[] extract(final int index, final int firstRow) {
+        final double[][] data = getDataRef();
+        final int length = index == 1 ? data.length : data.length - 1;
+        final double[] diagonal = new double[length];
+        for (int i = 0; i < length; ++i) {
+            diagonal[i] = data[i + firstRow][index];
+        }
+        return diagonal;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public TridiagonalRealMatrix copy() {
+        return new TridiagonalRealMatrix(getSubDiagonal(), getDiagonal(), getSuperDiagonal());
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public TridiagonalRealMatrix transpose() {
+        return new TridiagonalRealMatrix(getSuperDiagonal(), getDiagonal(), getSubDiagonal());
+    }
+
+}
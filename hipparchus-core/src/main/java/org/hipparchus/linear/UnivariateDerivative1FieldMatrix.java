@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hipparchus.linear;
+
+import org.hipparchus.analysis.differentiation.UnivariateDerivative1;
+import org.hipparchus.exception.MathIllegalArgumentException;
+
+/**
+ * Dense matrix of {@link UnivariateDerivative1} elements using a structure of arrays layout.
+ * @see AbstractPlanesFieldMatrix
+ * @since 3.1
+ */
+public class UnivariateDerivative1FieldMatrix extends AbstractPlanesFieldMatrix<UnivariateDerivative1> {
+
+    /** Layout of the elements. */
+    private static final FieldPlanes<UnivariateDerivative1> LAYOUT = FieldPlanes.univariateDerivative1();
+
+    /**
+     * Create a matrix with all entries set to zero.
+     * @param rows number of rows
+     * @param columns number of columns
+     * @throws MathIllegalArgumentException if row or column dimension is not positive
+     */
+    public UnivariateDerivative1FieldMatrix(final int rows, final int columns) throws MathIllegalArgumentException {
+        super(LAYOUT, rows, columns);
+    }
+
+    /**
+     * Create a matrix by copying another matrix.
+     * @param matrix matrix to copy
+     */
+    public UnivariateDerivative1FieldMatrix(final FieldMatrix<UnivariateDerivative1> matrix) {
+        super(LAYOUT, matrix);
+    }
+
+    /**
+     * Create a matrix using the input planes as the underlying data.
+     * @param rows number of rows
+     * @param columns number of columns
+     * @param planes planes of the entries, in row major order (not copied)
+     */
+    UnivariateDerivative1FieldMatrix(final int rows, final int columns, final double[][] planes) {
+        super(LAYOUT, rows, columns, planes);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected UnivariateDerivative1FieldMatrix create(final int rowDimension, final int columnDimension, final double[][] p) {
+        return new UnivariateDerivative1FieldMatrix(rowDimension, columnDimension, p);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected UnivariateDerivative1FieldVector createVector(final double[][] p) {
+        return new UnivariateDerivative1FieldVector(p);
+    }
+
+}
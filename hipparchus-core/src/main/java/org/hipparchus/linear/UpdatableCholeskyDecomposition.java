@@ -0,0 +1,431 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hipparchus.linear;
+
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.exception.MathIllegalArgumentException;
+import org.hipparchus.util.FastMath;
+import org.hipparchus.util.MathUtils;
+
+/**
+ * Cholesky decomposition of a symmetric positive-definite matrix that can be
+ * updated in place when the matrix is modified.
+ * <p>
+ * The initial decomposition A = LL<sup>T</sup> is computed as in {@link CholeskyDecomposition},
+ * but then the matrix A can be modified by rank-one updates A + xx<sup>T</sup>, rank-one
+ * downdates A - xx<sup>T</sup>, and insertion or deletion of a row and the symmetric column.
+ * All these modifications are performed in O(n<sup>2</sup>) operations using plane
+ * rotations, instead of the O(n<sup>3</sup>) operations of a new decomposition.
+ * </p>
+ * <p>
+ * The {@link #getSolver() solver} remains in sync with the decomposition, i.e. it always
+ * solves systems for the current matrix, even if it was retrieved before a modification.
+ * </p>
+ * @see CholeskyDecomposition
+ * @since 3.1
+ */
+public class UpdatableCholeskyDecomposition {
+
+    /** Threshold below which diagonal elements are considered null and matrix not positive definite. */
+    private final double absolutePositivityThreshold;
+
+    /** Row-oriented storage for L<sup>T</sup> matrix data. */
+    private double[][] lTData;
+
+    /**
+     * Calculates the Cholesky decomposition of the given matrix, using
+     * {@link CholeskyDecomposition#DEFAULT_RELATIVE_SYMMETRY_THRESHOLD default symmetry threshold}
+     * and {@link CholeskyDecomposition#DEFAULT_ABSOLUTE_POSITIVITY_THRESHOLD default positivity threshold}.
+     * @param matrix the matrix to decompose
+     * @throws MathIllegalArgumentException if the matrix is not square.
+     * @throws MathIllegalArgumentException if the matrix is not symmetric.
+     * @throws MathIllegalArgumentException if the matrix is not
+     * strictly positive definite.
+     */
+    public UpdatableCholeskyDecomposition(final RealMatrix matrix) {
+        this(matrix, CholeskyDecomposition.DEFAULT_RELATIVE_SYMMETRY_THRESHOLD,
+             CholeskyDecomposition.DEFAULT_ABSOLUTE_POSITIVITY_THRESHOLD);
+    }
+
+    /**
+     * Calculates the Cholesky decomposition of the given matrix.
+     * @param matrix the matrix to decompose
+     * @param relativeSymmetryThreshold threshold above which off-diagonal
+     * elements are considered too different and matrix not symmetric
+     * @param absolutePositivityThreshold threshold below which diagonal
+     * elements are considered null and matrix not positive definite
+     * (this threshold is also used when the matrix is modified)
+     * @throws MathIllegalArgumentException if the matrix is not square.
+     * @throws MathIllegalArgumentException if the matrix is not symmetric.
+     * @throws MathIllegalArgumentException if the matrix is not
+     * strictly positive definite.
+     */
+    public UpdatableCholeskyDecomposition(final RealMatrix matrix,
+                                          final double relativeSymmetryThreshold,
+                                          final double absolutePositivityThreshold) {
+        this.absolutePositivityThreshold = absolutePositivityThreshold;
+        this.lTData = new CholeskyDecomposition(matrix, relativeSymmetryThreshold, absolutePositivityThreshold).
+                      getLT().getData();
+    }
+
+    /** Get the dimension of the decomposed matrix.
+     * @return dimension of the decomposed matrix
+     */
+    public int getDimension() {
+        return lTData.length;
+    }
+
+    /**
+     * Returns the matrix L of the decomposition.
+     * <p>L is an lower-triangular matrix</p>
+     * @return the L matrix
+     */
+    public RealMatrix getL() {
+        return getLT().transpose();
+    }
+
+    /**
+     * Returns the transpose of the matrix L of the decomposition.
+     * <p>L<sup>T</sup> is an upper-triangular matrix</p>
+     * @return the transpose of the matrix L of the decomposition
+     */
+    public RealMatrix getLT() {
+        return MatrixUtils.createRealMatrix(lTData);
+    }
+
+    /**
+     * Return the determinant of the matrix
+     * @return determinant of the matrix
+     */
+    public double getDeterminant() {
+        return new CholeskyDecomposition(lTData).getDeterminant();
+    }
+
+    /**
+     * Get a solver for finding the A &times; X = B solution.
+     * <p>
+     * The solver remains in sync with the decomposition, i.e. it uses
+     * the current matrix even after modifications.
+     * </p>
+     * @return a solver
+     */
+    public DecompositionSolver getSolver() {
+        return new Solver();
+    }
+
+    /** Get a snapshot of the current decomposition.
+     * @return a decomposition of the current matrix, that will not be affected
+     * by subsequent modifications
+     */
+    public CholeskyDecomposition getDecomposition() {
+        return new CholeskyDecomposition(copy(lTData));
+    }
+
+    /** Update the decomposition for A + xx<sup>T</sup>.
+     * @param x vector defining the rank-one modification
+     * @exception MathIllegalArgumentException if x dimension is not consistent with matrix
+     */
+    public void update(final RealVector x) throws MathIllegalArgumentException {
+        checkDimension(x, lTData.length);
+        update(lTData, 0, x.toArray());
+    }
+
+    /** Downdate the decomposition for A - xx<sup>T</sup>.
+     * <p>
+     * If the modified matrix is not positive definite, an exception is thrown
+     * and the decomposition is left unchanged.
+     * </p>
+     * @param x vector defining the rank-one modification
+     * @exception MathIllegalArgumentException if x dimension is not consistent with matrix
+     * or if the modified matrix is not positive definite
+     */
+    public void downdate(final RealVector x) throws MathIllegalArgumentException {
+        checkDimension(x, lTData.length);
+        if (!downdate(lTData, 0, x.toArray(), absolutePositivityThreshold)) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.NOT_POSITIVE_DEFINITE_MATRIX);
+        }
+    }
+
+    /** Update the decomposition when inserting a row and the symmetric column in the matrix.
+     * <p>
+     * If the modified matrix is not positive definite, an exception is thrown
+     * and the decomposition is left unchanged.
+     * </p>
+     * @param index index of the inserted row and column in the modified matrix
+     * (between 0 and n, where n is the dimension of the matrix before the insertion)
+     * @param column inserted column (with n+1 elements, including the diagonal element)
+     * @exception MathIllegalArgumentException if index is out of range, if column dimension
+     * is not consistent with matrix, or if the modified matrix is not positive definite
+     */
+    public void insertRowAndColumn(final int index, final RealVector column)
+        throws MathIllegalArgumentException {
+
+        final int n = lTData.length;
+        MathUtils.checkRangeInclusive(index, 0, n);
+        checkDimension(column, n + 1);
+        final double[] c = column.toArray();
+
+        // new column above diagonal: solve L11 r12 = c1
+        final double[] r12 = new double[index];
+        double norm2 = 0;
+        for (int i = 0; i < index; ++i) {
+            double sum = c[i];
+            for (int k = 0; k < i; ++k) {
+                sum -= lTData[k][i] * r12[k];
+            }
+            r12[i] = sum / lTData[i][i];
+            norm2 += r12[i] * r12[i];
+        }
+
+        // new diagonal element
+        final double pivot = c[index] - norm2;
+        if (!(pivot > absolutePositivityThreshold)) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.NOT_POSITIVE_DEFINITE_MATRIX);
+        }
+        final double rho = FastMath.sqrt(pivot);
+
+        // assemble new factor
+        final double[][] modified = new double[n + 1][n + 1];
+        for (int i = 0; i < index; ++i) {
+            System.arraycopy(lTData[i], 0, modified[i], 0, index);
+            modified[i][index] = r12[i];
+            System.arraycopy(lTData[i], index, modified[i], index + 1, n - index);
+        }
+        modified[index][index] = rho;
+        final double[] r23 = new double[n + 1];
+        for (int j = index; j < n; ++j) {
+            double sum = c[j + 1];
+            for (int i = 0; i < index; ++i) {
+                sum -= lTData[i][j] * r12[i];
+            }
+            r23[j + 1] = sum / rho;
+            modified[index][j + 1] = r23[j + 1];
+        }
+        for (int i = index; i < n; ++i) {
+            System.arraycopy(lTData[i], index, modified[i + 1], index + 1, n - index);
+        }
+
+        // remove the contribution of the new row from the trailing block
+        if (!downdate(modified, index + 1, r23, absolutePositivityThreshold)) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.NOT_POSITIVE_DEFINITE_MATRIX);
+        }
+        lTData = modified;
+
+    }
+
+    /** Update the decomposition when deleting a row and the symmetric column from the matrix.
+     * @param index index of the deleted row and column
+     * @exception MathIllegalArgumentException if index is out of range or if
+     * matrix has only one row
+     */
+    public void deleteRowAndColumn(final int index) throws MathIllegalArgumentException {
+
+        final int n = lTData.length;
+        if (n < 2) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.NUMBER_TOO_SMALL, n, 2);
+        }
+        MathUtils.checkRangeInclusive(index, 0, n - 1);
+
+        // assemble factor without the deleted row and column
+        final double[][] modified = new double[n - 1][n - 1];
+        for (int i = 0; i < index; ++i) {
+            System.arraycopy(lTData[i], 0, modified[i], 0, index);
+            System.arraycopy(lTData[i], index + 1, modified[i], index, n - 1 - index);
+        }
+        for (int i = index + 1; i < n; ++i) {
+            System.arraycopy(lTData[i], index + 1, modified[i - 1], index, n - 1 - index);
+        }
+
+        // add the contribution of the deleted row to the trailing block
+        final double[] x = new double[n - 1];
+        System.arraycopy(lTData[index], index + 1, x, index, n - 1 - index);
+        update(modified, index, x);
+        lTData = modified;
+
+    }
+
+    /** Check a vector dimension.
+     * @param v vector to check
+     * @param expected expected dimension
+     * @exception MathIllegalArgumentException if dimension does not match expected one
+     */
+    private static void checkDimension(final RealVector v, final int expected)
+        throws MathIllegalArgumentException {
+        if (v.getDimension() != expected) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.DIMENSIONS_MISMATCH,
+                                                   v.getDimension(), expected);
+        }
+    }
+
+    /** Deep copy of a triangular factor.
+     * @param r factor to copy
+     * @return copy of the factor
+     */
+    private static double[][] copy(final double[][] r) {
+        final double[][] c = new double[r.length][];
+        for (int i = 0; i < r.length; ++i) {
+            c[i] = r[i].clone();
+        }
+        return c;
+    }
+
+    /** Update an upper triangular factor R such that R'<sup>T</sup>R' = R<sup>T</sup>R + xx<sup>T</sup>.
+     * <p>
+     * Only the trailing block starting at row and column {@code from} is updated.
+     * </p>
+     * @param r upper triangular factor to update in place
+     * @param from index of the first row and column of the trailing block
+     * @param x vector defining the rank-one modification (indices before {@code from}
+     * are ignored, the vector is modified by the update)
+     */
+    static void update(final double[][] r, final int from, final double[] x) {
+        final int n = r.length;
+        final double[] c = new double[n];
+        final double[] s = new double[n];
+        for (int j = from; j < n; ++j) {
+
+            // apply previous rotations to column j
+            double xj = x[j];
+            for (int i = from; i < j; ++i) {
+                final double rij = r[i][j];
+                r[i][j] = c[i] * rij + s[i] * xj;
+                xj      = c[i] * xj  - s[i] * rij;
+            }
+
+            // compute rotation eliminating x[j]
+            final double rjj = r[j][j];
+            final double h   = FastMath.hypot(rjj, xj);
+            if (h == 0) {
+                c[j] = 1;
+                s[j] = 0;
+            } else {
+                c[j]    = rjj / h;
+                s[j]    = xj / h;
+                r[j][j] = h;
+            }
+
+        }
+    }
+
+    /** Downdate an upper triangular factor R such that R'<sup>T</sup>R' = R<sup>T</sup>R - xx<sup>T</sup>.
+     * <p>
+     * Only the trailing block starting at row and column {@code from} is downdated.
+     * As in LINPACK {@code dchdd}, feasibility is checked before the factor is modified,
+     * so the factor is left unchanged if the downdate fails. The squared diagonal elements
+     * of the downdated factor are predicted from the ratios of the leading minors
+     * determinants, which are scaled by 1 - p<sub>0..j</sub><sup>T</sup>p<sub>0..j</sub>
+     * where p is the solution of R<sup>T</sup>p = x.
+     * </p>
+     * @param r upper triangular factor to downdate in place
+     * @param from index of the first row and column of the trailing block
+     * @param x vector defining the rank-one modification (indices before {@code from}
+     * are ignored)
+     * @param threshold threshold below which squared diagonal elements are considered null
+     * @return true if the downdate succeeded
+     */
+    static boolean downdate(final double[][] r, final int from, final double[] x, final double threshold) {
+
+        final int n = r.length;
+
+        // solve R^T p = x
+        final double[] p = new double[n];
+        double norm2 = 0;
+        for (int i = from; i < n; ++i) {
+            double sum = x[i];
+            for (int k = from; k < i; ++k) {
+                sum -= r[k][i] * p[k];
+            }
+            p[i] = sum / r[i][i];
+            final double newNorm2 = norm2 + p[i] * p[i];
+            if (!(newNorm2 < 1) || !(r[i][i] * r[i][i] * (1 - newNorm2) > threshold * (1 - norm2))) {
+                // the modified matrix is not positive definite (or R was singular)
+                return false;
+            }
+            norm2 = newNorm2;
+        }
+
+        // compute rotations
+        double alpha = FastMath.sqrt(1 - norm2);
+        final double[] c = new double[n];
+        final double[] s = new double[n];
+        for (int i = n - 1; i >= from; --i) {
+            final double scale = alpha + FastMath.abs(p[i]);
+            final double a     = alpha / scale;
+            final double b     = p[i] / scale;
+            final double norm  = FastMath.sqrt(a * a + b * b);
+            c[i]  = a / norm;
+            s[i]  = b / norm;
+            alpha = scale * norm;
+        }
+
+        // apply rotations
+        for (int j = from; j < n; ++j) {
+            double xx = 0;
+            for (int i = j; i >= from; --i) {
+                final double t = c[i] * xx + s[i] * r[i][j];
+                r[i][j] = c[i] * r[i][j] - s[i] * xx;
+                xx = t;
+            }
+        }
+
+        return true;
+
+    }
+
+    /** Specialized solver. */
+    private class Solver implements DecompositionSolver {
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean isNonSingular() {
+            // the matrix is always positive definite, hence non-singular
+            return true;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public RealVector solve(final RealVector b) {
+            return new CholeskyDecomposition(lTData).getSolver().solve(b);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public RealMatrix solve(final RealMatrix b) {
+            return new CholeskyDecomposition(lTData).getSolver().solve(b);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public RealMatrix getInverse() {
+            return new CholeskyDecomposition(lTData).getSolver().getInverse();
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public int getRowDimension() {
+            return lTData.length;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public int getColumnDimension() {
+            return lTData.length;
+        }
+
+    }
+
+}
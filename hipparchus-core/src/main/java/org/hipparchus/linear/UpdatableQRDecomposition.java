@@ -0,0 +1,466 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hipparchus.linear;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.exception.MathIllegalArgumentException;
+import org.hipparchus.util.FastMath;
+import org.hipparchus.util.MathUtils;
+
+/**
+ * QR decomposition of a matrix that can be updated in place when rows or
+ * columns are inserted or deleted.
+ * <p>
+ * This class is intended for sliding-window least squares problems, where
+ * observations (i.e. rows of the m&times;n matrix A) are added and removed
+ * one at a time. Only the n&times;n upper triangular factor R is maintained,
+ * the orthogonal factor Q is never formed. Inserting a row is performed by
+ * plane rotations in O(n<sup>2</sup>) operations, deleting a row is a Cholesky
+ * downdate of R (as R<sup>T</sup>R = A<sup>T</sup>A) also in O(n<sup>2</sup>)
+ * operations, and inserting or deleting a column costs O(mn + n<sup>2</sup>)
+ * operations, whereas a new decomposition costs O(mn<sup>2</sup>) operations.
+ * If a row deletion cannot be performed accurately (for example because the
+ * remaining rows do not have full rank), R is recomputed from scratch.
+ * </p>
+ * <p>
+ * As Q is not available, the {@link #getSolver() solver} computes least squares
+ * solutions using the corrected semi-normal equations, i.e. solving
+ * R<sup>T</sup>R x = A<sup>T</sup>b followed by one step of iterative refinement,
+ * which is as accurate as using Q for well conditioned problems. For this purpose,
+ * the rows of A are stored. The solver remains in sync with the decomposition, i.e.
+ * it always uses the current matrix, even if it was retrieved before a modification.
+ * </p>
+ * @see QRDecomposition
+ * @see UpdatableCholeskyDecomposition
+ * @since 3.1
+ */
+public class UpdatableQRDecomposition {
+
+    /** Singularity threshold. */
+    private final double threshold;
+
+    /** Rows of the decomposed matrix. */
+    private final List<double[]> rows;
+
+    /** Upper triangular factor R (n&times;n). */
+    private double[][] r;
+
+    /**
+     * Calculates the QR-decomposition of the given matrix.
+     * The singularity threshold defaults to zero.
+     *
+     * @param matrix The matrix to decompose.
+     */
+    public UpdatableQRDecomposition(final RealMatrix matrix) {
+        this(matrix, 0d);
+    }
+
+    /**
+     * Calculates the QR-decomposition of the given matrix.
+     *
+     * @param matrix The matrix to decompose.
+     * @param threshold Singularity threshold.
+     */
+    public UpdatableQRDecomposition(final RealMatrix matrix, final double threshold) {
+        this.threshold = threshold;
+        this.rows      = new ArrayList<>(matrix.getRowDimension());
+        for (int i = 0; i < matrix.getRowDimension(); ++i) {
+            rows.add(matrix.getRow(i));
+        }
+        this.r = factorize(rows, matrix.getColumnDimension());
+    }
+
+    /** Get the number of rows of the decomposed matrix.
+     * @return number of rows of the decomposed matrix
+     */
+    public int getRowDimension() {
+        return rows.size();
+    }
+
+    /** Get the number of columns of the decomposed matrix.
+     * @return number of columns of the decomposed matrix
+     */
+    public int getColumnDimension() {
+        return r.length;
+    }
+
+    /**
+     * Returns the matrix R of the decomposition.
+     * <p>
+     * R is an n&times;n upper-triangular matrix, i.e. only the non-zero rows
+     * of the m&times;n R matrix of {@link QRDecomposition} are returned. The
+     * signs of the rows of R may differ from the ones of {@link QRDecomposition}.
+     * </p>
+     * @return the R matrix
+     */
+    public RealMatrix getR() {
+        return MatrixUtils.createRealMatrix(r);
+    }
+
+    /**
+     * Get a solver for finding the A &times; X = B solution in least square sense.
+     * <p>
+     * The solver remains in sync with the decomposition, i.e. it uses
+     * the current matrix even after modifications. Least square solution
+     * of A &times; X = B is only available if A has full column rank.
+     * </p>
+     * @return a solver
+     */
+    public DecompositionSolver getSolver() {
+        return new Solver();
+    }
+
+    /** Append a row (i.e. an observation) at the end of the matrix.
+     * <p>
+     * This is equivalent to {@code insertRow(getRowDimension(), row)}, and
+     * corresponds to a rank-one update of A<sup>T</sup>A.
+     * </p>
+     * @param row row to append
+     * @exception MathIllegalArgumentException if row dimension is not consistent with matrix
+     */
+    public void update(final RealVector row) throws MathIllegalArgumentException {
+        insertRow(rows.size(), row);
+    }
+
+    /** Insert a row in the matrix.
+     * @param index index of the inserted row in the modified matrix
+     * (between 0 and m, where m is the number of rows before the insertion)
+     * @param row row to insert
+     * @exception MathIllegalArgumentException if index is out of range or if
+     * row dimension is not consistent with matrix
+     */
+    public void insertRow(final int index, final RealVector row) throws MathIllegalArgumentException {
+        MathUtils.checkRangeInclusive(index, 0, rows.size());
+        checkDimension(row, r.length);
+        final double[] x = row.toArray();
+        rows.add(index, x);
+        UpdatableCholeskyDecomposition.update(r, 0, x.clone());
+    }
+
+    /** Delete a row from the matrix.
+     * @param index index of the deleted row
+     * @exception MathIllegalArgumentException if index is out of range
+     */
+    public void deleteRow(final int index) throws MathIllegalArgumentException {
+        MathUtils.checkRangeInclusive(index, 0, rows.size() - 1);
+        final double[] x = rows.remove(index);
+        if (!UpdatableCholeskyDecomposition.downdate(r, 0, x, 0.0)) {
+            // downdating failed, recompute the decomposition
+            r = factorize(rows, r.length);
+        }
+    }
+
+    /** Insert a column in the matrix.
+     * @param index index of the inserted column in the modified matrix
+     * (between 0 and n, where n is the number of columns before the insertion)
+     * @param column column to insert
+     * @exception MathIllegalArgumentException if index is out of range or if
+     * column dimension is not consistent with matrix
+     */
+    public void insertColumn(final int index, final RealVector column) throws MathIllegalArgumentException {
+
+        final int n = r.length;
+        MathUtils.checkRangeInclusive(index, 0, n);
+        checkDimension(column, rows.size());
+        final double[] c = column.toArray();
+
+        // compute the new last column of R, [r; rho], by orthogonalizing c against Q = A R^-1
+        // (using two passes for accuracy)
+        final double[] rc = new double[n];
+        final double[] e  = c.clone();
+        boolean regular = true;
+        for (int pass = 0; pass < 2 && regular; ++pass) {
+            final double[] delta = solveTransposed(multiplyTransposed(e));
+            final double[] w     = solveR(delta);
+            for (int i = 0; i < n; ++i) {
+                rc[i] += delta[i];
+                regular = regular && Double.isFinite(delta[i]) && Double.isFinite(w[i]);
+            }
+            for (int k = 0; k < rows.size(); ++k) {
+                final double[] row = rows.get(k);
+                double dot = 0;
+                for (int i = 0; i < n; ++i) {
+                    dot += row[i] * w[i];
+                }
+                e[k] -= dot;
+            }
+        }
+
+        // insert the column in the stored rows
+        for (int k = 0; k < rows.size(); ++k) {
+            final double[] row      = rows.get(k);
+            final double[] extended = new double[n + 1];
+            System.arraycopy(row, 0, extended, 0, index);
+            extended[index] = c[k];
+            System.arraycopy(row, index, extended, index + 1, n - index);
+            rows.set(k, extended);
+        }
+
+        if (!regular) {
+            // R was singular, recompute the decomposition
+            r = factorize(rows, n + 1);
+            return;
+        }
+
+        // assemble R with the new column at the specified index
+        final double[][] modified = new double[n + 1][n + 1];
+        for (int i = 0; i < n; ++i) {
+            System.arraycopy(r[i], 0, modified[i], 0, index);
+            modified[i][index] = rc[i];
+            System.arraycopy(r[i], index, modified[i], index + 1, n - index);
+        }
+        double norm2 = 0;
+        for (final double ek : e) {
+            norm2 += ek * ek;
+        }
+        modified[n][index] = FastMath.sqrt(norm2);
+
+        // restore upper triangular form, eliminating the new column below diagonal
+        for (int i = n; i > index; --i) {
+            rotate(modified, i - 1, i, index);
+        }
+        r = modified;
+
+    }
+
+    /** Delete a column from the matrix.
+     * @param index index of the deleted column
+     * @exception MathIllegalArgumentException if index is out of range or if
+     * matrix has only one column
+     */
+    public void deleteColumn(final int index) throws MathIllegalArgumentException {
+
+        final int n = r.length;
+        if (n < 2) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.NUMBER_TOO_SMALL, n, 2);
+        }
+        MathUtils.checkRangeInclusive(index, 0, n - 1);
+
+        // remove the column from the stored rows
+        for (int k = 0; k < rows.size(); ++k) {
+            final double[] row     = rows.get(k);
+            final double[] reduced = new double[n - 1];
+            System.arraycopy(row, 0, reduced, 0, index);
+            System.arraycopy(row, index + 1, reduced, index, n - 1 - index);
+            rows.set(k, reduced);
+        }
+
+        // remove the column from R, which becomes upper Hessenberg after the deleted column
+        final double[][] hessenberg = new double[n][n - 1];
+        for (int i = 0; i < n; ++i) {
+            System.arraycopy(r[i], 0, hessenberg[i], 0, index);
+            System.arraycopy(r[i], index + 1, hessenberg[i], index, n - 1 - index);
+        }
+
+        // restore upper triangular form, eliminating the sub-diagonal
+        for (int j = index; j < n - 1; ++j) {
+            rotate(hessenberg, j, j + 1, j);
+        }
+        final double[][] modified = new double[n - 1][];
+        System.arraycopy(hessenberg, 0, modified, 0, n - 1);
+        r = modified;
+
+    }
+
+    /** Compute the R factor of a matrix by inserting its rows one at a time.
+     * @param matrixRows rows of the matrix
+     * @param n number of columns of the matrix
+     * @return n&times;n upper triangular factor
+     */
+    private static double[][] factorize(final List<double[]> matrixRows, final int n) {
+        final double[][] factor = new double[n][n];
+        for (final double[] row : matrixRows) {
+            UpdatableCholeskyDecomposition.update(factor, 0, row.clone());
+        }
+        return factor;
+    }
+
+    /** Apply a plane rotation between two rows, eliminating one element.
+     * @param m matrix to rotate
+     * @param i index of the row that keeps the element
+     * @param k index of the row where the element is eliminated
+     * @param column index of the column containing the element to eliminate
+     * (elements on the left of this column are assumed to be zero in both rows)
+     */
+    private static void rotate(final double[][] m, final int i, final int k, final int column) {
+        final double a = m[i][column];
+        final double b = m[k][column];
+        final double h = FastMath.hypot(a, b);
+        if (h == 0) {
+            return;
+        }
+        final double c = a / h;
+        final double s = b / h;
+        final double[] mi = m[i];
+        final double[] mk = m[k];
+        for (int j = column; j < mi.length; ++j) {
+            final double t = c * mi[j] + s * mk[j];
+            mk[j] = c * mk[j] - s * mi[j];
+            mi[j] = t;
+        }
+        mk[column] = 0;
+    }
+
+    /** Check a vector dimension.
+     * @param v vector to check
+     * @param expected expected dimension
+     * @exception MathIllegalArgumentException if dimension does not match expected one
+     */
+    private static void checkDimension(final RealVector v, final int expected)
+        throws MathIllegalArgumentException {
+        if (v.getDimension() != expected) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.DIMENSIONS_MISMATCH,
+                                                   v.getDimension(), expected);
+        }
+    }
+
+    /** Compute A<sup>T</sup> y.
+     * @param y vector with m elements
+     * @return A<sup>T</sup> y
+     */
+    private double[] multiplyTransposed(final double[] y) {
+        final double[] z = new double[r.length];
+        for (int k = 0; k < y.length; ++k) {
+            final double yk = y[k];
+            if (yk != 0) {
+                final double[] row = rows.get(k);
+                for (int i = 0; i < z.length; ++i) {
+                    z[i] += row[i] * yk;
+                }
+            }
+        }
+        return z;
+    }
+
+    /** Solve R<sup>T</sup> x = y.
+     * @param y right hand side
+     * @return solution (y is overwritten and returned)
+     */
+    private double[] solveTransposed(final double[] y) {
+        for (int i = 0; i < y.length; ++i) {
+            double sum = y[i];
+            for (int k = 0; k < i; ++k) {
+                sum -= r[k][i] * y[k];
+            }
+            y[i] = sum / r[i][i];
+        }
+        return y;
+    }
+
+    /** Solve R x = y.
+     * @param y right hand side
+     * @return solution (a new array)
+     */
+    private double[] solveR(final double[] y) {
+        final double[] x = y.clone();
+        for (int i = x.length - 1; i >= 0; --i) {
+            double sum = x[i];
+            final double[] ri = r[i];
+            for (int k = i + 1; k < x.length; ++k) {
+                sum -= ri[k] * x[k];
+            }
+            x[i] = sum / ri[i];
+        }
+        return x;
+    }
+
+    /** Specialized solver. */
+    private class Solver implements DecompositionSolver {
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean isNonSingular() {
+            for (int i = 0; i < r.length; ++i) {
+                if (FastMath.abs(r[i][i]) <= threshold) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public RealVector solve(final RealVector b) {
+            checkDimension(b, rows.size());
+            if (!isNonSingular()) {
+                throw new MathIllegalArgumentException(LocalizedCoreFormats.SINGULAR_MATRIX);
+            }
+
+            final double[] y = b.toArray();
+
+            // semi-normal equations: R^T R x = A^T b
+            final double[] x = solveR(solveTransposed(multiplyTransposed(y)));
+
+            // one step of iterative refinement
+            for (int k = 0; k < y.length; ++k) {
+                final double[] row = rows.get(k);
+                double dot = 0;
+                for (int i = 0; i < x.length; ++i) {
+                    dot += row[i] * x[i];
+                }
+                y[k] -= dot;
+            }
+            final double[] dx = solveR(solveTransposed(multiplyTransposed(y)));
+            for (int i = 0; i < x.length; ++i) {
+                x[i] += dx[i];
+            }
+
+            return new ArrayRealVector(x, false);
+
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public RealMatrix solve(final RealMatrix b) {
+            if (b.getRowDimension() != rows.size()) {
+                throw new MathIllegalArgumentException(LocalizedCoreFormats.DIMENSIONS_MISMATCH,
+                                                       b.getRowDimension(), rows.size());
+            }
+            final RealMatrix x = MatrixUtils.createRealMatrix(r.length, b.getColumnDimension());
+            for (int j = 0; j < b.getColumnDimension(); ++j) {
+                x.setColumnVector(j, solve(b.getColumnVector(j)));
+            }
+            return x;
+        }
+
+        /**
+         * {@inheritDoc}
+         * @throws MathIllegalArgumentException if the decomposed matrix is singular.
+         */
+        @Override
+        public RealMatrix getInverse() {
+            return solve(MatrixUtils.createRealIdentityMatrix(rows.size()));
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public int getRowDimension() {
+            return rows.size();
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public int getColumnDimension() {
+            return r.length;
+        }
+
+    }
+
+}
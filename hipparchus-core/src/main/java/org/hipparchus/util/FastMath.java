@@ -23,6 +23,7 @@ package org.hipparchus.util;
 
 import org.hipparchus.CalculusFieldElement;
 import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.exception.MathIllegalArgumentException;
 import org.hipparchus.exception.MathRuntimeException;
 
 /**
@@ -1078,6 +1079,28 @@ public class FastMath {
         return exp(x, 0.0, null);
     }
 
+    /**
+     * Exponential of a range of array elements.
+     * <p>
+     * Each element is computed exactly as {@link #exp(double)} would do,
+     * the array version only saves the per-call overhead in bulk evaluations.
+     * The output array may be the same as the input array.
+     * </p>
+     * @param in input array
+     * @param out output array, where {@code out[i]} is set for {@code from <= i < to}
+     * @param from index of the first element to compute (included)
+     * @param to index of the last element to compute (excluded)
+     * @exception MathIllegalArgumentException if the range does not fit in the arrays
+     * @since 3.1
+     */
+    public static void exp(final double[] in, final double[] out, final int from, final int to)
+        throws MathIllegalArgumentException {
+        checkRange(in, out, from, to);
+        for (int i = from; i < to; ++i) {
+            out[i] = exp(in[i]);
+        }
+    }
+
     /**
      * Internal helper method for exponential function.
      * @param x original argument of the exponential function
@@ -1374,6 +1397,28 @@ public class FastMath {
         return log(x, null);
     }
 
+    /**
+     * Natural logarithm of a range of array elements.
+     * <p>
+     * Each element is computed exactly as {@link #log(double)} would do,
+     * the array version only saves the per-call overhead in bulk evaluations.
+     * The output array may be the same as the input array.
+     * </p>
+     * @param in input array
+     * @param out output array, where {@code out[i]} is set for {@code from <= i < to}
+     * @param from index of the first element to compute (included)
+     * @param to index of the last element to compute (excluded)
+     * @exception MathIllegalArgumentException if the range does not fit in the arrays
+     * @since 3.1
+     */
+    public static void log(final double[] in, final double[] out, final int from, final int to)
+        throws MathIllegalArgumentException {
+        checkRange(in, out, from, to);
+        for (int i = from; i < to; ++i) {
+            out[i] = log(in[i]);
+        }
+    }
+
     /**
      * Internal helper method for natural logarithm function.
      * @param x original argument of the natural logarithm function
@@ -1821,6 +1866,66 @@ public class FastMath {
 
     }
 
+    /**
+     * Power function applied to a range of array elements, with a common exponent.
+     * <p>
+     * Each element is computed exactly as {@link #pow(double, double)} would do,
+     * but the analysis of the exponent is performed only once, so integral exponents
+     * directly use {@link #pow(double, long)} for all elements.
+     * The output array may be the same as the input array.
+     * </p>
+     * @param x input array
+     * @param y exponent
+     * @param out output array, where {@code out[i]} is set for {@code from <= i < to}
+     * @param from index of the first element to compute (included)
+     * @param to index of the last element to compute (excluded)
+     * @exception MathIllegalArgumentException if the range does not fit in the arrays
+     * @since 3.1
+     */
+    public static void pow(final double[] x, final double y, final double[] out, final int from, final int to)
+        throws MathIllegalArgumentException {
+
+        checkRange(x, out, from, to);
+
+        if (y == 0) {
+            // y = -0 or y = +0
+            for (int i = from; i < to; ++i) {
+                out[i] = 1.0;
+            }
+            return;
+        }
+
+        final long yBits        = Double.doubleToRawLongBits(y);
+        final int  yRawExp      = (int) ((yBits & MASK_DOUBLE_EXPONENT) >> 52);
+        final long yRawMantissa = yBits & MASK_DOUBLE_MANTISSA;
+        if (yRawExp >= 1023 && yRawExp <= 1085) {
+            // y may be an integral value, which should be handled specifically
+            final long yFullMantissa = IMPLICIT_HIGH_BIT | yRawMantissa;
+            final long l;
+            if (yRawExp < 1075) {
+                // normal number with negative shift that may have a fractional part
+                final long integralMask = (-1L) << (1075 - yRawExp);
+                l = ((yFullMantissa & integralMask) == yFullMantissa) ? yFullMantissa >> (1075 - yRawExp) : 0;
+            } else {
+                // normal number with positive shift, always an integral value
+                l = yFullMantissa << (yRawExp - 1075);
+            }
+            if (l != 0) {
+                final long e = (y < 0) ? -l : l;
+                for (int i = from; i < to; ++i) {
+                    out[i] = pow(x[i], e);
+                }
+                return;
+            }
+        }
+
+        // general case
+        for (int i = from; i < to; ++i) {
+            out[i] = pow(x[i], y);
+        }
+
+    }
+
     /**
      * Raise a double to an int power.
      *
@@ -2591,6 +2696,28 @@ public class FastMath {
         }
     }
 
+    /**
+     * Sine of a range of array elements.
+     * <p>
+     * Each element is computed exactly as {@link #sin(double)} would do,
+     * the array version only saves the per-call overhead in bulk evaluations.
+     * The output array may be the same as the input array.
+     * </p>
+     * @param in input array
+     * @param out output array, where {@code out[i]} is set for {@code from <= i < to}
+     * @param from index of the first element to compute (included)
+     * @param to index of the last element to compute (excluded)
+     * @exception MathIllegalArgumentException if the range does not fit in the arrays
+     * @since 3.1
+     */
+    public static void sin(final double[] in, final double[] out, final int from, final int to)
+        throws MathIllegalArgumentException {
+        checkRange(in, out, from, to);
+        for (int i = from; i < to; ++i) {
+            out[i] = sin(in[i]);
+        }
+    }
+
     /**
      * Cosine function.
      *
@@ -2645,6 +2772,28 @@ public class FastMath {
         }
     }
 
+    /**
+     * Cosine of a range of array elements.
+     * <p>
+     * Each element is computed exactly as {@link #cos(double)} would do,
+     * the array version only saves the per-call overhead in bulk evaluations.
+     * The output array may be the same as the input array.
+     * </p>
+     * @param in input array
+     * @param out output array, where {@code out[i]} is set for {@code from <= i < to}
+     * @param from index of the first element to compute (included)
+     * @param to index of the last element to compute (excluded)
+     * @exception MathIllegalArgumentException if the range does not fit in the arrays
+     * @since 3.1
+     */
+    public static void cos(final double[] in, final double[] out, final int from, final int to)
+        throws MathIllegalArgumentException {
+        checkRange(in, out, from, to);
+        for (int i = from; i < to; ++i) {
+            out[i] = cos(in[i]);
+        }
+    }
+
     /**
      * Combined Sine and Cosine function.
      *
@@ -2708,6 +2857,99 @@ public class FastMath {
         }
     }
 
+    /**
+     * Combined Sine and Cosine function applied to a range of array elements.
+     * <p>
+     * Each pair is computed exactly as {@link #sinCos(double)} would do, sharing
+     * the argument reduction between sine and cosine, but without allocating
+     * any intermediate object. The output arrays may be the same as the input array,
+     * but must be different from each other.
+     * </p>
+     * @param in input array
+     * @param sin output array for sines, where {@code sin[i]} is set for {@code from <= i < to}
+     * @param cos output array for cosines, where {@code cos[i]} is set for {@code from <= i < to}
+     * @param from index of the first element to compute (included)
+     * @param to index of the last element to compute (excluded)
+     * @exception MathIllegalArgumentException if the range does not fit in the arrays
+     * @since 3.1
+     */
+    public static void sinCos(final double[] in, final double[] sin, final double[] cos,
+                              final int from, final int to)
+        throws MathIllegalArgumentException {
+
+        checkRange(in, sin, from, to);
+        checkRange(in, cos, from, to);
+
+        final double[] reduceResults = new double[3];
+        for (int i = from; i < to; ++i) {
+
+            final double x = in[i];
+            boolean negative = false;
+            int quadrant = 0;
+            double xa;
+            double xb = 0.0;
+
+            /* Take absolute value of the input */
+            xa = x;
+            if (x < 0) {
+                negative = true;
+                xa = -xa;
+            }
+
+            /* Check for zero and negative zero */
+            if (xa == 0.0) {
+                sin[i] = x;
+                cos[i] = 1.0;
+                continue;
+            }
+
+            if (xa != xa || xa == Double.POSITIVE_INFINITY) {
+                sin[i] = Double.NaN;
+                cos[i] = Double.NaN;
+                continue;
+            }
+
+            /* Perform any argument reduction */
+            if (xa > 3294198.0) {
+                // PI * (2**20)
+                // Argument too big for CodyWaite reduction.  Must use
+                // PayneHanek.
+                reducePayneHanek(xa, reduceResults);
+                quadrant = ((int) reduceResults[0]) & 3;
+                xa = reduceResults[1];
+                xb = reduceResults[2];
+            } else if (xa > 1.5707963267948966) {
+                final CodyWaite cw = new CodyWaite(xa);
+                quadrant = cw.getK() & 3;
+                xa = cw.getRemA();
+                xb = cw.getRemB();
+            }
+
+            final double s = sinQ(xa, xb);
+            final double c = cosQ(xa, xb);
+            switch (quadrant) {
+                case 0:
+                    sin[i] = negative ? -s :  s;
+                    cos[i] = c;
+                    break;
+                case 1:
+                    sin[i] = negative ? -c :  c;
+                    cos[i] = -s;
+                    break;
+                case 2:
+                    sin[i] = negative ?  s : -s;
+                    cos[i] = -c;
+                    break;
+                default:
+                    sin[i] = negative ?  c : -c;
+                    cos[i] = s;
+                    break;
+            }
+
+        }
+
+    }
+
     /**
      * Combined Sine and Cosine function.
      *
@@ -3058,6 +3300,31 @@ public class FastMath {
 
     }
 
+    /**
+     * Two arguments arctangent function applied to a range of array elements.
+     * <p>
+     * Each element is computed exactly as {@link #atan2(double, double)} would do,
+     * the array version only saves the per-call overhead in bulk evaluations.
+     * The output array may be the same as one of the input arrays.
+     * </p>
+     * @param y ordinates array
+     * @param x abscissas array
+     * @param out output array, where {@code out[i]} is set for {@code from <= i < to}
+     * @param from index of the first element to compute (included)
+     * @param to index of the last element to compute (excluded)
+     * @exception MathIllegalArgumentException if the range does not fit in the arrays
+     * @since 3.1
+     */
+    public static void atan2(final double[] y, final double[] x, final double[] out,
+                             final int from, final int to)
+        throws MathIllegalArgumentException {
+        checkRange(y, out, from, to);
+        checkRange(x, out, from, to);
+        for (int i = from; i < to; ++i) {
+            out[i] = atan2(y[i], x[i]);
+        }
+    }
+
     /** Compute the arc sine of a number.
      * @param x number on which evaluation is done
      * @return arc sine of x
@@ -5490,6 +5757,19 @@ public class FastMath {
 //        FastMathCalc.printarray(System.out, "TANGENT_TABLE_B", SINE_TABLE_LEN, TANGENT_TABLE_B);
 //    }
 
+    /** Check a range of elements fits in both an input and an output array.
+     * @param in input array
+     * @param out output array
+     * @param from index of the first element (included)
+     * @param to index of the last element (excluded)
+     * @exception MathIllegalArgumentException if the range does not fit in the arrays
+     */
+    private static void checkRange(final double[] in, final double[] out, final int from, final int to)
+        throws MathIllegalArgumentException {
+        MathArrays.verifyValues(in,  from, to - from, true);
+        MathArrays.verifyValues(out, from, to - from, true);
+    }
+
     /** Enclose large data table in nested static class so it's only loaded on first access. */
     private static class ExpIntTable {
         /** Exponential evaluated at integer values,
@@ -0,0 +1,260 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hipparchus.linear;
+
+import java.util.Arrays;
+
+import org.hipparchus.complex.Complex;
+import org.hipparchus.exception.MathIllegalStateException;
+import org.hipparchus.random.RandomGenerator;
+import org.hipparchus.random.Well1024a;
+import org.hipparchus.util.FastMath;
+import org.hipparchus.util.IterationEvent;
+import org.hipparchus.util.IterationListener;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ArnoldiEigenSolverTest {
+
+    @Test
+    public void testDominantComplexEigenvalues() {
+        // eigenvalues: 10, 9 ± 3i, -8, 6 ± 6i, and a bulk with modulus lower than 1
+        final RealMatrix a = createMatrix(new Well1024a(0x6b2e07c4d9f135a8l), 200,
+                                          new double[][] {
+                                              { 10, 0 }, { 9, 3 }, { -8, 0 }, { 6, 6 }
+                                          });
+        final ArnoldiEigenSolver.Solution solution =
+                        new ArnoldiEigenSolver(1000, 1.0e-12).solve(new MatrixOperator(a), 6,
+                                                                    IterativeEigenSolver.Selection.LARGEST_MAGNITUDE);
+        Assert.assertEquals(6, solution.getNumberOfEigenpairs());
+        final Complex[] expected = new Complex[] {
+            new Complex(10, 0), new Complex(9, 3), new Complex(9, -3),
+            new Complex(6, 6), new Complex(6, -6), new Complex(-8, 0)
+        };
+        for (int i = 0; i < expected.length; ++i) {
+            Assert.assertEquals(expected[i].getReal(),      solution.getEigenvalue(i).getReal(),      1.0e-10);
+            Assert.assertEquals(expected[i].getImaginary(), solution.getEigenvalue(i).getImaginary(), 1.0e-10);
+            checkEigenpair(a, solution.getEigenvalue(i), solution.getEigenvector(i), 1.0e-9);
+        }
+    }
+
+    @Test
+    public void testAgainstDense() {
+        final int n = 150;
+        final RandomGenerator random = new Well1024a(0x1fd834a69c2e5b07l);
+        final RealMatrix a = MatrixUtils.createRealMatrix(n, n);
+        for (int i = 0; i < n; ++i) {
+            for (int j = 0; j < n; ++j) {
+                a.setEntry(i, j, random.nextDouble());
+            }
+        }
+        final Complex[] reference = new EigenDecompositionNonSymmetric(a).getEigenvalues();
+        final ArnoldiEigenSolver.Solution solution =
+                        new ArnoldiEigenSolver(1000, 1.0e-12).solve(new MatrixOperator(a), 4,
+                                                                    IterativeEigenSolver.Selection.LARGEST_REAL);
+        final Complex[] sorted = reference.clone();
+        Arrays.sort(sorted, (x, y) -> Double.compare(y.getReal(), x.getReal()));
+        // the Perron root is isolated
+        Assert.assertEquals(sorted[0].getReal(), solution.getEigenvalue(0).getReal(), 1.0e-10);
+        Assert.assertEquals(0.0, solution.getEigenvalue(0).getImaginary(), 1.0e-10);
+        for (int i = 0; i < 4; ++i) {
+            Assert.assertEquals(sorted[i].getReal(), solution.getEigenvalue(i).getReal(), 1.0e-9);
+            Assert.assertEquals(sorted[i].norm(),    solution.getEigenvalue(i).norm(),    1.0e-9);
+            checkEigenpair(a, solution.getEigenvalue(i), solution.getEigenvector(i), 1.0e-8);
+        }
+    }
+
+    @Test
+    public void testConvectionDiffusion() {
+        // non-symmetric tridiagonal operator, with real eigenvalues 2 - 2 sqrt(1 - c^2) cos(k pi / (n + 1))
+        // (keeping convection small, as eigenvectors are very ill-conditioned otherwise)
+        final int    n = 100;
+        final double c = 0.02;
+        final RealLinearOperator op = new RealLinearOperator() {
+            @Override
+            public int getRowDimension() {
+                return n;
+            }
+            @Override
+            public int getColumnDimension() {
+                return n;
+            }
+            @Override
+            public RealVector operate(final RealVector x) {
+                final RealVector y = new ArrayRealVector(n);
+                for (int i = 0; i < n; ++i) {
+                    double yi = 2 * x.getEntry(i);
+                    if (i > 0) {
+                        yi -= (1 + c) * x.getEntry(i - 1);
+                    }
+                    if (i < n - 1) {
+                        yi -= (1 - c) * x.getEntry(i + 1);
+                    }
+                    y.setEntry(i, yi);
+                }
+                return y;
+            }
+        };
+        final ArnoldiEigenSolver.Solution solution =
+                        new ArnoldiEigenSolver(2000, 1.0e-10).solve(op, new ArrayRealVector(n, 1.0), 3, 40,
+                                                                    IterativeEigenSolver.Selection.LARGEST_REAL);
+        for (int i = 0; i < 3; ++i) {
+            final double expected = 2 - 2 * FastMath.sqrt(1 - c * c) * FastMath.cos((n - i) * FastMath.PI / (n + 1));
+            Assert.assertEquals(expected, solution.getEigenvalue(i).getReal(), 1.0e-8);
+            Assert.assertEquals(0.0, solution.getEigenvalue(i).getImaginary(), 1.0e-8);
+        }
+    }
+
+    @Test
+    public void testSplitConjugatePair() {
+        final RealMatrix a = createMatrix(new Well1024a(0x83e5a1c0f27d4b96l), 60,
+                                          new double[][] {
+                                              { 5, 4 }, { 3, 0 }
+                                          });
+        final ArnoldiEigenSolver.Solution solution =
+                        new ArnoldiEigenSolver(100, 1.0e-12).solve(new MatrixOperator(a), 1,
+                                                                   IterativeEigenSolver.Selection.LARGEST_MAGNITUDE);
+        Assert.assertEquals(1, solution.getNumberOfEigenpairs());
+        Assert.assertEquals(5.0, solution.getEigenvalues()[0].getReal(),      1.0e-12);
+        Assert.assertEquals(4.0, solution.getEigenvalues()[0].getImaginary(), 1.0e-12);
+        checkEigenpair(a, solution.getEigenvalue(0), solution.getEigenvector(0), 1.0e-10);
+    }
+
+    @Test
+    public void testEvents() {
+        final RealMatrix a = createMatrix(new Well1024a(0x2a9d6e1f83c07b54l), 100,
+                                          new double[][] {
+                                              { 3, 0 }, { 2.9, 0 }, { 2.8, 0.5 }
+                                          });
+        final ArnoldiEigenSolver solver = new ArnoldiEigenSolver(1000, 1.0e-12);
+        final int[] counts = new int[4];
+        solver.getIterationManager().addIterationListener(new IterationListener() {
+            public void initializationPerformed(final IterationEvent e) {
+                ++counts[0];
+            }
+            public void iterationStarted(final IterationEvent e) {
+                ++counts[1];
+            }
+            public void iterationPerformed(final IterationEvent e) {
+                ++counts[2];
+                Assert.assertEquals(2, ((IterativeEigenSolverEvent) e).getResidualNorms().length);
+            }
+            public void terminationPerformed(final IterationEvent e) {
+                ++counts[3];
+                Assert.assertEquals(2, ((IterativeEigenSolverEvent) e).getConverged());
+            }
+        });
+        solver.solve(new MatrixOperator(a), new ArrayRealVector(100, 1.0), 2, 6,
+                     IterativeEigenSolver.Selection.LARGEST_REAL);
+        Assert.assertEquals(1, counts[0]);
+        Assert.assertTrue(counts[1] > 1);
+        Assert.assertEquals(counts[1], counts[2]);
+        Assert.assertEquals(solver.getIterationManager().getIterations(), counts[2]);
+        Assert.assertEquals(1, counts[3]);
+    }
+
+    @Test(expected = MathIllegalStateException.class)
+    public void testMaxIterations() {
+        final RealMatrix a = createMatrix(new Well1024a(0x5c7b1e93a0d426f8l), 100,
+                                          new double[][] {
+                                              { 1.0, 0 }, { 0.999, 0 }
+                                          });
+        new ArnoldiEigenSolver(1, 1.0e-12).solve(new MatrixOperator(a), 2,
+                                                 IterativeEigenSolver.Selection.LARGEST_MAGNITUDE);
+    }
+
+    private static void checkEigenpair(final RealMatrix a, final Complex lambda,
+                                       final FieldVector<Complex> x, final double tolerance) {
+        final int n = x.getDimension();
+        final RealVector xRe = new ArrayRealVector(n);
+        final RealVector xIm = new ArrayRealVector(n);
+        for (int i = 0; i < n; ++i) {
+            xRe.setEntry(i, x.getEntry(i).getReal());
+            xIm.setEntry(i, x.getEntry(i).getImaginary());
+        }
+        Assert.assertEquals(1.0, FastMath.hypot(xRe.getNorm(), xIm.getNorm()), 1.0e-12);
+        final RealVector rRe = a.operate(xRe).subtract(xRe.mapMultiply(lambda.getReal())).add(xIm.mapMultiply(lambda.getImaginary()));
+        final RealVector rIm = a.operate(xIm).subtract(xIm.mapMultiply(lambda.getReal())).subtract(xRe.mapMultiply(lambda.getImaginary()));
+        Assert.assertEquals(0.0, FastMath.hypot(rRe.getNorm(), rIm.getNorm()), tolerance);
+    }
+
+    /** Create a matrix Q B Q<sup>T</sup> with random orthogonal Q and block diagonal B.
+     * @param random random generator
+     * @param n dimension
+     * @param dominant dominant eigenvalues (real and imaginary parts, only one element
+     * of each conjugate pair)
+     * @return matrix
+     */
+    private static RealMatrix createMatrix(final RandomGenerator random, final int n, final double[][] dominant) {
+        final RealMatrix b = MatrixUtils.createRealMatrix(n, n);
+        int k = 0;
+        for (final double[] lambda : dominant) {
+            if (lambda[1] == 0) {
+                b.setEntry(k, k, lambda[0]);
+                ++k;
+            } else {
+                b.setEntry(k,     k,     lambda[0]);
+                b.setEntry(k,     k + 1, lambda[1]);
+                b.setEntry(k + 1, k,     -lambda[1]);
+                b.setEntry(k + 1, k + 1, lambda[0]);
+                k += 2;
+            }
+        }
+        for (; k < n; ++k) {
+            b.setEntry(k, k, 1.6 * random.nextDouble() - 0.8);
+            for (int j = k + 1; j < n; ++j) {
+                // strictly upper triangular part does not change the eigenvalues
+                b.setEntry(k, j, 0.1 * (random.nextDouble() - 0.5));
+            }
+        }
+        final RealMatrix m = MatrixUtils.createRealMatrix(n, n);
+        for (int i = 0; i < n; ++i) {
+            for (int j = 0; j < n; ++j) {
+                m.setEntry(i, j, random.nextDouble() - 0.5);
+            }
+        }
+        final RealMatrix q = new QRDecomposition(m).getQ();
+        return q.multiply(b).multiplyTransposed(q);
+    }
+
+    /** Operator wrapping a dense matrix. */
+    private static class MatrixOperator implements RealLinearOperator {
+
+        private final RealMatrix m;
+
+        MatrixOperator(final RealMatrix m) {
+            this.m = m;
+        }
+
+        @Override
+        public int getRowDimension() {
+            return m.getRowDimension();
+        }
+
+        @Override
+        public int getColumnDimension() {
+            return m.getColumnDimension();
+        }
+
+        @Override
+        public RealVector operate(final RealVector x) {
+            return m.operate(x);
+        }
+
+    }
+
+}
@@ -1334,5 +1334,85 @@ public final class Array2DRowRealMatrixTest {
 
         A_.unstackSquare();
     }
-}
 
+    @Test
+    public void testIntoOperations() {
+        final RandomGenerator random = new Well1024a(0x7d3e91a05b2cf846l);
+        final RealMatrix a = randomMatrix(new Array2DRowRealMatrix(60, 7), random);
+        final RealMatrix b = randomMatrix(new Array2DRowRealMatrix(60, 7), random);
+        final RealMatrix c = randomMatrix(new Array2DRowRealMatrix(7, 7), random);
+        final double[]   v = new double[7];
+        final double[]   u = new double[60];
+        for (int i = 0; i < v.length; ++i) {
+            v[i] = 2 * random.nextDouble() - 1;
+        }
+        for (int i = 0; i < u.length; ++i) {
+            u[i] = 2 * random.nextDouble() - 1;
+        }
+
+        // destination of the same type as the operands
+        final RealMatrix out = a.createMatrix(60, 7);
+        a.add(b, out);
+        Assert.assertEquals(0.0, out.subtract(a.add(b)).getNorm1(), 1.0e-15);
+        a.subtract(b, out);
+        Assert.assertEquals(0.0, out.subtract(a.subtract(b)).getNorm1(), 1.0e-15);
+        a.scalarMultiply(-2.5, out);
+        Assert.assertEquals(0.0, out.subtract(a.scalarMultiply(-2.5)).getNorm1(), 1.0e-15);
+        a.multiply(c, out);
+        Assert.assertEquals(0.0, out.subtract(a.multiply(c)).getNorm1(), 1.0e-12);
+        final RealMatrix denseOut = new BlockRealMatrix(60, 7);
+        a.multiply(c, denseOut);
+        Assert.assertEquals(0.0, denseOut.subtract(a.multiply(c)).getNorm1(), 1.0e-12);
+        final RealMatrix outT = a.createMatrix(7, 60);
+        a.transpose(outT);
+        Assert.assertEquals(0.0, outT.subtract(a.transpose()).getNorm1(), 0.0);
+        final double[] outV = new double[60];
+        a.operate(v, outV);
+        Assert.assertArrayEquals(a.operate(v), outV, 1.0e-14);
+        final double[] outU = new double[7];
+        a.preMultiply(u, outU);
+        Assert.assertArrayEquals(a.preMultiply(u), outU, 1.0e-13);
+        final RealVector outRV = new ArrayRealVector(60);
+        a.operate(new ArrayRealVector(v), outRV);
+        Assert.assertArrayEquals(a.operate(v), outRV.toArray(), 1.0e-14);
+
+        // element-wise operations allow the destination to be an operand
+        final RealMatrix sum = a.add(b);
+        a.add(b, b);
+        Assert.assertEquals(0.0, b.subtract(sum).getNorm1(), 0.0);
+
+        // destination of a different type
+        final RealMatrix alien = new OpenMapRealMatrix(60, 7);
+        a.multiply(c, alien);
+        Assert.assertEquals(0.0, alien.subtract(a.multiply(c)).getNorm1(), 1.0e-12);
+        a.add(sum, alien);
+        Assert.assertEquals(0.0, alien.subtract(a.add(sum)).getNorm1(), 1.0e-15);
+        final RealVector alienV = new OpenMapRealVector(60);
+        a.operate(new OpenMapRealVector(v), alienV);
+        Assert.assertArrayEquals(a.operate(v), alienV.toArray(), 1.0e-14);
+
+        try {
+            a.multiply(c, a.createMatrix(60, 8));
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            Assert.assertEquals(LocalizedCoreFormats.DIMENSIONS_MISMATCH_2x2, miae.getSpecifier());
+        }
+        try {
+            a.operate(v, new double[59]);
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            Assert.assertEquals(LocalizedCoreFormats.DIMENSIONS_MISMATCH, miae.getSpecifier());
+        }
+    }
+
+    private static RealMatrix randomMatrix(final RealMatrix m, final RandomGenerator random) {
+        m.walkInOptimizedOrder(new DefaultRealMatrixChangingVisitor() {
+            @Override
+            public double visit(int row, int column, double value) {
+                return 2 * random.nextDouble() - 1;
+            }
+        });
+        return m;
+    }
+
+}
@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hipparchus.linear;
+
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.exception.MathIllegalArgumentException;
+import org.hipparchus.random.RandomGenerator;
+import org.hipparchus.random.Well1024a;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class BandedCholeskyDecompositionTest {
+
+    @Test
+    public void testSolveAgainstDense() {
+        final RandomGenerator random = new Well1024a(0x7a16e3c9d2054fb8l);
+        for (int b = 0; b < 5; ++b) {
+            final BandedRealMatrix m = createSPD(random, 30, b);
+            final RealMatrix dense = new Array2DRowRealMatrix(m.getData());
+            final BandedCholeskyDecomposition cholesky = new BandedCholeskyDecomposition(m);
+            final CholeskyDecomposition reference = new CholeskyDecomposition(dense);
+            Assert.assertEquals(0.0, cholesky.getL().subtract(reference.getL()).getNorm1(), 1.0e-12);
+            Assert.assertEquals(0.0, cholesky.getLT().subtract(reference.getLT()).getNorm1(), 1.0e-12);
+            Assert.assertEquals(reference.getDeterminant(), cholesky.getDeterminant(),
+                                1.0e-12 * reference.getDeterminant());
+            final RealMatrix rhs = new Array2DRowRealMatrix(30, 2);
+            for (int i = 0; i < 30; ++i) {
+                rhs.setEntry(i, 0, random.nextDouble());
+                rhs.setEntry(i, 1, random.nextDouble());
+            }
+            final RealMatrix x = cholesky.getSolver().solve(rhs);
+            Assert.assertEquals(0.0, dense.multiply(x).subtract(rhs).getNorm1(), 1.0e-12);
+            final RealVector x1 = cholesky.getSolver().solve(rhs.getColumnVector(1));
+            Assert.assertEquals(0.0, x1.subtract(x.getColumnVector(1)).getNorm(), 1.0e-13);
+        }
+    }
+
+    @Test
+    public void testNotSymmetric() {
+        final BandedRealMatrix m = createSPD(new Well1024a(0x58c2ad19f7e3640bl), 6, 2);
+        m.addToEntry(3, 1, 1.0e-3);
+        try {
+            new BandedCholeskyDecomposition(m);
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            Assert.assertEquals(LocalizedCoreFormats.NON_SYMMETRIC_MATRIX, miae.getSpecifier());
+        }
+    }
+
+    @Test
+    public void testNotPositiveDefinite() {
+        final TridiagonalRealMatrix m = new TridiagonalRealMatrix(new double[] { 2, 2 },
+                                                                  new double[] { 1, 1, 1 },
+                                                                  new double[] { 2, 2 });
+        try {
+            new BandedCholeskyDecomposition(m);
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            Assert.assertEquals(LocalizedCoreFormats.NOT_POSITIVE_DEFINITE_MATRIX, miae.getSpecifier());
+        }
+    }
+
+    /** Create a symmetric, diagonally dominant, band matrix.
+     * @param random random generator
+     * @param n dimension
+     * @param b bandwidth
+     * @return symmetric positive definite band matrix
+     */
+    private BandedRealMatrix createSPD(final RandomGenerator random, final int n, final int b) {
+        final BandedRealMatrix m = new BandedRealMatrix(n, b, b);
+        for (int i = 0; i < n; ++i) {
+            m.setEntry(i, i, 2 * b + 1 + random.nextDouble());
+            for (int j = Math.max(0, i - b); j < i; ++j) {
+                final double v = 2 * random.nextDouble() - 1;
+                m.setEntry(i, j, v);
+                m.setEntry(j, i, v);
+            }
+        }
+        return m;
+    }
+
+}
@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hipparchus.linear;
+
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.exception.MathIllegalArgumentException;
+import org.hipparchus.random.RandomGenerator;
+import org.hipparchus.random.Well1024a;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class BandedLUDecompositionTest {
+
+    @Test
+    public void testSolveAgainstDense() {
+        final RandomGenerator random = new Well1024a(0x4fb08c3e5d6a9127l);
+        for (int kl = 0; kl < 4; ++kl) {
+            for (int ku = 0; ku < 4; ++ku) {
+                // random signs make pivoting necessary
+                final BandedRealMatrix m = BandedRealMatrixTest.createRandom(random, 40, kl, ku);
+                for (int i = 0; i < 40; ++i) {
+                    for (int j = Math.max(0, i - kl); j <= Math.min(39, i + ku); ++j) {
+                        if (random.nextBoolean()) {
+                            m.multiplyEntry(i, j, -1);
+                        }
+                    }
+                }
+                final RealMatrix dense = new Array2DRowRealMatrix(m.getData());
+                final BandedLUDecomposition lu = new BandedLUDecomposition(m);
+                final RealMatrix b = new Array2DRowRealMatrix(40, 3);
+                for (int i = 0; i < 40; ++i) {
+                    for (int j = 0; j < 3; ++j) {
+                        b.setEntry(i, j, random.nextDouble());
+                    }
+                }
+                final DecompositionSolver solver = lu.getSolver();
+                Assert.assertTrue(solver.isNonSingular());
+                final RealMatrix x = solver.solve(b);
+                Assert.assertEquals(0.0, dense.multiply(x).subtract(b).getNorm1(), 1.0e-10);
+                final RealVector x0 = solver.solve(b.getColumnVector(0));
+                Assert.assertEquals(0.0, x0.subtract(x.getColumnVector(0)).getNorm(), 1.0e-12);
+                final double expected = new LUDecomposition(dense).getDeterminant();
+                Assert.assertEquals(expected, lu.getDeterminant(), 1.0e-10 * Math.abs(expected));
+            }
+        }
+    }
+
+    @Test
+    public void testU() {
+        final BandedRealMatrix m = BandedRealMatrixTest.createRandom(new Well1024a(0x2ec5a17f9b03d864l), 10, 2, 1);
+        final RealMatrix u = new BandedLUDecomposition(m).getU();
+        Assert.assertTrue(u instanceof BandedRealMatrix);
+        Assert.assertEquals(0, ((BandedRealMatrix) u).getLowerBandwidth());
+        Assert.assertEquals(3, ((BandedRealMatrix) u).getUpperBandwidth());
+        // U has the same diagonal as the dense decomposition, which uses the same pivots
+        final RealMatrix denseU = new LUDecomposition(new Array2DRowRealMatrix(m.getData())).getU();
+        Assert.assertEquals(0.0, u.subtract(denseU).getNorm1(), 1.0e-12);
+    }
+
+    @Test
+    public void testInverse() {
+        final TridiagonalRealMatrix m = new TridiagonalRealMatrix(new double[] { 1, 2 },
+                                                                  new double[] { 0, 4, 5 },
+                                                                  new double[] { 6, 7 });
+        final RealMatrix inverse = new BandedLUDecomposition(m).getSolver().getInverse();
+        Assert.assertEquals(0.0, m.multiply(inverse).subtract(MatrixUtils.createRealIdentityMatrix(3)).getNorm1(),
+                            1.0e-14);
+    }
+
+    @Test
+    public void testSingular() {
+        final BandedRealMatrix m = new BandedRealMatrix(3, 1, 1);
+        m.setEntry(0, 0, 1.0);
+        m.setEntry(1, 1, 1.0);
+        final BandedLUDecomposition lu = new BandedLUDecomposition(m);
+        Assert.assertFalse(lu.getSolver().isNonSingular());
+        Assert.assertNull(lu.getU());
+        Assert.assertEquals(0.0, lu.getDeterminant(), 0.0);
+        try {
+            lu.getSolver().solve(new ArrayRealVector(3));
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            Assert.assertEquals(LocalizedCoreFormats.SINGULAR_MATRIX, miae.getSpecifier());
+        }
+    }
+
+    @Test
+    public void testDimensionMismatch() {
+        final BandedRealMatrix m = BandedRealMatrixTest.createRandom(new Well1024a(0x91d3b6e04a5f27c8l), 5, 1, 1);
+        try {
+            new BandedLUDecomposition(m).getSolver().solve(new ArrayRealVector(4));
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            Assert.assertEquals(LocalizedCoreFormats.DIMENSIONS_MISMATCH, miae.getSpecifier());
+        }
+    }
+
+}
@@ -0,0 +1,178 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hipparchus.linear;
+
+import org.hipparchus.UnitTestUtils;
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.exception.MathIllegalArgumentException;
+import org.hipparchus.random.RandomGenerator;
+import org.hipparchus.random.Well1024a;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class BandedRealMatrixTest {
+
+    @Test
+    public void testEntries() {
+        final BandedRealMatrix m = createRandom(new Well1024a(0x3b1f85e0a6c27d49l), 7, 2, 1);
+        Assert.assertEquals(7, m.getRowDimension());
+        Assert.assertEquals(7, m.getColumnDimension());
+        Assert.assertEquals(2, m.getLowerBandwidth());
+        Assert.assertEquals(1, m.getUpperBandwidth());
+        for (int i = 0; i < 7; ++i) {
+            for (int j = 0; j < 7; ++j) {
+                if (j < i - 2 || j > i + 1) {
+                    Assert.assertEquals(0.0, m.getEntry(i, j), 0.0);
+                } else {
+                    Assert.assertEquals(m.getDataRef()[i][j - i + 2], m.getEntry(i, j), 0.0);
+                    Assert.assertNotEquals(0.0, m.getEntry(i, j), 0.0);
+                }
+            }
+        }
+
+        m.setEntry(3, 0, 0.0);
+        m.addToEntry(3, 0, 0.0);
+        m.multiplyEntry(3, 0, 2.0);
+        m.setEntry(3, 1, 1.5);
+        m.addToEntry(3, 1, 1.0);
+        m.multiplyEntry(3, 1, 2.0);
+        Assert.assertEquals(5.0, m.getEntry(3, 1), 0.0);
+
+        try {
+            m.setEntry(3, 0, 1.0);
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            Assert.assertEquals(LocalizedCoreFormats.NUMBER_TOO_LARGE, miae.getSpecifier());
+        }
+        try {
+            m.addToEntry(1, 3, 1.0);
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            Assert.assertEquals(LocalizedCoreFormats.NUMBER_TOO_LARGE, miae.getSpecifier());
+        }
+        try {
+            m.getEntry(7, 0);
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            Assert.assertEquals(LocalizedCoreFormats.ROW_INDEX, miae.getSpecifier());
+        }
+    }
+
+    @Test
+    public void testFromMatrix() {
+        final BandedRealMatrix m    = createRandom(new Well1024a(0x6ad4c0f2b9e71538l), 9, 1, 3);
+        final BandedRealMatrix copy = new BandedRealMatrix(new Array2DRowRealMatrix(m.getData()), 1, 3);
+        Assert.assertEquals(0.0, copy.subtract(m).getNorm1(), 0.0);
+        try {
+            new BandedRealMatrix(new Array2DRowRealMatrix(m.getData()), 1, 2);
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            Assert.assertEquals(LocalizedCoreFormats.NUMBER_TOO_LARGE, miae.getSpecifier());
+        }
+        try {
+            new BandedRealMatrix(new Array2DRowRealMatrix(3, 4), 1, 1);
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            Assert.assertEquals(LocalizedCoreFormats.NON_SQUARE_MATRIX, miae.getSpecifier());
+        }
+        try {
+            new BandedRealMatrix(3, -1, 1);
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            Assert.assertEquals(LocalizedCoreFormats.NUMBER_TOO_SMALL, miae.getSpecifier());
+        }
+        try {
+            new BandedRealMatrix(new double[3][3], 1, 2, false);
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            Assert.assertEquals(LocalizedCoreFormats.DIMENSIONS_MISMATCH, miae.getSpecifier());
+        }
+    }
+
+    @Test
+    public void testCopyAndTranspose() {
+        final BandedRealMatrix m = createRandom(new Well1024a(0x1c97e2d4503fab86l), 8, 3, 1);
+        final BandedRealMatrix copy = m.copy();
+        copy.setEntry(0, 0, 100.0);
+        Assert.assertNotEquals(100.0, m.getEntry(0, 0), 1.0e-10);
+        final BandedRealMatrix t = m.transpose();
+        Assert.assertEquals(1, t.getLowerBandwidth());
+        Assert.assertEquals(3, t.getUpperBandwidth());
+        final RealMatrix dense = new Array2DRowRealMatrix(m.getData());
+        Assert.assertEquals(0.0, t.subtract(dense.transpose()).getNorm1(), 0.0);
+    }
+
+    @Test
+    public void testOperate() {
+        final RandomGenerator random = new Well1024a(0x85c3f0a91e6d247bl);
+        final BandedRealMatrix m = createRandom(random, 50, 4, 2);
+        final RealMatrix dense = new Array2DRowRealMatrix(m.getData());
+        final double[] v = new double[50];
+        for (int i = 0; i < v.length; ++i) {
+            v[i] = 2 * random.nextDouble() - 1;
+        }
+        UnitTestUtils.assertEquals(dense.operate(v), m.operate(v), 1.0e-14);
+        UnitTestUtils.assertEquals(dense.preMultiply(v), m.preMultiply(v), 1.0e-14);
+        final double[] out = v.clone();
+        m.preMultiply(out, out);
+        UnitTestUtils.assertEquals(dense.preMultiply(v), out, 1.0e-14);
+        try {
+            m.operate(new double[49]);
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            Assert.assertEquals(LocalizedCoreFormats.DIMENSIONS_MISMATCH, miae.getSpecifier());
+        }
+    }
+
+    @Test
+    public void testGeneralOperations() {
+        final RandomGenerator random = new Well1024a(0xe42b7d0936af1c58l);
+        final BandedRealMatrix a = createRandom(random, 6, 1, 2);
+        final BandedRealMatrix b = createRandom(random, 6, 2, 0);
+        final RealMatrix product = a.multiply(b);
+        Assert.assertTrue(product instanceof Array2DRowRealMatrix);
+        final RealMatrix expected = new Array2DRowRealMatrix(a.getData()).multiply(new Array2DRowRealMatrix(b.getData()));
+        Assert.assertEquals(0.0, product.subtract(expected).getNorm1(), 1.0e-14);
+    }
+
+    @Test
+    public void testSerial() {
+        final BandedRealMatrix m = createRandom(new Well1024a(0x0f5ad69b2c4e8713l), 5, 1, 1);
+        final BandedRealMatrix deserialized = (BandedRealMatrix) UnitTestUtils.serializeAndRecover(m);
+        Assert.assertEquals(m, deserialized);
+        Assert.assertEquals(m.getLowerBandwidth(), deserialized.getLowerBandwidth());
+        Assert.assertEquals(m.getUpperBandwidth(), deserialized.getUpperBandwidth());
+    }
+
+    /** Create a band matrix with random non-zero entries in the band.
+     * @param random random generator
+     * @param n dimension
+     * @param kl lower bandwidth
+     * @param ku upper bandwidth
+     * @return random band matrix
+     */
+    static BandedRealMatrix createRandom(final RandomGenerator random, final int n, final int kl, final int ku) {
+        final BandedRealMatrix m = new BandedRealMatrix(n, kl, ku);
+        for (int i = 0; i < n; ++i) {
+            for (int j = Math.max(0, i - kl); j <= Math.min(n - 1, i + ku); ++j) {
+                m.setEntry(i, j, 1 + random.nextDouble());
+            }
+        }
+        return m;
+    }
+
+}
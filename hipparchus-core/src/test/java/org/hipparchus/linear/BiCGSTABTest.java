@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hipparchus.linear;
+
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.exception.MathIllegalArgumentException;
+import org.hipparchus.exception.MathIllegalStateException;
+import org.hipparchus.util.IterationEvent;
+import org.hipparchus.util.IterationListener;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class BiCGSTABTest {
+
+    @Test
+    public void testUnpreconditioned() {
+        final CompressedRowRealMatrix a = GMRESTest.convectionDiffusion(20, 0.8);
+        final RealVector b = GMRESTest.rightHandSide(a.getRowDimension());
+        final RealVector x = new BiCGSTAB(1000, 1.0e-10).solve(a, b);
+        Assert.assertEquals(0.0, b.subtract(a.operate(x)).getNorm(), 2.0e-10 * b.getNorm());
+    }
+
+    @Test
+    public void testPreconditioned() {
+        final CompressedRowRealMatrix a = GMRESTest.convectionDiffusion(20, 0.8);
+        final RealVector b = GMRESTest.rightHandSide(a.getRowDimension());
+        final RealVector x0 = new ArrayRealVector(a.getRowDimension());
+
+        final BiCGSTAB plain = new BiCGSTAB(1000, 1.0e-10);
+        plain.solve(a, null, b, x0);
+        final int plainIterations = plain.getIterationManager().getIterations();
+
+        final BiCGSTAB preconditioned = new BiCGSTAB(1000, 1.0e-10);
+        final RealVector x = preconditioned.solve(a, new IncompleteLUPreconditioner(a), b, x0);
+        final int preconditionedIterations = preconditioned.getIterationManager().getIterations();
+
+        Assert.assertEquals(0.0, b.subtract(a.operate(x)).getNorm(), 2.0e-10 * b.getNorm());
+        Assert.assertTrue(preconditionedIterations * 2 < plainIterations);
+    }
+
+    @Test
+    public void testExactInitialGuess() {
+        final CompressedRowRealMatrix a = GMRESTest.convectionDiffusion(5, 0.5);
+        final RealVector x = GMRESTest.rightHandSide(a.getRowDimension());
+        final RealVector b = a.operate(x);
+        final BiCGSTAB solver = new BiCGSTAB(10, 1.0e-10);
+        final RealVector y = solver.solve(a, b, x);
+        Assert.assertEquals(0.0, y.subtract(x).getNorm(), 0.0);
+        Assert.assertEquals(1, solver.getIterationManager().getIterations());
+    }
+
+    @Test
+    public void testEvents() {
+        final CompressedRowRealMatrix a = GMRESTest.convectionDiffusion(10, 0.8);
+        final RealVector b = GMRESTest.rightHandSide(a.getRowDimension());
+        final BiCGSTAB solver = new BiCGSTAB(1000, 1.0e-10);
+        final int[] count = new int[4];
+        solver.getIterationManager().addIterationListener(new IterationListener() {
+            @Override
+            public void initializationPerformed(final IterationEvent e) {
+                ++count[0];
+            }
+            @Override
+            public void iterationStarted(final IterationEvent e) {
+                ++count[1];
+            }
+            @Override
+            public void iterationPerformed(final IterationEvent e) {
+                ++count[2];
+                // the updated residual is consistent with the updated solution
+                final IterativeLinearSolverEvent evt = (IterativeLinearSolverEvent) e;
+                final RealVector r = b.subtract(a.operate(evt.getSolution()));
+                Assert.assertEquals(0.0, r.subtract(evt.getResidual()).getNorm(), 1.0e-10 * b.getNorm());
+                Assert.assertEquals(evt.getResidual().getNorm(), evt.getNormOfResidual(), 1.0e-15);
+            }
+            @Override
+            public void terminationPerformed(final IterationEvent e) {
+                ++count[3];
+                Assert.assertTrue(((IterativeLinearSolverEvent) e).getNormOfResidual() <= 1.0e-10 * b.getNorm());
+            }
+        });
+        solver.solve(a, b);
+        Assert.assertEquals(1, count[0]);
+        Assert.assertEquals(solver.getIterationManager().getIterations() - 1, count[1]);
+        Assert.assertEquals(count[1], count[2]);
+        Assert.assertEquals(1, count[3]);
+    }
+
+    @Test
+    public void testBreakdown() {
+        // the shadow residual is orthogonal to A.r at first iteration
+        final Array2DRowRealMatrix a = new Array2DRowRealMatrix(new double[][] {
+            { 0, 1 }, { -1, 0 }
+        });
+        try {
+            new BiCGSTAB(10, 1.0e-10).solve(a, new ArrayRealVector(new double[] { 1, 0 }));
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalStateException mise) {
+            Assert.assertEquals(LocalizedCoreFormats.CONVERGENCE_FAILED, mise.getSpecifier());
+        }
+    }
+
+    @Test(expected = MathIllegalArgumentException.class)
+    public void testDimensionMismatch() {
+        new BiCGSTAB(10, 0.).solve(new Array2DRowRealMatrix(3, 3), new ArrayRealVector(2));
+    }
+
+}
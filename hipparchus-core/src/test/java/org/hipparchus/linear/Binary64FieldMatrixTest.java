@@ -0,0 +1,44 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hipparchus.linear;
+
+import org.hipparchus.util.Binary64;
+import org.hipparchus.random.RandomGenerator;
+
+public class Binary64FieldMatrixTest extends PlanesFieldAbstractTest<Binary64> {
+
+    @Override
+    protected Binary64 randomElement(final RandomGenerator random) {
+        return new Binary64(2 * random.nextDouble() - 1);
+    }
+
+    @Override
+    protected AbstractPlanesFieldMatrix<Binary64> createMatrix(final int rows, final int columns) {
+        return new Binary64FieldMatrix(rows, columns);
+    }
+
+    @Override
+    protected AbstractPlanesFieldMatrix<Binary64> toPlanes(final FieldMatrix<Binary64> m) {
+        return new Binary64FieldMatrix(m);
+    }
+
+    @Override
+    protected AbstractPlanesFieldVector<Binary64> toPlanes(final FieldVector<Binary64> v) {
+        return new Binary64FieldVector(v);
+    }
+
+}
@@ -0,0 +1,141 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hipparchus.linear;
+
+import java.util.concurrent.ForkJoinPool;
+
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.exception.MathIllegalArgumentException;
+import org.hipparchus.exception.NullArgumentException;
+import org.hipparchus.random.RandomGenerator;
+import org.hipparchus.random.Well1024a;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class BlockCholeskyDecomposerTest {
+
+    private ForkJoinPool pool;
+
+    @Before
+    public void setUp() {
+        pool = new ForkJoinPool(4);
+    }
+
+    @After
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Test
+    public void testSameAsCholeskyDecomposition() {
+        final RandomGenerator random = new Well1024a(0x7d3a5f1e0b9c6482l);
+        for (final int n : new int[] { 1, 2, 7, 64, 150, 257 }) {
+            final RealMatrix a = createRandomSPDMatrix(random, n);
+            final CholeskyDecomposition reference = new CholeskyDecomposition(a);
+            for (final int blockSize : new int[] { 1, 16, 64 }) {
+                final CholeskyDecomposition cholesky =
+                                new BlockCholeskyDecomposer(1.0e-15, 1.0e-10, blockSize, pool).decomposeCholesky(a);
+                Assert.assertEquals(0.0, reference.getL().subtract(cholesky.getL()).getNorm1(), 1.0e-13 * n);
+                for (int i = 1; i < n; ++i) {
+                    for (int j = 0; j < i; ++j) {
+                        Assert.assertEquals(0.0, cholesky.getLT().getEntry(i, j), 0.0);
+                    }
+                }
+                if (n < 100) {
+                    // larger determinants overflow
+                    Assert.assertEquals(1.0, cholesky.getDeterminant() / reference.getDeterminant(), 1.0e-12 * n);
+                }
+                Assert.assertEquals(0.0,
+                                    cholesky.getL().multiply(cholesky.getLT()).subtract(a).getNorm1(),
+                                    1.0e-12 * n);
+            }
+        }
+    }
+
+    @Test
+    public void testSolve() {
+        final RandomGenerator random = new Well1024a(0x4c1b8e63f2a0d597l);
+        final int n = 300;
+        final RealMatrix a = createRandomSPDMatrix(random, n);
+        final RealVector x = new ArrayRealVector(n);
+        for (int i = 0; i < n; ++i) {
+            x.setEntry(i, random.nextDouble() - 0.5);
+        }
+        final DecompositionSolver solver = new BlockCholeskyDecomposer(1.0e-15, 1.0e-10, pool).decompose(a);
+        Assert.assertTrue(solver.isNonSingular());
+        Assert.assertEquals(0.0, solver.solve(a.operate(x)).subtract(x).getNorm(), 1.0e-12);
+    }
+
+    @Test
+    public void testNotSymmetric() {
+        final RealMatrix a = createRandomSPDMatrix(new Well1024a(0x92e05b7a4d1c3f68l), 100);
+        a.addToEntry(80, 20, 1.0e-3);
+        try {
+            new BlockCholeskyDecomposer(1.0e-15, 1.0e-10, pool).decompose(a);
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            Assert.assertEquals(LocalizedCoreFormats.NON_SYMMETRIC_MATRIX, miae.getSpecifier());
+        }
+    }
+
+    @Test
+    public void testNotPositiveDefinite() {
+        final RealMatrix a = createRandomSPDMatrix(new Well1024a(0x0f5d2c8b7e16a943l), 100);
+        // remove the diagonal dominance, making the matrix indefinite
+        for (int i = 0; i < 100; ++i) {
+            a.addToEntry(i, i, -200.0);
+        }
+        try {
+            new BlockCholeskyDecomposer(1.0e-15, 1.0e-10, 16, pool).decompose(a);
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            Assert.assertEquals(LocalizedCoreFormats.NOT_POSITIVE_DEFINITE_MATRIX, miae.getSpecifier());
+        }
+    }
+
+    @Test
+    public void testNonSquare() {
+        try {
+            new BlockCholeskyDecomposer(1.0e-15, 1.0e-10, pool).decompose(MatrixUtils.createRealMatrix(3, 2));
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            Assert.assertEquals(LocalizedCoreFormats.NON_SQUARE_MATRIX, miae.getSpecifier());
+        }
+    }
+
+    @Test(expected = NullArgumentException.class)
+    public void testNullPool() {
+        new BlockCholeskyDecomposer(1.0e-15, 1.0e-10, null);
+    }
+
+    private static RealMatrix createRandomSPDMatrix(final RandomGenerator random, final int n) {
+        final RealMatrix m = new Array2DRowRealMatrix(n, n);
+        for (int i = 0; i < n; ++i) {
+            for (int j = 0; j < n; ++j) {
+                m.setEntry(i, j, 2 * random.nextDouble() - 1);
+            }
+        }
+        final RealMatrix spd = m.multiplyTransposed(m);
+        for (int i = 0; i < n; ++i) {
+            spd.addToEntry(i, i, n);
+        }
+        return spd;
+    }
+
+}
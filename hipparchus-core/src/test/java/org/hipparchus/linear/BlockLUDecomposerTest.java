@@ -0,0 +1,133 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hipparchus.linear;
+
+import java.util.concurrent.ForkJoinPool;
+
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.exception.MathIllegalArgumentException;
+import org.hipparchus.exception.NullArgumentException;
+import org.hipparchus.random.RandomGenerator;
+import org.hipparchus.random.Well1024a;
+import org.hipparchus.util.FastMath;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class BlockLUDecomposerTest {
+
+    private ForkJoinPool pool;
+
+    @Before
+    public void setUp() {
+        pool = new ForkJoinPool(4);
+    }
+
+    @After
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Test
+    public void testSameAsLUDecomposition() {
+        final RandomGenerator random = new Well1024a(0x1f6e9a4c3b08d257l);
+        for (final int n : new int[] { 1, 2, 7, 64, 150, 257 }) {
+            final RealMatrix a = createRandomMatrix(random, n);
+            final LUDecomposition reference = new LUDecomposition(a);
+            for (final int blockSize : new int[] { 1, 16, 64 }) {
+                final LUDecomposition lu = new BlockLUDecomposer(1.0e-11, blockSize, pool).decomposeLU(a);
+                Assert.assertArrayEquals(reference.getPivot(), lu.getPivot());
+                Assert.assertEquals(0.0, reference.getL().subtract(lu.getL()).getNorm1(), 1.0e-12 * n);
+                Assert.assertEquals(0.0, reference.getU().subtract(lu.getU()).getNorm1(), 1.0e-12 * n);
+                Assert.assertEquals(reference.getDeterminant(), lu.getDeterminant(),
+                                    1.0e-12 * n * FastMath.abs(reference.getDeterminant()));
+                Assert.assertEquals(0.0,
+                                    lu.getP().multiply(a).subtract(lu.getL().multiply(lu.getU())).getNorm1(),
+                                    1.0e-12 * n);
+            }
+        }
+    }
+
+    @Test
+    public void testSolve() {
+        final RandomGenerator random = new Well1024a(0x5a0c7e2d91f43b68l);
+        final int n = 300;
+        final RealMatrix a = createRandomMatrix(random, n);
+        final RealVector x = new ArrayRealVector(n);
+        for (int i = 0; i < n; ++i) {
+            x.setEntry(i, random.nextDouble() - 0.5);
+        }
+        final DecompositionSolver solver = new BlockLUDecomposer(1.0e-11, pool).decompose(a);
+        Assert.assertTrue(solver.isNonSingular());
+        Assert.assertEquals(0.0, solver.solve(a.operate(x)).subtract(x).getNorm(), 1.0e-10);
+        Assert.assertEquals(0.0,
+                            solver.getInverse().multiply(a).subtract(MatrixUtils.createRealIdentityMatrix(n)).getNorm1(),
+                            1.0e-9);
+    }
+
+    @Test
+    public void testSingular() {
+        final RandomGenerator random = new Well1024a(0x2b94d1f70c6e8a35l);
+        final int n = 100;
+        final RealMatrix a = createRandomMatrix(random, n);
+        // make last row a combination of two other rows
+        a.setRow(n - 1, a.getRowVector(3).add(a.getRowVector(70).mapMultiply(2.0)).toArray());
+        final LUDecomposition reference = new LUDecomposition(a);
+        final LUDecomposition lu        = new BlockLUDecomposer(1.0e-11, 16, pool).decomposeLU(a);
+        Assert.assertFalse(reference.getSolver().isNonSingular());
+        Assert.assertFalse(lu.getSolver().isNonSingular());
+        Assert.assertNull(lu.getL());
+        Assert.assertEquals(0.0, lu.getDeterminant(), 0.0);
+    }
+
+    @Test
+    public void testNonSquare() {
+        try {
+            new BlockLUDecomposer(1.0e-11, pool).decompose(MatrixUtils.createRealMatrix(3, 2));
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            Assert.assertEquals(LocalizedCoreFormats.NON_SQUARE_MATRIX, miae.getSpecifier());
+        }
+    }
+
+    @Test
+    public void testWrongBlockSize() {
+        try {
+            new BlockLUDecomposer(1.0e-11, 0, pool);
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            Assert.assertEquals(LocalizedCoreFormats.NUMBER_TOO_SMALL, miae.getSpecifier());
+        }
+    }
+
+    @Test(expected = NullArgumentException.class)
+    public void testNullPool() {
+        new BlockLUDecomposer(1.0e-11, null);
+    }
+
+    private static RealMatrix createRandomMatrix(final RandomGenerator random, final int n) {
+        final RealMatrix m = new Array2DRowRealMatrix(n, n);
+        for (int i = 0; i < n; ++i) {
+            for (int j = 0; j < n; ++j) {
+                m.setEntry(i, j, 2 * random.nextDouble() - 1);
+            }
+        }
+        return m;
+    }
+
+}
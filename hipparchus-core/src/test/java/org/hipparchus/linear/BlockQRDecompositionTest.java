@@ -0,0 +1,159 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hipparchus.linear;
+
+import java.util.concurrent.ForkJoinPool;
+
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.exception.MathIllegalArgumentException;
+import org.hipparchus.exception.NullArgumentException;
+import org.hipparchus.random.RandomGenerator;
+import org.hipparchus.random.Well1024a;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class BlockQRDecompositionTest {
+
+    private ForkJoinPool pool;
+
+    @Before
+    public void setUp() {
+        pool = new ForkJoinPool(4);
+    }
+
+    @After
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Test
+    public void testSameAsQRDecomposition() {
+        final RandomGenerator random = new Well1024a(0x7c2e5f0a94d1b368l);
+        final int[][] dimensions = {
+            { 1, 1 }, { 7, 3 }, { 3, 7 }, { 64, 64 }, { 150, 100 }, { 100, 150 }, { 1300, 70 }
+        };
+        for (final int[] dimension : dimensions) {
+            final RealMatrix a = createRandomMatrix(random, dimension[0], dimension[1]);
+            final QRDecomposition reference = new QRDecomposition(a);
+            for (final int blockSize : new int[] { 1, 16, 64 }) {
+                final BlockQRDecomposition qr = new BlockQRDecomposition(a, 0.0, blockSize, pool);
+                final double tol = 1.0e-13 * (dimension[0] + dimension[1]);
+                Assert.assertEquals(0.0, reference.getR().subtract(qr.getR()).getNorm1(), tol);
+                Assert.assertEquals(0.0, reference.getH().subtract(qr.getH()).getNorm1(), tol);
+                Assert.assertEquals(0.0, reference.getQ().subtract(qr.getQ()).getNorm1(), tol);
+                Assert.assertEquals(0.0, reference.getQT().subtract(qr.getQT()).getNorm1(), tol);
+                Assert.assertEquals(0.0, qr.getQ().multiply(qr.getR()).subtract(a).getNorm1(), tol);
+            }
+        }
+    }
+
+    @Test
+    public void testLeastSquares() {
+        final RandomGenerator random = new Well1024a(0x3a9d6c1e0f7b2548l);
+        final int m = 20000;
+        final int n = 50;
+        final RealMatrix a = createRandomMatrix(random, m, n);
+        final RealMatrix b = createRandomMatrix(random, m, 3);
+        final DecompositionSolver reference = new QRDecomposition(a).getSolver();
+        final DecompositionSolver solver    = new BlockQRDecomposer(0.0, 16, pool).decompose(a);
+        Assert.assertTrue(solver.isNonSingular());
+        Assert.assertEquals(m, solver.getRowDimension());
+        Assert.assertEquals(n, solver.getColumnDimension());
+        final RealMatrix x = solver.solve(b);
+        Assert.assertEquals(0.0, reference.solve(b).subtract(x).getNorm1(), 1.0e-13);
+        for (int j = 0; j < b.getColumnDimension(); ++j) {
+            final RealVector xj = solver.solve(b.getColumnVector(j));
+            Assert.assertEquals(0.0, x.getColumnVector(j).subtract(xj).getNorm(), 1.0e-14);
+            // residual is orthogonal to the columns of A
+            final RealVector residual = a.operate(xj).subtract(b.getColumnVector(j));
+            Assert.assertEquals(0.0, a.preMultiply(residual).getNorm(), 1.0e-10);
+        }
+    }
+
+    @Test
+    public void testInverse() {
+        final RandomGenerator random = new Well1024a(0x61f0b8d3c5e7294al);
+        final int n = 200;
+        final RealMatrix a = createRandomMatrix(random, n, n);
+        final DecompositionSolver solver = new BlockQRDecomposer(0.0, pool).decompose(a);
+        Assert.assertEquals(0.0,
+                            solver.getInverse().multiply(a).subtract(MatrixUtils.createRealIdentityMatrix(n)).getNorm1(),
+                            1.0e-10);
+    }
+
+    @Test
+    public void testSingular() {
+        final RandomGenerator random = new Well1024a(0x0e4b9f7a2d6c3815l);
+        final RealMatrix a = createRandomMatrix(random, 80, 40);
+        // make last column a combination of two other columns
+        a.setColumn(39, a.getColumnVector(3).add(a.getColumnVector(30).mapMultiply(2.0)).toArray());
+        final DecompositionSolver solver = new BlockQRDecomposition(a, 1.0e-10, 8, pool).getSolver();
+        Assert.assertFalse(solver.isNonSingular());
+        try {
+            solver.solve(new ArrayRealVector(80));
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            Assert.assertEquals(LocalizedCoreFormats.SINGULAR_MATRIX, miae.getSpecifier());
+        }
+    }
+
+    @Test
+    public void testDimensionMismatch() {
+        final DecompositionSolver solver =
+                        new BlockQRDecomposition(MatrixUtils.createRealIdentityMatrix(3), 0.0, pool).getSolver();
+        try {
+            solver.solve(new ArrayRealVector(2));
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            Assert.assertEquals(LocalizedCoreFormats.DIMENSIONS_MISMATCH, miae.getSpecifier());
+        }
+        try {
+            solver.solve(MatrixUtils.createRealMatrix(2, 2));
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            Assert.assertEquals(LocalizedCoreFormats.DIMENSIONS_MISMATCH, miae.getSpecifier());
+        }
+    }
+
+    @Test
+    public void testWrongBlockSize() {
+        try {
+            new BlockQRDecomposer(0.0, 0, pool);
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            Assert.assertEquals(LocalizedCoreFormats.NUMBER_TOO_SMALL, miae.getSpecifier());
+        }
+    }
+
+    @Test(expected = NullArgumentException.class)
+    public void testNullPool() {
+        new BlockQRDecomposition(MatrixUtils.createRealIdentityMatrix(3), 0.0, null);
+    }
+
+    private static RealMatrix createRandomMatrix(final RandomGenerator random, final int rows, final int columns) {
+        final RealMatrix m = new Array2DRowRealMatrix(rows, columns);
+        for (int i = 0; i < rows; ++i) {
+            for (int j = 0; j < columns; ++j) {
+                m.setEntry(i, j, 2 * random.nextDouble() - 1);
+            }
+        }
+        return m;
+    }
+
+}
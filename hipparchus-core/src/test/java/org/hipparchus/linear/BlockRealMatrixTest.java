@@ -33,6 +33,7 @@ import org.junit.Test;
 
 import java.util.Arrays;
 import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * Test cases for the {@link BlockRealMatrix} class.
@@ -429,6 +430,48 @@ public final class BlockRealMatrixTest {
         }
     }
 
+    @Test
+    public void testParallelMultiply() {
+        final Random r = new Random(0x9f1c1a3d7e20b6a5l);
+        final ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (int rows = 1; rows <= 160; rows += 53) {
+                for (int cols = 1; cols <= 160; cols += 53) {
+                    final BlockRealMatrix a = createRandomMatrix(r, rows, cols);
+                    for (int interm = 1; interm <= 160; interm += 53) {
+                        final BlockRealMatrix b = createRandomMatrix(r, cols, interm);
+                        final BlockRealMatrix c = createRandomMatrix(r, interm, cols);
+                        final BlockRealMatrix d = createRandomMatrix(r, rows, interm);
+                        // results must be exactly the same as the serial ones
+                        Assert.assertEquals(0.0, a.multiply(b, pool).subtract(a.multiply(b)).getNorm1(), 0.0);
+                        Assert.assertEquals(0.0, a.multiplyTransposed(c, pool).subtract(a.multiplyTransposed(c)).getNorm1(), 0.0);
+                        Assert.assertEquals(0.0, a.transposeMultiply(d, pool).subtract(a.transposeMultiply(d)).getNorm1(), 0.0);
+                    }
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testParallelMultiplyWrongDimensions() {
+        final ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            new BlockRealMatrix(2, 3).multiply(new BlockRealMatrix(2, 3), pool);
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            Assert.assertEquals(LocalizedCoreFormats.DIMENSIONS_MISMATCH, miae.getSpecifier());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test(expected = NullArgumentException.class)
+    public void testParallelMultiplyNullPool() {
+        new BlockRealMatrix(2, 3).multiply(new BlockRealMatrix(3, 2), (ForkJoinPool) null);
+    }
+
     /** test trace */
     @Test
     public void testTrace() {
@@ -1403,4 +1446,85 @@ public final class BlockRealMatrixTest {
         }
         return m;
     }
+
+    @Test
+    public void testIntoOperations() {
+        final RandomGenerator random = new Well1024a(0x2f8c64d1e09ab375l);
+        final RealMatrix a = randomMatrix(new BlockRealMatrix(60, 7), random);
+        final RealMatrix b = randomMatrix(new BlockRealMatrix(60, 7), random);
+        final RealMatrix c = randomMatrix(new BlockRealMatrix(7, 7), random);
+        final double[]   v = new double[7];
+        final double[]   u = new double[60];
+        for (int i = 0; i < v.length; ++i) {
+            v[i] = 2 * random.nextDouble() - 1;
+        }
+        for (int i = 0; i < u.length; ++i) {
+            u[i] = 2 * random.nextDouble() - 1;
+        }
+
+        // destination of the same type as the operands
+        final RealMatrix out = a.createMatrix(60, 7);
+        a.add(b, out);
+        Assert.assertEquals(0.0, out.subtract(a.add(b)).getNorm1(), 1.0e-15);
+        a.subtract(b, out);
+        Assert.assertEquals(0.0, out.subtract(a.subtract(b)).getNorm1(), 1.0e-15);
+        a.scalarMultiply(-2.5, out);
+        Assert.assertEquals(0.0, out.subtract(a.scalarMultiply(-2.5)).getNorm1(), 1.0e-15);
+        a.multiply(c, out);
+        Assert.assertEquals(0.0, out.subtract(a.multiply(c)).getNorm1(), 1.0e-12);
+        final RealMatrix denseOut = new Array2DRowRealMatrix(60, 7);
+        a.multiply(c, denseOut);
+        Assert.assertEquals(0.0, denseOut.subtract(a.multiply(c)).getNorm1(), 1.0e-12);
+        final RealMatrix outT = a.createMatrix(7, 60);
+        a.transpose(outT);
+        Assert.assertEquals(0.0, outT.subtract(a.transpose()).getNorm1(), 0.0);
+        final double[] outV = new double[60];
+        a.operate(v, outV);
+        Assert.assertArrayEquals(a.operate(v), outV, 1.0e-14);
+        final double[] outU = new double[7];
+        a.preMultiply(u, outU);
+        Assert.assertArrayEquals(a.preMultiply(u), outU, 1.0e-13);
+        final RealVector outRV = new ArrayRealVector(60);
+        a.operate(new ArrayRealVector(v), outRV);
+        Assert.assertArrayEquals(a.operate(v), outRV.toArray(), 1.0e-14);
+
+        // element-wise operations allow the destination to be an operand
+        final RealMatrix sum = a.add(b);
+        a.add(b, b);
+        Assert.assertEquals(0.0, b.subtract(sum).getNorm1(), 0.0);
+
+        // destination of a different type
+        final RealMatrix alien = new OpenMapRealMatrix(60, 7);
+        a.multiply(c, alien);
+        Assert.assertEquals(0.0, alien.subtract(a.multiply(c)).getNorm1(), 1.0e-12);
+        a.add(sum, alien);
+        Assert.assertEquals(0.0, alien.subtract(a.add(sum)).getNorm1(), 1.0e-15);
+        final RealVector alienV = new OpenMapRealVector(60);
+        a.operate(new OpenMapRealVector(v), alienV);
+        Assert.assertArrayEquals(a.operate(v), alienV.toArray(), 1.0e-14);
+
+        try {
+            a.multiply(c, a.createMatrix(60, 8));
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            Assert.assertEquals(LocalizedCoreFormats.DIMENSIONS_MISMATCH_2x2, miae.getSpecifier());
+        }
+        try {
+            a.operate(v, new double[59]);
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            Assert.assertEquals(LocalizedCoreFormats.DIMENSIONS_MISMATCH, miae.getSpecifier());
+        }
+    }
+
+    private static RealMatrix randomMatrix(final RealMatrix m, final RandomGenerator random) {
+        m.walkInOptimizedOrder(new DefaultRealMatrixChangingVisitor() {
+            @Override
+            public double visit(int row, int column, double value) {
+                return 2 * random.nextDouble() - 1;
+            }
+        });
+        return m;
+    }
+
 }
@@ -0,0 +1,323 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hipparchus.linear;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.ReadOnlyBufferException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.hipparchus.UnitTestUtils;
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.exception.MathIllegalArgumentException;
+import org.hipparchus.exception.MathIllegalStateException;
+import org.hipparchus.random.RandomGenerator;
+import org.hipparchus.random.Well1024a;
+import org.hipparchus.util.FastMath;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class BufferRealMatrixTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testDirect() {
+        final RandomGenerator random = new Well1024a(0x4a1d2c39e6b07f85l);
+        for (final int[] dimensions : new int[][] { { 1, 1 }, { 52, 52 }, { 53, 51 }, { 100, 60 }, { 131, 207 } }) {
+            final RealMatrix reference = createMatrix(random, dimensions[0], dimensions[1]);
+            final BufferRealMatrix m = new BufferRealMatrix(reference);
+            Assert.assertFalse(m.isMapped());
+            Assert.assertFalse(m.isReadOnly());
+            checkEquals(reference, m);
+            Assert.assertEquals(reference, m);
+            Assert.assertEquals(reference.hashCode(), m.hashCode());
+            checkEquals(reference, m.copy());
+        }
+    }
+
+    @Test
+    public void testEntries() {
+        final BufferRealMatrix m = new BufferRealMatrix(70, 110);
+        final RealMatrix reference = new BlockRealMatrix(70, 110);
+        for (int i = 0; i < 70; ++i) {
+            for (int j = 0; j < 110; ++j) {
+                Assert.assertEquals(0.0, m.getEntry(i, j), 0.0);
+                m.setEntry(i, j, i + 0.001 * j);
+                m.addToEntry(i, j, 1.0);
+                m.multiplyEntry(i, j, 2.0);
+                reference.setEntry(i, j, 2 * (i + 0.001 * j + 1.0));
+            }
+        }
+        checkEquals(reference, m);
+        try {
+            m.getEntry(70, 0);
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            Assert.assertEquals(LocalizedCoreFormats.ROW_INDEX, miae.getSpecifier());
+        }
+        try {
+            m.setEntry(0, 110, 1.0);
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            Assert.assertEquals(LocalizedCoreFormats.COLUMN_INDEX, miae.getSpecifier());
+        }
+    }
+
+    @Test
+    public void testOperate() {
+        final RandomGenerator random = new Well1024a(0x6e39f5c0d2b1a874l);
+        final RealMatrix reference = createMatrix(random, 117, 75);
+        final BufferRealMatrix m = new BufferRealMatrix(reference);
+        final double[] u = new double[75];
+        final double[] v = new double[117];
+        for (int i = 0; i < u.length; ++i) {
+            u[i] = random.nextDouble();
+        }
+        for (int i = 0; i < v.length; ++i) {
+            v[i] = random.nextDouble();
+        }
+        Assert.assertArrayEquals(reference.operate(u), m.operate(u), 1.0e-13);
+        Assert.assertArrayEquals(reference.preMultiply(v), m.preMultiply(v), 1.0e-13);
+        checkEquals(reference.multiply(reference.transpose()), m.multiply(m.transpose()));
+        try {
+            m.operate(v);
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            Assert.assertEquals(LocalizedCoreFormats.DIMENSIONS_MISMATCH, miae.getSpecifier());
+        }
+        try {
+            m.preMultiply(u);
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            Assert.assertEquals(LocalizedCoreFormats.DIMENSIONS_MISMATCH, miae.getSpecifier());
+        }
+    }
+
+    @Test
+    public void testWalk() {
+        final RandomGenerator random = new Well1024a(0xb27c8d4e15f0396al);
+        final RealMatrix reference = createMatrix(random, 109, 163);
+        final BufferRealMatrix m = new BufferRealMatrix(reference);
+
+        // full walks
+        Assert.assertEquals(reference.walkInRowOrder(new Sum()), m.walkInRowOrder(new Sum()), 1.0e-10);
+        Assert.assertEquals(reference.walkInRowOrder(new Sum()), m.walkInOptimizedOrder(new Sum()), 1.0e-10);
+        m.walkInRowOrder(new Scaler());
+        m.walkInOptimizedOrder(new Scaler());
+        checkEquals(reference.scalarMultiply(4.0), m);
+
+        // partial walks
+        final int[][] ranges = { { 0, 108, 0, 162 }, { 3, 51, 50, 53 }, { 52, 52, 0, 162 }, { 17, 104, 104, 104 } };
+        for (final int[] r : ranges) {
+            final Sum expected = new Sum();
+            reference.walkInRowOrder(expected, r[0], r[1], r[2], r[3]);
+            final Sum sum = new Sum();
+            Assert.assertEquals(4 * expected.end(), m.walkInOptimizedOrder(sum, r[0], r[1], r[2], r[3]), 1.0e-10);
+            Assert.assertEquals((r[1] - r[0] + 1) * (r[3] - r[2] + 1), sum.count);
+            m.walkInOptimizedOrder(new Scaler(), r[0], r[1], r[2], r[3]);
+            reference.walkInRowOrder(new Scaler(), r[0], r[1], r[2], r[3]);
+        }
+        checkEquals(reference.scalarMultiply(4.0), m);
+
+        // row order is really row order
+        m.walkInRowOrder(new DefaultRealMatrixPreservingVisitor() {
+            private int expected;
+            @Override
+            public void visit(int row, int column, double value) {
+                Assert.assertEquals(expected, row * 163 + column);
+                ++expected;
+            }
+        });
+
+    }
+
+    @Test
+    public void testMapped() throws IOException {
+        final RandomGenerator random = new Well1024a(0x91d0c3b7f2a56e48l);
+        final Path file = folder.getRoot().toPath().resolve("matrix.bin");
+        final RealMatrix reference = createMatrix(random, 150, 97);
+
+        final BufferRealMatrix written = BufferRealMatrix.createMapped(file, reference);
+        Assert.assertTrue(written.isMapped());
+        Assert.assertFalse(written.isReadOnly());
+        written.setEntry(120, 60, -1.0);
+        reference.setEntry(120, 60, -1.0);
+        written.force();
+        Assert.assertEquals(32 + 150 * 97 * 8, file.toFile().length());
+
+        // the file layout is the same as the BlockRealMatrix blocks layout
+        final ByteBuffer content = ByteBuffer.wrap(Files.readAllBytes(file)).order(ByteOrder.LITTLE_ENDIAN);
+        int offset = 32;
+        for (final double[] block : BlockRealMatrix.toBlocksLayout(reference.getData())) {
+            for (final double entry : block) {
+                Assert.assertEquals(entry, content.getDouble(offset), 0.0);
+                offset += 8;
+            }
+        }
+        Assert.assertEquals(content.capacity(), offset);
+
+        final BufferRealMatrix readOnly = BufferRealMatrix.openMapped(file, false);
+        Assert.assertTrue(readOnly.isMapped());
+        Assert.assertTrue(readOnly.isReadOnly());
+        checkEquals(reference, readOnly);
+        readOnly.force();
+        try {
+            readOnly.setEntry(0, 0, 1.0);
+            Assert.fail("an exception should have been thrown");
+        } catch (ReadOnlyBufferException robe) {
+            // expected
+        }
+
+        // changes through a writable mapping are seen by other mappings
+        final BufferRealMatrix writable = BufferRealMatrix.openMapped(file, true);
+        writable.setEntry(3, 5, 17.0);
+        writable.force();
+        Assert.assertEquals(17.0, readOnly.getEntry(3, 5), 0.0);
+
+        // copies are independent from the file
+        final BufferRealMatrix copy = readOnly.copy();
+        Assert.assertFalse(copy.isMapped());
+        copy.setEntry(3, 5, 18.0);
+        Assert.assertEquals(17.0, readOnly.getEntry(3, 5), 0.0);
+
+    }
+
+    @Test
+    public void testCreateMappedZero() throws IOException {
+        final Path file = folder.getRoot().toPath().resolve("zero.bin");
+        final BufferRealMatrix m = BufferRealMatrix.createMapped(file, 60, 60);
+        Assert.assertEquals(0.0, m.getFrobeniusNorm(), 0.0);
+        m.setEntry(59, 59, 2.0);
+        Assert.assertEquals(2.0, BufferRealMatrix.openMapped(file, false).getEntry(59, 59), 0.0);
+    }
+
+    @Test
+    public void testSerial() throws IOException {
+        final RandomGenerator random = new Well1024a(0x0c5e7a93b1d4f268l);
+        final RealMatrix reference = createMatrix(random, 61, 57);
+        final BufferRealMatrix mapped =
+                        BufferRealMatrix.createMapped(folder.getRoot().toPath().resolve("serial.bin"), reference);
+        final BufferRealMatrix recovered = (BufferRealMatrix) UnitTestUtils.serializeAndRecover(mapped);
+        Assert.assertFalse(recovered.isMapped());
+        Assert.assertEquals(mapped, recovered);
+    }
+
+    @Test
+    public void testWrongFiles() throws IOException {
+        final Path vector = folder.getRoot().toPath().resolve("vector.bin");
+        BufferRealVector.createMapped(vector, 10);
+        try {
+            BufferRealMatrix.openMapped(vector, false);
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalStateException mise) {
+            Assert.assertEquals(LocalizedCoreFormats.CANNOT_PARSE, mise.getSpecifier());
+        }
+
+        final Path truncated = folder.getRoot().toPath().resolve("truncated.bin");
+        BufferRealMatrix.createMapped(truncated, 10, 10);
+        try (FileChannel channel = FileChannel.open(truncated, StandardOpenOption.WRITE)) {
+            channel.truncate(32 + 99 * 8);
+        }
+        try {
+            BufferRealMatrix.openMapped(truncated, false);
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalStateException mise) {
+            Assert.assertEquals(LocalizedCoreFormats.DIMENSIONS_MISMATCH, mise.getSpecifier());
+        }
+
+        final Path empty = folder.newFile("empty.bin").toPath();
+        try {
+            BufferRealMatrix.openMapped(empty, false);
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalStateException mise) {
+            Assert.assertEquals(LocalizedCoreFormats.CANNOT_PARSE, mise.getSpecifier());
+        }
+    }
+
+    @Test
+    public void testWrongDimensions() {
+        try {
+            new BufferRealMatrix(0, 3);
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            Assert.assertEquals(LocalizedCoreFormats.AT_LEAST_ONE_ROW, miae.getSpecifier());
+        }
+        try {
+            new BufferRealMatrix(3, 0);
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            Assert.assertEquals(LocalizedCoreFormats.AT_LEAST_ONE_COLUMN, miae.getSpecifier());
+        }
+        try {
+            new BufferRealMatrix(1, 6000000);
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            Assert.assertEquals(LocalizedCoreFormats.NUMBER_TOO_LARGE, miae.getSpecifier());
+        }
+    }
+
+    private static void checkEquals(final RealMatrix expected, final RealMatrix m) {
+        Assert.assertEquals(expected.getRowDimension(),    m.getRowDimension());
+        Assert.assertEquals(expected.getColumnDimension(), m.getColumnDimension());
+        for (int i = 0; i < expected.getRowDimension(); ++i) {
+            for (int j = 0; j < expected.getColumnDimension(); ++j) {
+                Assert.assertEquals(expected.getEntry(i, j), m.getEntry(i, j),
+                                    1.0e-15 * FastMath.abs(expected.getEntry(i, j)));
+            }
+        }
+    }
+
+    private static RealMatrix createMatrix(final RandomGenerator random, final int m, final int n) {
+        final RealMatrix a = new Array2DRowRealMatrix(m, n);
+        for (int i = 0; i < m; ++i) {
+            for (int j = 0; j < n; ++j) {
+                a.setEntry(i, j, 2 * random.nextDouble() - 1);
+            }
+        }
+        return a;
+    }
+
+    private static class Sum extends DefaultRealMatrixPreservingVisitor {
+        private double sum;
+        private int count;
+        @Override
+        public void visit(int row, int column, double value) {
+            sum += value;
+            ++count;
+        }
+        @Override
+        public double end() {
+            return sum;
+        }
+    }
+
+    private static class Scaler extends DefaultRealMatrixChangingVisitor {
+        @Override
+        public double visit(int row, int column, double value) {
+            return 2 * value;
+        }
+    }
+
+}
@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hipparchus.linear;
+
+import java.io.IOException;
+import java.nio.ReadOnlyBufferException;
+import java.nio.file.Path;
+
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.exception.MathIllegalArgumentException;
+import org.hipparchus.exception.MathIllegalStateException;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class BufferRealVectorTest extends RealVectorAbstractTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Override
+    public RealVector create(final double[] data) {
+        return new BufferRealVector(data);
+    }
+
+    @Test
+    public void testConstructors() {
+        final double[] data = { 1.0, -2.0, 3.5 };
+        final BufferRealVector v = new BufferRealVector(data);
+        data[0] = 100.0;
+        Assert.assertArrayEquals(new double[] { 1.0, -2.0, 3.5 }, v.toArray(), 0.0);
+        Assert.assertFalse(v.isMapped());
+        Assert.assertFalse(v.isReadOnly());
+        Assert.assertEquals(new ArrayRealVector(v), new BufferRealVector(new ArrayRealVector(v)));
+        Assert.assertEquals(new ArrayRealVector(v).hashCode(), v.hashCode());
+        Assert.assertEquals(v, new BufferRealVector(new OpenMapRealVector(v)));
+        Assert.assertEquals(0, new BufferRealVector(0).getDimension());
+    }
+
+    @Test
+    public void testMapped() throws IOException {
+        final Path file = folder.getRoot().toPath().resolve("vector.bin");
+        final RealVector reference = new ArrayRealVector(new double[] { 1.0, 2.0, 3.0, 4.0, 5.0 });
+        final BufferRealVector written = BufferRealVector.createMapped(file, reference);
+        Assert.assertTrue(written.isMapped());
+        Assert.assertFalse(written.isReadOnly());
+        written.setEntry(2, -3.0);
+        written.force();
+        Assert.assertEquals(32 + 5 * 8, file.toFile().length());
+
+        final BufferRealVector readOnly = BufferRealVector.openMapped(file, false);
+        Assert.assertTrue(readOnly.isMapped());
+        Assert.assertTrue(readOnly.isReadOnly());
+        Assert.assertArrayEquals(new double[] { 1.0, 2.0, -3.0, 4.0, 5.0 }, readOnly.toArray(), 0.0);
+        try {
+            readOnly.setEntry(0, 1.0);
+            Assert.fail("an exception should have been thrown");
+        } catch (ReadOnlyBufferException robe) {
+            // expected
+        }
+
+        // changes through a writable mapping are seen by other mappings
+        final BufferRealVector writable = BufferRealVector.openMapped(file, true);
+        writable.addToEntry(4, 1.5);
+        Assert.assertEquals(6.5, readOnly.getEntry(4), 0.0);
+
+        // derived vectors are independent from the file
+        final BufferRealVector copy = readOnly.copy();
+        Assert.assertFalse(copy.isMapped());
+        copy.setEntry(4, 0.0);
+        Assert.assertEquals(6.5, readOnly.getEntry(4), 0.0);
+        Assert.assertFalse(readOnly.append(1.0).isMapped());
+
+        // new files are filled with zeros
+        final BufferRealVector zero = BufferRealVector.createMapped(folder.getRoot().toPath().resolve("zero.bin"), 7);
+        Assert.assertEquals(0.0, zero.getNorm(), 0.0);
+        Assert.assertEquals(7, zero.getDimension());
+
+    }
+
+    @Test
+    public void testWrongFiles() throws IOException {
+        final Path matrix = folder.getRoot().toPath().resolve("matrix.bin");
+        BufferRealMatrix.createMapped(matrix, 2, 2);
+        try {
+            BufferRealVector.openMapped(matrix, false);
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalStateException mise) {
+            Assert.assertEquals(LocalizedCoreFormats.CANNOT_PARSE, mise.getSpecifier());
+        }
+        try {
+            BufferRealVector.createMapped(folder.getRoot().toPath().resolve("empty.bin"), 0);
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            Assert.assertEquals(LocalizedCoreFormats.NUMBER_TOO_SMALL, miae.getSpecifier());
+        }
+    }
+
+}
@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hipparchus.linear;
+
+import org.hipparchus.complex.Complex;
+import org.hipparchus.exception.MathIllegalArgumentException;
+import org.hipparchus.random.RandomGenerator;
+import org.hipparchus.random.Well19937a;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ComplexLUDecompositionTest {
+
+    @Test
+    public void testPLU() {
+        final FieldMatrix<Complex> f = ComplexMatrixTest.randomMatrix(new Well19937a(0x6d15b3a8f40e27c9l), 9, 9);
+        final ComplexMatrix a = new ComplexMatrix(f);
+        final ComplexLUDecomposition lu = new ComplexLUDecomposition(a);
+        final ComplexMatrix l = lu.getL();
+        final ComplexMatrix u = lu.getU();
+        for (int i = 0; i < 9; ++i) {
+            Assert.assertEquals(Complex.ONE, l.getEntry(i, i));
+            for (int j = 0; j < i; ++j) {
+                Assert.assertEquals(Complex.ZERO, u.getEntry(i, j));
+                // partial pivoting bounds the multipliers
+                Assert.assertTrue(l.getEntry(i, j).norm() <= 1.0 + 1.0e-15);
+            }
+            for (int j = i + 1; j < 9; ++j) {
+                Assert.assertEquals(Complex.ZERO, l.getEntry(i, j));
+            }
+        }
+        final ComplexMatrix residual = lu.getP().multiply(a).subtract(l.multiply(u));
+        for (final double x : residual.getDataRef()) {
+            Assert.assertEquals(0.0, x, 1.0e-14);
+        }
+
+        // same determinant as the field decomposition
+        final Complex expected = new FieldLUDecomposition<>(f).getDeterminant();
+        Assert.assertEquals(0.0, expected.subtract(lu.getDeterminant()).norm(), 1.0e-14 * expected.norm());
+    }
+
+    @Test
+    public void testSolve() {
+        final RandomGenerator random = new Well19937a(0x2c84f7e31b96a0d5l);
+        final ComplexMatrix a = new ComplexMatrix(ComplexMatrixTest.randomMatrix(random, 12, 12));
+        final ComplexMatrix b = new ComplexMatrix(ComplexMatrixTest.randomMatrix(random, 12, 3));
+        final ComplexDecompositionSolver solver = new ComplexLUDecomposition(a).getSolver();
+        Assert.assertTrue(solver.isNonSingular());
+        Assert.assertEquals(12, solver.getRowDimension());
+        Assert.assertEquals(12, solver.getColumnDimension());
+
+        final ComplexMatrix x = solver.solve(b);
+        checkSmall(a.multiply(x).subtract(b), 1.0e-13);
+
+        final ComplexVector b0 = new ComplexVector(new ComplexMatrix(b.toFieldMatrix().getColumnMatrix(0)).getDataRef(), true);
+        final ComplexVector x0 = solver.solve(b0);
+        for (int i = 0; i < 12; ++i) {
+            Assert.assertEquals(x.getReal(i, 0),      x0.getReal(i),      1.0e-15);
+            Assert.assertEquals(x.getImaginary(i, 0), x0.getImaginary(i), 1.0e-15);
+        }
+
+        checkSmall(a.multiply(solver.getInverse()).subtract(ComplexMatrix.createIdentity(12)), 1.0e-13);
+
+        try {
+            solver.solve(new ComplexVector(11));
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testSingular() {
+        final ComplexMatrix a = new ComplexMatrix(new Complex[][] {
+            { new Complex(1, 1), new Complex(2, -1) },
+            { new Complex(2, 2), new Complex(4, -2) }
+        });
+        final ComplexLUDecomposition lu = new ComplexLUDecomposition(a);
+        Assert.assertFalse(lu.getSolver().isNonSingular());
+        Assert.assertNull(lu.getL());
+        Assert.assertNull(lu.getU());
+        Assert.assertNull(lu.getP());
+        Assert.assertEquals(Complex.ZERO, lu.getDeterminant());
+        try {
+            lu.getSolver().solve(new ComplexVector(2));
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            // expected
+        }
+    }
+
+    @Test(expected = MathIllegalArgumentException.class)
+    public void testNonSquare() {
+        new ComplexLUDecomposition(new ComplexMatrix(3, 2));
+    }
+
+    static void checkSmall(final ComplexMatrix m, final double tolerance) {
+        for (final double x : m.getDataRef()) {
+            Assert.assertEquals(0.0, x, tolerance);
+        }
+    }
+
+}
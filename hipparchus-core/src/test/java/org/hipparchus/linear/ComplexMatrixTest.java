@@ -0,0 +1,185 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hipparchus.linear;
+
+import java.util.concurrent.ForkJoinPool;
+
+import org.hipparchus.complex.Complex;
+import org.hipparchus.complex.ComplexField;
+import org.hipparchus.exception.MathIllegalArgumentException;
+import org.hipparchus.random.RandomGenerator;
+import org.hipparchus.random.Well19937a;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ComplexMatrixTest {
+
+    @Test
+    public void testEntries() {
+        final ComplexMatrix m = new ComplexMatrix(2, 3);
+        Assert.assertEquals(2, m.getRowDimension());
+        Assert.assertEquals(3, m.getColumnDimension());
+        Assert.assertFalse(m.isSquare());
+        m.setEntry(1, 2, new Complex(1.5, -2.5));
+        m.setEntry(0, 1, 3.0, 4.0);
+        Assert.assertEquals(new Complex(1.5, -2.5), m.getEntry(1, 2));
+        Assert.assertEquals(3.0, m.getReal(0, 1), 0.0);
+        Assert.assertEquals(4.0, m.getImaginary(0, 1), 0.0);
+        Assert.assertEquals(1.5,  m.getDataRef()[10], 0.0);
+        Assert.assertEquals(-2.5, m.getDataRef()[11], 0.0);
+        try {
+            m.getEntry(2, 0);
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            // expected
+        }
+        try {
+            new ComplexMatrix(2, 2, new double[7], false);
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            // expected
+        }
+        try {
+            new ComplexMatrix(0, 2);
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testFieldConversions() {
+        final FieldMatrix<Complex> f = randomMatrix(new Well19937a(0x7c1e04b95fd2a368l), 4, 5);
+        final ComplexMatrix m = new ComplexMatrix(f);
+        checkEquals(f, m, 0.0);
+        Assert.assertEquals(f, m.toFieldMatrix());
+        checkEquals(f, new ComplexMatrix(f.getData()), 0.0);
+    }
+
+    @Test
+    public void testArithmetic() {
+        final RandomGenerator random = new Well19937a(0x3e8a5d16c07b94f2l);
+        final FieldMatrix<Complex> a = randomMatrix(random, 4, 6);
+        final FieldMatrix<Complex> b = randomMatrix(random, 4, 6);
+        final Complex z = new Complex(0.25, -1.75);
+        final ComplexMatrix ca = new ComplexMatrix(a);
+        final ComplexMatrix cb = new ComplexMatrix(b);
+        checkEquals(a.add(b),            ca.add(cb),            1.0e-15);
+        checkEquals(a.subtract(b),       ca.subtract(cb),       1.0e-15);
+        checkEquals(a.scalarMultiply(z), ca.scalarMultiply(z),  1.0e-15);
+        checkEquals(a.transpose(),       ca.transpose(),        0.0);
+        checkEquals(a,                   ca,                    0.0);
+        final ComplexMatrix h = ca.conjugateTranspose();
+        for (int i = 0; i < 4; ++i) {
+            for (int j = 0; j < 6; ++j) {
+                Assert.assertEquals(a.getEntry(i, j).conjugate(), h.getEntry(j, i));
+            }
+        }
+
+        // in place operations
+        final ComplexMatrix c = ca.copy();
+        Assert.assertSame(c, c.addToSelf(cb));
+        Assert.assertSame(c, c.scalarMultiplyToSelf(z));
+        Assert.assertSame(c, c.subtractToSelf(cb));
+        checkEquals(a.add(b).scalarMultiply(z).subtract(b), c, 1.0e-15);
+        checkEquals(a, ca, 0.0);
+
+        try {
+            ca.add(new ComplexMatrix(6, 4));
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testMultiply() {
+        final RandomGenerator random = new Well19937a(0x92f0c6d1a85e3b47l);
+        // dimensions larger than tiles size, and not multiple of it
+        final FieldMatrix<Complex> a = randomMatrix(random, 70, 131);
+        final FieldMatrix<Complex> b = randomMatrix(random, 131, 67);
+        final ComplexMatrix ca = new ComplexMatrix(a);
+        final ComplexMatrix cb = new ComplexMatrix(b);
+        final ComplexMatrix product = ca.multiply(cb);
+        checkEquals(a.multiply(b), product, 1.0e-13);
+
+        // parallel multiplication gives exactly the same result
+        final ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            final ComplexMatrix parallel = ca.multiply(cb, pool);
+            Assert.assertArrayEquals(product.getDataRef(), parallel.getDataRef(), 0.0);
+        } finally {
+            pool.shutdown();
+        }
+
+        try {
+            ca.multiply(ca);
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testOperate() {
+        final RandomGenerator random = new Well19937a(0x5b27e9f4013cad86l);
+        final FieldMatrix<Complex> a = randomMatrix(random, 5, 3);
+        final FieldVector<Complex> v = new ArrayFieldVector<>(randomMatrix(random, 1, 3).getRow(0));
+        final ComplexVector product = new ComplexMatrix(a).operate(new ComplexVector(v));
+        final FieldVector<Complex> expected = a.operate(v);
+        Assert.assertEquals(expected.getDimension(), product.getDimension());
+        for (int i = 0; i < expected.getDimension(); ++i) {
+            Assert.assertEquals(0.0, expected.getEntry(i).subtract(product.getEntry(i)).norm(), 1.0e-15);
+        }
+        try {
+            new ComplexMatrix(a).operate(new ComplexVector(5));
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testIdentity() {
+        final ComplexMatrix id = ComplexMatrix.createIdentity(3);
+        final ComplexMatrix m  = new ComplexMatrix(randomMatrix(new Well19937a(0x14ad93c7e2b05f68l), 3, 3));
+        Assert.assertArrayEquals(m.getDataRef(), id.multiply(m).getDataRef(), 0.0);
+        Assert.assertArrayEquals(m.getDataRef(), m.multiply(id).getDataRef(), 0.0);
+    }
+
+    static FieldMatrix<Complex> randomMatrix(final RandomGenerator random, final int rows, final int columns) {
+        final FieldMatrix<Complex> m = new Array2DRowFieldMatrix<>(ComplexField.getInstance(), rows, columns);
+        for (int i = 0; i < rows; ++i) {
+            for (int j = 0; j < columns; ++j) {
+                m.setEntry(i, j, new Complex(2 * random.nextDouble() - 1, 2 * random.nextDouble() - 1));
+            }
+        }
+        return m;
+    }
+
+    static void checkEquals(final FieldMatrix<Complex> expected, final ComplexMatrix actual, final double tolerance) {
+        Assert.assertEquals(expected.getRowDimension(),    actual.getRowDimension());
+        Assert.assertEquals(expected.getColumnDimension(), actual.getColumnDimension());
+        for (int i = 0; i < expected.getRowDimension(); ++i) {
+            for (int j = 0; j < expected.getColumnDimension(); ++j) {
+                Assert.assertEquals(expected.getEntry(i, j).getReal(),      actual.getReal(i, j),      tolerance);
+                Assert.assertEquals(expected.getEntry(i, j).getImaginary(), actual.getImaginary(i, j), tolerance);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hipparchus.linear;
+
+import org.hipparchus.complex.Complex;
+import org.hipparchus.exception.MathIllegalArgumentException;
+import org.hipparchus.random.RandomGenerator;
+import org.hipparchus.random.Well19937a;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ComplexQRDecompositionTest {
+
+    @Test
+    public void testSquare() {
+        doTestQR(new Well19937a(0x81e6c2f5b90d4a37l), 8, 8);
+    }
+
+    @Test
+    public void testTall() {
+        doTestQR(new Well19937a(0x4f3a07d9e165c2b8l), 11, 6);
+    }
+
+    @Test
+    public void testWide() {
+        doTestQR(new Well19937a(0xb52d8e14a7c3069fl), 4, 7);
+    }
+
+    private void doTestQR(final RandomGenerator random, final int m, final int n) {
+        final ComplexMatrix a = new ComplexMatrix(ComplexMatrixTest.randomMatrix(random, m, n));
+        final ComplexQRDecomposition qr = new ComplexQRDecomposition(a);
+        final ComplexMatrix q = qr.getQ();
+        final ComplexMatrix r = qr.getR();
+        Assert.assertEquals(m, q.getRowDimension());
+        Assert.assertEquals(m, q.getColumnDimension());
+        Assert.assertEquals(m, r.getRowDimension());
+        Assert.assertEquals(n, r.getColumnDimension());
+        for (int i = 0; i < m; ++i) {
+            for (int j = 0; j < i && j < n; ++j) {
+                Assert.assertEquals(Complex.ZERO, r.getEntry(i, j));
+            }
+        }
+        ComplexLUDecompositionTest.checkSmall(q.conjugateTranspose().multiply(q).subtract(ComplexMatrix.createIdentity(m)),
+                                              1.0e-14);
+        ComplexLUDecompositionTest.checkSmall(q.multiply(r).subtract(a), 1.0e-14);
+    }
+
+    @Test
+    public void testSolve() {
+        final RandomGenerator random = new Well19937a(0x0c9e5b7a32f18d64l);
+        final ComplexMatrix a = new ComplexMatrix(ComplexMatrixTest.randomMatrix(random, 10, 10));
+        final ComplexMatrix b = new ComplexMatrix(ComplexMatrixTest.randomMatrix(random, 10, 4));
+        final ComplexDecompositionSolver solver = new ComplexQRDecomposition(a).getSolver();
+        Assert.assertTrue(solver.isNonSingular());
+        ComplexLUDecompositionTest.checkSmall(a.multiply(solver.solve(b)).subtract(b), 1.0e-13);
+        ComplexLUDecompositionTest.checkSmall(solver.getInverse().subtract(new ComplexLUDecomposition(a).getSolver().getInverse()),
+                                              1.0e-12);
+    }
+
+    @Test
+    public void testLeastSquares() {
+        // fit b ≈ a x in least squares sense, the residual must be orthogonal to the columns of a
+        final RandomGenerator random = new Well19937a(0xe7d4163bc0a95f21l);
+        final ComplexMatrix a = new ComplexMatrix(ComplexMatrixTest.randomMatrix(random, 15, 4));
+        final ComplexVector b = new ComplexVector(ComplexMatrixTest.randomMatrix(random, 1, 15).getRow(0));
+        final ComplexVector x = new ComplexQRDecomposition(a).getSolver().solve(b);
+        Assert.assertEquals(4, x.getDimension());
+        final ComplexVector residual = a.operate(x).subtract(b);
+        final ComplexVector normal   = a.conjugateTranspose().operate(residual);
+        for (final double d : normal.getDataRef()) {
+            Assert.assertEquals(0.0, d, 1.0e-14);
+        }
+    }
+
+    @Test
+    public void testSingular() {
+        final ComplexMatrix a = new ComplexMatrix(new Complex[][] {
+            { new Complex(1, 1), new Complex(2, -1), Complex.ZERO },
+            { new Complex(2, 2), new Complex(4, -2), Complex.ZERO },
+            { new Complex(0, 1), Complex.ONE,        Complex.ZERO }
+        });
+        final ComplexDecompositionSolver solver = new ComplexQRDecomposition(a, 1.0e-12).getSolver();
+        Assert.assertFalse(solver.isNonSingular());
+        try {
+            solver.solve(new ComplexVector(3));
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            // expected
+        }
+    }
+
+}
@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hipparchus.linear;
+
+import org.hipparchus.complex.Complex;
+import org.hipparchus.exception.MathIllegalArgumentException;
+import org.hipparchus.random.RandomGenerator;
+import org.hipparchus.random.Well19937a;
+import org.hipparchus.util.FastMath;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ComplexVectorTest {
+
+    @Test
+    public void testEntries() {
+        final ComplexVector v = new ComplexVector(3);
+        Assert.assertEquals(3, v.getDimension());
+        v.setEntry(2, new Complex(1.0, -2.0));
+        v.setEntry(0, 3.0, 4.0);
+        Assert.assertEquals(new Complex(1.0, -2.0), v.getEntry(2));
+        Assert.assertEquals(3.0, v.getReal(0), 0.0);
+        Assert.assertEquals(4.0, v.getImaginary(0), 0.0);
+        Assert.assertArrayEquals(new double[] { 3, 4, 0, 0, 1, -2 }, v.getDataRef(), 0.0);
+        Assert.assertEquals(FastMath.sqrt(30.0), v.getNorm(), 1.0e-15);
+        try {
+            v.getEntry(3);
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            // expected
+        }
+        try {
+            new ComplexVector(new double[5], false);
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testArithmetic() {
+        final RandomGenerator random = new Well19937a(0xa4f2d8c61e937b05l);
+        final FieldVector<Complex> u = randomVector(random, 7);
+        final FieldVector<Complex> v = randomVector(random, 7);
+        final Complex z = new Complex(-0.5, 1.25);
+        final ComplexVector cu = new ComplexVector(u);
+        final ComplexVector cv = new ComplexVector(v);
+        Assert.assertEquals(u, cu.toFieldVector());
+        checkEquals(u.add(v),         cu.add(cv),         1.0e-15);
+        checkEquals(u.subtract(v),    cu.subtract(cv),    1.0e-15);
+        checkEquals(u.mapMultiply(z), cu.mapMultiply(z),  1.0e-15);
+        Assert.assertEquals(0.0, u.dotProduct(v).subtract(cu.dotProduct(cv)).norm(), 1.0e-15);
+
+        Complex hermitian = Complex.ZERO;
+        for (int i = 0; i < u.getDimension(); ++i) {
+            hermitian = hermitian.add(u.getEntry(i).conjugate().multiply(v.getEntry(i)));
+        }
+        Assert.assertEquals(0.0, hermitian.subtract(cu.conjugateDotProduct(cv)).norm(), 1.0e-15);
+        Assert.assertEquals(0.0, cu.conjugateDotProduct(cu).getImaginary(), 1.0e-15);
+        Assert.assertEquals(cu.getNorm() * cu.getNorm(), cu.conjugateDotProduct(cu).getReal(), 1.0e-14);
+
+        final ComplexVector c = cu.copy();
+        Assert.assertSame(c, c.addToSelf(cv).mapMultiplyToSelf(z).subtractToSelf(cv));
+        checkEquals(u.add(v).mapMultiply(z).subtract(v), c, 1.0e-15);
+        checkEquals(u, cu, 0.0);
+
+        try {
+            cu.add(new ComplexVector(6));
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            // expected
+        }
+    }
+
+    private static FieldVector<Complex> randomVector(final RandomGenerator random, final int size) {
+        return new ArrayFieldVector<>(ComplexMatrixTest.randomMatrix(random, 1, size).getRow(0));
+    }
+
+    static void checkEquals(final FieldVector<Complex> expected, final ComplexVector actual, final double tolerance) {
+        Assert.assertEquals(expected.getDimension(), actual.getDimension());
+        for (int i = 0; i < expected.getDimension(); ++i) {
+            Assert.assertEquals(expected.getEntry(i).getReal(),      actual.getReal(i),      tolerance);
+            Assert.assertEquals(expected.getEntry(i).getImaginary(), actual.getImaginary(i), tolerance);
+        }
+    }
+
+}
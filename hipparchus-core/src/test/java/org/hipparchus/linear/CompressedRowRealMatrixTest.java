@@ -0,0 +1,247 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hipparchus.linear;
+
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.exception.MathIllegalArgumentException;
+import org.hipparchus.exception.MathRuntimeException;
+import org.hipparchus.random.RandomGenerator;
+import org.hipparchus.random.Well1024a;
+import org.hipparchus.util.FastMath;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class CompressedRowRealMatrixTest {
+
+    @Test
+    public void testBuilderMergesAndSorts() {
+        final CompressedRowRealMatrix m = CompressedRowRealMatrix.builder(3, 4).
+                                          addEntry(2, 3, 1.0).
+                                          addEntry(0, 2, 2.0).
+                                          addEntry(0, 0, 3.0).
+                                          addEntry(2, 3, 4.0).
+                                          addEntry(1, 1, 5.0).
+                                          addEntry(1, 1, -5.0).
+                                          build();
+        Assert.assertEquals(3, m.getRowDimension());
+        Assert.assertEquals(4, m.getColumnDimension());
+        Assert.assertEquals(3, m.getNonZeros());
+        Assert.assertEquals(3.0, m.getEntry(0, 0), 0.0);
+        Assert.assertEquals(0.0, m.getEntry(0, 1), 0.0);
+        Assert.assertEquals(2.0, m.getEntry(0, 2), 0.0);
+        Assert.assertEquals(0.0, m.getEntry(1, 1), 0.0);
+        Assert.assertEquals(5.0, m.getEntry(2, 3), 0.0);
+        Assert.assertArrayEquals(new int[] { 0, 2, 2, 3 }, m.getRowStartRef());
+        Assert.assertArrayEquals(new int[] { 0, 2, 3 }, m.getColumnIndexRef());
+    }
+
+    @Test
+    public void testBuilderWrongIndices() {
+        final CompressedRowRealMatrix.CompressedRowRealMatrixBuilder builder =
+                        CompressedRowRealMatrix.builder(2, 3);
+        try {
+            builder.addEntry(2, 0, 1.0);
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            Assert.assertEquals(LocalizedCoreFormats.ROW_INDEX, miae.getSpecifier());
+        }
+        try {
+            builder.addEntry(0, -1, 1.0);
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            Assert.assertEquals(LocalizedCoreFormats.COLUMN_INDEX, miae.getSpecifier());
+        }
+        try {
+            CompressedRowRealMatrix.builder(0, 3);
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            Assert.assertEquals(LocalizedCoreFormats.AT_LEAST_ONE_ROW, miae.getSpecifier());
+        }
+    }
+
+    @Test
+    public void testHugeDimensions() {
+        // rows * columns exceeds Integer.MAX_VALUE, which OpenMapRealMatrix does not support
+        final int n = 1000000;
+        final CompressedRowRealMatrix.CompressedRowRealMatrixBuilder builder =
+                        CompressedRowRealMatrix.builder(n, n);
+        for (int i = 0; i < n; i += 1000) {
+            builder.addEntry(i, n - 1 - i, i + 1);
+        }
+        final CompressedRowRealMatrix m = builder.build();
+        Assert.assertEquals(1000, m.getNonZeros());
+        final double[] x = new double[n];
+        x[n - 1] = 2.0;
+        Assert.assertEquals(2.0, m.operate(x)[0], 0.0);
+        Assert.assertEquals(1001.0, m.transpose().getEntry(n - 1001, 1000), 0.0);
+    }
+
+    @Test
+    public void testConversion() {
+        final RealMatrix dense = createRandomSparse(new Well1024a(0x6f2a3d4b1c7e9805l), 17, 23, 0.2);
+        final CompressedRowRealMatrix sparse = new CompressedRowRealMatrix(dense);
+        Assert.assertEquals(0.0, dense.subtract(sparse).getNorm1(), 0.0);
+        Assert.assertEquals(dense, sparse);
+        Assert.assertSame(sparse.getValuesRef(), sparse.copy().getValuesRef());
+        Assert.assertArrayEquals(dense.getRow(5), sparse.getRow(5), 0.0);
+    }
+
+    @Test
+    public void testImmutable() {
+        final CompressedRowRealMatrix m = CompressedRowRealMatrix.builder(2, 2).addEntry(0, 0, 1.0).build();
+        try {
+            m.setEntry(0, 0, 2.0);
+            Assert.fail("an exception should have been thrown");
+        } catch (MathRuntimeException mre) {
+            Assert.assertEquals(LocalizedCoreFormats.UNSUPPORTED_OPERATION, mre.getSpecifier());
+        }
+        try {
+            m.addToEntry(0, 0, 2.0);
+            Assert.fail("an exception should have been thrown");
+        } catch (MathRuntimeException mre) {
+            Assert.assertEquals(LocalizedCoreFormats.UNSUPPORTED_OPERATION, mre.getSpecifier());
+        }
+        try {
+            m.multiplyEntry(0, 0, 2.0);
+            Assert.fail("an exception should have been thrown");
+        } catch (MathRuntimeException mre) {
+            Assert.assertEquals(LocalizedCoreFormats.UNSUPPORTED_OPERATION, mre.getSpecifier());
+        }
+        // operations creating new matrices are still allowed
+        Assert.assertEquals(3.0, m.scalarAdd(2.0).getEntry(0, 0), 0.0);
+        Assert.assertEquals(0, m.scalarMultiply(0.0).getNonZeros());
+        Assert.assertEquals(-2.0, m.scalarMultiply(-2.0).getEntry(0, 0), 0.0);
+    }
+
+    @Test
+    public void testOperate() {
+        final RandomGenerator random = new Well1024a(0x3e9b2c5a0d8f7146l);
+        final RealMatrix dense = createRandomSparse(random, 31, 19, 0.15);
+        final CompressedRowRealMatrix sparse = new CompressedRowRealMatrix(dense);
+        final double[] x = new double[19];
+        final double[] y = new double[31];
+        for (int i = 0; i < x.length; ++i) {
+            x[i] = random.nextDouble();
+        }
+        for (int i = 0; i < y.length; ++i) {
+            y[i] = random.nextDouble();
+        }
+        Assert.assertArrayEquals(dense.operate(x), sparse.operate(x), 1.0e-15);
+        Assert.assertArrayEquals(dense.preMultiply(y), sparse.preMultiply(y), 1.0e-15);
+        Assert.assertArrayEquals(dense.operate(x),
+                                 sparse.operate(new OpenMapRealVector(x)).toArray(), 1.0e-15);
+        Assert.assertArrayEquals(dense.preMultiply(y),
+                                 sparse.operateTranspose(new ArrayRealVector(y)).toArray(), 1.0e-15);
+        Assert.assertTrue(sparse.isTransposable());
+        try {
+            sparse.operate(y);
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            Assert.assertEquals(LocalizedCoreFormats.DIMENSIONS_MISMATCH, miae.getSpecifier());
+        }
+        try {
+            sparse.preMultiply(x);
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            Assert.assertEquals(LocalizedCoreFormats.DIMENSIONS_MISMATCH, miae.getSpecifier());
+        }
+    }
+
+    @Test
+    public void testTranspose() {
+        final RealMatrix dense = createRandomSparse(new Well1024a(0x48d1e6f0a27c3b95l), 13, 29, 0.3);
+        final CompressedRowRealMatrix transposed = new CompressedRowRealMatrix(dense).transpose();
+        Assert.assertEquals(0.0, dense.transpose().subtract(transposed).getNorm1(), 0.0);
+        checkSortedRows(transposed);
+    }
+
+    @Test
+    public void testMultiply() {
+        final RandomGenerator random = new Well1024a(0x91c7f35e2b0a4d68l);
+        for (int rows = 1; rows < 40; rows += 13) {
+            for (int interm = 1; interm < 40; interm += 11) {
+                for (int cols = 1; cols < 40; cols += 7) {
+                    final RealMatrix a = createRandomSparse(random, rows, interm, 0.2);
+                    final RealMatrix b = createRandomSparse(random, interm, cols, 0.2);
+                    final RealMatrix reference = a.multiply(b);
+                    final CompressedRowRealMatrix sa = new CompressedRowRealMatrix(a);
+                    final CompressedRowRealMatrix sb = new CompressedRowRealMatrix(b);
+                    final RealMatrix sparseProduct = sa.multiply(sb);
+                    Assert.assertTrue(sparseProduct instanceof CompressedRowRealMatrix);
+                    checkSortedRows((CompressedRowRealMatrix) sparseProduct);
+                    Assert.assertEquals(0.0, reference.subtract(sparseProduct).getNorm1(), 1.0e-14);
+                    Assert.assertEquals(0.0, reference.subtract(sa.multiply(b)).getNorm1(), 1.0e-14);
+                    Assert.assertEquals(0.0, reference.subtract(sa.multiply(new BlockRealMatrix(b.getData()))).getNorm1(), 1.0e-14);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testMultiplyWrongDimensions() {
+        try {
+            CompressedRowRealMatrix.builder(2, 3).build().multiply(CompressedRowRealMatrix.builder(2, 3).build());
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            Assert.assertEquals(LocalizedCoreFormats.DIMENSIONS_MISMATCH, miae.getSpecifier());
+        }
+    }
+
+    @Test
+    public void testConjugateGradient() {
+        // 1D Poisson problem
+        final int n = 200;
+        final CompressedRowRealMatrix.CompressedRowRealMatrixBuilder builder =
+                        CompressedRowRealMatrix.builder(n, n);
+        for (int i = 0; i < n; ++i) {
+            builder.addEntry(i, i, 2.0);
+            if (i > 0) {
+                builder.addEntry(i, i - 1, -1.0);
+                builder.addEntry(i - 1, i, -1.0);
+            }
+        }
+        final CompressedRowRealMatrix a = builder.build();
+        final RealVector b = new ArrayRealVector(n, 1.0);
+        final RealVector x = new ConjugateGradient(2 * n, 1.0e-12, false).solve(a, b);
+        Assert.assertEquals(0.0, a.operate(x).subtract(b).getNorm(), 1.0e-9);
+    }
+
+    private void checkSortedRows(final CompressedRowRealMatrix m) {
+        final int[] rowStart    = m.getRowStartRef();
+        final int[] columnIndex = m.getColumnIndexRef();
+        for (int i = 0; i < m.getRowDimension(); ++i) {
+            for (int k = rowStart[i] + 1; k < rowStart[i + 1]; ++k) {
+                Assert.assertTrue(columnIndex[k - 1] < columnIndex[k]);
+            }
+        }
+    }
+
+    private RealMatrix createRandomSparse(final RandomGenerator random,
+                                         final int rows, final int columns,
+                                         final double density) {
+        final RealMatrix m = new Array2DRowRealMatrix(rows, columns);
+        for (int i = 0; i < rows; ++i) {
+            for (int j = 0; j < columns; ++j) {
+                if (random.nextDouble() < density) {
+                    m.setEntry(i, j, FastMath.floor(20 * random.nextDouble() - 10) + 0.5);
+                }
+            }
+        }
+        return m;
+    }
+
+}
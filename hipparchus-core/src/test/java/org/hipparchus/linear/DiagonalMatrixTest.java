@@ -477,4 +477,59 @@ public class DiagonalMatrixTest {
                 MatrixUtils.createRealIdentityMatrix(data.length), result, Math.ulp(1d));
     }
 
+    @Test
+    public void testIntoOperations() {
+        final DiagonalMatrix a = new DiagonalMatrix(new double[] { 1.0, -2.0, 3.0 });
+        final DiagonalMatrix b = new DiagonalMatrix(new double[] { 0.5, 4.0, -1.0 });
+        final RealMatrix     m = new Array2DRowRealMatrix(new double[][] {
+            { 1.0, 2.0 }, { 3.0, 4.0 }, { 5.0, 6.0 }
+        });
+
+        final DiagonalMatrix out = new DiagonalMatrix(3);
+        a.add(b, out);
+        Assert.assertArrayEquals(new double[] { 1.5, 2.0, 2.0 }, out.getDataRef(), 0.0);
+        a.subtract(b, out);
+        Assert.assertArrayEquals(new double[] { 0.5, -6.0, 4.0 }, out.getDataRef(), 0.0);
+        a.scalarMultiply(2.0, out);
+        Assert.assertArrayEquals(new double[] { 2.0, -4.0, 6.0 }, out.getDataRef(), 0.0);
+        a.multiply(b, out);
+        Assert.assertArrayEquals(new double[] { 0.5, -8.0, -3.0 }, out.getDataRef(), 0.0);
+        a.transpose(out);
+        Assert.assertArrayEquals(a.getDataRef(), out.getDataRef(), 0.0);
+
+        final RealMatrix product = new Array2DRowRealMatrix(3, 2);
+        a.multiply(m, product);
+        Assert.assertEquals(0.0, product.subtract(a.multiply(m)).getNorm1(), 0.0);
+
+        final RealMatrix full = new BlockRealMatrix(3, 3);
+        full.setEntry(0, 1, 17.0);
+        a.add(b, full);
+        Assert.assertEquals(0.0, full.subtract(a.add(b)).getNorm1(), 0.0);
+        a.transpose(full);
+        Assert.assertEquals(0.0, full.subtract(a).getNorm1(), 0.0);
+
+        final double[] v = { 1.0, 1.0, 2.0 };
+        final double[] w = new double[3];
+        a.operate(v, w);
+        Assert.assertArrayEquals(new double[] { 1.0, -2.0, 6.0 }, w, 0.0);
+        a.preMultiply(w, w);
+        Assert.assertArrayEquals(new double[] { 1.0, 4.0, 18.0 }, w, 0.0);
+
+        // a diagonal destination cannot hold a full result
+        try {
+            a.add(MatrixUtils.createRealMatrix(new double[][] {
+                { 0, 1, 0 }, { 0, 0, 0 }, { 0, 0, 0 }
+            }), out);
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            Assert.assertEquals(LocalizedCoreFormats.NUMBER_TOO_LARGE, miae.getSpecifier());
+        }
+        try {
+            a.operate(v, new double[2]);
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            Assert.assertEquals(LocalizedCoreFormats.DIMENSIONS_MISMATCH, miae.getSpecifier());
+        }
+    }
+
 }
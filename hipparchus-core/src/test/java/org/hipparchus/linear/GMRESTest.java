@@ -0,0 +1,187 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hipparchus.linear;
+
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.exception.MathIllegalArgumentException;
+import org.hipparchus.exception.MathIllegalStateException;
+import org.hipparchus.util.IterationEvent;
+import org.hipparchus.util.IterationListener;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class GMRESTest {
+
+    @Test
+    public void testUnpreconditioned() {
+        final CompressedRowRealMatrix a = convectionDiffusion(20, 0.8);
+        final RealVector b = rightHandSide(a.getRowDimension());
+        final GMRES solver = new GMRES(2000, 20, 1.0e-10);
+        final RealVector x = solver.solve(a, b);
+        Assert.assertEquals(0.0, b.subtract(a.operate(x)).getNorm(), 1.0e-10 * b.getNorm());
+        Assert.assertEquals(20, solver.getRestart());
+    }
+
+    @Test
+    public void testPreconditioned() {
+        final CompressedRowRealMatrix a = convectionDiffusion(20, 0.8);
+        final RealVector b = rightHandSide(a.getRowDimension());
+        final RealVector x0 = new ArrayRealVector(a.getRowDimension());
+
+        final GMRES plain = new GMRES(2000, 20, 1.0e-10);
+        plain.solve(a, null, b, x0);
+        final int plainIterations = plain.getIterationManager().getIterations();
+
+        final GMRES preconditioned = new GMRES(2000, 20, 1.0e-10);
+        final RealVector x = preconditioned.solve(a, new IncompleteLUPreconditioner(a), b, x0);
+        final int preconditionedIterations = preconditioned.getIterationManager().getIterations();
+
+        Assert.assertEquals(0.0, b.subtract(a.operate(x)).getNorm(), 1.0e-10 * b.getNorm());
+        Assert.assertTrue(preconditionedIterations * 3 < plainIterations);
+    }
+
+    @Test
+    public void testSmallRestart() {
+        final CompressedRowRealMatrix a = convectionDiffusion(6, 0.5);
+        final RealVector b = rightHandSide(a.getRowDimension());
+        final RealVector x = new GMRES(5000, 1, 1.0e-10).solve(a, b);
+        Assert.assertEquals(0.0, b.subtract(a.operate(x)).getNorm(), 1.0e-10 * b.getNorm());
+    }
+
+    @Test
+    public void testExactInitialGuess() {
+        final CompressedRowRealMatrix a = convectionDiffusion(5, 0.5);
+        final RealVector x = rightHandSide(a.getRowDimension());
+        final RealVector b = a.operate(x);
+        final GMRES solver = new GMRES(10, 5, 1.0e-10);
+        final RealVector y = solver.solve(a, b, x);
+        Assert.assertEquals(0.0, y.subtract(x).getNorm(), 0.0);
+        Assert.assertEquals(1, solver.getIterationManager().getIterations());
+    }
+
+    @Test
+    public void testEvents() {
+        final CompressedRowRealMatrix a = convectionDiffusion(10, 0.8);
+        final RealVector b = rightHandSide(a.getRowDimension());
+        final GMRES solver = new GMRES(2000, 15, 1.0e-10);
+        final int[] count = new int[4];
+        final double[] lastNorm = new double[] { Double.POSITIVE_INFINITY };
+        solver.getIterationManager().addIterationListener(new IterationListener() {
+            @Override
+            public void initializationPerformed(final IterationEvent e) {
+                ++count[0];
+                Assert.assertTrue(((IterativeLinearSolverEvent) e).providesResidual());
+            }
+            @Override
+            public void iterationStarted(final IterationEvent e) {
+                ++count[1];
+            }
+            @Override
+            public void iterationPerformed(final IterationEvent e) {
+                ++count[2];
+                final double norm = ((IterativeLinearSolverEvent) e).getNormOfResidual();
+                // within a cycle, GMRES residual never increases
+                if (e.getIterations() > 2 && (e.getIterations() - 2) % 15 != 0) {
+                    Assert.assertTrue(norm <= lastNorm[0] * (1 + 1.0e-12));
+                }
+                lastNorm[0] = norm;
+            }
+            @Override
+            public void terminationPerformed(final IterationEvent e) {
+                ++count[3];
+                final IterativeLinearSolverEvent evt = (IterativeLinearSolverEvent) e;
+                Assert.assertTrue(evt.getNormOfResidual() <= 1.0e-10 * b.getNorm());
+                Assert.assertEquals(evt.getNormOfResidual(), evt.getResidual().getNorm(), 1.0e-15);
+            }
+        });
+        solver.solve(a, b);
+        Assert.assertEquals(1, count[0]);
+        Assert.assertEquals(solver.getIterationManager().getIterations() - 1, count[1]);
+        Assert.assertEquals(count[1], count[2]);
+        Assert.assertEquals(1, count[3]);
+    }
+
+    @Test
+    public void testMaxIterations() {
+        final CompressedRowRealMatrix a = convectionDiffusion(20, 0.8);
+        try {
+            new GMRES(10, 5, 1.0e-10).solve(a, rightHandSide(a.getRowDimension()));
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalStateException mise) {
+            Assert.assertEquals(LocalizedCoreFormats.MAX_COUNT_EXCEEDED, mise.getSpecifier());
+        }
+    }
+
+    @Test
+    public void testWrongRestart() {
+        try {
+            new GMRES(10, 0, 1.0e-10);
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            Assert.assertEquals(LocalizedCoreFormats.NUMBER_TOO_SMALL, miae.getSpecifier());
+        }
+    }
+
+    @Test(expected = MathIllegalArgumentException.class)
+    public void testNonSquareOperator() {
+        new GMRES(10, 5, 0.).solve(new Array2DRowRealMatrix(2, 3), new ArrayRealVector(2));
+    }
+
+    /** Build the five points discretization of a two-dimensional convection-diffusion
+     * problem on a square grid with Dirichlet boundary conditions.
+     * @param nx number of grid points along each axis
+     * @param c ratio between convection and diffusion terms on one cell (below 1 for an M-matrix)
+     * @return non-symmetric sparse matrix with nx<sup>2</sup> rows
+     */
+    static CompressedRowRealMatrix convectionDiffusion(final int nx, final double c) {
+        final int n = nx * nx;
+        final CompressedRowRealMatrix.CompressedRowRealMatrixBuilder builder =
+                        CompressedRowRealMatrix.builder(n, n);
+        for (int i = 0; i < nx; ++i) {
+            for (int j = 0; j < nx; ++j) {
+                final int k = i * nx + j;
+                builder.addEntry(k, k, 4.0);
+                if (j > 0) {
+                    builder.addEntry(k, k - 1, -1.0 - c);
+                }
+                if (j < nx - 1) {
+                    builder.addEntry(k, k + 1, -1.0 + c);
+                }
+                if (i > 0) {
+                    builder.addEntry(k, k - nx, -1.0);
+                }
+                if (i < nx - 1) {
+                    builder.addEntry(k, k + nx, -1.0);
+                }
+            }
+        }
+        return builder.build();
+    }
+
+    /** Build a right-hand side.
+     * @param n dimension
+     * @return right-hand side
+     */
+    static RealVector rightHandSide(final int n) {
+        final RealVector b = new ArrayRealVector(n);
+        for (int i = 0; i < n; ++i) {
+            b.setEntry(i, 1.0 + (i % 5) * 0.25);
+        }
+        return b;
+    }
+
+}
@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hipparchus.linear;
+
+import org.hipparchus.analysis.differentiation.Gradient;
+import org.hipparchus.random.RandomGenerator;
+
+public class GradientFieldMatrixTest extends PlanesFieldAbstractTest<Gradient> {
+
+    /** Number of free parameters. */
+    private static final int PARAMETERS = 3;
+
+    @Override
+    protected Gradient randomElement(final RandomGenerator random) {
+        return new Gradient(2 * random.nextDouble() - 1,
+                            2 * random.nextDouble() - 1, 2 * random.nextDouble() - 1,
+                            2 * random.nextDouble() - 1);
+    }
+
+    @Override
+    protected AbstractPlanesFieldMatrix<Gradient> createMatrix(final int rows, final int columns) {
+        return new GradientFieldMatrix(PARAMETERS, rows, columns);
+    }
+
+    @Override
+    protected AbstractPlanesFieldMatrix<Gradient> toPlanes(final FieldMatrix<Gradient> m) {
+        return new GradientFieldMatrix(m);
+    }
+
+    @Override
+    protected AbstractPlanesFieldVector<Gradient> toPlanes(final FieldVector<Gradient> v) {
+        return new GradientFieldVector(v);
+    }
+
+}
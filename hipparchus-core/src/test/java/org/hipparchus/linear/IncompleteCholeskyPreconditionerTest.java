@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hipparchus.linear;
+
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.exception.MathIllegalArgumentException;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class IncompleteCholeskyPreconditionerTest {
+
+    @Test
+    public void testExactWithoutFillIn() {
+        // the Cholesky factor of a tridiagonal matrix has no fill-in, so IC(0) is a complete factorization
+        final int n = 30;
+        final CompressedRowRealMatrix.CompressedRowRealMatrixBuilder builder = CompressedRowRealMatrix.builder(n, n);
+        for (int i = 0; i < n; ++i) {
+            builder.addEntry(i, i, 2.5);
+            if (i > 0) {
+                builder.addEntry(i, i - 1, -1.0);
+                builder.addEntry(i - 1, i, -1.0);
+            }
+        }
+        final CompressedRowRealMatrix a = builder.build();
+        final IncompleteCholeskyPreconditioner m = new IncompleteCholeskyPreconditioner(a);
+        Assert.assertEquals(n, m.getRowDimension());
+        Assert.assertEquals(n, m.getColumnDimension());
+        final RealVector x = GMRESTest.rightHandSide(n);
+        Assert.assertEquals(0.0, m.operate(a.operate(x)).subtract(x).getNorm(), 1.0e-13);
+    }
+
+    @Test
+    public void testMatchesOnPattern() {
+        final CompressedRowRealMatrix a = GMRESTest.convectionDiffusion(6, 0.0);
+        final IncompleteCholeskyPreconditioner m = new IncompleteCholeskyPreconditioner(a);
+
+        // rebuild L.LT from the preconditioner, using its action on canonical vectors
+        final int n = a.getRowDimension();
+        final RealMatrix inverse = new Array2DRowRealMatrix(n, n);
+        for (int j = 0; j < n; ++j) {
+            final RealVector e = new ArrayRealVector(n);
+            e.setEntry(j, 1.0);
+            inverse.setColumnVector(j, m.operate(e));
+        }
+        Assert.assertTrue(MatrixUtils.isSymmetric(inverse, 1.0e-12));
+        final RealMatrix llt = new LUDecomposition(inverse).getSolver().getInverse();
+        for (int i = 0; i < n; ++i) {
+            for (int j = 0; j < n; ++j) {
+                if (a.getEntry(i, j) != 0) {
+                    Assert.assertEquals(a.getEntry(i, j), llt.getEntry(i, j), 1.0e-12);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testConjugateGradient() {
+        final CompressedRowRealMatrix a = GMRESTest.convectionDiffusion(30, 0.0);
+        final RealVector b = GMRESTest.rightHandSide(a.getRowDimension());
+        final RealVector x0 = new ArrayRealVector(a.getRowDimension());
+
+        final ConjugateGradient plain = new ConjugateGradient(1000, 1.0e-10, true);
+        plain.solve(a, null, b, x0);
+        final int plainIterations = plain.getIterationManager().getIterations();
+
+        final ConjugateGradient preconditioned = new ConjugateGradient(1000, 1.0e-10, true);
+        final RealVector x = preconditioned.solve(a, new IncompleteCholeskyPreconditioner(a), b, x0);
+        final int preconditionedIterations = preconditioned.getIterationManager().getIterations();
+
+        Assert.assertEquals(0.0, b.subtract(a.operate(x)).getNorm(), 2.0e-10 * b.getNorm());
+        Assert.assertTrue(preconditionedIterations * 2 < plainIterations);
+    }
+
+    @Test
+    public void testNotPositiveDefinite() {
+        try {
+            new IncompleteCholeskyPreconditioner(new Array2DRowRealMatrix(new double[][] {
+                { 1, 2 }, { 2, 1 }
+            }));
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            Assert.assertEquals(LocalizedCoreFormats.NOT_POSITIVE_DEFINITE_MATRIX, miae.getSpecifier());
+        }
+        try {
+            new IncompleteCholeskyPreconditioner(new Array2DRowRealMatrix(new double[][] {
+                { 1, 0 }, { 0, 0 }
+            }));
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            Assert.assertEquals(LocalizedCoreFormats.NOT_POSITIVE_DEFINITE_MATRIX, miae.getSpecifier());
+        }
+    }
+
+    @Test
+    public void testWrongDimensions() {
+        try {
+            new IncompleteCholeskyPreconditioner(new Array2DRowRealMatrix(2, 3));
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            Assert.assertEquals(LocalizedCoreFormats.NON_SQUARE_OPERATOR, miae.getSpecifier());
+        }
+        try {
+            new IncompleteCholeskyPreconditioner(MatrixUtils.createRealIdentityMatrix(3)).operate(new ArrayRealVector(2));
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            Assert.assertEquals(LocalizedCoreFormats.DIMENSIONS_MISMATCH, miae.getSpecifier());
+        }
+    }
+
+}
@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hipparchus.linear;
+
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.exception.MathIllegalArgumentException;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class IncompleteLUPreconditionerTest {
+
+    @Test
+    public void testExactWithoutFillIn() {
+        // the LU factors of a tridiagonal matrix have no fill-in, so ILU(0) is a complete factorization
+        final int n = 30;
+        final CompressedRowRealMatrix.CompressedRowRealMatrixBuilder builder = CompressedRowRealMatrix.builder(n, n);
+        for (int i = 0; i < n; ++i) {
+            builder.addEntry(i, i, 3.0 + 0.1 * i);
+            if (i > 0) {
+                builder.addEntry(i, i - 1, -1.5);
+            }
+            if (i < n - 1) {
+                builder.addEntry(i, i + 1, 0.5);
+            }
+        }
+        final CompressedRowRealMatrix a = builder.build();
+        final IncompleteLUPreconditioner m = new IncompleteLUPreconditioner(a);
+        Assert.assertEquals(n, m.getRowDimension());
+        Assert.assertEquals(n, m.getColumnDimension());
+        final RealVector x = GMRESTest.rightHandSide(n);
+        Assert.assertEquals(0.0, m.operate(a.operate(x)).subtract(x).getNorm(), 1.0e-13);
+    }
+
+    @Test
+    public void testMatchesOnPattern() {
+        final CompressedRowRealMatrix a = GMRESTest.convectionDiffusion(6, 0.7);
+        final IncompleteLUPreconditioner m = new IncompleteLUPreconditioner(a);
+
+        // rebuild L and U from the preconditioner, using its action on canonical vectors
+        final int n = a.getRowDimension();
+        final RealMatrix inverse = new Array2DRowRealMatrix(n, n);
+        for (int j = 0; j < n; ++j) {
+            final RealVector e = new ArrayRealVector(n);
+            e.setEntry(j, 1.0);
+            inverse.setColumnVector(j, m.operate(e));
+        }
+        final RealMatrix lu = new LUDecomposition(inverse).getSolver().getInverse();
+        for (int i = 0; i < n; ++i) {
+            for (int j = 0; j < n; ++j) {
+                if (a.getEntry(i, j) != 0) {
+                    Assert.assertEquals(a.getEntry(i, j), lu.getEntry(i, j), 1.0e-12);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testDenseInput() {
+        final RealMatrix a = new Array2DRowRealMatrix(new double[][] {
+            { 4, 1, 0 }, { 2, 5, 1 }, { 0, 1, 3 }
+        });
+        final RealVector x = new ArrayRealVector(new double[] { 1, -2, 3 });
+        Assert.assertEquals(0.0,
+                            new IncompleteLUPreconditioner(a).operate(a.operate(x)).subtract(x).getNorm(),
+                            1.0e-15);
+    }
+
+    @Test
+    public void testZeroPivot() {
+        try {
+            new IncompleteLUPreconditioner(new Array2DRowRealMatrix(new double[][] {
+                { 1, 2 }, { 3, 6 }
+            }));
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            Assert.assertEquals(LocalizedCoreFormats.SINGULAR_MATRIX, miae.getSpecifier());
+        }
+    }
+
+    @Test
+    public void testMissingDiagonal() {
+        try {
+            new IncompleteLUPreconditioner(new Array2DRowRealMatrix(new double[][] {
+                { 1, 2 }, { 3, 0 }
+            }));
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            Assert.assertEquals(LocalizedCoreFormats.SINGULAR_MATRIX, miae.getSpecifier());
+        }
+    }
+
+    @Test
+    public void testWrongDimensions() {
+        try {
+            new IncompleteLUPreconditioner(new Array2DRowRealMatrix(2, 3));
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            Assert.assertEquals(LocalizedCoreFormats.NON_SQUARE_OPERATOR, miae.getSpecifier());
+        }
+        try {
+            new IncompleteLUPreconditioner(MatrixUtils.createRealIdentityMatrix(3)).operate(new ArrayRealVector(2));
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            Assert.assertEquals(LocalizedCoreFormats.DIMENSIONS_MISMATCH, miae.getSpecifier());
+        }
+    }
+
+}
@@ -0,0 +1,251 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hipparchus.linear;
+
+import java.util.Arrays;
+
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.exception.MathIllegalArgumentException;
+import org.hipparchus.exception.MathIllegalStateException;
+import org.hipparchus.exception.MathRuntimeException;
+import org.hipparchus.random.RandomGenerator;
+import org.hipparchus.random.Well1024a;
+import org.hipparchus.util.FastMath;
+import org.hipparchus.util.IterationEvent;
+import org.hipparchus.util.IterationListener;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class LanczosEigenSolverTest {
+
+    @Test
+    public void testLaplacianLargest() {
+        final int n = 300;
+        final LanczosEigenSolver.Solution solution =
+                        new LanczosEigenSolver(1000, 1.0e-12).solve(new Laplacian(n), 10,
+                                                                    IterativeEigenSolver.Selection.LARGEST_REAL);
+        Assert.assertEquals(10, solution.getNumberOfEigenpairs());
+        for (int i = 0; i < 10; ++i) {
+            final double expected = 2 - 2 * FastMath.cos((n - i) * FastMath.PI / (n + 1));
+            Assert.assertEquals(expected, solution.getEigenvalue(i), 1.0e-10);
+            checkEigenpair(new Laplacian(n), solution.getEigenvalue(i), solution.getEigenvector(i), 1.0e-9);
+        }
+    }
+
+    @Test
+    public void testLaplacianSmallest() {
+        final int n = 100;
+        final LanczosEigenSolver.Solution solution =
+                        new LanczosEigenSolver(1000, 1.0e-12).solve(new Laplacian(n), 4,
+                                                                    IterativeEigenSolver.Selection.SMALLEST_REAL);
+        for (int i = 0; i < 4; ++i) {
+            final double expected = 2 - 2 * FastMath.cos((i + 1) * FastMath.PI / (n + 1));
+            Assert.assertEquals(expected, solution.getEigenvalue(i), 1.0e-12);
+            checkEigenpair(new Laplacian(n), solution.getEigenvalue(i), solution.getEigenvector(i), 1.0e-10);
+        }
+    }
+
+    @Test
+    public void testAgainstDense() {
+        final int n = 300;
+        final RealMatrix m = createRandomSymmetric(new Well1024a(0x4e8a17d02fc396b5l), n);
+        final double[] reference = new EigenDecompositionSymmetric(m).getEigenvalues();
+        final LanczosEigenSolver.Solution solution =
+                        new LanczosEigenSolver(1000, 1.0e-12).solve(new MatrixOperator(m), 6,
+                                                                    IterativeEigenSolver.Selection.LARGEST_MAGNITUDE);
+        final double[] sortedReference = sortByMagnitude(reference);
+        for (int i = 0; i < 6; ++i) {
+            Assert.assertEquals(sortedReference[i], solution.getEigenvalue(i), 1.0e-10);
+            checkEigenpair(new MatrixOperator(m), solution.getEigenvalue(i), solution.getEigenvector(i), 1.0e-9);
+        }
+        for (int i = 0; i < 6; ++i) {
+            for (int j = 0; j < i; ++j) {
+                Assert.assertEquals(0.0, solution.getEigenvector(i).dotProduct(solution.getEigenvector(j)), 1.0e-10);
+            }
+        }
+    }
+
+    @Test
+    public void testExplicitStartAndFullDimension() {
+        // when the Krylov subspace is the whole space, all eigenvalues are found in one cycle
+        final int n = 12;
+        final RealMatrix m = createRandomSymmetric(new Well1024a(0x91c3b5f07a2d64e8l), n);
+        final double[] reference = new EigenDecompositionSymmetric(m).getEigenvalues();
+        final LanczosEigenSolver solver = new LanczosEigenSolver(1, 1.0e-12);
+        final LanczosEigenSolver.Solution solution =
+                        solver.solve(new MatrixOperator(m), new ArrayRealVector(n, 1.0), n, n,
+                                     IterativeEigenSolver.Selection.LARGEST_REAL);
+        Assert.assertEquals(1, solver.getIterationManager().getIterations());
+        Assert.assertArrayEquals(reference, solution.getEigenvalues(), 1.0e-12);
+    }
+
+    @Test
+    public void testEvents() {
+        final LanczosEigenSolver solver = new LanczosEigenSolver(1000, 1.0e-10);
+        final int[] counts = new int[4];
+        solver.getIterationManager().addIterationListener(new IterationListener() {
+            public void initializationPerformed(final IterationEvent e) {
+                ++counts[0];
+                Assert.assertEquals(0, ((IterativeEigenSolverEvent) e).getConverged());
+            }
+            public void iterationStarted(final IterationEvent e) {
+                ++counts[1];
+            }
+            public void iterationPerformed(final IterationEvent e) {
+                ++counts[2];
+                Assert.assertEquals(counts[2], e.getIterations());
+                Assert.assertEquals(3, ((IterativeEigenSolverEvent) e).getResidualNorms().length);
+            }
+            public void terminationPerformed(final IterationEvent e) {
+                ++counts[3];
+                Assert.assertEquals(3, ((IterativeEigenSolverEvent) e).getConverged());
+            }
+        });
+        solver.solve(new Laplacian(500), 3, IterativeEigenSolver.Selection.LARGEST_REAL);
+        Assert.assertEquals(1, counts[0]);
+        Assert.assertTrue(counts[1] > 1);
+        Assert.assertEquals(counts[1], counts[2]);
+        Assert.assertEquals(solver.getIterationManager().getIterations(), counts[2]);
+        Assert.assertEquals(1, counts[3]);
+    }
+
+    @Test(expected = MathIllegalStateException.class)
+    public void testMaxIterations() {
+        new LanczosEigenSolver(2, 1.0e-12).solve(new Laplacian(1000), 5,
+                                                 IterativeEigenSolver.Selection.SMALLEST_REAL);
+    }
+
+    @Test
+    public void testWrongParameters() {
+        final LanczosEigenSolver solver = new LanczosEigenSolver(10, 1.0e-10);
+        try {
+            solver.solve(new MatrixOperator(MatrixUtils.createRealMatrix(3, 4)), 1,
+                         IterativeEigenSolver.Selection.LARGEST_REAL);
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            Assert.assertEquals(LocalizedCoreFormats.NON_SQUARE_OPERATOR, miae.getSpecifier());
+        }
+        try {
+            solver.solve(new Laplacian(10), 11, IterativeEigenSolver.Selection.LARGEST_REAL);
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            Assert.assertEquals(LocalizedCoreFormats.OUT_OF_RANGE_SIMPLE, miae.getSpecifier());
+        }
+        try {
+            solver.solve(new Laplacian(10), new ArrayRealVector(10, 1.0), 3, 3,
+                         IterativeEigenSolver.Selection.LARGEST_REAL);
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            Assert.assertEquals(LocalizedCoreFormats.OUT_OF_RANGE_SIMPLE, miae.getSpecifier());
+        }
+        try {
+            solver.solve(new Laplacian(10), new ArrayRealVector(10), 3, 6,
+                         IterativeEigenSolver.Selection.LARGEST_REAL);
+            Assert.fail("an exception should have been thrown");
+        } catch (MathRuntimeException mre) {
+            Assert.assertEquals(LocalizedCoreFormats.ZERO_NORM, mre.getSpecifier());
+        }
+    }
+
+    private static void checkEigenpair(final RealLinearOperator a, final double lambda,
+                                       final RealVector x, final double tolerance) {
+        Assert.assertEquals(1.0, x.getNorm(), 1.0e-12);
+        Assert.assertEquals(0.0, a.operate(x).subtract(x.mapMultiply(lambda)).getNorm(), tolerance);
+    }
+
+    private static double[] sortByMagnitude(final double[] values) {
+        return Arrays.stream(values).boxed().
+               sorted((x, y) -> Double.compare(FastMath.abs(y), FastMath.abs(x))).
+               mapToDouble(Double::doubleValue).toArray();
+    }
+
+    private static RealMatrix createRandomSymmetric(final RandomGenerator random, final int n) {
+        final RealMatrix m = MatrixUtils.createRealMatrix(n, n);
+        for (int i = 0; i < n; ++i) {
+            for (int j = 0; j <= i; ++j) {
+                final double x = 2 * random.nextDouble() - 1;
+                m.setEntry(i, j, x);
+                m.setEntry(j, i, x);
+            }
+        }
+        return m;
+    }
+
+    /** Operator for the 1D Laplacian, tridiagonal with 2 on diagonal and -1 off diagonal. */
+    private static class Laplacian implements RealLinearOperator {
+
+        private final int n;
+
+        Laplacian(final int n) {
+            this.n = n;
+        }
+
+        @Override
+        public int getRowDimension() {
+            return n;
+        }
+
+        @Override
+        public int getColumnDimension() {
+            return n;
+        }
+
+        @Override
+        public RealVector operate(final RealVector x) {
+            final RealVector y = new ArrayRealVector(n);
+            for (int i = 0; i < n; ++i) {
+                double yi = 2 * x.getEntry(i);
+                if (i > 0) {
+                    yi -= x.getEntry(i - 1);
+                }
+                if (i < n - 1) {
+                    yi -= x.getEntry(i + 1);
+                }
+                y.setEntry(i, yi);
+            }
+            return y;
+        }
+
+    }
+
+    /** Operator wrapping a dense matrix. */
+    private static class MatrixOperator implements RealLinearOperator {
+
+        private final RealMatrix m;
+
+        MatrixOperator(final RealMatrix m) {
+            this.m = m;
+        }
+
+        @Override
+        public int getRowDimension() {
+            return m.getRowDimension();
+        }
+
+        @Override
+        public int getColumnDimension() {
+            return m.getColumnDimension();
+        }
+
+        @Override
+        public RealVector operate(final RealVector x) {
+            return m.operate(x);
+        }
+
+    }
+
+}
@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hipparchus.linear;
+
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.exception.MathIllegalArgumentException;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class Matrix2Test extends SmallRealMatrixAbstractTest<Matrix2> {
+
+    @Override
+    protected Matrix2 createZero() {
+        return new Matrix2();
+    }
+
+    @Override
+    protected Matrix2 createIdentity() {
+        return Matrix2.identity();
+    }
+
+    @Override
+    protected Matrix2 create(final double[][] d) {
+        return new Matrix2(d);
+    }
+
+    @Override
+    protected Matrix2 create(final RealMatrix m) {
+        return new Matrix2(m);
+    }
+
+    @Test
+    public void testEntries() {
+        final Matrix2 m = new Matrix2();
+        m.setEntry(1, 0, 2.5);
+        m.setEntry(0, 1, -1.25);
+        Assert.assertEquals(2.5,   m.getDataRef()[2], 0.0);
+        Assert.assertEquals(-1.25, m.getDataRef()[1], 0.0);
+        Assert.assertEquals(2.5,   m.getData()[1][0], 0.0);
+        Assert.assertEquals(-1.25, m.getEntry(0, 1), 0.0);
+        Assert.assertEquals(0.0,   m.getEntry(1, 1), 0.0);
+        try {
+            m.getEntry(2, 0);
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            Assert.assertEquals(LocalizedCoreFormats.ROW_INDEX, miae.getSpecifier());
+        }
+        try {
+            m.setEntry(0, 2, 1.0);
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            Assert.assertEquals(LocalizedCoreFormats.COLUMN_INDEX, miae.getSpecifier());
+        }
+    }
+
+    @Test
+    public void testSingular() {
+        checkSingular(new Matrix2(new double[][] {
+            { 1, 2 },
+            { 2, 4 }
+        }));
+    }
+
+}
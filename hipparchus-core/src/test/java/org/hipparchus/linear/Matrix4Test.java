@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hipparchus.linear;
+
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.exception.MathIllegalArgumentException;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class Matrix4Test extends SmallRealMatrixAbstractTest<Matrix4> {
+
+    @Override
+    protected Matrix4 createZero() {
+        return new Matrix4();
+    }
+
+    @Override
+    protected Matrix4 createIdentity() {
+        return Matrix4.identity();
+    }
+
+    @Override
+    protected Matrix4 create(final double[][] d) {
+        return new Matrix4(d);
+    }
+
+    @Override
+    protected Matrix4 create(final RealMatrix m) {
+        return new Matrix4(m);
+    }
+
+    @Test
+    public void testEntries() {
+        final Matrix4 m = new Matrix4();
+        m.setEntry(3, 0, 2.5);
+        m.setEntry(0, 3, -1.25);
+        Assert.assertEquals(2.5,   m.getDataRef()[12], 0.0);
+        Assert.assertEquals(-1.25, m.getDataRef()[3], 0.0);
+        Assert.assertEquals(2.5,   m.getData()[3][0], 0.0);
+        Assert.assertEquals(-1.25, m.getEntry(0, 3), 0.0);
+        Assert.assertEquals(0.0,   m.getEntry(3, 3), 0.0);
+        try {
+            m.getEntry(4, 0);
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            Assert.assertEquals(LocalizedCoreFormats.ROW_INDEX, miae.getSpecifier());
+        }
+        try {
+            m.setEntry(0, 4, 1.0);
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            Assert.assertEquals(LocalizedCoreFormats.COLUMN_INDEX, miae.getSpecifier());
+        }
+    }
+
+    @Test
+    public void testSingular() {
+        checkSingular(new Matrix4(new double[][] {
+            { 1, 2, 3, 4 },
+            { 5, 6, 7, 8 },
+            { 0, 0, 0, 0 },
+            { 9, 10, 11, 13 }
+        }));
+    }
+
+}
@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hipparchus.linear;
+
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.exception.MathIllegalArgumentException;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class Matrix5Test extends SmallRealMatrixAbstractTest<Matrix5> {
+
+    @Override
+    protected Matrix5 createZero() {
+        return new Matrix5();
+    }
+
+    @Override
+    protected Matrix5 createIdentity() {
+        return Matrix5.identity();
+    }
+
+    @Override
+    protected Matrix5 create(final double[][] d) {
+        return new Matrix5(d);
+    }
+
+    @Override
+    protected Matrix5 create(final RealMatrix m) {
+        return new Matrix5(m);
+    }
+
+    @Test
+    public void testEntries() {
+        final Matrix5 m = new Matrix5();
+        m.setEntry(4, 0, 2.5);
+        m.setEntry(0, 4, -1.25);
+        Assert.assertEquals(2.5,   m.getDataRef()[20], 0.0);
+        Assert.assertEquals(-1.25, m.getDataRef()[4], 0.0);
+        Assert.assertEquals(2.5,   m.getData()[4][0], 0.0);
+        Assert.assertEquals(-1.25, m.getEntry(0, 4), 0.0);
+        Assert.assertEquals(0.0,   m.getEntry(4, 4), 0.0);
+        try {
+            m.getEntry(5, 0);
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            Assert.assertEquals(LocalizedCoreFormats.ROW_INDEX, miae.getSpecifier());
+        }
+        try {
+            m.setEntry(0, 5, 1.0);
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            Assert.assertEquals(LocalizedCoreFormats.COLUMN_INDEX, miae.getSpecifier());
+        }
+    }
+
+    @Test
+    public void testSingular() {
+        checkSingular(new Matrix5(new double[][] {
+            { 3, 1, 4, 1, 5 },
+            { 9, 2, 6, 5, 3 },
+            { 5, 8, 9, 7, 9 },
+            { 3, 2, 3, 8, 4 },
+            { 9, 2, 6, 5, 3 }
+        }));
+    }
+
+}
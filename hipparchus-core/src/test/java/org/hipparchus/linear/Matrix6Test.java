@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hipparchus.linear;
+
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.exception.MathIllegalArgumentException;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class Matrix6Test extends SmallRealMatrixAbstractTest<Matrix6> {
+
+    @Override
+    protected Matrix6 createZero() {
+        return new Matrix6();
+    }
+
+    @Override
+    protected Matrix6 createIdentity() {
+        return Matrix6.identity();
+    }
+
+    @Override
+    protected Matrix6 create(final double[][] d) {
+        return new Matrix6(d);
+    }
+
+    @Override
+    protected Matrix6 create(final RealMatrix m) {
+        return new Matrix6(m);
+    }
+
+    @Test
+    public void testEntries() {
+        final Matrix6 m = new Matrix6();
+        m.setEntry(5, 0, 2.5);
+        m.setEntry(0, 5, -1.25);
+        Assert.assertEquals(2.5,   m.getDataRef()[30], 0.0);
+        Assert.assertEquals(-1.25, m.getDataRef()[5], 0.0);
+        Assert.assertEquals(2.5,   m.getData()[5][0], 0.0);
+        Assert.assertEquals(-1.25, m.getEntry(0, 5), 0.0);
+        Assert.assertEquals(0.0,   m.getEntry(5, 5), 0.0);
+        try {
+            m.getEntry(6, 0);
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            Assert.assertEquals(LocalizedCoreFormats.ROW_INDEX, miae.getSpecifier());
+        }
+        try {
+            m.setEntry(0, 6, 1.0);
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            Assert.assertEquals(LocalizedCoreFormats.COLUMN_INDEX, miae.getSpecifier());
+        }
+    }
+
+    @Test
+    public void testSingular() {
+        checkSingular(new Matrix6(new double[][] {
+            { 2, 7, 1, 8, 2, 8 },
+            { 1, 8, 2, 8, 4, 5 },
+            { 9, 0, 4, 5, 2, 3 },
+            { 5, 3, 6, 0, 2, 8 },
+            { 7, 4, 7, 1, 3, 5 },
+            { 2, 16, 4, 16, 8, 10 }
+        }));
+    }
+
+}
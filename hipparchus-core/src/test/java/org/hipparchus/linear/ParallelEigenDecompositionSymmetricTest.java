@@ -0,0 +1,253 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hipparchus.linear;
+
+import java.util.concurrent.ForkJoinPool;
+
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.exception.MathIllegalArgumentException;
+import org.hipparchus.exception.MathIllegalStateException;
+import org.hipparchus.exception.NullArgumentException;
+import org.hipparchus.random.RandomGenerator;
+import org.hipparchus.random.Well1024a;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ParallelEigenDecompositionSymmetricTest {
+
+    private ForkJoinPool pool;
+
+    @Before
+    public void setUp() {
+        pool = new ForkJoinPool(4);
+    }
+
+    @After
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Test
+    public void testSameAsEigenDecompositionSymmetric() {
+        final RandomGenerator random = new Well1024a(0x4d2a8c6e1f0b9357l);
+        for (final int n : new int[] { 1, 2, 5, 32, 33, 100, 257 }) {
+            final RealMatrix a = createRandomSymmetricMatrix(random, n);
+            final EigenDecompositionSymmetric reference = new EigenDecompositionSymmetric(a);
+            final ParallelEigenDecompositionSymmetric ed = new ParallelEigenDecompositionSymmetric(a, pool);
+            Assert.assertArrayEquals(reference.getEigenvalues(), ed.getEigenvalues(), 1.0e-12 * n);
+            checkDecomposition(a, ed, 1.0e-12 * n);
+        }
+    }
+
+    @Test
+    public void testLarge() {
+        final RandomGenerator random = new Well1024a(0x71e3b09c5a2d4f86l);
+        final int n = 600;
+        final RealMatrix a = createRandomSymmetricMatrix(random, n);
+        final ParallelEigenDecompositionSymmetric ed = new ParallelEigenDecompositionSymmetric(a, 1.0e-12, false, pool);
+        for (int i = 1; i < n; ++i) {
+            Assert.assertTrue(ed.getEigenvalue(i - 1) <= ed.getEigenvalue(i));
+        }
+        checkDecomposition(a, ed, 1.0e-10);
+    }
+
+    @Test
+    public void testMultipleEigenvalues() {
+        // identity-like blocks and a matrix with repeated eigenvalues trigger deflation
+        final int n = 120;
+        final RealMatrix d = MatrixUtils.createRealDiagonalMatrix(new double[n]);
+        for (int i = 0; i < n; ++i) {
+            d.setEntry(i, i, i % 3);
+        }
+        final RealMatrix q = new QRDecomposition(createRandomSymmetricMatrix(new Well1024a(0x1c9f4e2b7a35d068l), n)).getQ();
+        final RealMatrix a = q.multiply(d).multiplyTransposed(q);
+        final RealMatrix sym = a.add(a.transpose()).scalarMultiply(0.5);
+        final ParallelEigenDecompositionSymmetric ed = new ParallelEigenDecompositionSymmetric(sym, pool);
+        for (int i = 0; i < n; ++i) {
+            Assert.assertEquals(2 - (3 * i) / n, ed.getEigenvalue(i), 1.0e-12);
+        }
+        checkDecomposition(sym, ed, 1.0e-11);
+
+        // tridiagonal matrix with many zero couplings
+        final RealMatrix t = MatrixUtils.createRealMatrix(n, n);
+        for (int i = 0; i < n; ++i) {
+            t.setEntry(i, i, 1.0);
+            if (i > 0 && i % 7 != 0) {
+                t.setEntry(i, i - 1, 0.5);
+                t.setEntry(i - 1, i, 0.5);
+            }
+        }
+        checkDecomposition(t, new ParallelEigenDecompositionSymmetric(t, pool), 1.0e-12);
+    }
+
+    @Test
+    public void testIndexRange() {
+        final RandomGenerator random = new Well1024a(0x08b6d3f1e92c4a57l);
+        final int n = 200;
+        final RealMatrix a = createRandomSymmetricMatrix(random, n);
+        final double[] reference = new EigenDecompositionSymmetric(a).getEigenvalues();
+
+        // largest eigenvalues
+        final ParallelEigenDecompositionSymmetric top =
+                        ParallelEigenDecompositionSymmetric.selectIndices(a, 1.0e-12, true, 0, 10, pool);
+        Assert.assertEquals(10, top.getEigenvalues().length);
+        Assert.assertEquals(n, top.getV().getRowDimension());
+        Assert.assertEquals(10, top.getV().getColumnDimension());
+        for (int i = 0; i < 10; ++i) {
+            Assert.assertEquals(reference[i], top.getEigenvalue(i), 1.0e-12);
+        }
+        checkDecomposition(a, top, 1.0e-11);
+
+        // smallest eigenvalues, in increasing order
+        final ParallelEigenDecompositionSymmetric bottom =
+                        ParallelEigenDecompositionSymmetric.selectIndices(a, 1.0e-12, false, 3, 8, pool);
+        for (int i = 0; i < 5; ++i) {
+            Assert.assertEquals(reference[n - 4 - i], bottom.getEigenvalue(i), 1.0e-12);
+        }
+        checkDecomposition(a, bottom, 1.0e-11);
+
+        final ParallelEigenDecompositionSymmetric empty =
+                        ParallelEigenDecompositionSymmetric.selectIndices(a, 1.0e-12, true, 5, 5, pool);
+        Assert.assertEquals(0, empty.getEigenvalues().length);
+        checkEmpty(empty);
+
+        try {
+            ParallelEigenDecompositionSymmetric.selectIndices(a, 1.0e-12, true, 5, n + 1, pool);
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            Assert.assertEquals(LocalizedCoreFormats.OUT_OF_RANGE_SIMPLE, miae.getSpecifier());
+        }
+    }
+
+    @Test
+    public void testValueRange() {
+        final RandomGenerator random = new Well1024a(0x6f05e2a9c3d1b874l);
+        final int n = 150;
+        final RealMatrix a = createRandomSymmetricMatrix(random, n);
+        final double[] reference = new EigenDecompositionSymmetric(a, 1.0e-12, false).getEigenvalues();
+        final double lower = -1.0;
+        final double upper =  2.0;
+        final ParallelEigenDecompositionSymmetric ed =
+                        ParallelEigenDecompositionSymmetric.selectValues(a, 1.0e-12, false, lower, upper, pool);
+        int index = 0;
+        for (final double lambda : reference) {
+            if (lambda >= lower && lambda < upper) {
+                Assert.assertEquals(lambda, ed.getEigenvalue(index++), 1.0e-12);
+            }
+        }
+        Assert.assertTrue(index > 5);
+        Assert.assertEquals(index, ed.getEigenvalues().length);
+        checkDecomposition(a, ed, 1.0e-11);
+
+        try {
+            ParallelEigenDecompositionSymmetric.selectValues(a, 1.0e-12, false, upper, lower, pool);
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            Assert.assertEquals(LocalizedCoreFormats.LOWER_BOUND_NOT_BELOW_UPPER_BOUND, miae.getSpecifier());
+        }
+    }
+
+    @Test
+    public void testClusteredRange() {
+        // many eigenvalues in a cluster, eigenvectors must be orthogonalized
+        final int n = 80;
+        final double[] diagonal = new double[n];
+        for (int i = 0; i < n; ++i) {
+            diagonal[i] = i < 40 ? 1.0 + 1.0e-10 * i : i;
+        }
+        final RealMatrix q = new QRDecomposition(createRandomSymmetricMatrix(new Well1024a(0x9e7c2b40d5a1f368l), n)).getQ();
+        final RealMatrix a = q.multiply(MatrixUtils.createRealDiagonalMatrix(diagonal)).multiplyTransposed(q);
+        final RealMatrix sym = a.add(a.transpose()).scalarMultiply(0.5);
+        final ParallelEigenDecompositionSymmetric ed =
+                        ParallelEigenDecompositionSymmetric.selectValues(sym, 1.0e-12, false, 0.5, 1.5, pool);
+        Assert.assertEquals(40, ed.getEigenvalues().length);
+        checkDecomposition(sym, ed, 1.0e-10);
+    }
+
+    @Test
+    public void testEmptyValueRange() {
+        final ParallelEigenDecompositionSymmetric ed =
+                        ParallelEigenDecompositionSymmetric.selectValues(MatrixUtils.createRealDiagonalMatrix(new double[] {
+                                                                             1.0, 2.0, 3.0, 4.0
+                                                                         }), 1.0e-12, false, 10.0, 20.0, pool);
+        Assert.assertEquals(0, ed.getEigenvalues().length);
+        checkEmpty(ed);
+    }
+
+    @Test(expected = NullArgumentException.class)
+    public void testNullPool() {
+        new ParallelEigenDecompositionSymmetric(MatrixUtils.createRealIdentityMatrix(3), null);
+    }
+
+    @Test
+    public void testNonSymmetric() {
+        try {
+            new ParallelEigenDecompositionSymmetric(MatrixUtils.createRealMatrix(new double[][] {
+                { 1.0, 2.0 }, { 3.0, 4.0 }
+            }), pool);
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            Assert.assertEquals(LocalizedCoreFormats.NON_SYMMETRIC_MATRIX, miae.getSpecifier());
+        }
+    }
+
+    private void checkDecomposition(final RealMatrix a, final ParallelEigenDecompositionSymmetric ed,
+                                    final double tolerance) {
+        final RealMatrix v = ed.getV();
+        final int k = v.getColumnDimension();
+        // A V = V D
+        Assert.assertEquals(0.0, a.multiply(v).subtract(v.multiply(ed.getD())).getNorm1(),
+                            tolerance * a.getNorm1());
+        // orthonormal eigenvectors
+        Assert.assertEquals(0.0, ed.getVT().multiply(v).subtract(MatrixUtils.createRealIdentityMatrix(k)).getNorm1(),
+                            tolerance);
+        for (int i = 0; i < k; ++i) {
+            Assert.assertEquals(0.0, ed.getEigenvector(i).subtract(v.getColumnVector(i)).getNorm(), 0.0);
+        }
+    }
+
+    private void checkEmpty(final ParallelEigenDecompositionSymmetric ed) {
+        Assert.assertEquals(0, ed.getD().getRowDimension());
+        try {
+            ed.getV();
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalStateException mise) {
+            Assert.assertEquals(LocalizedCoreFormats.NO_DATA, mise.getSpecifier());
+        }
+        try {
+            ed.getVT();
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalStateException mise) {
+            Assert.assertEquals(LocalizedCoreFormats.NO_DATA, mise.getSpecifier());
+        }
+    }
+
+    private static RealMatrix createRandomSymmetricMatrix(final RandomGenerator random, final int n) {
+        final RealMatrix m = new Array2DRowRealMatrix(n, n);
+        for (int i = 0; i < n; ++i) {
+            for (int j = i; j < n; ++j) {
+                final double x = 2 * random.nextDouble() - 1;
+                m.setEntry(i, j, x);
+                m.setEntry(j, i, x);
+            }
+        }
+        return m;
+    }
+
+}
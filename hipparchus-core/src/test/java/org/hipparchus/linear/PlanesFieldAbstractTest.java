@@ -0,0 +1,291 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hipparchus.linear;
+
+import org.hipparchus.FieldElement;
+import org.hipparchus.exception.MathIllegalArgumentException;
+import org.hipparchus.random.RandomGenerator;
+import org.hipparchus.random.Well19937a;
+import org.hipparchus.util.FastMath;
+import org.hipparchus.util.MathArrays;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Common test cases for the {@link AbstractPlanesFieldMatrix} and
+ * {@link AbstractPlanesFieldVector} implementations, which are checked
+ * against {@link Array2DRowFieldMatrix} and {@link ArrayFieldVector}.
+ */
+public abstract class PlanesFieldAbstractTest<T extends FieldElement<T>> {
+
+    /** Create a random element.
+     * @param random random generator
+     * @return random element
+     */
+    protected abstract T randomElement(RandomGenerator random);
+
+    /** Create a matrix with all entries set to zero.
+     * @param rows number of rows
+     * @param columns number of columns
+     * @return new matrix
+     */
+    protected abstract AbstractPlanesFieldMatrix<T> createMatrix(int rows, int columns);
+
+    /** Convert a matrix.
+     * @param m matrix to convert
+     * @return converted matrix
+     */
+    protected abstract AbstractPlanesFieldMatrix<T> toPlanes(FieldMatrix<T> m);
+
+    /** Convert a vector.
+     * @param v vector to convert
+     * @return converted vector
+     */
+    protected abstract AbstractPlanesFieldVector<T> toPlanes(FieldVector<T> v);
+
+    @Test
+    public void testEntries() {
+        final RandomGenerator random = new Well19937a(0x2f1d56a3b8e7c40fl);
+        final AbstractPlanesFieldMatrix<T> m = createMatrix(3, 4);
+        Assert.assertEquals(3, m.getRowDimension());
+        Assert.assertEquals(4, m.getColumnDimension());
+        Assert.assertEquals(m.getLayout().getPlanes(), m.getPlanesNumber());
+        Assert.assertEquals(12, m.getPlaneRef(0).length);
+        for (int i = 0; i < 3; ++i) {
+            for (int j = 0; j < 4; ++j) {
+                Assert.assertTrue(m.getEntry(i, j).isZero());
+                final T t = randomElement(random);
+                m.setEntry(i, j, t);
+                Assert.assertEquals(t, m.getEntry(i, j));
+                Assert.assertEquals(t.getReal(), m.getPlaneRef(0)[i * 4 + j], 0.0);
+            }
+        }
+        final T t = randomElement(random);
+        final T expected = m.getEntry(1, 2).add(t).multiply(t);
+        m.addToEntry(1, 2, t);
+        m.multiplyEntry(1, 2, t);
+        checkEquals(expected, m.getEntry(1, 2), 1.0e-15);
+        try {
+            m.getEntry(3, 0);
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            // expected
+        }
+        try {
+            createMatrix(0, 2);
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testMatrixArithmetic() {
+        final RandomGenerator random = new Well19937a(0x64b1a3e0c92f5d17l);
+        final FieldMatrix<T> a = randomMatrix(random, 5, 7);
+        final FieldMatrix<T> b = randomMatrix(random, 5, 7);
+        final T t = randomElement(random);
+        final AbstractPlanesFieldMatrix<T> pa = toPlanes(a);
+        checkEquals(a.add(b),            pa.add(toPlanes(b)),  1.0e-15);
+        checkEquals(a.add(b),            pa.add(b),            1.0e-15);
+        checkEquals(a.subtract(b),       pa.subtract(b),       1.0e-15);
+        checkEquals(a.scalarAdd(t),      pa.scalarAdd(t),      1.0e-15);
+        checkEquals(a.scalarMultiply(t), pa.scalarMultiply(t), 1.0e-15);
+        checkEquals(a.transpose(),       pa.transpose(),       0.0);
+        checkEquals(a.getSubMatrix(1, 3, 2, 5), pa.getSubMatrix(1, 3, 2, 5), 0.0);
+        checkEquals(a, pa.copy(), 0.0);
+        Assert.assertEquals(pa, a);
+        Assert.assertEquals(a, pa);
+        try {
+            pa.add(randomMatrix(random, 5, 6));
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testMultiply() {
+        final RandomGenerator random = new Well19937a(0x8d03e6f2a15b9c74l);
+        final FieldMatrix<T> a = randomMatrix(random, 6, 9);
+        final FieldMatrix<T> b = randomMatrix(random, 9, 4);
+        final FieldMatrix<T> expected = a.multiply(b);
+        checkEquals(expected, toPlanes(a).multiply(toPlanes(b)), 1.0e-14);
+        checkEquals(expected, toPlanes(a).multiply(b),           1.0e-14);
+        checkEquals(expected, a.multiply(toPlanes(b)),           1.0e-14);
+        try {
+            toPlanes(a).multiply(toPlanes(a));
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testOperate() {
+        final RandomGenerator random = new Well19937a(0x3a97c5e1d48b02f6l);
+        final FieldMatrix<T> a = randomMatrix(random, 6, 9);
+        final FieldVector<T> u = randomVector(random, 9);
+        final FieldVector<T> v = randomVector(random, 6);
+        final AbstractPlanesFieldMatrix<T> pa = toPlanes(a);
+        checkEquals(a.operate(u),                pa.operate(toPlanes(u)),         1.0e-14);
+        checkEquals(a.operate(u),                pa.operate(u),                   1.0e-14);
+        checkEquals(a.operate(u.toArray()),      pa.operate(u.toArray()),         1.0e-14);
+        checkEquals(a.preMultiply(v),            pa.preMultiply(toPlanes(v)),     1.0e-14);
+        checkEquals(a.preMultiply(v.toArray()),  pa.preMultiply(v.toArray()),     1.0e-14);
+        try {
+            pa.operate(v);
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            // expected
+        }
+        try {
+            pa.preMultiply(u.toArray());
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testVectorArithmetic() {
+        final RandomGenerator random = new Well19937a(0xe5c20b7f913da846l);
+        final FieldVector<T> u = randomVector(random, 8);
+        final FieldVector<T> v = randomVector(random, 8);
+        final T t = randomElement(random);
+        final AbstractPlanesFieldVector<T> pu = toPlanes(u);
+        Assert.assertEquals(8, pu.getDimension());
+        Assert.assertEquals(pu.getLayout().getPlanes(), pu.getPlanesNumber());
+        Assert.assertEquals(u, pu);
+        Assert.assertEquals(pu, u);
+        Assert.assertEquals(toPlanes(u).hashCode(), pu.hashCode());
+        checkEquals(u.add(v),             pu.add(toPlanes(v)),   1.0e-15);
+        checkEquals(u.add(v),             pu.add(v),             1.0e-15);
+        checkEquals(u.subtract(v),        pu.subtract(v),        1.0e-15);
+        checkEquals(u.ebeMultiply(v),     pu.ebeMultiply(v),     1.0e-15);
+        checkEquals(u.ebeDivide(v),       pu.ebeDivide(v),       1.0e-15);
+        checkEquals(u.mapAdd(t),          pu.mapAdd(t),          1.0e-15);
+        checkEquals(u.mapSubtract(t),     pu.mapSubtract(t),     1.0e-15);
+        checkEquals(u.mapMultiply(t),     pu.mapMultiply(t),     1.0e-15);
+        checkEquals(u.mapDivide(t),       pu.mapDivide(t),       1.0e-15);
+        checkEquals(u.mapInv(),           pu.mapInv(),           1.0e-15);
+        checkEquals(u.projection(v),      pu.projection(v),      1.0e-14);
+        checkEquals(u.dotProduct(v),      pu.dotProduct(v),      1.0e-14);
+        checkEquals(u.outerProduct(v),    pu.outerProduct(v),    1.0e-15);
+        checkEquals(u.append(v),          pu.append(v),          0.0);
+        checkEquals(u.append(t),          pu.append(t),          0.0);
+        checkEquals(u.getSubVector(2, 4), pu.getSubVector(2, 4), 0.0);
+        checkEquals(u, pu, 0.0);
+
+        // operations in place
+        final AbstractPlanesFieldVector<T> pv = toPlanes(v);
+        Assert.assertSame(pv, pv.mapMultiplyToSelf(t));
+        checkEquals(v.mapMultiply(t), pv, 1.0e-15);
+        pv.setSubVector(3, u.getSubVector(0, 2));
+        checkEquals(u.getEntry(0), pv.getEntry(3), 0.0);
+        checkEquals(u.getEntry(1), pv.getEntry(4), 0.0);
+        pv.set(t);
+        for (int i = 0; i < pv.getDimension(); ++i) {
+            checkEquals(t, pv.getEntry(i), 0.0);
+        }
+
+        try {
+            pu.add(randomVector(random, 7));
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            // expected
+        }
+        try {
+            pu.getSubVector(6, 3);
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testSharedPlanes() {
+        final RandomGenerator random = new Well19937a(0x1b6f48d2ac05e937l);
+        final AbstractPlanesFieldMatrix<T> m = toPlanes(randomMatrix(random, 3, 3));
+        final double old = m.getEntry(2, 1).getReal();
+        m.getPlaneRef(0)[7] += 1.0;
+        Assert.assertEquals(old + 1.0, m.getEntry(2, 1).getReal(), 1.0e-15);
+        final AbstractPlanesFieldVector<T> v = toPlanes(randomVector(random, 3));
+        final AbstractPlanesFieldVector<T> copy = v.copy();
+        v.getPlaneRef(0)[1] += 1.0;
+        Assert.assertEquals(copy.getEntry(1).getReal() + 1.0, v.getEntry(1).getReal(), 1.0e-15);
+    }
+
+    /** Create a random reference matrix.
+     * @param random random generator
+     * @param rows number of rows
+     * @param columns number of columns
+     * @return random matrix
+     */
+    protected FieldMatrix<T> randomMatrix(final RandomGenerator random, final int rows, final int columns) {
+        final T zero = randomElement(random).getField().getZero();
+        final FieldMatrix<T> m = new Array2DRowFieldMatrix<>(zero.getField(), rows, columns);
+        for (int i = 0; i < rows; ++i) {
+            for (int j = 0; j < columns; ++j) {
+                m.setEntry(i, j, randomElement(random));
+            }
+        }
+        return m;
+    }
+
+    /** Create a random reference vector.
+     * @param random random generator
+     * @param size dimension of the vector
+     * @return random vector
+     */
+    protected FieldVector<T> randomVector(final RandomGenerator random, final int size) {
+        final T[] data = MathArrays.buildArray(randomElement(random).getField(), size);
+        for (int i = 0; i < size; ++i) {
+            data[i] = randomElement(random);
+        }
+        return new ArrayFieldVector<>(data, false);
+    }
+
+    private void checkEquals(final T expected, final T actual, final double tolerance) {
+        final FieldPlanes<T> layout = createMatrix(1, 1).getLayout();
+        final double[][] e = layout.decompose(expected);
+        final double[][] a = layout.decompose(actual);
+        for (int k = 0; k < e.length; ++k) {
+            Assert.assertEquals(e[k][0], a[k][0], tolerance * FastMath.max(1.0, FastMath.abs(e[k][0])));
+        }
+    }
+
+    private void checkEquals(final T[] expected, final T[] actual, final double tolerance) {
+        Assert.assertEquals(expected.length, actual.length);
+        for (int i = 0; i < expected.length; ++i) {
+            checkEquals(expected[i], actual[i], tolerance);
+        }
+    }
+
+    private void checkEquals(final FieldVector<T> expected, final FieldVector<T> actual, final double tolerance) {
+        checkEquals(expected.toArray(), actual.toArray(), tolerance);
+    }
+
+    private void checkEquals(final FieldMatrix<T> expected, final FieldMatrix<T> actual, final double tolerance) {
+        Assert.assertEquals(expected.getRowDimension(),    actual.getRowDimension());
+        Assert.assertEquals(expected.getColumnDimension(), actual.getColumnDimension());
+        for (int i = 0; i < expected.getRowDimension(); ++i) {
+            checkEquals(expected.getRow(i), actual.getRow(i), tolerance);
+        }
+    }
+
+}
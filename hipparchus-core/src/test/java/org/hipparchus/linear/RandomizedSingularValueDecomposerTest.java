@@ -0,0 +1,242 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hipparchus.linear;
+
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.exception.MathIllegalArgumentException;
+import org.hipparchus.exception.MathRuntimeException;
+import org.hipparchus.random.RandomGenerator;
+import org.hipparchus.random.Well1024a;
+import org.hipparchus.random.Well19937a;
+import org.hipparchus.util.FastMath;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class RandomizedSingularValueDecomposerTest {
+
+    @Test
+    public void testLowRankExact() {
+        // exactly rank 8 matrix, a truncated decomposition of rank 8 recovers it
+        final RealMatrix a = createLowRankMatrix(new Well1024a(0x2c7f9e04a1b35d68l), 500, 120, 8, 0.0);
+        final SingularValueDecomposition reference = new SingularValueDecomposition(a);
+        final SingularValueDecomposition svd =
+                        new RandomizedSingularValueDecomposer(8, new Well19937a(0x35l)).decomposeSVD(a);
+        Assert.assertEquals(8, svd.getSingularValues().length);
+        for (int i = 0; i < 8; ++i) {
+            Assert.assertEquals(reference.getSingularValues()[i], svd.getSingularValues()[i],
+                                1.0e-12 * reference.getNorm());
+        }
+        Assert.assertEquals(500, svd.getU().getRowDimension());
+        Assert.assertEquals(8,   svd.getU().getColumnDimension());
+        Assert.assertEquals(120, svd.getV().getRowDimension());
+        Assert.assertEquals(8,   svd.getV().getColumnDimension());
+        Assert.assertEquals(0.0,
+                            svd.getU().multiply(svd.getS()).multiply(svd.getVT()).subtract(a).getNorm1(),
+                            1.0e-11 * a.getNorm1());
+        checkOrthonormalColumns(svd.getU(), 1.0e-13);
+        checkOrthonormalColumns(svd.getV(), 1.0e-13);
+        Assert.assertEquals(8, svd.getRank());
+    }
+
+    @Test
+    public void testNoisyLowRank() {
+        final RealMatrix a = createLowRankMatrix(new Well1024a(0x7a41e0c9d62f3b58l), 1000, 300, 15, 1.0e-3);
+        final double[] reference = new SingularValueDecomposition(a).getSingularValues();
+        final SingularValueDecomposition svd =
+                        new RandomizedSingularValueDecomposer(10, 10, 2, new Well19937a(0x12l)).decomposeSVD(a);
+        for (int i = 0; i < 10; ++i) {
+            Assert.assertEquals(reference[i], svd.getSingularValues()[i], 1.0e-8 * reference[0]);
+        }
+        checkOrthonormalColumns(svd.getU(), 1.0e-13);
+        checkOrthonormalColumns(svd.getV(), 1.0e-13);
+    }
+
+    @Test
+    public void testPowerIterationsImproveAccuracy() {
+        // slowly decaying spectrum
+        final int n = 200;
+        final RandomGenerator random = new Well1024a(0x0f3c6a9d2e85b471l);
+        final RealMatrix q1 = new QRDecomposition(createRandomMatrix(random, n, n)).getQ();
+        final RealMatrix q2 = new QRDecomposition(createRandomMatrix(random, n, n)).getQ();
+        final double[] sigma = new double[n];
+        for (int i = 0; i < n; ++i) {
+            sigma[i] = 1.0 / (1 + i);
+        }
+        final RealMatrix a = q1.multiply(MatrixUtils.createRealDiagonalMatrix(sigma)).multiply(q2);
+        final double error0 = relativeError(a, sigma, 10, 0);
+        final double error3 = relativeError(a, sigma, 10, 3);
+        Assert.assertTrue(error3 < 0.1 * error0);
+        Assert.assertTrue(error3 < 1.0e-3);
+    }
+
+    @Test
+    public void testLinearOperator() {
+        final RealMatrix a = createLowRankMatrix(new Well1024a(0x58b2e7d10c4af963l), 300, 90, 5, 0.0);
+        final CompressedRowRealMatrix sparse = new CompressedRowRealMatrix(a);
+        final RealLinearOperator operator = new RealLinearOperator() {
+            @Override
+            public int getRowDimension() {
+                return a.getRowDimension();
+            }
+            @Override
+            public int getColumnDimension() {
+                return a.getColumnDimension();
+            }
+            @Override
+            public RealVector operate(final RealVector x) {
+                return a.operate(x);
+            }
+            @Override
+            public RealVector operateTranspose(final RealVector x) {
+                return a.preMultiply(x);
+            }
+            @Override
+            public boolean isTransposable() {
+                return true;
+            }
+        };
+        final RandomizedSingularValueDecomposer decomposer =
+                        new RandomizedSingularValueDecomposer(5, new Well19937a(0x9al));
+        final SingularValueDecomposition fromMatrix   = decomposer.decomposeSVD(a);
+        final SingularValueDecomposition fromOperator = decomposer.decomposeSVD(operator);
+        final SingularValueDecomposition fromSparse   = decomposer.decomposeSVD((RealLinearOperator) sparse);
+        Assert.assertArrayEquals(fromMatrix.getSingularValues(), fromOperator.getSingularValues(),
+                                 1.0e-12 * fromMatrix.getNorm());
+        Assert.assertArrayEquals(fromMatrix.getSingularValues(), fromSparse.getSingularValues(),
+                                 1.0e-12 * fromMatrix.getNorm());
+    }
+
+    @Test
+    public void testSolverAndCovariance() {
+        final RealMatrix a = createLowRankMatrix(new Well1024a(0x63d8a1f4b07e2c95l), 80, 40, 40, 0.0);
+        final SingularValueDecomposition reference = new SingularValueDecomposition(a);
+        final SingularValueDecomposition svd =
+                        new RandomizedSingularValueDecomposer(40, new Well19937a(0x47l)).decomposeSVD(a);
+        Assert.assertEquals(0.0,
+                            reference.getSolver().getInverse().subtract(svd.getSolver().getInverse()).getNorm1(),
+                            1.0e-10);
+        Assert.assertEquals(0.0,
+                            reference.getCovariance(0.0).subtract(svd.getCovariance(0.0)).getNorm1(),
+                            1.0e-10 * reference.getCovariance(0.0).getNorm1());
+        Assert.assertEquals(reference.getConditionNumber(), svd.getConditionNumber(),
+                            1.0e-10 * reference.getConditionNumber());
+    }
+
+    @Test
+    public void testTruncatedCovariance() {
+        final RealMatrix a = createLowRankMatrix(new Well1024a(0x1e6b9c3f57d0a842l), 60, 30, 4, 0.0);
+        final RealMatrix covariance =
+                        new RandomizedSingularValueDecomposer(4, new Well19937a(0x7l)).decomposeSVD(a).getCovariance(0.0);
+        Assert.assertEquals(30, covariance.getRowDimension());
+        Assert.assertEquals(30, covariance.getColumnDimension());
+        Assert.assertEquals(0.0,
+                            covariance.subtract(new SingularValueDecomposition(a).getCovariance(1.0e-8)).getNorm1(),
+                            1.0e-8 * covariance.getNorm1());
+    }
+
+    @Test
+    public void testWrongParameters() {
+        final RandomGenerator random = new Well19937a(0x1l);
+        try {
+            new RandomizedSingularValueDecomposer(0, random);
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            Assert.assertEquals(LocalizedCoreFormats.NUMBER_TOO_SMALL, miae.getSpecifier());
+        }
+        try {
+            new RandomizedSingularValueDecomposer(3, -1, 2, random);
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            Assert.assertEquals(LocalizedCoreFormats.NUMBER_TOO_SMALL, miae.getSpecifier());
+        }
+        try {
+            new RandomizedSingularValueDecomposer(3, 5, -2, random);
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            Assert.assertEquals(LocalizedCoreFormats.NUMBER_TOO_SMALL, miae.getSpecifier());
+        }
+        try {
+            new RandomizedSingularValueDecomposer(11, random).decomposeSVD(MatrixUtils.createRealMatrix(20, 10));
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            Assert.assertEquals(LocalizedCoreFormats.NUMBER_TOO_LARGE, miae.getSpecifier());
+        }
+    }
+
+    @Test
+    public void testNonTransposableOperator() {
+        final RealMatrix a = MatrixUtils.createRealIdentityMatrix(4);
+        try {
+            new RandomizedSingularValueDecomposer(2, new Well19937a(0x1l)).decomposeSVD(new RealLinearOperator() {
+                @Override
+                public int getRowDimension() {
+                    return 4;
+                }
+                @Override
+                public int getColumnDimension() {
+                    return 4;
+                }
+                @Override
+                public RealVector operate(final RealVector x) {
+                    return a.operate(x);
+                }
+            });
+            Assert.fail("an exception should have been thrown");
+        } catch (MathRuntimeException mre) {
+            Assert.assertEquals(LocalizedCoreFormats.UNSUPPORTED_OPERATION, mre.getSpecifier());
+        }
+    }
+
+    private double relativeError(final RealMatrix a, final double[] sigma, final int rank, final int powerIterations) {
+        final SingularValueDecomposition svd =
+                        new RandomizedSingularValueDecomposer(rank, 5, powerIterations, new Well19937a(0x3l)).
+                        decomposeSVD(a);
+        double max = 0;
+        for (int i = 0; i < rank; ++i) {
+            max = FastMath.max(max, FastMath.abs(svd.getSingularValues()[i] - sigma[i]) / sigma[i]);
+        }
+        return max;
+    }
+
+    private void checkOrthonormalColumns(final RealMatrix m, final double tolerance) {
+        Assert.assertEquals(0.0,
+                            m.transposeMultiply(m).subtract(MatrixUtils.createRealIdentityMatrix(m.getColumnDimension())).getNorm1(),
+                            tolerance * m.getColumnDimension());
+    }
+
+    private static RealMatrix createLowRankMatrix(final RandomGenerator random, final int rows, final int columns,
+                                                  final int rank, final double noise) {
+        final RealMatrix left  = createRandomMatrix(random, rows, rank);
+        final RealMatrix right = createRandomMatrix(random, rank, columns);
+        final RealMatrix a = left.multiply(right);
+        if (noise > 0) {
+            return a.add(createRandomMatrix(random, rows, columns).scalarMultiply(noise));
+        }
+        return a;
+    }
+
+    private static RealMatrix createRandomMatrix(final RandomGenerator random, final int rows, final int columns) {
+        final RealMatrix m = new Array2DRowRealMatrix(rows, columns);
+        for (int i = 0; i < rows; ++i) {
+            for (int j = 0; j < columns; ++j) {
+                m.setEntry(i, j, 2 * random.nextDouble() - 1);
+            }
+        }
+        return m;
+    }
+
+}
@@ -51,6 +51,7 @@ import org.hipparchus.analysis.function.Sqrt;
 import org.hipparchus.analysis.function.Tan;
 import org.hipparchus.analysis.function.Tanh;
 import org.hipparchus.analysis.function.Ulp;
+import org.hipparchus.exception.LocalizedCoreFormats;
 import org.hipparchus.exception.MathIllegalArgumentException;
 import org.hipparchus.exception.MathRuntimeException;
 import org.hipparchus.util.FastMath;
@@ -2004,4 +2005,38 @@ public abstract class RealVectorAbstractTest {
             throw unsupported();
         }
     }
+
+    @Test
+    public void testIntoOperations() {
+        final double[] data1 = { 1.0, -2.0, 0.0, 4.5, 3.0 };
+        final double[] data2 = { 0.5, 1.0, -3.0, 0.0, 2.0 };
+        final RealVector x = create(data1);
+        for (final RealVector y : new RealVector[] { create(data2), createAlien(data2) }) {
+            for (final RealVector out : new RealVector[] { create(new double[5]), createAlien(new double[5]) }) {
+                x.add(y, out);
+                Assert.assertArrayEquals(x.add(y).toArray(), out.toArray(), 0.0);
+                x.subtract(y, out);
+                Assert.assertArrayEquals(x.subtract(y).toArray(), out.toArray(), 0.0);
+                x.ebeMultiply(y, out);
+                Assert.assertArrayEquals(x.ebeMultiply(y).toArray(), out.toArray(), 0.0);
+                x.mapMultiply(-1.5, out);
+                Assert.assertArrayEquals(x.mapMultiply(-1.5).toArray(), out.toArray(), 0.0);
+                x.combine(2.0, -0.5, y, out);
+                Assert.assertArrayEquals(x.combine(2.0, -0.5, y).toArray(), out.toArray(), 0.0);
+            }
+        }
+
+        // the destination may be one of the operands
+        final RealVector z = create(data1);
+        z.add(create(data2), z);
+        Assert.assertArrayEquals(x.add(create(data2)).toArray(), z.toArray(), 0.0);
+
+        try {
+            x.add(create(data2), create(new double[4]));
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            Assert.assertEquals(LocalizedCoreFormats.DIMENSIONS_MISMATCH, miae.getSpecifier());
+        }
+    }
+
 }
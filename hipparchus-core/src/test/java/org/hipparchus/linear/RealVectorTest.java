@@ -124,6 +124,12 @@ public class RealVectorTest extends RealVectorAbstractTest {
         checkUnsupported(() -> super.testIsInfinite());
     }
 
+    @Test
+    @Override
+    public void testIntoOperations() {
+        checkUnsupported(() -> super.testIntoOperations());
+    }
+
     @Test
     @Override
     public void testEbeMultiplySameType() {
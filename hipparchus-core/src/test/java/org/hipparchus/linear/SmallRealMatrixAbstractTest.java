@@ -0,0 +1,256 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hipparchus.linear;
+
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.exception.MathIllegalArgumentException;
+import org.hipparchus.random.RandomGenerator;
+import org.hipparchus.random.Well19937a;
+import org.hipparchus.util.FastMath;
+import org.junit.Assert;
+import org.junit.Test;
+
+public abstract class SmallRealMatrixAbstractTest<M extends SmallRealMatrix<M>> {
+
+    /** Create a matrix with all entries set to zero.
+     * @return zero matrix
+     */
+    protected abstract M createZero();
+
+    /** Create an identity matrix.
+     * @return identity matrix
+     */
+    protected abstract M createIdentity();
+
+    /** Create a matrix from a two-dimensional array.
+     * @param d entries of the matrix
+     * @return new matrix
+     */
+    protected abstract M create(double[][] d);
+
+    /** Create a matrix from a real matrix.
+     * @param m real matrix to copy
+     * @return new matrix
+     */
+    protected abstract M create(RealMatrix m);
+
+    @Test
+    public void testConversions() {
+        final int n = getDimension();
+        final RealMatrix r = random(new Well19937a(0x5e1a9c37b24d08f6l + n));
+        final M m = create(r);
+        Assert.assertEquals(n, m.getRowDimension());
+        Assert.assertEquals(n, m.getColumnDimension());
+        Assert.assertTrue(m.isSquare());
+        Assert.assertEquals(r, m.toRealMatrix());
+        Assert.assertEquals(m, create(r.getData()));
+        Assert.assertEquals(m, create(new BlockRealMatrix(r.getData())));
+        Assert.assertEquals(m, m.copy());
+        Assert.assertEquals(m.hashCode(), m.copy().hashCode());
+        Assert.assertEquals(r.getTrace(), m.getTrace(), 1.0e-15);
+        Assert.assertEquals(MatrixUtils.createRealIdentityMatrix(n), createIdentity().toRealMatrix());
+
+        // the real matrix is independent of the instance
+        final RealMatrix converted = m.toRealMatrix();
+        m.setEntry(0, 0, m.getEntry(0, 0) + 1.0);
+        Assert.assertEquals(r, converted);
+
+        try {
+            create(MatrixUtils.createRealMatrix(n, n - 1));
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            Assert.assertEquals(LocalizedCoreFormats.DIMENSIONS_MISMATCH_2x2, miae.getSpecifier());
+        }
+        try {
+            create(new double[n + 1][n]);
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            Assert.assertEquals(LocalizedCoreFormats.DIMENSIONS_MISMATCH, miae.getSpecifier());
+        }
+    }
+
+    @Test
+    public void testArithmetic() {
+        final int n = getDimension();
+        final RandomGenerator random = new Well19937a(0x1c7f3b9e60a2d548l + n);
+        final RealMatrix ra = random(random);
+        final RealMatrix rb = random(random);
+        final M a = create(ra);
+        final M b = create(rb);
+        checkEquals(ra.add(rb),                a.add(b),                0.0);
+        checkEquals(ra.subtract(rb),           a.subtract(b),           0.0);
+        checkEquals(ra.scalarMultiply(1.5),    a.scalarMultiply(1.5),   0.0);
+        checkEquals(ra.transpose(),            a.transpose(),           0.0);
+        checkEquals(ra.multiply(rb),           a.multiply(b),           1.0e-15);
+        checkEquals(ra.multiplyTransposed(rb), a.multiplyTransposed(b), 1.0e-15);
+        checkEquals(ra.transposeMultiply(rb),  a.transposeMultiply(b),  1.0e-15);
+        final double[] v = rb.getRow(0);
+        Assert.assertArrayEquals(ra.operate(v), a.operate(v), 1.0e-15);
+        try {
+            a.operate(new double[n - 1]);
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            Assert.assertEquals(LocalizedCoreFormats.DIMENSIONS_MISMATCH, miae.getSpecifier());
+        }
+        try {
+            a.operate(v, new double[n + 1]);
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            Assert.assertEquals(LocalizedCoreFormats.DIMENSIONS_MISMATCH, miae.getSpecifier());
+        }
+    }
+
+    @Test
+    public void testInPlace() {
+        final int n = getDimension();
+        final RandomGenerator random = new Well19937a(0xa83d5f0e2c9b1746l + n);
+        final RealMatrix ra = random(random);
+        final RealMatrix rb = random(random);
+        final M b = create(rb);
+
+        // destination is the instance
+        final M a = create(ra);
+        a.multiply(b, a);
+        checkEquals(ra.multiply(rb), a, 1.0e-15);
+        a.set(create(ra));
+        a.multiplyTransposed(b, a);
+        checkEquals(ra.multiplyTransposed(rb), a, 1.0e-15);
+        a.set(create(ra));
+        a.transposeMultiply(b, a);
+        checkEquals(ra.transposeMultiply(rb), a, 1.0e-15);
+        a.set(create(ra));
+        a.transpose(a);
+        checkEquals(ra.transpose(), a, 0.0);
+        a.add(b, a);
+        a.subtract(b, a);
+        a.scalarMultiply(-1.0, a);
+        checkEquals(ra.transpose().scalarMultiply(-1.0), a, 1.0e-15);
+
+        // destination is the other operand
+        final M c = create(rb);
+        create(ra).multiply(c, c);
+        checkEquals(ra.multiply(rb), c, 1.0e-15);
+        c.set(create(rb));
+        create(ra).multiplyTransposed(c, c);
+        checkEquals(ra.multiplyTransposed(rb), c, 1.0e-15);
+        c.set(create(rb));
+        create(ra).transposeMultiply(c, c);
+        checkEquals(ra.transposeMultiply(rb), c, 1.0e-15);
+
+        // vector
+        final double[] v = rb.getRow(1);
+        final double[] expected = ra.operate(v);
+        create(ra).operate(v, v);
+        Assert.assertArrayEquals(expected, v, 1.0e-15);
+    }
+
+    @Test
+    public void testDeterminant() {
+        final RandomGenerator random = new Well19937a(0x74e2b9a10d6c3f85l + getDimension());
+        for (int k = 0; k < 10; ++k) {
+            final RealMatrix r = random(random);
+            final double expected = new LUDecomposition(r).getDeterminant();
+            Assert.assertEquals(expected, create(r).getDeterminant(),
+                                1.0e-14 * FastMath.max(1.0, FastMath.abs(expected)));
+        }
+        Assert.assertEquals(1.0, createIdentity().getDeterminant(), 0.0);
+        Assert.assertEquals(0.0, createZero().getDeterminant(), 0.0);
+    }
+
+    @Test
+    public void testInverse() {
+        final int n = getDimension();
+        final RandomGenerator random = new Well19937a(0x3b0c8e5fd1a7924el + n);
+        for (int k = 0; k < 10; ++k) {
+            final RealMatrix r = random(random);
+            final M m = create(r);
+            final M inverse = m.inverse();
+            checkEquals(MatrixUtils.inverse(r), inverse, 1.0e-12);
+            checkEquals(MatrixUtils.createRealIdentityMatrix(n), m.multiply(inverse), 1.0e-11);
+            m.inverse(m);
+            Assert.assertEquals(inverse, m);
+        }
+        try {
+            createZero().inverse();
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            Assert.assertEquals(LocalizedCoreFormats.SINGULAR_MATRIX, miae.getSpecifier());
+        }
+    }
+
+    @Test
+    public void testCholesky() {
+        final int n = getDimension();
+        final RandomGenerator random = new Well19937a(0x6d2f1a8c4e0b7359l + n);
+        final RealMatrix r   = random(random);
+        final RealMatrix spd = r.multiplyTransposed(r).add(MatrixUtils.createRealIdentityMatrix(n));
+        final M m = create(spd);
+        final M l = m.cholesky();
+        checkEquals(new CholeskyDecomposition(spd).getL(), l, 1.0e-14);
+        checkEquals(spd, l.multiplyTransposed(l), 1.0e-14);
+        m.cholesky(m);
+        Assert.assertEquals(l, m);
+        try {
+            create(spd.scalarMultiply(-1.0)).cholesky();
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            Assert.assertEquals(LocalizedCoreFormats.NOT_POSITIVE_DEFINITE_MATRIX, miae.getSpecifier());
+        }
+    }
+
+    /** Get the dimension of the matrices.
+     * @return dimension of the matrices
+     */
+    protected int getDimension() {
+        return createZero().getRowDimension();
+    }
+
+    /** Check inverse fails for a singular matrix.
+     * @param singular singular matrix
+     */
+    protected void checkSingular(final M singular) {
+        Assert.assertEquals(0.0, singular.getDeterminant(), 1.0e-15);
+        try {
+            singular.inverse();
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            Assert.assertEquals(LocalizedCoreFormats.SINGULAR_MATRIX, miae.getSpecifier());
+        }
+    }
+
+    private RealMatrix random(final RandomGenerator random) {
+        final int n = getDimension();
+        final RealMatrix m = MatrixUtils.createRealMatrix(n, n);
+        for (int i = 0; i < n; ++i) {
+            for (int j = 0; j < n; ++j) {
+                m.setEntry(i, j, 2 * random.nextDouble() - 1);
+            }
+        }
+        return m;
+    }
+
+    private void checkEquals(final RealMatrix expected, final M actual, final double tolerance) {
+        final int n = getDimension();
+        for (int i = 0; i < n; ++i) {
+            for (int j = 0; j < n; ++j) {
+                final double e = expected.getEntry(i, j);
+                Assert.assertEquals(e, actual.getEntry(i, j), tolerance * FastMath.max(1.0, FastMath.abs(e)));
+            }
+        }
+    }
+
+}
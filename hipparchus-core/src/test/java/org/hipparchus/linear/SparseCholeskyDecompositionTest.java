@@ -0,0 +1,173 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hipparchus.linear;
+
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.exception.MathIllegalArgumentException;
+import org.hipparchus.random.RandomGenerator;
+import org.hipparchus.random.Well1024a;
+import org.hipparchus.util.FastMath;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class SparseCholeskyDecompositionTest {
+
+    @Test
+    public void testSolveAgainstDense() {
+        final RandomGenerator random = new Well1024a(0x4c93b1e7f20a5d68l);
+        final CompressedRowRealMatrix a = SparseLUDecompositionTest.createRandom(random, 120, 0.03, true);
+        final RealMatrix dense = new Array2DRowRealMatrix(a.getData());
+        final SparseCholeskyDecomposition cholesky = new SparseCholeskyDecomposition(a);
+        final CholeskyDecomposition reference = new CholeskyDecomposition(dense);
+        Assert.assertEquals(1.0, cholesky.getDeterminant() / reference.getDeterminant(), 1.0e-12);
+
+        final RealMatrix rhs = new Array2DRowRealMatrix(120, 3);
+        for (int i = 0; i < 120; ++i) {
+            for (int j = 0; j < 3; ++j) {
+                rhs.setEntry(i, j, random.nextDouble());
+            }
+        }
+        final RealMatrix x = cholesky.getSolver().solve(rhs);
+        Assert.assertEquals(0.0, x.subtract(reference.getSolver().solve(rhs)).getNorm1(), 1.0e-12);
+        final RealVector x1 = cholesky.getSolver().solve(rhs.getColumnVector(1));
+        Assert.assertEquals(0.0, x1.subtract(x.getColumnVector(1)).getNorm(), 1.0e-13);
+    }
+
+    @Test
+    public void testFactors() {
+        final CompressedRowRealMatrix a =
+                        SparseLUDecompositionTest.createRandom(new Well1024a(0x93e0d5a4b7c1f26dl), 60, 0.05, true);
+        final SparseCholeskyDecomposition cholesky = new SparseCholeskyDecomposition(a);
+        final int[] p = cholesky.getPermutation();
+        final RealMatrix permuted = a.getSubMatrix(p, p);
+        final RealMatrix l = cholesky.getL();
+        for (int i = 0; i < 60; ++i) {
+            for (int j = i + 1; j < 60; ++j) {
+                Assert.assertEquals(0.0, l.getEntry(i, j), 0.0);
+            }
+        }
+        Assert.assertEquals(0.0, l.multiply(cholesky.getLT()).subtract(permuted).getNorm1(), 1.0e-13);
+    }
+
+    @Test
+    public void testInverse() {
+        final CompressedRowRealMatrix a = GMRESTest.convectionDiffusion(5, 0.0);
+        final RealMatrix inverse = new SparseCholeskyDecomposition(a).getSolver().getInverse();
+        Assert.assertEquals(0.0,
+                            a.multiply(inverse).subtract(MatrixUtils.createRealIdentityMatrix(25)).getNorm1(),
+                            1.0e-14);
+    }
+
+    @Test
+    public void testReuseAnalysis() {
+        final RandomGenerator random = new Well1024a(0x0fb5d8e2a6c4937al);
+        final CompressedRowRealMatrix a = SparseLUDecompositionTest.createRandom(random, 80, 0.04, true);
+        final SparseSymbolicAnalysis analysis = new SparseSymbolicAnalysis(a);
+        final RealVector b = GMRESTest.rightHandSide(80);
+        for (int trial = 0; trial < 4; ++trial) {
+
+            // same pattern, different values, one off-diagonal pair cancelled on the last trial
+            final double factor = 1.0 + trial;
+            final int[] start  = a.getRowStartRef();
+            final int[] column = a.getColumnIndexRef();
+            final CompressedRowRealMatrix.CompressedRowRealMatrixBuilder builder =
+                            CompressedRowRealMatrix.builder(80, 80);
+            for (int i = 0; i < 80; ++i) {
+                for (int q = start[i]; q < start[i + 1]; ++q) {
+                    final int j = column[q];
+                    final boolean cancelled = trial == 3 && i != j && FastMath.min(i, j) == 0;
+                    builder.addEntry(i, j, cancelled ? 0.0 : a.getEntry(i, j) * (i == j ? factor * factor : factor));
+                }
+            }
+            final CompressedRowRealMatrix m = builder.build();
+
+            final RealVector x = new SparseCholeskyDecomposition(m, analysis).getSolver().solve(b);
+            final RealVector reference = new CholeskyDecomposition(m).getSolver().solve(b);
+            Assert.assertEquals(0.0, x.subtract(reference).getNorm(), 1.0e-13);
+
+        }
+    }
+
+    @Test
+    public void testOpenMapInput() {
+        final OpenMapRealMatrix a = new OpenMapRealMatrix(200, 200);
+        for (int i = 0; i < 200; ++i) {
+            a.setEntry(i, i, 3.0);
+            if (i > 0) {
+                a.setEntry(i, i - 1, -1.0);
+                a.setEntry(i - 1, i, -1.0);
+            }
+        }
+        final RealVector b = GMRESTest.rightHandSide(200);
+        final RealVector x = new SparseCholeskyDecomposition(a).getSolver().solve(b);
+        Assert.assertEquals(0.0, a.operate(x).subtract(b).getNorm(), 1.0e-13);
+    }
+
+    @Test
+    public void testNotSymmetric() {
+        try {
+            new SparseCholeskyDecomposition(GMRESTest.convectionDiffusion(4, 0.25));
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            Assert.assertEquals(LocalizedCoreFormats.NON_SYMMETRIC_MATRIX, miae.getSpecifier());
+        }
+    }
+
+    @Test
+    public void testOneSidedNotSymmetric() {
+        // off-diagonal entries stored in only one triangle
+        for (final int[] position : new int[][] { { 2, 0 }, { 0, 2 } }) {
+            final RealMatrix m = new OpenMapRealMatrix(3, 3);
+            for (int i = 0; i < 3; ++i) {
+                m.setEntry(i, i, 4.0);
+            }
+            m.setEntry(position[0], position[1], 3.0);
+            try {
+                new SparseCholeskyDecomposition(m);
+                Assert.fail("an exception should have been thrown");
+            } catch (MathIllegalArgumentException miae) {
+                Assert.assertEquals(LocalizedCoreFormats.NON_SYMMETRIC_MATRIX, miae.getSpecifier());
+            }
+        }
+    }
+
+    @Test
+    public void testNotPositiveDefinite() {
+        final RealMatrix m = MatrixUtils.createRealMatrix(new double[][] {
+            { 1, 2, 0 },
+            { 2, 1, 0 },
+            { 0, 0, 1 }
+        });
+        try {
+            new SparseCholeskyDecomposition(m);
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            Assert.assertEquals(LocalizedCoreFormats.NOT_POSITIVE_DEFINITE_MATRIX, miae.getSpecifier());
+        }
+    }
+
+    @Test
+    public void testDimensionMismatch() {
+        try {
+            new SparseCholeskyDecomposition(GMRESTest.convectionDiffusion(3, 0.0)).getSolver().solve(new ArrayRealVector(8));
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            Assert.assertEquals(LocalizedCoreFormats.DIMENSIONS_MISMATCH, miae.getSpecifier());
+        }
+    }
+
+}
@@ -0,0 +1,205 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hipparchus.linear;
+
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.exception.MathIllegalArgumentException;
+import org.hipparchus.random.RandomGenerator;
+import org.hipparchus.random.Well1024a;
+import org.hipparchus.util.FastMath;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class SparseLUDecompositionTest {
+
+    @Test
+    public void testSolveAgainstDense() {
+        final RandomGenerator random = new Well1024a(0xd1a7e35c08b94f62l);
+        final CompressedRowRealMatrix a = createRandom(random, 150, 0.03, false);
+        final RealMatrix dense = new Array2DRowRealMatrix(a.getData());
+        final SparseLUDecomposition lu = new SparseLUDecomposition(a);
+        final LUDecomposition reference = new LUDecomposition(dense);
+        Assert.assertTrue(lu.getSolver().isNonSingular());
+        Assert.assertEquals(1.0, lu.getDeterminant() / reference.getDeterminant(), 1.0e-12);
+
+        final RealMatrix rhs = new Array2DRowRealMatrix(150, 3);
+        for (int i = 0; i < 150; ++i) {
+            for (int j = 0; j < 3; ++j) {
+                rhs.setEntry(i, j, random.nextDouble());
+            }
+        }
+        final RealMatrix x = lu.getSolver().solve(rhs);
+        Assert.assertEquals(0.0, x.subtract(reference.getSolver().solve(rhs)).getNorm1(), 1.0e-12);
+        final RealVector x1 = lu.getSolver().solve(rhs.getColumnVector(1));
+        Assert.assertEquals(0.0, x1.subtract(x.getColumnVector(1)).getNorm(), 1.0e-13);
+    }
+
+    @Test
+    public void testConvectionDiffusion() {
+        final CompressedRowRealMatrix a = GMRESTest.convectionDiffusion(20, 0.6);
+        final RealVector b = GMRESTest.rightHandSide(400);
+        final RealVector x = new SparseLUDecomposition(a).getSolver().solve(b);
+        Assert.assertEquals(0.0, a.operate(x).subtract(b).getNorm(), 1.0e-12);
+    }
+
+    @Test
+    public void testFactors() {
+        final RandomGenerator random = new Well1024a(0x5e28c7f10d4b93a6l);
+        final CompressedRowRealMatrix a = createRandom(random, 60, 0.05, false);
+
+        // remove the diagonal of some rows, so pivoting is required
+        final CompressedRowRealMatrix.CompressedRowRealMatrixBuilder builder =
+                        CompressedRowRealMatrix.builder(60, 60);
+        for (int i = 0; i < 60; ++i) {
+            for (int j = 0; j < 60; ++j) {
+                if (i != j || i % 3 != 0) {
+                    builder.addEntry(i, j, a.getEntry(i, j));
+                }
+            }
+            builder.addEntry(i, (i + 7) % 60, 1.0);
+        }
+        final CompressedRowRealMatrix m = builder.build();
+
+        final SparseLUDecomposition lu = new SparseLUDecomposition(m);
+        final RealMatrix l = lu.getL();
+        final RealMatrix u = lu.getU();
+        for (int i = 0; i < 60; ++i) {
+            Assert.assertEquals(1.0, l.getEntry(i, i), 0.0);
+            for (int j = i + 1; j < 60; ++j) {
+                Assert.assertEquals(0.0, l.getEntry(i, j), 0.0);
+                Assert.assertEquals(0.0, u.getEntry(j, i), 0.0);
+            }
+        }
+        final RealMatrix permuted = m.getSubMatrix(lu.getRowPermutation(), lu.getColumnPermutation());
+        Assert.assertEquals(0.0, l.multiply(u).subtract(permuted).getNorm1(), 1.0e-13);
+        Assert.assertEquals(1.0, lu.getDeterminant() / new LUDecomposition(m).getDeterminant(), 1.0e-12);
+    }
+
+    @Test
+    public void testPermutationMatrix() {
+        final int n = 7;
+        final RealMatrix m = new OpenMapRealMatrix(n, n);
+        for (int i = 0; i < n; ++i) {
+            m.setEntry(i, (3 * i + 1) % n, i + 1.0);
+        }
+        final SparseLUDecomposition lu = new SparseLUDecomposition(m);
+        Assert.assertTrue(lu.getSolver().isNonSingular());
+        Assert.assertEquals(new LUDecomposition(m).getDeterminant(), lu.getDeterminant(), 1.0e-10);
+        final RealMatrix inverse = lu.getSolver().getInverse();
+        Assert.assertEquals(0.0,
+                            m.multiply(inverse).subtract(MatrixUtils.createRealIdentityMatrix(n)).getNorm1(),
+                            1.0e-15);
+    }
+
+    @Test
+    public void testPivotingThreshold() {
+        // with a threshold of 1, pivots are the largest entries as in dense partial pivoting
+        final RealMatrix m = MatrixUtils.createRealMatrix(new double[][] {
+            { 1, 4, 0 },
+            { 3, 1, 2 },
+            { 0, 2, 5 }
+        });
+        final SparseSymbolicAnalysis analysis = new SparseSymbolicAnalysis(m);
+        final SparseLUDecomposition full = new SparseLUDecomposition(m, analysis, 1.0, 1.0e-11);
+        final RealMatrix l = full.getL();
+        for (int i = 0; i < 3; ++i) {
+            for (int j = 0; j < i; ++j) {
+                Assert.assertTrue(FastMath.abs(l.getEntry(i, j)) <= 1.0);
+            }
+        }
+        final SparseLUDecomposition diagonal = new SparseLUDecomposition(m, analysis, 0.0, 1.0e-11);
+        Assert.assertArrayEquals(diagonal.getColumnPermutation(), diagonal.getRowPermutation());
+        Assert.assertEquals(full.getDeterminant(), diagonal.getDeterminant(), 1.0e-13);
+    }
+
+    @Test
+    public void testReuseAnalysis() {
+        final RandomGenerator random = new Well1024a(0xa4c02f7b98e3d51fl);
+        final CompressedRowRealMatrix a = createRandom(random, 70, 0.05, false);
+        final SparseSymbolicAnalysis analysis = new SparseSymbolicAnalysis(a);
+        final RealVector b = GMRESTest.rightHandSide(70);
+        for (int trial = 0; trial < 3; ++trial) {
+            final RealMatrix m = a.scalarMultiply(1.0 + trial).add(MatrixUtils.createRealIdentityMatrix(70));
+            final RealVector x = new SparseLUDecomposition(m, analysis).getSolver().solve(b);
+            Assert.assertEquals(0.0, m.operate(x).subtract(b).getNorm(), 1.0e-13);
+        }
+    }
+
+    @Test
+    public void testSingular() {
+        final RealMatrix m = MatrixUtils.createRealMatrix(new double[][] {
+            { 1, 2, 0 },
+            { 2, 4, 0 },
+            { 0, 0, 1 }
+        });
+        final SparseLUDecomposition lu = new SparseLUDecomposition(m);
+        Assert.assertFalse(lu.getSolver().isNonSingular());
+        Assert.assertEquals(0.0, lu.getDeterminant(), 0.0);
+        Assert.assertNull(lu.getL());
+        Assert.assertNull(lu.getU());
+        Assert.assertNull(lu.getRowPermutation());
+        try {
+            lu.getSolver().solve(new ArrayRealVector(3));
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            Assert.assertEquals(LocalizedCoreFormats.SINGULAR_MATRIX, miae.getSpecifier());
+        }
+    }
+
+    @Test
+    public void testWrongThreshold() {
+        final RealMatrix m = MatrixUtils.createRealIdentityMatrix(3);
+        try {
+            new SparseLUDecomposition(m, new SparseSymbolicAnalysis(m), 1.5, 1.0e-11);
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            Assert.assertEquals(LocalizedCoreFormats.OUT_OF_RANGE_SIMPLE, miae.getSpecifier());
+        }
+    }
+
+    /** Create a random sparse diagonally dominant matrix.
+     * @param random random generator
+     * @param n dimension
+     * @param density probability of off-diagonal entries to be non-zero
+     * @param symmetric if true, the matrix is symmetric (and positive definite)
+     * @return random matrix
+     */
+    static CompressedRowRealMatrix createRandom(final RandomGenerator random, final int n,
+                                               final double density, final boolean symmetric) {
+        final CompressedRowRealMatrix.CompressedRowRealMatrixBuilder builder =
+                        CompressedRowRealMatrix.builder(n, n);
+        final double[] diagonal = new double[n];
+        for (int i = 0; i < n; ++i) {
+            for (int j = symmetric ? i + 1 : 0; j < n; ++j) {
+                if (j != i && random.nextDouble() < density) {
+                    final double value = 2 * random.nextDouble() - 1;
+                    builder.addEntry(i, j, value);
+                    diagonal[i] += FastMath.abs(value);
+                    if (symmetric) {
+                        builder.addEntry(j, i, value);
+                        diagonal[j] += FastMath.abs(value);
+                    }
+                }
+            }
+        }
+        for (int i = 0; i < n; ++i) {
+            builder.addEntry(i, i, diagonal[i] + 1.0);
+        }
+        return builder.build();
+    }
+
+}
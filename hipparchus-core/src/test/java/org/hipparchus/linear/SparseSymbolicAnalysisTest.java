@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hipparchus.linear;
+
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.exception.MathIllegalArgumentException;
+import org.hipparchus.random.RandomGenerator;
+import org.hipparchus.random.Well1024a;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class SparseSymbolicAnalysisTest {
+
+    @Test
+    public void testPermutation() {
+        final SparseSymbolicAnalysis analysis =
+                        new SparseSymbolicAnalysis(SparseLUDecompositionTest.createRandom(new Well1024a(0x2b7f9e04c61d3a85l),
+                                                                                          200, 0.02, false));
+        Assert.assertEquals(200, analysis.getDimension());
+        final int[] permutation = analysis.getPermutation();
+        final boolean[] seen = new boolean[permutation.length];
+        for (final int p : permutation) {
+            Assert.assertFalse(seen[p]);
+            seen[p] = true;
+        }
+    }
+
+    @Test
+    public void testFillReduction() {
+        // with natural ordering, the Cholesky factor of the five points Laplacian
+        // on a nx by nx grid fills the whole band, i.e. about nx^3 entries
+        final int nx = 30;
+        final CompressedRowRealMatrix laplacian = GMRESTest.convectionDiffusion(nx, 0.0);
+        final RealMatrix natural = new CholeskyDecomposition(laplacian).getL();
+        int naturalNonZeros = 0;
+        for (int i = 0; i < natural.getRowDimension(); ++i) {
+            for (int j = 0; j <= i; ++j) {
+                if (natural.getEntry(i, j) != 0.0) {
+                    ++naturalNonZeros;
+                }
+            }
+        }
+        final SparseSymbolicAnalysis analysis = new SparseSymbolicAnalysis(laplacian);
+        Assert.assertTrue(analysis.getCholeskyNonZeros() < naturalNonZeros / 2);
+    }
+
+    @Test
+    public void testCholeskyNonZeros() {
+        final CompressedRowRealMatrix laplacian = GMRESTest.convectionDiffusion(12, 0.0);
+        final SparseSymbolicAnalysis analysis = new SparseSymbolicAnalysis(laplacian);
+        final SparseCholeskyDecomposition cholesky = new SparseCholeskyDecomposition(laplacian, analysis);
+        Assert.assertEquals(analysis.getCholeskyNonZeros(), cholesky.getLT().getNonZeros());
+    }
+
+    @Test
+    public void testDiagonal() {
+        final SparseSymbolicAnalysis analysis =
+                        new SparseSymbolicAnalysis(new DiagonalMatrix(new double[] { 1, 2, 3, 4 }));
+        Assert.assertEquals(4, analysis.getCholeskyNonZeros());
+    }
+
+    @Test
+    public void testNonSquare() {
+        try {
+            new SparseSymbolicAnalysis(new OpenMapRealMatrix(3, 4));
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            Assert.assertEquals(LocalizedCoreFormats.NON_SQUARE_MATRIX, miae.getSpecifier());
+        }
+    }
+
+    @Test
+    public void testPatternMismatch() {
+        final RandomGenerator random = new Well1024a(0x61e4c0d7a93b2f58l);
+        final CompressedRowRealMatrix a = SparseLUDecompositionTest.createRandom(random, 50, 0.05, true);
+        final SparseSymbolicAnalysis analysis = new SparseSymbolicAnalysis(a);
+        final RealMatrix b = a.add(MatrixUtils.createRealIdentityMatrix(50));
+        b.setEntry(0, 49, 1.0);
+        b.setEntry(49, 0, 1.0);
+        if (a.getEntry(0, 49) != 0.0) {
+            Assert.fail("unexpected entry in random matrix");
+        }
+        try {
+            new SparseCholeskyDecomposition(b, analysis);
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            Assert.assertEquals(LocalizedCoreFormats.SPARSITY_PATTERN_MISMATCH, miae.getSpecifier());
+        }
+    }
+
+    @Test
+    public void testDimensionMismatch() {
+        final SparseSymbolicAnalysis analysis = new SparseSymbolicAnalysis(GMRESTest.convectionDiffusion(4, 0.0));
+        try {
+            new SparseLUDecomposition(GMRESTest.convectionDiffusion(5, 0.0), analysis);
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            Assert.assertEquals(LocalizedCoreFormats.DIMENSIONS_MISMATCH_2x2, miae.getSpecifier());
+        }
+    }
+
+}
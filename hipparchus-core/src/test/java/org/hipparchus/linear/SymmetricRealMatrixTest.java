@@ -0,0 +1,298 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hipparchus.linear;
+
+import java.util.function.DoubleUnaryOperator;
+
+import org.hipparchus.UnitTestUtils;
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.exception.MathIllegalArgumentException;
+import org.hipparchus.random.RandomGenerator;
+import org.hipparchus.random.Well1024a;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class SymmetricRealMatrixTest {
+
+    @Test
+    public void testEntries() {
+        final SymmetricRealMatrix m = new SymmetricRealMatrix(4);
+        Assert.assertEquals(10, m.getDataRef().length);
+        m.setEntry(1, 3, 2.5);
+        Assert.assertEquals(2.5, m.getEntry(3, 1), 0.0);
+        m.addToEntry(3, 1, 1.0);
+        Assert.assertEquals(3.5, m.getEntry(1, 3), 0.0);
+        m.multiplyEntry(1, 3, 2.0);
+        Assert.assertEquals(7.0, m.getEntry(3, 1), 0.0);
+        m.setEntry(2, 2, -1.0);
+        Assert.assertEquals(-1.0, m.getTrace(), 0.0);
+        final double[][] data = m.getData();
+        for (int i = 0; i < 4; ++i) {
+            for (int j = 0; j < 4; ++j) {
+                Assert.assertEquals(data[j][i], data[i][j], 0.0);
+                Assert.assertEquals(m.getEntry(i, j), data[i][j], 0.0);
+            }
+        }
+        try {
+            m.getEntry(4, 0);
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            Assert.assertEquals(LocalizedCoreFormats.ROW_INDEX, miae.getSpecifier());
+        }
+    }
+
+    @Test
+    public void testFromMatrix() {
+        final RealMatrix dense = new Array2DRowRealMatrix(createRandom(new Well1024a(0x3d6b09e1f84c7a25l), 5).getData());
+        final SymmetricRealMatrix m = new SymmetricRealMatrix(dense, 0.0);
+        Assert.assertEquals(0.0, m.subtract(dense).getNorm1(), 0.0);
+        dense.setEntry(0, 4, dense.getEntry(4, 0) + 1.0e-3);
+        try {
+            new SymmetricRealMatrix(dense, 1.0e-10);
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            Assert.assertEquals(LocalizedCoreFormats.NON_SYMMETRIC_MATRIX, miae.getSpecifier());
+        }
+        try {
+            new SymmetricRealMatrix(3, new double[5], false);
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            Assert.assertEquals(LocalizedCoreFormats.DIMENSIONS_MISMATCH, miae.getSpecifier());
+        }
+    }
+
+    @Test
+    public void testOperate() {
+        final RandomGenerator random = new Well1024a(0x8c2e57a4d0b13f96l);
+        final SymmetricRealMatrix m = createRandom(random, 7);
+        final RealMatrix dense = new Array2DRowRealMatrix(m.getData());
+        final double[] v = new double[7];
+        for (int i = 0; i < v.length; ++i) {
+            v[i] = random.nextDouble();
+        }
+        UnitTestUtils.assertEquals(dense.operate(v), m.operate(v), 1.0e-15);
+        UnitTestUtils.assertEquals(dense.preMultiply(v), m.preMultiply(v), 1.0e-15);
+        final double[] out = v.clone();
+        m.operate(out, out);
+        UnitTestUtils.assertEquals(dense.operate(v), out, 1.0e-15);
+    }
+
+    @Test
+    public void testMultiply() {
+        final RandomGenerator random = new Well1024a(0x51f7c3b8e29d0a64l);
+        final SymmetricRealMatrix m = createRandom(random, 6);
+        final RealMatrix other = new Array2DRowRealMatrix(6, 4);
+        for (int i = 0; i < 6; ++i) {
+            for (int j = 0; j < 4; ++j) {
+                other.setEntry(i, j, random.nextDouble());
+            }
+        }
+        final RealMatrix product = m.multiply(other);
+        final RealMatrix expected = new Array2DRowRealMatrix(m.getData()).multiply(other);
+        Assert.assertEquals(0.0, product.subtract(expected).getNorm1(), 1.0e-14);
+    }
+
+    @Test
+    public void testCongruence() {
+        final RandomGenerator random = new Well1024a(0xa07e4d9c6b2358f1l);
+        final SymmetricRealMatrix s = createRandom(random, 5);
+        final RealMatrix a = new Array2DRowRealMatrix(3, 5);
+        for (int i = 0; i < 3; ++i) {
+            for (int j = 0; j < 5; ++j) {
+                a.setEntry(i, j, random.nextDouble());
+            }
+        }
+        final SymmetricRealMatrix congruence = s.congruence(a);
+        Assert.assertEquals(3, congruence.getRowDimension());
+        final RealMatrix expected = a.multiply(new Array2DRowRealMatrix(s.getData())).multiplyTransposed(a);
+        Assert.assertEquals(0.0, congruence.subtract(expected).getNorm1(), 1.0e-14);
+        Assert.assertEquals(0.0, s.congruence(new BlockRealMatrix(a.getData())).subtract(expected).getNorm1(), 1.0e-14);
+        try {
+            s.congruence(a.transpose());
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            Assert.assertEquals(LocalizedCoreFormats.DIMENSIONS_MISMATCH, miae.getSpecifier());
+        }
+    }
+
+    @Test
+    public void testSymmetricResults() {
+        final RandomGenerator random = new Well1024a(0x6e93a5f20c7d14b8l);
+        final SymmetricRealMatrix a = createRandom(random, 4);
+        final SymmetricRealMatrix b = createRandom(random, 4);
+        final RealMatrix denseA = new Array2DRowRealMatrix(a.getData());
+        final RealMatrix denseB = new Array2DRowRealMatrix(b.getData());
+        Assert.assertTrue(a.add((RealMatrix) b) instanceof SymmetricRealMatrix);
+        Assert.assertTrue(a.subtract((RealMatrix) b) instanceof SymmetricRealMatrix);
+        Assert.assertFalse(a.add(denseB) instanceof SymmetricRealMatrix);
+        Assert.assertEquals(0.0, a.add(b).subtract(denseA.add(denseB)).getNorm1(), 1.0e-15);
+        Assert.assertEquals(0.0, a.subtract(b).subtract(denseA.subtract(denseB)).getNorm1(), 1.0e-15);
+        Assert.assertEquals(0.0, a.scalarAdd(2.0).subtract(denseA.scalarAdd(2.0)).getNorm1(), 1.0e-15);
+        Assert.assertEquals(0.0, a.scalarMultiply(2.0).subtract(denseA.scalarMultiply(2.0)).getNorm1(), 1.0e-15);
+        Assert.assertEquals(a, a.transpose());
+        final SymmetricRealMatrix copy = a.copy();
+        copy.setEntry(0, 1, 10.0);
+        Assert.assertNotEquals(a.getEntry(1, 0), copy.getEntry(1, 0), 1.0);
+    }
+
+    @Test
+    public void testDecompositions() {
+        final RandomGenerator random = new Well1024a(0x2c58f1e07b9d36a4l);
+        final SymmetricRealMatrix m = createRandom(random, 8);
+        for (int i = 0; i < 8; ++i) {
+            m.addToEntry(i, i, 8.0);
+        }
+        final RealMatrix dense = new Array2DRowRealMatrix(m.getData());
+        final CholeskyDecomposition cholesky = new CholeskyDecomposition(m);
+        Assert.assertEquals(0.0, cholesky.getL().subtract(new CholeskyDecomposition(dense).getL()).getNorm1(), 0.0);
+        final EigenDecompositionSymmetric eigen = new EigenDecompositionSymmetric(m);
+        UnitTestUtils.assertEquals(new EigenDecompositionSymmetric(dense).getEigenvalues(), eigen.getEigenvalues(), 0.0);
+        Assert.assertTrue(MatrixUtils.isSymmetric(m, 0.0));
+    }
+
+    @Test
+    public void testChangingWalkers() {
+        for (int walker = 0; walker < 3; ++walker) {
+            final SymmetricRealMatrix doubled = new SymmetricRealMatrix(2, new double[] { 1, 3, 5 }, true);
+            Assert.assertEquals(3, walk(doubled, walker, v -> 2 * v), 0.0);
+            Assert.assertArrayEquals(new double[] { 2, 6, 10 }, doubled.getDataRef(), 0.0);
+            final SymmetricRealMatrix shifted = new SymmetricRealMatrix(2, new double[] { 1, 3, 5 }, true);
+            Assert.assertEquals(3, walk(shifted, walker, v -> v + 1), 0.0);
+            Assert.assertArrayEquals(new double[] { 2, 4, 6 }, shifted.getDataRef(), 0.0);
+        }
+    }
+
+    @Test
+    public void testChangingWalkersSubMatrix() {
+        // sub-matrices crossing the diagonal, above it and below it
+        final int[][] ranges = { { 1, 2, 0, 3 }, { 0, 3, 1, 2 }, { 0, 1, 2, 4 }, { 3, 4, 0, 1 }, { 1, 3, 1, 3 } };
+        for (final int[] range : ranges) {
+            for (int walker = 0; walker < 3; ++walker) {
+                final SymmetricRealMatrix m = createRandom(new Well1024a(0x52f9e0c3a7d6b184l), 5);
+                final SymmetricRealMatrix original = m.copy();
+                final double visited = walk(m, walker, v -> v + 1, range[0], range[1], range[2], range[3]);
+                int expectedVisited = 0;
+                for (int i = 0; i < 5; ++i) {
+                    for (int j = i; j < 5; ++j) {
+                        // each stored entry is shifted once if it or its symmetric entry is in the range
+                        final boolean inRange = (i >= range[0] && i <= range[1] && j >= range[2] && j <= range[3]) ||
+                                                (j >= range[0] && j <= range[1] && i >= range[2] && i <= range[3]);
+                        if (inRange) {
+                            ++expectedVisited;
+                        }
+                        Assert.assertEquals(original.getEntry(i, j) + (inRange ? 1 : 0), m.getEntry(i, j), 0.0);
+                    }
+                }
+                Assert.assertEquals(expectedVisited, visited, 0.0);
+            }
+        }
+    }
+
+    @Test
+    public void testSerial() {
+        final SymmetricRealMatrix m = createRandom(new Well1024a(0x9b1d47e6a3c0f825l), 5);
+        Assert.assertEquals(m, UnitTestUtils.serializeAndRecover(m));
+    }
+
+    /** Walk through a whole matrix, counting visited entries.
+     * @param m matrix to walk
+     * @param walker walker index (0 for row order, 1 for column order, 2 for optimized order)
+     * @param f function to apply to entries
+     * @return number of visited entries
+     */
+    private static double walk(final SymmetricRealMatrix m, final int walker, final DoubleUnaryOperator f) {
+        final RealMatrixChangingVisitor visitor = new CountingVisitor(f);
+        switch (walker) {
+            case 0 :
+                return m.walkInRowOrder(visitor);
+            case 1 :
+                return m.walkInColumnOrder(visitor);
+            default :
+                return m.walkInOptimizedOrder(visitor);
+        }
+    }
+
+    /** Walk through a sub-matrix, counting visited entries.
+     * @param m matrix to walk
+     * @param walker walker index (0 for row order, 1 for column order, 2 for optimized order)
+     * @param f function to apply to entries
+     * @param startRow initial row index
+     * @param endRow final row index (inclusive)
+     * @param startColumn initial column index
+     * @param endColumn final column index (inclusive)
+     * @return number of visited entries
+     */
+    private static double walk(final SymmetricRealMatrix m, final int walker, final DoubleUnaryOperator f,
+                               final int startRow, final int endRow, final int startColumn, final int endColumn) {
+        final RealMatrixChangingVisitor visitor = new CountingVisitor(f);
+        switch (walker) {
+            case 0 :
+                return m.walkInRowOrder(visitor, startRow, endRow, startColumn, endColumn);
+            case 1 :
+                return m.walkInColumnOrder(visitor, startRow, endRow, startColumn, endColumn);
+            default :
+                return m.walkInOptimizedOrder(visitor, startRow, endRow, startColumn, endColumn);
+        }
+    }
+
+    /** Visitor applying a function and counting visited entries. */
+    private static class CountingVisitor extends DefaultRealMatrixChangingVisitor {
+
+        /** Function to apply. */
+        private final DoubleUnaryOperator f;
+
+        /** Number of visited entries. */
+        private int count;
+
+        /** Simple constructor.
+         * @param f function to apply
+         */
+        CountingVisitor(final DoubleUnaryOperator f) {
+            this.f = f;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public double visit(final int row, final int column, final double value) {
+            ++count;
+            return f.applyAsDouble(value);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public double end() {
+            return count;
+        }
+
+    }
+
+    /** Create a symmetric matrix with random entries.
+     * @param random random generator
+     * @param n dimension
+     * @return random symmetric matrix
+     */
+    static SymmetricRealMatrix createRandom(final RandomGenerator random, final int n) {
+        final SymmetricRealMatrix m = new SymmetricRealMatrix(n);
+        for (int i = 0; i < n; ++i) {
+            for (int j = i; j < n; ++j) {
+                m.setEntry(i, j, 2 * random.nextDouble() - 1);
+            }
+        }
+        return m;
+    }
+
+}
@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hipparchus.linear;
+
+import org.hipparchus.UnitTestUtils;
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.exception.MathIllegalArgumentException;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TridiagonalRealMatrixTest {
+
+    @Test
+    public void testDiagonals() {
+        final TridiagonalRealMatrix m = new TridiagonalRealMatrix(new double[] { 1, 2, 3 },
+                                                                  new double[] { 4, 5, 6, 7 },
+                                                                  new double[] { 8, 9, 10 });
+        Assert.assertEquals(1, m.getLowerBandwidth());
+        Assert.assertEquals(1, m.getUpperBandwidth());
+        UnitTestUtils.assertEquals(new double[] { 1, 2, 3 },    m.getSubDiagonal(),   0.0);
+        UnitTestUtils.assertEquals(new double[] { 4, 5, 6, 7 }, m.getDiagonal(),      0.0);
+        UnitTestUtils.assertEquals(new double[] { 8, 9, 10 },   m.getSuperDiagonal(), 0.0);
+        final double[][] expected = {
+            { 4, 8, 0,  0 },
+            { 1, 5, 9,  0 },
+            { 0, 2, 6, 10 },
+            { 0, 0, 3,  7 }
+        };
+        Assert.assertEquals(0.0, m.subtract(new Array2DRowRealMatrix(expected)).getNorm1(), 0.0);
+    }
+
+    @Test
+    public void testCopyAndTranspose() {
+        final TridiagonalRealMatrix m = new TridiagonalRealMatrix(new double[] { 1, 2 },
+                                                                  new double[] { 3, 4, 5 },
+                                                                  new double[] { 6, 7 });
+        final TridiagonalRealMatrix copy = m.copy();
+        copy.setEntry(1, 1, -1.0);
+        Assert.assertEquals(4.0, m.getEntry(1, 1), 0.0);
+        final TridiagonalRealMatrix t = m.transpose();
+        UnitTestUtils.assertEquals(new double[] { 6, 7 }, t.getSubDiagonal(),   0.0);
+        UnitTestUtils.assertEquals(new double[] { 1, 2 }, t.getSuperDiagonal(), 0.0);
+    }
+
+    @Test
+    public void testSolve() {
+        // second derivative discretization, as used in natural cubic splines
+        final int n = 100;
+        final double[] sub   = new double[n - 1];
+        final double[] diag  = new double[n];
+        final double[] sup   = new double[n - 1];
+        final double[] rhs   = new double[n];
+        for (int i = 0; i < n; ++i) {
+            diag[i] = 4;
+            rhs[i]  = i % 7 - 3;
+            if (i < n - 1) {
+                sub[i] = 1;
+                sup[i] = 1;
+            }
+        }
+        final TridiagonalRealMatrix m = new TridiagonalRealMatrix(sub, diag, sup);
+        final RealVector x = new BandedLUDecomposition(m).getSolver().solve(new ArrayRealVector(rhs));
+        UnitTestUtils.assertEquals(rhs, m.operate(x).toArray(), 1.0e-13);
+        final RealVector y = new BandedCholeskyDecomposition(m).getSolver().solve(new ArrayRealVector(rhs));
+        UnitTestUtils.assertEquals(x.toArray(), y.toArray(), 1.0e-14);
+    }
+
+    @Test
+    public void testWrongDiagonals() {
+        try {
+            new TridiagonalRealMatrix(new double[2], new double[4], new double[3]);
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            Assert.assertEquals(LocalizedCoreFormats.DIMENSIONS_MISMATCH, miae.getSpecifier());
+        }
+        try {
+            new TridiagonalRealMatrix(new double[3], new double[4], new double[4]);
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            Assert.assertEquals(LocalizedCoreFormats.DIMENSIONS_MISMATCH, miae.getSpecifier());
+        }
+    }
+
+}
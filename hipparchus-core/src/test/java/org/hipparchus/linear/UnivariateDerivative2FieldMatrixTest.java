@@ -0,0 +1,45 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hipparchus.linear;
+
+import org.hipparchus.analysis.differentiation.UnivariateDerivative2;
+import org.hipparchus.random.RandomGenerator;
+
+public class UnivariateDerivative2FieldMatrixTest extends PlanesFieldAbstractTest<UnivariateDerivative2> {
+
+    @Override
+    protected UnivariateDerivative2 randomElement(final RandomGenerator random) {
+        return new UnivariateDerivative2(2 * random.nextDouble() - 1, 2 * random.nextDouble() - 1,
+                                         2 * random.nextDouble() - 1);
+    }
+
+    @Override
+    protected AbstractPlanesFieldMatrix<UnivariateDerivative2> createMatrix(final int rows, final int columns) {
+        return new UnivariateDerivative2FieldMatrix(rows, columns);
+    }
+
+    @Override
+    protected AbstractPlanesFieldMatrix<UnivariateDerivative2> toPlanes(final FieldMatrix<UnivariateDerivative2> m) {
+        return new UnivariateDerivative2FieldMatrix(m);
+    }
+
+    @Override
+    protected AbstractPlanesFieldVector<UnivariateDerivative2> toPlanes(final FieldVector<UnivariateDerivative2> v) {
+        return new UnivariateDerivative2FieldVector(v);
+    }
+
+}
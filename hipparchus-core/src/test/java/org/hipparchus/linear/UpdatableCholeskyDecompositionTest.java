@@ -0,0 +1,213 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hipparchus.linear;
+
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.exception.MathIllegalArgumentException;
+import org.hipparchus.random.RandomGenerator;
+import org.hipparchus.random.Well1024a;
+import org.hipparchus.util.FastMath;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class UpdatableCholeskyDecompositionTest {
+
+    @Test
+    public void testUpdateDowndate() {
+        final RandomGenerator random = new Well1024a(0x7c4f2a91e03d68b5l);
+        RealMatrix a = createSPD(random, 40);
+        final UpdatableCholeskyDecomposition decomposition = new UpdatableCholeskyDecomposition(a);
+        final DecompositionSolver solver = decomposition.getSolver();
+        for (int k = 0; k < 20; ++k) {
+            final RealVector x = createVector(random, 40);
+            a = a.add(x.outerProduct(x));
+            decomposition.update(x);
+            checkDecomposition(a, decomposition, 1.0e-13);
+        }
+        for (int k = 0; k < 20; ++k) {
+            final RealVector x = createVector(random, 40).mapMultiply(0.5);
+            a = a.subtract(x.outerProduct(x));
+            decomposition.downdate(x);
+            checkDecomposition(a, decomposition, 1.0e-13);
+        }
+
+        // the solver retrieved at start is still in sync
+        final RealVector b = createVector(random, 40);
+        final RealVector expected = new CholeskyDecomposition(a).getSolver().solve(b);
+        Assert.assertEquals(0.0, solver.solve(b).subtract(expected).getNorm(), 1.0e-12 * expected.getNorm());
+        final double determinant = new CholeskyDecomposition(a).getDeterminant();
+        Assert.assertEquals(determinant, decomposition.getDeterminant(), 1.0e-11 * FastMath.abs(determinant));
+
+    }
+
+    @Test
+    public void testDowndateNotPositiveDefinite() {
+        final RealMatrix a = MatrixUtils.createRealDiagonalMatrix(new double[] { 4, 9, 16 });
+        final UpdatableCholeskyDecomposition decomposition = new UpdatableCholeskyDecomposition(a);
+        final RealMatrix lT = decomposition.getLT();
+        try {
+            decomposition.downdate(new ArrayRealVector(new double[] { 0, 3, 0 }));
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            Assert.assertEquals(LocalizedCoreFormats.NOT_POSITIVE_DEFINITE_MATRIX, miae.getSpecifier());
+        }
+        // decomposition is unchanged
+        Assert.assertEquals(0.0, decomposition.getLT().subtract(lT).getNorm1(), 0.0);
+        decomposition.downdate(new ArrayRealVector(new double[] { 0, 2.5, 0 }));
+        Assert.assertEquals(FastMath.sqrt(9 - 2.5 * 2.5), decomposition.getLT().getEntry(1, 1), 1.0e-15);
+    }
+
+    @Test
+    public void testDowndateBelowThreshold() {
+        final RealMatrix a = MatrixUtils.createRealMatrix(new double[][] {
+            { 4, 2, 0 }, { 2, 10, 3 }, { 0, 3, 17 }
+        });
+        final UpdatableCholeskyDecomposition decomposition =
+                        new UpdatableCholeskyDecomposition(a, CholeskyDecomposition.DEFAULT_RELATIVE_SYMMETRY_THRESHOLD, 1.0);
+        final RealMatrix lT = decomposition.getLT();
+        try {
+            // modified matrix is positive definite, but its last squared diagonal element is 0.5
+            decomposition.downdate(new ArrayRealVector(new double[] { 0, 0, FastMath.sqrt(15.5) }));
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            Assert.assertEquals(LocalizedCoreFormats.NOT_POSITIVE_DEFINITE_MATRIX, miae.getSpecifier());
+        }
+        // decomposition is unchanged
+        Assert.assertEquals(0.0, decomposition.getLT().subtract(lT).getNorm1(), 0.0);
+        decomposition.downdate(new ArrayRealVector(new double[] { 0, 0, FastMath.sqrt(14.5) }));
+        final RealMatrix expected = a.subtract(MatrixUtils.createRealDiagonalMatrix(new double[] { 0, 0, 14.5 }));
+        Assert.assertEquals(0.0,
+                            decomposition.getLT().transposeMultiply(decomposition.getLT()).subtract(expected).getNorm1(),
+                            1.0e-13);
+    }
+
+    @Test
+    public void testInsertDelete() {
+        final RandomGenerator random = new Well1024a(0x19e6b03d7c4a25f8l);
+        final RealMatrix big = createSPD(random, 30);
+        int[] current = new int[] { 0, 2, 3, 7, 8, 12, 20, 21, 29 };
+        final UpdatableCholeskyDecomposition decomposition =
+                        new UpdatableCholeskyDecomposition(big.getSubMatrix(current, current));
+
+        // insert rows and columns at start, in the middle and at end
+        for (final int[] insertion : new int[][] { { 0, 1 }, { 4, 5 }, { 11, 25 }, { 6, 10 } }) {
+            final int position = insertion[0];
+            final int[] next   = new int[current.length + 1];
+            System.arraycopy(current, 0, next, 0, position);
+            next[position] = insertion[1];
+            System.arraycopy(current, position, next, position + 1, current.length - position);
+            final RealVector column = new ArrayRealVector(next.length);
+            for (int i = 0; i < next.length; ++i) {
+                column.setEntry(i, big.getEntry(next[i], insertion[1]));
+            }
+            decomposition.insertRowAndColumn(position, column);
+            current = next;
+            checkDecomposition(big.getSubMatrix(current, current), decomposition, 1.0e-13);
+        }
+
+        // delete rows and columns
+        for (final int position : new int[] { 0, 11, 5, 5, 1 }) {
+            final int[] next = new int[current.length - 1];
+            System.arraycopy(current, 0, next, 0, position);
+            System.arraycopy(current, position + 1, next, position, next.length - position);
+            decomposition.deleteRowAndColumn(position);
+            current = next;
+            checkDecomposition(big.getSubMatrix(current, current), decomposition, 1.0e-13);
+        }
+        Assert.assertEquals(current.length, decomposition.getDimension());
+
+    }
+
+    @Test
+    public void testInsertNotPositiveDefinite() {
+        final RealMatrix a = MatrixUtils.createRealDiagonalMatrix(new double[] { 4, 9 });
+        final UpdatableCholeskyDecomposition decomposition = new UpdatableCholeskyDecomposition(a);
+        try {
+            // inserted diagonal element is too small
+            decomposition.insertRowAndColumn(1, new ArrayRealVector(new double[] { 2, 1, 3 }));
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            Assert.assertEquals(LocalizedCoreFormats.NOT_POSITIVE_DEFINITE_MATRIX, miae.getSpecifier());
+        }
+        try {
+            // trailing block becomes indefinite
+            decomposition.insertRowAndColumn(0, new ArrayRealVector(new double[] { 1, 0, 3.5 }));
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            Assert.assertEquals(LocalizedCoreFormats.NOT_POSITIVE_DEFINITE_MATRIX, miae.getSpecifier());
+        }
+        Assert.assertEquals(2, decomposition.getDimension());
+        Assert.assertEquals(5.0, decomposition.getDecomposition().getL().getTrace(), 1.0e-15);
+    }
+
+    @Test
+    public void testWrongParameters() {
+        final UpdatableCholeskyDecomposition decomposition =
+                        new UpdatableCholeskyDecomposition(MatrixUtils.createRealIdentityMatrix(3));
+        try {
+            decomposition.update(new ArrayRealVector(4));
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            Assert.assertEquals(LocalizedCoreFormats.DIMENSIONS_MISMATCH, miae.getSpecifier());
+        }
+        try {
+            decomposition.insertRowAndColumn(4, new ArrayRealVector(4, 1.0));
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            Assert.assertEquals(LocalizedCoreFormats.OUT_OF_RANGE_SIMPLE, miae.getSpecifier());
+        }
+        decomposition.deleteRowAndColumn(2);
+        decomposition.deleteRowAndColumn(0);
+        try {
+            decomposition.deleteRowAndColumn(0);
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            Assert.assertEquals(LocalizedCoreFormats.NUMBER_TOO_SMALL, miae.getSpecifier());
+        }
+    }
+
+    private static void checkDecomposition(final RealMatrix a, final UpdatableCholeskyDecomposition decomposition,
+                                           final double tolerance) {
+        final RealMatrix lT = decomposition.getLT();
+        for (int i = 0; i < lT.getRowDimension(); ++i) {
+            Assert.assertTrue(lT.getEntry(i, i) > 0);
+            for (int j = 0; j < i; ++j) {
+                Assert.assertEquals(0.0, lT.getEntry(i, j), 0.0);
+            }
+        }
+        Assert.assertEquals(0.0, decomposition.getL().multiply(lT).subtract(a).getNorm1(), tolerance * a.getNorm1());
+    }
+
+    private static RealMatrix createSPD(final RandomGenerator random, final int n) {
+        final RealMatrix m = MatrixUtils.createRealMatrix(n, n);
+        for (int i = 0; i < n; ++i) {
+            for (int j = 0; j < n; ++j) {
+                m.setEntry(i, j, 2 * random.nextDouble() - 1);
+            }
+        }
+        return m.transposeMultiply(m).add(MatrixUtils.createRealIdentityMatrix(n).scalarMultiply(n));
+    }
+
+    private static RealVector createVector(final RandomGenerator random, final int n) {
+        final RealVector v = new ArrayRealVector(n);
+        for (int i = 0; i < n; ++i) {
+            v.setEntry(i, 2 * random.nextDouble() - 1);
+        }
+        return v;
+    }
+
+}
@@ -0,0 +1,211 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hipparchus.linear;
+
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.exception.MathIllegalArgumentException;
+import org.hipparchus.random.RandomGenerator;
+import org.hipparchus.random.Well1024a;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class UpdatableQRDecompositionTest {
+
+    @Test
+    public void testSlidingWindow() {
+        final RandomGenerator random = new Well1024a(0x3f9a61c2d84b07e5l);
+        final RealMatrix all = createMatrix(random, 500, 8);
+        final RealVector observations = createVector(random, 500);
+        final int window = 50;
+        final UpdatableQRDecomposition decomposition =
+                        new UpdatableQRDecomposition(all.getSubMatrix(0, window - 1, 0, 7));
+        final DecompositionSolver solver = decomposition.getSolver();
+        for (int start = 1; start + window <= all.getRowDimension(); ++start) {
+            decomposition.deleteRow(0);
+            decomposition.update(all.getRowVector(start + window - 1));
+            if (start % 50 == 0) {
+                final RealMatrix a = all.getSubMatrix(start, start + window - 1, 0, 7);
+                checkDecomposition(a, decomposition, 1.0e-13);
+                final RealVector b = observations.getSubVector(start, window);
+                final RealVector expected = new QRDecomposition(a).getSolver().solve(b);
+                Assert.assertEquals(0.0, solver.solve(b).subtract(expected).getNorm(), 1.0e-13 * expected.getNorm());
+            }
+        }
+        Assert.assertEquals(window, decomposition.getRowDimension());
+        Assert.assertEquals(8, decomposition.getColumnDimension());
+    }
+
+    @Test
+    public void testInsertDeleteRows() {
+        final RandomGenerator random = new Well1024a(0x82d5e7014b6f3ca9l);
+        RealMatrix a = createMatrix(random, 20, 6);
+        final UpdatableQRDecomposition decomposition = new UpdatableQRDecomposition(a);
+        for (final int index : new int[] { 0, 20, 7, 13 }) {
+            final RealVector row = createVector(random, 6);
+            a = insertRow(a, index, row);
+            decomposition.insertRow(index, row);
+            checkDecomposition(a, decomposition, 1.0e-13);
+        }
+        for (final int index : new int[] { 23, 0, 11, 3 }) {
+            a = deleteRow(a, index);
+            decomposition.deleteRow(index);
+            checkDecomposition(a, decomposition, 1.0e-13);
+        }
+        final RealVector b = createVector(random, a.getRowDimension());
+        final RealVector expected = new QRDecomposition(a).getSolver().solve(b);
+        Assert.assertEquals(0.0, decomposition.getSolver().solve(b).subtract(expected).getNorm(),
+                            1.0e-13 * expected.getNorm());
+    }
+
+    @Test
+    public void testInsertDeleteColumns() {
+        final RandomGenerator random = new Well1024a(0x5e0b93f7a16dc248l);
+        RealMatrix a = createMatrix(random, 30, 5);
+        final UpdatableQRDecomposition decomposition = new UpdatableQRDecomposition(a);
+        for (final int index : new int[] { 0, 6, 3, 2 }) {
+            final RealVector column = createVector(random, 30);
+            a = insertRow(a.transpose(), index, column).transpose();
+            decomposition.insertColumn(index, column);
+            checkDecomposition(a, decomposition, 1.0e-13);
+        }
+        for (final int index : new int[] { 8, 0, 4, 2 }) {
+            a = deleteRow(a.transpose(), index).transpose();
+            decomposition.deleteColumn(index);
+            checkDecomposition(a, decomposition, 1.0e-13);
+        }
+        final RealMatrix b = createMatrix(random, 30, 3);
+        final RealMatrix expected = new QRDecomposition(a).getSolver().solve(b);
+        Assert.assertEquals(0.0, decomposition.getSolver().solve(b).subtract(expected).getNorm1(),
+                            1.0e-13 * expected.getNorm1());
+    }
+
+    @Test
+    public void testRankDeficiency() {
+        final RandomGenerator random = new Well1024a(0xc61f0d8a2e97b534l);
+        RealMatrix a = createMatrix(random, 6, 4);
+        final UpdatableQRDecomposition decomposition = new UpdatableQRDecomposition(a);
+        final DecompositionSolver solver = decomposition.getSolver();
+        Assert.assertTrue(solver.isNonSingular());
+
+        // remove rows until matrix is rank deficient
+        for (int k = 0; k < 4; ++k) {
+            a = deleteRow(a, 0);
+            decomposition.deleteRow(0);
+            checkDecomposition(a, decomposition, 1.0e-13);
+        }
+        Assert.assertFalse(solver.isNonSingular());
+        try {
+            solver.solve(createVector(random, 2));
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            Assert.assertEquals(LocalizedCoreFormats.SINGULAR_MATRIX, miae.getSpecifier());
+        }
+
+        // columns can be inserted even if the matrix is rank deficient
+        final RealVector column = createVector(random, 2);
+        a = insertRow(a.transpose(), 1, column).transpose();
+        decomposition.insertColumn(1, column);
+        checkDecomposition(a, decomposition, 1.0e-13);
+
+        // add rows back
+        for (int k = 0; k < 4; ++k) {
+            final RealVector row = createVector(random, 5);
+            a = insertRow(a, a.getRowDimension(), row);
+            decomposition.update(row);
+            checkDecomposition(a, decomposition, 1.0e-13);
+        }
+        Assert.assertTrue(solver.isNonSingular());
+        Assert.assertEquals(0.0,
+                            solver.getInverse().subtract(new QRDecomposition(a).getSolver().getInverse()).getNorm1(),
+                            1.0e-12);
+
+    }
+
+    @Test
+    public void testWrongParameters() {
+        final UpdatableQRDecomposition decomposition =
+                        new UpdatableQRDecomposition(MatrixUtils.createRealIdentityMatrix(2));
+        try {
+            decomposition.update(new ArrayRealVector(3));
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            Assert.assertEquals(LocalizedCoreFormats.DIMENSIONS_MISMATCH, miae.getSpecifier());
+        }
+        try {
+            decomposition.deleteRow(2);
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            Assert.assertEquals(LocalizedCoreFormats.OUT_OF_RANGE_SIMPLE, miae.getSpecifier());
+        }
+        decomposition.deleteColumn(1);
+        try {
+            decomposition.deleteColumn(0);
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            Assert.assertEquals(LocalizedCoreFormats.NUMBER_TOO_SMALL, miae.getSpecifier());
+        }
+    }
+
+    private static void checkDecomposition(final RealMatrix a, final UpdatableQRDecomposition decomposition,
+                                           final double tolerance) {
+        Assert.assertEquals(a.getRowDimension(),    decomposition.getRowDimension());
+        Assert.assertEquals(a.getColumnDimension(), decomposition.getColumnDimension());
+        final RealMatrix r = decomposition.getR();
+        for (int i = 0; i < r.getRowDimension(); ++i) {
+            for (int j = 0; j < i; ++j) {
+                Assert.assertEquals(0.0, r.getEntry(i, j), 0.0);
+            }
+        }
+        final RealMatrix normal = a.transposeMultiply(a);
+        Assert.assertEquals(0.0, r.transposeMultiply(r).subtract(normal).getNorm1(), tolerance * normal.getNorm1());
+    }
+
+    private static RealMatrix insertRow(final RealMatrix a, final int index, final RealVector row) {
+        final RealMatrix m = MatrixUtils.createRealMatrix(a.getRowDimension() + 1, a.getColumnDimension());
+        for (int i = 0; i < m.getRowDimension(); ++i) {
+            m.setRowVector(i, i < index ? a.getRowVector(i) : (i == index ? row : a.getRowVector(i - 1)));
+        }
+        return m;
+    }
+
+    private static RealMatrix deleteRow(final RealMatrix a, final int index) {
+        final RealMatrix m = MatrixUtils.createRealMatrix(a.getRowDimension() - 1, a.getColumnDimension());
+        for (int i = 0; i < m.getRowDimension(); ++i) {
+            m.setRowVector(i, a.getRowVector(i < index ? i : i + 1));
+        }
+        return m;
+    }
+
+    private static RealMatrix createMatrix(final RandomGenerator random, final int m, final int n) {
+        final RealMatrix a = MatrixUtils.createRealMatrix(m, n);
+        for (int i = 0; i < m; ++i) {
+            for (int j = 0; j < n; ++j) {
+                a.setEntry(i, j, 2 * random.nextDouble() - 1);
+            }
+        }
+        return a;
+    }
+
+    private static RealVector createVector(final RandomGenerator random, final int n) {
+        final RealVector v = new ArrayRealVector(n);
+        for (int i = 0; i < n; ++i) {
+            v.setEntry(i, 2 * random.nextDouble() - 1);
+        }
+        return v;
+    }
+
+}
@@ -37,6 +37,7 @@ import org.hipparchus.dfp.Dfp;
 import org.hipparchus.dfp.DfpField;
 import org.hipparchus.dfp.DfpMath;
 import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.exception.MathIllegalArgumentException;
 import org.hipparchus.exception.MathRuntimeException;
 import org.hipparchus.random.MersenneTwister;
 import org.hipparchus.random.RandomGenerator;
@@ -3058,4 +3059,110 @@ public class FastMathTest {
 
     }
 
+    @Test
+    public void testArrayFunctionsSameAsScalar() {
+        final double[] x   = createArrayArguments(0x3c5e9a1f7b2d4086l);
+        final double[] y   = createArrayArguments(0x6d1b0e8c4f9a2357l);
+        final double[] out = new double[x.length];
+        final double[] cos = new double[x.length];
+
+        FastMath.exp(x, out, 0, x.length);
+        for (int i = 0; i < x.length; ++i) {
+            checkSameBits(FastMath.exp(x[i]), out[i]);
+        }
+
+        FastMath.log(x, out, 0, x.length);
+        for (int i = 0; i < x.length; ++i) {
+            checkSameBits(FastMath.log(x[i]), out[i]);
+        }
+
+        FastMath.sin(x, out, 0, x.length);
+        for (int i = 0; i < x.length; ++i) {
+            checkSameBits(FastMath.sin(x[i]), out[i]);
+        }
+
+        FastMath.cos(x, out, 0, x.length);
+        for (int i = 0; i < x.length; ++i) {
+            checkSameBits(FastMath.cos(x[i]), out[i]);
+        }
+
+        FastMath.sinCos(x, out, cos, 0, x.length);
+        for (int i = 0; i < x.length; ++i) {
+            final SinCos sc = FastMath.sinCos(x[i]);
+            checkSameBits(sc.sin(), out[i]);
+            checkSameBits(sc.cos(), cos[i]);
+        }
+
+        FastMath.atan2(y, x, out, 0, x.length);
+        for (int i = 0; i < x.length; ++i) {
+            checkSameBits(FastMath.atan2(y[i], x[i]), out[i]);
+        }
+
+        for (final double e : new double[] {
+            0.0, -0.0, 1.0, -1.0, 2.0, 3.0, -7.0, 0.5, -2.5, 1.0e10, 0x1.0p62, 0x1.0p63,
+            1.0e300, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY, Double.NaN, y[0], y[1]
+        }) {
+            FastMath.pow(x, e, out, 0, x.length);
+            for (int i = 0; i < x.length; ++i) {
+                checkSameBits(FastMath.pow(x[i], e), out[i]);
+            }
+        }
+
+    }
+
+    @Test
+    public void testArrayFunctionsPartialRange() {
+        final double[] x = { 1.0, 2.0, 3.0, 4.0 };
+        FastMath.exp(x, x, 1, 3);
+        Assert.assertEquals(1.0, x[0], 0.0);
+        Assert.assertEquals(FastMath.exp(2.0), x[1], 0.0);
+        Assert.assertEquals(FastMath.exp(3.0), x[2], 0.0);
+        Assert.assertEquals(4.0, x[3], 0.0);
+        FastMath.log(x, x, 2, 2);
+        Assert.assertEquals(FastMath.exp(3.0), x[2], 0.0);
+    }
+
+    @Test
+    public void testArrayFunctionsWrongRange() {
+        final double[] x = new double[4];
+        try {
+            FastMath.exp(x, new double[3], 0, 4);
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            Assert.assertEquals(LocalizedCoreFormats.SUBARRAY_ENDS_AFTER_ARRAY_END, miae.getSpecifier());
+        }
+        try {
+            FastMath.sin(x, x, -1, 2);
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            Assert.assertEquals(LocalizedCoreFormats.START_POSITION, miae.getSpecifier());
+        }
+        try {
+            FastMath.pow(x, 2.0, x, 3, 2);
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            Assert.assertEquals(LocalizedCoreFormats.LENGTH, miae.getSpecifier());
+        }
+    }
+
+    private double[] createArrayArguments(final long seed) {
+        final RandomGenerator random = new Well19937a(seed);
+        final double[] special = {
+            0.0, -0.0, 1.0, -1.0, Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY,
+            Double.MIN_VALUE, -Double.MIN_VALUE, Double.MAX_VALUE, -Double.MAX_VALUE,
+            FastMath.PI, -0.5 * FastMath.PI, 3294199.0, -1.0e10, 710.0, -746.0
+        };
+        final double[] x = new double[5000];
+        System.arraycopy(special, 0, x, 0, special.length);
+        for (int i = special.length; i < x.length; ++i) {
+            // cover several orders of magnitudes, with both signs
+            x[i] = (2 * random.nextDouble() - 1) * FastMath.pow(10.0, random.nextInt(16) - 5);
+        }
+        return x;
+    }
+
+    private void checkSameBits(final double expected, final double actual) {
+        Assert.assertEquals(Double.doubleToLongBits(expected), Double.doubleToLongBits(actual));
+    }
+
 }
@@ -0,0 +1,956 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hipparchus.transform;
+
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.exception.MathIllegalArgumentException;
+import org.hipparchus.exception.MathRuntimeException;
+import org.hipparchus.util.ArithmeticUtils;
+import org.hipparchus.util.FastMath;
+import org.hipparchus.util.MathUtils;
+import org.hipparchus.util.SinCos;
+
+/**
+ * Precomputed plan for fast Fourier transforms of a fixed size.
+ * <p>
+ * Contrary to {@link FastFourierTransformer} which recomputes the roots
+ * of unity at each call and works on {@link org.hipparchus.complex.Complex}
+ * arrays, a plan computes once and for all the twiddle factors and the
+ * input permutation for its size, and then transforms data in
+ * place in separate arrays for real and imaginary parts. The same plan can
+ * therefore be reused cheaply for many transforms of the same size. As a plan
+ * is never modified after construction, it can be shared between threads, as
+ * long as each thread transforms its own arrays.
+ * </p>
+ * <p>
+ * In addition to complex transforms, a plan provides transforms from real
+ * data to the non-redundant half of its Hermitian-symmetric spectrum. For
+ * even sizes, they use a complex transform of half the size.
+ * </p>
+ * <p>
+ * Any size is supported, with an O(n log n) complexity:
+ * </p>
+ * <ul>
+ *   <li>powers of two use an in-place radix-2 algorithm,</li>
+ *   <li>sizes of the form 2<sup>a</sup>3<sup>b</sup>5<sup>c</sup> use an in-place
+ *   mixed-radix algorithm with radices 2, 3, 4 and 5,</li>
+ *   <li>other sizes use Bluestein chirp-z algorithm, which expresses the transform
+ *   as a convolution computed with power of two transforms.</li>
+ * </ul>
+ * <p>
+ * Power of two and mixed-radix sizes do not allocate anything when transforming
+ * complex data or real data of even size. Bluestein algorithm and odd sizes real
+ * transforms need temporary arrays, which are allocated at each call.
+ * </p>
+ * <p>
+ * The normalization conventions are the same as the ones of {@link FastFourierTransformer}.
+ * </p>
+ * @see FastFourierTransformer
+ * @see DftNormalization
+ * @since 3.1
+ */
+public class FastFourierTransformPlan {
+
+    /** Size of the transform. */
+    private final int n;
+
+    /** Normalization to apply to transformed data. */
+    private final DftNormalization normalization;
+
+    /** Kernel for complex transforms of size n. */
+    private final Kernel kernel;
+
+    /** Kernel for complex transforms of size n/2 (null if n is odd). */
+    private final Kernel halfKernel;
+
+    /** Cosines of the roots of unity used in real transforms: cos(2πk/n) for 0 &le; k &le; n/4. */
+    private final double[] realCos;
+
+    /** Sines of the roots of unity used in real transforms: sin(2πk/n) for 0 &le; k &le; n/4. */
+    private final double[] realSin;
+
+    /** Build a plan.
+     * @param n size of the transform
+     * @param normalization normalization to apply to transformed data
+     * @exception MathIllegalArgumentException if {@code n} is not strictly positive
+     */
+    public FastFourierTransformPlan(final int n, final DftNormalization normalization)
+        throws MathIllegalArgumentException {
+
+        if (n < 1) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.NUMBER_TOO_SMALL, n, 1);
+        }
+
+        this.n             = n;
+        this.normalization = normalization;
+        this.kernel        = createKernel(n);
+
+        if (n % 2 == 0) {
+            halfKernel = (kernel instanceof RadixTwoKernel) ?
+                         new RadixTwoKernel((RadixTwoKernel) kernel, 1) :
+                         createKernel(n / 2);
+            realCos = new double[n / 4 + 1];
+            realSin = new double[n / 4 + 1];
+            roots(n, realCos, realSin);
+        } else {
+            halfKernel = null;
+            realCos    = null;
+            realSin    = null;
+        }
+
+    }
+
+    /** Get the size of the transform.
+     * @return size of the transform
+     */
+    public int getSize() {
+        return n;
+    }
+
+    /** Get the normalization applied to transformed data.
+     * @return normalization applied to transformed data
+     */
+    public DftNormalization getNormalization() {
+        return normalization;
+    }
+
+    /** Transform complex data in place.
+     * @param re real parts of the data, replaced by real parts of the transformed data
+     * @param im imaginary parts of the data, replaced by imaginary parts of the transformed data
+     * @param type the type of transform (forward, inverse) to be performed
+     * @exception MathIllegalArgumentException if arrays lengths are not the plan size
+     */
+    public void transform(final double[] re, final double[] im, final TransformType type)
+        throws MathIllegalArgumentException {
+        MathUtils.checkDimension(re.length, n);
+        MathUtils.checkDimension(im.length, n);
+        final boolean inverse = type == TransformType.INVERSE;
+        kernel.fft(re, im, inverse);
+        scale(re, im, n, scaleFactor(inverse));
+    }
+
+    /** Forward transform of real data.
+     * <p>
+     * The spectrum of real data is Hermitian-symmetric: X<sub>n-k</sub> is the
+     * conjugate of X<sub>k</sub>. Only the non-redundant part
+     * X<sub>0</sub> &hellip; X<sub>n/2</sub> (with n/2 rounded down for odd n)
+     * is therefore computed. For even n, it is obtained from a complex transform
+     * of size n/2 on the even and odd samples packed as real and imaginary parts,
+     * so it is about twice as fast as a complex transform with null imaginary parts.
+     * </p>
+     * @param x real data (length must be the plan size, it is not modified)
+     * @param re placeholder for the real parts of X<sub>0</sub> &hellip; X<sub>n/2</sub>
+     * (length must be n/2+1)
+     * @param im placeholder for the imaginary parts of X<sub>0</sub> &hellip; X<sub>n/2</sub>
+     * (length must be n/2+1)
+     * @exception MathIllegalArgumentException if arrays lengths are inconsistent with the plan size
+     * @see #inverseTransformReal(double[], double[], double[])
+     */
+    public void transformReal(final double[] x, final double[] re, final double[] im)
+        throws MathIllegalArgumentException {
+
+        final int m = n / 2;
+        MathUtils.checkDimension(x.length, n);
+        MathUtils.checkDimension(re.length, m + 1);
+        MathUtils.checkDimension(im.length, m + 1);
+
+        if (halfKernel == null) {
+            // odd size, use a full complex transform
+            final double[] fullRe = x.clone();
+            final double[] fullIm = new double[n];
+            kernel.fft(fullRe, fullIm, false);
+            System.arraycopy(fullRe, 0, re, 0, m + 1);
+            System.arraycopy(fullIm, 0, im, 0, m + 1);
+            im[0] = 0.0;
+            scale(re, im, m + 1, scaleFactor(false));
+            return;
+        }
+
+        // pack even samples as real parts and odd samples as imaginary parts
+        for (int j = 0; j < m; ++j) {
+            re[j] = x[2 * j];
+            im[j] = x[2 * j + 1];
+        }
+
+        // half size complex transform
+        halfKernel.fft(re, im, false);
+
+        // separate the transforms of even and odd samples Fe and Fo, and combine them:
+        // X[k] = Fe[k] + W^k Fo[k], with W = exp(-2iπ/n)
+        final double z0r = re[0];
+        final double z0i = im[0];
+        re[0] = z0r + z0i;
+        im[0] = 0.0;
+        re[m] = z0r - z0i;
+        im[m] = 0.0;
+        for (int k = 1; k <= m / 2; ++k) {
+            final int    l   = m - k;
+            // Fe[k] = (Z[k] + conj(Z[l])) / 2
+            final double fer = 0.5 * (re[k] + re[l]);
+            final double fei = 0.5 * (im[k] - im[l]);
+            // Fo[k] = (Z[k] - conj(Z[l])) / 2i
+            final double for0 = 0.5 * (im[k] + im[l]);
+            final double foi  = 0.5 * (re[l] - re[k]);
+            // T = W^k Fo[k]
+            final double tr = realCos[k] * for0 + realSin[k] * foi;
+            final double ti = realCos[k] * foi  - realSin[k] * for0;
+            // X[k] = Fe[k] + T, X[l] = conj(Fe[k] - T)
+            re[k] = fer + tr;
+            im[k] = fei + ti;
+            re[l] = fer - tr;
+            im[l] = ti - fei;
+        }
+
+        scale(re, im, m + 1, scaleFactor(false));
+
+    }
+
+    /** Inverse transform of the non-redundant half of a Hermitian-symmetric spectrum.
+     * <p>
+     * This is the inverse of {@link #transformReal(double[], double[], double[])}.
+     * The imaginary parts of X<sub>0</sub> and (for even n) X<sub>n/2</sub>, which
+     * should be zero for the spectrum of real data, are ignored.
+     * </p>
+     * @param re real parts of X<sub>0</sub> &hellip; X<sub>n/2</sub> (length must be n/2+1),
+     * this array is used as workspace and its content is lost
+     * @param im imaginary parts of X<sub>0</sub> &hellip; X<sub>n/2</sub> (length must be n/2+1),
+     * this array is used as workspace and its content is lost
+     * @param x placeholder for the real data (length must be the plan size)
+     * @exception MathIllegalArgumentException if arrays lengths are inconsistent with the plan size
+     */
+    public void inverseTransformReal(final double[] re, final double[] im, final double[] x)
+        throws MathIllegalArgumentException {
+
+        final int m = n / 2;
+        MathUtils.checkDimension(re.length, m + 1);
+        MathUtils.checkDimension(im.length, m + 1);
+        MathUtils.checkDimension(x.length, n);
+
+        if (halfKernel == null) {
+            // odd size, rebuild the full spectrum and use a full complex transform
+            final double[] fullRe = new double[n];
+            final double[] fullIm = new double[n];
+            fullRe[0] = re[0];
+            for (int k = 1; k <= m; ++k) {
+                fullRe[k]     =  re[k];
+                fullIm[k]     =  im[k];
+                fullRe[n - k] =  re[k];
+                fullIm[n - k] = -im[k];
+            }
+            kernel.fft(fullRe, fullIm, true);
+            final double factor = scaleFactor(true);
+            for (int j = 0; j < n; ++j) {
+                x[j] = factor * fullRe[j];
+            }
+            return;
+        }
+
+        // rebuild the transforms of even and odd samples Fe and Fo, and pack them as Z = Fe + i Fo
+        final double x0r = re[0];
+        final double xmr = re[m];
+        re[0] = 0.5 * (x0r + xmr);
+        im[0] = 0.5 * (x0r - xmr);
+        for (int k = 1; k <= m / 2; ++k) {
+            final int    l   = m - k;
+            // Fe[k] = (X[k] + conj(X[l])) / 2
+            final double fer = 0.5 * (re[k] + re[l]);
+            final double fei = 0.5 * (im[k] - im[l]);
+            // D = (X[k] - conj(X[l])) / 2
+            final double dr  = 0.5 * (re[k] - re[l]);
+            final double di  = 0.5 * (im[k] + im[l]);
+            // Fo[k] = D conj(W^k)
+            final double for0 = realCos[k] * dr - realSin[k] * di;
+            final double foi  = realCos[k] * di + realSin[k] * dr;
+            // Z[k] = Fe[k] + i Fo[k], Z[l] = conj(Fe[k]) + i conj(Fo[k])
+            re[k] = fer - foi;
+            im[k] = fei + for0;
+            re[l] = fer + foi;
+            im[l] = for0 - fei;
+        }
+
+        // half size complex inverse transform
+        halfKernel.fft(re, im, true);
+
+        // unpack even and odd samples, the unscaled inverse transform of size n/2 must be divided by n/2
+        final double factor = 2 * scaleFactor(true);
+        for (int j = 0; j < m; ++j) {
+            x[2 * j]     = factor * re[j];
+            x[2 * j + 1] = factor * im[j];
+        }
+
+    }
+
+    /** Get the scale factor to apply after an unscaled transform.
+     * @param inverse if true, the transform is an inverse transform
+     * @return scale factor
+     */
+    private double scaleFactor(final boolean inverse) {
+        switch (normalization) {
+            case STANDARD:
+                return inverse ? 1.0 / n : 1.0;
+            case UNITARY:
+                return 1.0 / FastMath.sqrt(n);
+            default:
+                // This should never occur in normal conditions. However this
+                // clause has been added as a safeguard if other types of
+                // normalizations are ever implemented, and the corresponding
+                // test is forgotten in the present switch.
+                throw MathRuntimeException.createInternalError();
+        }
+    }
+
+    /** Scale data.
+     * @param re real parts of the data
+     * @param im imaginary parts of the data
+     * @param size number of elements to scale
+     * @param factor scale factor
+     */
+    private static void scale(final double[] re, final double[] im, final int size, final double factor) {
+        if (factor != 1.0) {
+            for (int i = 0; i < size; ++i) {
+                re[i] *= factor;
+                im[i] *= factor;
+            }
+        }
+    }
+
+    /** Create the best kernel for a given size.
+     * @param size size of the transforms
+     * @return kernel for the transforms
+     */
+    private static Kernel createKernel(final int size) {
+        if (ArithmeticUtils.isPowerOfTwo(size)) {
+            return new RadixTwoKernel(size);
+        }
+        int remaining = size;
+        for (final int p : new int[] { 2, 3, 5 }) {
+            while (remaining % p == 0) {
+                remaining /= p;
+            }
+        }
+        return (remaining == 1) ? new MixedRadixKernel(size) : new BluesteinKernel(size);
+    }
+
+    /** Compute the first roots of unity of some order.
+     * <p>
+     * Symmetries are used so all roots are computed from angles in [0, π/4],
+     * with exact integer arithmetic in the reduction.
+     * </p>
+     * @param order order of the roots
+     * @param cos placeholder for cosines of 2πk/order, for 0 &le; k &lt; cos.length
+     * @param sin placeholder for sines of 2πk/order, for 0 &le; k &lt; sin.length
+     */
+    private static void roots(final int order, final double[] cos, final double[] sin) {
+        for (int k = 0; k < cos.length; ++k) {
+            // reduce to upper half circle
+            final long    kk   = k % order;
+            final boolean up   = 2 * kk <= order;
+            final long    j    = up ? kk : order - kk;
+            final long    j8   = 8 * j;
+            final double  c;
+            final double  s;
+            if (j8 <= order) {
+                // 0 ≤ θ ≤ π/4
+                final SinCos sc = FastMath.sinCos(MathUtils.TWO_PI * j / order);
+                c = sc.cos();
+                s = sc.sin();
+            } else if (j8 <= 2 * order) {
+                // π/4 < θ ≤ π/2, use φ = π/2 - θ
+                final SinCos sc = FastMath.sinCos(MathUtils.TWO_PI * (order - 4 * j) / (4.0 * order));
+                c = sc.sin();
+                s = sc.cos();
+            } else if (j8 <= 3 * order) {
+                // π/2 < θ ≤ 3π/4, use φ = θ - π/2
+                final SinCos sc = FastMath.sinCos(MathUtils.TWO_PI * (4 * j - order) / (4.0 * order));
+                c = -sc.sin();
+                s = sc.cos();
+            } else {
+                // 3π/4 < θ ≤ π, use φ = π - θ
+                final SinCos sc = FastMath.sinCos(MathUtils.TWO_PI * (order - 2 * j) / (2.0 * order));
+                c = -sc.cos();
+                s = sc.sin();
+            }
+            cos[k] = c;
+            sin[k] = up ? s : -s;
+        }
+    }
+
+    /** Base class for unscaled in-place complex transforms of a fixed size. */
+    private abstract static class Kernel {
+
+        /** Perform an unscaled in-place complex transform.
+         * @param re real parts of the data (only the first elements up to kernel size are transformed)
+         * @param im imaginary parts of the data (only the first elements up to kernel size are transformed)
+         * @param inverse if true, perform an inverse transform
+         */
+        abstract void fft(double[] re, double[] im, boolean inverse);
+
+    }
+
+    /** Radix-2 kernel for power of two sizes. */
+    private static class RadixTwoKernel extends Kernel {
+
+        /** Size of the tables. */
+        private final int n;
+
+        /** Binary logarithm of the ratio between the tables size and the transform size. */
+        private final int shift;
+
+        /** Bit-reversal permutation for size n. */
+        private final int[] reversed;
+
+        /** Cosines of the roots of unity: cos[k] = cos(2πk/n) for 0 &le; k &lt; n/2. */
+        private final double[] cos;
+
+        /** Sines of the roots of unity: sin[k] = sin(2πk/n) for 0 &le; k &lt; n/2. */
+        private final double[] sin;
+
+        /** Simple constructor.
+         * @param n size of the transform (must be a power of two)
+         */
+        RadixTwoKernel(final int n) {
+            this.n     = n;
+            this.shift = 0;
+
+            // bit-reversal permutation
+            final int bits = Integer.numberOfTrailingZeros(n);
+            reversed = new int[n];
+            for (int i = 1; i < n; ++i) {
+                reversed[i] = Integer.reverse(i) >>> (Integer.SIZE - bits);
+            }
+
+            // twiddle factors
+            cos = new double[n / 2];
+            sin = new double[n / 2];
+            roots(n, cos, sin);
+
+        }
+
+        /** Build a kernel for a smaller size, sharing the tables of another kernel.
+         * @param full kernel whose tables should be shared
+         * @param shift binary logarithm of the ratio between the size
+         * of the full kernel and the size of the transform to perform
+         */
+        RadixTwoKernel(final RadixTwoKernel full, final int shift) {
+            this.n        = full.n;
+            this.shift    = full.shift + shift;
+            this.reversed = full.reversed;
+            this.cos      = full.cos;
+            this.sin      = full.sin;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        void fft(final double[] re, final double[] im, final boolean inverse) {
+
+            final int size = n >> shift;
+
+            // bit-reversal permutation (the permutation for size n >> shift is the one for size n, shifted)
+            for (int i = 1; i < size; ++i) {
+                final int j = reversed[i] >> shift;
+                if (i < j) {
+                    final double tr = re[i];
+                    re[i] = re[j];
+                    re[j] = tr;
+                    final double ti = im[i];
+                    im[i] = im[j];
+                    im[j] = ti;
+                }
+            }
+
+            // first stage, where all twiddle factors are 1
+            for (int i = 0; i < size - 1; i += 2) {
+                final double r1 = re[i + 1];
+                final double i1 = im[i + 1];
+                re[i + 1] = re[i] - r1;
+                im[i + 1] = im[i] - i1;
+                re[i]    += r1;
+                im[i]    += i1;
+            }
+
+            // remaining radix-2 stages
+            final double sign = inverse ? 1.0 : -1.0;
+            for (int half = 2; half < size; half <<= 1) {
+                final int len  = half << 1;
+                final int step = n / len;
+                for (int start = 0; start < size; start += len) {
+                    for (int j = 0; j < half; ++j) {
+                        final int    k  = start + j;
+                        final int    l  = k + half;
+                        final double wr = cos[j * step];
+                        final double wi = sign * sin[j * step];
+                        final double tr = wr * re[l] - wi * im[l];
+                        final double ti = wr * im[l] + wi * re[l];
+                        re[l] = re[k] - tr;
+                        im[l] = im[k] - ti;
+                        re[k] += tr;
+                        im[k] += ti;
+                    }
+                }
+            }
+
+        }
+
+    }
+
+    /** Mixed-radix kernel for sizes of the form 2<sup>a</sup>3<sup>b</sup>5<sup>c</sup>.
+     * <p>
+     * This is an in-place decimation in time algorithm: data is first permuted
+     * according to the mixed-radix digits reversal of indices, and then combined
+     * by radix 4, 2, 3 or 5 butterflies, from the innermost to the outermost factor.
+     * </p>
+     */
+    private static class MixedRadixKernel extends Kernel {
+
+        /** sin(π/3). */
+        private static final double SIN_PI_3 = FastMath.sqrt(3.0) / 2;
+
+        /** cos(2π/5). */
+        private static final double C1_5 = 0.25 * (FastMath.sqrt(5.0) - 1);
+
+        /** cos(4π/5). */
+        private static final double C2_5 = -0.25 * (FastMath.sqrt(5.0) + 1);
+
+        /** sin(2π/5). */
+        private static final double S1_5 = FastMath.sin(0.4 * FastMath.PI);
+
+        /** sin(4π/5). */
+        private static final double S2_5 = FastMath.sin(0.8 * FastMath.PI);
+
+        /** Size of the transform. */
+        private final int n;
+
+        /** Radices, from the outermost to the innermost. */
+        private final int[] factors;
+
+        /** Index of the input element to put at each position before combination. */
+        private final int[] source;
+
+        /** Positions starting the non-trivial cycles of the permutation. */
+        private final int[] leaders;
+
+        /** Cosines of the roots of unity: cos[k] = cos(2πk/n) for 0 &le; k &lt; n. */
+        private final double[] cos;
+
+        /** Sines of the roots of unity: sin[k] = sin(2πk/n) for 0 &le; k &lt; n. */
+        private final double[] sin;
+
+        /** Simple constructor.
+         * @param n size of the transform (must be of the form 2<sup>a</sup>3<sup>b</sup>5<sup>c</sup>)
+         */
+        MixedRadixKernel(final int n) {
+
+            this.n = n;
+
+            // factorize, using radix 4 as much as possible
+            final int[] tmp = new int[32];
+            int count = 0;
+            int remaining = n;
+            while (remaining % 4 == 0) {
+                tmp[count++] = 4;
+                remaining   /= 4;
+            }
+            for (final int p : new int[] { 2, 3, 5 }) {
+                while (remaining % p == 0) {
+                    tmp[count++] = p;
+                    remaining   /= p;
+                }
+            }
+            factors = new int[count];
+            System.arraycopy(tmp, 0, factors, 0, count);
+
+            // digits reversal permutation:
+            // index i = r1 + p1 (r2 + p2 (r3 + ...)) goes to position r1 n/p1 + r2 n/(p1 p2) + ...
+            source = new int[n];
+            for (int i = 0; i < n; ++i) {
+                int q        = i;
+                int stride   = n;
+                int position = 0;
+                for (final int p : factors) {
+                    stride   /= p;
+                    position += (q % p) * stride;
+                    q        /= p;
+                }
+                source[position] = i;
+            }
+
+            // identify the cycles of the permutation, so it can be applied in place without allocation
+            final boolean[] visited = new boolean[n];
+            final int[] tmpLeaders = new int[n];
+            int nbLeaders = 0;
+            for (int i = 0; i < n; ++i) {
+                if (!visited[i] && source[i] != i) {
+                    tmpLeaders[nbLeaders++] = i;
+                    for (int j = i; !visited[j]; j = source[j]) {
+                        visited[j] = true;
+                    }
+                }
+            }
+            leaders = new int[nbLeaders];
+            System.arraycopy(tmpLeaders, 0, leaders, 0, nbLeaders);
+
+            // twiddle factors
+            cos = new double[n];
+            sin = new double[n];
+            roots(n, cos, sin);
+
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        void fft(final double[] re, final double[] im, final boolean inverse) {
+
+            // apply permutation in place, following cycles
+            for (final int leader : leaders) {
+                final double r0 = re[leader];
+                final double i0 = im[leader];
+                int position = leader;
+                for (int s = source[position]; s != leader; s = source[s]) {
+                    re[position] = re[s];
+                    im[position] = im[s];
+                    position     = s;
+                }
+                re[position] = r0;
+                im[position] = i0;
+            }
+
+            // combine sub-transforms, from innermost to outermost factor
+            final double sign = inverse ? 1.0 : -1.0;
+            int m = 1;
+            for (int t = factors.length - 1; t >= 0; --t) {
+                final int p = factors[t];
+                switch (p) {
+                    case 2 :
+                        pass2(re, im, m, sign);
+                        break;
+                    case 3 :
+                        pass3(re, im, m, sign);
+                        break;
+                    case 4 :
+                        pass4(re, im, m, sign);
+                        break;
+                    default :
+                        pass5(re, im, m, sign);
+                        break;
+                }
+                m *= p;
+            }
+
+        }
+
+        /** Perform a radix-2 combination pass.
+         * @param re real parts of the data
+         * @param im imaginary parts of the data
+         * @param m size of the sub-transforms to combine
+         * @param sign sign of the exponent (-1 for forward transforms, +1 for inverse transforms)
+         */
+        private void pass2(final double[] re, final double[] im, final int m, final double sign) {
+            final int len  = 2 * m;
+            final int step = n / len;
+            for (int base = 0; base < n; base += len) {
+                for (int k = 0; k < m; ++k) {
+                    final int i0 = base + k;
+                    final int i1 = i0 + m;
+                    final double w1r = cos[k * step];
+                    final double w1i = sign * sin[k * step];
+                    final double a1r = w1r * re[i1] - w1i * im[i1];
+                    final double a1i = w1r * im[i1] + w1i * re[i1];
+                    re[i1] = re[i0] - a1r;
+                    im[i1] = im[i0] - a1i;
+                    re[i0] += a1r;
+                    im[i0] += a1i;
+                }
+            }
+        }
+
+        /** Perform a radix-3 combination pass.
+         * @param re real parts of the data
+         * @param im imaginary parts of the data
+         * @param m size of the sub-transforms to combine
+         * @param sign sign of the exponent (-1 for forward transforms, +1 for inverse transforms)
+         */
+        private void pass3(final double[] re, final double[] im, final int m, final double sign) {
+            final int    len  = 3 * m;
+            final int    step = n / len;
+            final double s3   = sign * SIN_PI_3;
+            for (int base = 0; base < n; base += len) {
+                for (int k = 0; k < m; ++k) {
+                    final int i0 = base + k;
+                    final int i1 = i0 + m;
+                    final int i2 = i1 + m;
+
+                    // apply twiddle factors
+                    final double w1r = cos[k * step];
+                    final double w1i = sign * sin[k * step];
+                    final double w2r = cos[2 * k * step];
+                    final double w2i = sign * sin[2 * k * step];
+                    final double a0r = re[i0];
+                    final double a0i = im[i0];
+                    final double a1r = w1r * re[i1] - w1i * im[i1];
+                    final double a1i = w1r * im[i1] + w1i * re[i1];
+                    final double a2r = w2r * re[i2] - w2i * im[i2];
+                    final double a2i = w2r * im[i2] + w2i * re[i2];
+
+                    // 3-points DFT
+                    final double sr = a1r + a2r;
+                    final double si = a1i + a2i;
+                    final double mr = a0r - 0.5 * sr;
+                    final double mi = a0i - 0.5 * si;
+                    final double dr = s3 * (a1r - a2r);
+                    final double di = s3 * (a1i - a2i);
+                    re[i0] = a0r + sr;
+                    im[i0] = a0i + si;
+                    re[i1] = mr - di;
+                    im[i1] = mi + dr;
+                    re[i2] = mr + di;
+                    im[i2] = mi - dr;
+
+                }
+            }
+        }
+
+        /** Perform a radix-4 combination pass.
+         * @param re real parts of the data
+         * @param im imaginary parts of the data
+         * @param m size of the sub-transforms to combine
+         * @param sign sign of the exponent (-1 for forward transforms, +1 for inverse transforms)
+         */
+        private void pass4(final double[] re, final double[] im, final int m, final double sign) {
+            final int len  = 4 * m;
+            final int step = n / len;
+            for (int base = 0; base < n; base += len) {
+                for (int k = 0; k < m; ++k) {
+                    final int i0 = base + k;
+                    final int i1 = i0 + m;
+                    final int i2 = i1 + m;
+                    final int i3 = i2 + m;
+
+                    // apply twiddle factors
+                    final double w1r = cos[k * step];
+                    final double w1i = sign * sin[k * step];
+                    final double w2r = cos[2 * k * step];
+                    final double w2i = sign * sin[2 * k * step];
+                    final double w3r = cos[3 * k * step];
+                    final double w3i = sign * sin[3 * k * step];
+                    final double a0r = re[i0];
+                    final double a0i = im[i0];
+                    final double a1r = w1r * re[i1] - w1i * im[i1];
+                    final double a1i = w1r * im[i1] + w1i * re[i1];
+                    final double a2r = w2r * re[i2] - w2i * im[i2];
+                    final double a2i = w2r * im[i2] + w2i * re[i2];
+                    final double a3r = w3r * re[i3] - w3i * im[i3];
+                    final double a3i = w3r * im[i3] + w3i * re[i3];
+
+                    // 4-points DFT, using the fact the primitive root of order 4 is sign * i
+                    final double s02r = a0r + a2r;
+                    final double s02i = a0i + a2i;
+                    final double d02r = a0r - a2r;
+                    final double d02i = a0i - a2i;
+                    final double s13r = a1r + a3r;
+                    final double s13i = a1i + a3i;
+                    final double d13r = sign * (a1r - a3r);
+                    final double d13i = sign * (a1i - a3i);
+                    re[i0] = s02r + s13r;
+                    im[i0] = s02i + s13i;
+                    re[i1] = d02r - d13i;
+                    im[i1] = d02i + d13r;
+                    re[i2] = s02r - s13r;
+                    im[i2] = s02i - s13i;
+                    re[i3] = d02r + d13i;
+                    im[i3] = d02i - d13r;
+
+                }
+            }
+        }
+
+        /** Perform a radix-5 combination pass.
+         * @param re real parts of the data
+         * @param im imaginary parts of the data
+         * @param m size of the sub-transforms to combine
+         * @param sign sign of the exponent (-1 for forward transforms, +1 for inverse transforms)
+         */
+        private void pass5(final double[] re, final double[] im, final int m, final double sign) {
+            final int    len  = 5 * m;
+            final int    step = n / len;
+            final double s1   = sign * S1_5;
+            final double s2   = sign * S2_5;
+            for (int base = 0; base < n; base += len) {
+                for (int k = 0; k < m; ++k) {
+                    final int i0 = base + k;
+                    final int i1 = i0 + m;
+                    final int i2 = i1 + m;
+                    final int i3 = i2 + m;
+                    final int i4 = i3 + m;
+
+                    // apply twiddle factors
+                    final double w1r = cos[k * step];
+                    final double w1i = sign * sin[k * step];
+                    final double w2r = cos[2 * k * step];
+                    final double w2i = sign * sin[2 * k * step];
+                    final double w3r = cos[3 * k * step];
+                    final double w3i = sign * sin[3 * k * step];
+                    final double w4r = cos[4 * k * step];
+                    final double w4i = sign * sin[4 * k * step];
+                    final double a0r = re[i0];
+                    final double a0i = im[i0];
+                    final double a1r = w1r * re[i1] - w1i * im[i1];
+                    final double a1i = w1r * im[i1] + w1i * re[i1];
+                    final double a2r = w2r * re[i2] - w2i * im[i2];
+                    final double a2i = w2r * im[i2] + w2i * re[i2];
+                    final double a3r = w3r * re[i3] - w3i * im[i3];
+                    final double a3i = w3r * im[i3] + w3i * re[i3];
+                    final double a4r = w4r * re[i4] - w4i * im[i4];
+                    final double a4i = w4r * im[i4] + w4i * re[i4];
+
+                    // 5-points DFT
+                    final double s14r = a1r + a4r;
+                    final double s14i = a1i + a4i;
+                    final double d14r = a1r - a4r;
+                    final double d14i = a1i - a4i;
+                    final double s23r = a2r + a3r;
+                    final double s23i = a2i + a3i;
+                    final double d23r = a2r - a3r;
+                    final double d23i = a2i - a3i;
+                    final double b1r  = a0r + C1_5 * s14r + C2_5 * s23r;
+                    final double b1i  = a0i + C1_5 * s14i + C2_5 * s23i;
+                    final double b2r  = a0r + C2_5 * s14r + C1_5 * s23r;
+                    final double b2i  = a0i + C2_5 * s14i + C1_5 * s23i;
+                    final double c1r  = s1 * d14r + s2 * d23r;
+                    final double c1i  = s1 * d14i + s2 * d23i;
+                    final double c2r  = s2 * d14r - s1 * d23r;
+                    final double c2i  = s2 * d14i - s1 * d23i;
+                    re[i0] = a0r + s14r + s23r;
+                    im[i0] = a0i + s14i + s23i;
+                    re[i1] = b1r - c1i;
+                    im[i1] = b1i + c1r;
+                    re[i4] = b1r + c1i;
+                    im[i4] = b1i - c1r;
+                    re[i2] = b2r - c2i;
+                    im[i2] = b2i + c2r;
+                    re[i3] = b2r + c2i;
+                    im[i3] = b2i - c2r;
+
+                }
+            }
+        }
+
+    }
+
+    /** Bluestein chirp-z kernel for arbitrary sizes.
+     * <p>
+     * The transform is written as a convolution with a chirp sequence,
+     * which is computed using power of two transforms of size at least 2n-1.
+     * </p>
+     */
+    private static class BluesteinKernel extends Kernel {
+
+        /** Size of the transform. */
+        private final int n;
+
+        /** Kernel for the convolution. */
+        private final RadixTwoKernel convolution;
+
+        /** Real parts of the chirp exp(-iπk²/n). */
+        private final double[] chirpRe;
+
+        /** Imaginary parts of the chirp exp(-iπk²/n). */
+        private final double[] chirpIm;
+
+        /** Real parts of the transformed conjugate chirp filter, divided by the convolution size. */
+        private final double[] filterRe;
+
+        /** Imaginary parts of the transformed conjugate chirp filter, divided by the convolution size. */
+        private final double[] filterIm;
+
+        /** Simple constructor.
+         * @param n size of the transform
+         */
+        BluesteinKernel(final int n) {
+
+            this.n = n;
+            final int size = Integer.highestOneBit(2 * n - 1) << 1;
+            convolution = new RadixTwoKernel(size);
+
+            // chirp, with exact reduction of k² modulo 2n
+            chirpRe = new double[n];
+            chirpIm = new double[n];
+            final long twoN = 2L * n;
+            for (int k = 0; k < n; ++k) {
+                final long   r  = ((long) k * k) % twoN;
+                final SinCos sc = FastMath.sinCos(FastMath.PI * r / n);
+                chirpRe[k] =  sc.cos();
+                chirpIm[k] = -sc.sin();
+            }
+
+            // transformed filter b[k] = conj(chirp[|k|]), with wrap-around for negative indices
+            filterRe = new double[size];
+            filterIm = new double[size];
+            filterRe[0] =  chirpRe[0];
+            filterIm[0] = -chirpIm[0];
+            for (int k = 1; k < n; ++k) {
+                filterRe[k]        =  chirpRe[k];
+                filterIm[k]        = -chirpIm[k];
+                filterRe[size - k] =  chirpRe[k];
+                filterIm[size - k] = -chirpIm[k];
+            }
+            convolution.fft(filterRe, filterIm, false);
+            final double inverseSize = 1.0 / size;
+            for (int k = 0; k < size; ++k) {
+                filterRe[k] *= inverseSize;
+                filterIm[k] *= inverseSize;
+            }
+
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        void fft(final double[] re, final double[] im, final boolean inverse) {
+
+            // inverse transform is computed as conj(forward(conj(x)))
+            final double sign = inverse ? -1.0 : 1.0;
+
+            // premultiply by chirp
+            final double[] aRe = new double[filterRe.length];
+            final double[] aIm = new double[filterRe.length];
+            for (int k = 0; k < n; ++k) {
+                final double xr = re[k];
+                final double xi = sign * im[k];
+                aRe[k] = xr * chirpRe[k] - xi * chirpIm[k];
+                aIm[k] = xr * chirpIm[k] + xi * chirpRe[k];
+            }
+
+            // convolve with conjugate chirp
+            convolution.fft(aRe, aIm, false);
+            for (int k = 0; k < aRe.length; ++k) {
+                final double ar = aRe[k];
+                final double ai = aIm[k];
+                aRe[k] = ar * filterRe[k] - ai * filterIm[k];
+                aIm[k] = ar * filterIm[k] + ai * filterRe[k];
+            }
+            convolution.fft(aRe, aIm, true);
+
+            // postmultiply by chirp
+            for (int k = 0; k < n; ++k) {
+                re[k] = aRe[k] * chirpRe[k] - aIm[k] * chirpIm[k];
+                im[k] = sign * (aRe[k] * chirpIm[k] + aIm[k] * chirpRe[k]);
+            }
+
+        }
+
+    }
+
+}
@@ -42,10 +42,12 @@ import org.hipparchus.util.MathUtils;
  * normalization conventions, which are specified by the parameter
  * {@link DftNormalization}.
  * <p>
- * The current implementation of the discrete Fourier transform as a fast
- * Fourier transform requires the length of the data set to be a power of 2.
- * This greatly simplifies and speeds up the code. Users can pad the data with
- * zeros to meet this requirement. There are other flavors of FFT, for
+ * Data sets whose length is a power of 2 are transformed by a dedicated
+ * radix-2 implementation. Other lengths are supported too, they are delegated
+ * to {@link FastFourierTransformPlan}, which uses a mixed-radix algorithm for
+ * lengths of the form 2<sup>a</sup>3<sup>b</sup>5<sup>c</sup> and Bluestein
+ * chirp-z algorithm for other lengths, so there is no need to pad the data
+ * with zeros anymore. There are other flavors of FFT, for
  * reference, see S. Winograd,
  * <i>On computing the discrete Fourier transform</i>, Mathematics of
  * Computation, 32 (1978), 175 - 199.
@@ -208,8 +210,7 @@ public class FastFourierTransformer implements Serializable {
      * @param type the type of transform (forward, inverse) to be performed
      * @throws MathIllegalArgumentException if the number of rows of the specified
      *   array is not two, or the array is not rectangular
-     * @throws MathIllegalArgumentException if the number of data points is not
-     *   a power of two
+     * @throws MathIllegalArgumentException if there are no data points
      */
     public static void transformInPlace(final double[][] dataRI,
         final DftNormalization normalization, final TransformType type) {
@@ -221,8 +222,9 @@ public class FastFourierTransformer implements Serializable {
 
         final int n = dataR.length;
         if (!ArithmeticUtils.isPowerOfTwo(n)) {
-            throw new MathIllegalArgumentException(LocalizedFFTFormats.NOT_POWER_OF_TWO_CONSIDER_PADDING,
-                                                   Integer.valueOf(n));
+            // use a mixed-radix or Bluestein transform
+            new FastFourierTransformPlan(n, normalization).transform(dataR, dataI, type);
+            return;
         }
 
         if (n == 1) {
@@ -353,13 +355,28 @@ public class FastFourierTransformer implements Serializable {
         normalizeTransformedData(dataRI, normalization, type);
     }
 
+    /**
+     * Creates a reusable plan for transforms of a fixed size, with the normalization of this transformer.
+     * <p>
+     * Plans should be preferred when many transforms of the same size are performed,
+     * as they avoid recomputing the roots of unity and allocating complex arrays.
+     * </p>
+     * @param n size of the transforms
+     * @return a plan for transforms of size {@code n}
+     * @throws MathIllegalArgumentException if {@code n} is not strictly positive
+     * @since 3.1
+     */
+    public FastFourierTransformPlan createPlan(final int n) {
+        return new FastFourierTransformPlan(n, normalization);
+    }
+
     /**
      * Returns the (forward, inverse) transform of the specified real data set.
      *
      * @param f the real data array to be transformed
      * @param type the type of transform (forward, inverse) to be performed
      * @return the complex transformed array
-     * @throws MathIllegalArgumentException if the length of the data array is not a power of two
+     * @throws MathIllegalArgumentException if the data array is empty
      */
     public Complex[] transform(final double[] f, final TransformType type) {
         final double[][] dataRI = { f.clone(), new double[f.length] };
@@ -381,8 +398,6 @@ public class FastFourierTransformer implements Serializable {
      *   if the lower bound is greater than, or equal to the upper bound
      * @throws org.hipparchus.exception.MathIllegalArgumentException
      *   if the number of sample points {@code n} is negative
-     * @throws MathIllegalArgumentException if the number of sample points
-     *   {@code n} is not a power of two
      */
     public Complex[] transform(final UnivariateFunction f,
                                final double min, final double max, final int n,
@@ -398,7 +413,7 @@ public class FastFourierTransformer implements Serializable {
      * @param f the complex data array to be transformed
      * @param type the type of transform (forward, inverse) to be performed
      * @return the complex transformed array
-     * @throws MathIllegalArgumentException if the length of the data array is not a power of two
+     * @throws MathIllegalArgumentException if the data array is empty
      */
     public Complex[] transform(final Complex[] f, final TransformType type) {
         final double[][] dataRI = TransformUtils.createRealImaginaryArray(f);
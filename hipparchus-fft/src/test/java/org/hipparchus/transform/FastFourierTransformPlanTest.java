@@ -0,0 +1,263 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hipparchus.transform;
+
+import org.hipparchus.complex.Complex;
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.exception.MathIllegalArgumentException;
+import org.hipparchus.random.RandomGenerator;
+import org.hipparchus.random.Well19937a;
+import org.hipparchus.util.FastMath;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class FastFourierTransformPlanTest {
+
+    @Test
+    public void testComplexSameAsTransformer() {
+        final RandomGenerator random = new Well19937a(0x4be1c3a9f5d07268l);
+        for (final DftNormalization normalization : DftNormalization.values()) {
+            final FastFourierTransformer transformer = new FastFourierTransformer(normalization);
+            for (int n = 1; n <= 4096; n *= 2) {
+                final FastFourierTransformPlan plan = transformer.createPlan(n);
+                Assert.assertEquals(n, plan.getSize());
+                Assert.assertEquals(normalization, plan.getNormalization());
+                for (final TransformType type : TransformType.values()) {
+                    final double[] re = createData(random, n);
+                    final double[] im = createData(random, n);
+                    final Complex[] expected = transformer.transform(TransformUtils.createComplexArray(new double[][] {
+                        re, im
+                    }), type);
+                    plan.transform(re, im, type);
+                    for (int k = 0; k < n; ++k) {
+                        Assert.assertEquals(expected[k].getReal(),      re[k], 1.0e-13 * FastMath.sqrt(n));
+                        Assert.assertEquals(expected[k].getImaginary(), im[k], 1.0e-13 * FastMath.sqrt(n));
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testComplexRoundTrip() {
+        final RandomGenerator random = new Well19937a(0x17a3f0e5c2b9d846l);
+        final FastFourierTransformPlan plan = new FastFourierTransformPlan(1 << 16, DftNormalization.STANDARD);
+        final double[] re0 = createData(random, plan.getSize());
+        final double[] im0 = createData(random, plan.getSize());
+        final double[] re  = re0.clone();
+        final double[] im  = im0.clone();
+        plan.transform(re, im, TransformType.FORWARD);
+        plan.transform(re, im, TransformType.INVERSE);
+        Assert.assertArrayEquals(re0, re, 2.0e-15);
+        Assert.assertArrayEquals(im0, im, 2.0e-15);
+    }
+
+    @Test
+    public void testRealSameAsComplex() {
+        final RandomGenerator random = new Well19937a(0x92c4e0b7a6f1d358l);
+        for (final DftNormalization normalization : DftNormalization.values()) {
+            for (int n = 1; n <= 4096; n *= 2) {
+                final FastFourierTransformPlan plan = new FastFourierTransformPlan(n, normalization);
+                final double[] x  = createData(random, n);
+                final double[] x0 = x.clone();
+                final double[] cr = x.clone();
+                final double[] ci = new double[n];
+                plan.transform(cr, ci, TransformType.FORWARD);
+                final double[] re = new double[n / 2 + 1];
+                final double[] im = new double[n / 2 + 1];
+                plan.transformReal(x, re, im);
+                Assert.assertArrayEquals(x0, x, 0.0);
+                for (int k = 0; k <= n / 2; ++k) {
+                    Assert.assertEquals(cr[k % n], re[k], 1.0e-13 * FastMath.sqrt(n));
+                    Assert.assertEquals(ci[k % n], im[k], 1.0e-13 * FastMath.sqrt(n));
+                }
+                final double[] back = new double[n];
+                plan.inverseTransformReal(re, im, back);
+                Assert.assertArrayEquals(x0, back, 1.0e-14);
+            }
+        }
+    }
+
+    @Test
+    public void testMixedRadixAgainstNaiveDft() {
+        final RandomGenerator random = new Well19937a(0x5d2e8b1f07c4a963l);
+        for (final int n : new int[] { 3, 5, 6, 9, 10, 12, 15, 20, 24, 25, 27, 30, 45, 48, 60, 81, 100, 125, 360, 1000 }) {
+            checkAgainstNaiveDft(random, n, 1.0e-14);
+        }
+    }
+
+    @Test
+    public void testBluesteinAgainstNaiveDft() {
+        final RandomGenerator random = new Well19937a(0xa46f3c0e9b15d782l);
+        for (final int n : new int[] { 7, 11, 13, 14, 21, 49, 77, 127, 1009, 2 * 1021 }) {
+            checkAgainstNaiveDft(random, n, 1.0e-13);
+        }
+    }
+
+    @Test
+    public void testArbitrarySizesSameAsTransformer() {
+        final RandomGenerator random = new Well19937a(0x3c81f6a2d05e9b47l);
+        for (final DftNormalization normalization : DftNormalization.values()) {
+            final FastFourierTransformer transformer = new FastFourierTransformer(normalization);
+            for (int n = 1; n <= 70; ++n) {
+                final FastFourierTransformPlan plan = transformer.createPlan(n);
+                for (final TransformType type : TransformType.values()) {
+                    final double[] re = createData(random, n);
+                    final double[] im = createData(random, n);
+                    final Complex[] expected = transformer.transform(TransformUtils.createComplexArray(new double[][] {
+                        re, im
+                    }), type);
+                    plan.transform(re, im, type);
+                    for (int k = 0; k < n; ++k) {
+                        Assert.assertEquals(expected[k].getReal(),      re[k], 1.0e-14 * n);
+                        Assert.assertEquals(expected[k].getImaginary(), im[k], 1.0e-14 * n);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testLargeRoundTrips() {
+        final RandomGenerator random = new Well19937a(0x0e7b95d4c8a2f163l);
+        // 48000 = 2^7 3 5^3 uses mixed radix, 48017 is prime and uses Bluestein
+        for (final int n : new int[] { 48000, 48017 }) {
+            for (final DftNormalization normalization : DftNormalization.values()) {
+                final FastFourierTransformPlan plan = new FastFourierTransformPlan(n, normalization);
+                final double[] re0 = createData(random, n);
+                final double[] im0 = createData(random, n);
+                final double[] re  = re0.clone();
+                final double[] im  = im0.clone();
+                plan.transform(re, im, TransformType.FORWARD);
+                plan.transform(re, im, TransformType.INVERSE);
+                Assert.assertArrayEquals(re0, re, 1.0e-14);
+                Assert.assertArrayEquals(im0, im, 1.0e-14);
+            }
+        }
+    }
+
+    @Test
+    public void testRealArbitrarySizes() {
+        final RandomGenerator random = new Well19937a(0x61f4d0a8e39c2b75l);
+        for (final DftNormalization normalization : DftNormalization.values()) {
+            for (int n = 1; n <= 130; ++n) {
+                final FastFourierTransformPlan plan = new FastFourierTransformPlan(n, normalization);
+                final double[] x  = createData(random, n);
+                final double[] x0 = x.clone();
+                final double[] cr = x.clone();
+                final double[] ci = new double[n];
+                plan.transform(cr, ci, TransformType.FORWARD);
+                final double[] re = new double[n / 2 + 1];
+                final double[] im = new double[n / 2 + 1];
+                plan.transformReal(x, re, im);
+                Assert.assertArrayEquals(x0, x, 0.0);
+                for (int k = 0; k <= n / 2; ++k) {
+                    Assert.assertEquals(cr[k], re[k], 1.0e-13 * FastMath.sqrt(n));
+                    Assert.assertEquals(ci[k], im[k], 1.0e-13 * FastMath.sqrt(n));
+                }
+                final double[] back = new double[n];
+                plan.inverseTransformReal(re, im, back);
+                Assert.assertArrayEquals(x0, back, 1.0e-14);
+            }
+        }
+    }
+
+    @Test
+    public void testRealKnownSpectrum() {
+        // x[j] = 3 + 2 cos(2π 5 j / n) - sin(2π 7 j / n)
+        final int n = 64;
+        final double[] x = new double[n];
+        for (int j = 0; j < n; ++j) {
+            x[j] = 3 + 2 * FastMath.cos(2 * FastMath.PI * 5 * j / n) - FastMath.sin(2 * FastMath.PI * 7 * j / n);
+        }
+        final double[] re = new double[n / 2 + 1];
+        final double[] im = new double[n / 2 + 1];
+        new FastFourierTransformPlan(n, DftNormalization.STANDARD).transformReal(x, re, im);
+        for (int k = 0; k <= n / 2; ++k) {
+            Assert.assertEquals(k == 0 ? 3 * n : (k == 5 ? n : 0), re[k], 1.0e-12);
+            Assert.assertEquals(k == 7 ? n / 2 : 0, im[k], 1.0e-12);
+        }
+    }
+
+    @Test
+    public void testWrongSizes() {
+        try {
+            new FastFourierTransformPlan(0, DftNormalization.STANDARD);
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            Assert.assertEquals(LocalizedCoreFormats.NUMBER_TOO_SMALL, miae.getSpecifier());
+        }
+        final FastFourierTransformPlan plan = new FastFourierTransformPlan(16, DftNormalization.STANDARD);
+        try {
+            plan.transform(new double[16], new double[8], TransformType.FORWARD);
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            Assert.assertEquals(LocalizedCoreFormats.DIMENSIONS_MISMATCH, miae.getSpecifier());
+        }
+        try {
+            plan.transformReal(new double[16], new double[8], new double[8]);
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            Assert.assertEquals(LocalizedCoreFormats.DIMENSIONS_MISMATCH, miae.getSpecifier());
+        }
+        try {
+            plan.inverseTransformReal(new double[9], new double[9], new double[8]);
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            Assert.assertEquals(LocalizedCoreFormats.DIMENSIONS_MISMATCH, miae.getSpecifier());
+        }
+    }
+
+    private void checkAgainstNaiveDft(final RandomGenerator random, final int n, final double tol) {
+        final FastFourierTransformPlan plan = new FastFourierTransformPlan(n, DftNormalization.STANDARD);
+        for (final TransformType type : TransformType.values()) {
+            final double[] re = createData(random, n);
+            final double[] im = createData(random, n);
+            final double sign = type == TransformType.FORWARD ? -1 : +1;
+            final double scale = type == TransformType.FORWARD ? 1 : 1.0 / n;
+            final double[] expectedRe = new double[n];
+            final double[] expectedIm = new double[n];
+            for (int k = 0; k < n; ++k) {
+                double sr = 0;
+                double si = 0;
+                for (int j = 0; j < n; ++j) {
+                    // reduce the index before converting to angle to preserve accuracy
+                    final double angle = sign * 2 * FastMath.PI * ((((long) j) * k) % n) / n;
+                    final double c = FastMath.cos(angle);
+                    final double s = FastMath.sin(angle);
+                    sr += re[j] * c - im[j] * s;
+                    si += re[j] * s + im[j] * c;
+                }
+                expectedRe[k] = scale * sr;
+                expectedIm[k] = scale * si;
+            }
+            plan.transform(re, im, type);
+            final double threshold = tol * FastMath.sqrt(n) * (type == TransformType.FORWARD ? 1 : 1.0 / n);
+            Assert.assertArrayEquals(expectedRe, re, threshold * n);
+            Assert.assertArrayEquals(expectedIm, im, threshold * n);
+        }
+    }
+
+    private double[] createData(final RandomGenerator random, final int n) {
+        final double[] data = new double[n];
+        for (int i = 0; i < n; ++i) {
+            data[i] = 2 * random.nextDouble() - 1;
+        }
+        return data;
+    }
+
+}
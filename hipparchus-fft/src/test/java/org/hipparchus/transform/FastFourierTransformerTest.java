@@ -49,69 +49,53 @@ public final class FastFourierTransformerTest {
 
     @Test
     public void testTransformComplexSizeNotAPowerOfTwo() {
-        final int n = 127;
-        final Complex[] x = createComplexData(n);
         final DftNormalization[] norm;
         norm = DftNormalization.values();
         final TransformType[] type;
         type = TransformType.values();
         for (int i = 0; i < norm.length; i++) {
             for (int j = 0; j < type.length; j++) {
-                final FastFourierTransformer fft;
-                fft = new FastFourierTransformer(norm[i]);
-                try {
-                    fft.transform(x, type[j]);
-                    Assert.fail(norm[i] + ", " + type[j] +
-                        ": MathIllegalArgumentException was expected");
-                } catch (MathIllegalArgumentException e) {
-                    // Expected behaviour
-                }
+                doTestTransformComplex(3, 1.0E-14, norm[i], type[j]);
+                doTestTransformComplex(6, 1.0E-14, norm[i], type[j]);
+                doTestTransformComplex(45, 1.0E-12, norm[i], type[j]);
+                doTestTransformComplex(100, 1.0E-12, norm[i], type[j]);
+                doTestTransformComplex(127, 1.0E-11, norm[i], type[j]);
             }
         }
     }
 
     @Test
     public void testTransformRealSizeNotAPowerOfTwo() {
-        final int n = 127;
-        final double[] x = createRealData(n);
         final DftNormalization[] norm;
         norm = DftNormalization.values();
         final TransformType[] type;
         type = TransformType.values();
         for (int i = 0; i < norm.length; i++) {
             for (int j = 0; j < type.length; j++) {
-                final FastFourierTransformer fft;
-                fft = new FastFourierTransformer(norm[i]);
-                try {
-                    fft.transform(x, type[j]);
-                    Assert.fail(norm[i] + ", " + type[j] +
-                        ": MathIllegalArgumentException was expected");
-                } catch (MathIllegalArgumentException e) {
-                    // Expected behaviour
-                }
+                doTestTransformReal(3, 1.0E-14, norm[i], type[j]);
+                doTestTransformReal(6, 1.0E-14, norm[i], type[j]);
+                doTestTransformReal(45, 1.0E-12, norm[i], type[j]);
+                doTestTransformReal(100, 1.0E-12, norm[i], type[j]);
+                doTestTransformReal(127, 1.0E-11, norm[i], type[j]);
             }
         }
     }
 
     @Test
     public void testTransformFunctionSizeNotAPowerOfTwo() {
-        final int n = 127;
-        final UnivariateFunction f = new Sin();
+        final UnivariateFunction f = new Sinc();
+        final double min = -FastMath.PI;
+        final double max = FastMath.PI;
         final DftNormalization[] norm;
         norm = DftNormalization.values();
         final TransformType[] type;
         type = TransformType.values();
         for (int i = 0; i < norm.length; i++) {
             for (int j = 0; j < type.length; j++) {
-                final FastFourierTransformer fft;
-                fft = new FastFourierTransformer(norm[i]);
-                try {
-                    fft.transform(f, 0.0, Math.PI, n, type[j]);
-                    Assert.fail(norm[i] + ", " + type[j] +
-                        ": MathIllegalArgumentException was expected");
-                } catch (MathIllegalArgumentException e) {
-                    // Expected behaviour
-                }
+                doTestTransformFunction(f, min, max, 3, 1.0E-14, norm[i], type[j]);
+                doTestTransformFunction(f, min, max, 6, 1.0E-14, norm[i], type[j]);
+                doTestTransformFunction(f, min, max, 45, 1.0E-12, norm[i], type[j]);
+                doTestTransformFunction(f, min, max, 127, 1.0E-11, norm[i], type[j]);
             }
         }
     }
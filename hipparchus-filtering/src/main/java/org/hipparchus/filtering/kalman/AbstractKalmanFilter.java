@@ -21,9 +21,17 @@ import org.hipparchus.exception.MathIllegalArgumentException;
 import org.hipparchus.linear.MatrixDecomposer;
 import org.hipparchus.linear.RealMatrix;
 import org.hipparchus.linear.RealVector;
+import org.hipparchus.linear.SymmetricRealMatrix;
 
 /**
  * Shared parts between linear and non-linear Kalman filters.
+ * <p>
+ * If the covariance of the initial state is a {@link SymmetricRealMatrix},
+ * covariances are propagated using symmetric congruence transforms, which
+ * compute and store only one triangle of the matrices. The predicted and
+ * corrected covariances then remain symmetric matrices as long as the process
+ * noise and measurement covariances are also symmetric matrices.
+ * </p>
  * @param <T> the type of the measurements
  * @since 1.3
  */
@@ -55,7 +63,7 @@ public abstract class AbstractKalmanFilter<T extends Measurement> implements Kal
      */
     protected void predict(final double time, final RealVector predictedState, final RealMatrix stm, final RealMatrix noise) {
         final RealMatrix predictedCovariance =
-                        stm.multiply(corrected.getCovariance().multiplyTransposed(stm)).add(noise);
+                        propagate(corrected.getCovariance(), stm, false).add(noise);
         predicted = new ProcessEstimate(time, predictedState, predictedCovariance);
         corrected = null;
     }
@@ -71,8 +79,31 @@ public abstract class AbstractKalmanFilter<T extends Measurement> implements Kal
         if (h == null) {
             return null;
         }
-        final RealMatrix phT = predicted.getCovariance().multiplyTransposed(h);
-        return h.multiply(phT).add(r);
+        return propagate(predicted.getCovariance(), h, false).add(r);
+    }
+
+    /** Propagate a covariance matrix through a linear transform.
+     * <p>
+     * Symmetric matrices are propagated using a congruence transform. Dense
+     * matrices are propagated using the specified association, in order to
+     * preserve the rounding of earlier versions: a.(P.a<sup>T</sup>) in the
+     * prediction and innovation steps, (a.P).a<sup>T</sup> in the correction step.
+     * </p>
+     * @param covariance covariance matrix P
+     * @param a transform matrix
+     * @param leftFirst if true, dense matrices are propagated as (a.P).a<sup>T</sup>,
+     * otherwise they are propagated as a.(P.a<sup>T</sup>)
+     * @return \(a.P.a^T\)
+     * @since 3.1
+     */
+    private RealMatrix propagate(final RealMatrix covariance, final RealMatrix a, final boolean leftFirst) {
+        if (covariance instanceof SymmetricRealMatrix) {
+            return ((SymmetricRealMatrix) covariance).congruence(a);
+        } else if (leftFirst) {
+            return a.multiply(covariance).multiplyTransposed(a);
+        } else {
+            return a.multiply(covariance.multiplyTransposed(a));
+        }
     }
 
     /** Perform correction step.
@@ -125,8 +156,7 @@ public abstract class AbstractKalmanFilter<T extends Measurement> implements Kal
         }
         final RealMatrix r = measurement.getCovariance();
         final RealMatrix correctedCovariance =
-                        idMkh.multiply(predicted.getCovariance()).multiplyTransposed(idMkh).
-                        add(k.multiply(r).multiplyTransposed(k));
+                        propagate(predicted.getCovariance(), idMkh, true).add(propagate(r, k, true));
 
         corrected = new ProcessEstimate(measurement.getTime(), correctedState, correctedCovariance,
                                         stm, h, s, k);
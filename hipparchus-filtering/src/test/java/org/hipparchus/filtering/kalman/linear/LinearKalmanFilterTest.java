@@ -28,6 +28,7 @@ import org.hipparchus.linear.CholeskyDecomposer;
 import org.hipparchus.linear.MatrixUtils;
 import org.hipparchus.linear.RealMatrix;
 import org.hipparchus.linear.RealVector;
+import org.hipparchus.linear.SymmetricRealMatrix;
 import org.hipparchus.random.RandomGenerator;
 import org.hipparchus.random.Well1024a;
 import org.hipparchus.util.FastMath;
@@ -83,20 +84,25 @@ public class LinearKalmanFilterTest {
 
     @Test
     public void testConstantAcceleration() {
-        doTestConstantAcceleration("constant-acceleration.txt");
+        doTestConstantAcceleration("constant-acceleration.txt", false);
     }
 
     @Test
     public void testConstantAccelerationWithIntermediateData() {
-        doTestConstantAcceleration("constant-acceleration-with-intermediate-data.txt");
+        doTestConstantAcceleration("constant-acceleration-with-intermediate-data.txt", false);
     }
 
     @Test
     public void testConstantAccelerationWithOutlier() {
-        doTestConstantAcceleration("constant-acceleration-with-outlier.txt");
+        doTestConstantAcceleration("constant-acceleration-with-outlier.txt", false);
     }
 
-    private void doTestConstantAcceleration(String name) {
+    @Test
+    public void testConstantAccelerationSymmetric() {
+        doTestConstantAcceleration("constant-acceleration-with-intermediate-data.txt", true);
+    }
+
+    private void doTestConstantAcceleration(String name, boolean symmetric) {
 
         // state:             { position, velocity }
         // control:           0.1 m/s² acceleration
@@ -121,18 +127,20 @@ public class LinearKalmanFilterTest {
             { dt }
         });
         final RealVector u = MatrixUtils.createRealVector(new double[] { acc });
-        final RealMatrix q = MatrixUtils.createRealMatrix(new double[][] {
+        final RealMatrix denseQ = MatrixUtils.createRealMatrix(new double[][] {
             { 0.25 * dt4 * aNoise2, 0.5 * dt3 * aNoise2 },
             { 0.5  * dt3 * aNoise2, dt2 * aNoise2 }
         });
+        final RealMatrix q = symmetric ? new SymmetricRealMatrix(denseQ, 0.0) : denseQ;
 
         // initial state is estimated to be at rest on origin
+        final RealMatrix p0 = MatrixUtils.createRealMatrix(new double[][] {
+            { 1.0, 1.0 },
+            { 1.0, 1.0 }
+        });
         final ProcessEstimate initial = new ProcessEstimate(0,
                                                             MatrixUtils.createRealVector(new double[] { 0.0, 0.0 }),
-                                                            MatrixUtils.createRealMatrix(new double[][] {
-                                                                { 1.0, 1.0 },
-                                                                { 1.0, 1.0 }
-                                                            }));
+                                                            symmetric ? new SymmetricRealMatrix(p0, 0.0) : p0);
 
         // reference values from Apache Commons Math 3.6.1 unit test
         // possibly with additional intermediate data
@@ -141,6 +149,8 @@ public class LinearKalmanFilterTest {
                         referenceData.stream().
                         map(r -> new SimpleMeasurement(r.getTime(),
                                                        r.getZ(),
+                                                       symmetric ?
+                                                       new SymmetricRealMatrix(1, new double[] { mNoise * mNoise }, false) :
                                                        MatrixUtils.createRealDiagonalMatrix(new double[] { mNoise * mNoise })));
 
         // set up Kalman filter
@@ -162,6 +172,7 @@ public class LinearKalmanFilterTest {
                 if (r.sameTime(estimate.getTime())) {
                     r.checkState(estimate.getState(), 4.0e-15);
                     r.checkCovariance(estimate.getCovariance(), 4.0e-15);
+                    Assert.assertEquals(symmetric, estimate.getCovariance() instanceof SymmetricRealMatrix);
                     if (r.hasIntermediateData()) {
                       r.checkStateTransitionMatrix(estimate.getStateTransitionMatrix(), 1.0e-14);
                       r.checkMeasurementJacobian(estimate.getMeasurementJacobian(),     1.0e-15);
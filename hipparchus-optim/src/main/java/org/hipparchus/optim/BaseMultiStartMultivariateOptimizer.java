@@ -21,10 +21,24 @@
  */
 package org.hipparchus.optim;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
 import org.hipparchus.exception.LocalizedCoreFormats;
 import org.hipparchus.exception.MathIllegalArgumentException;
 import org.hipparchus.exception.MathIllegalStateException;
+import org.hipparchus.exception.MathRuntimeException;
+import org.hipparchus.exception.NullArgumentException;
 import org.hipparchus.random.RandomVectorGenerator;
+import org.hipparchus.util.MathUtils;
 
 /**
  * Base class multi-start optimizer for a multivariate function.
@@ -33,6 +47,11 @@ import org.hipparchus.random.RandomVectorGenerator;
  * turn with different starting points (trying to avoid being trapped
  * in a local extremum when looking for a global one).
  * <em>It is not a "user" class.</em>
+ * <p>
+ * The starts can be performed either sequentially with a single underlying
+ * optimizer, or concurrently using an {@link ExecutorService} and one
+ * underlying optimizer per start.
+ * </p>
  *
  * @param <P> Type of the point/value pair returned by the optimization
  * algorithm.
@@ -60,6 +79,12 @@ public abstract class BaseMultiStartMultivariateOptimizer<P>
      * will be stored.
      */
     private int initialGuessIndex = -1;
+    /** Factory for underlying optimizers (null for sequential starts). */
+    private final Supplier<? extends BaseMultivariateOptimizer<P>> factory;
+    /** Executor running the starts (null for sequential starts). */
+    private final ExecutorService executor;
+    /** Condition for skipping the remaining starts (null if all starts must be performed). */
+    private final Predicate<P> stopCondition;
 
     /**
      * Create a multi-start optimizer from a single-start optimizer.
@@ -89,9 +114,95 @@ public abstract class BaseMultiStartMultivariateOptimizer<P>
                                                    starts, 1);
         }
 
-        this.optimizer = optimizer;
-        this.starts = starts;
-        this.generator = generator;
+        this.optimizer     = optimizer;
+        this.starts        = starts;
+        this.generator     = generator;
+        this.factory       = null;
+        this.executor      = null;
+        this.stopCondition = null;
+    }
+
+    /**
+     * Create a multi-start optimizer performing the starts concurrently.
+     * <p>
+     * Each start uses its own underlying optimizer, built by the factory
+     * in the thread that calls {@code optimize}. The start points are also
+     * drawn from the generator in this thread, before the starts are submitted
+     * to the executor, so the generator does not need to be thread-safe and
+     * the start points are the same as in sequential mode. The objective
+     * function and the other optimization data are however shared between
+     * the starts, so they must be thread-safe.
+     * </p>
+     * <p>
+     * The maximum number of evaluations is shared by all starts: each start is
+     * allowed to use the evaluations not yet consumed by the starts already
+     * completed when it begins, so the total number of evaluations may exceed
+     * the maximum when several starts run at the same time.
+     * </p>
+     * <p>
+     * If a stop condition is provided, once one start has found an optimum that
+     * fulfills it, the starts that have not begun yet are skipped; the starts
+     * already running are completed.
+     * </p>
+     * @param factory factory for the single-start optimizers to use
+     * @param starts number of starts to perform
+     * @param generator random vector generator to use for restarts
+     * @param executor executor running the starts
+     * @param stopCondition condition on an optimum for skipping the remaining
+     * starts (may be null if all starts must be performed)
+     * @throws MathIllegalArgumentException if {@code starts < 1}.
+     * @throws NullArgumentException if {@code factory} or {@code executor} is null
+     * @since 3.1
+     */
+    public BaseMultiStartMultivariateOptimizer(final Supplier<? extends BaseMultivariateOptimizer<P>> factory,
+                                               final int starts,
+                                               final RandomVectorGenerator generator,
+                                               final ExecutorService executor,
+                                               final Predicate<P> stopCondition) {
+        this(buildFirst(factory), factory, starts, generator, executor, stopCondition);
+    }
+
+    /**
+     * Create a multi-start optimizer performing the starts concurrently.
+     * @param first optimizer to use for the first start
+     * @param factory factory for the single-start optimizers to use for the other starts
+     * @param starts number of starts to perform
+     * @param generator random vector generator to use for restarts
+     * @param executor executor running the starts
+     * @param stopCondition condition on an optimum for skipping the remaining
+     * starts (may be null if all starts must be performed)
+     */
+    private BaseMultiStartMultivariateOptimizer(final BaseMultivariateOptimizer<P> first,
+                                                final Supplier<? extends BaseMultivariateOptimizer<P>> factory,
+                                                final int starts,
+                                                final RandomVectorGenerator generator,
+                                                final ExecutorService executor,
+                                                final Predicate<P> stopCondition) {
+        super(first.getConvergenceChecker());
+
+        if (starts < 1) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.NUMBER_TOO_SMALL,
+                                                   starts, 1);
+        }
+        MathUtils.checkNotNull(executor);
+
+        this.optimizer     = first;
+        this.starts        = starts;
+        this.generator     = generator;
+        this.factory       = factory;
+        this.executor      = executor;
+        this.stopCondition = stopCondition;
+    }
+
+    /** Build the optimizer for the first start.
+     * @param factory factory for the single-start optimizers
+     * @param <P> Type of the point/value pair returned by the optimization algorithm
+     * @return optimizer for the first start
+     * @throws NullArgumentException if {@code factory} is null
+     */
+    private static <P> BaseMultivariateOptimizer<P> buildFirst(final Supplier<? extends BaseMultivariateOptimizer<P>> factory) {
+        MathUtils.checkNotNull(factory);
+        return factory.get();
     }
 
     /** {@inheritDoc} */
@@ -165,13 +276,16 @@ public abstract class BaseMultiStartMultivariateOptimizer<P>
             throw new MathIllegalStateException(LocalizedCoreFormats.ILLEGAL_STATE);
         }
 
-        RuntimeException lastException = null;
         totalEvaluations = 0;
         clear();
 
+        if (executor != null) {
+            return doOptimizeConcurrently();
+        }
+
+        RuntimeException lastException = null;
+
         final int maxEval = getMaxEvaluations();
-        final double[] min = getLowerBound();
-        final double[] max = getUpperBound();
         final double[] startPoint = getStartPoint();
 
         // Multi-start loop.
@@ -181,26 +295,7 @@ public abstract class BaseMultiStartMultivariateOptimizer<P>
                 // Decrease number of allowed evaluations.
                 optimData[maxEvalIndex] = new MaxEval(maxEval - totalEvaluations);
                 // New start value.
-                double[] s = null;
-                if (i == 0) {
-                    s = startPoint;
-                } else {
-                    int attempts = 0;
-                    while (s == null) {
-                        if (attempts >= getMaxEvaluations()) {
-                            throw new MathIllegalStateException(LocalizedCoreFormats.MAX_COUNT_EXCEEDED,
-                                                                getMaxEvaluations());
-                        }
-                        s = generator.nextVector();
-                        for (int k = 0; s != null && k < s.length; ++k) {
-                            if ((min != null && s[k] < min[k]) || (max != null && s[k] > max[k])) {
-                                // reject the vector
-                                s = null;
-                            }
-                        }
-                        ++attempts;
-                    }
-                }
+                final double[] s = (i == 0) ? startPoint : nextStartPoint();
                 optimData[initialGuessIndex] = new InitialGuess(s);
                 // Optimize.
                 final P result = optimizer.optimize(optimData);
@@ -223,6 +318,100 @@ public abstract class BaseMultiStartMultivariateOptimizer<P>
         return optima[0];
     }
 
+    /**
+     * Performs the starts concurrently.
+     *
+     * @return the best optimum found
+     */
+    private P doOptimizeConcurrently() {
+
+        RuntimeException lastException = null;
+
+        final int maxEval = getMaxEvaluations();
+        final AtomicInteger evaluations = new AtomicInteger(0);
+        final AtomicBoolean stop        = new AtomicBoolean(false);
+
+        // Submit all starts, drawing start points in the calling thread
+        // as the generator is not required to be thread-safe.
+        final List<Future<P>> results = new ArrayList<>(starts);
+        for (int i = 0; i < starts; i++) {
+            // CHECKSTYLE: stop IllegalCatch
+            try {
+                final double[] s = (i == 0) ? getStartPoint() : nextStartPoint();
+                final OptimizationData[] data = optimData.clone();
+                data[initialGuessIndex] = new InitialGuess(s);
+                final BaseMultivariateOptimizer<P> startOptimizer = (i == 0) ? optimizer : factory.get();
+                results.add(executor.submit(new StartTask(startOptimizer, data, maxEval, evaluations, stop)));
+            } catch (RuntimeException mue) { // NOPMD - caching a RuntimeException is intentional here, it will be rethrown later
+                lastException = mue;
+            }
+            // CHECKSTYLE: resume IllegalCatch
+        }
+
+        // Retrieve the optima, in start order.
+        for (final Future<P> result : results) {
+            try {
+                final P optimum = result.get();
+                if (optimum != null) {
+                    store(optimum);
+                }
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+                throw new MathIllegalStateException(ie, LocalizedCoreFormats.SIMPLE_MESSAGE, ie.getMessage());
+            } catch (ExecutionException ee) {
+                if (ee.getCause() instanceof RuntimeException) {
+                    lastException = (RuntimeException) ee.getCause();
+                } else if (ee.getCause() instanceof Error) {
+                    throw (Error) ee.getCause();
+                } else {
+                    throw MathRuntimeException.createInternalError(ee.getCause());
+                }
+            }
+        }
+
+        totalEvaluations = evaluations.get();
+
+        final P[] optima = getOptima();
+        if (optima.length == 0) {
+            // All runs failed.
+            throw lastException; // Cannot be null if starts >= 1.
+        }
+
+        // Return the best optimum.
+        return optima[0];
+
+    }
+
+    /**
+     * Draws a new start point from the generator.
+     * <p>
+     * If there are bounds constraints, vectors out of bounds are rejected.
+     * </p>
+     * @return new start point
+     * @throws MathIllegalStateException if no vector within bounds could be drawn
+     */
+    private double[] nextStartPoint() {
+        final double[] min = getLowerBound();
+        final double[] max = getUpperBound();
+        double[] s = null;
+        int attempts = 0;
+        while (s == null) {
+            if (attempts >= getMaxEvaluations()) {
+                throw new MathIllegalStateException(LocalizedCoreFormats.MAX_COUNT_EXCEEDED,
+                                                    getMaxEvaluations());
+            }
+            s = generator.nextVector();
+            for (int k = 0; s != null && k < s.length; ++k) {
+                if ((min != null && s[k] < min[k]) || (max != null && s[k] > max[k])) {
+                    // reject the vector
+                    s = null;
+                }
+            }
+            ++attempts;
+        }
+        return s;
+    }
+
     /**
      * Method that will be called in order to store each found optimum.
      *
@@ -233,4 +422,68 @@ public abstract class BaseMultiStartMultivariateOptimizer<P>
      * Method that will called in order to clear all stored optima.
      */
     protected abstract void clear();
+
+    /** Task performing one start in concurrent mode. */
+    private class StartTask implements Callable<P> {
+
+        /** Underlying optimizer for this start. */
+        private final BaseMultivariateOptimizer<P> startOptimizer;
+
+        /** Optimization data for this start. */
+        private final OptimizationData[] data;
+
+        /** Maximum number of evaluations for all starts. */
+        private final int maxEval;
+
+        /** Number of evaluations used by all completed starts. */
+        private final AtomicInteger evaluations;
+
+        /** Indicator for skipping the remaining starts. */
+        private final AtomicBoolean stop;
+
+        /** Simple constructor.
+         * @param startOptimizer underlying optimizer for this start
+         * @param data optimization data for this start
+         * @param maxEval maximum number of evaluations for all starts
+         * @param evaluations number of evaluations used by all completed starts
+         * @param stop indicator for skipping the remaining starts
+         */
+        StartTask(final BaseMultivariateOptimizer<P> startOptimizer, final OptimizationData[] data,
+                  final int maxEval, final AtomicInteger evaluations, final AtomicBoolean stop) {
+            this.startOptimizer = startOptimizer;
+            this.data           = data;
+            this.maxEval        = maxEval;
+            this.evaluations    = evaluations;
+            this.stop           = stop;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public P call() {
+
+            if (stop.get()) {
+                // a previous start already fulfilled the stop condition
+                return null;
+            }
+
+            final int remaining = maxEval - evaluations.get();
+            if (remaining <= 0) {
+                throw new MathIllegalStateException(LocalizedCoreFormats.MAX_COUNT_EXCEEDED, maxEval);
+            }
+            data[maxEvalIndex] = new MaxEval(remaining);
+
+            try {
+                final P result = startOptimizer.optimize(data);
+                if (stopCondition != null && stopCondition.test(result)) {
+                    stop.set(true);
+                }
+                return result;
+            } finally {
+                evaluations.addAndGet(startOptimizer.getEvaluations());
+            }
+
+        }
+
+    }
+
 }
@@ -25,10 +25,14 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 import org.hipparchus.exception.MathIllegalArgumentException;
 import org.hipparchus.exception.NullArgumentException;
 import org.hipparchus.optim.BaseMultiStartMultivariateOptimizer;
+import org.hipparchus.optim.OptimizationData;
 import org.hipparchus.optim.PointValuePair;
 import org.hipparchus.random.RandomVectorGenerator;
 
@@ -38,14 +42,15 @@ import org.hipparchus.random.RandomVectorGenerator;
  * This class wraps an optimizer in order to use it several times in
  * turn with different starting points (trying to avoid being trapped
  * in a local extremum when looking for a global one).
+ * The starts can be performed either sequentially or concurrently.
  *
  */
 public class MultiStartMultivariateOptimizer
     extends BaseMultiStartMultivariateOptimizer<PointValuePair> {
-    /** Underlying optimizer. */
-    private final MultivariateOptimizer optimizer;
     /** Found optima. */
     private final List<PointValuePair> optima;
+    /** Type of optimization. */
+    private GoalType goal;
 
     /**
      * Create a multi-start optimizer from a single-start optimizer.
@@ -64,8 +69,66 @@ public class MultiStartMultivariateOptimizer
                                            final RandomVectorGenerator generator)
         throws MathIllegalArgumentException, NullArgumentException {
         super(optimizer, starts, generator);
-        this.optimizer = optimizer;
-        this.optima   = new ArrayList<>();
+        this.optima = new ArrayList<>();
+    }
+
+    /**
+     * Create a multi-start optimizer performing the starts concurrently.
+     * <p>
+     * The objective function (and its gradient if used) is shared between
+     * the starts, so it must be thread-safe. The other optimization data are
+     * shared too, so this mode cannot be used with data updated during the
+     * optimization, like the simplex used by
+     * {@link org.hipparchus.optim.nonlinear.scalar.noderiv.SimplexOptimizer
+     * SimplexOptimizer}.
+     * </p>
+     *
+     * @param factory Factory for the single-start optimizers, one
+     * optimizer is built for each start.
+     * @param starts Number of starts to perform.
+     * @param generator Random vector generator to use for restarts.
+     * @param executor Executor running the starts.
+     * @param stopCondition Condition on an optimum for skipping the remaining
+     * starts, for example reaching a target value (may be null if all starts
+     * must be performed).
+     * @throws NullArgumentException if {@code factory} or {@code executor}
+     * is {@code null}.
+     * @throws MathIllegalArgumentException if {@code starts < 1}.
+     * @see BaseMultiStartMultivariateOptimizer#BaseMultiStartMultivariateOptimizer(Supplier,
+     * int, RandomVectorGenerator, ExecutorService, Predicate)
+     * @since 3.1
+     */
+    public MultiStartMultivariateOptimizer(final Supplier<? extends MultivariateOptimizer> factory,
+                                           final int starts,
+                                           final RandomVectorGenerator generator,
+                                           final ExecutorService executor,
+                                           final Predicate<PointValuePair> stopCondition)
+        throws MathIllegalArgumentException, NullArgumentException {
+        super(factory, starts, generator, executor, stopCondition);
+        this.optima = new ArrayList<>();
+    }
+
+    /**
+     * Scans the list of (required and optional) optimization data that
+     * characterize the problem.
+     *
+     * @param optData Optimization data.
+     * The following data will be looked for:
+     * <ul>
+     *  <li>{@link GoalType}</li>
+     * </ul>
+     */
+    @Override
+    protected void parseOptimizationData(OptimizationData... optData) {
+        // Allow base class to register its own data.
+        super.parseOptimizationData(optData);
+
+        // The goal type is needed for sorting the optima.
+        for (OptimizationData data : optData) {
+            if (data instanceof GoalType) {
+                goal = (GoalType) data;
+            }
+        }
     }
 
     /**
@@ -109,7 +172,7 @@ public class MultiStartMultivariateOptimizer
                 }
                 final double v1 = o1.getValue();
                 final double v2 = o2.getValue();
-                return (optimizer.getGoalType() == GoalType.MINIMIZE) ?
+                return (goal == GoalType.MINIMIZE) ?
                     Double.compare(v1, v2) : Double.compare(v2, v1);
             }
         };
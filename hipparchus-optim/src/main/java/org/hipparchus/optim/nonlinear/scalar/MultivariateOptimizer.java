@@ -21,8 +21,19 @@
  */
 package org.hipparchus.optim.nonlinear.scalar;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import org.hipparchus.analysis.BatchMultivariateFunction;
 import org.hipparchus.analysis.MultivariateFunction;
+import org.hipparchus.exception.LocalizedCoreFormats;
 import org.hipparchus.exception.MathIllegalStateException;
+import org.hipparchus.exception.MathRuntimeException;
+import org.hipparchus.util.MathUtils;
 import org.hipparchus.optim.BaseMultivariateOptimizer;
 import org.hipparchus.optim.ConvergenceChecker;
 import org.hipparchus.optim.OptimizationData;
@@ -118,4 +129,69 @@ public abstract class MultivariateOptimizer
         super.incrementEvaluationCount();
         return function.value(params);
     }
+
+    /**
+     * Computes the objective function values at several independent points.
+     * <p>
+     * The evaluation counter is incremented for all points before any
+     * evaluation is performed. If the objective function is a {@link
+     * BatchMultivariateFunction}, all points are evaluated in one call to
+     * {@link BatchMultivariateFunction#value(double[][])}. Otherwise, if an
+     * executor is provided, the points are evaluated concurrently by the
+     * executor, so the objective function must be thread-safe. Otherwise,
+     * the points are evaluated one after the other in the calling thread.
+     * </p>
+     *
+     * @param params Points at which the objective function must be evaluated,
+     * one point per row.
+     * @param executor Executor for concurrent evaluations (may be null for
+     * evaluations in the calling thread).
+     * @return the objective function values at the specified points.
+     * @throws MathIllegalStateException if the maximal number of
+     * evaluations is exceeded.
+     * @since 3.1
+     */
+    public double[] computeObjectiveValues(final double[][] params, final ExecutorService executor) {
+
+        for (int i = 0; i < params.length; ++i) {
+            super.incrementEvaluationCount();
+        }
+
+        if (function instanceof BatchMultivariateFunction) {
+            final double[] values = ((BatchMultivariateFunction) function).value(params);
+            MathUtils.checkDimension(values.length, params.length);
+            return values;
+        }
+
+        final double[] values = new double[params.length];
+        if (executor == null) {
+            for (int i = 0; i < params.length; ++i) {
+                values[i] = function.value(params[i]);
+            }
+            return values;
+        }
+
+        final List<Future<Double>> results = new ArrayList<>(params.length);
+        for (final double[] point : params) {
+            results.add(executor.submit((Callable<Double>) () -> function.value(point)));
+        }
+        try {
+            for (int i = 0; i < values.length; ++i) {
+                values[i] = results.get(i).get();
+            }
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new MathIllegalStateException(ie, LocalizedCoreFormats.SIMPLE_MESSAGE, ie.getMessage());
+        } catch (ExecutionException ee) {
+            if (ee.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) ee.getCause();
+            } else if (ee.getCause() instanceof Error) {
+                throw (Error) ee.getCause();
+            } else {
+                throw MathRuntimeException.createInternalError(ee.getCause());
+            }
+        }
+        return values;
+
+    }
 }
@@ -25,6 +25,7 @@ package org.hipparchus.optim.nonlinear.scalar.noderiv;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 
 import org.hipparchus.exception.LocalizedCoreFormats;
 import org.hipparchus.exception.MathIllegalArgumentException;
@@ -71,6 +72,13 @@ import org.hipparchus.util.FastMath;
  * This implementation is translated and adapted from the Matlab version
  * of the CMA-ES algorithm as implemented in module {@code cmaes.m} version 3.51.
  * <p>
+ * The offspring of each generation are evaluated together. If the objective
+ * function is a {@link org.hipparchus.analysis.BatchMultivariateFunction
+ * BatchMultivariateFunction}, the whole population is evaluated in one call.
+ * Otherwise, if an {@link ExecutorService} has been provided at construction,
+ * the offspring are evaluated concurrently. Both modes give the same results
+ * as evaluating the offspring one at a time.
+ * <p>
  * For more information, please refer to the following links:
  * <ul>
  *  <li><a href="http://www.lri.fr/~hansen/cmaes.m">Matlab code</a></li>
@@ -197,6 +205,9 @@ public class CMAESOptimizer
     /** Random generator. */
     private final RandomGenerator random;
 
+    /** Executor for concurrent evaluations of offspring (null for evaluations in the calling thread). */
+    private final ExecutorService executor;
+
     /** History of sigma values. */
     private final List<Double> statisticsSigmaHistory;
     /** History of mean matrix. */
@@ -228,6 +239,41 @@ public class CMAESOptimizer
                           RandomGenerator random,
                           boolean generateStatistics,
                           ConvergenceChecker<PointValuePair> checker) {
+        this(maxIterations, stopFitness, isActiveCMA, diagonalOnly, checkFeasableCount,
+             random, generateStatistics, checker, null);
+    }
+
+    /** Constructor for concurrent evaluations of offspring.
+     * <p>
+     * With this constructor, the offspring of each generation are evaluated
+     * concurrently by the executor, so the objective function must be thread-safe.
+     * The random generator is only used in the calling thread, so the results
+     * are the same as with sequential evaluations.
+     * </p>
+     * @param maxIterations Maximal number of iterations.
+     * @param stopFitness Whether to stop if objective function value is smaller than
+     * {@code stopFitness}.
+     * @param isActiveCMA Chooses the covariance matrix update method.
+     * @param diagonalOnly Number of initial iterations, where the covariance matrix
+     * remains diagonal.
+     * @param checkFeasableCount Determines how often new random objective variables are
+     * generated in case they are out of bounds.
+     * @param random Random generator.
+     * @param generateStatistics Whether statistic data is collected.
+     * @param checker Convergence checker.
+     * @param executor Executor for concurrent evaluations of offspring (may be null
+     * for evaluations in the calling thread).
+     * @since 3.1
+     */
+    public CMAESOptimizer(int maxIterations,
+                          double stopFitness,
+                          boolean isActiveCMA,
+                          int diagonalOnly,
+                          int checkFeasableCount,
+                          RandomGenerator random,
+                          boolean generateStatistics,
+                          ConvergenceChecker<PointValuePair> checker,
+                          ExecutorService executor) {
         super(checker);
         this.maxIterations = maxIterations;
         this.stopFitness = stopFitness;
@@ -236,6 +282,7 @@ public class CMAESOptimizer
         this.checkFeasableCount = checkFeasableCount;
         this.random = random;
         this.generateStatistics = generateStatistics;
+        this.executor = executor;
         this.statisticsSigmaHistory = new ArrayList<>();
         this.statisticsMeanHistory = new ArrayList<>();
         this.statisticsFitnessHistory = new ArrayList<>();
@@ -396,7 +443,6 @@ public class CMAESOptimizer
             final RealMatrix arz = randn1(dimension, lambda);
             final RealMatrix arx = zeros(dimension, lambda);
             final double[] fitness = new double[lambda];
-            final ValuePenaltyPair[] valuePenaltyPairs = new ValuePenaltyPair[lambda];
             // generate random offspring
             for (int k = 0; k < lambda; k++) {
                 RealMatrix arxk = null;
@@ -416,11 +462,13 @@ public class CMAESOptimizer
                     arz.setColumn(k, randn(dimension));
                 }
                 copyColumn(arxk, 0, arx, k);
-                try {
-                    valuePenaltyPairs[k] = fitfun.value(arx.getColumn(k)); // compute fitness
-                } catch (MathIllegalStateException e) {
-                    break generationLoop;
-                }
+            }
+            // compute fitness of all offspring
+            final ValuePenaltyPair[] valuePenaltyPairs;
+            try {
+                valuePenaltyPairs = fitfun.value(arx);
+            } catch (MathIllegalStateException e) {
+                break generationLoop;
             }
 
             // Compute fitnesses by adding value and penalty after scaling by value range.
@@ -962,6 +1010,28 @@ public class CMAESOptimizer
             return new ValuePenaltyPair(value,penalty);
         }
 
+        /**
+         * @param points Normalized objective variables, one point per column.
+         * @return the objective values + penalties for violated bounds, one per point.
+         */
+        public ValuePenaltyPair[] value(final RealMatrix points) {
+            final int n = points.getColumnDimension();
+            final double[][] x         = new double[n][];
+            final double[][] evaluated = new double[n][];
+            for (int k = 0; k < n; k++) {
+                x[k]         = points.getColumn(k);
+                evaluated[k] = isRepairMode ? repair(x[k]) : x[k];
+            }
+            final double[] values = CMAESOptimizer.this.computeObjectiveValues(evaluated, executor);
+            final ValuePenaltyPair[] pairs = new ValuePenaltyPair[n];
+            for (int k = 0; k < n; k++) {
+                final double penalty = isRepairMode ? penalty(x[k], evaluated[k]) : 0.0;
+                pairs[k] = new ValuePenaltyPair(isMinimize ? values[k] : -values[k],
+                                                isMinimize ? penalty   : -penalty);
+            }
+            return pairs;
+        }
+
         /**
          * @param x Normalized objective variables.
          * @return {@code true} if in bounds.
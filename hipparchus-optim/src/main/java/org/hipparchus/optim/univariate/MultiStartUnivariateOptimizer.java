@@ -24,14 +24,25 @@ package org.hipparchus.optim.univariate;
 
 import java.util.Arrays;
 import java.util.Comparator;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 import org.hipparchus.exception.LocalizedCoreFormats;
 import org.hipparchus.exception.MathIllegalStateException;
 import org.hipparchus.exception.MathIllegalArgumentException;
+import org.hipparchus.exception.MathRuntimeException;
+import org.hipparchus.exception.NullArgumentException;
 import org.hipparchus.optim.MaxEval;
 import org.hipparchus.optim.OptimizationData;
 import org.hipparchus.optim.nonlinear.scalar.GoalType;
 import org.hipparchus.random.RandomGenerator;
+import org.hipparchus.util.MathUtils;
 
 /**
  * Special implementation of the {@link UnivariateOptimizer} interface
@@ -40,6 +51,11 @@ import org.hipparchus.random.RandomGenerator;
  * This class wraps an optimizer in order to use it several times in
  * turn with different starting points (trying to avoid being trapped
  * in a local extremum when looking for a global one).
+ * <p>
+ * The starts can be performed either sequentially with a single underlying
+ * optimizer, or concurrently using an {@link ExecutorService} and one
+ * underlying optimizer per start.
+ * </p>
  *
  */
 public class MultiStartUnivariateOptimizer
@@ -66,6 +82,12 @@ public class MultiStartUnivariateOptimizer
      * will be stored.
      */
     private int searchIntervalIndex = -1;
+    /** Factory for underlying optimizers (null for sequential starts). */
+    private final Supplier<? extends UnivariateOptimizer> factory;
+    /** Executor running the starts (null for sequential starts). */
+    private final ExecutorService executor;
+    /** Condition for skipping the remaining starts (null if all starts must be performed). */
+    private final Predicate<UnivariatePointValuePair> stopCondition;
 
     /**
      * Create a multi-start optimizer from a single-start optimizer.
@@ -87,9 +109,97 @@ public class MultiStartUnivariateOptimizer
                                                    starts, 1);
         }
 
-        this.optimizer = optimizer;
-        this.starts = starts;
-        this.generator = generator;
+        this.optimizer     = optimizer;
+        this.starts        = starts;
+        this.generator     = generator;
+        this.factory       = null;
+        this.executor      = null;
+        this.stopCondition = null;
+    }
+
+    /**
+     * Create a multi-start optimizer performing the starts concurrently.
+     * <p>
+     * Each start uses its own underlying optimizer, built by the factory
+     * in the thread that calls {@code optimize}. The start values are also
+     * drawn from the generator in this thread, so the generator does not
+     * need to be thread-safe and the start values are the same as in
+     * sequential mode. The objective function is however shared between
+     * the starts, so it must be thread-safe.
+     * </p>
+     * <p>
+     * The maximum number of evaluations is shared by all starts: each start is
+     * allowed to use the evaluations not yet consumed by the starts already
+     * completed when it begins, so the total number of evaluations may exceed
+     * the maximum when several starts run at the same time.
+     * </p>
+     * <p>
+     * If a stop condition is provided, once one start has found an optimum that
+     * fulfills it, the starts that have not begun yet are skipped (their optima
+     * are {@code null}); the starts already running are completed.
+     * </p>
+     *
+     * @param factory Factory for the single-start optimizers, one
+     * optimizer is built for each start.
+     * @param starts Number of starts to perform.
+     * @param generator Random generator to use for restarts.
+     * @param executor Executor running the starts.
+     * @param stopCondition Condition on an optimum for skipping the remaining
+     * starts, for example reaching a target value (may be null if all starts
+     * must be performed).
+     * @throws MathIllegalArgumentException if {@code starts < 1}.
+     * @throws NullArgumentException if {@code factory} or {@code executor} is null
+     * @since 3.1
+     */
+    public MultiStartUnivariateOptimizer(final Supplier<? extends UnivariateOptimizer> factory,
+                                         final int starts,
+                                         final RandomGenerator generator,
+                                         final ExecutorService executor,
+                                         final Predicate<UnivariatePointValuePair> stopCondition) {
+        this(buildFirst(factory), factory, starts, generator, executor, stopCondition);
+    }
+
+    /**
+     * Create a multi-start optimizer performing the starts concurrently.
+     *
+     * @param first Optimizer to use for the first start.
+     * @param factory Factory for the single-start optimizers to use for the other starts.
+     * @param starts Number of starts to perform.
+     * @param generator Random generator to use for restarts.
+     * @param executor Executor running the starts.
+     * @param stopCondition Condition on an optimum for skipping the remaining
+     * starts (may be null if all starts must be performed).
+     */
+    private MultiStartUnivariateOptimizer(final UnivariateOptimizer first,
+                                          final Supplier<? extends UnivariateOptimizer> factory,
+                                          final int starts,
+                                          final RandomGenerator generator,
+                                          final ExecutorService executor,
+                                          final Predicate<UnivariatePointValuePair> stopCondition) {
+        super(first.getConvergenceChecker());
+
+        if (starts < 1) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.NUMBER_TOO_SMALL,
+                                                   starts, 1);
+        }
+        MathUtils.checkNotNull(executor);
+
+        this.optimizer     = first;
+        this.starts        = starts;
+        this.generator     = generator;
+        this.factory       = factory;
+        this.executor      = executor;
+        this.stopCondition = stopCondition;
+    }
+
+    /** Build the optimizer for the first start.
+     * @param factory factory for the single-start optimizers
+     * @return optimizer for the first start
+     * @throws NullArgumentException if {@code factory} is null
+     */
+    private static UnivariateOptimizer buildFirst(final Supplier<? extends UnivariateOptimizer> factory) {
+        MathUtils.checkNotNull(factory);
+        return factory.get();
     }
 
     /** {@inheritDoc} */
@@ -168,10 +278,15 @@ public class MultiStartUnivariateOptimizer
             throw new MathIllegalStateException(LocalizedCoreFormats.ILLEGAL_STATE);
         }
 
-        RuntimeException lastException = null;
         optima = new UnivariatePointValuePair[starts];
         totalEvaluations = 0;
 
+        if (executor != null) {
+            return doOptimizeConcurrently();
+        }
+
+        RuntimeException lastException = null;
+
         final int maxEval = getMaxEvaluations();
         final double min = getMin();
         final double max = getMax();
@@ -209,6 +324,67 @@ public class MultiStartUnivariateOptimizer
         return optima[0];
     }
 
+    /**
+     * Performs the starts concurrently.
+     *
+     * @return the point with the best objective function value
+     */
+    private UnivariatePointValuePair doOptimizeConcurrently() {
+
+        RuntimeException lastException = null;
+
+        final int maxEval = getMaxEvaluations();
+        final double min = getMin();
+        final double max = getMax();
+        final AtomicInteger evaluations = new AtomicInteger(0);
+        final AtomicBoolean stop        = new AtomicBoolean(false);
+
+        // Submit all starts, drawing start values in the calling thread
+        // as the generator is not required to be thread-safe.
+        @SuppressWarnings("unchecked")
+        final Future<UnivariatePointValuePair>[] results = new Future[starts];
+        for (int i = 0; i < starts; i++) {
+            final double s = (i == 0) ?
+                getStartValue() :
+                min + generator.nextDouble() * (max - min);
+            final OptimizationData[] data = optimData.clone();
+            data[searchIntervalIndex] = new SearchInterval(min, max, s);
+            final UnivariateOptimizer startOptimizer = (i == 0) ? optimizer : factory.get();
+            results[i] = executor.submit(new StartTask(startOptimizer, data, maxEval, evaluations, stop));
+        }
+
+        // Retrieve the optima, in start order.
+        for (int i = 0; i < starts; i++) {
+            try {
+                optima[i] = results[i].get();
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+                throw new MathIllegalStateException(ie, LocalizedCoreFormats.SIMPLE_MESSAGE, ie.getMessage());
+            } catch (ExecutionException ee) {
+                if (ee.getCause() instanceof RuntimeException) {
+                    lastException = (RuntimeException) ee.getCause();
+                } else if (ee.getCause() instanceof Error) {
+                    throw (Error) ee.getCause();
+                } else {
+                    throw MathRuntimeException.createInternalError(ee.getCause());
+                }
+                optima[i] = null;
+            }
+        }
+
+        totalEvaluations = evaluations.get();
+
+        sortPairs(getGoalType());
+
+        if (optima[0] == null) {
+            throw lastException; // Cannot be null if starts >= 1.
+        }
+
+        // Return the point with the best objective function value.
+        return optima[0];
+
+    }
+
     /**
      * Sort the optima from best to worst, followed by {@code null} elements.
      *
@@ -232,4 +408,68 @@ public class MultiStartUnivariateOptimizer
                 }
             });
     }
+
+    /** Task performing one start in concurrent mode. */
+    private class StartTask implements Callable<UnivariatePointValuePair> {
+
+        /** Underlying optimizer for this start. */
+        private final UnivariateOptimizer startOptimizer;
+
+        /** Optimization data for this start. */
+        private final OptimizationData[] data;
+
+        /** Maximum number of evaluations for all starts. */
+        private final int maxEval;
+
+        /** Number of evaluations used by all completed starts. */
+        private final AtomicInteger evaluations;
+
+        /** Indicator for skipping the remaining starts. */
+        private final AtomicBoolean stop;
+
+        /** Simple constructor.
+         * @param startOptimizer underlying optimizer for this start
+         * @param data optimization data for this start
+         * @param maxEval maximum number of evaluations for all starts
+         * @param evaluations number of evaluations used by all completed starts
+         * @param stop indicator for skipping the remaining starts
+         */
+        StartTask(final UnivariateOptimizer startOptimizer, final OptimizationData[] data,
+                  final int maxEval, final AtomicInteger evaluations, final AtomicBoolean stop) {
+            this.startOptimizer = startOptimizer;
+            this.data           = data;
+            this.maxEval        = maxEval;
+            this.evaluations    = evaluations;
+            this.stop           = stop;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public UnivariatePointValuePair call() {
+
+            if (stop.get()) {
+                // a previous start already fulfilled the stop condition
+                return null;
+            }
+
+            final int remaining = maxEval - evaluations.get();
+            if (remaining <= 0) {
+                throw new MathIllegalStateException(LocalizedCoreFormats.MAX_COUNT_EXCEEDED, maxEval);
+            }
+            data[maxEvalIndex] = new MaxEval(remaining);
+
+            try {
+                final UnivariatePointValuePair result = startOptimizer.optimize(data);
+                if (stopCondition != null && stopCondition.test(result)) {
+                    stop.set(true);
+                }
+                return result;
+            } finally {
+                evaluations.addAndGet(startOptimizer.getEvaluations());
+            }
+
+        }
+
+    }
+
 }
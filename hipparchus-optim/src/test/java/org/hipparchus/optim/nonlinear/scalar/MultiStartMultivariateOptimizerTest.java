@@ -21,7 +21,12 @@
  */
 package org.hipparchus.optim.nonlinear.scalar;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.hipparchus.analysis.MultivariateFunction;
+import org.hipparchus.exception.NullArgumentException;
 import org.hipparchus.geometry.euclidean.twod.Vector2D;
 import org.hipparchus.optim.InitialGuess;
 import org.hipparchus.optim.MaxEval;
@@ -30,6 +35,7 @@ import org.hipparchus.optim.SimpleValueChecker;
 import org.hipparchus.optim.nonlinear.scalar.gradient.CircleScalar;
 import org.hipparchus.optim.nonlinear.scalar.gradient.NonLinearConjugateGradientOptimizer;
 import org.hipparchus.optim.nonlinear.scalar.noderiv.NelderMeadSimplex;
+import org.hipparchus.optim.nonlinear.scalar.noderiv.PowellOptimizer;
 import org.hipparchus.optim.nonlinear.scalar.noderiv.SimplexOptimizer;
 import org.hipparchus.random.GaussianRandomGenerator;
 import org.hipparchus.random.JDKRandomGenerator;
@@ -119,6 +125,94 @@ public class MultiStartMultivariateOptimizerTest {
         Assert.assertTrue(optimum.getValue() < 5e-5);
     }
 
+    @Test
+    public void testRosenbrockConcurrent() {
+        final int nbStarts = 16;
+        final PointValuePair[] sequentialOptima;
+        {
+            MultiStartMultivariateOptimizer optimizer
+                = new MultiStartMultivariateOptimizer(new PowellOptimizer(1e-10, 1e-12),
+                                                      nbStarts, createRosenbrockGenerator());
+            optimizer.optimize(new MaxEval(100000),
+                               new ObjectiveFunction(new Rosenbrock()),
+                               GoalType.MINIMIZE,
+                               new InitialGuess(new double[] { -1.2, 1.0 }));
+            sequentialOptima = optimizer.getOptima();
+        }
+
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final AtomicInteger count = new AtomicInteger();
+            MultiStartMultivariateOptimizer optimizer
+                = new MultiStartMultivariateOptimizer(() -> new PowellOptimizer(1e-10, 1e-12),
+                                                      nbStarts, createRosenbrockGenerator(),
+                                                      executor, null);
+            PointValuePair optimum
+                = optimizer.optimize(new MaxEval(100000),
+                                     new ObjectiveFunction(x -> {
+                                         count.incrementAndGet();
+                                         return rosenbrockValue(x);
+                                     }),
+                                     GoalType.MINIMIZE,
+                                     new InitialGuess(new double[] { -1.2, 1.0 }));
+            PointValuePair[] optima = optimizer.getOptima();
+            Assert.assertEquals(nbStarts, optima.length);
+            Assert.assertEquals(count.get(), optimizer.getEvaluations());
+            Assert.assertSame(optima[0], optimum);
+            for (int i = 0; i < nbStarts; ++i) {
+                // each start is independent, so results are the same as sequential starts
+                Assert.assertEquals(sequentialOptima[i].getValue(), optima[i].getValue(), 0.0);
+                Assert.assertArrayEquals(sequentialOptima[i].getPointRef(), optima[i].getPointRef(), 0.0);
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testStopCondition() {
+        final int nbStarts = 16;
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            MultiStartMultivariateOptimizer optimizer
+                = new MultiStartMultivariateOptimizer(() -> new PowellOptimizer(1e-10, 1e-12),
+                                                      nbStarts, createRosenbrockGenerator(),
+                                                      executor, p -> p.getValue() < 1.0e-10);
+            PointValuePair optimum
+                = optimizer.optimize(new MaxEval(100000),
+                                     new ObjectiveFunction(new Rosenbrock()),
+                                     GoalType.MINIMIZE,
+                                     new InitialGuess(new double[] { -1.2, 1.0 }));
+            Assert.assertTrue(optimum.getValue() < 1.0e-10);
+            // with a single thread, no start is performed after the first successful one
+            PointValuePair[] optima = optimizer.getOptima();
+            Assert.assertTrue(optima.length < nbStarts);
+            for (int i = 1; i < optima.length; ++i) {
+                Assert.assertTrue(optima[i].getValue() >= 1.0e-10);
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test(expected = NullArgumentException.class)
+    public void testNullExecutor() {
+        new MultiStartMultivariateOptimizer(() -> new PowellOptimizer(1e-10, 1e-12),
+                                            4, createRosenbrockGenerator(), null, null);
+    }
+
+    private static RandomVectorGenerator createRosenbrockGenerator() {
+        JDKRandomGenerator g = new JDKRandomGenerator();
+        g.setSeed(16069223052l);
+        return new UncorrelatedRandomVectorGenerator(2, new GaussianRandomGenerator(g));
+    }
+
+    private static double rosenbrockValue(double[] x) {
+        double a = x[1] - x[0] * x[0];
+        double b = 1 - x[0];
+        return 100 * a * a + b * b;
+    }
+
     private static class Rosenbrock implements MultivariateFunction {
         private int count;
 
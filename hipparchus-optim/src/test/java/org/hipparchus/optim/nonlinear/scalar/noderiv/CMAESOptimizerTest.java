@@ -23,10 +23,15 @@ package org.hipparchus.optim.nonlinear.scalar.noderiv;
 
 import java.util.Arrays;
 import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.hipparchus.Retry;
 import org.hipparchus.RetryRunner;
+import org.hipparchus.analysis.BatchMultivariateFunction;
 import org.hipparchus.analysis.MultivariateFunction;
+import org.hipparchus.exception.LocalizedCoreFormats;
 import org.hipparchus.exception.MathIllegalArgumentException;
 import org.hipparchus.optim.InitialGuess;
 import org.hipparchus.optim.MaxEval;
@@ -455,6 +460,85 @@ public class CMAESOptimizerTest {
         Assert.assertEquals(resNoBound, resNearHi, 1e-3);
     }
 
+    @Test
+    public void testConcurrentSameAsSequential() {
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            for (final double[][] boundaries : new double[][][] { null, boundaries(DIM, -1, 2) }) {
+                final CMAESOptimizer sequential =
+                                new CMAESOptimizer(30000, 1e-13, true, 0, 0, new MersenneTwister(0x35e1c07b9fd2a468l),
+                                                   false, null);
+                final PointValuePair expected = optimizeRosen(sequential, new Rosen(), boundaries);
+                final CMAESOptimizer concurrent =
+                                new CMAESOptimizer(30000, 1e-13, true, 0, 0, new MersenneTwister(0x35e1c07b9fd2a468l),
+                                                   false, null, executor);
+                final PointValuePair result = optimizeRosen(concurrent, new Rosen(), boundaries);
+                Assert.assertEquals(expected.getValue(), result.getValue(), 0.0);
+                Assert.assertArrayEquals(expected.getPointRef(), result.getPointRef(), 0.0);
+                Assert.assertEquals(sequential.getEvaluations(), concurrent.getEvaluations());
+                Assert.assertEquals(sequential.getIterations(),  concurrent.getIterations());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testBatchSameAsSequential() {
+        final CMAESOptimizer sequential =
+                        new CMAESOptimizer(30000, 1e-13, true, 0, 0, new MersenneTwister(0x7c20a9e4d15fb836l),
+                                           false, null);
+        final PointValuePair expected = optimizeRosen(sequential, new Rosen(), null);
+
+        final AtomicInteger calls  = new AtomicInteger();
+        final AtomicInteger points = new AtomicInteger();
+        final BatchMultivariateFunction batch = x -> {
+            calls.incrementAndGet();
+            points.addAndGet(x.length);
+            final double[] values = new double[x.length];
+            for (int i = 0; i < x.length; ++i) {
+                values[i] = new Rosen().value(x[i]);
+            }
+            return values;
+        };
+        final CMAESOptimizer optimizer =
+                        new CMAESOptimizer(30000, 1e-13, true, 0, 0, new MersenneTwister(0x7c20a9e4d15fb836l),
+                                           false, null);
+        final PointValuePair result = optimizeRosen(optimizer, batch, null);
+        Assert.assertEquals(expected.getValue(), result.getValue(), 0.0);
+        Assert.assertArrayEquals(expected.getPointRef(), result.getPointRef(), 0.0);
+        Assert.assertEquals(sequential.getEvaluations(), optimizer.getEvaluations());
+        Assert.assertEquals(optimizer.getEvaluations(), points.get());
+        // one call for the start point, then one call per generation
+        Assert.assertEquals(1 + optimizer.getEvaluations() / LAMBDA, calls.get());
+    }
+
+    @Test
+    public void testBatchWrongSize() {
+        final CMAESOptimizer optimizer =
+                        new CMAESOptimizer(30000, 1e-13, true, 0, 0, new MersenneTwister(0x61d8f03a2c97be45l),
+                                           false, null);
+        try {
+            optimizeRosen(optimizer, (BatchMultivariateFunction) x -> new double[1], null);
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            Assert.assertEquals(LocalizedCoreFormats.DIMENSIONS_MISMATCH, miae.getSpecifier());
+        }
+    }
+
+    private PointValuePair optimizeRosen(final CMAESOptimizer optimizer, final MultivariateFunction function,
+                                         final double[][] boundaries) {
+        return optimizer.optimize(new MaxEval(100000),
+                                  new ObjectiveFunction(function),
+                                  GoalType.MINIMIZE,
+                                  new InitialGuess(point(DIM, 0.1)),
+                                  boundaries == null ?
+                                  SimpleBounds.unbounded(DIM) :
+                                  new SimpleBounds(boundaries[0], boundaries[1]),
+                                  new CMAESOptimizer.Sigma(point(DIM, 0.1)),
+                                  new CMAESOptimizer.PopulationSize(LAMBDA));
+    }
+
     /**
      * @param func Function to optimize.
      * @param startPoint Starting point.
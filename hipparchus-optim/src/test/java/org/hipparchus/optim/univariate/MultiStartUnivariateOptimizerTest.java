@@ -21,10 +21,14 @@
  */
 package org.hipparchus.optim.univariate;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
 import org.hipparchus.analysis.QuinticFunction;
 import org.hipparchus.analysis.UnivariateFunction;
 import org.hipparchus.analysis.function.Sin;
 import org.hipparchus.exception.MathIllegalStateException;
+import org.hipparchus.exception.NullArgumentException;
 import org.hipparchus.optim.MaxEval;
 import org.hipparchus.optim.nonlinear.scalar.GoalType;
 import org.hipparchus.random.JDKRandomGenerator;
@@ -76,6 +80,73 @@ public class MultiStartUnivariateOptimizerTest {
         Assert.assertTrue(optimizer.getEvaluations() < 300);
     }
 
+    @Test
+    public void testSinMinConcurrent() {
+        UnivariateFunction f = new Sin();
+        JDKRandomGenerator g = new JDKRandomGenerator();
+        g.setSeed(44428400075l);
+        MultiStartUnivariateOptimizer sequential =
+            new MultiStartUnivariateOptimizer(new BrentOptimizer(1e-10, 1e-14), 10, g);
+        sequential.optimize(new MaxEval(3000),
+                            new UnivariateObjectiveFunction(f),
+                            GoalType.MINIMIZE,
+                            new SearchInterval(-100.0, 100.0));
+
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            g.setSeed(44428400075l);
+            MultiStartUnivariateOptimizer optimizer =
+                new MultiStartUnivariateOptimizer(() -> new BrentOptimizer(1e-10, 1e-14), 10, g, executor, null);
+            UnivariatePointValuePair optimum =
+                optimizer.optimize(new MaxEval(3000),
+                                   new UnivariateObjectiveFunction(f),
+                                   GoalType.MINIMIZE,
+                                   new SearchInterval(-100.0, 100.0));
+            Assert.assertEquals(-1.0, optimum.getValue(), 1.0e-10);
+            UnivariatePointValuePair[] expected = sequential.getOptima();
+            UnivariatePointValuePair[] optima   = optimizer.getOptima();
+            Assert.assertEquals(expected.length, optima.length);
+            for (int i = 0; i < optima.length; ++i) {
+                Assert.assertEquals(expected[i].getPoint(), optima[i].getPoint(), 0.0);
+                Assert.assertEquals(expected[i].getValue(), optima[i].getValue(), 0.0);
+            }
+            Assert.assertEquals(sequential.getEvaluations(), optimizer.getEvaluations());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testStopCondition() {
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            JDKRandomGenerator g = new JDKRandomGenerator();
+            g.setSeed(4312000053L);
+            MultiStartUnivariateOptimizer optimizer =
+                new MultiStartUnivariateOptimizer(() -> new BrentOptimizer(1e-9, 1e-14), 5, g, executor,
+                                                  p -> p.getValue() < -0.04);
+            UnivariatePointValuePair optimum =
+                optimizer.optimize(new MaxEval(300),
+                                   new UnivariateObjectiveFunction(new QuinticFunction()),
+                                   GoalType.MINIMIZE,
+                                   new SearchInterval(-0.3, -0.2));
+            Assert.assertEquals(-0.27195613, optimum.getPoint(), 1e-8);
+            // the first start already fulfills the condition, the other ones are skipped
+            UnivariatePointValuePair[] optima = optimizer.getOptima();
+            Assert.assertSame(optimum, optima[0]);
+            for (int i = 1; i < optima.length; ++i) {
+                Assert.assertNull(optima[i]);
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test(expected = NullArgumentException.class)
+    public void testNullFactory() {
+        new MultiStartUnivariateOptimizer(null, 5, new JDKRandomGenerator(), Executors.newSingleThreadExecutor(), null);
+    }
+
     @Test
     public void testQuinticMin() {
         // The quintic function has zeros at 0, +-0.5 and +-1.